@@ -0,0 +1,76 @@
+/*
+ * This file is part of Dependency-Track.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.dependencytrack;
+
+import alpine.Config;
+import alpine.server.persistence.PersistenceManagerFactory;
+import org.dependencytrack.auth.PrincipalAccessCache;
+import org.dependencytrack.event.kafka.KafkaProducerInitializer;
+import org.dependencytrack.persistence.ConfigPropertyCache;
+import org.dependencytrack.persistence.QueryManager;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Base class for benchmarks that require a database.
+ * <p>
+ * Analogous to {@link PersistenceCapableTest}, a PostgreSQL container is launched once per trial,
+ * and all tables are truncated before the trial starts.
+ *
+ * @since 5.6.0
+ */
+@State(Scope.Benchmark)
+public abstract class AbstractDatabaseBenchmark {
+
+    protected PostgresTestContainer postgresContainer;
+    protected QueryManager qm;
+
+    @Setup(Level.Trial)
+    public void setUpDatabase() throws Exception {
+        Config.enableUnitTests();
+
+        postgresContainer = new PostgresTestContainer();
+        postgresContainer.start();
+
+        PersistenceCapableTest.truncateTables(postgresContainer);
+        PersistenceCapableTest.configurePmf(postgresContainer);
+        PrincipalAccessCache.getInstance().invalidateAll();
+        ConfigPropertyCache.getInstance().invalidateAll();
+
+        qm = new QueryManager();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDownDatabase() {
+        if (qm != null) {
+            qm.close();
+        }
+
+        PersistenceManagerFactory.tearDown();
+        KafkaProducerInitializer.tearDown();
+
+        if (postgresContainer != null) {
+            postgresContainer.stopWhenNotReusing();
+        }
+    }
+
+}
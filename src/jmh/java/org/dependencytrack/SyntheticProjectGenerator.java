@@ -0,0 +1,197 @@
+/*
+ * This file is part of Dependency-Track.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.dependencytrack;
+
+import org.dependencytrack.model.Policy;
+import org.dependencytrack.model.PolicyCondition;
+import org.dependencytrack.model.Project;
+import org.dependencytrack.persistence.QueryManager;
+
+import static org.dependencytrack.persistence.jdbi.JdbiFactory.useJdbiTransaction;
+
+/**
+ * Generates synthetic projects for benchmarks.
+ * <p>
+ * Rows are inserted in bulk via SQL, so that projects with tens of thousands of components
+ * can be created within seconds. UUIDs are derived from the project's UUID via {@code NAME_BASED_UUID},
+ * which makes the generated data deterministic for a given project.
+ * <p>
+ * The shape of a generated project is loosely modeled after real-world projects:
+ * <ul>
+ *     <li>Components form a binary dependency tree, with the first component being the project's only direct dependency</li>
+ *     <li>Every 4th component is affected by {@value #VULNERABILITIES_PER_VULNERABLE_COMPONENT} vulnerabilities</li>
+ *     <li>Every 3rd finding has an analysis, some of which are suppressed</li>
+ *     <li>Every 10th component violates a policy, and every 2nd violation has an analysis</li>
+ * </ul>
+ *
+ * @since 5.6.0
+ */
+public final class SyntheticProjectGenerator {
+
+    private static final int VULNERABILITIES_PER_VULNERABLE_COMPONENT = 5;
+
+    private SyntheticProjectGenerator() {
+    }
+
+    public static Project generate(final QueryManager qm, final String name, final int componentCount) {
+        final Project project = qm.createProject(name, null, "1.0", null, null, null, true, false);
+        final Policy policy = qm.createPolicy(name, Policy.Operator.ANY, Policy.ViolationState.INFO);
+        final PolicyCondition policyCondition = qm.createPolicyCondition(policy,
+                PolicyCondition.Subject.VERSION, PolicyCondition.Operator.NUMERIC_EQUAL, "1.0.0");
+
+        final String namespace = project.getUuid().toString();
+        final int vulnerabilityCount = Math.max(100, componentCount / 10);
+
+        useJdbiTransaction(handle -> {
+            handle.createUpdate("""
+                            INSERT INTO "COMPONENT" ("GROUP", "NAME", "VERSION", "PURL", "CLASSIFIER", "DIRECT_DEPENDENCIES", "PROJECT_ID", "UUID")
+                            SELECT 'org.example'
+                                 , 'component-' || "I"
+                                 , '1.' || ("I" % 10) || '.0'
+                                 , 'pkg:maven/org.example/component-' || "I" || '@1.' || ("I" % 10) || '.0'
+                                 , 'LIBRARY'
+                                 , (SELECT JSONB_AGG(JSONB_BUILD_OBJECT('uuid', "NAME_BASED_UUID"(:namespace, 'component-' || "D")))::TEXT
+                                      FROM GENERATE_SERIES(2 * "I" + 1, LEAST(2 * "I" + 2, :componentCount - 1)) AS "D")
+                                 , :projectId
+                                 , "NAME_BASED_UUID"(:namespace, 'component-' || "I")
+                              FROM GENERATE_SERIES(0, :componentCount - 1) AS "I"
+                            """)
+                    .bind("namespace", namespace)
+                    .bind("componentCount", componentCount)
+                    .bind("projectId", project.getId())
+                    .execute();
+
+            handle.createUpdate("""
+                            UPDATE "PROJECT"
+                               SET "DIRECT_DEPENDENCIES" = JSONB_BUILD_ARRAY(JSONB_BUILD_OBJECT('uuid', "NAME_BASED_UUID"(:namespace, 'component-0')))::TEXT
+                             WHERE "ID" = :projectId
+                            """)
+                    .bind("namespace", namespace)
+                    .bind("projectId", project.getId())
+                    .execute();
+
+            handle.createUpdate("""
+                            INSERT INTO "VULNERABILITY" ("VULNID", "SOURCE", "SEVERITY", "CVSSV3BASESCORE", "UUID")
+                            SELECT 'SYNTH-' || :namespace || '-' || "I"
+                                 , 'INTERNAL'
+                                 , (ARRAY['CRITICAL', 'HIGH', 'MEDIUM', 'LOW', 'UNASSIGNED'])["I" % 5 + 1]
+                                 , (ARRAY[9.8, 7.5, 5.3, 2.1, NULL])["I" % 5 + 1]
+                                 , "NAME_BASED_UUID"(:namespace, 'vulnerability-' || "I")
+                              FROM GENERATE_SERIES(0, :vulnerabilityCount - 1) AS "I"
+                            """)
+                    .bind("namespace", namespace)
+                    .bind("vulnerabilityCount", vulnerabilityCount)
+                    .execute();
+
+            handle.createUpdate("""
+                            WITH "C" AS (
+                              SELECT "ID", ROW_NUMBER() OVER (ORDER BY "ID") - 1 AS "N"
+                                FROM "COMPONENT"
+                               WHERE "PROJECT_ID" = :projectId
+                            ),
+                            "V" AS (
+                              SELECT "ID", ROW_NUMBER() OVER (ORDER BY "ID") - 1 AS "N"
+                                FROM "VULNERABILITY"
+                               WHERE "VULNID" LIKE 'SYNTH-' || :namespace || '-%'
+                            )
+                            INSERT INTO "COMPONENTS_VULNERABILITIES" ("COMPONENT_ID", "VULNERABILITY_ID")
+                            SELECT "C"."ID", "V"."ID"
+                              FROM "C"
+                             CROSS JOIN GENERATE_SERIES(0, :vulnerabilitiesPerComponent - 1) AS "J"
+                             INNER JOIN "V"
+                                ON "V"."N" = ("C"."N" + "J") % :vulnerabilityCount
+                             WHERE "C"."N" % 4 = 0
+                            """)
+                    .bind("namespace", namespace)
+                    .bind("projectId", project.getId())
+                    .bind("vulnerabilitiesPerComponent", VULNERABILITIES_PER_VULNERABLE_COMPONENT)
+                    .bind("vulnerabilityCount", vulnerabilityCount)
+                    .execute();
+
+            handle.createUpdate("""
+                            INSERT INTO "FINDINGATTRIBUTION" ("ANALYZERIDENTITY", "ATTRIBUTED_ON", "COMPONENT_ID", "PROJECT_ID", "VULNERABILITY_ID", "UUID")
+                            SELECT 'INTERNAL_ANALYZER'
+                                 , NOW()
+                                 , "CV"."COMPONENT_ID"
+                                 , "C"."PROJECT_ID"
+                                 , "CV"."VULNERABILITY_ID"
+                                 , "NAME_BASED_UUID"(:namespace, 'attribution-' || "CV"."COMPONENT_ID" || '-' || "CV"."VULNERABILITY_ID")
+                              FROM "COMPONENTS_VULNERABILITIES" AS "CV"
+                             INNER JOIN "COMPONENT" AS "C"
+                                ON "C"."ID" = "CV"."COMPONENT_ID"
+                             WHERE "C"."PROJECT_ID" = :projectId
+                            """)
+                    .bind("namespace", namespace)
+                    .bind("projectId", project.getId())
+                    .execute();
+
+            handle.createUpdate("""
+                            INSERT INTO "ANALYSIS" ("STATE", "SUPPRESSED", "COMPONENT_ID", "PROJECT_ID", "VULNERABILITY_ID")
+                            SELECT (ARRAY['NOT_AFFECTED', 'FALSE_POSITIVE', 'IN_TRIAGE', 'EXPLOITABLE'])["F"."N" % 4 + 1]
+                                 , "F"."N" % 4 = 1
+                                 , "F"."COMPONENT_ID"
+                                 , "F"."PROJECT_ID"
+                                 , "F"."VULNERABILITY_ID"
+                              FROM (SELECT "COMPONENT_ID", "PROJECT_ID", "VULNERABILITY_ID"
+                                         , ROW_NUMBER() OVER (ORDER BY "ID") AS "N"
+                                      FROM "FINDINGATTRIBUTION"
+                                     WHERE "PROJECT_ID" = :projectId) AS "F"
+                             WHERE "F"."N" % 3 = 0
+                            """)
+                    .bind("projectId", project.getId())
+                    .execute();
+
+            handle.createUpdate("""
+                            INSERT INTO "POLICYVIOLATION" ("TYPE", "TIMESTAMP", "COMPONENT_ID", "PROJECT_ID", "POLICYCONDITION_ID", "UUID")
+                            SELECT (ARRAY['LICENSE', 'SECURITY', 'OPERATIONAL'])["C"."N" % 3 + 1]
+                                 , NOW()
+                                 , "C"."ID"
+                                 , "C"."PROJECT_ID"
+                                 , :policyConditionId
+                                 , "NAME_BASED_UUID"(:namespace, 'violation-' || "C"."ID")
+                              FROM (SELECT "ID", "PROJECT_ID", ROW_NUMBER() OVER (ORDER BY "ID") - 1 AS "N"
+                                      FROM "COMPONENT"
+                                     WHERE "PROJECT_ID" = :projectId) AS "C"
+                             WHERE "C"."N" % 10 = 0
+                            """)
+                    .bind("namespace", namespace)
+                    .bind("projectId", project.getId())
+                    .bind("policyConditionId", policyCondition.getId())
+                    .execute();
+
+            handle.createUpdate("""
+                            INSERT INTO "VIOLATIONANALYSIS" ("STATE", "SUPPRESSED", "COMPONENT_ID", "PROJECT_ID", "POLICYVIOLATION_ID")
+                            SELECT (ARRAY['APPROVED', 'REJECTED'])["PV"."N" % 4 / 2 + 1]
+                                 , "PV"."N" % 4 = 0
+                                 , "PV"."COMPONENT_ID"
+                                 , "PV"."PROJECT_ID"
+                                 , "PV"."ID"
+                              FROM (SELECT "ID", "COMPONENT_ID", "PROJECT_ID", ROW_NUMBER() OVER (ORDER BY "ID") - 1 AS "N"
+                                      FROM "POLICYVIOLATION"
+                                     WHERE "PROJECT_ID" = :projectId) AS "PV"
+                             WHERE "PV"."N" % 2 = 0
+                            """)
+                    .bind("projectId", project.getId())
+                    .execute();
+        });
+
+        return project;
+    }
+
+}
@@ -0,0 +1,106 @@
+/*
+ * This file is part of Dependency-Track.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.dependencytrack.metrics;
+
+import org.dependencytrack.AbstractDatabaseBenchmark;
+import org.dependencytrack.SyntheticProjectGenerator;
+import org.dependencytrack.model.ConfigPropertyConstants;
+import org.dependencytrack.model.Project;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Statement;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.dependencytrack.persistence.jdbi.JdbiFactory.useJdbiHandle;
+
+/**
+ * Compares the set-based {@code UPDATE_PROJECT_METRICS} procedure against its
+ * per-component predecessor, which called {@code UPDATE_COMPONENT_METRICS} for every component.
+ *
+ * @since 5.6.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ProjectMetricsUpdateBenchmark extends AbstractDatabaseBenchmark {
+
+    @Param({"1000", "10000", "50000"})
+    private int componentCount;
+
+    private UUID projectUuid;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        for (final ConfigPropertyConstants property : new ConfigPropertyConstants[]{
+                ConfigPropertyConstants.CUSTOM_RISK_SCORE_CRITICAL,
+                ConfigPropertyConstants.CUSTOM_RISK_SCORE_HIGH,
+                ConfigPropertyConstants.CUSTOM_RISK_SCORE_MEDIUM,
+                ConfigPropertyConstants.CUSTOM_RISK_SCORE_LOW,
+                ConfigPropertyConstants.CUSTOM_RISK_SCORE_UNASSIGNED}) {
+            qm.createConfigProperty(property.getGroupName(), property.getPropertyName(),
+                    property.getDefaultPropertyValue(), property.getPropertyType(), property.getDescription());
+        }
+
+        final String legacyProcedure;
+        try (final InputStream inputStream = getClass().getResourceAsStream("/benchmark/procedure_update-project-metrics-legacy.sql")) {
+            legacyProcedure = new String(inputStream.readAllBytes(), StandardCharsets.UTF_8);
+        }
+        useJdbiHandle(handle -> {
+            // Bypass JDBI's statement parsing, as the procedure body contains colons.
+            try (final Statement statement = handle.getConnection().createStatement()) {
+                statement.execute(legacyProcedure);
+            }
+        });
+
+        final Project project = SyntheticProjectGenerator.generate(qm, "benchmark", componentCount);
+        projectUuid = project.getUuid();
+
+        // Populate DEPENDENCYMETRICS, such that both variants operate on a steady state
+        // where most data points already exist.
+        Metrics.updateProjectMetrics(projectUuid);
+    }
+
+    @Benchmark
+    public void setBased() {
+        Metrics.updateProjectMetrics(projectUuid);
+    }
+
+    @Benchmark
+    public void perComponent() {
+        useJdbiHandle(handle -> handle
+                .createCall("CALL \"UPDATE_PROJECT_METRICS_LEGACY\"((:uuid)::VARCHAR)")
+                .bind("uuid", projectUuid)
+                .invoke());
+    }
+
+}
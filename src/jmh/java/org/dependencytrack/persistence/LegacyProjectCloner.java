@@ -0,0 +1,193 @@
+/*
+ * This file is part of Dependency-Track.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.dependencytrack.persistence;
+
+import alpine.model.Team;
+import org.apache.commons.collections4.CollectionUtils;
+import org.dependencytrack.model.Analysis;
+import org.dependencytrack.model.AnalysisComment;
+import org.dependencytrack.model.Component;
+import org.dependencytrack.model.FindingAttribution;
+import org.dependencytrack.model.PolicyViolation;
+import org.dependencytrack.model.Project;
+import org.dependencytrack.model.ProjectMetadata;
+import org.dependencytrack.model.ProjectProperty;
+import org.dependencytrack.model.ServiceComponent;
+import org.dependencytrack.model.Tag;
+import org.dependencytrack.model.Vulnerability;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * The implementation of {@link QueryManager#clone(UUID, String, boolean, boolean, boolean, boolean, boolean, boolean, boolean)}
+ * prior to 5.6.0, which loaded all components, services, analyses, and policy violations of the source project,
+ * and re-created them one by one via DataNucleus.
+ * <p>
+ * Retained as a baseline for {@link ProjectCloneBenchmark} only.
+ *
+ * @since 5.6.0
+ */
+final class LegacyProjectCloner {
+
+    private LegacyProjectCloner() {
+    }
+
+    static Project clone(final QueryManager qm, UUID from, String newVersion, boolean includeTags, boolean includeProperties,
+                         boolean includeComponents, boolean includeServices, boolean includeAuditHistory,
+                         boolean includeACL, boolean includePolicyViolations) {
+        final Project source = qm.getObjectByUuid(Project.class, from, Project.FetchGroup.ALL.name());
+        if (source == null) {
+            throw new IllegalStateException("Project with UUID %s was supposed to be cloned, but it does not exist anymore".formatted(from));
+        }
+        if (qm.doesProjectExist(source.getName(), newVersion)) {
+            throw new IllegalStateException("Project %s was supposed to be cloned to version %s, but that version already exists"
+                    .formatted(source, newVersion));
+        }
+        Project project = new Project();
+        project.setAuthor(source.getAuthor());
+        project.setManufacturer(source.getManufacturer());
+        project.setSupplier(source.getSupplier());
+        project.setPublisher(source.getPublisher());
+        project.setGroup(source.getGroup());
+        project.setName(source.getName());
+        project.setDescription(source.getDescription());
+        project.setVersion(newVersion);
+        project.setClassifier(source.getClassifier());
+        project.setActive(source.isActive());
+        project.setCpe(source.getCpe());
+        project.setPurl(source.getPurl());
+        project.setSwidTagId(source.getSwidTagId());
+        if (includeComponents && includeServices) {
+            project.setDirectDependencies(source.getDirectDependencies());
+        }
+        project.setParent(source.getParent());
+        project = qm.persist(project);
+
+        if (source.getMetadata() != null) {
+            final var metadata = new ProjectMetadata();
+            metadata.setProject(project);
+            metadata.setAuthors(source.getMetadata().getAuthors());
+            metadata.setSupplier(source.getMetadata().getSupplier());
+            qm.persist(metadata);
+        }
+
+        if (includeTags) {
+            for (final Tag tag : source.getTags()) {
+                tag.getProjects().add(project);
+                qm.persist(tag);
+            }
+        }
+
+        if (includeProperties && source.getProperties() != null) {
+            for (final ProjectProperty sourceProperty : source.getProperties()) {
+                final ProjectProperty property = new ProjectProperty();
+                property.setProject(project);
+                property.setPropertyType(sourceProperty.getPropertyType());
+                property.setGroupName(sourceProperty.getGroupName());
+                property.setPropertyName(sourceProperty.getPropertyName());
+                property.setPropertyValue(sourceProperty.getPropertyValue());
+                property.setDescription(sourceProperty.getDescription());
+                qm.persist(property);
+            }
+        }
+
+        final Map<Long, Component> clonedComponents = new HashMap<>();
+        if (includeComponents) {
+            final List<Component> sourceComponents = qm.getAllComponents(source);
+            if (sourceComponents != null) {
+                for (final Component sourceComponent : sourceComponents) {
+                    final Component clonedComponent = qm.cloneComponent(sourceComponent, project, false);
+                    for (Vulnerability vuln : sourceComponent.getVulnerabilities()) {
+                        final FindingAttribution sourceAttribution = qm.getFindingAttribution(vuln, sourceComponent);
+                        qm.addVulnerability(vuln, clonedComponent, sourceAttribution.getAnalyzerIdentity(), sourceAttribution.getAlternateIdentifier(),
+                                sourceAttribution.getReferenceUrl(), sourceAttribution.getAttributedOn());
+                    }
+                    clonedComponents.put(sourceComponent.getId(), clonedComponent);
+                }
+            }
+        }
+
+        if (includeServices) {
+            final List<ServiceComponent> sourceServices = qm.getAllServiceComponents(source);
+            if (sourceServices != null) {
+                for (final ServiceComponent sourceService : sourceServices) {
+                    qm.cloneServiceComponent(sourceService, project, false);
+                }
+            }
+        }
+
+        if (includeAuditHistory && includeComponents) {
+            final List<Analysis> analyses = qm.getAnalyses(source);
+            if (analyses != null) {
+                for (final Analysis sourceAnalysis : analyses) {
+                    Analysis analysis = new Analysis();
+                    analysis.setAnalysisState(sourceAnalysis.getAnalysisState());
+                    final Component clonedComponent = clonedComponents.get(sourceAnalysis.getComponent().getId());
+                    if (clonedComponent == null) {
+                        break;
+                    }
+                    analysis.setComponent(clonedComponent);
+                    analysis.setVulnerability(sourceAnalysis.getVulnerability());
+                    analysis.setSuppressed(sourceAnalysis.isSuppressed());
+                    analysis.setAnalysisResponse(sourceAnalysis.getAnalysisResponse());
+                    analysis.setAnalysisJustification(sourceAnalysis.getAnalysisJustification());
+                    analysis.setAnalysisState(sourceAnalysis.getAnalysisState());
+                    analysis.setAnalysisDetails(sourceAnalysis.getAnalysisDetails());
+                    analysis.setVulnerabilityPolicyId(sourceAnalysis.getVulnerabilityPolicyId());
+                    analysis = qm.persist(analysis);
+                    if (sourceAnalysis.getAnalysisComments() != null) {
+                        for (final AnalysisComment sourceComment : sourceAnalysis.getAnalysisComments()) {
+                            final AnalysisComment analysisComment = new AnalysisComment();
+                            analysisComment.setAnalysis(analysis);
+                            analysisComment.setTimestamp(sourceComment.getTimestamp());
+                            analysisComment.setComment(sourceComment.getComment());
+                            analysisComment.setCommenter(sourceComment.getCommenter());
+                            qm.persist(analysisComment);
+                        }
+                    }
+                }
+            }
+        }
+
+        if (includeACL) {
+            List<Team> accessTeams = source.getAccessTeams();
+            if (!CollectionUtils.isEmpty(accessTeams)) {
+                project.setAccessTeams(new ArrayList<>(accessTeams));
+            }
+        }
+
+        if (includeComponents && includePolicyViolations) {
+            final List<PolicyViolation> sourcePolicyViolations = qm.getAllPolicyViolations(source);
+            if (sourcePolicyViolations != null) {
+                for (final PolicyViolation policyViolation : sourcePolicyViolations) {
+                    final Component destinationComponent = clonedComponents.get(policyViolation.getComponent().getId());
+                    final PolicyViolation clonedPolicyViolation = qm.clonePolicyViolation(policyViolation, destinationComponent);
+                    qm.persist(clonedPolicyViolation);
+                }
+            }
+        }
+
+        return qm.getObjectById(Project.class, project.getId());
+    }
+
+}
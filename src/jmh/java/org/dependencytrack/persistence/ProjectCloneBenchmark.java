@@ -0,0 +1,108 @@
+/*
+ * This file is part of Dependency-Track.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.dependencytrack.persistence;
+
+import org.dependencytrack.AbstractDatabaseBenchmark;
+import org.dependencytrack.SyntheticProjectGenerator;
+import org.dependencytrack.model.Project;
+import org.dependencytrack.persistence.jdbi.ProjectDeletionDao;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.dependencytrack.persistence.jdbi.JdbiFactory.useJdbiTransaction;
+
+/**
+ * Compares the set-based {@link QueryManager#clone(UUID, String, boolean, boolean, boolean, boolean, boolean, boolean, boolean)}
+ * against its predecessor, which re-created every component, finding, analysis, and policy violation via DataNucleus.
+ * <p>
+ * Every iteration clones the source project once, including components, services, audit history, and policy violations.
+ * The clone is deleted again after each iteration, such that all iterations start from the same state.
+ *
+ * @see LegacyProjectCloner
+ * @since 5.6.0
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ProjectCloneBenchmark extends AbstractDatabaseBenchmark {
+
+    @Param({"1000", "10000"})
+    private int componentCount;
+
+    private UUID sourceProjectUuid;
+    private int cloneCount;
+    private Project clonedProject;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        final Project project = SyntheticProjectGenerator.generate(qm, "benchmark", componentCount);
+        sourceProjectUuid = project.getUuid();
+    }
+
+    @TearDown(Level.Iteration)
+    public void deleteClonedProject() {
+        if (clonedProject == null) {
+            return;
+        }
+
+        final long projectId = clonedProject.getId();
+        useJdbiTransaction(handle -> {
+            final var dao = handle.attach(ProjectDeletionDao.class);
+            dao.deleteComponents(dao.getComponentIds(projectId, Integer.MAX_VALUE));
+            dao.deleteServiceComponents(dao.getServiceComponentIds(projectId, Integer.MAX_VALUE));
+            dao.deleteProject(projectId);
+        });
+
+        clonedProject = null;
+        qm.getPersistenceManager().evictAll();
+    }
+
+    @Benchmark
+    public Project setBased() {
+        clonedProject = qm.clone(sourceProjectUuid, nextVersion(),
+                true, true, true, true, true, true, true);
+        return clonedProject;
+    }
+
+    @Benchmark
+    public Project legacy() {
+        clonedProject = LegacyProjectCloner.clone(qm, sourceProjectUuid, nextVersion(),
+                true, true, true, true, true, true, true);
+        return clonedProject;
+    }
+
+    private String nextVersion() {
+        return "clone-" + cloneCount++;
+    }
+
+}
@@ -0,0 +1,107 @@
+/*
+ * This file is part of Dependency-Track.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.dependencytrack.policy.cel;
+
+import org.apache.kafka.clients.producer.MockProducer;
+import org.dependencytrack.AbstractDatabaseBenchmark;
+import org.dependencytrack.SyntheticProjectGenerator;
+import org.dependencytrack.event.kafka.KafkaProducerInitializer;
+import org.dependencytrack.model.Policy;
+import org.dependencytrack.model.PolicyCondition;
+import org.dependencytrack.model.PolicyViolation;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the evaluation of policies against all components of a project,
+ * with varying degrees of parallelism.
+ *
+ * @since 5.6.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class CelPolicyEngineBenchmark extends AbstractDatabaseBenchmark {
+
+    @Param({"1000", "10000"})
+    private int componentCount;
+
+    @Param({"1", "4", "8"})
+    private int parallelism;
+
+    private CelPolicyEngine policyEngine;
+    private UUID projectUuid;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        projectUuid = SyntheticProjectGenerator.generate(qm, "benchmark", componentCount).getUuid();
+
+        createExpressionPolicy("component-name", """
+                component.name.startsWith("component-1")
+                """);
+        createExpressionPolicy("component-version", """
+                component.version.matches("^1\\\\.[0-4]\\\\.0$")
+                """);
+        createExpressionPolicy("critical-vulns", """
+                vulns.exists(vuln, vuln.severity in ["CRITICAL", "HIGH"])
+                """);
+        createExpressionPolicy("dependency-graph", """
+                component.is_dependency_of(v1.Component{name: "component-1"})
+                """);
+
+        policyEngine = new CelPolicyEngine(CelPolicyScriptHost.getInstance(CelPolicyType.COMPONENT), parallelism);
+
+        // Evaluate once, such that all violations already exist during the measurement,
+        // and iterations don't differ in the number of violations they create.
+        policyEngine.evaluateProject(projectUuid);
+    }
+
+    @TearDown(Level.Iteration)
+    @SuppressWarnings("unchecked")
+    public void clearKafkaProducer() {
+        // Notifications are sent to a mock producer, which retains them in memory.
+        ((MockProducer<byte[], byte[]>) KafkaProducerInitializer.getProducer()).clear();
+    }
+
+    @Benchmark
+    public void evaluateProject() {
+        policyEngine.evaluateProject(projectUuid);
+    }
+
+    private void createExpressionPolicy(final String name, final String expression) {
+        final Policy policy = qm.createPolicy(name, Policy.Operator.ANY, Policy.ViolationState.WARN);
+        qm.createPolicyCondition(policy, PolicyCondition.Subject.EXPRESSION,
+                PolicyCondition.Operator.MATCHES, expression, PolicyViolation.Type.OPERATIONAL);
+    }
+
+}
@@ -0,0 +1,150 @@
+/*
+ * This file is part of Dependency-Track.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.dependencytrack.auth;
+
+import alpine.Config;
+import alpine.model.ApiKey;
+import alpine.model.LdapUser;
+import alpine.model.ManagedUser;
+import alpine.model.OidcUser;
+import org.dependencytrack.common.ConfigKey;
+import org.dependencytrack.persistence.jdbi.PrincipalAccessDao;
+
+import java.security.Principal;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.dependencytrack.persistence.jdbi.JdbiFactory.withJdbiHandle;
+import static org.dependencytrack.util.PrincipalUtil.getPrincipalTeamIds;
+
+/**
+ * An in-memory cache of the effective permissions and team memberships of {@link Principal}s.
+ * <p>
+ * Portfolio access control is evaluated for every API request, by both the JDO and the JDBI
+ * persistence layers. Without caching, every evaluation requires multiple database round-trips.
+ * The portfolio access control setting itself is cached by
+ * {@link org.dependencytrack.persistence.ConfigPropertyCache}.
+ * <p>
+ * Cached values expire after {@link ConfigKey#ACCESS_MANAGEMENT_CACHE_TTL_DURATION}.
+ * Modifications made through the local instance should be followed by an explicit invalidation,
+ * so they take effect immediately. Modifications made by other instances take effect after expiry.
+ *
+ * @since 5.6.0
+ */
+public final class PrincipalAccessCache {
+
+    private static final PrincipalAccessCache INSTANCE = new PrincipalAccessCache(Duration.parse(
+            Config.getInstance().getProperty(ConfigKey.ACCESS_MANAGEMENT_CACHE_TTL_DURATION)));
+
+    private final Duration ttl;
+    private final AtomicLong generation = new AtomicLong();
+    private final ConcurrentHashMap<PrincipalKey, CachedAccess> cachedAccessByPrincipal = new ConcurrentHashMap<>();
+
+    PrincipalAccessCache(final Duration ttl) {
+        this.ttl = ttl;
+    }
+
+    public static PrincipalAccessCache getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * @param principal The {@link Principal} to retrieve {@link PrincipalAccess} for
+     * @return The {@link PrincipalAccess} of the given {@link Principal}, or {@code null}
+     * when the {@link Principal} is {@code null} or of an unsupported type
+     */
+    public PrincipalAccess getAccess(final Principal principal) {
+        final PrincipalKey principalKey = PrincipalKey.of(principal);
+        if (principalKey == null) {
+            return null;
+        }
+
+        final long currentGeneration = generation.get();
+        final long nowMillis = System.currentTimeMillis();
+
+        final CachedAccess cached = cachedAccessByPrincipal.get(principalKey);
+        if (cached != null && cached.generation() == currentGeneration && nowMillis < cached.expiresAtMillis()) {
+            return cached.access();
+        }
+
+        final Set<String> permissions = withJdbiHandle(handle -> handle.attach(PrincipalAccessDao.class)
+                .getEffectivePermissions(principal));
+        final var access = new PrincipalAccess(Set.copyOf(permissions), Set.copyOf(getPrincipalTeamIds(principal)));
+        if (!ttl.isZero() && generation.get() == currentGeneration) {
+            cachedAccessByPrincipal.put(principalKey, new CachedAccess(currentGeneration, access, nowMillis + ttl.toMillis()));
+        }
+
+        return access;
+    }
+
+    /**
+     * Invalidate the cached {@link PrincipalAccess} of a given {@link Principal},
+     * e.g. because permissions were granted to, or revoked from it.
+     *
+     * @param principal The {@link Principal} to invalidate
+     */
+    public void invalidate(final Principal principal) {
+        final PrincipalKey principalKey = PrincipalKey.of(principal);
+        if (principalKey != null) {
+            cachedAccessByPrincipal.remove(principalKey);
+        }
+    }
+
+    /**
+     * Invalidate all cached values, e.g. because permissions of a team were modified.
+     */
+    public void invalidateAll() {
+        generation.incrementAndGet();
+        cachedAccessByPrincipal.clear();
+    }
+
+    /**
+     * Effective access of a {@link Principal}.
+     *
+     * @param permissions Names of permissions granted to the {@link Principal}, directly or through teams
+     * @param teamIds     IDs of teams the {@link Principal} is a member of
+     */
+    public record PrincipalAccess(Set<String> permissions, Set<Long> teamIds) {
+
+        public boolean hasPermission(final String permissionName) {
+            return permissions.contains(permissionName);
+        }
+
+    }
+
+    private record PrincipalKey(String type, long id) {
+
+        private static PrincipalKey of(final Principal principal) {
+            return switch (principal) {
+                case ApiKey apiKey -> new PrincipalKey("API_KEY", apiKey.getId());
+                case LdapUser ldapUser -> new PrincipalKey("LDAP_USER", ldapUser.getId());
+                case ManagedUser managedUser -> new PrincipalKey("MANAGED_USER", managedUser.getId());
+                case OidcUser oidcUser -> new PrincipalKey("OIDC_USER", oidcUser.getId());
+                case null, default -> null;
+            };
+        }
+
+    }
+
+    private record CachedAccess(long generation, PrincipalAccess access, long expiresAtMillis) {
+    }
+
+}
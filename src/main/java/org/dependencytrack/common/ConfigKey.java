@@ -40,6 +40,12 @@ public enum ConfigKey implements Config.Key {
 
     CRON_EXPRESSION_FOR_PORTFOLIO_METRICS_TASK("task.cron.metrics.portfolio", "10 * * * *"),
     CRON_EXPRESSION_FOR_VULNERABILITY_METRICS_TASK("task.cron.metrics.vulnerability", "40 * * * *"),
+    CRON_EXPRESSION_FOR_DIRTY_PROJECT_METRICS_TASK("task.cron.metrics.dirty", "* * * * *"),
+    CRON_EXPRESSION_FOR_FULL_PROJECT_METRICS_TASK("task.cron.metrics.full", "0 2 * * *"),
+    CRON_EXPRESSION_FOR_PORTFOLIO_METRICS_WORK_TASK("task.cron.metrics.portfolio.work", "* * * * *"),
+    CRON_EXPRESSION_FOR_METRICS_COMPACTION_TASK("task.cron.metrics.compaction", "0 4 * * *"),
+    CRON_EXPRESSION_FOR_FINDINGS_READ_MODEL_CHECK_TASK("task.cron.findings.read.model.check", "50 * * * *"),
+    CRON_EXPRESSION_FOR_PROJECT_DELETION_TASK("task.cron.project.deletion", "* * * * *"),
     CRON_EXPRESSION_FOR_COMPONENT_IDENTIFICATION_TASK("task.cron.componentIdentification", "25 */6 * * *"),
     CRON_EXPRESSION_FOR_EPSS_MIRRORING_TASK("task.cron.mirror.epss", "0 1 * * *"),
     CRON_EXPRESSION_FOR_GITHUB_MIRRORING_TASK("task.cron.mirror.github", "0 2 * * *"),
@@ -59,6 +65,10 @@ public enum ConfigKey implements Config.Key {
     TASK_SCHEDULER_POLLING_INTERVAL("task.scheduler.polling.interval", "60000"),
     TASK_PORTFOLIO_LOCK_AT_MOST_FOR("task.metrics.portfolio.lockAtMostForInMillis", "900000"),
     TASK_PORTFOLIO_LOCK_AT_LEAST_FOR("task.metrics.portfolio.lockAtLeastForInMillis", "90000"),
+    TASK_METRICS_DIRTY_BATCH_SIZE("task.metrics.dirty.batch.size", "100"),
+    TASK_METRICS_DIRTY_LEASE_DURATION("task.metrics.dirty.leaseDurationInMillis", String.valueOf(Duration.ofMinutes(15).toMillis())),
+    TASK_METRICS_PORTFOLIO_WORK_CHUNK_SIZE("task.metrics.portfolio.work.chunk.size", "25"),
+    TASK_METRICS_PORTFOLIO_WORK_LEASE_DURATION("task.metrics.portfolio.work.leaseDurationInMillis", "900000"),
     TASK_METRICS_VULNERABILITY_LOCK_AT_MOST_FOR("task.metrics.vulnerability.lockAtMostForInMillis", "900000"),
     TASK_METRICS_VULNERABILITY_LOCK_AT_LEAST_FOR("task.metrics.vulnerability.lockAtLeastForInMillis", "90000"),
     TASK_MIRROR_EPSS_LOCK_AT_MOST_FOR("task.mirror.epss.lockAtMostForInMillis", "900000"),
@@ -69,6 +79,14 @@ public enum ConfigKey implements Config.Key {
     TASK_LDAP_SYNC_LOCK_AT_LEAST_FOR("task.ldapSync.lockAtLeastForInMillis", "90000"),
     TASK_WORKFLOW_STEP_CLEANUP_LOCK_AT_MOST_FOR("task.workflow.state.cleanup.lockAtMostForInMillis", String.valueOf(Duration.ofMinutes(15).toMillis())),
     TASK_WORKFLOW_STEP_CLEANUP_LOCK_AT_LEAST_FOR("task.workflow.state.cleanup.lockAtLeastForInMillis", String.valueOf(Duration.ofMinutes(15).toMillis())),
+    TASK_METRICS_COMPACTION_LOCK_AT_MOST_FOR("task.metrics.compaction.lockAtMostForInMillis", String.valueOf(Duration.ofMinutes(60).toMillis())),
+    TASK_METRICS_COMPACTION_LOCK_AT_LEAST_FOR("task.metrics.compaction.lockAtLeastForInMillis", String.valueOf(Duration.ofMinutes(5).toMillis())),
+    TASK_METRICS_COMPACTION_BATCH_SIZE("task.metrics.compaction.batch.size", "1000"),
+    TASK_FINDINGS_READ_MODEL_LOCK_AT_MOST_FOR("task.findings.read.model.lockAtMostForInMillis", String.valueOf(Duration.ofMinutes(60).toMillis())),
+    TASK_FINDINGS_READ_MODEL_LOCK_AT_LEAST_FOR("task.findings.read.model.lockAtLeastForInMillis", String.valueOf(Duration.ofMinutes(1).toMillis())),
+    TASK_FINDINGS_READ_MODEL_CHECK_BATCH_SIZE("task.findings.read.model.check.batch.size", "1000"),
+    TASK_PROJECT_DELETION_BATCH_SIZE("task.project.deletion.batch.size", "1000"),
+    TASK_PROJECT_DELETION_LEASE_DURATION("task.project.deletion.leaseDurationInMillis", String.valueOf(Duration.ofMinutes(15).toMillis())),
     TASK_PORTFOLIO_REPO_META_ANALYSIS_LOCK_AT_MOST_FOR("task.portfolio.repoMetaAnalysis.lockAtMostForInMillis", String.valueOf(Duration.ofMinutes(15).toMillis())),
     TASK_PORTFOLIO_REPO_META_ANALYSIS_LOCK_AT_LEAST_FOR("task.portfolio.repoMetaAnalysis.lockAtLeastForInMillis", String.valueOf(Duration.ofMinutes(5).toMillis())),
     TASK_PORTFOLIO_VULN_ANALYSIS_LOCK_AT_MOST_FOR("task.portfolio.vulnAnalysis.lockAtMostForInMillis", String.valueOf(Duration.ofMinutes(15).toMillis())),
@@ -76,6 +94,20 @@ public enum ConfigKey implements Config.Key {
     TASK_VULNERABILITY_POLICY_BUNDLE_FETCH_LOCK_AT_MOST_FOR("task.vulnerability.policy.bundle.fetch.lockAtMostForInMillis", String.valueOf(Duration.ofMinutes(5).toMillis())),
     TASK_VULNERABILITY_POLICY_BUNDLE_FETCH_LOCK_AT_LEAST_FOR("task.vulnerability.policy.bundle.fetch.lockAtLeastForInMillis", String.valueOf(Duration.ofSeconds(5).toMillis())),
     BOM_UPLOAD_PROCESSING_TRX_FLUSH_THRESHOLD("bom.upload.processing.trx.flush.threshold", "10000"),
+    BOM_UPLOAD_PROCESSING_STREAMING_ENABLED("bom.upload.processing.streaming.enabled", false),
+    BOM_UPLOAD_PROCESSING_STREAMING_CHUNK_SIZE("bom.upload.processing.streaming.chunk.size", "1000"),
+    BOM_UPLOAD_PROCESSING_DELTA_ENABLED("bom.upload.processing.delta.enabled", false),
+    METRICS_INCREMENTAL_ENABLED("metrics.incremental.enabled", false),
+    METRICS_PORTFOLIO_DISTRIBUTED_ENABLED("metrics.portfolio.distributed.enabled", false),
+    METRICS_COMPACTION_ENABLED("metrics.compaction.enabled", false),
+    METRICS_COMPACTION_RAW_RETENTION_DURATION("metrics.compaction.raw.retention.duration", "P30D"),
+    METRICS_COMPACTION_DAILY_RETENTION_DURATION("metrics.compaction.daily.retention.duration", "P365D"),
+    FINDINGS_READ_MODEL_ENABLED("findings.read.model.enabled", false),
+    REPO_META_ANALYSIS_PORTFOLIO_INCREMENTAL_ENABLED("repo.meta.analysis.portfolio.incremental.enabled", false),
+    REPO_META_ANALYSIS_PORTFOLIO_FRESHNESS_DURATION("repo.meta.analysis.portfolio.freshness.duration", "PT12H"),
+    ACCESS_MANAGEMENT_CACHE_TTL_DURATION("access.management.cache.ttl.duration", "PT15S"),
+    CONFIG_PROPERTY_CACHE_TTL_DURATION("config.property.cache.ttl.duration", "PT5M"),
+    POLICY_EVALUATION_PARALLELISM("policy.evaluation.parallelism", "1"),
     WORKFLOW_RETENTION_DURATION("workflow.retention.duration", "P3D"),
     WORKFLOW_STEP_TIMEOUT_DURATION("workflow.step.timeout.duration", "PT1H"),
     TMP_DELAY_BOM_PROCESSED_NOTIFICATION("tmp.delay.bom.processed.notification", "false"),
@@ -94,6 +126,7 @@ public enum ConfigKey implements Config.Key {
     VULNERABILITY_POLICY_S3_BUCKET_NAME("vulnerability.policy.s3.bucket.name", null),
     VULNERABILITY_POLICY_S3_BUNDLE_NAME("vulnerability.policy.s3.bundle.name", null),
     VULNERABILITY_POLICY_S3_REGION("vulnerability.policy.s3.region", null),
+    VULNERABILITY_POLICY_CACHE_REVALIDATION_INTERVAL("vulnerability.policy.cache.revalidation.interval", "PT30S"),
     DATABASE_MIGRATION_URL("database.migration.url", null),
     DATABASE_MIGRATION_USERNAME("database.migration.username", null),
     DATABASE_MIGRATION_PASSWORD("database.migration.password", null),
@@ -25,25 +25,30 @@ import org.dependencytrack.model.VulnerabilityAnalysisLevel;
 
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 /**
  * Defines an {@link Event} triggered when requesting a component to be analyzed for vulnerabilities.
  *
- * @param token     The scan token
- * @param uuid      The {@link UUID} of the {@link Component} to scan
- * @param purl      The package URL of the {@link Component} to scan
- * @param cpe       The CPE of the {@link Component} to scan
- * @param swidTagId The SWID tag ID of the {@link Component} to scan
- * @param internal  Whether the {@link Component} is internal
- * @param level     The {@link VulnerabilityAnalysisLevel} of the scan
+ * @param token           The scan token
+ * @param uuid            The {@link UUID} of the {@link Component} to scan
+ * @param purl            The package URL of the {@link Component} to scan
+ * @param cpe             The CPE of the {@link Component} to scan
+ * @param swidTagId       The SWID tag ID of the {@link Component} to scan
+ * @param internal        Whether the {@link Component} is internal
+ * @param level           The {@link VulnerabilityAnalysisLevel} of the scan
+ * @param isNewComponent  Whether the {@link Component} to scan is new
+ * @param newSiblingUuids {@link UUID}s of new {@link Component}s that results of the scan are fanned out to
  */
 public record ComponentVulnerabilityAnalysisEvent(UUID token, UUID uuid, String purl, String cpe,
                                                   String swidTagId, Boolean internal,
-                                                  VulnerabilityAnalysisLevel level, Boolean isNewComponent) implements Event {
+                                                  VulnerabilityAnalysisLevel level, Boolean isNewComponent,
+                                                  Set<UUID> newSiblingUuids) implements Event {
 
     public ComponentVulnerabilityAnalysisEvent(final UUID token, final UUID uuid, final String purl, final String cpe,
-                                               final String swidTagId, final Boolean internal, final VulnerabilityAnalysisLevel level, Boolean isNewComponent) {
+                                               final String swidTagId, final Boolean internal, final VulnerabilityAnalysisLevel level,
+                                               final Boolean isNewComponent, final Set<UUID> newSiblingUuids) {
         this.token = Objects.requireNonNull(token);
         this.uuid = Objects.requireNonNull(uuid);
         this.purl = purl;
@@ -52,6 +57,12 @@ public record ComponentVulnerabilityAnalysisEvent(UUID token, UUID uuid, String
         this.internal = internal;
         this.level = Objects.requireNonNull(level);
         this.isNewComponent = isNewComponent;
+        this.newSiblingUuids = Set.copyOf(Objects.requireNonNull(newSiblingUuids));
+    }
+
+    public ComponentVulnerabilityAnalysisEvent(final UUID token, final UUID uuid, final String purl, final String cpe,
+                                               final String swidTagId, final Boolean internal, final VulnerabilityAnalysisLevel level, Boolean isNewComponent) {
+        this(token, uuid, purl, cpe, swidTagId, internal, level, isNewComponent, Set.of());
     }
 
     public ComponentVulnerabilityAnalysisEvent(final UUID token, final Component component, VulnerabilityAnalysisLevel level, Boolean isNewComponent) {
@@ -59,4 +70,14 @@ public record ComponentVulnerabilityAnalysisEvent(UUID token, UUID uuid, String
                 component.getCpe(), component.getSwidTagId(), component.isInternal(), level, isNewComponent);
     }
 
+    /**
+     * @param siblingUuids {@link UUID}s of new {@link Component}s that results of the scan are fanned out to
+     * @return A copy of this event, with {@code siblingUuids} as {@link #newSiblingUuids()}
+     * @since 5.6.0
+     */
+    public ComponentVulnerabilityAnalysisEvent withNewSiblings(final Set<UUID> siblingUuids) {
+        return new ComponentVulnerabilityAnalysisEvent(token, uuid, purl, cpe, swidTagId,
+                internal, level, isNewComponent, siblingUuids);
+    }
+
 }
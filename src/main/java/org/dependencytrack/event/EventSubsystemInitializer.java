@@ -28,6 +28,7 @@ import org.dependencytrack.tasks.CallbackTask;
 import org.dependencytrack.tasks.CloneProjectTask;
 import org.dependencytrack.tasks.DefectDojoUploadTask;
 import org.dependencytrack.tasks.EpssMirrorTask;
+import org.dependencytrack.tasks.FindingsReadModelTask;
 import org.dependencytrack.tasks.FortifySscUploadTask;
 import org.dependencytrack.tasks.GitHubAdvisoryMirrorTask;
 import org.dependencytrack.tasks.IntegrityAnalysisTask;
@@ -38,6 +39,7 @@ import org.dependencytrack.tasks.LdapSyncTaskWrapper;
 import org.dependencytrack.tasks.NistMirrorTask;
 import org.dependencytrack.tasks.OsvDownloadTask;
 import org.dependencytrack.tasks.PolicyEvaluationTask;
+import org.dependencytrack.tasks.ProjectDeletionTask;
 import org.dependencytrack.tasks.RepositoryMetaAnalyzerTask;
 import org.dependencytrack.tasks.TaskScheduler;
 import org.dependencytrack.tasks.VexUploadProcessingTask;
@@ -45,7 +47,10 @@ import org.dependencytrack.tasks.VulnerabilityAnalysisTask;
 import org.dependencytrack.tasks.vulnerabilitypolicy.VulnerabilityPolicyFetchTask;
 import org.dependencytrack.tasks.VulnerabilityScanCleanupTask;
 import org.dependencytrack.tasks.WorkflowStateCleanupTask;
+import org.dependencytrack.tasks.metrics.DirtyProjectMetricsUpdateTask;
+import org.dependencytrack.tasks.metrics.MetricsCompactionTask;
 import org.dependencytrack.tasks.metrics.PortfolioMetricsUpdateTask;
+import org.dependencytrack.tasks.metrics.PortfolioMetricsWorkTask;
 import org.dependencytrack.tasks.metrics.ProjectMetricsUpdateTask;
 import org.dependencytrack.tasks.metrics.VulnerabilityMetricsUpdateTask;
 
@@ -86,8 +91,14 @@ public class EventSubsystemInitializer implements ServletContextListener {
         EVENT_SERVICE.subscribe(PortfolioRepositoryMetaAnalysisEvent.class, RepositoryMetaAnalyzerTask.class);
         EVENT_SERVICE.subscribe(ProjectMetricsUpdateEvent.class, ProjectMetricsUpdateTask.class);
         EVENT_SERVICE.subscribe(PortfolioMetricsUpdateEvent.class, PortfolioMetricsUpdateTask.class);
+        EVENT_SERVICE.subscribe(DirtyProjectMetricsUpdateEvent.class, DirtyProjectMetricsUpdateTask.class);
+        EVENT_SERVICE.subscribe(PortfolioMetricsWorkEvent.class, PortfolioMetricsWorkTask.class);
+        EVENT_SERVICE.subscribe(MetricsCompactionEvent.class, MetricsCompactionTask.class);
+        EVENT_SERVICE.subscribe(FindingsReadModelRebuildEvent.class, FindingsReadModelTask.class);
+        EVENT_SERVICE.subscribe(FindingsReadModelCheckEvent.class, FindingsReadModelTask.class);
         EVENT_SERVICE.subscribe(VulnerabilityMetricsUpdateEvent.class, VulnerabilityMetricsUpdateTask.class);
         EVENT_SERVICE.subscribe(CloneProjectEvent.class, CloneProjectTask.class);
+        EVENT_SERVICE.subscribe(ProjectDeletionEvent.class, ProjectDeletionTask.class);
         EVENT_SERVICE.subscribe(FortifySscUploadEventAbstract.class, FortifySscUploadTask.class);
         EVENT_SERVICE.subscribe(DefectDojoUploadEventAbstract.class, DefectDojoUploadTask.class);
         EVENT_SERVICE.subscribe(KennaSecurityUploadEventAbstract.class, KennaSecurityUploadTask.class);
@@ -123,8 +134,13 @@ public class EventSubsystemInitializer implements ServletContextListener {
         EVENT_SERVICE.unsubscribe(RepositoryMetaAnalyzerTask.class);
         EVENT_SERVICE.unsubscribe(ProjectMetricsUpdateTask.class);
         EVENT_SERVICE.unsubscribe(PortfolioMetricsUpdateTask.class);
+        EVENT_SERVICE.unsubscribe(DirtyProjectMetricsUpdateTask.class);
+        EVENT_SERVICE.unsubscribe(PortfolioMetricsWorkTask.class);
+        EVENT_SERVICE.unsubscribe(MetricsCompactionTask.class);
+        EVENT_SERVICE.unsubscribe(FindingsReadModelTask.class);
         EVENT_SERVICE.unsubscribe(VulnerabilityMetricsUpdateTask.class);
         EVENT_SERVICE.unsubscribe(CloneProjectTask.class);
+        EVENT_SERVICE.unsubscribe(ProjectDeletionTask.class);
         EVENT_SERVICE.unsubscribe(FortifySscUploadTask.class);
         EVENT_SERVICE.unsubscribe(DefectDojoUploadTask.class);
         EVENT_SERVICE.unsubscribe(KennaSecurityUploadTask.class);
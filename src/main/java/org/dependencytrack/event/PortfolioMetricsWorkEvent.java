@@ -0,0 +1,51 @@
+/*
+ * This file is part of Dependency-Track.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.dependencytrack.event;
+
+import alpine.event.framework.Event;
+import alpine.event.framework.SingletonCapableEvent;
+
+import java.util.UUID;
+
+/**
+ * Defines an {@link Event} used to trigger processing of projects pending
+ * in a distributed portfolio metrics refresh.
+ *
+ * @since 5.6.0
+ */
+public class PortfolioMetricsWorkEvent extends SingletonCapableEvent {
+
+    private static final UUID CHAIN_IDENTIFIER = UUID.fromString("a4d0f6b2-81c3-4e57-b0d9-6f2e3c1a8e47");
+
+    public PortfolioMetricsWorkEvent() {
+        this(true);
+    }
+
+    /**
+     * @param singleton Whether the event shall be skipped when another singleton
+     *                  {@link PortfolioMetricsWorkEvent} is already being processed
+     */
+    public PortfolioMetricsWorkEvent(final boolean singleton) {
+        if (singleton) {
+            this.setChainIdentifier(CHAIN_IDENTIFIER);
+            this.setSingleton(true);
+        }
+    }
+
+}
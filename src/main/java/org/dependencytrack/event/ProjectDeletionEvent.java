@@ -0,0 +1,50 @@
+/*
+ * This file is part of Dependency-Track.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.dependencytrack.event;
+
+import alpine.event.framework.Event;
+import alpine.event.framework.SingletonCapableEvent;
+
+import java.util.UUID;
+
+/**
+ * Defines an {@link Event} used to trigger deletion of projects pending asynchronous deletion.
+ *
+ * @since 5.6.0
+ */
+public class ProjectDeletionEvent extends SingletonCapableEvent {
+
+    private static final UUID CHAIN_IDENTIFIER = UUID.fromString("5f3c2e1d-9b7a-4c8e-a6d2-3e1f0b9c7d54");
+
+    public ProjectDeletionEvent() {
+        this(true);
+    }
+
+    /**
+     * @param singleton Whether the event shall be skipped when another singleton
+     *                  {@link ProjectDeletionEvent} is already being processed
+     */
+    public ProjectDeletionEvent(final boolean singleton) {
+        if (singleton) {
+            this.setChainIdentifier(CHAIN_IDENTIFIER);
+            this.setSingleton(true);
+        }
+    }
+
+}
@@ -49,10 +49,11 @@ import org.dependencytrack.proto.vulnanalysis.v1.ScanKey;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 import static org.apache.commons.lang3.ObjectUtils.requireNonEmpty;
 
@@ -121,15 +122,20 @@ public final class KafkaEventConverter {
                 .setComponent(componentBuilder)
                 .build();
 
-        return new KafkaEvent<>(
-                KafkaTopics.VULN_ANALYSIS_COMMAND,
-                scanKey, scanCommand,
-                Map.of(KafkaEventHeaders.VULN_ANALYSIS_LEVEL, event.level().name(),
-                        KafkaEventHeaders.IS_NEW_COMPONENT, String.valueOf(event.isNewComponent()))
-        );
+        final var headers = new HashMap<String, String>();
+        headers.put(KafkaEventHeaders.VULN_ANALYSIS_LEVEL, event.level().name());
+        headers.put(KafkaEventHeaders.IS_NEW_COMPONENT, String.valueOf(event.isNewComponent()));
+        if (!event.newSiblingUuids().isEmpty()) {
+            headers.put(KafkaEventHeaders.NEW_SIBLING_COMPONENT_UUIDS, event.newSiblingUuids().stream()
+                    .map(UUID::toString)
+                    .sorted()
+                    .collect(Collectors.joining(",")));
+        }
+
+        return new KafkaEvent<>(KafkaTopics.VULN_ANALYSIS_COMMAND, scanKey, scanCommand, headers);
     }
 
-    static KafkaEvent<String, AnalysisCommand> convert(final ComponentRepositoryMetaAnalysisEvent event) {
+    public static KafkaEvent<String, AnalysisCommand> convert(final ComponentRepositoryMetaAnalysisEvent event) {
         if (event == null || event.purlCoordinates() == null) {
             return null;
         }
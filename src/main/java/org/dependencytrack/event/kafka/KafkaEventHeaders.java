@@ -33,4 +33,13 @@ public final class KafkaEventHeaders {
     public static final String VULN_ANALYSIS_LEVEL = "x-dtrack-vuln-analysis-level";
     public static final String IS_NEW_COMPONENT = "x-dtrack-is-new-component";
 
+    /**
+     * Optional header that may be used to communicate the comma-separated UUIDs of new components
+     * that results of a {@link ScanCommand} are fanned out to. Components that results are fanned
+     * out to, but that are not listed, are not new.
+     *
+     * @since 5.6.0
+     */
+    public static final String NEW_SIBLING_COMPONENT_UUIDS = "x-dtrack-new-sibling-component-uuids";
+
 }
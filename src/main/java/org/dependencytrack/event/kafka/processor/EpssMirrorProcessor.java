@@ -19,12 +19,15 @@
 package org.dependencytrack.event.kafka.processor;
 
 import alpine.common.logging.Logger;
+import alpine.common.metrics.Metrics;
+import io.micrometer.core.instrument.Counter;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.dependencytrack.event.kafka.processor.api.BatchProcessor;
 import org.dependencytrack.event.kafka.processor.exception.ProcessingException;
 import org.dependencytrack.model.Epss;
 import org.dependencytrack.parser.dependencytrack.EpssModelConverter;
 import org.dependencytrack.persistence.QueryManager;
+import org.dependencytrack.persistence.jdbi.EpssDao.SyncResult;
 import org.dependencytrack.proto.mirror.v1.EpssItem;
 
 import java.util.List;
@@ -35,6 +38,16 @@ public class EpssMirrorProcessor implements BatchProcessor<String, EpssItem> {
     public static final String PROCESSOR_NAME = "epss.mirror";
     private static final Logger LOGGER = Logger.getLogger(EpssMirrorProcessor.class);
 
+    private final Counter insertedCounter;
+    private final Counter updatedCounter;
+    private final Counter skippedCounter;
+
+    public EpssMirrorProcessor() {
+        this.insertedCounter = createRecordCounter("inserted");
+        this.updatedCounter = createRecordCounter("updated");
+        this.skippedCounter = createRecordCounter("skipped");
+    }
+
     @Override
     public void process(List<ConsumerRecord<String, EpssItem>> consumerRecords) throws ProcessingException {
         try (QueryManager qm = new QueryManager()) {
@@ -44,8 +57,20 @@ public class EpssMirrorProcessor implements BatchProcessor<String, EpssItem> {
                     .map(EpssModelConverter::convert)
                     .toList();
             if (!epssList.isEmpty()) {
-                qm.synchronizeAllEpss(epssList);
+                final SyncResult result = qm.synchronizeAllEpss(epssList);
+                LOGGER.debug("Synchronized batch of %d mirrored EPSS records (inserted=%d, updated=%d, skipped=%d)"
+                        .formatted(consumerRecords.size(), result.inserted(), result.updated(), result.skipped()));
+                insertedCounter.increment(result.inserted());
+                updatedCounter.increment(result.updated());
+                skippedCounter.increment(result.skipped());
             }
         }
     }
+
+    private static Counter createRecordCounter(final String result) {
+        return Counter.builder("epss_mirror_records")
+                .description("Mirrored EPSS records, by synchronization result")
+                .tag("result", result)
+                .register(Metrics.getRegistry());
+    }
 }
@@ -31,108 +31,279 @@ import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.cyclonedx.proto.v1_6.Bom;
 import org.cyclonedx.proto.v1_6.Component;
 import org.cyclonedx.proto.v1_6.VulnerabilityAffects;
-import org.dependencytrack.event.kafka.processor.api.Processor;
+import org.dependencytrack.event.kafka.processor.api.BatchProcessor;
+import org.dependencytrack.event.kafka.processor.exception.ProcessingException;
+import org.dependencytrack.metrics.Metrics;
 import org.dependencytrack.model.Vulnerability;
 import org.dependencytrack.model.VulnerableSoftware;
 import org.dependencytrack.parser.dependencytrack.ModelConverterCdxToVuln;
 import org.dependencytrack.parser.nvd.ModelConverter;
+import org.dependencytrack.persistence.FindingsReadModel;
 import org.dependencytrack.persistence.QueryManager;
+import org.dependencytrack.persistence.jdbi.VulnerabilityDao;
+import org.dependencytrack.persistence.jdbi.VulnerableSoftwareDao;
+import org.dependencytrack.persistence.jdbi.VulnerableSoftwareDao.VulnerableSoftwareId;
 import us.springett.parsers.cpe.exceptions.CpeEncodingException;
 import us.springett.parsers.cpe.exceptions.CpeParsingException;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.UUID;
+
+import static org.dependencytrack.persistence.jdbi.JdbiFactory.inJdbiTransaction;
+import static org.dependencytrack.persistence.jdbi.JdbiFactory.useJdbiTransaction;
 
 /**
- * A {@link Processor} that ingests vulnerability data from CycloneDX Bill of Vulnerabilities.
+ * A {@link BatchProcessor} that ingests vulnerability data from CycloneDX Bill of Vulnerabilities.
+ * <p>
+ * Vulnerabilities are synchronized for the entire batch at once, as are their affected versions.
+ * {@link VulnerableSoftware}s are deduplicated across the batch, such that each of them is looked up,
+ * and created if necessary, only once.
  */
-public class VulnerabilityMirrorProcessor implements Processor<String, Bom> {
+public class VulnerabilityMirrorProcessor implements BatchProcessor<String, Bom> {
 
     static final String PROCESSOR_NAME = "vuln.mirror";
 
     private static final Logger LOGGER = Logger.getLogger(VulnerabilityMirrorProcessor.class);
 
     @Override
-    public void process(final ConsumerRecord<String, Bom> record) {
-        try (QueryManager qm = new QueryManager()) {
-            LOGGER.debug("Synchronizing Mirrored Vulnerability : " + record.key());
-            Bom bom = record.value();
-            String key = record.key();
-            String mirrorSource = key.substring(0, key.indexOf("/"));
-            Vulnerability.Source source = Vulnerability.Source.valueOf(mirrorSource);
-            final Vulnerability vulnerability = ModelConverterCdxToVuln.convert(qm, bom, bom.getVulnerabilities(0), false);
-            final List<VulnerableSoftware> vsListOld = qm.detach(qm.getVulnerableSoftwareByVulnId(vulnerability.getSource(), vulnerability.getVulnId()));
-            final Vulnerability synchronizedVulnerability = qm.synchronizeVulnerability(vulnerability, false);
-            var cycloneVuln = bom.getVulnerabilities(0);
-            // Alias synchronization across multiple sources is too unreliable right now.
-            // We can re-enable this once we have more confidence in data quality, or a better
-            // way of auditing reported aliases. See also: https://github.com/google/osv.dev/issues/888
-            /* if (!cycloneVuln.getReferencesList().isEmpty()) {
-                cycloneVuln.getReferencesList().stream().forEach(reference -> {
-                    final String alias = reference.getId();
-                    final VulnerabilityAlias vulnerabilityAlias = new VulnerabilityAlias();
-
-                    // OSV will use IDs of other vulnerability databases for its
-                    // primary advisory ID (e.g. GHSA-45hx-wfhj-473x). We need to ensure
-                    // that we don't falsely report GHSA IDs as stemming from OSV.
-                    final Vulnerability.Source advisorySource = extractSource(cycloneVuln.getId(), cycloneVuln.getSource());
-                    if (mirrorSource.equals("OSV")) {
-                        switch (advisorySource) {
-                            case NVD -> vulnerabilityAlias.setCveId(cycloneVuln.getId());
-                            case GITHUB -> vulnerabilityAlias.setGhsaId(cycloneVuln.getId());
-                            default -> vulnerabilityAlias.setOsvId(cycloneVuln.getId());
-                        }
-                    }
-                    if (alias.startsWith("CVE") && Vulnerability.Source.NVD != advisorySource) {
-                        vulnerabilityAlias.setCveId(alias);
-                        qm.synchronizeVulnerabilityAlias(vulnerabilityAlias);
-                    } else if (alias.startsWith("GHSA") && Vulnerability.Source.GITHUB != advisorySource) {
-                        vulnerabilityAlias.setGhsaId(alias);
-                        qm.synchronizeVulnerabilityAlias(vulnerabilityAlias);
+    public void process(final List<ConsumerRecord<String, Bom>> records) throws ProcessingException {
+        LOGGER.debug("Synchronizing batch of %d mirrored vulnerabilities".formatted(records.size()));
+
+        // Records with the same key report the same vulnerability, from the same source.
+        // Only the latest record matters in that case.
+        final var vulnByRecordKey = new LinkedHashMap<String, Vulnerability>();
+        final var reportedVersionsByRecordKey = new LinkedHashMap<String, ReportedVersions>();
+        try (final var qm = new QueryManager()) {
+            for (final ConsumerRecord<String, Bom> record : records) {
+                final MirroredVulnerability mirroredVuln = convert(qm, record);
+                vulnByRecordKey.put(record.key(), mirroredVuln.vuln());
+
+                // Vulnerabilities without any affected versions keep the ones they already have.
+                if (!mirroredVuln.reportedVersions().vsList().isEmpty()) {
+                    reportedVersionsByRecordKey.put(record.key(), mirroredVuln.reportedVersions());
+                }
+            }
+        }
+
+        final Map<String, Long> vulnIdByRecordKey = synchronizeVulnerabilities(vulnByRecordKey);
+
+        final var affectedVersionsList = new ArrayList<AffectedVersions>(reportedVersionsByRecordKey.size());
+        for (final Map.Entry<String, ReportedVersions> entry : reportedVersionsByRecordKey.entrySet()) {
+            final ReportedVersions reportedVersions = entry.getValue();
+            affectedVersionsList.add(new AffectedVersions(
+                    vulnIdByRecordKey.get(entry.getKey()), reportedVersions.source(), reportedVersions.vsList()));
+        }
+
+        synchronizeAffectedVersions(affectedVersionsList);
+    }
+
+    /**
+     * Create or update vulnerabilities.
+     *
+     * @param vulnByRecordKey The vulnerabilities to synchronize, by the key of the record that reported them
+     * @return IDs of the synchronized vulnerabilities, by the key of the record that reported them
+     */
+    private static Map<String, Long> synchronizeVulnerabilities(final Map<String, Vulnerability> vulnByRecordKey) {
+        final List<String> recordKeys = List.copyOf(vulnByRecordKey.keySet());
+        final List<Vulnerability> vulns = List.copyOf(vulnByRecordKey.values());
+        vulns.forEach(vuln -> vuln.setUuid(UUID.randomUUID()));
+
+        final List<Long> vulnIds = inJdbiTransaction(handle -> {
+            final var dao = handle.attach(VulnerabilityDao.class);
+
+            // Severities of existing findings change along with their vulnerability,
+            // which metrics of affected projects have to catch up with.
+            final List<Long> severityChangedIds = Metrics.isIncrementalUpdateEnabled()
+                    ? dao.getIdsWithChangedSeverity(vulns)
+                    : List.of();
+
+            final List<Long> upsertedIds = dao.upsert(vulns);
+            FindingsReadModel.refreshVulnerabilities(handle, upsertedIds);
+            Metrics.markProjectsDirtyByVulnerabilities(handle, severityChangedIds);
+            return upsertedIds;
+        });
+
+        final var vulnIdByRecordKey = new HashMap<String, Long>(recordKeys.size());
+        for (int i = 0; i < recordKeys.size(); i++) {
+            vulnIdByRecordKey.put(recordKeys.get(i), vulnIds.get(i));
+        }
+
+        return vulnIdByRecordKey;
+    }
+
+    private MirroredVulnerability convert(final QueryManager qm, final ConsumerRecord<String, Bom> record) {
+        LOGGER.debug("Synchronizing Mirrored Vulnerability : " + record.key());
+        Bom bom = record.value();
+        String key = record.key();
+        String mirrorSource = key.substring(0, key.indexOf("/"));
+        Vulnerability.Source source = Vulnerability.Source.valueOf(mirrorSource);
+        final Vulnerability vulnerability = ModelConverterCdxToVuln.convert(qm, bom, bom.getVulnerabilities(0), false);
+        var cycloneVuln = bom.getVulnerabilities(0);
+        // Alias synchronization across multiple sources is too unreliable right now.
+        // We can re-enable this once we have more confidence in data quality, or a better
+        // way of auditing reported aliases. See also: https://github.com/google/osv.dev/issues/888
+        /* if (!cycloneVuln.getReferencesList().isEmpty()) {
+            cycloneVuln.getReferencesList().stream().forEach(reference -> {
+                final String alias = reference.getId();
+                final VulnerabilityAlias vulnerabilityAlias = new VulnerabilityAlias();
+
+                // OSV will use IDs of other vulnerability databases for its
+                // primary advisory ID (e.g. GHSA-45hx-wfhj-473x). We need to ensure
+                // that we don't falsely report GHSA IDs as stemming from OSV.
+                final Vulnerability.Source advisorySource = extractSource(cycloneVuln.getId(), cycloneVuln.getSource());
+                if (mirrorSource.equals("OSV")) {
+                    switch (advisorySource) {
+                        case NVD -> vulnerabilityAlias.setCveId(cycloneVuln.getId());
+                        case GITHUB -> vulnerabilityAlias.setGhsaId(cycloneVuln.getId());
+                        default -> vulnerabilityAlias.setOsvId(cycloneVuln.getId());
                     }
-                });
-            }*/
-            final List<VulnerableSoftware> vsList = new ArrayList<>();
-            for (final VulnerabilityAffects affect : cycloneVuln.getAffectsList()) {
-                final Optional<Component> component = bom.getComponentsList().stream()
-                        .filter(c -> c.getBomRef().equals(affect.getRef()))
-                        .findFirst();
-                if (component.isEmpty()) {
-                    LOGGER.warn("No component in the BOV for %s is matching the BOM ref \"%s\" of the affects node; Skipping"
-                            .formatted(synchronizedVulnerability.getVulnId(), affect.getRef()));
-                    continue;
                 }
+                if (alias.startsWith("CVE") && Vulnerability.Source.NVD != advisorySource) {
+                    vulnerabilityAlias.setCveId(alias);
+                    qm.synchronizeVulnerabilityAlias(vulnerabilityAlias);
+                } else if (alias.startsWith("GHSA") && Vulnerability.Source.GITHUB != advisorySource) {
+                    vulnerabilityAlias.setGhsaId(alias);
+                    qm.synchronizeVulnerabilityAlias(vulnerabilityAlias);
+                }
+            });
+        }*/
+        final List<VulnerableSoftware> vsList = new ArrayList<>();
+        for (final VulnerabilityAffects affect : cycloneVuln.getAffectsList()) {
+            final Optional<Component> component = bom.getComponentsList().stream()
+                    .filter(c -> c.getBomRef().equals(affect.getRef()))
+                    .findFirst();
+            if (component.isEmpty()) {
+                LOGGER.warn("No component in the BOV for %s is matching the BOM ref \"%s\" of the affects node; Skipping"
+                        .formatted(vulnerability.getVulnId(), affect.getRef()));
+                continue;
+            }
 
-                affect.getVersionsList().forEach(version -> {
-                    if (version.hasRange()) {
-                        final List<VulnerableSoftware> vs = mapAffectedRangeToVulnerableSoftwares(qm,
-                                vulnerability.getVulnId(), version.getRange(), component.get().getPurl(), component.get().getCpe());
-                        if (vs != null) {
-                            vsList.addAll(vs);
-                        }
+            affect.getVersionsList().forEach(version -> {
+                if (version.hasRange()) {
+                    final List<VulnerableSoftware> vs = mapAffectedRangeToVulnerableSoftwares(
+                            vulnerability.getVulnId(), version.getRange(), component.get().getPurl(), component.get().getCpe());
+                    if (vs != null) {
+                        vsList.addAll(vs);
                     }
-                    if (version.hasVersion()) {
-                        final VulnerableSoftware vs = mapAffectedVersionToVulnerableSoftware(qm,
-                                vulnerability.getVulnId(), version.getVersion(), component.get().getPurl(), component.get().getCpe());
-                        if (vs != null) {
-                            vsList.add(vs);
-                        }
+                }
+                if (version.hasVersion()) {
+                    final VulnerableSoftware vs = mapAffectedVersionToVulnerableSoftware(
+                            vulnerability.getVulnId(), version.getVersion(), component.get().getPurl(), component.get().getCpe());
+                    if (vs != null) {
+                        vsList.add(vs);
                     }
-                });
+                }
+            });
+        }
+        return new MirroredVulnerability(vulnerability, new ReportedVersions(source, vsList));
+    }
+
+    /**
+     * Synchronize the {@link VulnerableSoftware}s of vulnerabilities, and their attribution to the reporting source.
+     * <p>
+     * {@link VulnerableSoftware}s that were previously reported by the same source, but are not anymore,
+     * lose their attribution to that source. They remain associated with the vulnerability for as long
+     * as other sources still report them. {@link VulnerableSoftware}s that are not attributed to any source
+     * at all are no longer associated with the vulnerability.
+     *
+     * @param affectedVersionsList The affected versions to synchronize
+     */
+    private static void synchronizeAffectedVersions(final Collection<AffectedVersions> affectedVersionsList) {
+        if (affectedVersionsList.isEmpty()) {
+            return;
+        }
+
+        final var vsByKey = new LinkedHashMap<VulnerableSoftwareKey, VulnerableSoftware>();
+        final var dedupedAffectedVersionsList = new ArrayList<AffectedVersions>(affectedVersionsList.size());
+        for (final AffectedVersions affectedVersions : affectedVersionsList) {
+            final var uniqueVsList = new LinkedHashSet<VulnerableSoftware>();
+            for (final VulnerableSoftware vs : affectedVersions.vsList()) {
+                uniqueVsList.add(vsByKey.computeIfAbsent(VulnerableSoftwareKey.of(vs), ignored -> vs));
             }
-            if (!vsList.isEmpty()) {
-                qm.persist(vsList);
-                qm.updateAffectedVersionAttributions(synchronizedVulnerability, vsList, source);
-                var reconciledVsList = qm.reconcileVulnerableSoftware(synchronizedVulnerability, vsListOld, vsList, source);
-                synchronizedVulnerability.setVulnerableSoftware(reconciledVsList);
+            dedupedAffectedVersionsList.add(new AffectedVersions(
+                    affectedVersions.vulnId(), affectedVersions.source(), List.copyOf(uniqueVsList)));
+        }
+
+        resolveOrCreateVulnerableSoftware(List.copyOf(vsByKey.values()));
+
+        final var syncedVulnIds = new ArrayList<Long>();
+        final var syncedSources = new ArrayList<String>();
+        final var reportedVulnIds = new ArrayList<Long>();
+        final var reportedVsIds = new ArrayList<Long>();
+        final var reportedSources = new ArrayList<String>();
+        final var reportedUuids = new ArrayList<String>();
+        for (final AffectedVersions affectedVersions : dedupedAffectedVersionsList) {
+            syncedVulnIds.add(affectedVersions.vulnId());
+            syncedSources.add(affectedVersions.source().name());
+
+            for (final VulnerableSoftware vs : affectedVersions.vsList()) {
+                reportedVulnIds.add(affectedVersions.vulnId());
+                reportedVsIds.add(vs.getId());
+                reportedSources.add(affectedVersions.source().name());
+                reportedUuids.add(UUID.randomUUID().toString());
             }
-            qm.persist(synchronizedVulnerability);
         }
+
+        useJdbiTransaction(handle -> {
+            final var dao = handle.attach(VulnerableSoftwareDao.class);
+            dao.attribute(reportedVulnIds, reportedVsIds, reportedSources, reportedUuids);
+            dao.deleteStaleAttributions(syncedVulnIds, syncedSources, reportedVulnIds, reportedVsIds, reportedSources);
+            dao.unlinkUnattributed(syncedVulnIds);
+            dao.link(reportedVulnIds, reportedVsIds);
+        });
     }
 
-    public VulnerableSoftware mapAffectedVersionToVulnerableSoftware(final QueryManager qm, final String vulnId,
-                                                                     String version, String purlStr, String cpeStr) {
+    /**
+     * Assign the IDs of existing {@link VulnerableSoftware}s, and create those that do not exist yet.
+     *
+     * @param vsList The {@link VulnerableSoftware}s to resolve
+     */
+    private static void resolveOrCreateVulnerableSoftware(final List<VulnerableSoftware> vsList) {
+        useJdbiTransaction(handle -> {
+            final var dao = handle.attach(VulnerableSoftwareDao.class);
+
+            // Most mirrored vulnerabilities report VulnerableSoftwares that exist already.
+            // Only lock when some of them need to be created, and look those up again
+            // in case another instance created them in the meantime.
+            List<VulnerableSoftware> unresolvedVsList = resolveVulnerableSoftware(dao, vsList);
+            if (unresolvedVsList.isEmpty()) {
+                return;
+            }
+
+            dao.lock();
+            unresolvedVsList = resolveVulnerableSoftware(dao, unresolvedVsList);
+            if (unresolvedVsList.isEmpty()) {
+                return;
+            }
+
+            unresolvedVsList.forEach(vs -> vs.setUuid(UUID.randomUUID()));
+            final List<Long> createdIds = dao.create(unresolvedVsList);
+            for (int i = 0; i < unresolvedVsList.size(); i++) {
+                unresolvedVsList.get(i).setId(createdIds.get(i));
+            }
+        });
+    }
+
+    private static List<VulnerableSoftware> resolveVulnerableSoftware(final VulnerableSoftwareDao dao,
+                                                                      final List<VulnerableSoftware> vsList) {
+        for (final VulnerableSoftwareId vsId : dao.getIds(vsList)) {
+            vsList.get(vsId.index()).setId(vsId.id());
+        }
+
+        return vsList.stream()
+                .filter(vs -> vs.getId() == 0)
+                .toList();
+    }
+
+    public VulnerableSoftware mapAffectedVersionToVulnerableSoftware(final String vulnId, String version,
+                                                                     String purlStr, String cpeStr) {
         version = StringUtils.trimToNull(version);
         cpeStr = StringUtils.trimToNull(cpeStr);
         purlStr = StringUtils.trimToNull(purlStr);
@@ -145,30 +316,19 @@ public class VulnerabilityMirrorProcessor implements Processor<String, Bom> {
             final PackageURL purl;
             try {
                 purl = new PackageURL(purlStr);
-                vs = qm.getVulnerableSoftwareByPurlAndVersion(purl.getType(), purl.getNamespace(), purl.getName(), version);
-                if (vs != null) {
-                    return vs;
-                } else {
-                    vs = new VulnerableSoftware();
-                    vs.setPurlType(purl.getType());
-                    vs.setPurlNamespace(purl.getNamespace());
-                    vs.setPurlName(purl.getName());
-                    vs.setPurl(purl.canonicalize());
-                    vs.setVersion(version);
-                }
+                vs.setPurlType(purl.getType());
+                vs.setPurlNamespace(purl.getNamespace());
+                vs.setPurlName(purl.getName());
+                vs.setPurl(purl.canonicalize());
+                vs.setVersion(version);
             } catch (MalformedPackageURLException e) {
                 LOGGER.warn("Failed to parse PURL from \"%s\" for %s; Skipping".formatted(purlStr, vulnId), e);
                 return null;
             }
         } else {
             try {
-                vs = qm.getVulnerableSoftwareByCpe23AndVersion(cpeStr, version);
-                if (vs != null) {
-                    return vs;
-                } else {
-                    vs = ModelConverter.convertCpe23UriToVulnerableSoftware(cpeStr);
-                    vs.setVersion(version);
-                }
+                vs = ModelConverter.convertCpe23UriToVulnerableSoftware(cpeStr);
+                vs.setVersion(version);
             } catch (CpeParsingException | CpeEncodingException e) {
                 LOGGER.warn("Failed to parse CPE from \"%s\" for %s; Skipping".formatted(cpeStr, vulnId), e);
                 return null;
@@ -178,8 +338,8 @@ public class VulnerabilityMirrorProcessor implements Processor<String, Bom> {
         return vs;
     }
 
-    public List<VulnerableSoftware> mapAffectedRangeToVulnerableSoftwares(final QueryManager qm, final String vulnId,
-                                                                          String range, String purlStr, String cpeStr) {
+    public List<VulnerableSoftware> mapAffectedRangeToVulnerableSoftwares(final String vulnId, String range,
+                                                                          String purlStr, String cpeStr) {
         range = StringUtils.trimToNull(range);
         cpeStr = StringUtils.trimToNull(cpeStr);
         purlStr = StringUtils.trimToNull(purlStr);
@@ -212,11 +372,14 @@ public class VulnerabilityMirrorProcessor implements Processor<String, Bom> {
                     // Also, as wildcards have the potential to lead to lots of false positives,
                     // we want to be informed when they enter our system. So logging a warning.
                     LOGGER.warn("Wildcard range %s was reported for %s".formatted(vers, vulnId));
-                    vsList.add(mapAffectedVersionToVulnerableSoftware(qm, vulnId, "*", purlStr, cpeStr));
+                    final VulnerableSoftware vs = mapAffectedVersionToVulnerableSoftware(vulnId, "*", purlStr, cpeStr);
+                    if (vs != null) {
+                        vsList.add(vs);
+                    }
                     continue;
                 }
             }
-            var vulnerableSoftware = convertVersToVulnerableSoftware(qm, vers, vulnId, purlStr, cpeStr);
+            var vulnerableSoftware = convertVersToVulnerableSoftware(vers, vulnId, purlStr, cpeStr);
             if (vulnerableSoftware != null) {
                 vsList.add(vulnerableSoftware);
             }
@@ -242,7 +405,7 @@ public class VulnerabilityMirrorProcessor implements Processor<String, Bom> {
         }
     }
 
-    private VulnerableSoftware convertVersToVulnerableSoftware(QueryManager qm, Vers vers, String vulnId, String purlStr, String cpeStr) {
+    private VulnerableSoftware convertVersToVulnerableSoftware(Vers vers, String vulnId, String purlStr, String cpeStr) {
 
         String versionStartIncluding = null;
         String versionStartExcluding = null;
@@ -293,22 +456,12 @@ public class VulnerabilityMirrorProcessor implements Processor<String, Bom> {
                 LOGGER.warn("Failed to parse PURL from \"%s\" for %s; Skipping".formatted(purlStr, vulnId), e);
                 return null;
             }
-            vs = qm.getVulnerableSoftwareByPurl(purl.getType(), purl.getNamespace(), purl.getName(),
-                    versionEndExcluding, versionEndIncluding, null, versionStartIncluding);
-            if (vs != null) {
-                return vs;
-            }
             vs = new VulnerableSoftware();
             vs.setPurlType(purl.getType());
             vs.setPurlNamespace(purl.getNamespace());
             vs.setPurlName(purl.getName());
             vs.setPurl(purl.canonicalize());
         } else {
-            vs = qm.getVulnerableSoftwareByCpe23(cpeStr, versionEndExcluding,
-                    versionEndIncluding, versionStartExcluding, versionStartIncluding);
-            if (vs != null) {
-                return vs;
-            }
             try {
                 vs = ModelConverter.convertCpe23UriToVulnerableSoftware(cpeStr);
             } catch (CpeParsingException | CpeEncodingException e) {
@@ -324,4 +477,31 @@ public class VulnerabilityMirrorProcessor implements Processor<String, Bom> {
         vs.setVersionEndIncluding(versionEndIncluding);
         return vs;
     }
+
+    private record MirroredVulnerability(Vulnerability vuln, ReportedVersions reportedVersions) {
+    }
+
+    private record ReportedVersions(Vulnerability.Source source, List<VulnerableSoftware> vsList) {
+    }
+
+    private record AffectedVersions(long vulnId, Vulnerability.Source source, List<VulnerableSoftware> vsList) {
+    }
+
+    /**
+     * The properties by which {@link VulnerableSoftware}s are considered equal.
+     *
+     * @see VulnerableSoftwareDao#getIds(List)
+     */
+    private record VulnerableSoftwareKey(String cpe23, String purlType, String purlNamespace, String purlName,
+                                         String version, String versionEndExcluding, String versionEndIncluding,
+                                         String versionStartExcluding, String versionStartIncluding) {
+
+        private static VulnerableSoftwareKey of(final VulnerableSoftware vs) {
+            return new VulnerableSoftwareKey(vs.getCpe23(), vs.getPurlType(), vs.getPurlNamespace(), vs.getPurlName(),
+                    vs.getVersion(), vs.getVersionEndExcluding(), vs.getVersionEndIncluding(),
+                    vs.getVersionStartExcluding(), vs.getVersionStartIncluding());
+        }
+
+    }
+
 }
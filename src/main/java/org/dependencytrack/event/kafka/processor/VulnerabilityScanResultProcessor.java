@@ -33,12 +33,14 @@ import org.dependencytrack.event.kafka.KafkaEventDispatcher;
 import org.dependencytrack.event.kafka.KafkaEventHeaders;
 import org.dependencytrack.event.kafka.KafkaTopics;
 import org.dependencytrack.event.kafka.KafkaUtil;
-import org.dependencytrack.event.kafka.processor.api.Processor;
+import org.dependencytrack.event.kafka.processor.api.BatchProcessor;
+import org.dependencytrack.metrics.Metrics;
 import org.dependencytrack.model.AnalysisJustification;
 import org.dependencytrack.model.AnalysisResponse;
 import org.dependencytrack.model.AnalysisState;
 import org.dependencytrack.model.AnalyzerIdentity;
 import org.dependencytrack.model.Severity;
+import org.dependencytrack.model.VulnIdAndSource;
 import org.dependencytrack.model.Vulnerability;
 import org.dependencytrack.model.VulnerabilityAlias;
 import org.dependencytrack.model.VulnerabilityAnalysisLevel;
@@ -47,6 +49,7 @@ import org.dependencytrack.notification.NotificationConstants;
 import org.dependencytrack.notification.NotificationGroup;
 import org.dependencytrack.notification.NotificationScope;
 import org.dependencytrack.parser.dependencytrack.ModelConverterCdxToVuln;
+import org.dependencytrack.persistence.FindingsReadModel;
 import org.dependencytrack.persistence.QueryManager;
 import org.dependencytrack.persistence.jdbi.NotificationSubjectDao;
 import org.dependencytrack.policy.vulnerability.VulnerabilityPolicy;
@@ -62,23 +65,24 @@ import org.dependencytrack.proto.vulnanalysis.v1.ScannerResult;
 import org.dependencytrack.util.AnalysisCommentFormatter.AnalysisCommentField;
 import org.dependencytrack.util.PersistenceUtil;
 import org.dependencytrack.util.PersistenceUtil.Differ;
-import org.jdbi.v3.core.mapper.reflect.ColumnName;
 import org.jdbi.v3.sqlobject.config.RegisterBeanMapper;
 import org.jdbi.v3.sqlobject.config.RegisterConstructorMapper;
-import org.jdbi.v3.sqlobject.customizer.BindBean;
 import org.jdbi.v3.sqlobject.customizer.BindMethods;
-import org.jdbi.v3.sqlobject.statement.GetGeneratedKeys;
 import org.jdbi.v3.sqlobject.statement.SqlBatch;
 import org.jdbi.v3.sqlobject.statement.SqlQuery;
+import org.jdbi.v3.sqlobject.statement.SqlUpdate;
 import org.slf4j.MDC;
 
 import javax.jdo.Query;
 import jakarta.ws.rs.core.MultivaluedHashMap;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
@@ -96,8 +100,8 @@ import static org.dependencytrack.common.ConfigKey.VULNERABILITY_POLICY_ANALYSIS
 import static org.dependencytrack.common.MdcKeys.MDC_COMPONENT_UUID;
 import static org.dependencytrack.common.MdcKeys.MDC_SCAN_TOKEN;
 import static org.dependencytrack.parser.dependencytrack.ModelConverterCdxToVuln.convert;
-import static org.dependencytrack.persistence.jdbi.JdbiFactory.inJdbiTransaction;
 import static org.dependencytrack.persistence.jdbi.JdbiFactory.useJdbiHandle;
+import static org.dependencytrack.persistence.jdbi.JdbiFactory.useJdbiTransaction;
 import static org.dependencytrack.persistence.jdbi.JdbiFactory.withJdbiHandle;
 import static org.dependencytrack.proto.notification.v1.Group.GROUP_NEW_VULNERABILITY;
 import static org.dependencytrack.proto.notification.v1.Group.GROUP_NEW_VULNERABLE_DEPENDENCY;
@@ -115,9 +119,12 @@ import static org.dependencytrack.util.VulnerabilityUtil.isAuthoritativeSource;
 import static org.dependencytrack.util.VulnerabilityUtil.isMirroringEnabled;
 
 /**
- * A {@link Processor} responsible for processing {@link ScanResult}s.
+ * A {@link BatchProcessor} responsible for processing {@link ScanResult}s.
+ * <p>
+ * Vulnerabilities reported for multiple components of the same batch are only synchronized once.
+ * Findings, attributions, and analyses of all components in the batch are created in a single transaction.
  */
-public class VulnerabilityScanResultProcessor implements Processor<ScanKey, ScanResult> {
+public class VulnerabilityScanResultProcessor implements BatchProcessor<ScanKey, ScanResult> {
 
     static String PROCESSOR_NAME = "vuln.scan.result";
 
@@ -138,17 +145,13 @@ public class VulnerabilityScanResultProcessor implements Processor<ScanKey, Scan
     }
 
     @Override
-    public void process(final ConsumerRecord<ScanKey, ScanResult> record) {
-        final ScanKey scanKey = record.key();
-        final ScanResult scanResult = record.value();
-        final VulnerabilityAnalysisLevel analysisLevel = determineAnalysisLevel(record);
-        final boolean isNewComponent = determineIsComponentNew(record);
-
-        try (var ignoredMdcComponentUuid = MDC.putCloseable(MDC_COMPONENT_UUID, scanKey.getComponentUuid());
-             var ignoredMdcScanToken = MDC.putCloseable(MDC_SCAN_TOKEN, scanKey.getScanToken())) {
-            maybeQueueResultProcessedEvent(scanKey, scanResult);
+    public void process(final List<ConsumerRecord<ScanKey, ScanResult>> records) {
+        try {
+            for (final ConsumerRecord<ScanKey, ScanResult> record : records) {
+                maybeQueueResultProcessedEvent(record.key(), record.value());
+            }
 
-            processInternal(scanKey, scanResult, analysisLevel, isNewComponent);
+            processInternal(records);
 
             // NB: Dispatching asynchronously here as blocking comes with a latency penalty
             // that is too high, given the frequency at which records are processed.
@@ -158,31 +161,124 @@ public class VulnerabilityScanResultProcessor implements Processor<ScanKey, Scan
         }
     }
 
-    private void processInternal(final ScanKey scanKey,
-                                 final ScanResult scanResult,
-                                 final VulnerabilityAnalysisLevel analysisLevel,
-                                 final boolean isNewComponent) {
+    private void processInternal(final List<ConsumerRecord<ScanKey, ScanResult>> records) {
+        final Map<UUID, Component> componentByUuid = getComponents(records);
+
+        final var successfulResults = new ArrayList<SuccessfulScannerResult>();
+        for (final ConsumerRecord<ScanKey, ScanResult> record : records) {
+            final ScanKey scanKey = record.key();
+
+            try (var ignoredMdcComponentUuid = MDC.putCloseable(MDC_COMPONENT_UUID, scanKey.getComponentUuid());
+                 var ignoredMdcScanToken = MDC.putCloseable(MDC_SCAN_TOKEN, scanKey.getScanToken())) {
+                final Component component = componentByUuid.get(parseUuid(scanKey.getComponentUuid()));
+                if (component == null) {
+                    LOGGER.warn("Received result for component, but it does not exist");
+                    continue;
+                }
+
+                final VulnerabilityAnalysisLevel analysisLevel = determineAnalysisLevel(record);
+                final boolean isNewComponent = determineIsComponentNew(record);
+                final Set<UUID> newSiblingUuids = determineNewSiblingUuids(record);
+                for (final ScannerResult scannerResult : record.value().getScannerResultsList()) {
+                    if (isSuccessful(component, scanKey, scannerResult)) {
+                        successfulResults.add(new SuccessfulScannerResult(
+                                scanKey, component, scannerResult, analysisLevel, isNewComponent, newSiblingUuids));
+                    }
+                }
+            }
+        }
+
+        if (successfulResults.isEmpty()) {
+            return;
+        }
+
+        successfulResults.addAll(fanOutToSiblings(successfulResults));
+
+        final Collection<ComponentFindings> componentFindings;
         try (final var qm = new QueryManager()) {
             // Do not unload fields upon commit (why is this even the default WTF).
             qm.getPersistenceManager().setProperty(PROPERTY_RETAIN_VALUES, "true");
             qm.getPersistenceManager().setProperty(PROPERTY_PERSISTENCE_BY_REACHABILITY_AT_COMMIT, "false");
 
-            final Component component = withJdbiHandle(handle -> handle.attach(Dao.class).getComponentByUuid(UUID.fromString(scanKey.getComponentUuid())));
-            if (component == null) {
-                LOGGER.warn("Received result for component, but it does not exist");
-                return;
-            }
+            componentFindings = syncVulnerabilities(qm, successfulResults);
+        }
 
-            for (final ScannerResult scannerResult : scanResult.getScannerResultsList()) {
-                processScannerResult(qm, component, scanKey, scannerResult, analysisLevel, isNewComponent);
+        for (final ComponentFindings findings : componentFindings) {
+            maybeEvaluateVulnPolicies(findings);
+        }
+
+        final List<ProjectAuditChange> auditChanges = synchronizeFindingsAndAnalyses(componentFindings);
+
+        maybeQueueNotifications(componentFindings, auditChanges);
+    }
+
+    /**
+     * Fetch all {@link Component}s that results were reported for, in a single query.
+     *
+     * @param records The {@link ConsumerRecord}s to fetch {@link Component}s for
+     * @return The existing {@link Component}s, indexed by their {@link UUID}
+     */
+    private static Map<UUID, Component> getComponents(final List<ConsumerRecord<ScanKey, ScanResult>> records) {
+        final Set<UUID> componentUuids = records.stream()
+                .map(ConsumerRecord::key)
+                .map(ScanKey::getComponentUuid)
+                .map(VulnerabilityScanResultProcessor::parseUuid)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        if (componentUuids.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        return withJdbiHandle(handle -> handle.attach(Dao.class).getComponentsByUuids(componentUuids)).stream()
+                .collect(Collectors.toMap(Component::uuid, Function.identity()));
+    }
+
+    /**
+     * Components are submitted for analysis once per distinct analysis identity (purl coordinates, CPE,
+     * and internal flag) within the scope of a scan. Results reported for such a representative component
+     * apply to all other components sharing its identity, which are fetched here in a single query.
+     * <p>
+     * Results of portfolio analyses are fanned out to components of all active projects. Results of
+     * project analyses are fanned out to components of the same project. Results of other scans
+     * (e.g. of individual components) are not fanned out.
+     * <p>
+     * Siblings are only considered to be new when they are listed in {@link SuccessfulScannerResult#newSiblingUuids()},
+     * regardless of whether the representative component is new.
+     *
+     * @param results The {@link SuccessfulScannerResult}s of representative components
+     * @return {@link SuccessfulScannerResult}s for all sibling components
+     */
+    private static List<SuccessfulScannerResult> fanOutToSiblings(final List<SuccessfulScannerResult> results) {
+        final var representatives = new LinkedHashMap<FanOutTarget, List<SuccessfulScannerResult>>();
+        for (final SuccessfulScannerResult result : results) {
+            representatives.computeIfAbsent(
+                    new FanOutTarget(result.scanKey().getScanToken(), result.component().id()),
+                    ignored -> new ArrayList<>()).add(result);
+        }
+
+        final List<ComponentSibling> siblings = withJdbiHandle(handle -> handle.attach(Dao.class)
+                .getSiblingComponents(representatives.keySet(), PortfolioVulnerabilityAnalysisEvent.CHAIN_IDENTIFIER.toString()));
+        if (siblings.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        final var siblingResults = new ArrayList<SuccessfulScannerResult>();
+        for (final ComponentSibling sibling : siblings) {
+            final var siblingComponent = new Component(sibling.id(), sibling.uuid(), sibling.projectId(), sibling.projectUuid());
+            for (final SuccessfulScannerResult result : representatives.get(
+                    new FanOutTarget(sibling.scanToken(), sibling.representativeId()))) {
+                siblingResults.add(new SuccessfulScannerResult(result.scanKey(), siblingComponent,
+                        result.scannerResult(), result.analysisLevel(),
+                        result.newSiblingUuids().contains(sibling.uuid()), Collections.emptySet()));
             }
         }
+
+        LOGGER.debug("Fanned out results of %d components to %d sibling components"
+                .formatted(representatives.size(), siblings.size()));
+        return siblingResults;
     }
 
-    private void processScannerResult(final QueryManager qm, final Component component,
-                                      final ScanKey scanKey, final ScannerResult scannerResult,
-                                      final VulnerabilityAnalysisLevel analysisLevel,
-                                      final boolean isNewComponent) {
+    private boolean isSuccessful(final Component component, final ScanKey scanKey, final ScannerResult scannerResult) {
         if (scannerResult.getStatus() == SCAN_STATUS_FAILED) {
             final var message = "Scan of component %s with %s failed (scanKey: %s): %s"
                     .formatted(component.uuid(), scannerResult.getScanner(), prettyPrint(scanKey), scannerResult.getFailureReason());
@@ -193,94 +289,136 @@ public class VulnerabilityScanResultProcessor implements Processor<ScanKey, Scan
                     .title(NotificationConstants.Title.ANALYZER_ERROR)
                     .content(message));
             LOGGER.warn(message);
-            return;
+            return false;
         } else if (scannerResult.getStatus() != ScanStatus.SCAN_STATUS_SUCCESSFUL) {
             LOGGER.warn("Unable to process results from %s with status %s; Dropping record (scanKey: %s)"
                     .formatted(scannerResult.getScanner(), scannerResult.getStatus(), prettyPrint(scanKey)));
-            return;
+            return false;
         }
 
-        final Set<Vulnerability> syncedVulns = syncVulnerabilities(qm, scanKey, scannerResult);
-        LOGGER.debug("Synchronized %d vulnerabilities reported by %s for %s (scanKey: %s)"
-                .formatted(syncedVulns.size(), scannerResult.getScanner(), scanKey.getComponentUuid(), prettyPrint(scanKey)));
+        return true;
+    }
 
-        final Map<UUID, VulnerabilityPolicy> matchedPoliciesByVulnUuid = maybeEvaluateVulnPolicies(component, syncedVulns);
-        LOGGER.debug("Identified policy matches for %d/%d vulnerabilities (scanKey: %s)"
-                .formatted(matchedPoliciesByVulnUuid.size(), syncedVulns.size(), prettyPrint(scanKey)));
+    /**
+     * Synchronize vulnerabilities reported in the given {@link ScannerResult}s with the datastore.
+     * <p>
+     * Vulnerabilities that are reported by the same {@link Scanner} for multiple components
+     * are only synchronized once per batch.
+     *
+     * @param qm      The {@link QueryManager} to use
+     * @param results The {@link SuccessfulScannerResult}s to synchronize vulnerabilities from
+     * @return The synchronized {@link Vulnerability}s, grouped by {@link Component}
+     */
+    private Collection<ComponentFindings> syncVulnerabilities(final QueryManager qm, final List<SuccessfulScannerResult> results) {
+        final var findingsByComponentId = new LinkedHashMap<Long, ComponentFindings>();
+        final var syncedVulnByReportedVuln = new HashMap<ReportedVulnerability, Vulnerability>();
+        final var reportedAliases = new ArrayList<VulnerabilityAlias>();
+
+        for (final SuccessfulScannerResult result : results) {
+            final ScanKey scanKey = result.scanKey();
+            final ScannerResult scannerResult = result.scannerResult();
+
+            try (var ignoredMdcComponentUuid = MDC.putCloseable(MDC_COMPONENT_UUID, scanKey.getComponentUuid());
+                 var ignoredMdcScanToken = MDC.putCloseable(MDC_SCAN_TOKEN, scanKey.getScanToken())) {
+                final ComponentFindings findings = findingsByComponentId.computeIfAbsent(result.component().id(),
+                        ignored -> new ComponentFindings(result.component(), result.analysisLevel()));
+                findings.isNewComponent |= result.isNewComponent();
+
+                for (final org.cyclonedx.proto.v1_6.Vulnerability reportedVuln : scannerResult.getBom().getVulnerabilitiesList()) {
+                    final var reportedVulnKey = new ReportedVulnerability(
+                            scannerResult.getScanner(), reportedVuln.getSource().getName(), reportedVuln.getId());
+
+                    final Vulnerability syncedVuln;
+                    if (syncedVulnByReportedVuln.containsKey(reportedVulnKey)) {
+                        syncedVuln = syncedVulnByReportedVuln.get(reportedVulnKey);
+                    } else {
+                        syncedVuln = convertAndSyncVulnerability(qm, scanKey, scannerResult, reportedVuln, reportedAliases);
+                        syncedVulnByReportedVuln.put(reportedVulnKey, syncedVuln);
+                    }
 
-        // Log the matched policies with operation mode LOG
-        final List<String> loggablePolicies = matchedPoliciesByVulnUuid.entrySet().stream()
-                .filter(policy -> policy.getValue().getOperationMode() == VulnerabilityPolicyOperation.LOG)
-                .map(policy -> policy.getValue().getName()).toList();
-        if (!loggablePolicies.isEmpty()) {
-            LOGGER.info("List of matched vulnerability policies with mode LOG : " + loggablePolicies);
+                    if (syncedVuln != null) {
+                        findings.addVulnerability(syncedVuln, scannerResult.getScanner());
+                    }
+                }
+
+                LOGGER.debug("Synchronized %d vulnerabilities reported by %s for %s (scanKey: %s)"
+                        .formatted(scannerResult.getBom().getVulnerabilitiesCount(), scannerResult.getScanner(),
+                                scanKey.getComponentUuid(), prettyPrint(scanKey)));
+            }
         }
 
-        final Map<UUID, VulnerabilityPolicy> actionablePolicies = matchedPoliciesByVulnUuid.entrySet().stream()
-                .filter(policy -> policy.getValue().getOperationMode() == VulnerabilityPolicyOperation.APPLY)
-                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+        final List<Vulnerability> syncedVulns = syncedVulnByReportedVuln.values().stream()
+                .filter(Objects::nonNull)
+                .toList();
+        if (syncedVulns.isEmpty()) {
+            return findingsByComponentId.values();
+        }
 
-        // Perform analysis for only actionable policies.
-        final List<Vulnerability> newVulnUuids = synchronizeFindingsAndAnalyses(qm, component, syncedVulns,
-                scannerResult.getScanner(), actionablePolicies);
-        LOGGER.debug("Identified %d new vulnerabilities for %s with %s (scanKey: %s)"
-                .formatted(newVulnUuids.size(), scanKey.getComponentUuid(), scannerResult.getScanner(), prettyPrint(scanKey)));
+        // Synchronize the aliases of all reported vulnerabilities at once, and load the resulting
+        // aliases (including those that were known before) with a single query afterward.
+        if (!reportedAliases.isEmpty()) {
+            qm.synchronizeVulnerabilityAliases(reportedAliases);
+        }
+        final Map<VulnIdAndSource, List<VulnerabilityAlias>> aliasesByVulnIdAndSource = qm.getVulnerabilityAliases(
+                syncedVulns.stream()
+                        .map(vuln -> new VulnIdAndSource(vuln.getVulnId(), vuln.getSource()))
+                        .collect(Collectors.toSet()));
+        for (final Vulnerability syncedVuln : syncedVulns) {
+            final List<VulnerabilityAlias> aliases = aliasesByVulnIdAndSource.get(
+                    new VulnIdAndSource(syncedVuln.getVulnId(), syncedVuln.getSource()));
+            if (aliases != null) {
+                syncedVuln.setAliases(aliases);
+            }
+        }
 
-        maybeQueueNotifications(qm, component, isNewComponent, analysisLevel, newVulnUuids);
+        return findingsByComponentId.values();
     }
 
     /**
-     * Synchronize vulnerabilities reported in a given {@link ScannerResult} with the datastore.
+     * Convert a reported vulnerability to the internal model, and synchronize it with the datastore.
      *
-     * @param qm            The {@link QueryManager} to use
-     * @param scanKey       The {@link ScanKey} associated with the {@link ScannerResult}
-     * @param scannerResult The {@link ScannerResult} to synchronize vulnerabilities from
-     * @return A {@link Set} of synchronized {@link Vulnerability}s
+     * @param qm              The {@link QueryManager} to use
+     * @param scanKey         The {@link ScanKey} associated with the {@link ScannerResult}
+     * @param scannerResult   The {@link ScannerResult} that reported the vulnerability
+     * @param reportedVuln    The reported vulnerability
+     * @param reportedAliases {@link List} to collect the {@link VulnerabilityAlias}es of the vulnerability in
+     * @return The synchronized {@link Vulnerability}, or {@code null} when it could not be synchronized
      */
-    private Set<Vulnerability> syncVulnerabilities(final QueryManager qm, final ScanKey scanKey, final ScannerResult scannerResult) {
-        final var syncedVulns = new HashSet<Vulnerability>();
+    private Vulnerability convertAndSyncVulnerability(final QueryManager qm, final ScanKey scanKey, final ScannerResult scannerResult,
+                                                      final org.cyclonedx.proto.v1_6.Vulnerability reportedVuln,
+                                                      final List<VulnerabilityAlias> reportedAliases) {
+        final Vulnerability vuln;
+        try {
+            vuln = ModelConverterCdxToVuln.convert(qm, scannerResult.getBom(), reportedVuln, true);
+        } catch (RuntimeException e) {
+            LOGGER.error("Failed to convert vulnerability %s/%s (reported by %s for component %s) to internal model (scanKey: %s)"
+                    .formatted(reportedVuln.getSource(), reportedVuln.getId(), scannerResult.getScanner(), scanKey.getComponentUuid(), prettyPrint(scanKey)), e);
+            return null;
+        }
 
-        for (final org.cyclonedx.proto.v1_6.Vulnerability reportedVuln : scannerResult.getBom().getVulnerabilitiesList()) {
-            final Vulnerability vuln;
-            try {
-                vuln = ModelConverterCdxToVuln.convert(qm, scannerResult.getBom(), reportedVuln, true);
-            } catch (RuntimeException e) {
-                LOGGER.error("Failed to convert vulnerability %s/%s (reported by %s for component %s) to internal model (scanKey: %s)"
-                        .formatted(reportedVuln.getSource(), reportedVuln.getId(), scannerResult.getScanner(), scanKey.getComponentUuid(), prettyPrint(scanKey)), e);
-                continue;
-            }
+        try {
+            final Vulnerability syncedVuln = syncVulnerability(qm, vuln, scannerResult.getScanner());
 
-            try {
-                final Vulnerability syncedVuln = syncVulnerability(qm, vuln, scannerResult.getScanner());
-
-                // Detach vulnerabilities from JDO persistence context.
-                // We do not want to trigger any DB interactions by accessing their fields later.
-                // Note that even PersistenceManager#detachCopy will load / unload fields based
-                // on the current FetchPlan. But we just want to keep the data we already have,
-                // and #makeTransientAll does exactly that.
-                qm.getPersistenceManager().makeTransient(syncedVuln);
-
-                if (vuln.getAliases() != null && !vuln.getAliases().isEmpty()) {
-                    final var syncedAliases = new ArrayList<VulnerabilityAlias>();
-                    for (VulnerabilityAlias alias : vuln.getAliases()) {
-                        final VulnerabilityAlias syncedAlias = qm.synchronizeVulnerabilityAlias(alias);
-                        qm.getPersistenceManager().makeTransient(syncedAlias);
-                        syncedAliases.add(syncedAlias);
-                    }
-                    syncedVuln.setAliases(syncedAliases);
-                }
-
-                syncedVulns.add(syncedVuln);
-            } catch (RuntimeException e) {
-                // Use a broad catch here, so we can still try to process other
-                // vulnerabilities, even though processing one of them failed.
+            // Detach vulnerabilities from JDO persistence context.
+            // We do not want to trigger any DB interactions by accessing their fields later.
+            // Note that even PersistenceManager#detachCopy will load / unload fields based
+            // on the current FetchPlan. But we just want to keep the data we already have,
+            // and #makeTransientAll does exactly that.
+            qm.getPersistenceManager().makeTransient(syncedVuln);
 
-                LOGGER.warn("Failed to synchronize vulnerability %s/%s (reported by %s for component %s; scanKey: %s)"
-                        .formatted(vuln.getSource(), vuln.getVulnId(), scannerResult.getScanner(), scanKey.getComponentUuid(), prettyPrint(scanKey)), e);
+            if (vuln.getAliases() != null) {
+                reportedAliases.addAll(vuln.getAliases());
             }
-        }
 
-        return syncedVulns;
+            return syncedVuln;
+        } catch (RuntimeException e) {
+            // Use a broad catch here, so we can still try to process other
+            // vulnerabilities, even though processing one of them failed.
+
+            LOGGER.warn("Failed to synchronize vulnerability %s/%s (reported by %s for component %s; scanKey: %s)"
+                    .formatted(vuln.getSource(), vuln.getVulnId(), scannerResult.getScanner(), scanKey.getComponentUuid(), prettyPrint(scanKey)), e);
+            return null;
+        }
     }
 
     /**
@@ -368,260 +506,287 @@ public class VulnerabilityScanResultProcessor implements Processor<ScanKey, Scan
         }, PersistenceUtil::isUniqueConstraintViolation);
     }
 
-    private Map<UUID, VulnerabilityPolicy> maybeEvaluateVulnPolicies(final Component component, final Collection<Vulnerability> vulns) {
-        if (vulnPolicyEvaluator == null) {
-            return Collections.emptyMap();
+    private void maybeEvaluateVulnPolicies(final ComponentFindings findings) {
+        if (vulnPolicyEvaluator == null || findings.vulnById.isEmpty()) {
+            return;
         }
 
         final var policyProject = org.dependencytrack.proto.policy.v1.Project.newBuilder()
-                .setUuid(component.projectUuid().toString())
+                .setUuid(findings.component.projectUuid().toString())
                 .build();
         final var policyComponent = org.dependencytrack.proto.policy.v1.Component.newBuilder()
-                .setUuid(component.uuid().toString())
+                .setUuid(findings.component.uuid().toString())
                 .build();
-        final List<org.dependencytrack.proto.policy.v1.Vulnerability> policyVulns = vulns.stream()
+        final List<org.dependencytrack.proto.policy.v1.Vulnerability> policyVulns = findings.vulnById.values().stream()
                 .map(PolicyProtoMapper::mapToProto)
                 .toList();
 
-        return vulnPolicyEvaluator.evaluate(policyVulns, policyComponent, policyProject);
+        final Map<UUID, VulnerabilityPolicy> matchedPoliciesByVulnUuid =
+                vulnPolicyEvaluator.evaluate(policyVulns, policyComponent, policyProject);
+        LOGGER.debug("Identified policy matches for %d/%d vulnerabilities of component %s"
+                .formatted(matchedPoliciesByVulnUuid.size(), policyVulns.size(), findings.component.uuid()));
+
+        // Log the matched policies with operation mode LOG
+        final List<String> loggablePolicies = matchedPoliciesByVulnUuid.entrySet().stream()
+                .filter(policy -> policy.getValue().getOperationMode() == VulnerabilityPolicyOperation.LOG)
+                .map(policy -> policy.getValue().getName()).toList();
+        if (!loggablePolicies.isEmpty()) {
+            LOGGER.info("List of matched vulnerability policies with mode LOG : " + loggablePolicies);
+        }
+
+        // Perform analysis for only actionable policies.
+        findings.policiesByVulnUuid = matchedPoliciesByVulnUuid.entrySet().stream()
+                .filter(policy -> policy.getValue().getOperationMode() == VulnerabilityPolicyOperation.APPLY)
+                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
     }
 
     /**
-     * Associate a given {@link Collection} of {@link Vulnerability}s with a given {@link Component},
-     * evaluate applicable {@link VulnerabilityPolicy}s, and apply the resulting analyses.
+     * Associate synchronized {@link Vulnerability}s with their {@link Component}s, and apply the
+     * analyses of matched {@link VulnerabilityPolicy}s, in a single transaction.
      * <p>
-     * If a {@link Vulnerability} was not previously associated with the {@link Component},
-     * a {@link FindingAttribution} will be created for the {@link Scanner}.
+     * If a {@link Vulnerability} was not previously associated with a {@link Component},
+     * a {@link FindingAttribution} will be created for the {@link Scanner} that reported it first.
+     * Such {@link Vulnerability}s are recorded in {@link ComponentFindings#newVulnIds},
+     * unless they have been suppressed via {@link VulnerabilityPolicy}.
      *
-     * @param qm                 The {@link QueryManager} to use
-     * @param component          The {@link Component} to associate with
-     * @param vulns              The {@link Vulnerability}s to associate with
-     * @param scanner            The {@link Scanner} that identified the association
-     * @param policiesByVulnUuid Matched {@link VulnerabilityPolicy}s grouped by {@link Vulnerability#getUuid()}
-     * @return A {@link List} of {@link Vulnerability}s, that were not previously associated with the {@link Component},
-     * and which have not been suppressed via {@link VulnerabilityPolicy}.
+     * @param componentFindings The {@link ComponentFindings} to synchronize
+     * @return {@link ProjectAuditChange}s caused by applying analyses of {@link VulnerabilityPolicy}s
      */
-    private List<Vulnerability> synchronizeFindingsAndAnalyses(final QueryManager qm, final Component component,
-                                                               final Collection<Vulnerability> vulns, final Scanner scanner,
-                                                               final Map<UUID, VulnerabilityPolicy> policiesByVulnUuid) {
-        return inJdbiTransaction(handle -> {
+    private List<ProjectAuditChange> synchronizeFindingsAndAnalyses(final Collection<ComponentFindings> componentFindings) {
+        final Map<Long, ComponentFindings> findingsByComponentId = componentFindings.stream()
+                .filter(findings -> !findings.vulnById.isEmpty())
+                .collect(Collectors.toMap(findings -> findings.component.id(), Function.identity()));
+        if (findingsByComponentId.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        // Sort findings to acquire row locks in a consistent order across concurrent transactions.
+        final List<FindingKey> findingKeys = findingsByComponentId.values().stream()
+                .flatMap(findings -> findings.vulnById.keySet().stream()
+                        .map(vulnId -> new FindingKey(findings.component.id(), vulnId)))
+                .sorted(Comparator.comparingLong(FindingKey::componentId).thenComparingLong(FindingKey::vulnId))
+                .toList();
+
+        final var auditChanges = new ArrayList<ProjectAuditChange>();
+        useJdbiTransaction(handle -> {
             final var dao = handle.attach(Dao.class);
 
             // Bulk-create new findings and corresponding scanner attributions.
-            final List<Long> newFindingVulnIds = dao.createFindings(component, vulns);
-            final List<FindingAttribution> findingAttributions = newFindingVulnIds.stream()
-                    .map(vulnId -> new FindingAttribution(vulnId, component.id(), component.projectId(),
-                            convert(scanner).name(), UUID.randomUUID()))
-                    .toList();
+            final List<FindingKey> newFindingKeys = dao.createFindings(findingKeys);
+            final var findingAttributions = new ArrayList<FindingAttribution>(newFindingKeys.size());
+            for (final FindingKey newFindingKey : newFindingKeys) {
+                final ComponentFindings findings = findingsByComponentId.get(newFindingKey.componentId());
+                findings.newVulnIds.add(newFindingKey.vulnId());
+                findingAttributions.add(new FindingAttribution(newFindingKey.vulnId(), findings.component.id(),
+                        findings.component.projectId(), convert(findings.scannerByVulnId.get(newFindingKey.vulnId())).name(),
+                        UUID.randomUUID()));
+            }
             dao.createFindingAttributions(findingAttributions);
 
-            return maybeApplyPolicyAnalyses(qm, dao, component, vulns, newFindingVulnIds, policiesByVulnUuid);
+            final Set<Long> dirtyProjectIds = findingsByComponentId.values().stream()
+                    .filter(findings -> !findings.newVulnIds.isEmpty() || !findings.policiesByVulnUuid.isEmpty())
+                    .map(findings -> findings.component.projectId())
+                    .collect(Collectors.toSet());
+            Metrics.markProjectsDirty(handle, dirtyProjectIds);
+
+            auditChanges.addAll(applyPolicyAnalyses(dao, findingsByComponentId.values(), findingKeys));
+
+            FindingsReadModel.refreshComponents(handle, findingsByComponentId.keySet());
         });
+
+        return auditChanges;
     }
 
     /**
-     * Apply analyses of matched {@link VulnerabilityPolicy}s. Do nothing when no policies matched.
+     * Apply analyses of matched {@link VulnerabilityPolicy}s, and revert analyses of policies that no longer match.
      *
-     * @param qm
-     * @param dao                The {@link Dao} to use for persistence operations
-     * @param component          The {@link Component} to apply analyses for
-     * @param vulns              The {@link Vulnerability}s identified for the {@link Component}
-     * @param newFindingVulnIds  IDs of {@link Vulnerability}s that newly affect the {@link Component}
-     * @param policiesByVulnUuid Matched {@link VulnerabilityPolicy}s grouped by {@link Vulnerability#getUuid()}
-     * @return A {@link List} of {@link Vulnerability}s, that were not previously associated with the {@link Component},
-     * and which have not been suppressed via {@link VulnerabilityPolicy}.
+     * @param dao               The {@link Dao} to use for persistence operations
+     * @param componentFindings The {@link ComponentFindings} to apply analyses for
+     * @param findingKeys       {@link FindingKey}s of all findings in {@code componentFindings}
+     * @return {@link ProjectAuditChange}s caused by applying the analyses
      */
-    private List<Vulnerability> maybeApplyPolicyAnalyses(QueryManager qm, final Dao dao, final Component component, final Collection<Vulnerability> vulns,
-                                                         final List<Long> newFindingVulnIds, Map<UUID, VulnerabilityPolicy> policiesByVulnUuid) {
-        if (vulns.isEmpty()) {
-            return Collections.emptyList();
-        }
-
-        // Mark vulnerability UUIDs without policy match with an explicit "null" policy.
-        policiesByVulnUuid = new HashMap<>(policiesByVulnUuid);
-        for (final Vulnerability vuln : vulns) {
-            if (!policiesByVulnUuid.containsKey(vuln.getUuid())) {
-                policiesByVulnUuid.put(vuln.getUuid(), null);
-            }
-        }
-
-        // Index vulnerabilities by ID and UUID for more efficient lookups.
-        final var vulnById = new HashMap<Long, Vulnerability>();
-        final var vulnByUuid = new HashMap<UUID, Vulnerability>();
-        for (final Vulnerability vuln : vulns) {
-            vulnById.put(vuln.getId(), vuln);
-            vulnByUuid.put(vuln.getUuid(), vuln);
-        }
-
-        // For all vulnerabilities with matching policies, bulk-fetch existing analyses.
-        // Index them by vulnerability UUID for more efficient access.
-        final Map<UUID, Analysis> existingAnalyses = dao.getAnalyses(component, policiesByVulnUuid.keySet()).stream()
-                .collect(Collectors.toMap(Analysis::getVulnUuid, Function.identity()));
+    private List<ProjectAuditChange> applyPolicyAnalyses(final Dao dao, final Collection<ComponentFindings> componentFindings,
+                                                         final List<FindingKey> findingKeys) {
+        // Bulk-fetch existing analyses of all findings.
+        // Index them by finding for more efficient access.
+        final Map<FindingKey, Analysis> existingAnalyses = dao.getAnalyses(findingKeys).stream()
+                .collect(Collectors.toMap(
+                        analysis -> new FindingKey(analysis.getComponentId(), analysis.getVulnId()),
+                        Function.identity()));
 
         final var analysesToCreateOrUpdate = new ArrayList<Analysis>();
-        final var analysisCommentsByVulnId = new MultivaluedHashMap<Long, AnalysisComment>();
-
-        for (final Map.Entry<UUID, VulnerabilityPolicy> vulnUuidAndPolicy : policiesByVulnUuid.entrySet()) {
-            final Vulnerability vuln = vulnByUuid.get(vulnUuidAndPolicy.getKey());
-            final VulnerabilityPolicy policy = vulnUuidAndPolicy.getValue();
-            final Analysis policyAnalysis;
-            try {
-                policyAnalysis = Analysis.fromPolicy(policy);
-            } catch (IllegalArgumentException e) {
-                LOGGER.warn("Unable to apply policy %s as it was found to be invalid".formatted(policy.getName()), e);
-                continue;
-            }
-            final Analysis existingAnalysis = existingAnalyses.get(vuln.getUuid());
-            if (policy != null && existingAnalysis == null) {
-                policyAnalysis.setComponentId(component.id());
-                policyAnalysis.setProjectId(component.projectId());
-                policyAnalysis.setVulnId(vuln.getId());
-                policyAnalysis.setVulnUuid(vuln.getUuid());
-
-                // We'll create comments for analysisId=null for now, as the Analysis we're referring
-                // to hasn't been created yet. The analysisId is populated later, after bulk upserting
-                // all analyses.
-                final var commentFactory = new AnalysisCommentFactory(null, policy);
-                if (policyAnalysis.getState() != null) {
-                    commentFactory.createComment(formatComment(AnalysisCommentField.STATE, null, policyAnalysis.getState()));
-                }
-                if (policyAnalysis.getJustification() != null) {
-                    commentFactory.createComment(formatComment(AnalysisCommentField.JUSTIFICATION, null, policyAnalysis.getJustification()));
-                }
-                if (policyAnalysis.getResponse() != null) {
-                    commentFactory.createComment(formatComment(AnalysisCommentField.RESPONSE, null, policyAnalysis.getResponse()));
-                }
-                if (policyAnalysis.getDetails() != null) {
-                    commentFactory.createComment(formatComment(AnalysisCommentField.DETAILS, null, policyAnalysis.getDetails()));
-                }
-                if (policyAnalysis.getSuppressed()) {
-                    commentFactory.createComment(formatComment(AnalysisCommentField.SUPPRESSED, null, policyAnalysis.getSuppressed()));
-                }
-                if (policyAnalysis.getSeverity() != null) {
-                    commentFactory.createComment(formatComment(AnalysisCommentField.SEVERITY, vuln.getSeverity(), policyAnalysis.getSeverity()));
-                }
-                if (policyAnalysis.getCvssV2Vector() != null) {
-                    commentFactory.createComment(formatComment(AnalysisCommentField.CVSSV2_VECTOR, null, policyAnalysis.getCvssV2Vector()));
-                }
-                if (policyAnalysis.getCvssV2Score() != null) {
-                    commentFactory.createComment(formatComment(AnalysisCommentField.CVSSV2_SCORE, null, policyAnalysis.getCvssV2Score()));
+        final var analysisCommentsByFinding = new MultivaluedHashMap<FindingKey, AnalysisComment>();
+        final var auditChanges = new ArrayList<ProjectAuditChange>();
+
+        for (final ComponentFindings findings : componentFindings) {
+            final Component component = findings.component;
+
+            for (final Vulnerability vuln : findings.vulnById.values()) {
+                // Vulnerabilities without policy match are treated as having an explicit "null" policy.
+                final VulnerabilityPolicy policy = findings.policiesByVulnUuid.get(vuln.getUuid());
+                final var findingKey = new FindingKey(component.id(), vuln.getId());
+                final Analysis policyAnalysis;
+                try {
+                    policyAnalysis = Analysis.fromPolicy(policy);
+                } catch (IllegalArgumentException e) {
+                    LOGGER.warn("Unable to apply policy %s as it was found to be invalid".formatted(policy.getName()), e);
+                    continue;
                 }
-                if (policyAnalysis.getCvssV3Vector() != null) {
-                    commentFactory.createComment(formatComment(AnalysisCommentField.CVSSV3_VECTOR, null, policyAnalysis.getCvssV3Vector()));
-                }
-                if (policyAnalysis.getCvssV3Score() != null) {
-                    commentFactory.createComment(formatComment(AnalysisCommentField.CVSSV3_SCORE, null, policyAnalysis.getCvssV3Score()));
-                }
-                if (policyAnalysis.getOwaspVector() != null) {
-                    commentFactory.createComment(formatComment(AnalysisCommentField.OWASP_VECTOR, null, policyAnalysis.getOwaspVector()));
-                }
-                if (policyAnalysis.getOwaspScore() != null) {
-                    commentFactory.createComment(formatComment(AnalysisCommentField.OWASP_SCORE, null, policyAnalysis.getOwaspScore()));
-                }
-                analysesToCreateOrUpdate.add(policyAnalysis);
-                analysisCommentsByVulnId.addAll(policyAnalysis.getVulnId(), commentFactory.getComments());
-            } else if (existingAnalysis != null && (policy != null || existingAnalysis.getVulnPolicyName() != null)) {
-                boolean shouldUpdate = false;
-                boolean analysisStateChange = false;
-                boolean suppressionChange = false;
-                final var commentFactory = new AnalysisCommentFactory(existingAnalysis.getId(), policy);
-                if (!Objects.equals(existingAnalysis.getState(), policyAnalysis.getState())) {
-                    commentFactory.createComment(formatComment(AnalysisCommentField.STATE,
-                            existingAnalysis.getState(), policyAnalysis.getState()));
-
-                    existingAnalysis.setState(policyAnalysis.getState());
-                    shouldUpdate = true;
-                    analysisStateChange = true;
-                }
-                if (!Objects.equals(existingAnalysis.getJustification(), policyAnalysis.getJustification())) {
-                    commentFactory.createComment(formatComment(AnalysisCommentField.JUSTIFICATION,
-                            existingAnalysis.getJustification(), policyAnalysis.getJustification()));
+                final Analysis existingAnalysis = existingAnalyses.get(findingKey);
+                if (policy != null && existingAnalysis == null) {
+                    policyAnalysis.setComponentId(component.id());
+                    policyAnalysis.setProjectId(component.projectId());
+                    policyAnalysis.setVulnId(vuln.getId());
+                    policyAnalysis.setVulnUuid(vuln.getUuid());
+
+                    // We'll create comments for analysisId=null for now, as the Analysis we're referring
+                    // to hasn't been created yet. The analysisId is populated later, after bulk upserting
+                    // all analyses.
+                    final var commentFactory = new AnalysisCommentFactory(null, policy);
+                    if (policyAnalysis.getState() != null) {
+                        commentFactory.createComment(formatComment(AnalysisCommentField.STATE, null, policyAnalysis.getState()));
+                    }
+                    if (policyAnalysis.getJustification() != null) {
+                        commentFactory.createComment(formatComment(AnalysisCommentField.JUSTIFICATION, null, policyAnalysis.getJustification()));
+                    }
+                    if (policyAnalysis.getResponse() != null) {
+                        commentFactory.createComment(formatComment(AnalysisCommentField.RESPONSE, null, policyAnalysis.getResponse()));
+                    }
+                    if (policyAnalysis.getDetails() != null) {
+                        commentFactory.createComment(formatComment(AnalysisCommentField.DETAILS, null, policyAnalysis.getDetails()));
+                    }
+                    if (policyAnalysis.getSuppressed()) {
+                        commentFactory.createComment(formatComment(AnalysisCommentField.SUPPRESSED, null, policyAnalysis.getSuppressed()));
+                    }
+                    if (policyAnalysis.getSeverity() != null) {
+                        commentFactory.createComment(formatComment(AnalysisCommentField.SEVERITY, vuln.getSeverity(), policyAnalysis.getSeverity()));
+                    }
+                    if (policyAnalysis.getCvssV2Vector() != null) {
+                        commentFactory.createComment(formatComment(AnalysisCommentField.CVSSV2_VECTOR, null, policyAnalysis.getCvssV2Vector()));
+                    }
+                    if (policyAnalysis.getCvssV2Score() != null) {
+                        commentFactory.createComment(formatComment(AnalysisCommentField.CVSSV2_SCORE, null, policyAnalysis.getCvssV2Score()));
+                    }
+                    if (policyAnalysis.getCvssV3Vector() != null) {
+                        commentFactory.createComment(formatComment(AnalysisCommentField.CVSSV3_VECTOR, null, policyAnalysis.getCvssV3Vector()));
+                    }
+                    if (policyAnalysis.getCvssV3Score() != null) {
+                        commentFactory.createComment(formatComment(AnalysisCommentField.CVSSV3_SCORE, null, policyAnalysis.getCvssV3Score()));
+                    }
+                    if (policyAnalysis.getOwaspVector() != null) {
+                        commentFactory.createComment(formatComment(AnalysisCommentField.OWASP_VECTOR, null, policyAnalysis.getOwaspVector()));
+                    }
+                    if (policyAnalysis.getOwaspScore() != null) {
+                        commentFactory.createComment(formatComment(AnalysisCommentField.OWASP_SCORE, null, policyAnalysis.getOwaspScore()));
+                    }
+                    analysesToCreateOrUpdate.add(policyAnalysis);
+                    analysisCommentsByFinding.addAll(findingKey, commentFactory.getComments());
+                } else if (existingAnalysis != null && (policy != null || existingAnalysis.getVulnPolicyName() != null)) {
+                    boolean shouldUpdate = false;
+                    boolean analysisStateChange = false;
+                    boolean suppressionChange = false;
+                    final var commentFactory = new AnalysisCommentFactory(existingAnalysis.getId(), policy);
+                    if (!Objects.equals(existingAnalysis.getState(), policyAnalysis.getState())) {
+                        commentFactory.createComment(formatComment(AnalysisCommentField.STATE,
+                                existingAnalysis.getState(), policyAnalysis.getState()));
+
+                        existingAnalysis.setState(policyAnalysis.getState());
+                        shouldUpdate = true;
+                        analysisStateChange = true;
+                    }
+                    if (!Objects.equals(existingAnalysis.getJustification(), policyAnalysis.getJustification())) {
+                        commentFactory.createComment(formatComment(AnalysisCommentField.JUSTIFICATION,
+                                existingAnalysis.getJustification(), policyAnalysis.getJustification()));
 
-                    existingAnalysis.setJustification(policyAnalysis.getJustification());
-                    shouldUpdate = true;
-                }
-                if (!Objects.equals(existingAnalysis.getResponse(), policyAnalysis.getResponse())) {
-                    commentFactory.createComment(formatComment(AnalysisCommentField.RESPONSE,
-                            existingAnalysis.getResponse(), policyAnalysis.getResponse()));
+                        existingAnalysis.setJustification(policyAnalysis.getJustification());
+                        shouldUpdate = true;
+                    }
+                    if (!Objects.equals(existingAnalysis.getResponse(), policyAnalysis.getResponse())) {
+                        commentFactory.createComment(formatComment(AnalysisCommentField.RESPONSE,
+                                existingAnalysis.getResponse(), policyAnalysis.getResponse()));
 
-                    existingAnalysis.setResponse(policyAnalysis.getResponse());
-                    shouldUpdate = true;
-                }
-                if (!Objects.equals(existingAnalysis.details, policyAnalysis.getDetails())) {
-                    commentFactory.createComment(formatComment(AnalysisCommentField.DETAILS,
-                            existingAnalysis.getDetails(), policyAnalysis.getDetails()));
+                        existingAnalysis.setResponse(policyAnalysis.getResponse());
+                        shouldUpdate = true;
+                    }
+                    if (!Objects.equals(existingAnalysis.details, policyAnalysis.getDetails())) {
+                        commentFactory.createComment(formatComment(AnalysisCommentField.DETAILS,
+                                existingAnalysis.getDetails(), policyAnalysis.getDetails()));
 
-                    existingAnalysis.setDetails(policyAnalysis.getDetails());
-                    shouldUpdate = true;
-                }
-                if (existingAnalysis.getSuppressed() == null || (existingAnalysis.getSuppressed() != policyAnalysis.getSuppressed())) {
-                    commentFactory.createComment(formatComment(AnalysisCommentField.SUPPRESSED,
-                            existingAnalysis.getSuppressed(), policyAnalysis.getSuppressed()));
+                        existingAnalysis.setDetails(policyAnalysis.getDetails());
+                        shouldUpdate = true;
+                    }
+                    if (existingAnalysis.getSuppressed() == null || (existingAnalysis.getSuppressed() != policyAnalysis.getSuppressed())) {
+                        commentFactory.createComment(formatComment(AnalysisCommentField.SUPPRESSED,
+                                existingAnalysis.getSuppressed(), policyAnalysis.getSuppressed()));
 
-                    existingAnalysis.setSuppressed(policyAnalysis.getSuppressed());
-                    shouldUpdate = true;
-                    suppressionChange = true;
-                }
-                if (!Objects.equals(existingAnalysis.getSeverity(), policyAnalysis.getSeverity())) {
-                    commentFactory.createComment(formatComment(AnalysisCommentField.SEVERITY,
-                            existingAnalysis.getSeverity(), policyAnalysis.getSeverity()));
+                        existingAnalysis.setSuppressed(policyAnalysis.getSuppressed());
+                        shouldUpdate = true;
+                        suppressionChange = true;
+                    }
+                    if (!Objects.equals(existingAnalysis.getSeverity(), policyAnalysis.getSeverity())) {
+                        commentFactory.createComment(formatComment(AnalysisCommentField.SEVERITY,
+                                existingAnalysis.getSeverity(), policyAnalysis.getSeverity()));
 
-                    existingAnalysis.setSeverity(policyAnalysis.getSeverity());
-                    shouldUpdate = true;
-                }
-                if (!Objects.equals(existingAnalysis.getCvssV2Vector(), policyAnalysis.getCvssV2Vector())) {
-                    commentFactory.createComment(formatComment(AnalysisCommentField.CVSSV2_VECTOR,
-                            existingAnalysis.getCvssV2Vector(), policyAnalysis.getCvssV2Vector()));
+                        existingAnalysis.setSeverity(policyAnalysis.getSeverity());
+                        shouldUpdate = true;
+                    }
+                    if (!Objects.equals(existingAnalysis.getCvssV2Vector(), policyAnalysis.getCvssV2Vector())) {
+                        commentFactory.createComment(formatComment(AnalysisCommentField.CVSSV2_VECTOR,
+                                existingAnalysis.getCvssV2Vector(), policyAnalysis.getCvssV2Vector()));
 
-                    existingAnalysis.setCvssV2Vector(policyAnalysis.getCvssV2Vector());
-                    shouldUpdate = true;
-                }
-                if (!Objects.equals(existingAnalysis.getCvssV2Score(), policyAnalysis.getCvssV2Score())) {
-                    commentFactory.createComment(formatComment(AnalysisCommentField.CVSSV2_SCORE,
-                            existingAnalysis.getCvssV2Score(), policyAnalysis.getCvssV2Score()));
+                        existingAnalysis.setCvssV2Vector(policyAnalysis.getCvssV2Vector());
+                        shouldUpdate = true;
+                    }
+                    if (!Objects.equals(existingAnalysis.getCvssV2Score(), policyAnalysis.getCvssV2Score())) {
+                        commentFactory.createComment(formatComment(AnalysisCommentField.CVSSV2_SCORE,
+                                existingAnalysis.getCvssV2Score(), policyAnalysis.getCvssV2Score()));
 
-                    existingAnalysis.setCvssV2Score(policyAnalysis.getCvssV2Score());
-                    shouldUpdate = true;
-                }
-                if (!Objects.equals(existingAnalysis.getCvssV3Vector(), policyAnalysis.getCvssV3Vector())) {
-                    commentFactory.createComment(formatComment(AnalysisCommentField.CVSSV3_VECTOR,
-                            existingAnalysis.getCvssV3Vector(), policyAnalysis.getCvssV3Vector()));
+                        existingAnalysis.setCvssV2Score(policyAnalysis.getCvssV2Score());
+                        shouldUpdate = true;
+                    }
+                    if (!Objects.equals(existingAnalysis.getCvssV3Vector(), policyAnalysis.getCvssV3Vector())) {
+                        commentFactory.createComment(formatComment(AnalysisCommentField.CVSSV3_VECTOR,
+                                existingAnalysis.getCvssV3Vector(), policyAnalysis.getCvssV3Vector()));
 
-                    existingAnalysis.setCvssV3Vector(policyAnalysis.getCvssV3Vector());
-                    shouldUpdate = true;
-                }
-                if (!Objects.equals(existingAnalysis.getCvssV3Score(), policyAnalysis.getCvssV3Score())) {
-                    commentFactory.createComment(formatComment(AnalysisCommentField.CVSSV3_SCORE,
-                            existingAnalysis.getCvssV3Score(), policyAnalysis.getCvssV3Score()));
+                        existingAnalysis.setCvssV3Vector(policyAnalysis.getCvssV3Vector());
+                        shouldUpdate = true;
+                    }
+                    if (!Objects.equals(existingAnalysis.getCvssV3Score(), policyAnalysis.getCvssV3Score())) {
+                        commentFactory.createComment(formatComment(AnalysisCommentField.CVSSV3_SCORE,
+                                existingAnalysis.getCvssV3Score(), policyAnalysis.getCvssV3Score()));
 
-                    existingAnalysis.setCvssV3Score(policyAnalysis.getCvssV3Score());
-                    shouldUpdate = true;
-                }
-                if (!Objects.equals(existingAnalysis.getOwaspVector(), policyAnalysis.getOwaspVector())) {
-                    commentFactory.createComment(formatComment(AnalysisCommentField.OWASP_VECTOR,
-                            existingAnalysis.getOwaspVector(), policyAnalysis.getOwaspVector()));
+                        existingAnalysis.setCvssV3Score(policyAnalysis.getCvssV3Score());
+                        shouldUpdate = true;
+                    }
+                    if (!Objects.equals(existingAnalysis.getOwaspVector(), policyAnalysis.getOwaspVector())) {
+                        commentFactory.createComment(formatComment(AnalysisCommentField.OWASP_VECTOR,
+                                existingAnalysis.getOwaspVector(), policyAnalysis.getOwaspVector()));
 
-                    existingAnalysis.setOwaspVector(policyAnalysis.getCvssV2Vector());
-                    shouldUpdate = true;
-                }
-                if (!Objects.equals(existingAnalysis.getOwaspScore(), policyAnalysis.getOwaspScore())) {
-                    commentFactory.createComment(formatComment(AnalysisCommentField.OWASP_SCORE,
-                            existingAnalysis.getOwaspScore(), policyAnalysis.getOwaspScore()));
+                        existingAnalysis.setOwaspVector(policyAnalysis.getCvssV2Vector());
+                        shouldUpdate = true;
+                    }
+                    if (!Objects.equals(existingAnalysis.getOwaspScore(), policyAnalysis.getOwaspScore())) {
+                        commentFactory.createComment(formatComment(AnalysisCommentField.OWASP_SCORE,
+                                existingAnalysis.getOwaspScore(), policyAnalysis.getOwaspScore()));
 
-                    existingAnalysis.setOwaspScore(policyAnalysis.getOwaspScore());
-                    shouldUpdate = true;
-                }
-                if (shouldUpdate) {
-                    existingAnalysis.setVulnPolicyName(policy != null ? policy.getName() : null);
-                    analysesToCreateOrUpdate.add(existingAnalysis);
-                    analysisCommentsByVulnId.addAll(existingAnalysis.getVulnId(), commentFactory.getComments());
-                    maybeQueueProjectAuditChangeNotification(qm, component, vuln, existingAnalysis, analysisStateChange, suppressionChange);
+                        existingAnalysis.setOwaspScore(policyAnalysis.getOwaspScore());
+                        shouldUpdate = true;
+                    }
+                    if (shouldUpdate) {
+                        existingAnalysis.setVulnPolicyName(policy != null ? policy.getName() : null);
+                        analysesToCreateOrUpdate.add(existingAnalysis);
+                        analysisCommentsByFinding.addAll(findingKey, commentFactory.getComments());
+                        if (analysisStateChange || suppressionChange) {
+                            auditChanges.add(new ProjectAuditChange(component, vuln, existingAnalysis.getState(),
+                                    existingAnalysis.getSuppressed(), analysisStateChange, suppressionChange));
+                        }
+                    }
                 }
-            }
 
-            // If the finding was suppressed, do not report it as new.
-            if (Boolean.TRUE.equals(policyAnalysis.getSuppressed())) {
-                newFindingVulnIds.remove(vuln.getId());
+                // If the finding was suppressed, do not report it as new.
+                if (Boolean.TRUE.equals(policyAnalysis.getSuppressed())) {
+                    findings.newVulnIds.remove(vuln.getId());
+                }
             }
         }
 
@@ -630,39 +795,15 @@ public class VulnerabilityScanResultProcessor implements Processor<ScanKey, Scan
             // Comments for new analyses do not have an analysis ID set yet, as that ID was not known prior
             // to inserting the respective analysis record. Enrich comments with analysis IDs now that we know them.
             for (final CreatedAnalysis createdAnalysis : createdAnalyses) {
-                analysisCommentsByVulnId.computeIfPresent(createdAnalysis.vulnId(),
-                        (vulnId, comments) -> comments.stream()
+                analysisCommentsByFinding.computeIfPresent(new FindingKey(createdAnalysis.componentId(), createdAnalysis.vulnId()),
+                        (findingKey, comments) -> comments.stream()
                                 .map(comment -> new AnalysisComment(createdAnalysis.id(), comment.comment(), comment.commenter()))
                                 .toList());
             }
-            dao.createAnalysisComments(analysisCommentsByVulnId.values().stream().flatMap(Collection::stream).toList());
+            dao.createAnalysisComments(analysisCommentsByFinding.values().stream().flatMap(Collection::stream).toList());
         }
 
-        return vulnById.entrySet().stream()
-                .filter(entry -> newFindingVulnIds.contains(entry.getKey()))
-                .map(Map.Entry::getValue)
-                .toList();
-    }
-
-    private void maybeQueueProjectAuditChangeNotification(final QueryManager qm, final Component component,
-                                                          final Vulnerability vuln, final Analysis policyAnalysis,
-                                                          final boolean analysisStateChange, final boolean suppressionChange) {
-        if (!analysisStateChange && !suppressionChange) {
-            return;
-        }
-
-        withJdbiHandle(handle -> handle.attach(NotificationSubjectDao.class).getForProjectAuditChange(component.uuid(), vuln.getUuid(), policyAnalysis.state, policyAnalysis.suppressed))
-                .map(subject -> org.dependencytrack.proto.notification.v1.Notification.newBuilder()
-                        .setScope(SCOPE_PORTFOLIO)
-                        .setGroup(GROUP_PROJECT_AUDIT_CHANGE)
-                        .setLevel(LEVEL_INFORMATIONAL)
-                        .setTimestamp(Timestamps.now())
-                        .setTitle(generateTitle(policyAnalysis.getState(), policyAnalysis.getSuppressed(), analysisStateChange, suppressionChange))
-                        .setContent("An analysis decision was made to a finding affecting a project")
-                        .setSubject(Any.pack(subject))
-                        .build())
-                .map(KafkaEventConverter::convert)
-                .ifPresent(eventsToDispatch.get()::add);
+        return auditChanges;
     }
 
     private void maybeQueueResultProcessedEvent(final ScanKey scanKey, final ScanResult scanResult) {
@@ -691,53 +832,87 @@ public class VulnerabilityScanResultProcessor implements Processor<ScanKey, Scan
     }
 
     /**
-     * Send {@link Group#GROUP_NEW_VULNERABLE_DEPENDENCY} and {@link Group#GROUP_NEW_VULNERABILITY} notifications
-     * for a given {@link Component}, <em>if it was found to have at least one non-suppressed vulnerability</em>.
+     * Send {@link Group#GROUP_PROJECT_AUDIT_CHANGE} notifications for analyses changed by {@link VulnerabilityPolicy}s,
+     * as well as {@link Group#GROUP_NEW_VULNERABLE_DEPENDENCY} and {@link Group#GROUP_NEW_VULNERABILITY} notifications
+     * for {@link Component}s that were found to have at least one new, non-suppressed vulnerability.
      *
-     * @param qm             The {@link QueryManager} to use
-     * @param component      The {@link Component} to send notifications for
-     * @param isNewComponent Whether {@code component} is new
-     * @param analysisLevel  The {@link VulnerabilityAnalysisLevel}
-     * @param newVulns       Newly identified {@link Vulnerability}s
+     * @param componentFindings The {@link ComponentFindings} to send notifications for
+     * @param auditChanges      The {@link ProjectAuditChange}s to send notifications for
      */
-    private void maybeQueueNotifications(final QueryManager qm, final Component component, final boolean isNewComponent,
-                                         final VulnerabilityAnalysisLevel analysisLevel, final List<Vulnerability> newVulns) {
-        if (newVulns.isEmpty()) {
+    private void maybeQueueNotifications(final Collection<ComponentFindings> componentFindings,
+                                         final List<ProjectAuditChange> auditChanges) {
+        final List<ComponentFindings> findingsWithNewVulns = componentFindings.stream()
+                .filter(findings -> !findings.newVulnIds.isEmpty())
+                .toList();
+        if (auditChanges.isEmpty() && findingsWithNewVulns.isEmpty()) {
             return;
         }
 
-        final Timestamp notificationTimestamp = Timestamps.now();
         useJdbiHandle(handle -> {
             final var dao = handle.attach(NotificationSubjectDao.class);
 
-            if (isNewComponent) {
-                dao.getForNewVulnerableDependency(component.uuid())
-                        .map(subject -> org.dependencytrack.proto.notification.v1.Notification.newBuilder()
-                                .setScope(SCOPE_PORTFOLIO)
-                                .setGroup(GROUP_NEW_VULNERABLE_DEPENDENCY)
-                                .setLevel(LEVEL_INFORMATIONAL)
-                                .setTimestamp(notificationTimestamp)
-                                .setTitle(generateNotificationTitle(NotificationConstants.Title.NEW_VULNERABLE_DEPENDENCY, subject.getProject()))
-                                .setContent(generateNotificationContent(subject.getComponent(), subject.getVulnerabilitiesList()))
-                                .setSubject(Any.pack(subject))
-                                .build())
-                        .map(KafkaEventConverter::convert)
-                        .ifPresent(eventsToDispatch.get()::add);
+            for (final ProjectAuditChange auditChange : auditChanges) {
+                queueProjectAuditChangeNotification(dao, auditChange);
+            }
+
+            final Timestamp notificationTimestamp = Timestamps.now();
+            for (final ComponentFindings findings : findingsWithNewVulns) {
+                queueNewVulnerabilityNotifications(dao, findings, notificationTimestamp);
             }
+        });
+    }
+
+    private void queueProjectAuditChangeNotification(final NotificationSubjectDao dao, final ProjectAuditChange auditChange) {
+        dao.getForProjectAuditChange(auditChange.component().uuid(), auditChange.vuln().getUuid(), auditChange.state(), auditChange.suppressed())
+                .map(subject -> org.dependencytrack.proto.notification.v1.Notification.newBuilder()
+                        .setScope(SCOPE_PORTFOLIO)
+                        .setGroup(GROUP_PROJECT_AUDIT_CHANGE)
+                        .setLevel(LEVEL_INFORMATIONAL)
+                        .setTimestamp(Timestamps.now())
+                        .setTitle(generateTitle(auditChange.state(), auditChange.suppressed(),
+                                auditChange.analysisStateChange(), auditChange.suppressionChange()))
+                        .setContent("An analysis decision was made to a finding affecting a project")
+                        .setSubject(Any.pack(subject))
+                        .build())
+                .map(KafkaEventConverter::convert)
+                .ifPresent(eventsToDispatch.get()::add);
+    }
 
-            dao.getForNewVulnerabilities(component.uuid(), newVulns.stream().map(Vulnerability::getUuid).toList(), analysisLevel).stream()
+    private void queueNewVulnerabilityNotifications(final NotificationSubjectDao dao, final ComponentFindings findings,
+                                                    final Timestamp notificationTimestamp) {
+        final Component component = findings.component;
+
+        if (findings.isNewComponent) {
+            dao.getForNewVulnerableDependency(component.uuid())
                     .map(subject -> org.dependencytrack.proto.notification.v1.Notification.newBuilder()
                             .setScope(SCOPE_PORTFOLIO)
-                            .setGroup(GROUP_NEW_VULNERABILITY)
+                            .setGroup(GROUP_NEW_VULNERABLE_DEPENDENCY)
                             .setLevel(LEVEL_INFORMATIONAL)
                             .setTimestamp(notificationTimestamp)
-                            .setTitle(generateNotificationTitle(NotificationConstants.Title.NEW_VULNERABILITY, subject.getProject()))
-                            .setContent(generateNotificationContent(subject.getVulnerability()))
+                            .setTitle(generateNotificationTitle(NotificationConstants.Title.NEW_VULNERABLE_DEPENDENCY, subject.getProject()))
+                            .setContent(generateNotificationContent(subject.getComponent(), subject.getVulnerabilitiesList()))
                             .setSubject(Any.pack(subject))
                             .build())
                     .map(KafkaEventConverter::convert)
-                    .forEach(eventsToDispatch.get()::add);
-        });
+                    .ifPresent(eventsToDispatch.get()::add);
+        }
+
+        final List<UUID> newVulnUuids = findings.vulnById.values().stream()
+                .filter(vuln -> findings.newVulnIds.contains(vuln.getId()))
+                .map(Vulnerability::getUuid)
+                .toList();
+        dao.getForNewVulnerabilities(component.uuid(), newVulnUuids, findings.analysisLevel).stream()
+                .map(subject -> org.dependencytrack.proto.notification.v1.Notification.newBuilder()
+                        .setScope(SCOPE_PORTFOLIO)
+                        .setGroup(GROUP_NEW_VULNERABILITY)
+                        .setLevel(LEVEL_INFORMATIONAL)
+                        .setTimestamp(notificationTimestamp)
+                        .setTitle(generateNotificationTitle(NotificationConstants.Title.NEW_VULNERABILITY, subject.getProject()))
+                        .setContent(generateNotificationContent(subject.getVulnerability()))
+                        .setSubject(Any.pack(subject))
+                        .build())
+                .map(KafkaEventConverter::convert)
+                .forEach(eventsToDispatch.get()::add);
     }
 
     private boolean canUpdateVulnerability(final Vulnerability vuln, final Scanner scanner) {
@@ -784,10 +959,28 @@ public class VulnerabilityScanResultProcessor implements Processor<ScanKey, Scan
                 .orElse(false);
     }
 
+    private static Set<UUID> determineNewSiblingUuids(final ConsumerRecord<?, ?> record) {
+        return KafkaUtil.getEventHeader(record.headers(), KafkaEventHeaders.NEW_SIBLING_COMPONENT_UUIDS)
+                .map(value -> Arrays.stream(value.split(","))
+                        .map(VulnerabilityScanResultProcessor::parseUuid)
+                        .filter(Objects::nonNull)
+                        .collect(Collectors.toSet()))
+                .orElse(Collections.emptySet());
+    }
+
     private static String prettyPrint(final ScanKey scanKey) {
         return "%s/%s".formatted(scanKey.getScanToken(), scanKey.getComponentUuid());
     }
 
+
+    private static UUID parseUuid(final String uuid) {
+        try {
+            return UUID.fromString(uuid);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
     public interface Dao {
 
         @SqlQuery("""
@@ -801,30 +994,128 @@ public class VulnerabilityScanResultProcessor implements Processor<ScanKey, Scan
                 INNER JOIN
                   "PROJECT" AS "P" ON "P"."ID" = "C"."PROJECT_ID"
                 WHERE
-                  "C"."UUID" = (:uuid)::TEXT
+                  "C"."UUID" = ANY((:uuids)::TEXT[])
                 """)
         @RegisterConstructorMapper(Component.class)
-        Component getComponentByUuid(final UUID uuid);
+        List<Component> getComponentsByUuids(final Collection<UUID> uuids);
+
+        default List<ComponentSibling> getSiblingComponents(final Collection<FanOutTarget> targets, final String portfolioScanToken) {
+            final var scanTokens = new ArrayList<String>(targets.size());
+            final var componentIds = new ArrayList<Long>(targets.size());
+            for (final FanOutTarget target : targets) {
+                scanTokens.add(target.scanToken());
+                componentIds.add(target.componentId());
+            }
 
-        @SqlBatch("""
+            return getSiblingComponents(scanTokens, componentIds, portfolioScanToken);
+        }
+
+        /**
+         * Fetch components sharing the analysis identity of the given representative components.
+         * <p>
+         * Must be kept consistent with the identity used to select representatives in
+         * {@link org.dependencytrack.persistence.jdbi.ComponentDao#getVulnAnalysisRepresentativesPage}.
+         */
+        @SqlQuery("""
+                SELECT "TARGET"."SCAN_TOKEN" AS "scanToken"
+                     , "REP"."ID" AS "representativeId"
+                     , "C"."ID" AS "id"
+                     , "C"."UUID" AS "uuid"
+                     , "P"."ID" AS "projectId"
+                     , "P"."UUID" AS "projectUuid"
+                  FROM UNNEST((:scanTokens)::TEXT[], (:componentIds)::BIGINT[]) AS "TARGET"("SCAN_TOKEN", "COMPONENT_ID")
+                 INNER JOIN "COMPONENT" AS "REP"
+                    ON "REP"."ID" = "TARGET"."COMPONENT_ID"
+                 INNER JOIN "COMPONENT" AS "C"
+                    ON "C"."ID" != "REP"."ID"
+                   AND COALESCE("C"."INTERNAL", FALSE) = COALESCE("REP"."INTERNAL", FALSE)
+                   AND (("REP"."PURLCOORDINATES" IS NOT NULL
+                         AND "C"."PURLCOORDINATES" = "REP"."PURLCOORDINATES"
+                         AND "C"."CPE" IS NOT DISTINCT FROM "REP"."CPE")
+                     OR ("REP"."PURLCOORDINATES" IS NULL AND "REP"."PURL" IS NULL
+                         AND "C"."PURLCOORDINATES" IS NULL AND "C"."PURL" IS NULL
+                         AND "C"."CPE" = "REP"."CPE"))
+                 INNER JOIN "PROJECT" AS "P"
+                    ON "P"."ID" = "C"."PROJECT_ID"
+                  LEFT JOIN "VULNERABILITYSCAN" AS "VS"
+                    ON "VS"."TOKEN" = "TARGET"."SCAN_TOKEN"
+                 WHERE ("TARGET"."SCAN_TOKEN" = :portfolioScanToken AND "P"."ACTIVE")
+                    OR ("VS"."TARGET_TYPE" = 'PROJECT' AND "C"."PROJECT_ID" = "REP"."PROJECT_ID")
+                """)
+        @RegisterConstructorMapper(ComponentSibling.class)
+        List<ComponentSibling> getSiblingComponents(final List<String> scanTokens, final List<Long> componentIds,
+                                                    final String portfolioScanToken);
+
+        default List<FindingKey> createFindings(final Collection<FindingKey> findingKeys) {
+            final var componentIds = new ArrayList<Long>(findingKeys.size());
+            final var vulnIds = new ArrayList<Long>(findingKeys.size());
+            for (final FindingKey findingKey : findingKeys) {
+                componentIds.add(findingKey.componentId());
+                vulnIds.add(findingKey.vulnId());
+            }
+
+            return createFindings(componentIds, vulnIds);
+        }
+
+        @SqlQuery("""
                 INSERT INTO "COMPONENTS_VULNERABILITIES"
                   ("COMPONENT_ID", "VULNERABILITY_ID")
-                VALUES
-                  (:component.id, :vuln.id)
+                SELECT
+                  *
+                FROM
+                  UNNEST((:componentIds)::BIGINT[], (:vulnIds)::BIGINT[])
                 ON CONFLICT DO NOTHING
-                RETURNING "VULNERABILITY_ID"
+                RETURNING
+                  "COMPONENT_ID"     AS "componentId",
+                  "VULNERABILITY_ID" AS "vulnId"
                 """)
-        @GetGeneratedKeys("VULNERABILITY_ID")
-        List<Long> createFindings(@BindMethods("component") final Component component, @BindBean("vuln") final Iterable<Vulnerability> vuln);
+        @RegisterConstructorMapper(FindingKey.class)
+        List<FindingKey> createFindings(final List<Long> componentIds, final List<Long> vulnIds);
 
-        @SqlBatch("""
+        default void createFindingAttributions(final Collection<FindingAttribution> attributions) {
+            if (attributions.isEmpty()) {
+                return;
+            }
+
+            final var vulnIds = new ArrayList<Long>(attributions.size());
+            final var componentIds = new ArrayList<Long>(attributions.size());
+            final var projectIds = new ArrayList<Long>(attributions.size());
+            final var analyzers = new ArrayList<String>(attributions.size());
+            final var uuids = new ArrayList<String>(attributions.size());
+            for (final FindingAttribution attribution : attributions) {
+                vulnIds.add(attribution.vulnId());
+                componentIds.add(attribution.componentId());
+                projectIds.add(attribution.projectId());
+                analyzers.add(attribution.analyzer());
+                uuids.add(attribution.uuid().toString());
+            }
+
+            createFindingAttributions(vulnIds, componentIds, projectIds, analyzers, uuids);
+        }
+
+        @SqlUpdate("""
                 INSERT INTO "FINDINGATTRIBUTION"
                   ("VULNERABILITY_ID", "COMPONENT_ID", "PROJECT_ID", "ANALYZERIDENTITY", "ATTRIBUTED_ON", "UUID")
-                VALUES
-                  (:vulnId, :componentId, :projectId, :analyzer, NOW(), (:uuid)::TEXT)
+                SELECT
+                  "VULNERABILITY_ID", "COMPONENT_ID", "PROJECT_ID", "ANALYZERIDENTITY", NOW(), "UUID"
+                FROM
+                  UNNEST((:vulnIds)::BIGINT[], (:componentIds)::BIGINT[], (:projectIds)::BIGINT[], (:analyzers)::TEXT[], (:uuids)::TEXT[])
+                    AS "ATTRIBUTION"("VULNERABILITY_ID", "COMPONENT_ID", "PROJECT_ID", "ANALYZERIDENTITY", "UUID")
                 ON CONFLICT ("VULNERABILITY_ID", "COMPONENT_ID") DO NOTHING
                 """)
-        void createFindingAttributions(@BindMethods final Iterable<FindingAttribution> attribution);
+        void createFindingAttributions(final List<Long> vulnIds, final List<Long> componentIds, final List<Long> projectIds,
+                                       final List<String> analyzers, final List<String> uuids);
+
+        default List<Analysis> getAnalyses(final Collection<FindingKey> findingKeys) {
+            final var componentIds = new ArrayList<Long>(findingKeys.size());
+            final var vulnIds = new ArrayList<Long>(findingKeys.size());
+            for (final FindingKey findingKey : findingKeys) {
+                componentIds.add(findingKey.componentId());
+                vulnIds.add(findingKey.vulnId());
+            }
+
+            return getAnalyses(componentIds, vulnIds);
+        }
 
         @SqlQuery("""
                 SELECT
@@ -847,55 +1138,105 @@ public class VulnerabilityScanResultProcessor implements Processor<ScanKey, Scan
                   "A"."OWASPSCORE"    AS "owaspScore",
                   "VP"."NAME"         AS "vulnPolicyName"
                 FROM
-                  "VULNERABILITY" AS "V"
+                  UNNEST((:componentIds)::BIGINT[], (:vulnIds)::BIGINT[]) AS "FINDING"("COMPONENT_ID", "VULNERABILITY_ID")
                 INNER JOIN
-                  "ANALYSIS" AS "A" ON "A"."VULNERABILITY_ID" = "V"."ID"
+                  "ANALYSIS" AS "A" ON "A"."COMPONENT_ID" = "FINDING"."COMPONENT_ID"
+                    AND "A"."VULNERABILITY_ID" = "FINDING"."VULNERABILITY_ID"
+                INNER JOIN
+                  "VULNERABILITY" AS "V" ON "V"."ID" = "A"."VULNERABILITY_ID"
                 LEFT JOIN
                   "VULNERABILITY_POLICY" AS "VP" ON "VP"."ID" = "A"."VULNERABILITY_POLICY_ID"
-                WHERE
-                  "A"."COMPONENT_ID" = :component.id
-                  AND "V"."UUID" = ANY((:vulnUuids)::TEXT[])
                 """)
         @RegisterBeanMapper(Analysis.class)
-        List<Analysis> getAnalyses(@BindMethods("component") final Component component, final Iterable<UUID> vulnUuids);
+        List<Analysis> getAnalyses(final List<Long> componentIds, final List<Long> vulnIds);
+
+        default List<CreatedAnalysis> createOrUpdateAnalyses(final Collection<Analysis> analyses) {
+            final var vulnIds = new ArrayList<Long>(analyses.size());
+            final var componentIds = new ArrayList<Long>(analyses.size());
+            final var projectIds = new ArrayList<Long>(analyses.size());
+            final var states = new ArrayList<String>(analyses.size());
+            final var justifications = new ArrayList<String>(analyses.size());
+            final var responses = new ArrayList<String>(analyses.size());
+            final var details = new ArrayList<String>(analyses.size());
+            final var suppressed = new ArrayList<Boolean>(analyses.size());
+            final var severities = new ArrayList<String>(analyses.size());
+            final var cvssV2Vectors = new ArrayList<String>(analyses.size());
+            final var cvssV2Scores = new ArrayList<Double>(analyses.size());
+            final var cvssV3Vectors = new ArrayList<String>(analyses.size());
+            final var cvssV3Scores = new ArrayList<Double>(analyses.size());
+            final var owaspVectors = new ArrayList<String>(analyses.size());
+            final var owaspScores = new ArrayList<Double>(analyses.size());
+            final var vulnPolicyNames = new ArrayList<String>(analyses.size());
+            for (final Analysis analysis : analyses) {
+                vulnIds.add(analysis.getVulnId());
+                componentIds.add(analysis.getComponentId());
+                projectIds.add(analysis.getProjectId());
+                states.add(analysis.getState() != null ? analysis.getState().name() : null);
+                justifications.add(analysis.getJustification() != null ? analysis.getJustification().name() : null);
+                responses.add(analysis.getResponse() != null ? analysis.getResponse().name() : null);
+                details.add(analysis.getDetails());
+                suppressed.add(analysis.getSuppressed());
+                severities.add(analysis.getSeverity() != null ? analysis.getSeverity().name() : null);
+                cvssV2Vectors.add(analysis.getCvssV2Vector());
+                cvssV2Scores.add(analysis.getCvssV2Score());
+                cvssV3Vectors.add(analysis.getCvssV3Vector());
+                cvssV3Scores.add(analysis.getCvssV3Score());
+                owaspVectors.add(analysis.getOwaspVector());
+                owaspScores.add(analysis.getOwaspScore());
+                vulnPolicyNames.add(analysis.getVulnPolicyName());
+            }
 
-        @SqlBatch("""
-                WITH "CTE_VULN_POLICY" AS (
-                  SELECT
-                    "ID"
-                  FROM
-                    "VULNERABILITY_POLICY"
-                  WHERE
-                    "NAME" = :vulnPolicyName
-                )
+            return createOrUpdateAnalyses(vulnIds, componentIds, projectIds, states, justifications, responses, details,
+                    suppressed, severities, cvssV2Vectors, cvssV2Scores, cvssV3Vectors, cvssV3Scores, owaspVectors,
+                    owaspScores, vulnPolicyNames);
+        }
+
+        @SqlQuery("""
                 INSERT INTO "ANALYSIS"
                   ("VULNERABILITY_ID", "COMPONENT_ID", "PROJECT_ID", "STATE", "JUSTIFICATION", "RESPONSE", "DETAILS",
                    "SUPPRESSED", "SEVERITY", "CVSSV2VECTOR", "CVSSV2SCORE", "CVSSV3VECTOR", "CVSSV3SCORE", "OWASPVECTOR",
                    "OWASPSCORE", "VULNERABILITY_POLICY_ID")
-                VALUES
-                  (:vulnId, :componentId, :projectId, :state, :justification, :response, :details, :suppressed,
-                   :severity, :cvssV2Vector, :cvssV2Score, :cvssV3Vector, :cvssV3Score, :owaspVector, :owaspScore,
-                   (SELECT "ID" FROM "CTE_VULN_POLICY"))
+                SELECT
+                  "VULNERABILITY_ID", "COMPONENT_ID", "PROJECT_ID", "STATE", "JUSTIFICATION", "RESPONSE", "DETAILS",
+                  "SUPPRESSED", "SEVERITY", "CVSSV2VECTOR", "CVSSV2SCORE", "CVSSV3VECTOR", "CVSSV3SCORE", "OWASPVECTOR",
+                  "OWASPSCORE", (SELECT "ID" FROM "VULNERABILITY_POLICY" WHERE "NAME" = "NEW_ANALYSIS"."VULN_POLICY_NAME")
+                FROM
+                  UNNEST((:vulnIds)::BIGINT[], (:componentIds)::BIGINT[], (:projectIds)::BIGINT[], (:states)::TEXT[],
+                         (:justifications)::TEXT[], (:responses)::TEXT[], (:details)::TEXT[], (:suppressed)::BOOLEAN[],
+                         (:severities)::TEXT[], (:cvssV2Vectors)::TEXT[], (:cvssV2Scores)::NUMERIC[], (:cvssV3Vectors)::TEXT[],
+                         (:cvssV3Scores)::NUMERIC[], (:owaspVectors)::TEXT[], (:owaspScores)::NUMERIC[], (:vulnPolicyNames)::TEXT[])
+                    AS "NEW_ANALYSIS"("VULNERABILITY_ID", "COMPONENT_ID", "PROJECT_ID", "STATE", "JUSTIFICATION", "RESPONSE",
+                                      "DETAILS", "SUPPRESSED", "SEVERITY", "CVSSV2VECTOR", "CVSSV2SCORE", "CVSSV3VECTOR",
+                                      "CVSSV3SCORE", "OWASPVECTOR", "OWASPSCORE", "VULN_POLICY_NAME")
                 ON CONFLICT ("VULNERABILITY_ID", "COMPONENT_ID", "PROJECT_ID") DO UPDATE
                   SET
-                    "STATE"         = :state,
-                    "JUSTIFICATION" = :justification,
-                    "RESPONSE"      = :response,
-                    "DETAILS"       = :details,
-                    "SUPPRESSED"    = :suppressed,
-                    "SEVERITY"      = :severity,
-                    "CVSSV2VECTOR"  = :cvssV2Vector,
-                    "CVSSV2SCORE"   = :cvssV2Score,
-                    "CVSSV3VECTOR"  = :cvssV3Vector,
-                    "CVSSV3SCORE"   = :cvssV3Score,
-                    "OWASPVECTOR"   = :owaspVector,
-                    "OWASPSCORE"    = :owaspScore,
-                    "VULNERABILITY_POLICY_ID" = (SELECT "ID" FROM "CTE_VULN_POLICY")
-                RETURNING "ID", "VULNERABILITY_ID"
+                    "STATE"         = EXCLUDED."STATE",
+                    "JUSTIFICATION" = EXCLUDED."JUSTIFICATION",
+                    "RESPONSE"      = EXCLUDED."RESPONSE",
+                    "DETAILS"       = EXCLUDED."DETAILS",
+                    "SUPPRESSED"    = EXCLUDED."SUPPRESSED",
+                    "SEVERITY"      = EXCLUDED."SEVERITY",
+                    "CVSSV2VECTOR"  = EXCLUDED."CVSSV2VECTOR",
+                    "CVSSV2SCORE"   = EXCLUDED."CVSSV2SCORE",
+                    "CVSSV3VECTOR"  = EXCLUDED."CVSSV3VECTOR",
+                    "CVSSV3SCORE"   = EXCLUDED."CVSSV3SCORE",
+                    "OWASPVECTOR"   = EXCLUDED."OWASPVECTOR",
+                    "OWASPSCORE"    = EXCLUDED."OWASPSCORE",
+                    "VULNERABILITY_POLICY_ID" = EXCLUDED."VULNERABILITY_POLICY_ID"
+                RETURNING
+                  "ID"               AS "id",
+                  "COMPONENT_ID"     AS "componentId",
+                  "VULNERABILITY_ID" AS "vulnId"
                 """)
-        @GetGeneratedKeys({"ID", "VULNERABILITY_ID"})
         @RegisterConstructorMapper(CreatedAnalysis.class)
-        List<CreatedAnalysis> createOrUpdateAnalyses(@BindBean final Iterable<Analysis> analysis);
+        List<CreatedAnalysis> createOrUpdateAnalyses(final List<Long> vulnIds, final List<Long> componentIds, final List<Long> projectIds,
+                                                     final List<String> states, final List<String> justifications,
+                                                     final List<String> responses, final List<String> details,
+                                                     final List<Boolean> suppressed, final List<String> severities,
+                                                     final List<String> cvssV2Vectors, final List<Double> cvssV2Scores,
+                                                     final List<String> cvssV3Vectors, final List<Double> cvssV3Scores,
+                                                     final List<String> owaspVectors, final List<Double> owaspScores,
+                                                     final List<String> vulnPolicyNames);
 
         @SqlBatch("""
                 INSERT INTO "ANALYSISCOMMENT"
@@ -1168,7 +1509,7 @@ public class VulnerabilityScanResultProcessor implements Processor<ScanKey, Scan
 
     }
 
-    public record CreatedAnalysis(long id, @ColumnName("VULNERABILITY_ID") long vulnId) {
+    public record CreatedAnalysis(long id, long componentId, long vulnId) {
     }
 
     public record AnalysisComment(Long analysisId, String comment, String commenter) {
@@ -1227,7 +1568,55 @@ public class VulnerabilityScanResultProcessor implements Processor<ScanKey, Scan
     public record Component(long id, UUID uuid, long projectId, UUID projectUuid) {
     }
 
+    public record FanOutTarget(String scanToken, long componentId) {
+    }
+
+    public record ComponentSibling(String scanToken, long representativeId, long id, UUID uuid, long projectId, UUID projectUuid) {
+    }
+
     public record FindingAttribution(long vulnId, long componentId, long projectId, String analyzer, UUID uuid) {
     }
 
+    public record FindingKey(long componentId, long vulnId) {
+    }
+
+    private record SuccessfulScannerResult(ScanKey scanKey, Component component, ScannerResult scannerResult,
+                                           VulnerabilityAnalysisLevel analysisLevel, boolean isNewComponent,
+                                           Set<UUID> newSiblingUuids) {
+    }
+
+    private record ReportedVulnerability(Scanner scanner, String source, String vulnId) {
+    }
+
+    private record ProjectAuditChange(Component component, Vulnerability vuln, AnalysisState state, boolean suppressed,
+                                      boolean analysisStateChange, boolean suppressionChange) {
+    }
+
+    /**
+     * {@link Vulnerability}s reported for a {@link Component} across all {@link ScannerResult}s of a batch.
+     */
+    private static final class ComponentFindings {
+
+        private final Component component;
+        private final VulnerabilityAnalysisLevel analysisLevel;
+        private final Map<Long, Vulnerability> vulnById = new LinkedHashMap<>();
+        private final Map<Long, Scanner> scannerByVulnId = new HashMap<>();
+        private final Set<Long> newVulnIds = new HashSet<>();
+        private Map<UUID, VulnerabilityPolicy> policiesByVulnUuid = Collections.emptyMap();
+        private boolean isNewComponent;
+
+        private ComponentFindings(final Component component, final VulnerabilityAnalysisLevel analysisLevel) {
+            this.component = component;
+            this.analysisLevel = analysisLevel;
+        }
+
+        private void addVulnerability(final Vulnerability vuln, final Scanner scanner) {
+            vulnById.putIfAbsent(vuln.getId(), vuln);
+
+            // New findings are attributed to the scanner that reported them first.
+            scannerByVulnId.putIfAbsent(vuln.getId(), scanner);
+        }
+
+    }
+
 }
@@ -18,12 +18,18 @@
  */
 package org.dependencytrack.metrics;
 
+import alpine.Config;
 import org.dependencytrack.model.Component;
 import org.dependencytrack.model.Project;
 import org.dependencytrack.model.ProjectMetrics;
+import org.dependencytrack.persistence.jdbi.DirtyProjectMetricsDao;
+import org.jdbi.v3.core.Handle;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
 
+import static org.dependencytrack.common.ConfigKey.METRICS_INCREMENTAL_ENABLED;
 import static org.dependencytrack.persistence.jdbi.JdbiFactory.useJdbiHandle;
 
 /**
@@ -87,4 +93,64 @@ public final class Metrics {
                 .invoke());
     }
 
+    /**
+     * Mark metrics of the given {@link Project}s as dirty, such that they are updated
+     * by the next {@link org.dependencytrack.event.DirtyProjectMetricsUpdateEvent}.
+     * <p>
+     * Does nothing when incremental metrics are disabled.
+     *
+     * @param handle     The {@link Handle} to use, allowing the mark to be recorded
+     *                   in the same transaction as the change that caused it
+     * @param projectIds IDs of the {@link Project}s to mark as dirty
+     * @since 5.6.0
+     */
+    public static void markProjectsDirty(final Handle handle, final Collection<Long> projectIds) {
+        if (projectIds.isEmpty() || !isIncrementalUpdateEnabled()) {
+            return;
+        }
+
+        handle.attach(DirtyProjectMetricsDao.class).markDirty(projectIds);
+    }
+
+    /**
+     * Mark metrics of all {@link Project}s with findings of the given vulnerabilities as dirty.
+     * <p>
+     * Does nothing when incremental metrics are disabled.
+     *
+     * @param handle  The {@link Handle} to use
+     * @param vulnIds IDs of the {@link org.dependencytrack.model.Vulnerability}s whose findings changed
+     * @see #markProjectsDirty(Handle, Collection)
+     * @since 5.6.0
+     */
+    public static void markProjectsDirtyByVulnerabilities(final Handle handle, final Collection<Long> vulnIds) {
+        if (vulnIds.isEmpty() || !isIncrementalUpdateEnabled()) {
+            return;
+        }
+
+        handle.attach(DirtyProjectMetricsDao.class).markDirtyByVulnerabilities(vulnIds);
+    }
+
+    /**
+     * Mark metrics of a given {@link Project} as dirty.
+     *
+     * @param projectId ID of the {@link Project} to mark as dirty
+     * @see #markProjectsDirty(Handle, Collection)
+     * @since 5.6.0
+     */
+    public static void markProjectDirty(final long projectId) {
+        if (!isIncrementalUpdateEnabled()) {
+            return;
+        }
+
+        useJdbiHandle(handle -> markProjectsDirty(handle, List.of(projectId)));
+    }
+
+    /**
+     * @return {@code true} when metrics are maintained incrementally, otherwise {@code false}
+     * @since 5.6.0
+     */
+    public static boolean isIncrementalUpdateEnabled() {
+        return Config.getInstance().getPropertyAsBoolean(METRICS_INCREMENTAL_ENABLED);
+    }
+
 }
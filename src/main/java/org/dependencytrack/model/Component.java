@@ -370,6 +370,15 @@ public class Component implements Serializable {
     @Column(name = "LAST_RISKSCORE", allowsNull = "true") // New column, must allow nulls on existing databases))
     private Double lastInheritedRiskScore;
 
+    /**
+     * Fingerprint of the component's BOM-supplied data, as computed by
+     * {@link org.dependencytrack.util.ComponentFingerprintUtil#computeFingerprint(Component)}.
+     */
+    @Persistent
+    @Column(name = "BOM_FINGERPRINT", jdbcType = "VARCHAR", length = 64, allowsNull = "true")
+    @JsonIgnore
+    private String bomFingerprint;
+
     /**
      * Sticky notes
      */
@@ -391,6 +400,7 @@ public class Component implements Serializable {
 
     private transient ComponentMetaInformation componentMetaInformation;
     private transient boolean isNew;
+    private transient boolean isUnchanged;
     private transient int usedBy;
     private transient Set<String> dependencyGraph;
     private transient boolean expandDependencyGraph;
@@ -820,6 +830,28 @@ public class Component implements Serializable {
         isNew = aNew;
     }
 
+    @JsonIgnore
+    @Schema(hidden = true)
+    public boolean isUnchanged() {
+        return isUnchanged;
+    }
+
+    @JsonIgnore
+    public void setUnchanged(final boolean unchanged) {
+        isUnchanged = unchanged;
+    }
+
+    @JsonIgnore
+    @Schema(hidden = true)
+    public String getBomFingerprint() {
+        return bomFingerprint;
+    }
+
+    @JsonIgnore
+    public void setBomFingerprint(final String bomFingerprint) {
+        this.bomFingerprint = bomFingerprint;
+    }
+
     public Double getLastInheritedRiskScore() {
         return lastInheritedRiskScore;
     }
@@ -102,7 +102,27 @@ public class Finding implements Serializable {
             """;
 
     // language=SQL
-    public static final String QUERY_ALL_FINDINGS = """
+    private static final String QUERY_ALL_FINDINGS_FROM = """
+              FROM "COMPONENT"
+             INNER JOIN "COMPONENTS_VULNERABILITIES"
+                ON "COMPONENT"."ID" = "COMPONENTS_VULNERABILITIES"."COMPONENT_ID"
+             INNER JOIN "VULNERABILITY"
+                ON "COMPONENTS_VULNERABILITIES"."VULNERABILITY_ID" = "VULNERABILITY"."ID"
+             LEFT JOIN "EPSS"
+                ON "VULNERABILITY"."VULNID" = "EPSS"."CVE"
+             INNER JOIN "FINDINGATTRIBUTION"
+                ON "COMPONENT"."ID" = "FINDINGATTRIBUTION"."COMPONENT_ID"
+               AND "VULNERABILITY"."ID" = "FINDINGATTRIBUTION"."VULNERABILITY_ID"
+              LEFT JOIN "ANALYSIS"
+                ON "COMPONENT"."ID" = "ANALYSIS"."COMPONENT_ID"
+               AND "VULNERABILITY"."ID" = "ANALYSIS"."VULNERABILITY_ID"
+               AND "COMPONENT"."PROJECT_ID" = "ANALYSIS"."PROJECT_ID"
+             INNER JOIN "PROJECT"
+                ON "COMPONENT"."PROJECT_ID" = "PROJECT"."ID"
+            """;
+
+    // language=SQL
+    private static final String QUERY_ALL_FINDINGS_SELECT = """
             SELECT "COMPONENT"."UUID"
                  , "COMPONENT"."NAME"
                  , "COMPONENT"."GROUP"
@@ -135,12 +155,26 @@ public class Finding implements Serializable {
                  , "PROJECT"."UUID"
                  , "PROJECT"."NAME"
                  , "PROJECT"."VERSION"
-              FROM "COMPONENT"
-             INNER JOIN "COMPONENTS_VULNERABILITIES"
-                ON "COMPONENT"."ID" = "COMPONENTS_VULNERABILITIES"."COMPONENT_ID"
+                 , "COMPONENT"."ID"
+                 , "VULNERABILITY"."ID"
+            """;
+
+    // language=SQL
+    public static final String QUERY_ALL_FINDINGS = QUERY_ALL_FINDINGS_SELECT + QUERY_ALL_FINDINGS_FROM;
+
+    /**
+     * Variant of {@link #QUERY_ALL_FINDINGS} that selects the findings identified by a query against
+     * the {@code FINDING_READ_MODEL} table, which must be substituted for the {@code %s} placeholder.
+     * Only the findings returned by that query are joined with their component, vulnerability, and project.
+     */
+    // language=SQL
+    public static final String QUERY_ALL_FINDINGS_READ_MODEL = QUERY_ALL_FINDINGS_SELECT + """
+              FROM (%s) AS "FINDING_READ_MODEL"
+             INNER JOIN "COMPONENT"
+                ON "COMPONENT"."ID" = "FINDING_READ_MODEL"."COMPONENT_ID"
              INNER JOIN "VULNERABILITY"
-                ON "COMPONENTS_VULNERABILITIES"."VULNERABILITY_ID" = "VULNERABILITY"."ID"
-             LEFT JOIN "EPSS"
+                ON "VULNERABILITY"."ID" = "FINDING_READ_MODEL"."VULNERABILITY_ID"
+              LEFT JOIN "EPSS"
                 ON "VULNERABILITY"."VULNID" = "EPSS"."CVE"
              INNER JOIN "FINDINGATTRIBUTION"
                 ON "COMPONENT"."ID" = "FINDINGATTRIBUTION"."COMPONENT_ID"
@@ -150,9 +184,14 @@ public class Finding implements Serializable {
                AND "VULNERABILITY"."ID" = "ANALYSIS"."VULNERABILITY_ID"
                AND "COMPONENT"."PROJECT_ID" = "ANALYSIS"."PROJECT_ID"
              INNER JOIN "PROJECT"
-                ON "COMPONENT"."PROJECT_ID" = "PROJECT"."ID"
+                ON "PROJECT"."ID" = "FINDING_READ_MODEL"."PROJECT_ID"
             """;
 
+    // language=SQL
+    public static final String QUERY_COUNT_ALL_FINDINGS = """
+            SELECT COUNT(*)
+            """ + QUERY_ALL_FINDINGS_FROM;
+
     private final UUID project;
     private final Map<String, Object> component = new LinkedHashMap<>();
     private final Map<String, Object> vulnerability = new LinkedHashMap<>();
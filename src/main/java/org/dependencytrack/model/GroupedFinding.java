@@ -69,6 +69,27 @@ public class GroupedFinding implements Serializable {
                     ON ("COMPONENT"."PROJECT_ID" = "PROJECT"."ID")
             """;
 
+    /**
+     * Variant of {@link #QUERY} that operates on the {@code FINDING_READ_MODEL} table only.
+     */
+    // language=SQL
+    public static final String QUERY_READ_MODEL = """
+            SELECT "FINDING_READ_MODEL"."VULNERABILITY_SOURCE"
+                , "FINDING_READ_MODEL"."VULNERABILITY_VULNID"
+                , "FINDING_READ_MODEL"."VULNERABILITY_TITLE"
+                , "FINDING_READ_MODEL"."VULNERABILITY_SEVERITY"
+                , "FINDING_READ_MODEL"."VULNERABILITY_CVSSV2BASESCORE"
+                , "FINDING_READ_MODEL"."VULNERABILITY_CVSSV3BASESCORE"
+                , "FINDING_READ_MODEL"."VULNERABILITY_OWASPRRLIKELIHOODSCORE"
+                , "FINDING_READ_MODEL"."VULNERABILITY_OWASPRRTECHNICALIMPACTSCORE"
+                , "FINDING_READ_MODEL"."VULNERABILITY_OWASPRRBUSINESSIMPACTSCORE"
+                , "FINDING_READ_MODEL"."FINDINGATTRIBUTION_ANALYZERIDENTITY"
+                , "FINDING_READ_MODEL"."VULNERABILITY_PUBLISHED"
+                , "FINDING_READ_MODEL"."VULNERABILITY_CWES"
+                , COUNT(DISTINCT "FINDING_READ_MODEL"."PROJECT_ID") AS "AFFECTED_PROJECT_COUNT"
+            FROM "FINDING_READ_MODEL"
+            """;
+
     private Map<String, Object> vulnerability = new LinkedHashMap<>();
     private Map<String, Object> attribution = new LinkedHashMap<>();
 
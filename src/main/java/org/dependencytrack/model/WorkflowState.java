@@ -77,6 +77,14 @@ public class WorkflowState implements Serializable {
     @Column(name = "FAILURE_REASON", jdbcType = "CLOB", allowsNull = "true")
     private String failureReason;
 
+    @Persistent
+    @Column(name = "TOTAL_ITEMS", allowsNull = "true")
+    private Integer totalItems;
+
+    @Persistent
+    @Column(name = "COMPLETED_ITEMS", allowsNull = "true")
+    private Integer completedItems;
+
     public long getId() {
         return id;
     }
@@ -140,4 +148,28 @@ public class WorkflowState implements Serializable {
     public void setFailureReason(String failureReason) {
         this.failureReason = failureReason;
     }
+
+    /**
+     * @return Number of items the step has to process, or {@code null} when the step does not report progress
+     * @since 5.6.0
+     */
+    public Integer getTotalItems() {
+        return totalItems;
+    }
+
+    public void setTotalItems(Integer totalItems) {
+        this.totalItems = totalItems;
+    }
+
+    /**
+     * @return Number of items the step has processed, or {@code null} when the step does not report progress
+     * @since 5.6.0
+     */
+    public Integer getCompletedItems() {
+        return completedItems;
+    }
+
+    public void setCompletedItems(Integer completedItems) {
+        this.completedItems = completedItems;
+    }
 }
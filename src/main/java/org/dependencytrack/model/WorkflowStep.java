@@ -26,5 +26,6 @@ public enum WorkflowStep {
     POLICY_EVALUATION,
     METRICS_UPDATE,
     POLICY_BUNDLE_SYNC,
-    PROJECT_CLONE
+    PROJECT_CLONE,
+    PROJECT_DELETION
 }
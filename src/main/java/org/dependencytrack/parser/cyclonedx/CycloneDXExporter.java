@@ -23,17 +23,29 @@ import org.cyclonedx.exception.GeneratorException;
 import org.cyclonedx.generators.BomGeneratorFactory;
 import org.cyclonedx.model.Bom;
 import org.dependencytrack.model.Component;
+import org.dependencytrack.model.ComponentProperty;
 import org.dependencytrack.model.Finding;
 import org.dependencytrack.model.Project;
 import org.dependencytrack.model.ServiceComponent;
+import org.dependencytrack.model.Vulnerability;
 import org.dependencytrack.parser.cyclonedx.util.ModelConverter;
 import org.dependencytrack.persistence.QueryManager;
+import org.dependencytrack.persistence.jdbi.ComponentDao;
+import org.dependencytrack.persistence.jdbi.ComponentDao.ComponentDirectDependenciesRow;
+import org.dependencytrack.persistence.jdbi.FindingDao;
+import org.dependencytrack.persistence.jdbi.FindingDao.FindingRef;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
+import static org.dependencytrack.persistence.jdbi.JdbiFactory.withJdbiHandle;
+
 public class CycloneDXExporter {
 
     public enum Format {
@@ -48,12 +60,20 @@ public class CycloneDXExporter {
         VEX
     }
 
+    static final int PAGE_SIZE = 500;
+
     private final QueryManager qm;
     private final CycloneDXExporter.Variant variant;
+    private final int pageSize;
 
     public CycloneDXExporter(final CycloneDXExporter.Variant variant, final QueryManager qm) {
+        this(variant, qm, PAGE_SIZE);
+    }
+
+    CycloneDXExporter(final CycloneDXExporter.Variant variant, final QueryManager qm, final int pageSize) {
         this.variant = variant;
         this.qm = qm;
+        this.pageSize = pageSize;
     }
 
     public Bom create(final Project project) {
@@ -94,6 +114,138 @@ public class CycloneDXExporter {
         return bom;
     }
 
+    /**
+     * Export a {@link Project} to a given {@link OutputStream}.
+     * <p>
+     * As opposed to {@link #create(Project)}, components, dependencies, and findings are fetched
+     * and serialized in pages of {@link #PAGE_SIZE}, such that memory usage remains constant
+     * regardless of the size of the project.
+     *
+     * @param project      The {@link Project} to export
+     * @param format       The {@link Format} to export in
+     * @param outputStream The {@link OutputStream} to write to
+     * @throws IOException        When writing to {@code outputStream} failed
+     * @throws GeneratorException When serializing the BOM failed
+     */
+    public void export(final Project project, final Format format, final OutputStream outputStream) throws IOException, GeneratorException {
+        try (final var bomWriter = CycloneDxBomStreamWriter.create(format, Version.VERSION_15, outputStream)) {
+            final var header = new Bom();
+            header.setSerialNumber("urn:uuid:" + UUID.randomUUID());
+            header.setVersion(1);
+            header.setMetadata(ModelConverter.createMetadata(project));
+            bomWriter.writeHeader(header);
+
+            if (Variant.VEX != variant) {
+                writeComponents(bomWriter, project);
+                writeServices(bomWriter, project);
+                writeDependencies(bomWriter, project);
+            }
+            if (Variant.INVENTORY != variant) {
+                writeVulnerabilities(bomWriter, project);
+            }
+        }
+    }
+
+    private void writeComponents(final CycloneDxBomStreamWriter bomWriter, final Project project) throws IOException, GeneratorException {
+        List<Component> components;
+        long lastId = 0;
+        do {
+            components = qm.getComponentsPage(project, lastId, Variant.VDR == variant, pageSize);
+            if (components.isEmpty()) {
+                break;
+            }
+
+            final var bom = new Bom();
+            bom.setComponents(components.stream().map(component -> ModelConverter.convert(qm, component)).toList());
+            bomWriter.writeElements(CycloneDxBomStreamWriter.Section.COMPONENTS, bom);
+
+            lastId = components.get(components.size() - 1).getId();
+            qm.getPersistenceManager().evictAll(false, Component.class);
+            qm.getPersistenceManager().evictAll(false, ComponentProperty.class);
+        } while (components.size() == pageSize);
+    }
+
+    private void writeServices(final CycloneDxBomStreamWriter bomWriter, final Project project) throws IOException, GeneratorException {
+        // Services are few compared to components, even in large projects.
+        final List<ServiceComponent> services = qm.getAllServiceComponents(project);
+        if (services.isEmpty()) {
+            return;
+        }
+
+        final var bom = new Bom();
+        bom.setServices(services.stream().map(service -> ModelConverter.convert(qm, service)).toList());
+        bomWriter.writeElements(CycloneDxBomStreamWriter.Section.SERVICES, bom);
+    }
+
+    private void writeDependencies(final CycloneDxBomStreamWriter bomWriter, final Project project) throws IOException, GeneratorException {
+        final boolean vulnerableOnly = Variant.VDR == variant;
+
+        final var rootBom = new Bom();
+        rootBom.setDependencies(List.of(ModelConverter.generateDependency(project.getUuid(), project.getDirectDependencies(),
+                getExistingComponentUuids(project, Collections.singletonList(project.getDirectDependencies()), vulnerableOnly))));
+        bomWriter.writeElements(CycloneDxBomStreamWriter.Section.DEPENDENCIES, rootBom);
+
+        List<ComponentDirectDependenciesRow> rows;
+        long lastId = 0;
+        do {
+            final long afterId = lastId;
+            rows = withJdbiHandle(handle -> handle.attach(ComponentDao.class)
+                    .getDirectDependenciesPage(project.getId(), afterId, vulnerableOnly, pageSize));
+            if (rows.isEmpty()) {
+                break;
+            }
+
+            final Set<String> existingUuids = getExistingComponentUuids(project,
+                    rows.stream().map(ComponentDirectDependenciesRow::directDependencies).toList(), vulnerableOnly);
+            final var bom = new Bom();
+            bom.setDependencies(rows.stream()
+                    .map(row -> ModelConverter.generateDependency(UUID.fromString(row.uuid()), row.directDependencies(), existingUuids))
+                    .toList());
+            bomWriter.writeElements(CycloneDxBomStreamWriter.Section.DEPENDENCIES, bom);
+
+            lastId = rows.get(rows.size() - 1).id();
+        } while (rows.size() == pageSize);
+    }
+
+    private Set<String> getExistingComponentUuids(final Project project, final List<String> directDependenciesRaw,
+                                                  final boolean vulnerableOnly) {
+        final Set<String> referencedUuids = directDependenciesRaw.stream()
+                .map(ModelConverter::parseDirectDependencyUuids)
+                .flatMap(List::stream)
+                .collect(Collectors.toSet());
+        if (referencedUuids.isEmpty()) {
+            return Collections.emptySet();
+        }
+
+        return withJdbiHandle(handle -> handle.attach(ComponentDao.class)
+                .getExistingUuids(project.getId(), referencedUuids, vulnerableOnly));
+    }
+
+    private void writeVulnerabilities(final CycloneDxBomStreamWriter bomWriter, final Project project) throws IOException, GeneratorException {
+        List<FindingRef> findingRefs;
+        FindingRef lastFindingRef = new FindingRef(0, 0);
+        do {
+            final FindingRef afterFindingRef = lastFindingRef;
+            findingRefs = withJdbiHandle(handle -> handle.attach(FindingDao.class).getFindingRefsPage(project.getId(),
+                    afterFindingRef.componentId(), afterFindingRef.vulnerabilityId(), pageSize));
+            if (findingRefs.isEmpty()) {
+                break;
+            }
+
+            final var bom = new Bom();
+            bom.setVulnerabilities(findingRefs.stream()
+                    .map(findingRef -> ModelConverter.convert(qm, variant,
+                            qm.getObjectById(Component.class, findingRef.componentId()),
+                            qm.getObjectById(Vulnerability.class, findingRef.vulnerabilityId())))
+                    .toList());
+            bomWriter.writeElements(CycloneDxBomStreamWriter.Section.VULNERABILITIES, bom);
+
+            lastFindingRef = findingRefs.get(findingRefs.size() - 1);
+            qm.getPersistenceManager().evictAll(false, Component.class);
+            qm.getPersistenceManager().evictAll(false, Vulnerability.class);
+        } while (findingRefs.size() == pageSize);
+    }
+
     public String export(final Bom bom, final Format format) throws GeneratorException {
         // TODO: The output version should be user-controllable.
 
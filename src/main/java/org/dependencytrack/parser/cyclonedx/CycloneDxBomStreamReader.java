@@ -0,0 +1,288 @@
+/*
+ * This file is part of Dependency-Track.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.dependencytrack.parser.cyclonedx;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.xml.XmlMapper;
+import org.cyclonedx.model.Component;
+import org.cyclonedx.model.Dependency;
+import org.cyclonedx.model.Metadata;
+import org.cyclonedx.model.Service;
+
+import javax.xml.XMLConstants;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * A streaming reader for CycloneDX BOMs in JSON and XML format.
+ * <p>
+ * Unlike {@link org.cyclonedx.parsers.Parser}, this reader never materializes the entire
+ * {@link org.cyclonedx.model.Bom}. Instead, it walks the document token by token, and only
+ * deserializes one top-level {@link Component}, {@link Service}, or {@link Dependency} at a time,
+ * handing it to a {@link Visitor}. Sections that are not requested are skipped without being
+ * deserialized at all.
+ * <p>
+ * Deserialization of individual elements is delegated to Jackson, using the annotations of the
+ * CycloneDX object model, so elements are read exactly like {@link org.cyclonedx.parsers.JsonParser}
+ * and {@link org.cyclonedx.parsers.XmlParser} would read them.
+ *
+ * @since 5.6.0
+ */
+public final class CycloneDxBomStreamReader {
+
+    public enum Section {
+        METADATA,
+        COMPONENTS,
+        SERVICES,
+        DEPENDENCIES
+    }
+
+    /**
+     * Receives elements of a BOM as they are encountered in the document.
+     * <p>
+     * Elements are passed in document order, which is not necessarily the order
+     * of {@link Section}s. Implementations must not assume that metadata has
+     * been visited before components, for example.
+     */
+    public interface Visitor {
+
+        default void visitSpecVersion(final String specVersion) {
+        }
+
+        default void visitSerialNumber(final String serialNumber) {
+        }
+
+        default void visitVersion(final int version) {
+        }
+
+        default void visitMetadata(final Metadata metadata) {
+        }
+
+        default void visitComponent(final Component component) {
+        }
+
+        default void visitService(final Service service) {
+        }
+
+        default void visitDependency(final Dependency dependency) {
+        }
+
+    }
+
+    private static final ObjectMapper JSON_MAPPER = new ObjectMapper();
+    private static final XmlMapper XML_MAPPER = new XmlMapper();
+
+    static {
+        final XMLInputFactory xmlInputFactory = XML_MAPPER.getFactory().getXMLInputFactory();
+        xmlInputFactory.setProperty(XMLConstants.FEATURE_SECURE_PROCESSING, true);
+        // See CycloneDxValidator#detectSchemaVersionFromXml for why this is used
+        // instead of XMLConstants.ACCESS_EXTERNAL_DTD.
+        xmlInputFactory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+    }
+
+    private final Set<Section> sections;
+
+    /**
+     * @param sections The {@link Section}s to deserialize and pass to the {@link Visitor}
+     */
+    public CycloneDxBomStreamReader(final Set<Section> sections) {
+        this.sections = sections.isEmpty() ? EnumSet.noneOf(Section.class) : EnumSet.copyOf(sections);
+    }
+
+    /**
+     * Read a BOM from a given {@link InputStream}.
+     * <p>
+     * The format of the BOM (JSON or XML) is detected from its first non-whitespace character.
+     *
+     * @param inputStream The {@link InputStream} to read from
+     * @param visitor     The {@link Visitor} to pass elements to
+     * @throws IOException When reading or parsing the BOM failed
+     */
+    public void read(final InputStream inputStream, final Visitor visitor) throws IOException {
+        final var bufferedInputStream = new BufferedInputStream(inputStream);
+        if (isJson(bufferedInputStream)) {
+            readJson(bufferedInputStream, visitor);
+        } else {
+            try {
+                readXml(bufferedInputStream, visitor);
+            } catch (XMLStreamException e) {
+                throw new IOException("Failed to parse BOM as XML", e);
+            }
+        }
+    }
+
+    private void readJson(final InputStream inputStream, final Visitor visitor) throws IOException {
+        try (final JsonParser jsonParser = JSON_MAPPER.createParser(inputStream)) {
+            if (jsonParser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IOException("Expected BOM to start with %s, but got %s"
+                        .formatted(JsonToken.START_OBJECT.asString(), jsonParser.currentToken()));
+            }
+
+            while (jsonParser.nextToken() == JsonToken.FIELD_NAME) {
+                final String fieldName = jsonParser.currentName();
+                final JsonToken valueToken = jsonParser.nextToken();
+
+                switch (fieldName) {
+                    case "specVersion" -> visitor.visitSpecVersion(jsonParser.getValueAsString());
+                    case "serialNumber" -> visitor.visitSerialNumber(jsonParser.getValueAsString());
+                    case "version" -> visitor.visitVersion(jsonParser.getValueAsInt());
+                    case "metadata" -> {
+                        if (sections.contains(Section.METADATA) && valueToken == JsonToken.START_OBJECT) {
+                            visitor.visitMetadata(JSON_MAPPER.readValue(jsonParser, Metadata.class));
+                        } else {
+                            jsonParser.skipChildren();
+                        }
+                    }
+                    case "components" -> readJsonArray(jsonParser, Section.COMPONENTS, Component.class, visitor::visitComponent);
+                    case "services" -> readJsonArray(jsonParser, Section.SERVICES, Service.class, visitor::visitService);
+                    case "dependencies" -> readJsonArray(jsonParser, Section.DEPENDENCIES, Dependency.class, visitor::visitDependency);
+                    default -> jsonParser.skipChildren();
+                }
+            }
+        }
+    }
+
+    private <T> void readJsonArray(
+            final JsonParser jsonParser,
+            final Section section,
+            final Class<T> elementClass,
+            final ElementConsumer<T> elementConsumer
+    ) throws IOException {
+        if (!sections.contains(section) || jsonParser.currentToken() != JsonToken.START_ARRAY) {
+            jsonParser.skipChildren();
+            return;
+        }
+
+        while (jsonParser.nextToken() == JsonToken.START_OBJECT) {
+            elementConsumer.accept(JSON_MAPPER.readValue(jsonParser, elementClass));
+        }
+    }
+
+    private void readXml(final InputStream inputStream, final Visitor visitor) throws XMLStreamException, IOException {
+        final XMLStreamReader xmlStreamReader = XML_MAPPER.getFactory().getXMLInputFactory().createXMLStreamReader(inputStream);
+        try {
+            // Advance to the root <bom> element.
+            int event = xmlStreamReader.getEventType();
+            while (event != XMLStreamConstants.START_ELEMENT && xmlStreamReader.hasNext()) {
+                event = xmlStreamReader.next();
+            }
+            if (!xmlStreamReader.isStartElement() || !"bom".equals(xmlStreamReader.getLocalName())) {
+                throw new IOException("Expected BOM to start with a <bom> element");
+            }
+
+            final String namespaceUri = xmlStreamReader.getNamespaceURI();
+            if (namespaceUri != null && namespaceUri.lastIndexOf('/') >= 0) {
+                visitor.visitSpecVersion(namespaceUri.substring(namespaceUri.lastIndexOf('/') + 1));
+            }
+            final String serialNumber = xmlStreamReader.getAttributeValue(null, "serialNumber");
+            if (serialNumber != null) {
+                visitor.visitSerialNumber(serialNumber);
+            }
+            final String version = xmlStreamReader.getAttributeValue(null, "version");
+            if (version != null) {
+                visitor.visitVersion(Integer.parseInt(version.trim()));
+            }
+
+            while (xmlStreamReader.nextTag() == XMLStreamConstants.START_ELEMENT) {
+                switch (xmlStreamReader.getLocalName()) {
+                    case "metadata" -> {
+                        if (sections.contains(Section.METADATA)) {
+                            visitor.visitMetadata(XML_MAPPER.readValue(xmlStreamReader, Metadata.class));
+                        } else {
+                            skipXmlElement(xmlStreamReader);
+                        }
+                    }
+                    case "components" -> readXmlList(xmlStreamReader, Section.COMPONENTS, Component.class, visitor::visitComponent);
+                    case "services" -> readXmlList(xmlStreamReader, Section.SERVICES, Service.class, visitor::visitService);
+                    case "dependencies" -> readXmlList(xmlStreamReader, Section.DEPENDENCIES, Dependency.class, visitor::visitDependency);
+                    default -> skipXmlElement(xmlStreamReader);
+                }
+            }
+        } finally {
+            xmlStreamReader.close();
+        }
+    }
+
+    private <T> void readXmlList(
+            final XMLStreamReader xmlStreamReader,
+            final Section section,
+            final Class<T> elementClass,
+            final ElementConsumer<T> elementConsumer
+    ) throws XMLStreamException, IOException {
+        if (!sections.contains(section)) {
+            skipXmlElement(xmlStreamReader);
+            return;
+        }
+
+        // Positioned at the wrapper element (e.g. <components>); Each child is one element.
+        while (xmlStreamReader.nextTag() == XMLStreamConstants.START_ELEMENT) {
+            // Jackson leaves the reader positioned at the END_ELEMENT of the element it has read.
+            elementConsumer.accept(XML_MAPPER.readValue(xmlStreamReader, elementClass));
+        }
+    }
+
+    private static void skipXmlElement(final XMLStreamReader xmlStreamReader) throws XMLStreamException {
+        int depth = 1;
+        while (depth > 0 && xmlStreamReader.hasNext()) {
+            final int event = xmlStreamReader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                depth++;
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                depth--;
+            }
+        }
+    }
+
+    private static boolean isJson(final BufferedInputStream inputStream) throws IOException {
+        inputStream.mark(1024);
+        try {
+            int nextByte;
+            do {
+                nextByte = inputStream.read();
+            } while (nextByte != -1 && Character.isWhitespace(nextByte));
+
+            // Tolerate a UTF-8 byte order mark.
+            if (nextByte == 0xEF) {
+                inputStream.skip(2);
+                nextByte = inputStream.read();
+            }
+
+            return nextByte == '{';
+        } finally {
+            inputStream.reset();
+        }
+    }
+
+    @FunctionalInterface
+    private interface ElementConsumer<T> {
+
+        void accept(final T element) throws IOException;
+
+    }
+
+}
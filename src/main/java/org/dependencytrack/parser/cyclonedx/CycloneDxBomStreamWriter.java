@@ -0,0 +1,376 @@
+/*
+ * This file is part of Dependency-Track.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.dependencytrack.parser.cyclonedx;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.cyclonedx.Version;
+import org.cyclonedx.exception.GeneratorException;
+import org.cyclonedx.generators.BomGeneratorFactory;
+import org.cyclonedx.model.Bom;
+
+import javax.xml.XMLConstants;
+import javax.xml.stream.XMLEventFactory;
+import javax.xml.stream.XMLEventReader;
+import javax.xml.stream.XMLEventWriter;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.events.StartElement;
+import javax.xml.stream.events.XMLEvent;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * A streaming writer for CycloneDX BOMs in JSON and XML format.
+ * <p>
+ * Unlike {@link BomGeneratorFactory}, this writer never requires the entire {@link Bom} to be
+ * materialized. Instead, the BOM's header (serial number, version, and metadata) is written first,
+ * followed by elements of the top-level {@link Section}s, which may be passed in any number of chunks.
+ * <p>
+ * Serialization of chunks is delegated to the CycloneDX generators, and their output is copied
+ * into the document, so elements are written exactly like {@link BomGeneratorFactory} would write them.
+ *
+ * @since 5.6.0
+ */
+public abstract sealed class CycloneDxBomStreamWriter implements Closeable {
+
+    /**
+     * Top-level sections of a BOM that can be written in chunks.
+     * <p>
+     * Sections must be written in the order in which they are declared here.
+     */
+    public enum Section {
+        COMPONENTS("components"),
+        SERVICES("services"),
+        DEPENDENCIES("dependencies"),
+        VULNERABILITIES("vulnerabilities");
+
+        private final String elementName;
+
+        Section(final String elementName) {
+            this.elementName = elementName;
+        }
+
+    }
+
+    final Version version;
+    private boolean headerWritten;
+    private Section currentSection;
+
+    private CycloneDxBomStreamWriter(final Version version) {
+        this.version = version;
+    }
+
+    /**
+     * @param format       The {@link CycloneDXExporter.Format} to write
+     * @param version      The CycloneDX {@link Version} to write
+     * @param outputStream The {@link OutputStream} to write to; It is not closed by {@link #close()}
+     * @return A {@link CycloneDxBomStreamWriter}
+     * @throws IOException When initializing the writer failed
+     */
+    public static CycloneDxBomStreamWriter create(final CycloneDXExporter.Format format, final Version version,
+                                                  final OutputStream outputStream) throws IOException {
+        return switch (format) {
+            case JSON -> new Json(version, outputStream);
+            case XML -> new Xml(version, outputStream);
+        };
+    }
+
+    /**
+     * Write the header of the BOM.
+     * <p>
+     * Must be called exactly once, before any {@link Section} is written.
+     * Top-level lists of {@code bom} are ignored.
+     *
+     * @param bom The {@link Bom} holding serial number, version, and metadata
+     * @throws IOException        When writing failed
+     * @throws GeneratorException When serializing the header failed
+     */
+    public void writeHeader(final Bom bom) throws IOException, GeneratorException {
+        if (headerWritten) {
+            throw new IllegalStateException("Header has already been written");
+        }
+
+        final var header = new Bom();
+        header.setSerialNumber(bom.getSerialNumber());
+        header.setVersion(bom.getVersion());
+        header.setMetadata(bom.getMetadata());
+        doWriteHeader(header);
+        headerWritten = true;
+    }
+
+    /**
+     * Write all elements of a given {@link Section} of {@code bom}.
+     * <p>
+     * May be called multiple times per {@link Section} to write it in chunks.
+     * Sections without any elements are omitted from the document.
+     *
+     * @param section The {@link Section} to write
+     * @param bom     The {@link Bom} holding the elements of {@code section}
+     * @throws IOException        When writing failed
+     * @throws GeneratorException When serializing the elements failed
+     */
+    public void writeElements(final Section section, final Bom bom) throws IOException, GeneratorException {
+        if (!headerWritten) {
+            throw new IllegalStateException("Header must be written before section " + section);
+        }
+        if (currentSection != null && section.ordinal() < currentSection.ordinal()) {
+            throw new IllegalStateException("Section %s must be written before section %s"
+                    .formatted(section, currentSection));
+        }
+
+        doWriteElements(section, bom);
+    }
+
+    /**
+     * Complete the document.
+     *
+     * @throws IOException When writing failed
+     */
+    @Override
+    public void close() throws IOException {
+        if (headerWritten) {
+            endSection();
+            doClose();
+        }
+    }
+
+    void beginSection(final Section section) throws IOException {
+        if (currentSection == section) {
+            return;
+        }
+
+        endSection();
+        doBeginSection(section);
+        currentSection = section;
+    }
+
+    private void endSection() throws IOException {
+        if (currentSection != null) {
+            doEndSection(currentSection);
+            currentSection = null;
+        }
+    }
+
+    abstract void doWriteHeader(final Bom header) throws IOException, GeneratorException;
+
+    abstract void doWriteElements(final Section section, final Bom bom) throws IOException, GeneratorException;
+
+    abstract void doBeginSection(final Section section) throws IOException;
+
+    abstract void doEndSection(final Section section) throws IOException;
+
+    abstract void doClose() throws IOException;
+
+    private static final class Json extends CycloneDxBomStreamWriter {
+
+        private static final ObjectMapper JSON_MAPPER = new ObjectMapper();
+
+        private final JsonGenerator jsonGenerator;
+
+        private Json(final Version version, final OutputStream outputStream) throws IOException {
+            super(version);
+            this.jsonGenerator = JSON_MAPPER.createGenerator(outputStream, JsonEncoding.UTF8)
+                    .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                    .useDefaultPrettyPrinter();
+        }
+
+        @Override
+        void doWriteHeader(final Bom header) throws IOException {
+            jsonGenerator.writeStartObject();
+
+            final Iterator<Map.Entry<String, JsonNode>> fields = BomGeneratorFactory
+                    .createJson(version, header).toJsonNode().fields();
+            while (fields.hasNext()) {
+                final Map.Entry<String, JsonNode> field = fields.next();
+                jsonGenerator.writeFieldName(field.getKey());
+                jsonGenerator.writeTree(field.getValue());
+            }
+        }
+
+        @Override
+        void doWriteElements(final Section section, final Bom bom) throws IOException {
+            final JsonNode elements = BomGeneratorFactory.createJson(version, bom).toJsonNode().get(section.elementName);
+            if (elements == null || !elements.isArray() || elements.isEmpty()) {
+                return;
+            }
+
+            beginSection(section);
+            for (final JsonNode element : elements) {
+                jsonGenerator.writeTree(element);
+            }
+        }
+
+        @Override
+        void doBeginSection(final Section section) throws IOException {
+            jsonGenerator.writeArrayFieldStart(section.elementName);
+        }
+
+        @Override
+        void doEndSection(final Section section) throws IOException {
+            jsonGenerator.writeEndArray();
+        }
+
+        @Override
+        void doClose() throws IOException {
+            jsonGenerator.writeEndObject();
+            jsonGenerator.close();
+        }
+
+    }
+
+    private static final class Xml extends CycloneDxBomStreamWriter {
+
+        private static final XMLInputFactory XML_INPUT_FACTORY = XMLInputFactory.newFactory();
+        private static final XMLOutputFactory XML_OUTPUT_FACTORY = XMLOutputFactory.newFactory();
+        private static final XMLEventFactory XML_EVENT_FACTORY = XMLEventFactory.newFactory();
+
+        static {
+            XML_INPUT_FACTORY.setProperty(XMLConstants.FEATURE_SECURE_PROCESSING, true);
+            // See CycloneDxValidator#detectSchemaVersionFromXml for why this is used
+            // instead of XMLConstants.ACCESS_EXTERNAL_DTD.
+            XML_INPUT_FACTORY.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        }
+
+        private final XMLEventWriter xmlEventWriter;
+        private StartElement rootElement;
+
+        private Xml(final Version version, final OutputStream outputStream) throws IOException {
+            super(version);
+            try {
+                this.xmlEventWriter = XML_OUTPUT_FACTORY.createXMLEventWriter(outputStream, StandardCharsets.UTF_8.name());
+            } catch (XMLStreamException e) {
+                throw new IOException("Failed to initialize XML writer", e);
+            }
+        }
+
+        @Override
+        void doWriteHeader(final Bom header) throws IOException, GeneratorException {
+            final String headerXml = BomGeneratorFactory.createXml(version, header).toXmlString();
+            try {
+                xmlEventWriter.add(XML_EVENT_FACTORY.createStartDocument(StandardCharsets.UTF_8.name(), "1.0"));
+
+                // Copy the entire document, except for the end of the root <bom> element,
+                // which is only written once all sections are complete.
+                final XMLEventReader xmlEventReader = XML_INPUT_FACTORY.createXMLEventReader(new StringReader(headerXml));
+                try {
+                    int depth = 0;
+                    while (xmlEventReader.hasNext()) {
+                        final XMLEvent event = xmlEventReader.nextEvent();
+                        if (event.isStartElement()) {
+                            if (depth++ == 0) {
+                                rootElement = event.asStartElement();
+                            }
+                        } else if (event.isEndElement() && --depth == 0) {
+                            continue;
+                        }
+                        if (depth > 0 && !isWhitespace(event)) {
+                            xmlEventWriter.add(event);
+                        }
+                    }
+                } finally {
+                    xmlEventReader.close();
+                }
+            } catch (XMLStreamException e) {
+                throw new IOException("Failed to write BOM header", e);
+            }
+        }
+
+        @Override
+        void doWriteElements(final Section section, final Bom bom) throws IOException, GeneratorException {
+            final String chunkXml = BomGeneratorFactory.createXml(version, bom).toXmlString();
+            try {
+                // Copy the children of the section's wrapper element (e.g. <components>) only.
+                final XMLEventReader xmlEventReader = XML_INPUT_FACTORY.createXMLEventReader(new StringReader(chunkXml));
+                try {
+                    int depth = 0;
+                    boolean inSection = false;
+                    while (xmlEventReader.hasNext()) {
+                        final XMLEvent event = xmlEventReader.nextEvent();
+                        if (event.isStartElement()) {
+                            if (++depth == 2 && section.elementName.equals(event.asStartElement().getName().getLocalPart())) {
+                                inSection = true;
+                                continue;
+                            }
+                        } else if (event.isEndElement()) {
+                            if (--depth == 1 && inSection) {
+                                inSection = false;
+                                continue;
+                            }
+                        }
+                        if (inSection && !isWhitespace(event)) {
+                            beginSection(section);
+                            xmlEventWriter.add(event);
+                        }
+                    }
+                } finally {
+                    xmlEventReader.close();
+                }
+            } catch (XMLStreamException e) {
+                throw new IOException("Failed to write BOM section " + section, e);
+            }
+        }
+
+        @Override
+        void doBeginSection(final Section section) throws IOException {
+            try {
+                xmlEventWriter.add(XML_EVENT_FACTORY.createStartElement(
+                        "", rootElement.getName().getNamespaceURI(), section.elementName));
+            } catch (XMLStreamException e) {
+                throw new IOException("Failed to begin BOM section " + section, e);
+            }
+        }
+
+        @Override
+        void doEndSection(final Section section) throws IOException {
+            try {
+                xmlEventWriter.add(XML_EVENT_FACTORY.createEndElement(
+                        "", rootElement.getName().getNamespaceURI(), section.elementName));
+            } catch (XMLStreamException e) {
+                throw new IOException("Failed to end BOM section " + section, e);
+            }
+        }
+
+        @Override
+        void doClose() throws IOException {
+            try {
+                xmlEventWriter.add(XML_EVENT_FACTORY.createEndElement(rootElement.getName(), null));
+                xmlEventWriter.add(XML_EVENT_FACTORY.createEndDocument());
+                xmlEventWriter.flush();
+                xmlEventWriter.close();
+            } catch (XMLStreamException e) {
+                throw new IOException("Failed to complete BOM", e);
+            }
+        }
+
+        private static boolean isWhitespace(final XMLEvent event) {
+            return event.isCharacters() && event.asCharacters().isWhiteSpace();
+        }
+
+    }
+
+}
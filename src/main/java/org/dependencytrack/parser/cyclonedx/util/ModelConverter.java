@@ -72,10 +72,12 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import static org.apache.commons.lang3.StringUtils.isNotBlank;
 import static org.apache.commons.lang3.StringUtils.trim;
@@ -843,8 +845,13 @@ public class ModelConverter {
     public static org.cyclonedx.model.vulnerability.Vulnerability convert(final QueryManager qm, final CycloneDXExporter.Variant variant,
                                                                           final Finding finding) {
         final Component component = qm.getObjectByUuid(Component.class, (String) finding.getComponent().get("uuid"));
-        final Project project = component.getProject();
         final Vulnerability vulnerability = qm.getObjectByUuid(Vulnerability.class, (String) finding.getVulnerability().get("uuid"));
+        return convert(qm, variant, component, vulnerability);
+    }
+
+    public static org.cyclonedx.model.vulnerability.Vulnerability convert(final QueryManager qm, final CycloneDXExporter.Variant variant,
+                                                                          final Component component, final Vulnerability vulnerability) {
+        final Project project = component.getProject();
 
         final org.cyclonedx.model.vulnerability.Vulnerability cdxVulnerability = new org.cyclonedx.model.vulnerability.Vulnerability();
         cdxVulnerability.setBomRef(vulnerability.getUuid().toString());
@@ -933,10 +940,7 @@ public class ModelConverter {
         }
 
         if (CycloneDXExporter.Variant.VEX == variant || CycloneDXExporter.Variant.VDR == variant) {
-            final Analysis analysis = qm.getAnalysis(
-                    qm.getObjectByUuid(Component.class, component.getUuid()),
-                    qm.getObjectByUuid(Vulnerability.class, vulnerability.getUuid())
-            );
+            final Analysis analysis = qm.getAnalysis(component, vulnerability);
             if (analysis != null) {
                 final org.cyclonedx.model.vulnerability.Vulnerability.Analysis cdxAnalysis = new org.cyclonedx.model.vulnerability.Vulnerability.Analysis();
                 if (analysis.getAnalysisResponse() != null) {
@@ -974,26 +978,54 @@ public class ModelConverter {
             return Collections.emptyList();
         }
 
+        final Set<String> componentUuids = components.stream()
+                .map(Component::getUuid)
+                .map(UUID::toString)
+                .collect(Collectors.toSet());
+
         final var dependencies = new ArrayList<Dependency>();
-        final var rootDependency = new Dependency(project.getUuid().toString());
-        rootDependency.setDependencies(convertDirectDependencies(project.getDirectDependencies(), components));
-        dependencies.add(rootDependency);
+        dependencies.add(generateDependency(project.getUuid(), project.getDirectDependencies(), componentUuids));
 
         for (final Component component : components) {
-            final var dependency = new Dependency(component.getUuid().toString());
-            dependency.setDependencies(convertDirectDependencies(component.getDirectDependencies(), components));
-            dependencies.add(dependency);
+            dependencies.add(generateDependency(component.getUuid(), component.getDirectDependencies(), componentUuids));
         }
 
         return dependencies;
     }
 
-    private static List<Dependency> convertDirectDependencies(final String directDependenciesRaw, final List<Component> components) {
+    /**
+     * Converts {@link Project#getDirectDependencies()} or {@link Component#getDirectDependencies()}
+     * references of a single node to a CycloneDX {@link Dependency}.
+     *
+     * @param uuid                  The {@link UUID} of the {@link Project} or {@link Component}
+     * @param directDependenciesRaw The raw direct dependencies of the {@link Project} or {@link Component}
+     * @param componentUuids        {@link UUID}s of all {@link Component}s that are part of the graph;
+     *                              References to other components are omitted
+     * @return The CycloneDX {@link Dependency}
+     */
+    public static Dependency generateDependency(final UUID uuid, final String directDependenciesRaw,
+                                                final Set<String> componentUuids) {
+        final var dependency = new Dependency(uuid.toString());
+        dependency.setDependencies(parseDirectDependencyUuids(directDependenciesRaw).stream()
+                .filter(componentUuids::contains)
+                .map(Dependency::new)
+                .toList());
+        return dependency;
+    }
+
+    /**
+     * Parses the {@link UUID}s of {@link Component}s referenced in {@link Project#getDirectDependencies()}
+     * or {@link Component#getDirectDependencies()}, in the order in which they are referenced.
+     *
+     * @param directDependenciesRaw The raw direct dependencies
+     * @return The referenced {@link UUID}s
+     */
+    public static List<String> parseDirectDependencyUuids(final String directDependenciesRaw) {
         if (directDependenciesRaw == null || directDependenciesRaw.isBlank()) {
             return Collections.emptyList();
         }
 
-        final var dependencies = new ArrayList<Dependency>();
+        final var componentUuids = new ArrayList<String>();
         final JsonValue directDependenciesJson = Json
                 .createReader(new StringReader(directDependenciesRaw))
                 .readValue();
@@ -1001,14 +1033,14 @@ public class ModelConverter {
             for (final JsonValue directDependency : directDependenciesJsonArray) {
                 if (directDependency instanceof final JsonObject directDependencyObject) {
                     final String componentUuid = directDependencyObject.getString("uuid", null);
-                    if (componentUuid != null && components.stream().map(Component::getUuid).map(UUID::toString).anyMatch(componentUuid::equals)) {
-                        dependencies.add(new Dependency(directDependencyObject.getString("uuid")));
+                    if (componentUuid != null) {
+                        componentUuids.add(componentUuid);
                     }
                 }
             }
         }
 
-        return dependencies;
+        return componentUuids;
     }
 
     private static org.cyclonedx.model.vulnerability.Vulnerability.Rating.Severity convertDtSeverityToCdxSeverity(final Severity severity) {
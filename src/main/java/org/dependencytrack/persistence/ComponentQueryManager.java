@@ -31,31 +31,34 @@ import org.apache.commons.lang3.tuple.Pair;
 import org.dependencytrack.model.Component;
 import org.dependencytrack.model.ComponentIdentity;
 import org.dependencytrack.model.ComponentProperty;
-import org.dependencytrack.model.ConfigPropertyConstants;
 import org.dependencytrack.model.Project;
 import org.dependencytrack.model.RepositoryMetaComponent;
 import org.dependencytrack.model.RepositoryType;
 import org.dependencytrack.model.sqlmapping.ComponentProjection;
+import org.dependencytrack.persistence.jdbi.DependencyGraphDao;
+import org.dependencytrack.persistence.jdbi.DependencyGraphDao.DependencyGraphEdge;
+import org.dependencytrack.persistence.jdbi.DependencyGraphDao.DependencyGraphNode;
 import org.dependencytrack.resources.v1.vo.DependencyGraphResponse;
 import org.dependencytrack.tasks.IntegrityMetaInitializerTask;
 
 import javax.jdo.PersistenceManager;
 import javax.jdo.Query;
 import javax.jdo.Transaction;
-import jakarta.json.Json;
-import jakarta.json.JsonArray;
-import jakarta.json.JsonValue;
-import java.io.StringReader;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.UUID;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import static org.dependencytrack.model.sqlmapping.ComponentProjection.mapToComponent;
+import static org.dependencytrack.persistence.jdbi.JdbiFactory.withJdbiHandle;
 import static org.dependencytrack.util.PersistenceUtil.assertNonPersistent;
 import static org.dependencytrack.util.PersistenceUtil.assertPersistent;
 
@@ -144,6 +147,33 @@ final class ComponentQueryManager extends QueryManager implements IQueryManager
         return (List<Component>) query.execute(project);
     }
 
+    /**
+     * Returns a page of Components for the specified Project, ordered by ID.
+     * Pages are addressed by the ID of the last Component of the previous page,
+     * which allows iterating over large projects without loading all of their Components at once.
+     *
+     * @param project        the Project to retrieve dependencies of
+     * @param afterId        the ID after which the page starts
+     * @param vulnerableOnly whether to only retrieve Components affected by at least one vulnerability
+     * @param limit          the maximum number of Components to retrieve
+     * @return a List of Component objects
+     */
+    public List<Component> getComponentsPage(final Project project, final long afterId,
+                                             final boolean vulnerableOnly, final int limit) {
+        final Query<Component> query = pm.newQuery(Component.class, vulnerableOnly
+                ? "project == :project && id > :afterId && !vulnerabilities.isEmpty()"
+                : "project == :project && id > :afterId");
+        query.getFetchPlan().setMaxFetchDepth(2);
+        query.setNamedParameters(Map.of("project", project, "afterId", afterId));
+        query.setOrdering("id asc");
+        query.setRange(0, limit);
+        try {
+            return List.copyOf(query.executeList());
+        } finally {
+            query.closeAll();
+        }
+    }
+
     /**
      * Returns a List of Dependency for the specified Project.
      *
@@ -266,7 +296,12 @@ final class ComponentQueryManager extends QueryManager implements IQueryManager
         if (onlyDirect) {
             queryString +=
                     """
-                       AND "B0"."DIRECT_DEPENDENCIES" LIKE (('%' || "A0"."UUID") || '%') ESCAPE E'\\\\'
+                       AND EXISTS (
+                         SELECT 1
+                           FROM "DEPENDENCY_GRAPH_EDGE" AS "E"
+                          WHERE "E"."CHILD_COMPONENT_ID" = "A0"."ID"
+                            AND "E"."PARENT_COMPONENT_ID" IS NULL
+                       )
                     """;
         }
         if (orderBy == null) {
@@ -592,6 +627,8 @@ final class ComponentQueryManager extends QueryManager implements IQueryManager
         component.setAuthor(transientComponent.getAuthor());
         component.setSupplier(transientComponent.getSupplier());
         component.setExternalReferences(transientComponent.getExternalReferences());
+        // Manual changes must not be mistaken for data from the last BOM upload.
+        component.setBomFingerprint(null);
         final Component result = persist(component);
         return result;
     }
@@ -884,7 +921,7 @@ final class ComponentQueryManager extends QueryManager implements IQueryManager
      * A similar method exists in ProjectQueryManager
      */
     private void preprocessACLs(final Query<Component> query, final String inputFilter, final Map<String, Object> params, final boolean bypass) {
-        if (super.principal != null && isEnabled(ConfigPropertyConstants.ACCESS_MANAGEMENT_ACL_ENABLED) && !bypass) {
+        if (super.principal != null && isAclEnabled() && !bypass) {
             final List<Team> teams;
             if (super.principal instanceof UserPrincipal) {
                 final UserPrincipal userPrincipal = ((UserPrincipal) super.principal);
@@ -928,36 +965,109 @@ final class ComponentQueryManager extends QueryManager implements IQueryManager
             return dependencyGraph;
         }
 
-        for(Component component : components) {
-            dependencyGraph.put(component.getUuid().toString(), component);
-            getParentDependenciesOfComponent(project, component, dependencyGraph);
+        final List<DependencyGraphEdge> edges = withJdbiHandle(handle ->
+                handle.attach(DependencyGraphDao.class).getEdges(project.getId()));
+        final var rootIds = new ArrayList<Long>();
+        final var parentIdsByChildId = new HashMap<Long, List<Long>>();
+        final var childIdsByParentId = new HashMap<Long, List<Long>>();
+        for (final DependencyGraphEdge edge : edges) {
+            if (edge.parentComponentId() == null) {
+                rootIds.add(edge.childComponentId());
+            } else {
+                parentIdsByChildId.computeIfAbsent(edge.childComponentId(), ignored -> new ArrayList<>()).add(edge.parentComponentId());
+                childIdsByParentId.computeIfAbsent(edge.parentComponentId(), ignored -> new ArrayList<>()).add(edge.childComponentId());
+            }
+        }
+
+        // All components on the paths from the root of the graph to the given components are expanded.
+        final var expandedIds = new HashSet<Long>();
+        final var pathIds = new LinkedHashSet<Long>();
+        final var queue = new ArrayDeque<Long>();
+        for (final Component component : components) {
+            if (pathIds.add(component.getId())) {
+                queue.add(component.getId());
+            }
+        }
+        while (!queue.isEmpty()) {
+            for (final Long parentId : parentIdsByChildId.getOrDefault(queue.poll(), Collections.emptyList())) {
+                expandedIds.add(parentId);
+                if (pathIds.add(parentId)) {
+                    queue.add(parentId);
+                }
+            }
+        }
+        pathIds.addAll(rootIds);
+
+        // Include two levels of children for all of those components. Children of the
+        // first level are known, such that the first level can be rendered as expandable.
+        final var nodeIds = new LinkedHashSet<>(pathIds);
+        final var firstLevelIds = new LinkedHashSet<Long>();
+        for (final Long pathId : pathIds) {
+            for (final Long childId : childIdsByParentId.getOrDefault(pathId, Collections.emptyList())) {
+                if (nodeIds.add(childId)) {
+                    firstLevelIds.add(childId);
+                }
+            }
         }
-        if (!dependencyGraph.isEmpty()){
-            getRootDependencies(dependencyGraph, project);
-            getDirectDependenciesForPathDependencies(dependencyGraph);
+        for (final Long firstLevelId : firstLevelIds) {
+            nodeIds.addAll(childIdsByParentId.getOrDefault(firstLevelId, Collections.emptyList()));
         }
+
+        final Map<Long, DependencyGraphNode> nodesById = withJdbiHandle(handle ->
+                handle.attach(DependencyGraphDao.class).getNodes(nodeIds)).stream()
+                .collect(Collectors.toMap(DependencyGraphNode::id, Function.identity()));
+
         // Reduce size of JSON response
-        for (Map.Entry<String, Component> entry : dependencyGraph.entrySet()) {
+        final var componentsByMetaComponentSearch = new HashMap<RepositoryQueryManager.RepositoryMetaComponentSearch, List<Component>>();
+        for (final Long nodeId : nodeIds) {
+            final DependencyGraphNode node = nodesById.get(nodeId);
+            if (node == null) {
+                continue;
+            }
+
             Component transientComponent = new Component();
-            transientComponent.setUuid(entry.getValue().getUuid());
-            transientComponent.setName(entry.getValue().getName());
-            transientComponent.setVersion(entry.getValue().getVersion());
-            transientComponent.setPurl(entry.getValue().getPurl());
-            transientComponent.setPurlCoordinates(entry.getValue().getPurlCoordinates());
-            transientComponent.setDependencyGraph(entry.getValue().getDependencyGraph());
-            transientComponent.setExpandDependencyGraph(entry.getValue().isExpandDependencyGraph());
+            transientComponent.setUuid(UUID.fromString(node.uuid()));
+            transientComponent.setName(node.name());
+            transientComponent.setVersion(node.version());
+            transientComponent.setPurl(node.purl());
+            transientComponent.setPurlCoordinates(node.purlCoordinates());
+            transientComponent.setExpandDependencyGraph(expandedIds.contains(nodeId));
+            if (pathIds.contains(nodeId) || firstLevelIds.contains(nodeId)) {
+                final List<Long> childIds = childIdsByParentId.get(nodeId);
+                if (childIds != null) {
+                    transientComponent.setDependencyGraph(childIds.stream()
+                            .map(nodesById::get)
+                            .filter(Objects::nonNull)
+                            .map(DependencyGraphNode::uuid)
+                            .collect(Collectors.toCollection(HashSet::new)));
+                }
+            }
             if (transientComponent.getPurl() != null) {
-                final RepositoryType type = RepositoryType.resolve(transientComponent.getPurl());
+                final PackageURL purl = transientComponent.getPurl();
+                final RepositoryType type = RepositoryType.resolve(purl);
                 if (RepositoryType.UNSUPPORTED != type) {
-                    final RepositoryMetaComponent repoMetaComponent = getRepositoryMetaComponent(type, transientComponent.getPurl().getNamespace(), transientComponent.getPurl().getName());
-                    if (repoMetaComponent != null) {
-                        RepositoryMetaComponent transientRepoMetaComponent = new RepositoryMetaComponent();
-                        transientRepoMetaComponent.setLatestVersion(repoMetaComponent.getLatestVersion());
-                        transientComponent.setRepositoryMeta(transientRepoMetaComponent);
-                    }
+                    componentsByMetaComponentSearch.computeIfAbsent(
+                            new RepositoryQueryManager.RepositoryMetaComponentSearch(type, purl.getNamespace(), purl.getName()),
+                            ignored -> new ArrayList<>()).add(transientComponent);
+                }
+            }
+            dependencyGraph.put(node.uuid(), transientComponent);
+        }
+
+        if (!componentsByMetaComponentSearch.isEmpty()) {
+            for (final RepositoryMetaComponent repoMetaComponent : getRepositoryMetaComponentsBatch(List.copyOf(componentsByMetaComponentSearch.keySet()))) {
+                final List<Component> affectedComponents = componentsByMetaComponentSearch.get(new RepositoryQueryManager.RepositoryMetaComponentSearch(
+                        repoMetaComponent.getRepositoryType(), repoMetaComponent.getNamespace(), repoMetaComponent.getName()));
+                if (affectedComponents == null) {
+                    continue;
+                }
+
+                RepositoryMetaComponent transientRepoMetaComponent = new RepositoryMetaComponent();
+                transientRepoMetaComponent.setLatestVersion(repoMetaComponent.getLatestVersion());
+                for (final Component affectedComponent : affectedComponents) {
+                    affectedComponent.setRepositoryMeta(transientRepoMetaComponent);
                 }
             }
-            dependencyGraph.put(entry.getKey(), transientComponent);
         }
         return dependencyGraph;
     }
@@ -975,58 +1085,6 @@ final class ComponentQueryManager extends QueryManager implements IQueryManager
         return List.copyOf(query.executeResultList(DependencyGraphResponse.class));
     }
 
-    private void getParentDependenciesOfComponent(Project project, Component childComponent, Map<String, Component> dependencyGraph) {
-        String queryUuid = ".*" + childComponent.getUuid().toString() + ".*";
-        final Query<Component> query = pm.newQuery(Component.class, "directDependencies.matches(:queryUuid) && project == :project");
-        List<Component> parentComponents = (List<Component>) query.executeWithArray(queryUuid, project);
-        for (Component parentComponent : parentComponents) {
-            parentComponent.setExpandDependencyGraph(true);
-            if(parentComponent.getDependencyGraph() == null) {
-                parentComponent.setDependencyGraph(new HashSet<>());
-            }
-            parentComponent.getDependencyGraph().add(childComponent.getUuid().toString());
-            if (!dependencyGraph.containsKey(parentComponent.getUuid().toString())) {
-                dependencyGraph.put(parentComponent.getUuid().toString(), parentComponent);
-                getParentDependenciesOfComponent(project, parentComponent, dependencyGraph);
-            }
-        }
-    }
-
-    private void getRootDependencies(Map<String, Component> dependencyGraph, Project project) {
-        JsonArray directDependencies = Json.createReader(new StringReader(project.getDirectDependencies())).readArray();
-        for (JsonValue directDependency : directDependencies) {
-            String uuid = directDependency.asJsonObject().getString("uuid");
-            if (!dependencyGraph.containsKey(uuid)) {
-                Component component = this.getObjectByUuid(Component.class, uuid);
-                dependencyGraph.put(uuid, component);
-            }
-        }
-        getDirectDependenciesForPathDependencies(dependencyGraph);
-    }
-
-    private void getDirectDependenciesForPathDependencies(Map<String, Component> dependencyGraph) {
-        Map<String, Component> addToDependencyGraph = new HashMap<>();
-        for (Component component : dependencyGraph.values()) {
-            if (component.getDirectDependencies() != null && !component.getDirectDependencies().isEmpty()) {
-                JsonArray directDependencies = Json.createReader(new StringReader(component.getDirectDependencies())).readArray();
-                for (JsonValue directDependency : directDependencies) {
-                    if (component.getDependencyGraph() == null) {
-                        component.setDependencyGraph(new HashSet<>());
-                    }
-                    String uuid = directDependency.asJsonObject().getString("uuid");
-                    if (!dependencyGraph.containsKey(uuid) && !addToDependencyGraph.containsKey(uuid)) {
-                        Component childNode = this.getObjectByUuid(Component.class, uuid);
-                        addToDependencyGraph.put(childNode.getUuid().toString(), childNode);
-                        component.getDependencyGraph().add(childNode.getUuid().toString());
-                    } else {
-                        component.getDependencyGraph().add(uuid);
-                    }
-                }
-            }
-        }
-        dependencyGraph.putAll(addToDependencyGraph);
-    }
-
     public List<Component> getComponentsByPurl(String purl) {
         try(final Query<Component> query = pm.newQuery(Component.class, "purl == :purl")) {
             query.setParameters(purl);
@@ -1075,6 +1133,8 @@ final class ComponentQueryManager extends QueryManager implements IQueryManager
         property.setPropertyValue(propertyValue);
         property.setPropertyType(propertyType);
         property.setDescription(description);
+        // Manual changes must not be mistaken for data from the last BOM upload.
+        component.setBomFingerprint(null);
         return persist(property);
     }
 
@@ -1083,7 +1143,12 @@ final class ComponentQueryManager extends QueryManager implements IQueryManager
         final Query<ComponentProperty> query = pm.newQuery(ComponentProperty.class);
         query.setFilter("component == :component && uuid == :uuid");
         try {
-            return query.deletePersistentAll(component, uuid);
+            final long propertiesDeleted = query.deletePersistentAll(component, uuid);
+            if (propertiesDeleted > 0) {
+                // Manual changes must not be mistaken for data from the last BOM upload.
+                component.setBomFingerprint(null);
+            }
+            return propertiesDeleted;
         } finally {
             query.closeAll();
         }
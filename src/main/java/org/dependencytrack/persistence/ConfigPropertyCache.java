@@ -0,0 +1,169 @@
+/*
+ * This file is part of Dependency-Track.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.dependencytrack.persistence;
+
+import alpine.Config;
+import alpine.common.metrics.Metrics;
+import alpine.common.util.BooleanUtil;
+import alpine.model.IConfigProperty.PropertyType;
+import io.micrometer.core.instrument.Counter;
+import jakarta.annotation.Nullable;
+import org.dependencytrack.common.ConfigKey;
+import org.dependencytrack.model.ConfigPropertyConstants;
+import org.dependencytrack.persistence.jdbi.ConfigPropertyDao;
+import org.dependencytrack.persistence.jdbi.ConfigPropertyDao.ConfigPropertyValue;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.dependencytrack.persistence.jdbi.JdbiFactory.withJdbiHandle;
+
+/**
+ * A read-through, in-memory cache of config property values.
+ * <p>
+ * Modifications of properties are propagated to the caches of all instances via
+ * Postgres {@code LISTEN} / {@code NOTIFY} (see {@link ConfigPropertyChangeListener}).
+ * Modifications made through {@link QueryManager} invalidate the local cache immediately.
+ * As safety net for missed notifications, cached values expire after
+ * {@link ConfigKey#CONFIG_PROPERTY_CACHE_TTL_DURATION}.
+ *
+ * @since 5.6.0
+ */
+public final class ConfigPropertyCache {
+
+    private static final ConfigPropertyCache INSTANCE = new ConfigPropertyCache(Duration.parse(
+            Config.getInstance().getProperty(ConfigKey.CONFIG_PROPERTY_CACHE_TTL_DURATION)));
+
+    private final Duration ttl;
+    private final AtomicLong generation = new AtomicLong();
+    private final ConcurrentHashMap<PropertyKey, CachedValue> cachedValueByKey = new ConcurrentHashMap<>();
+    private final Counter cacheHitCounter;
+    private final Counter cacheMissCounter;
+    private final Counter propertyInvalidationCounter;
+    private final Counter fullInvalidationCounter;
+
+    ConfigPropertyCache(final Duration ttl) {
+        this.ttl = ttl;
+        this.cacheHitCounter = Counter.builder("config_property_cache_requests")
+                .description("Lookups of config properties")
+                .tag("result", "hit")
+                .register(Metrics.getRegistry());
+        this.cacheMissCounter = Counter.builder("config_property_cache_requests")
+                .description("Lookups of config properties")
+                .tag("result", "miss")
+                .register(Metrics.getRegistry());
+        this.propertyInvalidationCounter = Counter.builder("config_property_cache_invalidations")
+                .description("Invalidations of cached config properties")
+                .tag("scope", "property")
+                .register(Metrics.getRegistry());
+        this.fullInvalidationCounter = Counter.builder("config_property_cache_invalidations")
+                .description("Invalidations of cached config properties")
+                .tag("scope", "all")
+                .register(Metrics.getRegistry());
+    }
+
+    public static ConfigPropertyCache getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * @param groupName    Group name of the property
+     * @param propertyName Name of the property
+     * @return The {@link ConfigPropertyValue}, or {@code null} when the property does not exist
+     */
+    public @Nullable ConfigPropertyValue getValue(final String groupName, final String propertyName) {
+        final var key = new PropertyKey(groupName, propertyName);
+        final long currentGeneration = generation.get();
+        final long nowMillis = System.currentTimeMillis();
+
+        final CachedValue cached = cachedValueByKey.get(key);
+        if (cached != null && nowMillis < cached.expiresAtMillis()) {
+            cacheHitCounter.increment();
+            return cached.value();
+        }
+
+        cacheMissCounter.increment();
+        final ConfigPropertyValue value = withJdbiHandle(handle -> handle.attach(ConfigPropertyDao.class)
+                .getValue(groupName, propertyName)
+                .orElse(null));
+        if (!ttl.isZero() && generation.get() == currentGeneration) {
+            final var cachedValue = new CachedValue(value, nowMillis + ttl.toMillis());
+            cachedValueByKey.put(key, cachedValue);
+
+            // An invalidation may have happened while the value was being loaded.
+            // Evict the value again if so, as it may be outdated already.
+            if (generation.get() != currentGeneration) {
+                cachedValueByKey.remove(key, cachedValue);
+            }
+        }
+
+        return value;
+    }
+
+    /**
+     * @param configPropertyConstant The {@link ConfigPropertyConstants} of the property
+     * @return The {@link ConfigPropertyValue}, or {@code null} when the property does not exist
+     */
+    public @Nullable ConfigPropertyValue getValue(final ConfigPropertyConstants configPropertyConstant) {
+        return getValue(configPropertyConstant.getGroupName(), configPropertyConstant.getPropertyName());
+    }
+
+    /**
+     * @param configPropertyConstant The {@link ConfigPropertyConstants} of the property
+     * @return {@code true} when the property exists, is of type {@link PropertyType#BOOLEAN},
+     * and has a value of {@code true}, otherwise {@code false}
+     */
+    public boolean isEnabled(final ConfigPropertyConstants configPropertyConstant) {
+        final ConfigPropertyValue value = getValue(configPropertyConstant);
+        return value != null
+               && value.type() == PropertyType.BOOLEAN
+               && BooleanUtil.valueOf(value.value());
+    }
+
+    /**
+     * Invalidate the cached value of a given property, e.g. because it has been modified.
+     *
+     * @param groupName    Group name of the property
+     * @param propertyName Name of the property
+     */
+    public void invalidate(final String groupName, final String propertyName) {
+        // Bump the generation to prevent lookups that are in-flight from
+        // populating the cache with values loaded prior to the modification.
+        generation.incrementAndGet();
+        cachedValueByKey.remove(new PropertyKey(groupName, propertyName));
+        propertyInvalidationCounter.increment();
+    }
+
+    /**
+     * Invalidate all cached values, e.g. because modifications may have been missed.
+     */
+    public void invalidateAll() {
+        generation.incrementAndGet();
+        cachedValueByKey.clear();
+        fullInvalidationCounter.increment();
+    }
+
+    private record PropertyKey(String groupName, String propertyName) {
+    }
+
+    private record CachedValue(@Nullable ConfigPropertyValue value, long expiresAtMillis) {
+    }
+
+}
@@ -0,0 +1,94 @@
+/*
+ * This file is part of Dependency-Track.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.dependencytrack.persistence;
+
+import alpine.Config;
+import alpine.common.logging.Logger;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.servlet.ServletContextEvent;
+import jakarta.servlet.ServletContextListener;
+import org.dependencytrack.common.ConfigKey;
+
+import java.time.Duration;
+
+/**
+ * Starts a {@link ConfigPropertyChangeListener} for the global {@link ConfigPropertyCache},
+ * such that modifications of config properties made by other instances are picked up promptly.
+ *
+ * @since 5.6.0
+ */
+public class ConfigPropertyCacheInitializer implements ServletContextListener {
+
+    private static final Logger LOGGER = Logger.getLogger(ConfigPropertyCacheInitializer.class);
+
+    private final Config config;
+    private HikariDataSource dataSource;
+    private ConfigPropertyChangeListener changeListener;
+
+    @SuppressWarnings("unused")
+    public ConfigPropertyCacheInitializer() {
+        this(Config.getInstance());
+    }
+
+    ConfigPropertyCacheInitializer(final Config config) {
+        this.config = config;
+    }
+
+    @Override
+    public void contextInitialized(final ServletContextEvent event) {
+        final Duration ttl = Duration.parse(config.getProperty(ConfigKey.CONFIG_PROPERTY_CACHE_TTL_DURATION));
+        if (ttl.isZero()) {
+            LOGGER.info("Config property caching is disabled; Not listening for changes");
+            return;
+        }
+
+        LOGGER.info("Starting to listen for config property changes");
+        dataSource = createDataSource();
+        changeListener = new ConfigPropertyChangeListener(dataSource, ConfigPropertyCache.getInstance());
+        changeListener.start();
+    }
+
+    @Override
+    public void contextDestroyed(final ServletContextEvent event) {
+        if (changeListener != null) {
+            LOGGER.info("Stopping to listen for config property changes");
+            changeListener.close();
+        }
+        if (dataSource != null) {
+            dataSource.close();
+        }
+    }
+
+    private HikariDataSource createDataSource() {
+        // NB: The listener holds on to its connection for as long as the application is running.
+        // Use a dedicated data source for it, so it doesn't take away capacity from the primary pool.
+        final var hikariCfg = new HikariConfig();
+        hikariCfg.setPoolName("config-property-listener");
+        hikariCfg.setJdbcUrl(config.getProperty(Config.AlpineKey.DATABASE_URL));
+        hikariCfg.setDriverClassName(config.getProperty(Config.AlpineKey.DATABASE_DRIVER));
+        hikariCfg.setUsername(config.getProperty(Config.AlpineKey.DATABASE_USERNAME));
+        hikariCfg.setPassword(config.getProperty(Config.AlpineKey.DATABASE_PASSWORD));
+        hikariCfg.setMaximumPoolSize(1);
+        hikariCfg.setMinimumIdle(0);
+
+        return new HikariDataSource(hikariCfg);
+    }
+
+}
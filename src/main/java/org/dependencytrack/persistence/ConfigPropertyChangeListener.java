@@ -0,0 +1,160 @@
+/*
+ * This file is part of Dependency-Track.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.dependencytrack.persistence;
+
+import alpine.common.logging.Logger;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+
+/**
+ * Listens for notifications about modified config properties, as emitted by
+ * the {@code NOTIFY_CONFIG_PROPERTY_CHANGE} trigger function, and invalidates
+ * the respective values in a {@link ConfigPropertyCache}.
+ * <p>
+ * Listening requires a dedicated database connection for the entire lifetime of the listener.
+ * Whenever the connection is (re-)established, the entire cache is invalidated,
+ * since notifications emitted while no connection was available are lost.
+ *
+ * @since 5.6.0
+ */
+public final class ConfigPropertyChangeListener implements Closeable {
+
+    static final String CHANNEL = "dtrack_config_property_changed";
+
+    private static final Logger LOGGER = Logger.getLogger(ConfigPropertyChangeListener.class);
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final int POLL_TIMEOUT_MILLIS = 1000;
+    private static final Duration RECONNECT_DELAY = Duration.ofSeconds(5);
+
+    private final DataSource dataSource;
+    private final ConfigPropertyCache cache;
+    private final Thread thread;
+    private volatile boolean listening;
+    private volatile boolean stopped;
+
+    public ConfigPropertyChangeListener(final DataSource dataSource, final ConfigPropertyCache cache) {
+        this.dataSource = dataSource;
+        this.cache = cache;
+        this.thread = Thread.ofPlatform()
+                .name(getClass().getSimpleName())
+                .daemon(true)
+                .unstarted(this::run);
+    }
+
+    public void start() {
+        thread.start();
+    }
+
+    /**
+     * @return {@code true} when notifications are currently being listened for, otherwise {@code false}
+     */
+    boolean isListening() {
+        return listening;
+    }
+
+    @Override
+    public void close() {
+        stopped = true;
+        thread.interrupt();
+
+        try {
+            thread.join(RECONNECT_DELAY.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void run() {
+        while (!stopped) {
+            try (final Connection connection = dataSource.getConnection()) {
+                listen(connection);
+            } catch (SQLException | RuntimeException e) {
+                listening = false;
+                if (stopped) {
+                    break;
+                }
+
+                LOGGER.warn("Failed to listen for config property changes; Retrying in %s".formatted(RECONNECT_DELAY), e);
+                try {
+                    Thread.sleep(RECONNECT_DELAY.toMillis());
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+            }
+        }
+
+        listening = false;
+    }
+
+    private void listen(final Connection connection) throws SQLException {
+        connection.setAutoCommit(true);
+        try (final Statement statement = connection.createStatement()) {
+            statement.execute("LISTEN " + CHANNEL);
+        }
+
+        // Modifications made while no connection was available have not been notified about.
+        cache.invalidateAll();
+        listening = true;
+        LOGGER.debug("Listening for config property changes on channel %s".formatted(CHANNEL));
+
+        final PGConnection pgConnection = connection.unwrap(PGConnection.class);
+        while (!stopped) {
+            final PGNotification[] notifications = pgConnection.getNotifications(POLL_TIMEOUT_MILLIS);
+            if (notifications == null) {
+                continue;
+            }
+
+            for (final PGNotification notification : notifications) {
+                handleNotification(notification);
+            }
+        }
+    }
+
+    private void handleNotification(final PGNotification notification) {
+        try {
+            final JsonNode payload = OBJECT_MAPPER.readTree(notification.getParameter());
+            final String groupName = payload.path("groupName").asText(null);
+            final String propertyName = payload.path("propertyName").asText(null);
+            if (groupName == null || propertyName == null) {
+                LOGGER.warn("Received malformed config property change notification: %s"
+                        .formatted(notification.getParameter()));
+                cache.invalidateAll();
+                return;
+            }
+
+            LOGGER.debug("Config property %s/%s was changed".formatted(groupName, propertyName));
+            cache.invalidate(groupName, propertyName);
+        } catch (Exception e) {
+            LOGGER.warn("Failed to process config property change notification: %s"
+                    .formatted(notification.getParameter()), e);
+            cache.invalidateAll();
+        }
+    }
+
+}
@@ -0,0 +1,66 @@
+/*
+ * This file is part of Dependency-Track.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.dependencytrack.persistence;
+
+import alpine.model.ConfigProperty;
+
+import javax.jdo.listener.DeleteLifecycleListener;
+import javax.jdo.listener.InstanceLifecycleEvent;
+import javax.jdo.listener.StoreLifecycleListener;
+
+/**
+ * Invalidates values in the {@link ConfigPropertyCache} when {@link ConfigProperty}s
+ * are modified via JDO, such that the modifying instance observes its own modifications
+ * without having to wait for the respective {@code NOTIFY}.
+ *
+ * @since 5.6.0
+ */
+final class ConfigPropertyLifecycleListener implements StoreLifecycleListener, DeleteLifecycleListener {
+
+    static final ConfigPropertyLifecycleListener INSTANCE = new ConfigPropertyLifecycleListener();
+
+    private ConfigPropertyLifecycleListener() {
+    }
+
+    @Override
+    public void preStore(final InstanceLifecycleEvent event) {
+    }
+
+    @Override
+    public void postStore(final InstanceLifecycleEvent event) {
+        invalidate(event);
+    }
+
+    @Override
+    public void preDelete(final InstanceLifecycleEvent event) {
+        // NB: Fields of deleted objects can no longer be accessed in postDelete.
+        invalidate(event);
+    }
+
+    @Override
+    public void postDelete(final InstanceLifecycleEvent event) {
+    }
+
+    private static void invalidate(final InstanceLifecycleEvent event) {
+        if (event.getPersistentInstance() instanceof final ConfigProperty property) {
+            ConfigPropertyCache.getInstance().invalidate(property.getGroupName(), property.getPropertyName());
+        }
+    }
+
+}
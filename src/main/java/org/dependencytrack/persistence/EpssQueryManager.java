@@ -18,15 +18,20 @@
  */
 package org.dependencytrack.persistence;
 
+import org.apache.commons.lang3.StringUtils;
 import org.dependencytrack.model.Epss;
+import org.dependencytrack.persistence.jdbi.EpssDao;
+import org.dependencytrack.persistence.jdbi.EpssDao.SyncResult;
 
 import javax.jdo.PersistenceManager;
 import javax.jdo.Query;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
+import static org.dependencytrack.persistence.jdbi.JdbiFactory.inJdbiTransaction;
 import static org.dependencytrack.util.PersistenceUtil.applyIfChanged;
 
 final class EpssQueryManager extends QueryManager implements IQueryManager {
@@ -58,14 +63,26 @@ final class EpssQueryManager extends QueryManager implements IQueryManager {
 
     /**
      * Synchronizes a batch of Epss records.
+     * <p>
+     * If the batch contains multiple records for the same CVE, the last one wins.
+     * Records without a CVE are ignored.
+     *
      * @param epssList the batch of Epss records to synchronize
+     * @return the {@link SyncResult} of the synchronization
+     * @since 5.6.0
      */
-    public void synchronizeAllEpss(List<Epss> epssList) {
-        runInTransaction(() -> {
-            for (final Epss epss : epssList) {
-                synchronizeEpss(epss);
+    public SyncResult synchronizeAllEpss(List<Epss> epssList) {
+        final var epssByCve = new LinkedHashMap<String, Epss>();
+        for (final Epss epss : epssList) {
+            if (StringUtils.isNotBlank(epss.getCve())) {
+                epssByCve.put(epss.getCve(), epss);
             }
-        });
+        }
+        if (epssByCve.isEmpty()) {
+            return new SyncResult(0, 0, 0);
+        }
+
+        return inJdbiTransaction(handle -> handle.attach(EpssDao.class).synchronizeAll(epssByCve.values()));
     }
 
     private Epss updateEpss(Epss epss) {
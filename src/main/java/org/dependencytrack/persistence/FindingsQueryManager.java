@@ -224,7 +224,7 @@ public class FindingsQueryManager extends QueryManager implements IQueryManager
             analysis.setSuppressed(isSuppressed);
         }
 
-        analysis = persist(analysis);
+        analysis = persistAndRefreshReadModel(analysis);
         return getAnalysis(analysis.getComponent(), analysis.getVulnerability());
     }
 
@@ -237,7 +237,7 @@ public class FindingsQueryManager extends QueryManager implements IQueryManager
         }
 
         if (transientAnalysis == null) {
-            analysis = persist(analysis);
+            analysis = persistAndRefreshReadModel(analysis);
             return getAnalysis(analysis.getComponent(), analysis.getVulnerability());
         }
 
@@ -279,10 +279,18 @@ public class FindingsQueryManager extends QueryManager implements IQueryManager
         if (transientAnalysis.getOwaspScore() != null) {
             analysis.setOwaspScore(transientAnalysis.getOwaspScore());
         }
-        analysis = persist(analysis);
+        analysis = persistAndRefreshReadModel(analysis);
         return getAnalysis(analysis.getComponent(), analysis.getVulnerability());
     }
 
+    private Analysis persistAndRefreshReadModel(final Analysis analysis) {
+        return callInTransaction(() -> {
+            final Analysis persistedAnalysis = persist(analysis);
+            FindingsReadModel.refreshComponent(this, persistedAnalysis.getComponent().getId());
+            return persistedAnalysis;
+        });
+    }
+
     /**
      * Adds a new analysis comment to the specified analysis.
      *
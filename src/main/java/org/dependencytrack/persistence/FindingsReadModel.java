@@ -0,0 +1,154 @@
+/*
+ * This file is part of Dependency-Track.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.dependencytrack.persistence;
+
+import alpine.Config;
+import org.dependencytrack.persistence.jdbi.FindingsReadModelDao;
+import org.jdbi.v3.core.Handle;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.dependencytrack.common.ConfigKey.FINDINGS_READ_MODEL_ENABLED;
+import static org.dependencytrack.persistence.jdbi.JdbiFactory.withJdbiHandle;
+
+/**
+ * Incremental maintenance of the findings read model, which backs portfolio-wide findings
+ * queries when {@link org.dependencytrack.common.ConfigKey#FINDINGS_READ_MODEL_ENABLED} is set.
+ * <p>
+ * All methods do nothing when the read model is disabled. Changes that are not propagated
+ * through this class are eventually corrected by
+ * {@link org.dependencytrack.tasks.FindingsReadModelTask}.
+ *
+ * @see FindingsReadModelDao
+ * @since 5.6.0
+ */
+public final class FindingsReadModel {
+
+    private FindingsReadModel() {
+    }
+
+    /**
+     * @return {@code true} when the findings read model is maintained and queried, otherwise {@code false}
+     */
+    public static boolean isEnabled() {
+        return Config.getInstance().getPropertyAsBoolean(FINDINGS_READ_MODEL_ENABLED);
+    }
+
+    /**
+     * Refresh the findings of the given components.
+     *
+     * @param handle       The {@link Handle} to use, allowing the refresh to happen
+     *                     in the same transaction as the change that caused it
+     * @param componentIds IDs of the components whose findings have changed
+     */
+    public static void refreshComponents(final Handle handle, final Collection<Long> componentIds) {
+        if (componentIds.isEmpty() || !isEnabled()) {
+            return;
+        }
+
+        handle.attach(FindingsReadModelDao.class).refreshComponents(componentIds);
+    }
+
+    /**
+     * @param qm          The {@link QueryManager} that made the change
+     * @param componentId ID of the component whose findings have changed
+     * @see #refreshComponents(Handle, Collection)
+     * @see #refresh(QueryManager, Consumer)
+     */
+    public static void refreshComponent(final QueryManager qm, final long componentId) {
+        refresh(qm, dao -> dao.refreshComponents(List.of(componentId)));
+    }
+
+    /**
+     * Refresh the findings of the given projects.
+     *
+     * @param handle     The {@link Handle} to use, allowing the refresh to happen
+     *                   in the same transaction as the change that caused it
+     * @param projectIds IDs of the projects whose findings have changed
+     */
+    public static void refreshProjects(final Handle handle, final Collection<Long> projectIds) {
+        if (projectIds.isEmpty() || !isEnabled()) {
+            return;
+        }
+
+        handle.attach(FindingsReadModelDao.class).refreshProjects(projectIds);
+    }
+
+    /**
+     * @param qm        The {@link QueryManager} that made the change
+     * @param projectId ID of the project whose findings have changed
+     * @see #refreshProjects(Handle, Collection)
+     * @see #refresh(QueryManager, Consumer)
+     */
+    public static void refreshProject(final QueryManager qm, final long projectId) {
+        refresh(qm, dao -> dao.refreshProjects(List.of(projectId)));
+    }
+
+    /**
+     * Refresh the findings of the given vulnerabilities.
+     *
+     * @param handle  The {@link Handle} to use, allowing the refresh to happen
+     *                in the same transaction as the change that caused it
+     * @param vulnIds IDs of the vulnerabilities whose findings have changed
+     */
+    public static void refreshVulnerabilities(final Handle handle, final Collection<Long> vulnIds) {
+        if (vulnIds.isEmpty() || !isEnabled()) {
+            return;
+        }
+
+        handle.attach(FindingsReadModelDao.class).refreshVulnerabilities(vulnIds);
+    }
+
+    /**
+     * @param qm     The {@link QueryManager} that made the change
+     * @param vulnId ID of the vulnerability whose findings have changed
+     * @see #refreshVulnerabilities(Handle, Collection)
+     * @see #refresh(QueryManager, Consumer)
+     */
+    public static void refreshVulnerability(final QueryManager qm, final long vulnId) {
+        refresh(qm, dao -> dao.refreshVulnerabilities(List.of(vulnId)));
+    }
+
+    /**
+     * Perform a refresh on the {@link java.sql.Connection} of the given {@link QueryManager}.
+     * <p>
+     * When {@code qm} is participating in an active {@link javax.jdo.Transaction}, pending changes are
+     * flushed first, and the refresh is committed or rolled back along with them. Refreshing on a separate
+     * connection instead would not see changes that are not yet committed, and leave the read model stale.
+     *
+     * @param qm            The {@link QueryManager} that made the change
+     * @param refreshAction The refresh to perform
+     */
+    private static void refresh(final QueryManager qm, final Consumer<FindingsReadModelDao> refreshAction) {
+        if (!isEnabled()) {
+            return;
+        }
+
+        qm.runInTransaction(() -> {
+            qm.getPersistenceManager().flush();
+            withJdbiHandle(qm, handle -> {
+                refreshAction.accept(handle.attach(FindingsReadModelDao.class));
+                return null;
+            });
+        });
+    }
+
+}
@@ -23,23 +23,28 @@ import alpine.persistence.PaginatedResult;
 import alpine.resources.AlpineRequest;
 import alpine.server.util.DbUtil;
 import com.github.packageurl.PackageURL;
-import org.dependencytrack.model.Analysis;
-import org.dependencytrack.model.Component;
-import org.dependencytrack.model.ConfigPropertyConstants;
+import jakarta.annotation.Nullable;
 import org.dependencytrack.model.Finding;
 import org.dependencytrack.model.GroupedFinding;
-import org.dependencytrack.model.RepositoryMetaComponent;
 import org.dependencytrack.model.RepositoryType;
-import org.dependencytrack.model.Vulnerability;
+import org.dependencytrack.model.VulnIdAndSource;
 import org.dependencytrack.model.VulnerabilityAlias;
+import org.dependencytrack.persistence.RepositoryQueryManager.RepositoryMetaComponentSearch;
+import org.dependencytrack.util.PurlUtil;
 
 import javax.jdo.PersistenceManager;
 import javax.jdo.Query;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.UUID;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 
 import static org.dependencytrack.util.PrincipalUtil.getPrincipalTeamIds;
 
@@ -78,6 +83,9 @@ public class FindingsSearchQueryManager extends QueryManager implements IQueryMa
             Map.entry("vulnerability.affectedProjectCount", "COUNT(DISTINCT \"PROJECT\".\"ID\")")
     );
 
+    private static final Pattern READ_MODEL_SOURCE_COLUMN_PATTERN =
+            Pattern.compile("\"(COMPONENT|VULNERABILITY|PROJECT|ANALYSIS|FINDINGATTRIBUTION)\"\\.\"([A-Z0-9_]+)\"");
+
     /**
      * Constructs a new QueryManager.
      * @param pm a PersistenceManager object
@@ -95,6 +103,55 @@ public class FindingsSearchQueryManager extends QueryManager implements IQueryMa
         super(pm, request);
     }
 
+    /**
+     * Position after the last {@link Finding} of a page, for keyset pagination of findings.
+     * <p>
+     * Findings are uniquely identified by the IDs of their component and vulnerability,
+     * which is also the order in which they are returned when no sorting attribute is requested.
+     *
+     * @since 5.6.0
+     */
+    public record FindingsCursor(long componentId, long vulnerabilityId) {
+
+        /**
+         * @return An opaque representation of this cursor, suitable for use in URLs
+         */
+        public String encode() {
+            final String plain = "%d:%d".formatted(componentId, vulnerabilityId);
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(plain.getBytes(StandardCharsets.UTF_8));
+        }
+
+        /**
+         * @param encoded A cursor previously produced by {@link #encode()}
+         * @return The decoded {@link FindingsCursor}
+         * @throws IllegalArgumentException When {@code encoded} is not a valid cursor
+         */
+        public static FindingsCursor decode(final String encoded) {
+            try {
+                final String plain = new String(Base64.getUrlDecoder().decode(encoded), StandardCharsets.UTF_8);
+                final String[] parts = plain.split(":", -1);
+                if (parts.length == 2) {
+                    return new FindingsCursor(Long.parseLong(parts[0]), Long.parseLong(parts[1]));
+                }
+            } catch (IllegalArgumentException e) {
+                // Malformed Base64 or numbers; Handled below.
+            }
+
+            throw new IllegalArgumentException("Invalid cursor: " + encoded);
+        }
+
+    }
+
+    /**
+     * @param findings   The {@link Finding}s of the page
+     * @param total      Total number of findings matching the filters, or {@code null} when it was not requested
+     * @param nextCursor {@link FindingsCursor} pointing to the next page, or {@code null} when this is the last page,
+     *                   or when a sorting attribute was requested
+     * @since 5.6.0
+     */
+    public record FindingsPage(List<Finding> findings, @Nullable Long total, @Nullable FindingsCursor nextCursor) {
+    }
+
     /**
      * Returns a List of all Finding objects filtered by ACL and other optional filters.
      * @param filters        determines the filters to apply on the list of Finding objects
@@ -103,6 +160,45 @@ public class FindingsSearchQueryManager extends QueryManager implements IQueryMa
      * @return a List of Finding objects
      */
     public PaginatedResult getAllFindings(final Map<String, String> filters, final boolean showSuppressed, final boolean showInactive) {
+        final FindingsPage page = getAllFindings(filters, showSuppressed, showInactive, null, true);
+
+        final var result = new PaginatedResult();
+        result.setTotal(page.total());
+        result.setObjects(page.findings());
+        return result;
+    }
+
+    /**
+     * Returns a page of all Finding objects filtered by ACL and other optional filters.
+     * <p>
+     * When a {@link FindingsCursor} is provided, the page starts after the finding it points to,
+     * instead of at the offset of the requested pagination. Unlike offsets, cursors do not require
+     * the database to skip over all findings of previous pages. Cursors can not be combined with sorting.
+     * <p>
+     * Counting all matching findings requires a full scan of them, which callers that merely
+     * iterate over pages can opt out of via {@code includeTotal}.
+     *
+     * @param filters        determines the filters to apply on the list of Finding objects
+     * @param showSuppressed determines if suppressed vulnerabilities should be included or not
+     * @param showInactive   determines if inactive projects should be included or not
+     * @param cursor         the {@link FindingsCursor} to continue after, or {@code null} to use offset pagination
+     * @param includeTotal   determines if the total number of matching findings should be counted
+     * @return a {@link FindingsPage}
+     * @throws IllegalArgumentException When a cursor is provided in combination with a sorting attribute
+     * @since 5.6.0
+     */
+    public FindingsPage getAllFindings(
+            final Map<String, String> filters,
+            final boolean showSuppressed,
+            final boolean showInactive,
+            @Nullable final FindingsCursor cursor,
+            final boolean includeTotal
+    ) {
+        final String sortingAttribute = this.orderBy != null ? sortingAttributes.get(this.orderBy) : null;
+        if (cursor != null && sortingAttribute != null) {
+            throw new IllegalArgumentException("Cursors can not be combined with sorting");
+        }
+
         StringBuilder queryFilter = new StringBuilder();
         Map<String, Object> params = new HashMap<>();
         if (!showInactive) {
@@ -119,39 +215,141 @@ public class FindingsSearchQueryManager extends QueryManager implements IQueryMa
             params.put("showSuppressed", false);
         }
         processFilters(filters, queryFilter, params, false);
-        final Query<Object[]> query = pm.newQuery(Query.SQL, Finding.QUERY_ALL_FINDINGS + queryFilter + (this.orderBy != null ? " ORDER BY " + sortingAttributes.get(this.orderBy) + " " + (this.orderDirection == OrderDirection.DESCENDING ? " DESC" : "ASC") : ""));
-        PaginatedResult result = new PaginatedResult();
+
+        // The total must not be limited by the cursor.
+        final String countQueryFilter = queryFilter.toString();
+        if (cursor != null) {
+            queryFilter.append(queryFilter.isEmpty() ? " WHERE " : " AND ");
+            queryFilter.append("(\"COMPONENT\".\"ID\", \"VULNERABILITY\".\"ID\") > (:cursorComponentId, :cursorVulnerabilityId)");
+            params.put("cursorComponentId", cursor.componentId());
+            params.put("cursorVulnerabilityId", cursor.vulnerabilityId());
+        }
+
+        final var orderByClause = new StringBuilder(" ORDER BY ");
+        if (sortingAttribute != null) {
+            orderByClause.append(sortingAttribute)
+                    .append(this.orderDirection == OrderDirection.DESCENDING ? " DESC" : " ASC")
+                    .append(", ");
+        }
+        // A finding is uniquely identified by its component and vulnerability. Sorting by both
+        // as tiebreaker keeps the order stable across pages, even if the requested sorting
+        // attribute contains duplicates.
+        orderByClause.append("\"COMPONENT\".\"ID\", \"VULNERABILITY\".\"ID\"");
+        final boolean isPaginated = this.pagination != null && this.pagination.isPaginated();
+        final String paginationClause;
+        if (!isPaginated) {
+            paginationClause = "";
+        } else if (cursor != null) {
+            paginationClause = " LIMIT %d".formatted(this.pagination.getLimit());
+        } else {
+            paginationClause = " OFFSET %d LIMIT %d".formatted(this.pagination.getOffset(), this.pagination.getLimit());
+        }
+
+        final String countQueryString;
+        final String queryString;
+        if (FindingsReadModel.isEnabled()) {
+            // Filter, sort, and paginate on the read model alone, and only join
+            // the findings of the requested page with the tables they originate from.
+            final String readModelFilter = toReadModelColumns(queryFilter.toString());
+            final String readModelOrderByClause = toReadModelColumns(orderByClause.toString());
+            countQueryString = "SELECT COUNT(*) FROM \"FINDING_READ_MODEL\"" + toReadModelColumns(countQueryFilter);
+            queryString = Finding.QUERY_ALL_FINDINGS_READ_MODEL.formatted(
+                    "SELECT * FROM \"FINDING_READ_MODEL\"" + readModelFilter + readModelOrderByClause + paginationClause)
+                    + readModelOrderByClause;
+        } else {
+            countQueryString = Finding.QUERY_COUNT_ALL_FINDINGS + countQueryFilter;
+            queryString = Finding.QUERY_ALL_FINDINGS + queryFilter + orderByClause + paginationClause;
+        }
+
+        Long total = null;
+        if (includeTotal) {
+            final Query<?> countQuery = pm.newQuery(Query.SQL, countQueryString);
+            countQuery.setNamedParameters(params);
+            try {
+                total = countQuery.executeResultUnique(Long.class);
+            } finally {
+                countQuery.closeAll();
+            }
+        }
+
+        final Query<Object[]> query = pm.newQuery(Query.SQL, queryString);
         query.setNamedParameters(params);
-        final List<Object[]> totalList = query.executeList();
-        result.setTotal(totalList.size());
-        final List<Object[]> list = totalList.subList(this.pagination.getOffset(), Math.min(this.pagination.getOffset() + this.pagination.getLimit(), totalList.size()));
-        final List<Finding> findings = new ArrayList<>();
-        for (final Object[] o : list) {
-            final Finding finding = new Finding(UUID.fromString((String) o[29]), o);
-            final Component component = getObjectByUuid(Component.class, (String) finding.getComponent().get("uuid"));
-            final Vulnerability vulnerability = getObjectByUuid(Vulnerability.class, (String) finding.getVulnerability().get("uuid"));
-            final Analysis analysis = getAnalysis(component, vulnerability);
-            final List<VulnerabilityAlias> aliases = detach(getVulnerabilityAliases(vulnerability));
-            aliases.forEach(alias -> alias.setUuid(null));
-            finding.getVulnerability().put("aliases", aliases);
-            // These are CLOB fields. Handle these here so that database-specific deserialization doesn't need to be performed (in Finding)
-            finding.getVulnerability().put("description", vulnerability.getDescription());
-            finding.getVulnerability().put("recommendation", vulnerability.getRecommendation());
-            final PackageURL purl = component.getPurl();
-            if (purl != null) {
-                final RepositoryType type = RepositoryType.resolve(purl);
-                if (RepositoryType.UNSUPPORTED != type) {
-                    final RepositoryMetaComponent repoMetaComponent = getRepositoryMetaComponent(type, purl.getNamespace(), purl.getName());
-                    if (repoMetaComponent != null) {
-                        finding.getComponent().put("latestVersion", repoMetaComponent.getLatestVersion());
-                    }
-                }
+        final List<Object[]> queryResultRows;
+        try {
+            queryResultRows = new ArrayList<>(query.executeList());
+        } finally {
+            query.closeAll();
+        }
+
+        final List<Finding> findings = queryResultRows.stream()
+                .map(row -> new Finding(UUID.fromString((String) row[29]), row))
+                .toList();
+        addVulnerabilityAliases(findings);
+        addLatestVersions(findings);
 
+        FindingsCursor nextCursor = null;
+        if (isPaginated && sortingAttribute == null && queryResultRows.size() == this.pagination.getLimit()) {
+            final Object[] lastRow = queryResultRows.get(queryResultRows.size() - 1);
+            nextCursor = new FindingsCursor(((Number) lastRow[32]).longValue(), ((Number) lastRow[33]).longValue());
+        }
+
+        return new FindingsPage(findings, total, nextCursor);
+    }
+
+    private void addVulnerabilityAliases(final List<Finding> findings) {
+        final Map<VulnIdAndSource, List<Finding>> findingsByVulnIdAndSource = findings.stream()
+                .collect(Collectors.groupingBy(
+                        finding -> new VulnIdAndSource(
+                                (String) finding.getVulnerability().get("vulnId"),
+                                (String) finding.getVulnerability().get("source")
+                        )
+                ));
+        final Map<VulnIdAndSource, List<VulnerabilityAlias>> aliasesByVulnIdAndSource =
+                getVulnerabilityAliases(findingsByVulnIdAndSource.keySet());
+        for (final Map.Entry<VulnIdAndSource, List<Finding>> entry : findingsByVulnIdAndSource.entrySet()) {
+            final List<VulnerabilityAlias> aliases = aliasesByVulnIdAndSource.getOrDefault(entry.getKey(), Collections.emptyList());
+            for (final Finding finding : entry.getValue()) {
+                finding.getVulnerability().put("aliases", aliases);
             }
-            findings.add(finding);
         }
-        result.setObjects(findings);
-        return result;
+    }
+
+    private void addLatestVersions(final List<Finding> findings) {
+        final Map<RepositoryMetaComponentSearch, List<Finding>> findingsByMetaComponentSearch = findings.stream()
+                .filter(finding -> finding.getComponent().get("purl") != null)
+                .map(finding -> {
+                    final PackageURL purl = PurlUtil.silentPurl((String) finding.getComponent().get("purl"));
+                    if (purl == null) {
+                        return null;
+                    }
+
+                    final var repositoryType = RepositoryType.resolve(purl);
+                    if (repositoryType == RepositoryType.UNSUPPORTED) {
+                        return null;
+                    }
+
+                    final var search = new RepositoryMetaComponentSearch(repositoryType, purl.getNamespace(), purl.getName());
+                    return Map.entry(search, finding);
+                })
+                .filter(Objects::nonNull)
+                .collect(Collectors.groupingBy(
+                        Map.Entry::getKey,
+                        Collectors.mapping(Map.Entry::getValue, Collectors.toList())
+                ));
+        if (findingsByMetaComponentSearch.isEmpty()) {
+            return;
+        }
+
+        getRepositoryMetaComponents(List.copyOf(findingsByMetaComponentSearch.keySet()))
+                .forEach(metaComponent -> {
+                    final var search = new RepositoryMetaComponentSearch(metaComponent.getRepositoryType(), metaComponent.getNamespace(), metaComponent.getName());
+                    final List<Finding> affectedFindings = findingsByMetaComponentSearch.get(search);
+                    if (affectedFindings != null) {
+                        for (final Finding finding : affectedFindings) {
+                            finding.getComponent().put("latestVersion", metaComponent.getLatestVersion());
+                        }
+                    }
+                });
     }
 
     /**
@@ -168,21 +366,65 @@ public class FindingsSearchQueryManager extends QueryManager implements IQueryMa
             params.put("active", true);
         }
         processFilters(filters, queryFilter, params, true);
-        final Query<Object[]> query = pm.newQuery(Query.SQL, GroupedFinding.QUERY + queryFilter + (this.orderBy != null ? " ORDER BY " + sortingAttributes.get(this.orderBy) + " " + (this.orderDirection == OrderDirection.DESCENDING ? " DESC" : "ASC") : ""));
-        PaginatedResult result = new PaginatedResult();
+        final var orderByClause = new StringBuilder(" ORDER BY ");
+        if (this.orderBy != null) {
+            orderByClause.append(sortingAttributes.get(this.orderBy))
+                    .append(this.orderDirection == OrderDirection.DESCENDING ? " DESC" : " ASC")
+                    .append(", ");
+        }
+        // A group is uniquely identified by its vulnerability and analyzer. Sorting by both
+        // as tiebreaker keeps the order stable across pages.
+        orderByClause.append("\"VULNERABILITY\".\"ID\", \"FINDINGATTRIBUTION\".\"ANALYZERIDENTITY\"");
+        final String paginationClause = this.pagination != null && this.pagination.isPaginated()
+                ? " OFFSET %d LIMIT %d".formatted(this.pagination.getOffset(), this.pagination.getLimit())
+                : "";
+
+        final String groupedQueryString = FindingsReadModel.isEnabled()
+                ? GroupedFinding.QUERY_READ_MODEL + toReadModelColumns(queryFilter.toString())
+                : GroupedFinding.QUERY + queryFilter;
+        final String countQueryString = "SELECT COUNT(*) FROM (" + groupedQueryString + ") AS \"GROUPED_FINDING\"";
+        final String queryString = groupedQueryString
+                + (FindingsReadModel.isEnabled() ? toReadModelColumns(orderByClause.toString()) : orderByClause)
+                + paginationClause;
+
+        final long total;
+        final Query<?> countQuery = pm.newQuery(Query.SQL, countQueryString);
+        countQuery.setNamedParameters(params);
+        try {
+            total = countQuery.executeResultUnique(Long.class);
+        } finally {
+            countQuery.closeAll();
+        }
+
+        final Query<Object[]> query = pm.newQuery(Query.SQL, queryString);
         query.setNamedParameters(params);
-        final List<Object[]> totalList = query.executeList();
-        result.setTotal(totalList.size());
-        final List<Object[]> list = totalList.subList(this.pagination.getOffset(), Math.min(this.pagination.getOffset() + this.pagination.getLimit(), totalList.size()));
         final List<GroupedFinding> findings = new ArrayList<>();
-        for (Object[] o : list) {
-            final GroupedFinding finding = new GroupedFinding(o);
-            findings.add(finding);
+        try {
+            for (final Object[] row : query.executeList()) {
+                findings.add(new GroupedFinding(row));
+            }
+        } finally {
+            query.closeAll();
         }
+
+        final var result = new PaginatedResult();
+        result.setTotal(total);
         result.setObjects(findings);
         return result;
     }
 
+    /**
+     * Rewrites references to columns of the tables that findings are composed of,
+     * to the corresponding columns of the findings read model.
+     *
+     * @param sql The SQL fragment to rewrite
+     * @return The rewritten SQL fragment
+     * @see org.dependencytrack.persistence.jdbi.FindingsReadModelDao
+     */
+    private static String toReadModelColumns(final String sql) {
+        return READ_MODEL_SOURCE_COLUMN_PATTERN.matcher(sql).replaceAll("\"FINDING_READ_MODEL\".\"$1_$2\"");
+    }
+
     private void processFilters(Map<String, String> filters, StringBuilder queryFilter, Map<String, Object> params, boolean isGroupedByVulnerabilities) {
         for (String filter : filters.keySet()) {
             switch (filter) {
@@ -345,7 +587,7 @@ public class FindingsSearchQueryManager extends QueryManager implements IQueryMa
     }
 
     private void preprocessACLs(StringBuilder queryFilter, final Map<String, Object> params) {
-        if (!isEnabled(ConfigPropertyConstants.ACCESS_MANAGEMENT_ACL_ENABLED)
+        if (!isAclEnabled()
                 || hasAccessManagementPermission(this.principal)) {
             return;
         }
@@ -26,11 +26,21 @@ import org.dependencytrack.model.PortfolioMetrics;
 import org.dependencytrack.model.Project;
 import org.dependencytrack.model.ProjectMetrics;
 import org.dependencytrack.model.VulnerabilityMetrics;
+import org.dependencytrack.persistence.jdbi.ProjectDao;
+import org.dependencytrack.persistence.jdbi.ProjectDao.LastProjectMetricsRow;
 
 import javax.jdo.PersistenceManager;
 import javax.jdo.Query;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.dependencytrack.persistence.jdbi.JdbiFactory.withJdbiHandle;
 
 public class MetricsQueryManager extends QueryManager implements IQueryManager {
 
@@ -106,10 +116,44 @@ public class MetricsQueryManager extends QueryManager implements IQueryManager {
      * @return a ProjectMetrics object
      */
     public ProjectMetrics getMostRecentProjectMetrics(Project project) {
-        final Query<ProjectMetrics> query = pm.newQuery(ProjectMetrics.class, "project == :project");
-        query.setOrdering("lastOccurrence desc");
-        query.setRange(0, 1);
-        return singleResult(query.execute(project));
+        return getMostRecentProjectMetrics(List.of(project)).get(project.getId());
+    }
+
+    /**
+     * Retrieves the most recent ProjectMetrics of multiple projects at once.
+     *
+     * @param projects the Projects to retrieve metrics for
+     * @return a Map of ProjectMetrics objects, keyed by Project ID; projects without metrics are omitted
+     * @since 5.6.0
+     */
+    public Map<Long, ProjectMetrics> getMostRecentProjectMetrics(final Collection<Project> projects) {
+        if (projects.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        final List<Long> projectIds = projects.stream().map(Project::getId).toList();
+        final Map<Long, Long> projectIdByMetricsId = withJdbiHandle(handle -> handle
+                .attach(ProjectDao.class)
+                .getLastProjectMetricsIds(projectIds)).stream()
+                .collect(Collectors.toMap(LastProjectMetricsRow::metricsId, LastProjectMetricsRow::projectId));
+        if (projectIdByMetricsId.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        final Query<ProjectMetrics> query = pm.newQuery(ProjectMetrics.class, ":ids.contains(id)");
+        query.setParameters(projectIdByMetricsId.keySet());
+        final List<ProjectMetrics> metricsList;
+        try {
+            metricsList = new ArrayList<>(query.executeList());
+        } finally {
+            query.closeAll();
+        }
+
+        final var metricsByProjectId = new HashMap<Long, ProjectMetrics>(metricsList.size());
+        for (final ProjectMetrics metrics : metricsList) {
+            metricsByProjectId.put(projectIdByMetricsId.get(metrics.getId()), metrics);
+        }
+        return metricsByProjectId;
     }
 
     /**
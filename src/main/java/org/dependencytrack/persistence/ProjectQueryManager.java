@@ -20,7 +20,6 @@ package org.dependencytrack.persistence;
 
 import alpine.common.logging.Logger;
 import alpine.model.ApiKey;
-import alpine.model.Permission;
 import alpine.model.Team;
 import alpine.model.UserPrincipal;
 import alpine.notification.Notification;
@@ -31,24 +30,20 @@ import com.github.packageurl.PackageURL;
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.dependencytrack.auth.Permissions;
+import org.dependencytrack.auth.PrincipalAccessCache;
+import org.dependencytrack.auth.PrincipalAccessCache.PrincipalAccess;
 import org.dependencytrack.event.kafka.KafkaEventDispatcher;
-import org.dependencytrack.model.Analysis;
-import org.dependencytrack.model.AnalysisComment;
 import org.dependencytrack.model.Classifier;
-import org.dependencytrack.model.Component;
-import org.dependencytrack.model.ConfigPropertyConstants;
-import org.dependencytrack.model.FindingAttribution;
-import org.dependencytrack.model.PolicyViolation;
 import org.dependencytrack.model.Project;
 import org.dependencytrack.model.ProjectMetadata;
+import org.dependencytrack.model.ProjectMetrics;
 import org.dependencytrack.model.ProjectProperty;
 import org.dependencytrack.model.ProjectVersion;
-import org.dependencytrack.model.ServiceComponent;
 import org.dependencytrack.model.Tag;
-import org.dependencytrack.model.Vulnerability;
 import org.dependencytrack.notification.NotificationConstants;
 import org.dependencytrack.notification.NotificationGroup;
 import org.dependencytrack.notification.NotificationScope;
+import org.dependencytrack.persistence.jdbi.ProjectCloneDao;
 
 import javax.jdo.PersistenceManager;
 import javax.jdo.Query;
@@ -56,11 +51,12 @@ import javax.jdo.Transaction;
 import java.security.Principal;
 import java.util.ArrayList;
 import java.util.Date;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 
+import static org.dependencytrack.persistence.jdbi.JdbiFactory.withJdbiHandle;
+
 final class ProjectQueryManager extends QueryManager implements IQueryManager {
 
     private static final Logger LOGGER = Logger.getLogger(ProjectQueryManager.class);
@@ -129,13 +125,24 @@ final class ProjectQueryManager extends QueryManager implements IQueryManager {
         if (includeMetrics) {
             // Populate each Project object in the paginated result with transitive related
             // data to minimize the number of round trips a client needs to make, process, and render.
-            for (Project project : result.getList(Project.class)) {
-                project.setMetrics(getMostRecentProjectMetrics(project));
-            }
+            populateMetrics(result.getList(Project.class));
         }
         return result;
     }
 
+    /**
+     * Populates the most recent metrics of the given projects,
+     * using a single lookup for all of them.
+     *
+     * @param projects the Projects to populate metrics of
+     */
+    private void populateMetrics(final List<Project> projects) {
+        final Map<Long, ProjectMetrics> metricsByProjectId = getMostRecentProjectMetrics(projects);
+        for (final Project project : projects) {
+            project.setMetrics(metricsByProjectId.get(project.getId()));
+        }
+    }
+
     /**
      * Returns a list of all projects.
      *
@@ -329,9 +336,7 @@ final class ProjectQueryManager extends QueryManager implements IQueryManager {
         if (includeMetrics) {
             // Populate each Project object in the paginated result with transitive related
             // data to minimize the number of round trips a client needs to make, process, and render.
-            for (Project project : result.getList(Project.class)) {
-                project.setMetrics(getMostRecentProjectMetrics(project));
-            }
+            populateMetrics(result.getList(Project.class));
         }
         return result;
     }
@@ -367,9 +372,7 @@ final class ProjectQueryManager extends QueryManager implements IQueryManager {
         if (includeMetrics) {
             // Populate each Project object in the paginated result with transitive related
             // data to minimize the number of round trips a client needs to make, process, and render.
-            for (Project project : result.getList(Project.class)) {
-                project.setMetrics(getMostRecentProjectMetrics(project));
-            }
+            populateMetrics(result.getList(Project.class));
         }
         return result;
     }
@@ -504,152 +507,127 @@ final class ProjectQueryManager extends QueryManager implements IQueryManager {
         final List<Tag> resolvedTags = resolveTags(transientProject.getTags());
         bind(project, resolvedTags);
 
-        final Project result = persist(project);
-        return result;
+        return callInTransaction(() -> {
+            final Project result = persist(project);
+            FindingsReadModel.refreshProject(this, result.getId());
+            return result;
+        });
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The project itself, and its metadata, tags, properties, and ACL are cloned via DataNucleus.
+     * Components, services, and everything associated with them, are copied in bulk using
+     * {@code INSERT ... SELECT} statements, without loading them into memory.
+     * Everything happens in a single transaction.
+     *
+     * @see ProjectCloneDao
+     */
     @Override
     public Project clone(UUID from, String newVersion, boolean includeTags, boolean includeProperties,
                          boolean includeComponents, boolean includeServices, boolean includeAuditHistory,
                          boolean includeACL, boolean includePolicyViolations) {
-        final Project source = getObjectByUuid(Project.class, from, Project.FetchGroup.ALL.name());
-        if (source == null) {
-            throw new IllegalStateException("Project with UUID %s was supposed to be cloned, but it does not exist anymore".formatted(from));
-        }
-        if (doesProjectExist(source.getName(), newVersion)) {
-            // Project cloning is an asynchronous process. When receiving the clone request, we already perform
-            // this check. It is possible though that a project with the new version is created synchronously
-            // between the clone event being dispatched, and it being processed.
-            throw new IllegalStateException("Project %s was supposed to be cloned to version %s, but that version already exists"
-                    .formatted(source, newVersion));
-        }
-        Project project = new Project();
-        project.setAuthor(source.getAuthor());
-        project.setManufacturer(source.getManufacturer());
-        project.setSupplier(source.getSupplier());
-        project.setPublisher(source.getPublisher());
-        project.setGroup(source.getGroup());
-        project.setName(source.getName());
-        project.setDescription(source.getDescription());
-        project.setVersion(newVersion);
-        project.setClassifier(source.getClassifier());
-        project.setActive(source.isActive());
-        project.setCpe(source.getCpe());
-        project.setPurl(source.getPurl());
-        project.setSwidTagId(source.getSwidTagId());
-        if (includeComponents && includeServices) {
-            project.setDirectDependencies(source.getDirectDependencies());
-        }
-        project.setParent(source.getParent());
-        project = persist(project);
-
-        if (source.getMetadata() != null) {
-            final var metadata = new ProjectMetadata();
-            metadata.setProject(project);
-            metadata.setAuthors(source.getMetadata().getAuthors());
-            metadata.setSupplier(source.getMetadata().getSupplier());
-            persist(metadata);
-        }
-
-        if (includeTags) {
-            for (final Tag tag : source.getTags()) {
-                tag.getProjects().add(project);
-                persist(tag);
+        final Project clonedProject = callInTransaction(() -> {
+            final Project source = getObjectByUuid(Project.class, from, Project.FetchGroup.ALL.name());
+            if (source == null) {
+                throw new IllegalStateException("Project with UUID %s was supposed to be cloned, but it does not exist anymore".formatted(from));
+            }
+            if (doesProjectExist(source.getName(), newVersion)) {
+                // Project cloning is an asynchronous process. When receiving the clone request, we already perform
+                // this check. It is possible though that a project with the new version is created synchronously
+                // between the clone event being dispatched, and it being processed.
+                throw new IllegalStateException("Project %s was supposed to be cloned to version %s, but that version already exists"
+                        .formatted(source, newVersion));
+            }
+            final var project = new Project();
+            project.setAuthor(source.getAuthor());
+            project.setManufacturer(source.getManufacturer());
+            project.setSupplier(source.getSupplier());
+            project.setPublisher(source.getPublisher());
+            project.setGroup(source.getGroup());
+            project.setName(source.getName());
+            project.setDescription(source.getDescription());
+            project.setVersion(newVersion);
+            project.setClassifier(source.getClassifier());
+            project.setActive(source.isActive());
+            project.setCpe(source.getCpe());
+            project.setPurl(source.getPurl());
+            project.setSwidTagId(source.getSwidTagId());
+            project.setParent(source.getParent());
+            pm.makePersistent(project);
+
+            if (source.getMetadata() != null) {
+                final var metadata = new ProjectMetadata();
+                metadata.setProject(project);
+                metadata.setAuthors(source.getMetadata().getAuthors());
+                metadata.setSupplier(source.getMetadata().getSupplier());
+                pm.makePersistent(metadata);
             }
-        }
 
-        if (includeProperties && source.getProperties() != null) {
-            for (final ProjectProperty sourceProperty : source.getProperties()) {
-                final ProjectProperty property = new ProjectProperty();
-                property.setProject(project);
-                property.setPropertyType(sourceProperty.getPropertyType());
-                property.setGroupName(sourceProperty.getGroupName());
-                property.setPropertyName(sourceProperty.getPropertyName());
-                property.setPropertyValue(sourceProperty.getPropertyValue());
-                property.setDescription(sourceProperty.getDescription());
-                persist(property);
+            if (includeTags) {
+                for (final Tag tag : source.getTags()) {
+                    tag.getProjects().add(project);
+                }
             }
-        }
 
-        final Map<Long, Component> clonedComponents = new HashMap<>();
-        if (includeComponents) {
-            final List<Component> sourceComponents = getAllComponents(source);
-            if (sourceComponents != null) {
-                for (final Component sourceComponent : sourceComponents) {
-                    final Component clonedComponent = cloneComponent(sourceComponent, project, false);
-                    // Add vulnerabilties and finding attribution from the source component to the cloned component
-                    for (Vulnerability vuln : sourceComponent.getVulnerabilities()) {
-                        final FindingAttribution sourceAttribution = this.getFindingAttribution(vuln, sourceComponent);
-                        this.addVulnerability(vuln, clonedComponent, sourceAttribution.getAnalyzerIdentity(), sourceAttribution.getAlternateIdentifier(),
-                                sourceAttribution.getReferenceUrl(), sourceAttribution.getAttributedOn());
-                    }
-                    clonedComponents.put(sourceComponent.getId(), clonedComponent);
+            if (includeProperties && source.getProperties() != null) {
+                for (final ProjectProperty sourceProperty : source.getProperties()) {
+                    final ProjectProperty property = new ProjectProperty();
+                    property.setProject(project);
+                    property.setPropertyType(sourceProperty.getPropertyType());
+                    property.setGroupName(sourceProperty.getGroupName());
+                    property.setPropertyName(sourceProperty.getPropertyName());
+                    property.setPropertyValue(sourceProperty.getPropertyValue());
+                    property.setDescription(sourceProperty.getDescription());
+                    pm.makePersistent(property);
                 }
             }
-        }
 
-        if (includeServices) {
-            final List<ServiceComponent> sourceServices = getAllServiceComponents(source);
-            if (sourceServices != null) {
-                for (final ServiceComponent sourceService : sourceServices) {
-                    cloneServiceComponent(sourceService, project, false);
+            if (includeACL) {
+                List<Team> accessTeams = source.getAccessTeams();
+                if (!CollectionUtils.isEmpty(accessTeams)) {
+                    project.setAccessTeams(new ArrayList<>(accessTeams));
                 }
             }
-        }
 
-        if (includeAuditHistory && includeComponents) {
-            final List<Analysis> analyses = super.getAnalyses(source);
-            if (analyses != null) {
-                for (final Analysis sourceAnalysis : analyses) {
-                    Analysis analysis = new Analysis();
-                    analysis.setAnalysisState(sourceAnalysis.getAnalysisState());
-                    final Component clonedComponent = clonedComponents.get(sourceAnalysis.getComponent().getId());
-                    if (clonedComponent == null) {
-                        break;
+            // Ensure the project row exists before rows referencing it are inserted via JDBI.
+            pm.flush();
+
+            if (includeComponents || includeServices) {
+                withJdbiHandle(this, handle -> {
+                    final var dao = handle.attach(ProjectCloneDao.class);
+                    final String projectUuid = project.getUuid().toString();
+
+                    if (includeServices) {
+                        dao.cloneServiceComponents(source.getId(), project.getId(), projectUuid);
                     }
-                    analysis.setComponent(clonedComponent);
-                    analysis.setVulnerability(sourceAnalysis.getVulnerability());
-                    analysis.setSuppressed(sourceAnalysis.isSuppressed());
-                    analysis.setAnalysisResponse(sourceAnalysis.getAnalysisResponse());
-                    analysis.setAnalysisJustification(sourceAnalysis.getAnalysisJustification());
-                    analysis.setAnalysisState(sourceAnalysis.getAnalysisState());
-                    analysis.setAnalysisDetails(sourceAnalysis.getAnalysisDetails());
-                    analysis.setVulnerabilityPolicyId(sourceAnalysis.getVulnerabilityPolicyId());
-                    analysis = persist(analysis);
-                    if (sourceAnalysis.getAnalysisComments() != null) {
-                        for (final AnalysisComment sourceComment : sourceAnalysis.getAnalysisComments()) {
-                            final AnalysisComment analysisComment = new AnalysisComment();
-                            analysisComment.setAnalysis(analysis);
-                            analysisComment.setTimestamp(sourceComment.getTimestamp());
-                            analysisComment.setComment(sourceComment.getComment());
-                            analysisComment.setCommenter(sourceComment.getCommenter());
-                            persist(analysisComment);
+
+                    if (includeComponents) {
+                        dao.cloneComponents(source.getId(), project.getId(), projectUuid);
+                        dao.cloneComponentVulnerabilities(source.getId(), project.getId(), projectUuid);
+                        if (includeServices && source.getDirectDependencies() != null) {
+                            // Updated via DataNucleus on commit, at which point all components and services exist.
+                            project.setDirectDependencies(dao.remapDirectDependencies(source.getDirectDependencies(), projectUuid));
+                        }
+                        if (includeAuditHistory) {
+                            dao.cloneAnalyses(source.getId(), project.getId(), projectUuid);
+                        }
+                        if (includePolicyViolations) {
+                            dao.clonePolicyViolations(source.getId(), project.getId(), projectUuid);
                         }
+
+                        FindingsReadModel.refreshProjects(handle, List.of(project.getId()));
                     }
-                }
-            }
-        }
 
-        if (includeACL) {
-            List<Team> accessTeams = source.getAccessTeams();
-            if (!CollectionUtils.isEmpty(accessTeams)) {
-                project.setAccessTeams(new ArrayList<>(accessTeams));
+                    return null;
+                });
             }
-        }
 
-        if(includeComponents && includePolicyViolations){
-            final List<PolicyViolation> sourcePolicyViolations = getAllPolicyViolations(source);
-            if(sourcePolicyViolations != null){
-                for(final PolicyViolation policyViolation: sourcePolicyViolations){
-                final Component destinationComponent = clonedComponents.get(policyViolation.getComponent().getId());
-                final PolicyViolation clonedPolicyViolation = clonePolicyViolation(policyViolation, destinationComponent);
-                persist(clonedPolicyViolation);
-                }   
-            }
-       }
+            return project;
+        });
 
-        project = getObjectById(Project.class, project.getId());
-        return project;
+        return getObjectById(Project.class, clonedProject.getId());
     }
 
     /**
@@ -814,7 +792,7 @@ final class ProjectQueryManager extends QueryManager implements IQueryManager {
 
     @Override
     public boolean hasAccess(final Principal principal, final Project project) {
-        if (isEnabled(ConfigPropertyConstants.ACCESS_MANAGEMENT_ACL_ENABLED)) {
+        if (isAclEnabled()) {
             if (principal instanceof UserPrincipal userPrincipal) {
                 if (super.hasAccessManagementPermission(userPrincipal)) {
                     return true;
@@ -855,7 +833,7 @@ final class ProjectQueryManager extends QueryManager implements IQueryManager {
      * A similar method exists in ComponentQueryManager
      */
     private void preprocessACLs(final Query<Project> query, final String inputFilter, final Map<String, Object> params, final boolean bypass) {
-        if (super.principal != null && isEnabled(ConfigPropertyConstants.ACCESS_MANAGEMENT_ACL_ENABLED) && !bypass) {
+        if (super.principal != null && isAclEnabled() && !bypass) {
             final List<Team> teams;
             if (super.principal instanceof UserPrincipal userPrincipal) {
                 teams = userPrincipal.getTeams();
@@ -904,7 +882,7 @@ final class ProjectQueryManager extends QueryManager implements IQueryManager {
      */
     @Override
     public boolean updateNewProjectACL(Project project, Principal principal) {
-        if (isEnabled(ConfigPropertyConstants.ACCESS_MANAGEMENT_ACL_ENABLED) && principal instanceof ApiKey apiKey) {
+        if (isAclEnabled() && principal instanceof ApiKey apiKey) {
             final var apiTeam = apiKey.getTeams().stream().findFirst();
             if (apiTeam.isPresent()) {
                 LOGGER.debug("adding Team to ACL of newly created project");
@@ -921,17 +899,14 @@ final class ProjectQueryManager extends QueryManager implements IQueryManager {
 
     @Override
     public boolean hasAccessManagementPermission(final UserPrincipal userPrincipal) {
-        for (Permission permission : getEffectivePermissions(userPrincipal)) {
-            if (Permissions.ACCESS_MANAGEMENT.name().equals(permission.getName())) {
-                return true;
-            }
-        }
-        return false;
+        final PrincipalAccess access = PrincipalAccessCache.getInstance().getAccess(userPrincipal);
+        return access != null && access.hasPermission(Permissions.ACCESS_MANAGEMENT.name());
     }
 
     @Override
     public boolean hasAccessManagementPermission(final ApiKey apiKey) {
-        return hasPermission(apiKey, Permissions.ACCESS_MANAGEMENT.name());
+        final PrincipalAccess access = PrincipalAccessCache.getInstance().getAccess(apiKey);
+        return access != null && access.hasPermission(Permissions.ACCESS_MANAGEMENT.name());
     }
 
     @Override
@@ -967,9 +942,7 @@ final class ProjectQueryManager extends QueryManager implements IQueryManager {
         if (includeMetrics) {
             // Populate each Project object in the paginated result with transitive related
             // data to minimize the number of round trips a client needs to make, process, and render.
-            for (Project project : result.getList(Project.class)) {
-                project.setMetrics(getMostRecentProjectMetrics(project));
-            }
+            populateMetrics(result.getList(Project.class));
         }
         return result;
     }
@@ -996,9 +969,7 @@ final class ProjectQueryManager extends QueryManager implements IQueryManager {
         if (includeMetrics) {
             // Populate each Project object in the paginated result with transitive related
             // data to minimize the number of round trips a client needs to make, process, and render.
-            for (Project project : result.getList(Project.class)) {
-                project.setMetrics(getMostRecentProjectMetrics(project));
-            }
+            populateMetrics(result.getList(Project.class));
         }
         return result;
     }
@@ -1029,9 +1000,7 @@ final class ProjectQueryManager extends QueryManager implements IQueryManager {
         if (includeMetrics) {
             // Populate each Project object in the paginated result with transitive related
             // data to minimize the number of round trips a client needs to make, process, and render.
-            for (Project project : result.getList(Project.class)) {
-                project.setMetrics(getMostRecentProjectMetrics(project));
-            }
+            populateMetrics(result.getList(Project.class));
         }
         return result;
     }
@@ -19,7 +19,6 @@
 package org.dependencytrack.persistence;
 
 import alpine.common.logging.Logger;
-import alpine.common.util.BooleanUtil;
 import alpine.common.validation.RegexSequence;
 import alpine.model.ApiKey;
 import alpine.model.ConfigProperty;
@@ -93,6 +92,7 @@ import org.dependencytrack.model.WorkflowStatus;
 import org.dependencytrack.model.WorkflowStep;
 import org.dependencytrack.notification.NotificationScope;
 import org.dependencytrack.notification.publisher.PublisherClass;
+import org.dependencytrack.persistence.jdbi.EpssDao;
 import org.dependencytrack.proto.vulnanalysis.v1.ScanResult;
 import org.dependencytrack.proto.vulnanalysis.v1.ScanStatus;
 import org.dependencytrack.proto.vulnanalysis.v1.ScannerResult;
@@ -163,6 +163,7 @@ public class QueryManager extends AlpineQueryManager {
     public QueryManager() {
         super();
         disableL2Cache();
+        registerLifecycleListeners();
     }
 
     /**
@@ -173,6 +174,7 @@ public class QueryManager extends AlpineQueryManager {
     public QueryManager(final PersistenceManager pm) {
         super(pm);
         disableL2Cache();
+        registerLifecycleListeners();
     }
 
     /**
@@ -183,6 +185,7 @@ public class QueryManager extends AlpineQueryManager {
     public QueryManager(final AlpineRequest request) {
         super(request);
         disableL2Cache();
+        registerLifecycleListeners();
         this.request = request;
     }
 
@@ -194,6 +197,7 @@ public class QueryManager extends AlpineQueryManager {
     public QueryManager(final PersistenceManager pm, final AlpineRequest request) {
         super(pm, request);
         disableL2Cache();
+        registerLifecycleListeners();
         this.request = request;
     }
 
@@ -440,6 +444,10 @@ public class QueryManager extends AlpineQueryManager {
         pm.setProperty(PropertyNames.PROPERTY_CACHE_L2_TYPE, "none");
     }
 
+    private void registerLifecycleListeners() {
+        pm.addInstanceLifecycleListener(ConfigPropertyLifecycleListener.INSTANCE, ConfigProperty.class);
+    }
+
     /**
      * Disables the second level cache for this {@link QueryManager} instance.
      * <p>
@@ -1008,6 +1016,11 @@ public class QueryManager extends AlpineQueryManager {
         return getComponentQueryManager().getAllComponents(project);
     }
 
+    public List<Component> getComponentsPage(final Project project, final long afterId,
+                                             final boolean vulnerableOnly, final int limit) {
+        return getComponentQueryManager().getComponentsPage(project, afterId, vulnerableOnly, limit);
+    }
+
     public PaginatedResult getComponents(final Project project, final boolean includeMetrics) {
         return getComponentQueryManager().getComponents(project, includeMetrics);
     }
@@ -1132,8 +1145,12 @@ public class QueryManager extends AlpineQueryManager {
         return getVulnerabilityQueryManager().getAffectedProjects(vulnerability);
     }
 
-    public VulnerabilityAlias synchronizeVulnerabilityAlias(VulnerabilityAlias alias) {
-        return getVulnerabilityQueryManager().synchronizeVulnerabilityAlias(alias);
+    public void synchronizeVulnerabilityAlias(VulnerabilityAlias alias) {
+        getVulnerabilityQueryManager().synchronizeVulnerabilityAlias(alias);
+    }
+
+    public void synchronizeVulnerabilityAliases(final Collection<VulnerabilityAlias> aliases) {
+        getVulnerabilityQueryManager().synchronizeVulnerabilityAliases(aliases);
     }
 
     public List<VulnerabilityAlias> getVulnerabilityAliases(Vulnerability vulnerability) {
@@ -1186,6 +1203,11 @@ public class QueryManager extends AlpineQueryManager {
         return getFindingsSearchQueryManager().getAllFindings(filters, showSuppressed, showInactive);
     }
 
+    public FindingsSearchQueryManager.FindingsPage getAllFindings(final Map<String, String> filters, final boolean showSuppressed, final boolean showInactive,
+                                                                  final FindingsSearchQueryManager.FindingsCursor cursor, final boolean includeTotal) {
+        return getFindingsSearchQueryManager().getAllFindings(filters, showSuppressed, showInactive, cursor, includeTotal);
+    }
+
     public PaginatedResult getAllFindingsGroupedByVulnerability(final Map<String, String> filters, final boolean showInactive) {
         return getFindingsSearchQueryManager().getAllFindingsGroupedByVulnerability(filters, showInactive);
     }
@@ -1210,6 +1232,10 @@ public class QueryManager extends AlpineQueryManager {
         return getMetricsQueryManager().getMostRecentProjectMetrics(project);
     }
 
+    public Map<Long, ProjectMetrics> getMostRecentProjectMetrics(final Collection<Project> projects) {
+        return getMetricsQueryManager().getMostRecentProjectMetrics(projects);
+    }
+
     public PaginatedResult getProjectMetrics(Project project) {
         return getMetricsQueryManager().getProjectMetrics(project);
     }
@@ -1333,19 +1359,23 @@ public class QueryManager extends AlpineQueryManager {
     }
 
     /**
-     * Determines if a config property is enabled or not.
+     * Determine whether a {@link ConfigProperty} of type {@link ConfigProperty.PropertyType#BOOLEAN} is enabled.
+     * <p>
+     * The value is served from the {@link ConfigPropertyCache}.
      *
-     * @param configPropertyConstants the property to query
-     * @return true if enabled, false if not
+     * @param configPropertyConstants The {@link ConfigPropertyConstants} of the property
+     * @return {@code true} when the property is enabled, otherwise {@code false}
      */
     public boolean isEnabled(final ConfigPropertyConstants configPropertyConstants) {
-        final ConfigProperty property = getConfigProperty(
-                configPropertyConstants.getGroupName(), configPropertyConstants.getPropertyName()
-        );
-        if (property != null && ConfigProperty.PropertyType.BOOLEAN == property.getPropertyType()) {
-            return BooleanUtil.valueOf(property.getPropertyValue());
-        }
-        return false;
+        return ConfigPropertyCache.getInstance().isEnabled(configPropertyConstants);
+    }
+
+    /**
+     * @return Whether portfolio access control is enabled
+     * @since 5.6.0
+     */
+    public boolean isAclEnabled() {
+        return isEnabled(ConfigPropertyConstants.ACCESS_MANAGEMENT_ACL_ENABLED);
     }
 
     public void bind(Project project, List<Tag> tags) {
@@ -1895,8 +1925,8 @@ public class QueryManager extends AlpineQueryManager {
         return getEpssQueryManager().synchronizeEpss(epss);
     }
 
-    public void synchronizeAllEpss(List<Epss> epssList) {
-        getEpssQueryManager().synchronizeAllEpss(epssList);
+    public EpssDao.SyncResult synchronizeAllEpss(List<Epss> epssList) {
+        return getEpssQueryManager().synchronizeAllEpss(epssList);
     }
 
     public Epss getEpssByCveId(String cveId) {
@@ -25,7 +25,6 @@ import org.dependencytrack.model.AffectedVersionAttribution;
 import org.dependencytrack.model.Analysis;
 import org.dependencytrack.model.AnalyzerIdentity;
 import org.dependencytrack.model.Component;
-import org.dependencytrack.model.ConfigPropertyConstants;
 import org.dependencytrack.model.Epss;
 import org.dependencytrack.model.FindingAttribution;
 import org.dependencytrack.model.Project;
@@ -34,6 +33,9 @@ import org.dependencytrack.model.VulnIdAndSource;
 import org.dependencytrack.model.Vulnerability;
 import org.dependencytrack.model.VulnerabilityAlias;
 import org.dependencytrack.model.VulnerableSoftware;
+import org.dependencytrack.persistence.jdbi.VulnerabilityAliasDao;
+import org.dependencytrack.persistence.jdbi.VulnerabilityAliasDao.GroupMember;
+import org.dependencytrack.persistence.jdbi.VulnerabilityAliasDao.VulnerabilityAliasesRow;
 import org.dependencytrack.resources.v1.vo.AffectedProject;
 
 import javax.jdo.PersistenceManager;
@@ -41,9 +43,9 @@ import javax.jdo.Query;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.Comparator;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -51,6 +53,8 @@ import java.util.UUID;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
+import static org.dependencytrack.persistence.jdbi.JdbiFactory.useJdbiTransaction;
+import static org.dependencytrack.persistence.jdbi.JdbiFactory.withJdbiHandle;
 import static org.dependencytrack.util.PrincipalUtil.getPrincipalTeamIds;
 
 final class VulnerabilityQueryManager extends QueryManager implements IQueryManager {
@@ -128,8 +132,11 @@ final class VulnerabilityQueryManager extends QueryManager implements IQueryMana
             if (transientVulnerability.getVulnerableSoftware() != null) {
                 vulnerability.setVulnerableSoftware(transientVulnerability.getVulnerableSoftware());
             }
-            final Vulnerability result = persist(vulnerability);
-            return result;
+            return callInTransaction(() -> {
+                final Vulnerability result = persist(vulnerability);
+                FindingsReadModel.refreshVulnerability(this, result.getId());
+                return result;
+            });
         }
         return null;
     }
@@ -230,13 +237,16 @@ final class VulnerabilityQueryManager extends QueryManager implements IQueryMana
     public void addVulnerability(Vulnerability vulnerability, Component component, AnalyzerIdentity analyzerIdentity,
                                  String alternateIdentifier, String referenceUrl, Date attributedOn) {
         if (!contains(vulnerability, component)) {
-            component.addVulnerability(vulnerability);
-            component = persist(component);
-            FindingAttribution findingAttribution = new FindingAttribution(component, vulnerability, analyzerIdentity, alternateIdentifier, referenceUrl);
-            if (attributedOn != null) {
-                findingAttribution.setAttributedOn(attributedOn);
-            }
-            persist(findingAttribution);
+            runInTransaction(() -> {
+                component.addVulnerability(vulnerability);
+                final Component persistedComponent = persist(component);
+                FindingAttribution findingAttribution = new FindingAttribution(persistedComponent, vulnerability, analyzerIdentity, alternateIdentifier, referenceUrl);
+                if (attributedOn != null) {
+                    findingAttribution.setAttributedOn(attributedOn);
+                }
+                persist(findingAttribution);
+                FindingsReadModel.refreshComponent(this, persistedComponent.getId());
+            });
         }
     }
 
@@ -255,6 +265,8 @@ final class VulnerabilityQueryManager extends QueryManager implements IQueryMana
             if (fa != null) {
                 delete(fa);
             }
+
+            FindingsReadModel.refreshComponent(this, component.getId());
         });
     }
 
@@ -327,9 +339,9 @@ final class VulnerabilityQueryManager extends QueryManager implements IQueryMana
         }
         Map<String, Epss> matchedEpssList = getEpssForCveIds(
                 result.getList(Vulnerability.class).stream().map(vuln -> vuln.getVulnId()).distinct().toList());
+        setVulnerabilityAliases(result.getList(Vulnerability.class));
         for (final Vulnerability vulnerability : result.getList(Vulnerability.class)) {
             vulnerability.setAffectedProjectCount(this.getAffectedProjectCount(vulnerability));
-            vulnerability.setAliases(getVulnerabilityAliases(vulnerability));
             vulnerability.setEpss(matchedEpssList.get(vulnerability.getVulnId()));
         }
         return result;
@@ -366,6 +378,7 @@ final class VulnerabilityQueryManager extends QueryManager implements IQueryMana
         }
         Map<String, Epss> matchedEpssList = getEpssForCveIds(
                 result.getList(Vulnerability.class).stream().map(vuln -> vuln.getVulnId()).distinct().toList());
+        setVulnerabilityAliases(result.getList(Vulnerability.class));
         for (final Vulnerability vulnerability: result.getList(Vulnerability.class)) {
             List<AffectedProject> affectedProjects = this.getAffectedProjects(vulnerability);
             int affectedProjectsCount = affectedProjects.size();
@@ -375,7 +388,6 @@ final class VulnerabilityQueryManager extends QueryManager implements IQueryMana
             vulnerability.setAffectedProjectCount(affectedProjectsCount);
             vulnerability.setAffectedActiveProjectCount(affectedActiveProjectsCount);
             vulnerability.setAffectedInactiveProjectCount(affectedInactiveProjectsCount);
-            vulnerability.setAliases(getVulnerabilityAliases(vulnerability));
             vulnerability.setEpss(matchedEpssList.get(vulnerability.getVulnId()));
         }
         return result;
@@ -404,9 +416,9 @@ final class VulnerabilityQueryManager extends QueryManager implements IQueryMana
         final List<Vulnerability> vulnerabilities = (List<Vulnerability>)query.execute(component);
         Map<String, Epss> matchedEpssList = getEpssForCveIds(
                 vulnerabilities.stream().map(vuln -> vuln.getVulnId()).distinct().toList());
+        setVulnerabilityAliases(vulnerabilities);
         for (final Vulnerability vulnerability: vulnerabilities) {
             //vulnerability.setAffectedProjectCount(this.getProjects(vulnerability).size());
-            vulnerability.setAliases(getVulnerabilityAliases(vulnerability));
             vulnerability.setEpss(matchedEpssList.get(vulnerability.getVulnId()));
         }
         return vulnerabilities;
@@ -470,9 +482,9 @@ final class VulnerabilityQueryManager extends QueryManager implements IQueryMana
             );
             Map<String, Epss> matchedEpssList = getEpssForCveIds(
                     componentVulns.stream().map(vuln -> vuln.getVulnId()).distinct().toList());
+            setVulnerabilityAliases(componentVulns);
             for (final Vulnerability componentVuln: componentVulns) {
                 componentVuln.setComponents(Collections.singletonList(pm.detachCopy(component)));
-                componentVuln.setAliases(new ArrayList<>(pm.detachCopyAll(getVulnerabilityAliases(componentVuln))));
                 componentVuln.setEpss(matchedEpssList.get(componentVuln.getVulnId()));
             }
             vulnerabilities.addAll(componentVulns);
@@ -532,7 +544,7 @@ final class VulnerabilityQueryManager extends QueryManager implements IQueryMana
         final var params = new HashMap<String, Object>();
         params.put("vuln", vulnerability);
 
-        if (isEnabled(ConfigPropertyConstants.ACCESS_MANAGEMENT_ACL_ENABLED)
+        if (isAclEnabled()
                 && !hasAccessManagementPermission(principal)) {
             queryStr += """
                         && this.project.accessTeams.contains(team)
@@ -618,7 +630,7 @@ final class VulnerabilityQueryManager extends QueryManager implements IQueryMana
         final var params = new HashMap<String, Object>();
         params.put("vuln", vulnerability);
 
-        if (isEnabled(ConfigPropertyConstants.ACCESS_MANAGEMENT_ACL_ENABLED)
+        if (isAclEnabled()
                 && !hasAccessManagementPermission(principal)) {
             queryStr += """
                         && this.project.accessTeams.contains(team)
@@ -640,144 +652,119 @@ final class VulnerabilityQueryManager extends QueryManager implements IQueryMana
         return Math.toIntExact(affectedProjectCount);
     }
 
-    public synchronized VulnerabilityAlias synchronizeVulnerabilityAlias(final VulnerabilityAlias alias) {
-        return callInTransaction(() -> {
-            // Query existing aliases that match AT LEAST ONE identifier of the given alias.
-            //
-            // For each data source, we want to know the existing aliases where the respective identifier either:
-            //   1. matches, or
-            //   2. is not set (is null)
-            //
-            // Given the existing alias:
-            //   {cveId: "CVE-123", ghsaId: "GHSA-123"}
-            // The logic allows us to merge it with this incoming alias:
-            //   {cveId: "CVE-123", sonatypeId: "OSSINDEX-123"}
-            // Forming the final result of:
-            //   {cveId: "CVE-123", ghsaId: "GHSA-123", sonatypeId: "OSSINDEX-123"}
-            // Because CVE-123 aliases GHSA-123, and CVE-123 aliases OSSINDEX-123, we can infer that GHSA-123 aliases OSSINDEX-123.
-            //
-            // If the given alias has both a CVE and a GHSA ID, the final query will look like this:
-            //   (cveId == :cveId || cveId == null) && (ghsaId == :ghsaId || ghsaId == null)
-            //      && (cveId != null || ghsaId != null)
-            //
-            // Note that this logic only works for "true" aliases, not for "related" vulnerabilities.
-            // Some data sources will provide advisories, which combine multiple vulnerabilities into one,
-            // but still advertise them as aliases. See https://github.com/google/osv.dev/issues/888 for example.
-            var filter = "";
-            var mustMatchAnyFilter = "";
-            final var params = new HashMap<String, Object>();
-            if (alias.getCveId() != null) {
-                filter += "(cveId == :cveId || cveId == null)";
-                mustMatchAnyFilter += "cveId != null";
-                params.put("cveId", alias.getCveId());
-            }
-            if (alias.getSonatypeId() != null) {
-                if (filter.length() > 0) {
-                    filter += " && ";
-                    mustMatchAnyFilter += " || ";
-                }
-                filter += "(sonatypeId == :sonatypeId || sonatypeId == null)";
-                mustMatchAnyFilter += "sonatypeId != null";
-                params.put("sonatypeId", alias.getSonatypeId());
-            }
-            if (alias.getGhsaId() != null) {
-                if (filter.length() > 0) {
-                    filter += " && ";
-                    mustMatchAnyFilter += " || ";
-                }
-                filter += "(ghsaId == :ghsaId || ghsaId == null)";
-                mustMatchAnyFilter += "ghsaId != null";
-                params.put("ghsaId", alias.getGhsaId());
-            }
-            if (alias.getOsvId() != null) {
-                if (filter.length() > 0) {
-                    filter += " && ";
-                    mustMatchAnyFilter += " || ";
-                }
-                filter += "(osvId == :osvId || osvId == null)";
-                mustMatchAnyFilter += "osvId != null";
-                params.put("osvId", alias.getOsvId());
+    public void synchronizeVulnerabilityAlias(final VulnerabilityAlias alias) {
+        synchronizeVulnerabilityAliases(List.of(alias));
+    }
+
+    /**
+     * Synchronize one or more {@link VulnerabilityAlias}es with the datastore.
+     * <p>
+     * Each alias is merged into the existing alias group that shares the most identifiers with it,
+     * provided that the group does not hold a different identifier of the same source as the alias.
+     * When no such group exists, a new group is created. Aliases are processed in the given order,
+     * each taking into account the groups that preceding aliases were merged into.
+     * <p>
+     * Aliasing is intentionally not transitive. Given the groups {@code {CVE-1, GHSA-1}} and
+     * {@code {CVE-2, GHSA-1}}, {@code CVE-1} and {@code CVE-2} are not aliases of each other.
+     * Some data sources provide advisories which combine multiple vulnerabilities into one,
+     * but still advertise them as aliases. See https://github.com/google/osv.dev/issues/888 for example.
+     * <p>
+     * Synchronization requires a constant number of statements, regardless of how many aliases are given.
+     * Concurrent synchronizations, across all instances, are serialized by a lock that is held only for
+     * the duration of those statements.
+     *
+     * @param aliases The {@link VulnerabilityAlias}es to synchronize
+     * @since 5.6.0
+     */
+    public void synchronizeVulnerabilityAliases(final Collection<VulnerabilityAlias> aliases) {
+        final var identifiersByAlias = new ArrayList<List<VulnIdentifier>>(aliases.size());
+        final var identifiers = new LinkedHashSet<VulnIdentifier>();
+        for (final VulnerabilityAlias alias : aliases) {
+            final List<VulnIdentifier> aliasIdentifiers = getIdentifiers(alias);
+            if (!aliasIdentifiers.isEmpty()) {
+                identifiersByAlias.add(aliasIdentifiers);
+                identifiers.addAll(aliasIdentifiers);
             }
-            if (alias.getSnykId() != null) {
-                if (filter.length() > 0) {
-                    filter += " && ";
-                    mustMatchAnyFilter += " || ";
+        }
+        if (identifiers.isEmpty()) {
+            return;
+        }
+
+        final List<String> sources = identifiers.stream().map(VulnIdentifier::source).toList();
+        final List<String> vulnIds = identifiers.stream().map(VulnIdentifier::vulnId).toList();
+
+        useJdbiTransaction(handle -> {
+            final var dao = handle.attach(VulnerabilityAliasDao.class);
+            dao.lockGroups();
+
+            // Existing groups are preferred over new ones, and older groups over newer ones.
+            final var groups = new ArrayList<AliasGroup>();
+            final var groupsByIdentifier = new HashMap<VulnIdentifier, List<AliasGroup>>();
+            AliasGroup currentGroup = null;
+            for (final GroupMember member : dao.getGroupMembers(sources, vulnIds)) {
+                if (currentGroup == null || currentGroup.id != member.groupId()) {
+                    currentGroup = new AliasGroup(groups.size(), member.groupId());
+                    groups.add(currentGroup);
                 }
-                filter += "(snykId == :snykId || snykId == null)";
-                mustMatchAnyFilter += "snykId != null";
-                params.put("snykId", alias.getSnykId());
+
+                final var identifier = new VulnIdentifier(member.source(), member.vulnId());
+                currentGroup.vulnIdBySource.put(identifier.source(), identifier.vulnId());
+                groupsByIdentifier.computeIfAbsent(identifier, ignored -> new ArrayList<>()).add(currentGroup);
             }
-            if (alias.getGsdId() != null) {
-                if (filter.length() > 0) {
-                    filter += " && ";
-                    mustMatchAnyFilter += " || ";
+
+            final var newMembers = new ArrayList<Map.Entry<AliasGroup, VulnIdentifier>>();
+            for (final List<VulnIdentifier> aliasIdentifiers : identifiersByAlias) {
+                AliasGroup bestMatch = null;
+                int bestMatchCount = 0;
+                for (final VulnIdentifier identifier : aliasIdentifiers) {
+                    for (final AliasGroup candidate : groupsByIdentifier.getOrDefault(identifier, Collections.emptyList())) {
+                        final int matchCount = candidate.countMatches(aliasIdentifiers);
+                        if (matchCount > bestMatchCount
+                                || (matchCount == bestMatchCount && matchCount > 0 && candidate.rank < bestMatch.rank)) {
+                            bestMatch = candidate;
+                            bestMatchCount = matchCount;
+                        }
+                    }
                 }
-                filter += "(gsdId == :gsdId || gsdId == null)";
-                mustMatchAnyFilter += "gsdId != null";
-                params.put("gsdId", alias.getGsdId());
-            }
-            if (alias.getVulnDbId() != null) {
-                if (filter.length() > 0) {
-                    filter += " && ";
-                    mustMatchAnyFilter += " || ";
+                if (bestMatch == null) {
+                    bestMatch = new AliasGroup(groups.size(), null);
+                    groups.add(bestMatch);
                 }
-                filter += "(vulnDbId == :vulnDbId || vulnDbId == null)";
-                mustMatchAnyFilter += "vulnDbId != null";
-                params.put("vulnDbId", alias.getVulnDbId());
-            }
-            if (alias.getInternalId() != null) {
-                if (filter.length() > 0) {
-                    filter += " && ";
-                    mustMatchAnyFilter += " || ";
+
+                for (final VulnIdentifier identifier : aliasIdentifiers) {
+                    if (bestMatch.vulnIdBySource.putIfAbsent(identifier.source(), identifier.vulnId()) == null) {
+                        newMembers.add(Map.entry(bestMatch, identifier));
+                        groupsByIdentifier.computeIfAbsent(identifier, ignored -> new ArrayList<>()).add(bestMatch);
+                    }
                 }
-                filter += "(internalId == :internalId || internalId == null)";
-                mustMatchAnyFilter += "internalId != null";
-                params.put("internalId", alias.getInternalId());
             }
-            filter += " && (" + mustMatchAnyFilter + ")";
-            final Query<VulnerabilityAlias> query = pm.newQuery(VulnerabilityAlias.class);
-            query.setFilter(filter);
-            query.setNamedParameters(params);
-            final List<VulnerabilityAlias> candidates = query.executeList();
-            if (candidates.isEmpty()) {
-                // No matches at all; Create new alias.
-                return pm.makePersistent(alias);
+            if (newMembers.isEmpty()) {
+                return;
             }
 
-            final VulnerabilityAlias bestMatch;
-            if (candidates.size() > 1) {
-                // In case there are multiple candidates, find candidate with most matching identifiers.
-                bestMatch = candidates.stream()
-                        .max(Comparator.comparingInt(alias::computeMatches))
-                        .get(); // Safe because we checked candidates for emptiness before.
-            } else {
-                bestMatch = candidates.get(0);
+            final List<AliasGroup> newGroups = groups.stream().filter(group -> group.id == null).toList();
+            if (!newGroups.isEmpty()) {
+                final List<Long> newGroupIds = dao.createGroupIds(newGroups.size());
+                for (int i = 0; i < newGroups.size(); i++) {
+                    newGroups.get(i).id = newGroupIds.get(i);
+                }
             }
 
-            bestMatch.copyFieldsFrom(alias);
-            return bestMatch;
+            dao.addGroupMembers(
+                    newMembers.stream().map(member -> member.getKey().id).toList(),
+                    newMembers.stream().map(member -> member.getValue().source()).toList(),
+                    newMembers.stream().map(member -> member.getValue().vulnId()).toList());
         });
     }
 
-    @SuppressWarnings("unchecked")
     public List<VulnerabilityAlias> getVulnerabilityAliases(Vulnerability vulnerability) {
-        final Query<VulnerabilityAlias> query;
-        if (Vulnerability.Source.NVD.name().equals(vulnerability.getSource())) {
-            query = pm.newQuery(VulnerabilityAlias.class, "cveId == :cveId");
-        } else if (Vulnerability.Source.OSSINDEX.name().equals(vulnerability.getSource())) {
-            query = pm.newQuery(VulnerabilityAlias.class, "sonatypeId == :sonatypeId");
-        } else if (Vulnerability.Source.GITHUB.name().equals(vulnerability.getSource())) {
-            query = pm.newQuery(VulnerabilityAlias.class, "ghsaId == :ghsaId");
-        } else if (Vulnerability.Source.OSV.name().equals(vulnerability.getSource())) {
-            query = pm.newQuery(VulnerabilityAlias.class, "osvId == :osvId");
-        } else if (Vulnerability.Source.SNYK.name().equals(vulnerability.getSource())) {
-            query = pm.newQuery(VulnerabilityAlias.class, "snykId == :snykId");
-        } else if (Vulnerability.Source.VULNDB.name().equals(vulnerability.getSource())) {
-            query = pm.newQuery(VulnerabilityAlias.class, "vulnDbId == :vulnDbId");
-        } else {
-            query = pm.newQuery(VulnerabilityAlias.class, "internalId == :internalId");
+        if (vulnerability.getSource() == null || vulnerability.getVulnId() == null) {
+            return new ArrayList<>();
         }
-        return (List<VulnerabilityAlias>)query.execute(vulnerability.getVulnId());
+
+        final List<VulnerabilityAliasesRow> rows = withJdbiHandle(handle -> handle.attach(VulnerabilityAliasDao.class)
+                .getAliases(List.of(vulnerability.getSource()), List.of(vulnerability.getVulnId())));
+        return rows.isEmpty() ? new ArrayList<>() : new ArrayList<>(rows.get(0).aliases());
     }
 
     /**
@@ -793,79 +780,45 @@ final class VulnerabilityQueryManager extends QueryManager implements IQueryMana
             return Collections.emptyMap();
         }
 
-        var subQueryIndex = 0;
-        final var subQueries = new ArrayList<String>(vulnIdAndSources.size());
-        final var params = new HashMap<String, Object>(vulnIdAndSources.size());
-        for (final VulnIdAndSource vulnIdAndSource : vulnIdAndSources) {
-            subQueryIndex++;
-            final String vulnIdParamName = "vulnId" + subQueryIndex;
-
-            final String filter = switch (vulnIdAndSource.source()) {
-                case GITHUB -> "\"GHSA_ID\" = :" + vulnIdParamName;
-                case INTERNAL -> "\"INTERNAL_ID\" = :" + vulnIdParamName;
-                case NVD -> "\"CVE_ID\" = :" + vulnIdParamName;
-                case OSSINDEX -> "\"SONATYPE_ID\" = :" + vulnIdParamName;
-                case OSV -> "\"OSV_ID\" = :" + vulnIdParamName;
-                case SNYK -> "\"SNYK_ID\" = :" + vulnIdParamName;
-                case VULNDB -> "\"VULNDB_ID\" = :" + vulnIdParamName;
-                default -> null;
-            };
-            if (filter == null) {
-                continue;
-            }
+        final List<String> sources = vulnIdAndSources.stream().map(vulnIdAndSource -> vulnIdAndSource.source().name()).toList();
+        final List<String> vulnIds = vulnIdAndSources.stream().map(VulnIdAndSource::vulnId).toList();
+        final List<VulnerabilityAliasesRow> rows = withJdbiHandle(handle ->
+                handle.attach(VulnerabilityAliasDao.class).getAliases(sources, vulnIds));
 
-            // We'll need to correlate query results with VulnIdAndSource objects
-            // later, so prepend an identifier for them to the result set.
-            // NB: DataNucleus doesn't support usage of query parameters
-            // in the SELECT statement. Use hashCode of vulnIdAndSource instead
-            // of string literals (which could be susceptible to SQL injection).
-            subQueries.add("""
-                    SELECT %d
-                         , "GHSA_ID"
-                         , "INTERNAL_ID"
-                         , "CVE_ID"
-                         , "SONATYPE_ID"
-                         , "OSV_ID"
-                         , "SNYK_ID"
-                         , "VULNDB_ID"
-                      FROM "VULNERABILITYALIAS"
-                     WHERE %s
-                    """.formatted(vulnIdAndSource.hashCode(), filter));
-            params.put(vulnIdParamName, vulnIdAndSource.vulnId());
-        }
+        return rows.stream().collect(Collectors.toMap(
+                row -> new VulnIdAndSource(row.vulnId(), row.source()),
+                VulnerabilityAliasesRow::aliases,
+                (first, second) -> first));
+    }
 
-        final Query<Object[]> query = pm.newQuery(Query.SQL, String.join(" UNION ALL ", subQueries));
-        query.setNamedParameters(params);
-        final List<Object[]> queryResultRows;
-        try {
-            queryResultRows = new ArrayList<>(query.executeList());
-        } finally {
-            query.closeAll();
-        }
-        if (queryResultRows.isEmpty()) {
-            return Collections.emptyMap();
+    private void setVulnerabilityAliases(final Collection<Vulnerability> vulnerabilities) {
+        final Map<VulnIdAndSource, List<VulnerabilityAlias>> aliasesByVulnIdAndSource = getVulnerabilityAliases(
+                vulnerabilities.stream()
+                        .map(vuln -> new VulnIdAndSource(vuln.getVulnId(), vuln.getSource()))
+                        .collect(Collectors.toSet()));
+        for (final Vulnerability vulnerability : vulnerabilities) {
+            vulnerability.setAliases(new ArrayList<>(aliasesByVulnIdAndSource.getOrDefault(
+                    new VulnIdAndSource(vulnerability.getVulnId(), vulnerability.getSource()), Collections.emptyList())));
         }
+    }
 
-        final Map<Integer, VulnIdAndSource> vulnIdAndSourceByHashCode = vulnIdAndSources.stream()
-                .collect(Collectors.toMap(Record::hashCode, Function.identity()));
-
-        return queryResultRows.stream()
-                .map(row -> {
-                    final var vulnIdAndSource = vulnIdAndSourceByHashCode.get((Integer) row[0]);
-                    final var alias = new VulnerabilityAlias();
-                    alias.setGhsaId((String) row[1]);
-                    alias.setInternalId((String) row[2]);
-                    alias.setCveId((String) row[3]);
-                    alias.setSonatypeId((String) row[4]);
-                    alias.setOsvId((String) row[5]);
-                    alias.setSnykId((String) row[6]);
-                    alias.setVulnDbId((String) row[7]);
-                    return Map.entry(vulnIdAndSource, alias);
-                })
-                .collect(Collectors.groupingBy(
-                        Map.Entry::getKey,
-                        Collectors.mapping(Map.Entry::getValue, Collectors.toList())
-                ));
+    private static List<VulnIdentifier> getIdentifiers(final VulnerabilityAlias alias) {
+        final var identifiers = new ArrayList<VulnIdentifier>();
+        maybeAddIdentifier(identifiers, Vulnerability.Source.NVD.name(), alias.getCveId());
+        maybeAddIdentifier(identifiers, Vulnerability.Source.GITHUB.name(), alias.getGhsaId());
+        maybeAddIdentifier(identifiers, "GSD", alias.getGsdId());
+        maybeAddIdentifier(identifiers, Vulnerability.Source.INTERNAL.name(), alias.getInternalId());
+        maybeAddIdentifier(identifiers, Vulnerability.Source.OSV.name(), alias.getOsvId());
+        maybeAddIdentifier(identifiers, Vulnerability.Source.OSSINDEX.name(), alias.getSonatypeId());
+        maybeAddIdentifier(identifiers, Vulnerability.Source.SNYK.name(), alias.getSnykId());
+        maybeAddIdentifier(identifiers, Vulnerability.Source.VULNDB.name(), alias.getVulnDbId());
+        return identifiers;
+    }
+
+    private static void maybeAddIdentifier(final List<VulnIdentifier> identifiers, final String source, final String vulnId) {
+        if (StringUtils.isNotBlank(vulnId)) {
+            identifiers.add(new VulnIdentifier(source, vulnId));
+        }
     }
 
     /**
@@ -1094,4 +1047,44 @@ final class VulnerabilityQueryManager extends QueryManager implements IQueryMana
         params.put("tag", tag);
         return execute(query, params);
     }
+
+    private record VulnIdentifier(String source, String vulnId) {
+    }
+
+    /**
+     * An alias group as seen while synchronizing aliases.
+     */
+    private static final class AliasGroup {
+
+        private final int rank;
+        private final Map<String, String> vulnIdBySource = new HashMap<>();
+        private Long id;
+
+        private AliasGroup(final int rank, final Long id) {
+            this.rank = rank;
+            this.id = id;
+        }
+
+        /**
+         * @return Number of the given identifiers that are members of this group,
+         * or {@code 0} if this group holds a different identifier of the same source as any of them
+         */
+        private int countMatches(final List<VulnIdentifier> identifiers) {
+            int matchCount = 0;
+            for (final VulnIdentifier identifier : identifiers) {
+                final String vulnId = vulnIdBySource.get(identifier.source());
+                if (vulnId == null) {
+                    continue;
+                } else if (!vulnId.equals(identifier.vulnId())) {
+                    return 0;
+                }
+
+                matchCount++;
+            }
+
+            return matchCount;
+        }
+
+    }
+
 }
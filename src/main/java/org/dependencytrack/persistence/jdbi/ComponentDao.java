@@ -0,0 +1,240 @@
+/*
+ * This file is part of Dependency-Track.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.dependencytrack.persistence.jdbi;
+
+import jakarta.annotation.Nullable;
+import org.jdbi.v3.sqlobject.config.RegisterConstructorMapper;
+import org.jdbi.v3.sqlobject.customizer.Bind;
+import org.jdbi.v3.sqlobject.statement.SqlQuery;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * @since 5.6.0
+ */
+public interface ComponentDao {
+
+    /**
+     * Fetch the identifying columns of all components in a given project.
+     * <p>
+     * Rows are ordered by ID, such that the first row of a group of rows with equal
+     * identity values is also the oldest one.
+     *
+     * @param projectId ID of the project
+     * @return A {@link List} of {@link ComponentIdentityRow}s
+     */
+    @SqlQuery("""
+            SELECT "ID" AS "id"
+                 , "GROUP" AS "group"
+                 , "NAME" AS "name"
+                 , "VERSION" AS "version"
+                 , "PURL" AS "purl"
+                 , "CPE" AS "cpe"
+                 , "SWIDTAGID" AS "swidTagId"
+              FROM "COMPONENT"
+             WHERE "PROJECT_ID" = :projectId
+             ORDER BY "ID"
+            """)
+    @RegisterConstructorMapper(ComponentIdentityRow.class)
+    List<ComponentIdentityRow> getIdentitiesByProject(@Bind long projectId);
+
+    /**
+     * Fetch a page of the direct dependencies of components in a given project.
+     * <p>
+     * Rows are ordered by ID, such that the ID of the last row can be used as {@code afterId}
+     * to fetch the next page.
+     *
+     * @param projectId      ID of the project
+     * @param afterId        ID after which the page starts
+     * @param vulnerableOnly Whether to only fetch components that are affected by at least one vulnerability
+     * @param limit          Maximum number of rows to fetch
+     * @return A {@link List} of {@link ComponentDirectDependenciesRow}s
+     */
+    @SqlQuery("""
+            SELECT "ID" AS "id"
+                 , "UUID" AS "uuid"
+                 , "DIRECT_DEPENDENCIES" AS "directDependencies"
+              FROM "COMPONENT"
+             WHERE "PROJECT_ID" = :projectId
+               AND "ID" > :afterId
+               AND (NOT :vulnerableOnly OR EXISTS (
+                     SELECT 1
+                       FROM "COMPONENTS_VULNERABILITIES"
+                      WHERE "COMPONENTS_VULNERABILITIES"."COMPONENT_ID" = "COMPONENT"."ID"))
+             ORDER BY "ID"
+             LIMIT :limit
+            """)
+    @RegisterConstructorMapper(ComponentDirectDependenciesRow.class)
+    List<ComponentDirectDependenciesRow> getDirectDependenciesPage(@Bind long projectId, @Bind long afterId,
+                                                                    @Bind boolean vulnerableOnly, @Bind int limit);
+
+    /**
+     * Determine which of the given component UUIDs exist in a given project.
+     *
+     * @param projectId      ID of the project
+     * @param uuids          UUIDs of the components
+     * @param vulnerableOnly Whether to only consider components that are affected by at least one vulnerability
+     * @return A {@link Set} of the UUIDs that exist
+     */
+    @SqlQuery("""
+            SELECT "UUID"
+              FROM "COMPONENT"
+             WHERE "PROJECT_ID" = :projectId
+               AND "UUID" = ANY(:uuids)
+               AND (NOT :vulnerableOnly OR EXISTS (
+                     SELECT 1
+                       FROM "COMPONENTS_VULNERABILITIES"
+                      WHERE "COMPONENTS_VULNERABILITIES"."COMPONENT_ID" = "COMPONENT"."ID"))
+            """)
+    Set<String> getExistingUuids(@Bind long projectId, @Bind Collection<String> uuids, @Bind boolean vulnerableOnly);
+
+    /**
+     * Determine where the range of component IDs following the one starting at {@code componentIdFrom} starts.
+     * <p>
+     * Allows tasks that operate on all components to process them in ranges of IDs,
+     * each covering at most {@code rangeSize} components.
+     *
+     * @param componentIdFrom Start of the current range of component IDs, inclusive
+     * @param rangeSize       Number of components per range
+     * @return Start of the next range of component IDs, or {@code null} when the current range is the last one
+     */
+    @SqlQuery("""
+            SELECT "ID"
+              FROM "COMPONENT"
+             WHERE "ID" >= :componentIdFrom
+             ORDER BY "ID"
+            OFFSET :rangeSize
+             LIMIT 1
+            """)
+    Long getNextComponentIdRangeStart(@Bind long componentIdFrom, @Bind int rangeSize);
+
+    /**
+     * Fetch a page of components to submit for vulnerability analysis, either of a given project,
+     * or of all active projects in the portfolio.
+     * <p>
+     * Components sharing the same analysis identity (purl coordinates, CPE, and internal flag) within that
+     * scope are analyzed only once. Only the oldest component of each such group is returned, results for
+     * it are fanned out to the remaining components when they are processed. Components without purl coordinates
+     * and CPE, as well as components whose purl coordinates are unknown, are always returned.
+     * <p>
+     * Rows are ordered by ID in descending order, such that the ID of the last row can be used as {@code beforeId}
+     * to fetch the next page.
+     *
+     * @param projectId ID of the project, or {@code null} to fetch components of all active projects
+     * @param beforeId  ID before which the page starts, or {@code null} to fetch the first page
+     * @param limit     Maximum number of rows to fetch
+     * @return A {@link List} of {@link VulnAnalysisRepresentativeRow}s
+     */
+    @SqlQuery("""
+            SELECT "C"."ID" AS "id"
+                 , "C"."UUID" AS "uuid"
+                 , "C"."PURL" AS "purl"
+                 , "C"."CPE" AS "cpe"
+                 , "C"."SWIDTAGID" AS "swidTagId"
+                 , "C"."INTERNAL" AS "internal"
+              FROM "COMPONENT" AS "C"
+             INNER JOIN "PROJECT" AS "P"
+                ON "P"."ID" = "C"."PROJECT_ID"
+             WHERE "P"."ACTIVE"
+               AND (CAST(:projectId AS BIGINT) IS NULL OR "C"."PROJECT_ID" = :projectId)
+               AND (CAST(:beforeId AS BIGINT) IS NULL OR "C"."ID" < :beforeId)
+               AND NOT EXISTS (
+                     SELECT 1
+                       FROM "COMPONENT" AS "SIBLING"
+                      INNER JOIN "PROJECT" AS "SIBLING_PROJECT"
+                         ON "SIBLING_PROJECT"."ID" = "SIBLING"."PROJECT_ID"
+                      WHERE "SIBLING"."ID" < "C"."ID"
+                        AND "SIBLING_PROJECT"."ACTIVE"
+                        AND (CAST(:projectId AS BIGINT) IS NULL OR "SIBLING"."PROJECT_ID" = :projectId)
+                        AND COALESCE("SIBLING"."INTERNAL", FALSE) = COALESCE("C"."INTERNAL", FALSE)
+                        AND (("C"."PURLCOORDINATES" IS NOT NULL
+                              AND "SIBLING"."PURLCOORDINATES" = "C"."PURLCOORDINATES"
+                              AND "SIBLING"."CPE" IS NOT DISTINCT FROM "C"."CPE")
+                          OR ("C"."PURLCOORDINATES" IS NULL AND "C"."PURL" IS NULL
+                              AND "SIBLING"."PURLCOORDINATES" IS NULL AND "SIBLING"."PURL" IS NULL
+                              AND "SIBLING"."CPE" = "C"."CPE")))
+             ORDER BY "C"."ID" DESC
+             LIMIT :limit
+            """)
+    @RegisterConstructorMapper(VulnAnalysisRepresentativeRow.class)
+    List<VulnAnalysisRepresentativeRow> getVulnAnalysisRepresentativesPage(@Bind @Nullable Long projectId,
+                                                                           @Bind @Nullable Long beforeId,
+                                                                           @Bind int limit);
+
+    /**
+     * Fetch a page of distinct purl coordinates of components in active projects.
+     * <p>
+     * Rows are ordered by purl coordinates and internal flag, such that the values of the last row
+     * can be used as {@code afterPurlCoordinates} and {@code afterInternal} to fetch the next page.
+     *
+     * @param afterPurlCoordinates Purl coordinates after which the page starts, or {@code null} to fetch the first page
+     * @param afterInternal        Internal flag after which the page starts
+     * @param limit                Maximum number of rows to fetch
+     * @return A {@link List} of {@link PurlCoordinatesRow}s
+     */
+    @SqlQuery("""
+            SELECT DISTINCT "C"."PURLCOORDINATES" AS "purlCoordinates"
+                 , COALESCE("C"."INTERNAL", FALSE) AS "internal"
+              FROM "COMPONENT" AS "C"
+             INNER JOIN "PROJECT" AS "P"
+                ON "P"."ID" = "C"."PROJECT_ID"
+             WHERE "P"."ACTIVE"
+               AND "C"."PURLCOORDINATES" IS NOT NULL
+               AND (CAST(:afterPurlCoordinates AS TEXT) IS NULL
+                    OR ("C"."PURLCOORDINATES" >= :afterPurlCoordinates
+                        AND ("C"."PURLCOORDINATES", COALESCE("C"."INTERNAL", FALSE)) > (:afterPurlCoordinates, :afterInternal)))
+             ORDER BY "purlCoordinates", "internal"
+             LIMIT :limit
+            """)
+    @RegisterConstructorMapper(PurlCoordinatesRow.class)
+    List<PurlCoordinatesRow> getDistinctPurlCoordinatesPage(@Bind @Nullable String afterPurlCoordinates,
+                                                            @Bind boolean afterInternal,
+                                                            @Bind int limit);
+
+    record ComponentIdentityRow(
+            long id,
+            @Nullable String group,
+            String name,
+            @Nullable String version,
+            @Nullable String purl,
+            @Nullable String cpe,
+            @Nullable String swidTagId
+    ) {
+    }
+
+    record ComponentDirectDependenciesRow(long id, String uuid, @Nullable String directDependencies) {
+    }
+
+    record PurlCoordinatesRow(String purlCoordinates, boolean internal) {
+    }
+
+    record VulnAnalysisRepresentativeRow(
+            long id,
+            UUID uuid,
+            @Nullable String purl,
+            @Nullable String cpe,
+            @Nullable String swidTagId,
+            @Nullable Boolean internal
+    ) {
+    }
+
+}
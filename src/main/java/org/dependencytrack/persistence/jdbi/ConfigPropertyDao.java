@@ -0,0 +1,55 @@
+/*
+ * This file is part of Dependency-Track.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.dependencytrack.persistence.jdbi;
+
+import alpine.model.IConfigProperty.PropertyType;
+import jakarta.annotation.Nullable;
+import org.jdbi.v3.sqlobject.config.RegisterConstructorMapper;
+import org.jdbi.v3.sqlobject.customizer.Bind;
+import org.jdbi.v3.sqlobject.statement.SqlQuery;
+
+import java.util.Optional;
+
+/**
+ * @since 5.6.0
+ */
+public interface ConfigPropertyDao {
+
+    @SqlQuery("""
+            SELECT "PROPERTYVALUE" AS "value"
+                 , "PROPERTYTYPE" AS "type"
+              FROM "CONFIGPROPERTY"
+             WHERE "GROUPNAME" = :groupName
+               AND "PROPERTYNAME" = :propertyName
+            """)
+    @RegisterConstructorMapper(ConfigPropertyValue.class)
+    Optional<ConfigPropertyValue> getValue(@Bind String groupName, @Bind String propertyName);
+
+    /**
+     * Value of a config property, as stored in the database.
+     * <p>
+     * Values of {@link PropertyType#ENCRYPTEDSTRING} properties are <em>not</em> decrypted.
+     *
+     * @param value The value of the property
+     * @param type  The {@link PropertyType} of the property
+     */
+    record ConfigPropertyValue(@Nullable String value, PropertyType type) {
+    }
+
+}
@@ -0,0 +1,90 @@
+/*
+ * This file is part of Dependency-Track.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.dependencytrack.persistence.jdbi;
+
+import jakarta.annotation.Nullable;
+import org.jdbi.v3.sqlobject.config.RegisterConstructorMapper;
+import org.jdbi.v3.sqlobject.customizer.Bind;
+import org.jdbi.v3.sqlobject.statement.SqlQuery;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Access to the {@code DEPENDENCY_GRAPH_EDGE} table.
+ * <p>
+ * Edges are derived from the {@code DIRECT_DEPENDENCIES} columns of {@code COMPONENT} and {@code PROJECT},
+ * and kept in sync with them by database triggers. They thus don't need to be maintained explicitly.
+ *
+ * @since 5.6.0
+ */
+public interface DependencyGraphDao {
+
+    /**
+     * Fetch all edges of the dependency graph of a given project.
+     *
+     * @param projectId ID of the project
+     * @return A {@link List} of {@link DependencyGraphEdge}s
+     */
+    @SqlQuery("""
+            SELECT "PARENT_COMPONENT_ID" AS "parentComponentId"
+                 , "CHILD_COMPONENT_ID" AS "childComponentId"
+              FROM "DEPENDENCY_GRAPH_EDGE"
+             WHERE "PROJECT_ID" = :projectId
+            """)
+    @RegisterConstructorMapper(DependencyGraphEdge.class)
+    List<DependencyGraphEdge> getEdges(@Bind long projectId);
+
+    /**
+     * Fetch the columns of components relevant for rendering them as nodes of a dependency graph.
+     *
+     * @param componentIds IDs of the components
+     * @return A {@link List} of {@link DependencyGraphNode}s
+     */
+    @SqlQuery("""
+            SELECT "ID" AS "id"
+                 , "UUID" AS "uuid"
+                 , "NAME" AS "name"
+                 , "VERSION" AS "version"
+                 , "PURL" AS "purl"
+                 , "PURLCOORDINATES" AS "purlCoordinates"
+              FROM "COMPONENT"
+             WHERE "ID" = ANY(:componentIds)
+            """)
+    @RegisterConstructorMapper(DependencyGraphNode.class)
+    List<DependencyGraphNode> getNodes(@Bind Collection<Long> componentIds);
+
+    /**
+     * @param parentComponentId ID of the parent component, or {@code null} if the parent is the project
+     * @param childComponentId  ID of the child component
+     */
+    record DependencyGraphEdge(@Nullable Long parentComponentId, long childComponentId) {
+    }
+
+    record DependencyGraphNode(
+            long id,
+            String uuid,
+            String name,
+            @Nullable String version,
+            @Nullable String purl,
+            @Nullable String purlCoordinates
+    ) {
+    }
+
+}
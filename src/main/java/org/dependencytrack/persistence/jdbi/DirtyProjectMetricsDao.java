@@ -0,0 +1,154 @@
+/*
+ * This file is part of Dependency-Track.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.dependencytrack.persistence.jdbi;
+
+import org.jdbi.v3.sqlobject.config.RegisterConstructorMapper;
+import org.jdbi.v3.sqlobject.customizer.Bind;
+import org.jdbi.v3.sqlobject.statement.SqlQuery;
+import org.jdbi.v3.sqlobject.statement.SqlUpdate;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Access to the queue of projects whose metrics are out of date.
+ *
+ * @since 5.6.0
+ */
+public interface DirtyProjectMetricsDao {
+
+    /**
+     * Mark the metrics of the given projects as dirty.
+     * <p>
+     * Projects that are already marked as dirty retain their original mark,
+     * such that the time it takes to drain them is not under-reported.
+     * Projects that are currently being updated are marked again, such that
+     * they are not removed from the queue when their update {@link #complete(long, long) completes}.
+     * <p>
+     * Marking again increments {@code MARK_VERSION} rather than relying on {@code MARKED_AT} alone:
+     * {@code NOW()} is the start time of the marking transaction, and may thus predate the mark
+     * that was claimed.
+     *
+     * @param projectIds IDs of the projects to mark as dirty
+     * @return Number of projects that were not already marked as dirty, or that were marked again while being updated
+     */
+    @SqlUpdate("""
+            INSERT INTO "DIRTY_PROJECT_METRICS" AS "DPM" ("PROJECT_ID", "MARKED_AT")
+            SELECT DISTINCT UNNEST(:projectIds), NOW()
+            ON CONFLICT ("PROJECT_ID") DO UPDATE
+            SET "MARKED_AT" = NOW()
+              , "MARK_VERSION" = "DPM"."MARK_VERSION" + 1
+            WHERE "DPM"."LEASED_UNTIL" IS NOT NULL
+            """)
+    int markDirty(@Bind Collection<Long> projectIds);
+
+    /**
+     * Mark the metrics of all projects with findings of the given vulnerabilities as dirty.
+     *
+     * @param vulnIds IDs of the vulnerabilities
+     * @return Number of projects that were not already marked as dirty, or that were marked again while being updated
+     * @see #markDirty(Collection)
+     */
+    @SqlUpdate("""
+            INSERT INTO "DIRTY_PROJECT_METRICS" AS "DPM" ("PROJECT_ID", "MARKED_AT")
+            SELECT DISTINCT "COMPONENT"."PROJECT_ID", NOW()
+              FROM "COMPONENTS_VULNERABILITIES"
+             INNER JOIN "COMPONENT"
+                ON "COMPONENT"."ID" = "COMPONENTS_VULNERABILITIES"."COMPONENT_ID"
+             WHERE "COMPONENTS_VULNERABILITIES"."VULNERABILITY_ID" = ANY(:vulnIds)
+            ON CONFLICT ("PROJECT_ID") DO UPDATE
+            SET "MARKED_AT" = NOW()
+              , "MARK_VERSION" = "DPM"."MARK_VERSION" + 1
+            WHERE "DPM"."LEASED_UNTIL" IS NOT NULL
+            """)
+    int markDirtyByVulnerabilities(@Bind Collection<Long> vulnIds);
+
+    /**
+     * Claim up to {@code limit} dirty projects that are not leased by another instance, oldest marks first.
+     * <p>
+     * Claimed projects remain marked as dirty until their update {@link #complete(long, long) completes}.
+     * Projects whose update failed, or whose claiming instance went away, are claimed again once the lease expired.
+     * Rows locked by concurrent claims are skipped, such that multiple instances can drain the queue in parallel.
+     *
+     * @param limit               Maximum number of projects to claim
+     * @param leaseDurationMillis Duration in milliseconds to lease claimed projects for
+     * @return The claimed {@link DirtyProject}s
+     */
+    @SqlQuery("""
+            UPDATE "DIRTY_PROJECT_METRICS"
+               SET "LEASED_UNTIL" = NOW() + :leaseDurationMillis * INTERVAL '1 millisecond'
+              FROM "PROJECT"
+             WHERE "PROJECT"."ID" = "DIRTY_PROJECT_METRICS"."PROJECT_ID"
+               AND "DIRTY_PROJECT_METRICS"."PROJECT_ID" IN (
+                 SELECT "PROJECT_ID"
+                   FROM "DIRTY_PROJECT_METRICS"
+                  WHERE "LEASED_UNTIL" IS NULL OR "LEASED_UNTIL" < NOW()
+                  ORDER BY "MARKED_AT"
+                  LIMIT :limit
+                    FOR UPDATE SKIP LOCKED)
+            RETURNING "PROJECT"."ID" AS "projectId"
+                    , "PROJECT"."UUID" AS "projectUuid"
+                    , "DIRTY_PROJECT_METRICS"."MARKED_AT" AS "markedAt"
+                    , "DIRTY_PROJECT_METRICS"."MARK_VERSION" AS "markVersion"
+            """)
+    @RegisterConstructorMapper(DirtyProject.class)
+    List<DirtyProject> claim(@Bind int limit, @Bind long leaseDurationMillis);
+
+    /**
+     * Complete the update of a claimed project.
+     * <p>
+     * The project is no longer marked as dirty, unless it has been marked again
+     * after it was claimed. In that case, only its lease is released.
+     *
+     * @param projectId   ID of the claimed project
+     * @param markVersion Version of the mark at which the project was claimed
+     */
+    default void complete(final long projectId, final long markVersion) {
+        if (deleteIfNotMarkedSince(projectId, markVersion) == 0) {
+            releaseLease(projectId);
+        }
+    }
+
+    @SqlUpdate("""
+            DELETE
+              FROM "DIRTY_PROJECT_METRICS"
+             WHERE "PROJECT_ID" = :projectId
+               AND "MARK_VERSION" = :markVersion
+            """)
+    int deleteIfNotMarkedSince(@Bind long projectId, @Bind long markVersion);
+
+    @SqlUpdate("""
+            UPDATE "DIRTY_PROJECT_METRICS"
+               SET "LEASED_UNTIL" = NULL
+             WHERE "PROJECT_ID" = :projectId
+            """)
+    void releaseLease(@Bind long projectId);
+
+    @SqlQuery("""
+            SELECT COUNT(*)
+              FROM "DIRTY_PROJECT_METRICS"
+            """)
+    long getDepth();
+
+    record DirtyProject(long projectId, UUID projectUuid, Instant markedAt, long markVersion) {
+    }
+
+}
@@ -0,0 +1,116 @@
+/*
+ * This file is part of Dependency-Track.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.dependencytrack.persistence.jdbi;
+
+import org.dependencytrack.model.Epss;
+import org.jdbi.v3.core.statement.UnableToExecuteStatementException;
+import org.jdbi.v3.sqlobject.SqlObject;
+import org.jdbi.v3.sqlobject.config.RegisterConstructorMapper;
+import org.jdbi.v3.sqlobject.statement.SqlQuery;
+import org.jdbi.v3.sqlobject.statement.SqlUpdate;
+import org.postgresql.PGConnection;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.Objects;
+
+/**
+ * Bulk synchronization of {@link Epss} records.
+ * <p>
+ * Records are copied into a temporary staging table first, and merged into the {@code EPSS} table from there.
+ * All methods must be executed in the same transaction, as the staging table is emptied on commit.
+ *
+ * @since 5.6.0
+ */
+public interface EpssDao extends SqlObject {
+
+    /**
+     * Synchronize {@link Epss} records.
+     * <p>
+     * Records that exist already are only updated if their score or percentile changed.
+     *
+     * @param epssRecords The {@link Epss} records to synchronize, with at most one record per CVE
+     * @return The {@link SyncResult}
+     */
+    default SyncResult synchronizeAll(final Collection<Epss> epssRecords) {
+        createStagingTable();
+        copyToStagingTable(epssRecords);
+        return mergeStagingTable();
+    }
+
+    @SqlUpdate("""
+            CREATE TEMPORARY TABLE IF NOT EXISTS "EPSS_STAGING" (
+              "CVE" TEXT NOT NULL
+            , "SCORE" NUMERIC
+            , "PERCENTILE" NUMERIC
+            ) ON COMMIT DELETE ROWS
+            """)
+    void createStagingTable();
+
+    default void copyToStagingTable(final Collection<Epss> epssRecords) {
+        final var csvBuilder = new StringBuilder();
+        for (final Epss epss : epssRecords) {
+            csvBuilder
+                    .append('"').append(epss.getCve().replace("\"", "\"\"")).append('"')
+                    .append(',').append(Objects.toString(epss.getScore(), ""))
+                    .append(',').append(Objects.toString(epss.getPercentile(), ""))
+                    .append('\n');
+        }
+
+        try {
+            getHandle().getConnection().unwrap(PGConnection.class).getCopyAPI().copyIn("""
+                    COPY "EPSS_STAGING" ("CVE", "SCORE", "PERCENTILE") FROM STDIN WITH (FORMAT CSV)
+                    """, new StringReader(csvBuilder.toString()));
+        } catch (SQLException | IOException e) {
+            throw new UnableToExecuteStatementException("Failed to copy EPSS records to staging table", e, null);
+        }
+    }
+
+    @SqlQuery("""
+            WITH "CTE_UPSERTED" AS (
+              INSERT INTO "EPSS" ("CVE", "SCORE", "PERCENTILE")
+              SELECT "CVE", "SCORE", "PERCENTILE"
+                FROM "EPSS_STAGING"
+              ON CONFLICT ("CVE") DO UPDATE
+              SET "SCORE" = EXCLUDED."SCORE"
+                , "PERCENTILE" = EXCLUDED."PERCENTILE"
+              WHERE "EPSS"."SCORE" IS DISTINCT FROM EXCLUDED."SCORE"
+                 OR "EPSS"."PERCENTILE" IS DISTINCT FROM EXCLUDED."PERCENTILE"
+              -- xmax is only zero for newly inserted rows.
+              RETURNING (xmax = 0) AS "INSERTED"
+            )
+            SELECT COUNT(*) FILTER (WHERE "INSERTED") AS "inserted"
+                 , COUNT(*) FILTER (WHERE NOT "INSERTED") AS "updated"
+                 , (SELECT COUNT(*) FROM "EPSS_STAGING") - COUNT(*) AS "skipped"
+              FROM "CTE_UPSERTED"
+            """)
+    @RegisterConstructorMapper(SyncResult.class)
+    SyncResult mergeStagingTable();
+
+    /**
+     * @param inserted Number of records that did not exist before
+     * @param updated  Number of records whose score or percentile changed
+     * @param skipped  Number of records that did not change
+     */
+    record SyncResult(long inserted, long updated, long skipped) {
+    }
+
+}
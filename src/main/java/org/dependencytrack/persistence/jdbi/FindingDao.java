@@ -0,0 +1,67 @@
+/*
+ * This file is part of Dependency-Track.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.dependencytrack.persistence.jdbi;
+
+import org.jdbi.v3.sqlobject.config.RegisterConstructorMapper;
+import org.jdbi.v3.sqlobject.customizer.Bind;
+import org.jdbi.v3.sqlobject.statement.SqlQuery;
+
+import java.util.List;
+
+/**
+ * @since 5.6.0
+ */
+public interface FindingDao {
+
+    /**
+     * Fetch a page of the findings of a given project, including suppressed ones.
+     * <p>
+     * Rows are ordered by component ID and vulnerability ID, such that the IDs of the last row
+     * can be used as {@code afterComponentId} and {@code afterVulnerabilityId} to fetch the next page.
+     *
+     * @param projectId            ID of the project
+     * @param afterComponentId     Component ID after which the page starts
+     * @param afterVulnerabilityId Vulnerability ID after which the page starts
+     * @param limit                Maximum number of rows to fetch
+     * @return A {@link List} of {@link FindingRef}s
+     */
+    @SqlQuery("""
+            SELECT "COMPONENTS_VULNERABILITIES"."COMPONENT_ID" AS "componentId"
+                 , "COMPONENTS_VULNERABILITIES"."VULNERABILITY_ID" AS "vulnerabilityId"
+              FROM "COMPONENT"
+             INNER JOIN "COMPONENTS_VULNERABILITIES"
+                ON "COMPONENTS_VULNERABILITIES"."COMPONENT_ID" = "COMPONENT"."ID"
+             INNER JOIN "FINDINGATTRIBUTION"
+                ON "FINDINGATTRIBUTION"."COMPONENT_ID" = "COMPONENTS_VULNERABILITIES"."COMPONENT_ID"
+               AND "FINDINGATTRIBUTION"."VULNERABILITY_ID" = "COMPONENTS_VULNERABILITIES"."VULNERABILITY_ID"
+             WHERE "COMPONENT"."PROJECT_ID" = :projectId
+               AND ("COMPONENTS_VULNERABILITIES"."COMPONENT_ID", "COMPONENTS_VULNERABILITIES"."VULNERABILITY_ID")
+                   > (:afterComponentId, :afterVulnerabilityId)
+             ORDER BY "COMPONENTS_VULNERABILITIES"."COMPONENT_ID"
+                    , "COMPONENTS_VULNERABILITIES"."VULNERABILITY_ID"
+             LIMIT :limit
+            """)
+    @RegisterConstructorMapper(FindingRef.class)
+    List<FindingRef> getFindingRefsPage(@Bind long projectId, @Bind long afterComponentId,
+                                        @Bind long afterVulnerabilityId, @Bind int limit);
+
+    record FindingRef(long componentId, long vulnerabilityId) {
+    }
+
+}
@@ -0,0 +1,261 @@
+/*
+ * This file is part of Dependency-Track.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.dependencytrack.persistence.jdbi;
+
+import org.jdbi.v3.sqlobject.customizer.Bind;
+import org.jdbi.v3.sqlobject.customizer.Define;
+import org.jdbi.v3.sqlobject.statement.SqlQuery;
+import org.jdbi.v3.sqlobject.statement.SqlUpdate;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Maintenance of the denormalized {@code FINDING_READ_MODEL} table.
+ * <p>
+ * Every row mirrors one finding, i.e. a {@code COMPONENTS_VULNERABILITIES} record with a corresponding
+ * {@code FINDINGATTRIBUTION}, along with all columns of its component, vulnerability, project, and analysis
+ * that portfolio-wide findings can be filtered, sorted, or grouped by. Columns are named {@code <TABLE>_<COLUMN>}
+ * after the column they are copied from.
+ * <p>
+ * Rows are deleted via foreign keys when their component, vulnerability, or project is deleted.
+ *
+ * @see org.dependencytrack.persistence.FindingsReadModel
+ * @since 5.6.0
+ */
+public interface FindingsReadModelDao {
+
+    String COLUMNS = """
+            "COMPONENT_ID"
+            , "VULNERABILITY_ID"
+            , "PROJECT_ID"
+            , "PROJECT_NAME"
+            , "PROJECT_VERSION"
+            , "PROJECT_ACTIVE"
+            , "COMPONENT_NAME"
+            , "COMPONENT_VERSION"
+            , "VULNERABILITY_SOURCE"
+            , "VULNERABILITY_VULNID"
+            , "VULNERABILITY_TITLE"
+            , "VULNERABILITY_SEVERITY"
+            , "VULNERABILITY_CVSSV2BASESCORE"
+            , "VULNERABILITY_CVSSV3BASESCORE"
+            , "VULNERABILITY_OWASPRRLIKELIHOODSCORE"
+            , "VULNERABILITY_OWASPRRTECHNICALIMPACTSCORE"
+            , "VULNERABILITY_OWASPRRBUSINESSIMPACTSCORE"
+            , "VULNERABILITY_PUBLISHED"
+            , "VULNERABILITY_CWES"
+            , "FINDINGATTRIBUTION_ANALYZERIDENTITY"
+            , "FINDINGATTRIBUTION_ATTRIBUTED_ON"
+            , "ANALYSIS_STATE"
+            , "ANALYSIS_RESPONSE"
+            , "ANALYSIS_SUPPRESSED"
+            """;
+
+    /**
+     * Selects the current state of all findings, in the shape of {@link #COLUMNS}.
+     */
+    // language=SQL
+    String SOURCE_QUERY = """
+            SELECT "COMPONENT"."ID" AS "COMPONENT_ID"
+                 , "VULNERABILITY"."ID" AS "VULNERABILITY_ID"
+                 , "PROJECT"."ID" AS "PROJECT_ID"
+                 , "PROJECT"."NAME" AS "PROJECT_NAME"
+                 , "PROJECT"."VERSION" AS "PROJECT_VERSION"
+                 , "PROJECT"."ACTIVE" AS "PROJECT_ACTIVE"
+                 , "COMPONENT"."NAME" AS "COMPONENT_NAME"
+                 , "COMPONENT"."VERSION" AS "COMPONENT_VERSION"
+                 , "VULNERABILITY"."SOURCE" AS "VULNERABILITY_SOURCE"
+                 , "VULNERABILITY"."VULNID" AS "VULNERABILITY_VULNID"
+                 , "VULNERABILITY"."TITLE" AS "VULNERABILITY_TITLE"
+                 , "VULNERABILITY"."SEVERITY" AS "VULNERABILITY_SEVERITY"
+                 , "VULNERABILITY"."CVSSV2BASESCORE" AS "VULNERABILITY_CVSSV2BASESCORE"
+                 , "VULNERABILITY"."CVSSV3BASESCORE" AS "VULNERABILITY_CVSSV3BASESCORE"
+                 , "VULNERABILITY"."OWASPRRLIKELIHOODSCORE" AS "VULNERABILITY_OWASPRRLIKELIHOODSCORE"
+                 , "VULNERABILITY"."OWASPRRTECHNICALIMPACTSCORE" AS "VULNERABILITY_OWASPRRTECHNICALIMPACTSCORE"
+                 , "VULNERABILITY"."OWASPRRBUSINESSIMPACTSCORE" AS "VULNERABILITY_OWASPRRBUSINESSIMPACTSCORE"
+                 , "VULNERABILITY"."PUBLISHED" AS "VULNERABILITY_PUBLISHED"
+                 , "VULNERABILITY"."CWES" AS "VULNERABILITY_CWES"
+                 , "FINDINGATTRIBUTION"."ANALYZERIDENTITY" AS "FINDINGATTRIBUTION_ANALYZERIDENTITY"
+                 , "FINDINGATTRIBUTION"."ATTRIBUTED_ON" AS "FINDINGATTRIBUTION_ATTRIBUTED_ON"
+                 , "ANALYSIS"."STATE" AS "ANALYSIS_STATE"
+                 , "ANALYSIS"."RESPONSE" AS "ANALYSIS_RESPONSE"
+                 , "ANALYSIS"."SUPPRESSED" AS "ANALYSIS_SUPPRESSED"
+              FROM "COMPONENT"
+             INNER JOIN "COMPONENTS_VULNERABILITIES"
+                ON "COMPONENT"."ID" = "COMPONENTS_VULNERABILITIES"."COMPONENT_ID"
+             INNER JOIN "VULNERABILITY"
+                ON "COMPONENTS_VULNERABILITIES"."VULNERABILITY_ID" = "VULNERABILITY"."ID"
+             INNER JOIN "FINDINGATTRIBUTION"
+                ON "COMPONENT"."ID" = "FINDINGATTRIBUTION"."COMPONENT_ID"
+               AND "VULNERABILITY"."ID" = "FINDINGATTRIBUTION"."VULNERABILITY_ID"
+              LEFT JOIN "ANALYSIS"
+                ON "COMPONENT"."ID" = "ANALYSIS"."COMPONENT_ID"
+               AND "VULNERABILITY"."ID" = "ANALYSIS"."VULNERABILITY_ID"
+               AND "COMPONENT"."PROJECT_ID" = "ANALYSIS"."PROJECT_ID"
+             INNER JOIN "PROJECT"
+                ON "COMPONENT"."PROJECT_ID" = "PROJECT"."ID"
+            """;
+
+    /**
+     * Bring the findings of the given components up to date.
+     *
+     * @param componentIds IDs of the components to refresh findings for
+     * @return Number of created or updated findings
+     */
+    default int refreshComponents(final Collection<Long> componentIds) {
+        deleteStale("COMPONENT_ID", componentIds);
+        return upsert("COMPONENT_ID", componentIds);
+    }
+
+    /**
+     * @see #refreshComponents(Collection)
+     */
+    default int refreshProjects(final Collection<Long> projectIds) {
+        deleteStale("PROJECT_ID", projectIds);
+        return upsert("PROJECT_ID", projectIds);
+    }
+
+    /**
+     * @see #refreshComponents(Collection)
+     */
+    default int refreshVulnerabilities(final Collection<Long> vulnIds) {
+        deleteStale("VULNERABILITY_ID", vulnIds);
+        return upsert("VULNERABILITY_ID", vulnIds);
+    }
+
+    /**
+     * Re-populate the read model from scratch.
+     * <p>
+     * Should be executed in a transaction, such that readers keep seeing
+     * the previous state until the rebuild is complete.
+     *
+     * @return Number of findings in the read model
+     */
+    default int rebuild() {
+        deleteAll();
+        return insertAll();
+    }
+
+    @SqlUpdate(/* language=InjectedFreeMarker */ """
+            <#-- @ftlvariable name="scopeColumn" type="String" -->
+            DELETE
+              FROM "FINDING_READ_MODEL"
+             WHERE "FINDING_READ_MODEL"."${scopeColumn}" = ANY(:ids)
+               AND NOT EXISTS(
+                 SELECT 1
+                   FROM "COMPONENTS_VULNERABILITIES"
+                  INNER JOIN "FINDINGATTRIBUTION"
+                     ON "FINDINGATTRIBUTION"."COMPONENT_ID" = "COMPONENTS_VULNERABILITIES"."COMPONENT_ID"
+                    AND "FINDINGATTRIBUTION"."VULNERABILITY_ID" = "COMPONENTS_VULNERABILITIES"."VULNERABILITY_ID"
+                  WHERE "COMPONENTS_VULNERABILITIES"."COMPONENT_ID" = "FINDING_READ_MODEL"."COMPONENT_ID"
+                    AND "COMPONENTS_VULNERABILITIES"."VULNERABILITY_ID" = "FINDING_READ_MODEL"."VULNERABILITY_ID")
+            """)
+    int deleteStale(@Define String scopeColumn, @Bind Collection<Long> ids);
+
+    @SqlUpdate(/* language=InjectedFreeMarker */ """
+            <#-- @ftlvariable name="scopeColumn" type="String" -->
+            INSERT INTO "FINDING_READ_MODEL" (""" + COLUMNS + """
+            )
+            SELECT *
+              FROM (""" + SOURCE_QUERY + """
+              ) AS "SOURCE"
+             WHERE "SOURCE"."${scopeColumn}" = ANY(:ids)
+            ON CONFLICT ("COMPONENT_ID", "VULNERABILITY_ID") DO UPDATE
+            SET "PROJECT_ID" = EXCLUDED."PROJECT_ID"
+              , "PROJECT_NAME" = EXCLUDED."PROJECT_NAME"
+              , "PROJECT_VERSION" = EXCLUDED."PROJECT_VERSION"
+              , "PROJECT_ACTIVE" = EXCLUDED."PROJECT_ACTIVE"
+              , "COMPONENT_NAME" = EXCLUDED."COMPONENT_NAME"
+              , "COMPONENT_VERSION" = EXCLUDED."COMPONENT_VERSION"
+              , "VULNERABILITY_SOURCE" = EXCLUDED."VULNERABILITY_SOURCE"
+              , "VULNERABILITY_VULNID" = EXCLUDED."VULNERABILITY_VULNID"
+              , "VULNERABILITY_TITLE" = EXCLUDED."VULNERABILITY_TITLE"
+              , "VULNERABILITY_SEVERITY" = EXCLUDED."VULNERABILITY_SEVERITY"
+              , "VULNERABILITY_CVSSV2BASESCORE" = EXCLUDED."VULNERABILITY_CVSSV2BASESCORE"
+              , "VULNERABILITY_CVSSV3BASESCORE" = EXCLUDED."VULNERABILITY_CVSSV3BASESCORE"
+              , "VULNERABILITY_OWASPRRLIKELIHOODSCORE" = EXCLUDED."VULNERABILITY_OWASPRRLIKELIHOODSCORE"
+              , "VULNERABILITY_OWASPRRTECHNICALIMPACTSCORE" = EXCLUDED."VULNERABILITY_OWASPRRTECHNICALIMPACTSCORE"
+              , "VULNERABILITY_OWASPRRBUSINESSIMPACTSCORE" = EXCLUDED."VULNERABILITY_OWASPRRBUSINESSIMPACTSCORE"
+              , "VULNERABILITY_PUBLISHED" = EXCLUDED."VULNERABILITY_PUBLISHED"
+              , "VULNERABILITY_CWES" = EXCLUDED."VULNERABILITY_CWES"
+              , "FINDINGATTRIBUTION_ANALYZERIDENTITY" = EXCLUDED."FINDINGATTRIBUTION_ANALYZERIDENTITY"
+              , "FINDINGATTRIBUTION_ATTRIBUTED_ON" = EXCLUDED."FINDINGATTRIBUTION_ATTRIBUTED_ON"
+              , "ANALYSIS_STATE" = EXCLUDED."ANALYSIS_STATE"
+              , "ANALYSIS_RESPONSE" = EXCLUDED."ANALYSIS_RESPONSE"
+              , "ANALYSIS_SUPPRESSED" = EXCLUDED."ANALYSIS_SUPPRESSED"
+            """)
+    int upsert(@Define String scopeColumn, @Bind Collection<Long> ids);
+
+    @SqlUpdate("""
+            DELETE
+              FROM "FINDING_READ_MODEL"
+            """)
+    int deleteAll();
+
+    @SqlUpdate("""
+            INSERT INTO "FINDING_READ_MODEL" (""" + COLUMNS + """
+            )
+            """ + SOURCE_QUERY)
+    int insertAll();
+
+    @SqlQuery("""
+            SELECT NOT EXISTS(SELECT 1 FROM "FINDING_READ_MODEL")
+            """)
+    boolean isEmpty();
+
+    /**
+     * Compare the read model against the current state of the findings of components
+     * with IDs in the range {@code [componentIdFrom, componentIdTo]}.
+     * <p>
+     * Comparing the entire read model at once requires both sides to be materialized in full.
+     * Walking it in ranges of component IDs keeps the cost of a single comparison bounded.
+     *
+     * @param componentIdFrom Start of the range of component IDs, inclusive
+     * @param componentIdTo   End of the range of component IDs, inclusive
+     * @return IDs of components with findings that are missing from, outdated in,
+     * or no longer existing but still present in the read model
+     * @see ComponentDao#getNextComponentIdRangeStart(long, int)
+     */
+    @SqlQuery("""
+            SELECT DISTINCT "COMPONENT_ID"
+              FROM ((SELECT *
+                       FROM (""" + SOURCE_QUERY + """
+                       ) AS "SOURCE"
+                      WHERE "SOURCE"."COMPONENT_ID" BETWEEN :componentIdFrom AND :componentIdTo
+                     EXCEPT
+                     SELECT
+                     """ + COLUMNS + """
+                       FROM "FINDING_READ_MODEL"
+                      WHERE "COMPONENT_ID" BETWEEN :componentIdFrom AND :componentIdTo)
+                     UNION ALL
+                    (SELECT
+                     """ + COLUMNS + """
+                       FROM "FINDING_READ_MODEL"
+                      WHERE "COMPONENT_ID" BETWEEN :componentIdFrom AND :componentIdTo
+                     EXCEPT
+                     SELECT *
+                       FROM (""" + SOURCE_QUERY + """
+                       ) AS "SOURCE"
+                      WHERE "SOURCE"."COMPONENT_ID" BETWEEN :componentIdFrom AND :componentIdTo
+                    )) AS "DIFF"
+            """)
+    List<Long> getInconsistentComponentIds(@Bind long componentIdFrom, @Bind long componentIdTo);
+
+}
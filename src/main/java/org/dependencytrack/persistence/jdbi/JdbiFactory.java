@@ -73,6 +73,16 @@ public class JdbiFactory {
         return createJdbi().withHandle(handle -> handleCallback.withHandle(forApiRequest(handle, apiRequest)));
     }
 
+    /**
+     * Execute a {@link HandleCallback} using the {@link Connection} of a given {@link QueryManager}.
+     *
+     * @see #createLocalJdbi(QueryManager)
+     * @since 5.6.0
+     */
+    public static <T, X extends Exception> T withJdbiHandle(final QueryManager qm, final HandleCallback<T, X> handleCallback) throws X {
+        return createLocalJdbi(qm).withHandle(handleCallback);
+    }
+
     public static <X extends Exception> void useJdbiTransaction(final HandleConsumer<X> handleConsumer) throws X {
         createJdbi().useTransaction(handleConsumer);
     }
@@ -0,0 +1,130 @@
+/*
+ * This file is part of Dependency-Track.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.dependencytrack.persistence.jdbi;
+
+import org.jdbi.v3.sqlobject.customizer.Bind;
+import org.jdbi.v3.sqlobject.customizer.Define;
+import org.jdbi.v3.sqlobject.statement.SqlQuery;
+
+import java.time.Instant;
+
+/**
+ * Downsampling of historical metrics.
+ * <p>
+ * Metrics records are valid from their {@code FIRST_OCCURRENCE} until their {@code LAST_OCCURRENCE}.
+ * Compaction merges all records of a day or week into the last record of that day or week,
+ * and extends its {@code FIRST_OCCURRENCE} to that of the first merged record. Queries for
+ * metrics since a given point in time thus yield the last recorded metrics of every day or week,
+ * without having to be aware of compaction.
+ *
+ * @since 5.6.0
+ */
+public interface MetricsCompactionDao {
+
+    /**
+     * @param rawCutoff    Records last occurring before this point in time are downsampled to days
+     * @param weeklyCutoff Records last occurring before this point in time are downsampled to weeks
+     * @return Number of deleted records
+     */
+    default long compactPortfolioMetrics(final Instant rawCutoff, final Instant weeklyCutoff) {
+        return compactMetrics("PORTFOLIOMETRICS", null, rawCutoff, weeklyCutoff, 0, Long.MAX_VALUE);
+    }
+
+    /**
+     * @see #compactPortfolioMetrics(Instant, Instant)
+     */
+    default long compactProjectMetrics(final Instant rawCutoff, final Instant weeklyCutoff) {
+        return compactMetrics("PROJECTMETRICS", "PROJECT_ID", rawCutoff, weeklyCutoff, 0, Long.MAX_VALUE);
+    }
+
+    /**
+     * Compact metrics of components with IDs in the range {@code [componentIdFrom, componentIdTo]}.
+     * <p>
+     * Component metrics are by far the largest metrics table. Compacting them in ranges
+     * of component IDs keeps the number of rows modified by a single transaction bounded.
+     *
+     * @see #compactPortfolioMetrics(Instant, Instant)
+     * @see ComponentDao#getNextComponentIdRangeStart(long, int)
+     */
+    default long compactDependencyMetrics(
+            final Instant rawCutoff,
+            final Instant weeklyCutoff,
+            final long componentIdFrom,
+            final long componentIdTo
+    ) {
+        return compactMetrics("DEPENDENCYMETRICS", "COMPONENT_ID", rawCutoff, weeklyCutoff, componentIdFrom, componentIdTo);
+    }
+
+    /**
+     * NB: Data-modifying statements in {@code WITH} are executed even if they're not referenced
+     * by the primary query. Both {@code DELETED_METRICS} and {@code UPDATED_METRICS} operate on
+     * the same snapshot, and never touch the same rows.
+     */
+    @SqlQuery(/* language=InjectedFreeMarker */ """
+            <#-- @ftlvariable name="table" type="String" -->
+            <#-- @ftlvariable name="partitionColumn" type="String" -->
+            WITH "BUCKETED_METRICS" AS (
+              SELECT "ID"
+                   , <#if partitionColumn??>"${partitionColumn}"<#else>0</#if> AS "PARTITION_ID"
+                   , DATE_TRUNC(CASE WHEN "LAST_OCCURRENCE" < :weeklyCutoff THEN 'week' ELSE 'day' END, "LAST_OCCURRENCE") AS "BUCKET"
+                   , "FIRST_OCCURRENCE"
+                   , "LAST_OCCURRENCE"
+                FROM "${table}"
+               WHERE "LAST_OCCURRENCE" < :rawCutoff
+                 AND <#if partitionColumn??>"${partitionColumn}"<#else>0</#if> BETWEEN :partitionIdFrom AND :partitionIdTo
+            ),
+            "BUCKETS" AS (
+              SELECT "PARTITION_ID"
+                   , "BUCKET"
+                   , MIN("FIRST_OCCURRENCE") AS "FIRST_OCCURRENCE"
+                   , (ARRAY_AGG("ID" ORDER BY "LAST_OCCURRENCE" DESC, "ID" DESC))[1] AS "RETAINED_ID"
+                FROM "BUCKETED_METRICS"
+               GROUP BY "PARTITION_ID", "BUCKET"
+              HAVING COUNT(*) > 1
+            ),
+            "DELETED_METRICS" AS (
+              DELETE
+                FROM "${table}"
+               USING "BUCKETED_METRICS"
+               INNER JOIN "BUCKETS"
+                  ON "BUCKETS"."PARTITION_ID" = "BUCKETED_METRICS"."PARTITION_ID"
+                 AND "BUCKETS"."BUCKET" = "BUCKETED_METRICS"."BUCKET"
+               WHERE "${table}"."ID" = "BUCKETED_METRICS"."ID"
+                 AND "BUCKETED_METRICS"."ID" != "BUCKETS"."RETAINED_ID"
+              RETURNING "${table}"."ID"
+            ),
+            "UPDATED_METRICS" AS (
+              UPDATE "${table}"
+                 SET "FIRST_OCCURRENCE" = "BUCKETS"."FIRST_OCCURRENCE"
+                FROM "BUCKETS"
+               WHERE "${table}"."ID" = "BUCKETS"."RETAINED_ID"
+            )
+            SELECT COUNT(*)
+              FROM "DELETED_METRICS"
+            """)
+    long compactMetrics(
+            @Define String table,
+            @Define String partitionColumn,
+            @Bind Instant rawCutoff,
+            @Bind Instant weeklyCutoff,
+            @Bind long partitionIdFrom,
+            @Bind long partitionIdTo
+    );
+
+}
@@ -147,28 +147,7 @@ public interface NotificationSubjectDao extends SqlObject {
             LEFT JOIN
               "ANALYSIS" AS "A" ON "A"."COMPONENT_ID" = "C"."ID" AND "A"."VULNERABILITY_ID" = "V"."ID"
             LEFT JOIN LATERAL (
-              SELECT
-                CAST(JSONB_AGG(DISTINCT JSONB_STRIP_NULLS(JSONB_BUILD_OBJECT(
-                  'cveId',      "VA"."CVE_ID",
-                  'ghsaId',     "VA"."GHSA_ID",
-                  'gsdId',      "VA"."GSD_ID",
-                  'internalId', "VA"."INTERNAL_ID",
-                  'osvId',      "VA"."OSV_ID",
-                  'sonatypeId', "VA"."SONATYPE_ID",
-                  'snykId',     "VA"."SNYK_ID",
-                  'vulnDbId',   "VA"."VULNDB_ID"
-                ))) AS TEXT) AS "vulnAliasesJson"
-              FROM
-                "VULNERABILITYALIAS" AS "VA"
-              WHERE
-                ("V"."SOURCE" = 'NVD' AND "VA"."CVE_ID" = "V"."VULNID")
-                  OR ("V"."SOURCE" = 'GITHUB' AND "VA"."GHSA_ID" = "V"."VULNID")
-                  OR ("V"."SOURCE" = 'GSD' AND "VA"."GSD_ID" = "V"."VULNID")
-                  OR ("V"."SOURCE" = 'INTERNAL' AND "VA"."INTERNAL_ID" = "V"."VULNID")
-                  OR ("V"."SOURCE" = 'OSV' AND "VA"."OSV_ID" = "V"."VULNID")
-                  OR ("V"."SOURCE" = 'SONATYPE' AND "VA"."SONATYPE_ID" = "V"."VULNID")
-                  OR ("V"."SOURCE" = 'SNYK' AND "VA"."SNYK_ID" = "V"."VULNID")
-                  OR ("V"."SOURCE" = 'VULNDB' AND "VA"."VULNDB_ID" = "V"."VULNID")
+              SELECT CAST("VULNERABILITY_ALIASES"("V"."SOURCE", "V"."VULNID") AS TEXT) AS "vulnAliasesJson"
             ) AS "vulnAliases" ON TRUE
             WHERE
               "C"."UUID" = (:componentUuid)::TEXT AND "V"."UUID" = ANY((:vulnUuids)::TEXT[])
@@ -258,28 +237,7 @@ public interface NotificationSubjectDao extends SqlObject {
             LEFT JOIN
               "ANALYSIS" AS "A" ON "A"."COMPONENT_ID" = "C"."ID" AND "A"."VULNERABILITY_ID" = "V"."ID"
             LEFT JOIN LATERAL (
-              SELECT
-                CAST(JSONB_AGG(DISTINCT JSONB_STRIP_NULLS(JSONB_BUILD_OBJECT(
-                  'cveId',      "VA"."CVE_ID",
-                  'ghsaId',     "VA"."GHSA_ID",
-                  'gsdId',      "VA"."GSD_ID",
-                  'internalId', "VA"."INTERNAL_ID",
-                  'osvId',      "VA"."OSV_ID",
-                  'sonatypeId', "VA"."SONATYPE_ID",
-                  'snykId',     "VA"."SNYK_ID",
-                  'vulnDbId',   "VA"."VULNDB_ID"
-                ))) AS TEXT) AS "vulnAliasesJson"
-              FROM
-                "VULNERABILITYALIAS" AS "VA"
-              WHERE
-                ("V"."SOURCE" = 'NVD' AND "VA"."CVE_ID" = "V"."VULNID")
-                  OR ("V"."SOURCE" = 'GITHUB' AND "VA"."GHSA_ID" = "V"."VULNID")
-                  OR ("V"."SOURCE" = 'GSD' AND "VA"."GSD_ID" = "V"."VULNID")
-                  OR ("V"."SOURCE" = 'INTERNAL' AND "VA"."INTERNAL_ID" = "V"."VULNID")
-                  OR ("V"."SOURCE" = 'OSV' AND "VA"."OSV_ID" = "V"."VULNID")
-                  OR ("V"."SOURCE" = 'SONATYPE' AND "VA"."SONATYPE_ID" = "V"."VULNID")
-                  OR ("V"."SOURCE" = 'SNYK' AND "VA"."SNYK_ID" = "V"."VULNID")
-                  OR ("V"."SOURCE" = 'VULNDB' AND "VA"."VULNDB_ID" = "V"."VULNID")
+              SELECT CAST("VULNERABILITY_ALIASES"("V"."SOURCE", "V"."VULNID") AS TEXT) AS "vulnAliasesJson"
             ) AS "vulnAliases" ON TRUE
             WHERE
               "C"."UUID" = (:componentUuid)::TEXT
@@ -372,28 +330,7 @@ public interface NotificationSubjectDao extends SqlObject {
             LEFT JOIN
               "ANALYSIS" AS "A" ON "A"."COMPONENT_ID" = "C"."ID" AND "A"."VULNERABILITY_ID" = "V"."ID"
             LEFT JOIN LATERAL (
-              SELECT
-                CAST(JSONB_AGG(DISTINCT JSONB_STRIP_NULLS(JSONB_BUILD_OBJECT(
-                  'cveId',      "VA"."CVE_ID",
-                  'ghsaId',     "VA"."GHSA_ID",
-                  'gsdId',      "VA"."GSD_ID",
-                  'internalId', "VA"."INTERNAL_ID",
-                  'osvId',      "VA"."OSV_ID",
-                  'sonatypeId', "VA"."SONATYPE_ID",
-                  'snykId',     "VA"."SNYK_ID",
-                  'vulnDbId',   "VA"."VULNDB_ID"
-                ))) AS TEXT) AS "vulnAliasesJson"
-              FROM
-                "VULNERABILITYALIAS" AS "VA"
-              WHERE
-                ("V"."SOURCE" = 'NVD' AND "VA"."CVE_ID" = "V"."VULNID")
-                  OR ("V"."SOURCE" = 'GITHUB' AND "VA"."GHSA_ID" = "V"."VULNID")
-                  OR ("V"."SOURCE" = 'GSD' AND "VA"."GSD_ID" = "V"."VULNID")
-                  OR ("V"."SOURCE" = 'INTERNAL' AND "VA"."INTERNAL_ID" = "V"."VULNID")
-                  OR ("V"."SOURCE" = 'OSV' AND "VA"."OSV_ID" = "V"."VULNID")
-                  OR ("V"."SOURCE" = 'SONATYPE' AND "VA"."SONATYPE_ID" = "V"."VULNID")
-                  OR ("V"."SOURCE" = 'SNYK' AND "VA"."SNYK_ID" = "V"."VULNID")
-                  OR ("V"."SOURCE" = 'VULNDB' AND "VA"."VULNDB_ID" = "V"."VULNID")
+              SELECT CAST("VULNERABILITY_ALIASES"("V"."SOURCE", "V"."VULNID") AS TEXT) AS "vulnAliasesJson"
             ) AS "vulnAliases" ON TRUE
             WHERE
               "C"."UUID" = (:componentUuid)::TEXT AND "V"."UUID" = (:vulnUuid)::TEXT
@@ -512,25 +449,7 @@ public interface NotificationSubjectDao extends SqlObject {
                         INNER JOIN "VULNERABILITY" AS "V" ON "V"."ID" = "CV"."VULNERABILITY_ID"
                          LEFT JOIN "ANALYSIS" AS "A" ON "A"."COMPONENT_ID" = "C"."ID" AND "A"."VULNERABILITY_ID" = "V"."ID"
                          LEFT JOIN LATERAL (
-                           SELECT CAST(JSONB_AGG(DISTINCT JSONB_STRIP_NULLS(JSONB_BUILD_OBJECT(
-                                                 'cveId',      "VA"."CVE_ID",
-                                                 'ghsaId',     "VA"."GHSA_ID",
-                                                 'gsdId',      "VA"."GSD_ID",
-                                                 'internalId', "VA"."INTERNAL_ID",
-                                                 'osvId',      "VA"."OSV_ID",
-                                                 'sonatypeId', "VA"."SONATYPE_ID",
-                                                 'snykId',     "VA"."SNYK_ID",
-                                                 'vulnDbId',   "VA"."VULNDB_ID"
-                                      ))) AS TEXT) AS "vulnAliasesJson"
-                             FROM "VULNERABILITYALIAS" AS "VA"
-                            WHERE ("V"."SOURCE" = 'NVD' AND "VA"."CVE_ID" = "V"."VULNID")
-                               OR ("V"."SOURCE" = 'GITHUB' AND "VA"."GHSA_ID" = "V"."VULNID")
-                               OR ("V"."SOURCE" = 'GSD' AND "VA"."GSD_ID" = "V"."VULNID")
-                               OR ("V"."SOURCE" = 'INTERNAL' AND "VA"."INTERNAL_ID" = "V"."VULNID")
-                               OR ("V"."SOURCE" = 'OSV' AND "VA"."OSV_ID" = "V"."VULNID")
-                               OR ("V"."SOURCE" = 'SONATYPE' AND "VA"."SONATYPE_ID" = "V"."VULNID")
-                               OR ("V"."SOURCE" = 'SNYK' AND "VA"."SNYK_ID" = "V"."VULNID")
-                               OR ("V"."SOURCE" = 'VULNDB' AND "VA"."VULNDB_ID" = "V"."VULNID")
+                           SELECT CAST("VULNERABILITY_ALIASES"("V"."SOURCE", "V"."VULNID") AS TEXT) AS "vulnAliasesJson"
                          ) AS "vulnAliases" ON TRUE
                         WHERE "C"."PROJECT_ID" = (SELECT "ID" FROM "CTE_PROJECT")
                           AND ("A"."SUPPRESSED" IS NULL OR NOT "A"."SUPPRESSED")
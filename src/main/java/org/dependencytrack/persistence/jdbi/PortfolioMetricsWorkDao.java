@@ -0,0 +1,175 @@
+/*
+ * This file is part of Dependency-Track.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.dependencytrack.persistence.jdbi;
+
+import org.jdbi.v3.sqlobject.config.RegisterConstructorMapper;
+import org.jdbi.v3.sqlobject.customizer.Bind;
+import org.jdbi.v3.sqlobject.statement.SqlQuery;
+import org.jdbi.v3.sqlobject.statement.SqlUpdate;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Access to the projects pending in a distributed portfolio metrics refresh.
+ * <p>
+ * Projects are removed from the queue when their metrics update completed, and are marked as failed otherwise.
+ * Whichever instance removes or fails the last pending project is responsible for updating portfolio metrics.
+ * This hand-over is serialized with a transaction-level advisory lock, such that exactly one instance performs it.
+ *
+ * @since 5.6.0
+ */
+public interface PortfolioMetricsWorkDao {
+
+    /**
+     * Enqueue all active projects.
+     * <p>
+     * Projects that are still pending from a previous refresh are not enqueued again,
+     * but are retried if their metrics update failed.
+     *
+     * @return Number of enqueued projects
+     */
+    @SqlUpdate("""
+            INSERT INTO "PORTFOLIO_METRICS_WORK" AS "PMW" ("PROJECT_ID", "ENQUEUED_AT")
+            SELECT "ID", NOW()
+              FROM "PROJECT"
+             WHERE "ACTIVE" IS NULL OR "ACTIVE"
+            ON CONFLICT ("PROJECT_ID") DO UPDATE
+            SET "FAILED" = FALSE
+            WHERE "PMW"."FAILED"
+            """)
+    int enqueueActiveProjects();
+
+    /**
+     * Claim up to {@code limit} pending projects that are not leased by another instance.
+     * <p>
+     * Claimed projects are leased for {@code leaseDurationMillis}. Leases of instances that
+     * fail to complete their projects in time, e.g. because they were restarted, expire,
+     * such that the projects can be claimed again.
+     *
+     * @param limit               Maximum number of projects to claim
+     * @param leaseDurationMillis Duration in milliseconds to lease claimed projects for
+     * @return The claimed {@link PendingProject}s
+     */
+    @SqlQuery("""
+            UPDATE "PORTFOLIO_METRICS_WORK"
+               SET "LEASED_UNTIL" = NOW() + :leaseDurationMillis * INTERVAL '1 millisecond'
+              FROM "PROJECT"
+             WHERE "PROJECT"."ID" = "PORTFOLIO_METRICS_WORK"."PROJECT_ID"
+               AND "PORTFOLIO_METRICS_WORK"."PROJECT_ID" IN (
+                 SELECT "PROJECT_ID"
+                   FROM "PORTFOLIO_METRICS_WORK"
+                  WHERE NOT "FAILED"
+                    AND ("LEASED_UNTIL" IS NULL OR "LEASED_UNTIL" < NOW())
+                  ORDER BY "PROJECT_ID"
+                  LIMIT :limit
+                    FOR UPDATE SKIP LOCKED)
+            RETURNING "PROJECT"."ID" AS "projectId"
+                    , "PROJECT"."UUID" AS "projectUuid"
+            """)
+    @RegisterConstructorMapper(PendingProject.class)
+    List<PendingProject> claim(@Bind int limit, @Bind long leaseDurationMillis);
+
+    /**
+     * Complete the metrics update of a claimed project.
+     * <p>
+     * Must be called within a transaction.
+     *
+     * @param projectId ID of the claimed project
+     * @return {@code true} when no more projects are pending, and the caller must update portfolio metrics,
+     * otherwise {@code false}
+     */
+    default boolean complete(final long projectId) {
+        lock();
+        return delete(projectId) > 0 && claimPortfolioUpdate();
+    }
+
+    /**
+     * Fail the metrics update of a claimed project.
+     * <p>
+     * Failed projects are not claimed again, and are removed once portfolio metrics are updated.
+     * Must be called within a transaction.
+     *
+     * @param projectId ID of the claimed project
+     * @return {@code true} when no more projects are pending, and the caller must update portfolio metrics,
+     * otherwise {@code false}
+     */
+    default boolean fail(final long projectId) {
+        lock();
+        return markFailed(projectId) > 0 && claimPortfolioUpdate();
+    }
+
+    /**
+     * Claim the portfolio metrics update if no more projects are pending, and remove failed projects.
+     * <p>
+     * Must be called within a transaction, after {@link #lock()}.
+     *
+     * @return {@code true} when the portfolio metrics update was claimed, otherwise {@code false}
+     */
+    default boolean claimPortfolioUpdate() {
+        if (getRemaining() > 0) {
+            return false;
+        }
+
+        deleteFailed();
+        return true;
+    }
+
+    @SqlUpdate("""
+            SELECT PG_ADVISORY_XACT_LOCK(HASHTEXT('PORTFOLIO_METRICS_WORK'))
+            """)
+    void lock();
+
+    @SqlUpdate("""
+            DELETE
+              FROM "PORTFOLIO_METRICS_WORK"
+             WHERE "PROJECT_ID" = :projectId
+            """)
+    int delete(@Bind long projectId);
+
+    @SqlUpdate("""
+            UPDATE "PORTFOLIO_METRICS_WORK"
+               SET "FAILED" = TRUE
+                 , "LEASED_UNTIL" = NULL
+             WHERE "PROJECT_ID" = :projectId
+               AND NOT "FAILED"
+            """)
+    int markFailed(@Bind long projectId);
+
+    @SqlUpdate("""
+            DELETE
+              FROM "PORTFOLIO_METRICS_WORK"
+             WHERE "FAILED"
+            """)
+    int deleteFailed();
+
+    /**
+     * @return Number of projects that are pending, excluding those whose metrics update failed
+     */
+    @SqlQuery("""
+            SELECT COUNT(*)
+              FROM "PORTFOLIO_METRICS_WORK"
+             WHERE NOT "FAILED"
+            """)
+    long getRemaining();
+
+    record PendingProject(long projectId, UUID projectUuid) {
+    }
+
+}
@@ -0,0 +1,115 @@
+/*
+ * This file is part of Dependency-Track.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.dependencytrack.persistence.jdbi;
+
+import alpine.model.ApiKey;
+import alpine.model.LdapUser;
+import alpine.model.ManagedUser;
+import alpine.model.OidcUser;
+import org.jdbi.v3.sqlobject.customizer.Bind;
+import org.jdbi.v3.sqlobject.statement.SqlQuery;
+
+import java.security.Principal;
+import java.util.Set;
+
+/**
+ * @since 5.6.0
+ */
+public interface PrincipalAccessDao {
+
+    /**
+     * Retrieve the names of all permissions effectively granted to a given {@link Principal},
+     * either directly, or through any of the teams it is a member of.
+     *
+     * @param principal The {@link Principal} to retrieve permissions for
+     * @return Names of the effective permissions, or an empty {@link Set} for unsupported {@link Principal} types
+     */
+    default Set<String> getEffectivePermissions(final Principal principal) {
+        return switch (principal) {
+            case ApiKey apiKey -> getApiKeyPermissions(apiKey.getId());
+            case LdapUser ldapUser -> getLdapUserPermissions(ldapUser.getId());
+            case ManagedUser managedUser -> getManagedUserPermissions(managedUser.getId());
+            case OidcUser oidcUser -> getOidcUserPermissions(oidcUser.getId());
+            default -> Set.of();
+        };
+    }
+
+    @SqlQuery("""
+            SELECT "PERMISSION"."NAME"
+              FROM "APIKEYS_TEAMS"
+             INNER JOIN "TEAMS_PERMISSIONS"
+                ON "TEAMS_PERMISSIONS"."TEAM_ID" = "APIKEYS_TEAMS"."TEAM_ID"
+             INNER JOIN "PERMISSION"
+                ON "PERMISSION"."ID" = "TEAMS_PERMISSIONS"."PERMISSION_ID"
+             WHERE "APIKEYS_TEAMS"."APIKEY_ID" = :apiKeyId
+            """)
+    Set<String> getApiKeyPermissions(@Bind long apiKeyId);
+
+    @SqlQuery("""
+            SELECT "PERMISSION"."NAME"
+              FROM "LDAPUSERS_TEAMS"
+             INNER JOIN "TEAMS_PERMISSIONS"
+                ON "TEAMS_PERMISSIONS"."TEAM_ID" = "LDAPUSERS_TEAMS"."TEAM_ID"
+             INNER JOIN "PERMISSION"
+                ON "PERMISSION"."ID" = "TEAMS_PERMISSIONS"."PERMISSION_ID"
+             WHERE "LDAPUSERS_TEAMS"."LDAPUSER_ID" = :userId
+             UNION
+            SELECT "PERMISSION"."NAME"
+              FROM "LDAPUSERS_PERMISSIONS"
+             INNER JOIN "PERMISSION"
+                ON "PERMISSION"."ID" = "LDAPUSERS_PERMISSIONS"."PERMISSION_ID"
+             WHERE "LDAPUSERS_PERMISSIONS"."LDAPUSER_ID" = :userId
+            """)
+    Set<String> getLdapUserPermissions(@Bind long userId);
+
+    @SqlQuery("""
+            SELECT "PERMISSION"."NAME"
+              FROM "MANAGEDUSERS_TEAMS"
+             INNER JOIN "TEAMS_PERMISSIONS"
+                ON "TEAMS_PERMISSIONS"."TEAM_ID" = "MANAGEDUSERS_TEAMS"."TEAM_ID"
+             INNER JOIN "PERMISSION"
+                ON "PERMISSION"."ID" = "TEAMS_PERMISSIONS"."PERMISSION_ID"
+             WHERE "MANAGEDUSERS_TEAMS"."MANAGEDUSER_ID" = :userId
+             UNION
+            SELECT "PERMISSION"."NAME"
+              FROM "MANAGEDUSERS_PERMISSIONS"
+             INNER JOIN "PERMISSION"
+                ON "PERMISSION"."ID" = "MANAGEDUSERS_PERMISSIONS"."PERMISSION_ID"
+             WHERE "MANAGEDUSERS_PERMISSIONS"."MANAGEDUSER_ID" = :userId
+            """)
+    Set<String> getManagedUserPermissions(@Bind long userId);
+
+    @SqlQuery("""
+            SELECT "PERMISSION"."NAME"
+              FROM "OIDCUSERS_TEAMS"
+             INNER JOIN "TEAMS_PERMISSIONS"
+                ON "TEAMS_PERMISSIONS"."TEAM_ID" = "OIDCUSERS_TEAMS"."TEAM_ID"
+             INNER JOIN "PERMISSION"
+                ON "PERMISSION"."ID" = "TEAMS_PERMISSIONS"."PERMISSION_ID"
+             WHERE "OIDCUSERS_TEAMS"."OIDCUSERS_ID" = :userId
+             UNION
+            SELECT "PERMISSION"."NAME"
+              FROM "OIDCUSERS_PERMISSIONS"
+             INNER JOIN "PERMISSION"
+                ON "PERMISSION"."ID" = "OIDCUSERS_PERMISSIONS"."PERMISSION_ID"
+             WHERE "OIDCUSERS_PERMISSIONS"."OIDCUSER_ID" = :userId
+            """)
+    Set<String> getOidcUserPermissions(@Bind long userId);
+
+}
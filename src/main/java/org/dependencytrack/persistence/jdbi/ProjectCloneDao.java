@@ -0,0 +1,450 @@
+/*
+ * This file is part of Dependency-Track.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.dependencytrack.persistence.jdbi;
+
+import org.jdbi.v3.sqlobject.customizer.Bind;
+import org.jdbi.v3.sqlobject.statement.SqlQuery;
+import org.jdbi.v3.sqlobject.statement.SqlUpdate;
+
+/**
+ * Set-based statements to copy the components, services, and associated rows of a project into another project.
+ * <p>
+ * Copies of rows with a {@code UUID} column are assigned a name-based UUID, derived from the UUID
+ * of the target project and the UUID of the original row (see {@code NAME_BASED_UUID}). This allows
+ * subsequent statements to correlate copies with their originals, without keeping track of generated IDs.
+ * It also allows {@code DIRECT_DEPENDENCIES} to be rewritten without having to look up the copies first.
+ * <p>
+ * All statements are meant to be executed in the same transaction, in the order they are declared in.
+ *
+ * @since 5.6.0
+ */
+public interface ProjectCloneDao {
+
+    /**
+     * Rewrite the {@code DIRECT_DEPENDENCIES} of a project, such that they refer to the copied components and services.
+     *
+     * @param directDependencies The {@code DIRECT_DEPENDENCIES} of the source project
+     * @param targetProjectUuid  UUID of the target project
+     * @return The rewritten {@code DIRECT_DEPENDENCIES}
+     */
+    @SqlQuery("""
+            SELECT "REMAP_DIRECT_DEPENDENCIES"(:directDependencies, :targetProjectUuid)
+            """)
+    String remapDirectDependencies(@Bind String directDependencies, @Bind String targetProjectUuid);
+
+    /**
+     * Copy all components of a project, including their parent relationships.
+     * <p>
+     * {@code DIRECT_DEPENDENCIES} are rewritten to refer to the copied components and services.
+     *
+     * @return Number of copied components
+     */
+    default int cloneComponents(final long sourceProjectId, final long targetProjectId, final String targetProjectUuid) {
+        final int numComponents = insertComponents(sourceProjectId, targetProjectId, targetProjectUuid);
+        updateComponentParents(sourceProjectId, targetProjectId, targetProjectUuid);
+        return numComponents;
+    }
+
+    @SqlUpdate("""
+            INSERT INTO "COMPONENT" (
+              "UUID"
+            , "PROJECT_ID"
+            , "AUTHOR"
+            , "PUBLISHER"
+            , "SUPPLIER"
+            , "GROUP"
+            , "NAME"
+            , "VERSION"
+            , "CLASSIFIER"
+            , "FILENAME"
+            , "EXTENSION"
+            , "MD5"
+            , "SHA1"
+            , "SHA_256"
+            , "SHA_384"
+            , "SHA_512"
+            , "SHA3_256"
+            , "SHA3_384"
+            , "SHA3_512"
+            , "BLAKE2B_256"
+            , "BLAKE2B_384"
+            , "BLAKE2B_512"
+            , "BLAKE3"
+            , "CPE"
+            , "PURL"
+            , "PURLCOORDINATES"
+            , "SWIDTAGID"
+            , "INTERNAL"
+            , "DESCRIPTION"
+            , "COPYRIGHT"
+            , "LICENSE"
+            , "LICENSE_EXPRESSION"
+            , "LICENSE_URL"
+            , "LICENSE_ID"
+            , "DIRECT_DEPENDENCIES"
+            , "EXTERNAL_REFERENCES"
+            , "TEXT"
+            )
+            SELECT "NAME_BASED_UUID"(:targetProjectUuid, "UUID")
+                 , :targetProjectId
+                 , "AUTHOR"
+                 , "PUBLISHER"
+                 , "SUPPLIER"
+                 , "GROUP"
+                 , "NAME"
+                 , "VERSION"
+                 , "CLASSIFIER"
+                 , "FILENAME"
+                 , "EXTENSION"
+                 , "MD5"
+                 , "SHA1"
+                 , "SHA_256"
+                 , "SHA_384"
+                 , "SHA_512"
+                 , "SHA3_256"
+                 , "SHA3_384"
+                 , "SHA3_512"
+                 , "BLAKE2B_256"
+                 , "BLAKE2B_384"
+                 , "BLAKE2B_512"
+                 , "BLAKE3"
+                 , "CPE"
+                 , "PURL"
+                 , "PURLCOORDINATES"
+                 , "SWIDTAGID"
+                 , "INTERNAL"
+                 , "DESCRIPTION"
+                 , "COPYRIGHT"
+                 , "LICENSE"
+                 , "LICENSE_EXPRESSION"
+                 , "LICENSE_URL"
+                 , "LICENSE_ID"
+                 , "REMAP_DIRECT_DEPENDENCIES"("DIRECT_DEPENDENCIES", :targetProjectUuid)
+                 , "EXTERNAL_REFERENCES"
+                 , "TEXT"
+              FROM "COMPONENT"
+             WHERE "PROJECT_ID" = :sourceProjectId
+             ORDER BY "ID"
+            """)
+    int insertComponents(@Bind long sourceProjectId, @Bind long targetProjectId, @Bind String targetProjectUuid);
+
+    @SqlUpdate("""
+            UPDATE "COMPONENT" AS "TARGET"
+               SET "PARENT_COMPONENT_ID" = "TARGET_PARENT"."ID"
+              FROM "COMPONENT" AS "SOURCE"
+             INNER JOIN "COMPONENT" AS "SOURCE_PARENT"
+                ON "SOURCE_PARENT"."ID" = "SOURCE"."PARENT_COMPONENT_ID"
+             INNER JOIN "COMPONENT" AS "TARGET_PARENT"
+                ON "TARGET_PARENT"."UUID" = "NAME_BASED_UUID"(:targetProjectUuid, "SOURCE_PARENT"."UUID")
+             WHERE "SOURCE"."PROJECT_ID" = :sourceProjectId
+               AND "TARGET"."UUID" = "NAME_BASED_UUID"(:targetProjectUuid, "SOURCE"."UUID")
+               AND "TARGET"."PROJECT_ID" = :targetProjectId
+            """)
+    void updateComponentParents(@Bind long sourceProjectId, @Bind long targetProjectId, @Bind String targetProjectUuid);
+
+    /**
+     * Copy the vulnerabilities of all components of a project, including their attributions.
+     *
+     * @return Number of copied findings
+     */
+    default int cloneComponentVulnerabilities(final long sourceProjectId, final long targetProjectId, final String targetProjectUuid) {
+        final int numFindings = insertComponentVulnerabilities(sourceProjectId, targetProjectId, targetProjectUuid);
+        insertFindingAttributions(sourceProjectId, targetProjectId, targetProjectUuid);
+        return numFindings;
+    }
+
+    @SqlUpdate("""
+            INSERT INTO "COMPONENTS_VULNERABILITIES" ("COMPONENT_ID", "VULNERABILITY_ID")
+            SELECT "TARGET"."ID"
+                 , "COMPONENTS_VULNERABILITIES"."VULNERABILITY_ID"
+              FROM "COMPONENTS_VULNERABILITIES"
+             INNER JOIN "COMPONENT" AS "SOURCE"
+                ON "SOURCE"."ID" = "COMPONENTS_VULNERABILITIES"."COMPONENT_ID"
+             INNER JOIN "COMPONENT" AS "TARGET"
+                ON "TARGET"."UUID" = "NAME_BASED_UUID"(:targetProjectUuid, "SOURCE"."UUID")
+             WHERE "SOURCE"."PROJECT_ID" = :sourceProjectId
+               AND "TARGET"."PROJECT_ID" = :targetProjectId
+            """)
+    int insertComponentVulnerabilities(@Bind long sourceProjectId, @Bind long targetProjectId, @Bind String targetProjectUuid);
+
+    @SqlUpdate("""
+            INSERT INTO "FINDINGATTRIBUTION" (
+              "UUID"
+            , "PROJECT_ID"
+            , "COMPONENT_ID"
+            , "VULNERABILITY_ID"
+            , "ANALYZERIDENTITY"
+            , "ALT_ID"
+            , "REFERENCE_URL"
+            , "ATTRIBUTED_ON"
+            )
+            SELECT "NAME_BASED_UUID"(:targetProjectUuid, "FINDINGATTRIBUTION"."UUID")
+                 , :targetProjectId
+                 , "TARGET"."ID"
+                 , "FINDINGATTRIBUTION"."VULNERABILITY_ID"
+                 , "FINDINGATTRIBUTION"."ANALYZERIDENTITY"
+                 , "FINDINGATTRIBUTION"."ALT_ID"
+                 , "FINDINGATTRIBUTION"."REFERENCE_URL"
+                 , "FINDINGATTRIBUTION"."ATTRIBUTED_ON"
+              FROM "FINDINGATTRIBUTION"
+             INNER JOIN "COMPONENT" AS "SOURCE"
+                ON "SOURCE"."ID" = "FINDINGATTRIBUTION"."COMPONENT_ID"
+             INNER JOIN "COMPONENT" AS "TARGET"
+                ON "TARGET"."UUID" = "NAME_BASED_UUID"(:targetProjectUuid, "SOURCE"."UUID")
+             WHERE "FINDINGATTRIBUTION"."PROJECT_ID" = :sourceProjectId
+               AND "TARGET"."PROJECT_ID" = :targetProjectId
+            """)
+    void insertFindingAttributions(@Bind long sourceProjectId, @Bind long targetProjectId, @Bind String targetProjectUuid);
+
+    /**
+     * Copy all services of a project, including their parent relationships and vulnerabilities.
+     *
+     * @return Number of copied services
+     */
+    default int cloneServiceComponents(final long sourceProjectId, final long targetProjectId, final String targetProjectUuid) {
+        final int numServices = insertServiceComponents(sourceProjectId, targetProjectId, targetProjectUuid);
+        updateServiceComponentParents(sourceProjectId, targetProjectId, targetProjectUuid);
+        insertServiceComponentVulnerabilities(sourceProjectId, targetProjectId, targetProjectUuid);
+        return numServices;
+    }
+
+    @SqlUpdate("""
+            INSERT INTO "SERVICECOMPONENT" (
+              "UUID"
+            , "PROJECT_ID"
+            , "PROVIDER_ID"
+            , "GROUP"
+            , "NAME"
+            , "VERSION"
+            , "DESCRIPTION"
+            , "ENDPOINTS"
+            , "AUTHENTICATED"
+            , "X_TRUST_BOUNDARY"
+            , "DATA"
+            , "EXTERNAL_REFERENCES"
+            , "TEXT"
+            )
+            SELECT "NAME_BASED_UUID"(:targetProjectUuid, "UUID")
+                 , :targetProjectId
+                 , "PROVIDER_ID"
+                 , "GROUP"
+                 , "NAME"
+                 , "VERSION"
+                 , "DESCRIPTION"
+                 , "ENDPOINTS"
+                 , "AUTHENTICATED"
+                 , "X_TRUST_BOUNDARY"
+                 , "DATA"
+                 , "EXTERNAL_REFERENCES"
+                 , "TEXT"
+              FROM "SERVICECOMPONENT"
+             WHERE "PROJECT_ID" = :sourceProjectId
+             ORDER BY "ID"
+            """)
+    int insertServiceComponents(@Bind long sourceProjectId, @Bind long targetProjectId, @Bind String targetProjectUuid);
+
+    @SqlUpdate("""
+            UPDATE "SERVICECOMPONENT" AS "TARGET"
+               SET "PARENT_SERVICECOMPONENT_ID" = "TARGET_PARENT"."ID"
+              FROM "SERVICECOMPONENT" AS "SOURCE"
+             INNER JOIN "SERVICECOMPONENT" AS "SOURCE_PARENT"
+                ON "SOURCE_PARENT"."ID" = "SOURCE"."PARENT_SERVICECOMPONENT_ID"
+             INNER JOIN "SERVICECOMPONENT" AS "TARGET_PARENT"
+                ON "TARGET_PARENT"."UUID" = "NAME_BASED_UUID"(:targetProjectUuid, "SOURCE_PARENT"."UUID")
+             WHERE "SOURCE"."PROJECT_ID" = :sourceProjectId
+               AND "TARGET"."UUID" = "NAME_BASED_UUID"(:targetProjectUuid, "SOURCE"."UUID")
+               AND "TARGET"."PROJECT_ID" = :targetProjectId
+            """)
+    void updateServiceComponentParents(@Bind long sourceProjectId, @Bind long targetProjectId, @Bind String targetProjectUuid);
+
+    @SqlUpdate("""
+            INSERT INTO "SERVICECOMPONENTS_VULNERABILITIES" ("SERVICECOMPONENT_ID", "VULNERABILITY_ID")
+            SELECT "TARGET"."ID"
+                 , "SERVICECOMPONENTS_VULNERABILITIES"."VULNERABILITY_ID"
+              FROM "SERVICECOMPONENTS_VULNERABILITIES"
+             INNER JOIN "SERVICECOMPONENT" AS "SOURCE"
+                ON "SOURCE"."ID" = "SERVICECOMPONENTS_VULNERABILITIES"."SERVICECOMPONENT_ID"
+             INNER JOIN "SERVICECOMPONENT" AS "TARGET"
+                ON "TARGET"."UUID" = "NAME_BASED_UUID"(:targetProjectUuid, "SOURCE"."UUID")
+             WHERE "SOURCE"."PROJECT_ID" = :sourceProjectId
+               AND "TARGET"."PROJECT_ID" = :targetProjectId
+            """)
+    void insertServiceComponentVulnerabilities(@Bind long sourceProjectId, @Bind long targetProjectId, @Bind String targetProjectUuid);
+
+    /**
+     * Copy the analyses of all components of a project, including their comments.
+     * <p>
+     * Must only be called after {@link #cloneComponents(long, long, String)}.
+     *
+     * @return Number of copied analyses
+     */
+    default int cloneAnalyses(final long sourceProjectId, final long targetProjectId, final String targetProjectUuid) {
+        final int numAnalyses = insertAnalyses(sourceProjectId, targetProjectId, targetProjectUuid);
+        insertAnalysisComments(sourceProjectId, targetProjectId, targetProjectUuid);
+        return numAnalyses;
+    }
+
+    @SqlUpdate("""
+            INSERT INTO "ANALYSIS" (
+              "PROJECT_ID"
+            , "COMPONENT_ID"
+            , "VULNERABILITY_ID"
+            , "STATE"
+            , "JUSTIFICATION"
+            , "RESPONSE"
+            , "DETAILS"
+            , "SUPPRESSED"
+            , "SEVERITY"
+            , "CVSSV2VECTOR"
+            , "CVSSV2SCORE"
+            , "CVSSV3VECTOR"
+            , "CVSSV3SCORE"
+            , "OWASPVECTOR"
+            , "OWASPSCORE"
+            , "VULNERABILITY_POLICY_ID"
+            )
+            SELECT :targetProjectId
+                 , "TARGET"."ID"
+                 , "ANALYSIS"."VULNERABILITY_ID"
+                 , "ANALYSIS"."STATE"
+                 , "ANALYSIS"."JUSTIFICATION"
+                 , "ANALYSIS"."RESPONSE"
+                 , "ANALYSIS"."DETAILS"
+                 , "ANALYSIS"."SUPPRESSED"
+                 , "ANALYSIS"."SEVERITY"
+                 , "ANALYSIS"."CVSSV2VECTOR"
+                 , "ANALYSIS"."CVSSV2SCORE"
+                 , "ANALYSIS"."CVSSV3VECTOR"
+                 , "ANALYSIS"."CVSSV3SCORE"
+                 , "ANALYSIS"."OWASPVECTOR"
+                 , "ANALYSIS"."OWASPSCORE"
+                 , "ANALYSIS"."VULNERABILITY_POLICY_ID"
+              FROM "ANALYSIS"
+             INNER JOIN "COMPONENT" AS "SOURCE"
+                ON "SOURCE"."ID" = "ANALYSIS"."COMPONENT_ID"
+             INNER JOIN "COMPONENT" AS "TARGET"
+                ON "TARGET"."UUID" = "NAME_BASED_UUID"(:targetProjectUuid, "SOURCE"."UUID")
+             WHERE "ANALYSIS"."PROJECT_ID" = :sourceProjectId
+               AND "TARGET"."PROJECT_ID" = :targetProjectId
+            """)
+    int insertAnalyses(@Bind long sourceProjectId, @Bind long targetProjectId, @Bind String targetProjectUuid);
+
+    @SqlUpdate("""
+            INSERT INTO "ANALYSISCOMMENT" ("ANALYSIS_ID", "TIMESTAMP", "COMMENT", "COMMENTER")
+            SELECT "TARGET_ANALYSIS"."ID"
+                 , "ANALYSISCOMMENT"."TIMESTAMP"
+                 , "ANALYSISCOMMENT"."COMMENT"
+                 , "ANALYSISCOMMENT"."COMMENTER"
+              FROM "ANALYSISCOMMENT"
+             INNER JOIN "ANALYSIS" AS "SOURCE_ANALYSIS"
+                ON "SOURCE_ANALYSIS"."ID" = "ANALYSISCOMMENT"."ANALYSIS_ID"
+             INNER JOIN "COMPONENT" AS "SOURCE"
+                ON "SOURCE"."ID" = "SOURCE_ANALYSIS"."COMPONENT_ID"
+             INNER JOIN "COMPONENT" AS "TARGET"
+                ON "TARGET"."UUID" = "NAME_BASED_UUID"(:targetProjectUuid, "SOURCE"."UUID")
+             INNER JOIN "ANALYSIS" AS "TARGET_ANALYSIS"
+                ON "TARGET_ANALYSIS"."PROJECT_ID" = "TARGET"."PROJECT_ID"
+               AND "TARGET_ANALYSIS"."COMPONENT_ID" = "TARGET"."ID"
+               AND "TARGET_ANALYSIS"."VULNERABILITY_ID" = "SOURCE_ANALYSIS"."VULNERABILITY_ID"
+             WHERE "SOURCE_ANALYSIS"."PROJECT_ID" = :sourceProjectId
+               AND "TARGET"."PROJECT_ID" = :targetProjectId
+             ORDER BY "ANALYSISCOMMENT"."ID"
+            """)
+    void insertAnalysisComments(@Bind long sourceProjectId, @Bind long targetProjectId, @Bind String targetProjectUuid);
+
+    /**
+     * Copy the policy violations of all components of a project, including their analyses and comments.
+     * <p>
+     * Must only be called after {@link #cloneComponents(long, long, String)}.
+     *
+     * @return Number of copied policy violations
+     */
+    default int clonePolicyViolations(final long sourceProjectId, final long targetProjectId, final String targetProjectUuid) {
+        final int numViolations = insertPolicyViolations(sourceProjectId, targetProjectId, targetProjectUuid);
+        insertViolationAnalyses(sourceProjectId, targetProjectId, targetProjectUuid);
+        insertViolationAnalysisComments(sourceProjectId, targetProjectId, targetProjectUuid);
+        return numViolations;
+    }
+
+    @SqlUpdate("""
+            INSERT INTO "POLICYVIOLATION" (
+              "UUID"
+            , "PROJECT_ID"
+            , "COMPONENT_ID"
+            , "POLICYCONDITION_ID"
+            , "TYPE"
+            , "TEXT"
+            , "TIMESTAMP"
+            )
+            SELECT "NAME_BASED_UUID"(:targetProjectUuid, "POLICYVIOLATION"."UUID")
+                 , :targetProjectId
+                 , "TARGET"."ID"
+                 , "POLICYVIOLATION"."POLICYCONDITION_ID"
+                 , "POLICYVIOLATION"."TYPE"
+                 , "POLICYVIOLATION"."TEXT"
+                 , "POLICYVIOLATION"."TIMESTAMP"
+              FROM "POLICYVIOLATION"
+             INNER JOIN "COMPONENT" AS "SOURCE"
+                ON "SOURCE"."ID" = "POLICYVIOLATION"."COMPONENT_ID"
+             INNER JOIN "COMPONENT" AS "TARGET"
+                ON "TARGET"."UUID" = "NAME_BASED_UUID"(:targetProjectUuid, "SOURCE"."UUID")
+             WHERE "POLICYVIOLATION"."PROJECT_ID" = :sourceProjectId
+               AND "TARGET"."PROJECT_ID" = :targetProjectId
+            """)
+    int insertPolicyViolations(@Bind long sourceProjectId, @Bind long targetProjectId, @Bind String targetProjectUuid);
+
+    @SqlUpdate("""
+            INSERT INTO "VIOLATIONANALYSIS" ("PROJECT_ID", "COMPONENT_ID", "POLICYVIOLATION_ID", "STATE", "SUPPRESSED")
+            SELECT :targetProjectId
+                 , "TARGET_VIOLATION"."COMPONENT_ID"
+                 , "TARGET_VIOLATION"."ID"
+                 , "VIOLATIONANALYSIS"."STATE"
+                 , "VIOLATIONANALYSIS"."SUPPRESSED"
+              FROM "VIOLATIONANALYSIS"
+             INNER JOIN "POLICYVIOLATION" AS "SOURCE_VIOLATION"
+                ON "SOURCE_VIOLATION"."ID" = "VIOLATIONANALYSIS"."POLICYVIOLATION_ID"
+             INNER JOIN "POLICYVIOLATION" AS "TARGET_VIOLATION"
+                ON "TARGET_VIOLATION"."UUID" = "NAME_BASED_UUID"(:targetProjectUuid, "SOURCE_VIOLATION"."UUID")
+             WHERE "VIOLATIONANALYSIS"."PROJECT_ID" = :sourceProjectId
+               AND "TARGET_VIOLATION"."PROJECT_ID" = :targetProjectId
+            """)
+    void insertViolationAnalyses(@Bind long sourceProjectId, @Bind long targetProjectId, @Bind String targetProjectUuid);
+
+    @SqlUpdate("""
+            INSERT INTO "VIOLATIONANALYSISCOMMENT" ("VIOLATIONANALYSIS_ID", "TIMESTAMP", "COMMENT", "COMMENTER")
+            SELECT "TARGET_ANALYSIS"."ID"
+                 , "VIOLATIONANALYSISCOMMENT"."TIMESTAMP"
+                 , "VIOLATIONANALYSISCOMMENT"."COMMENT"
+                 , "VIOLATIONANALYSISCOMMENT"."COMMENTER"
+              FROM "VIOLATIONANALYSISCOMMENT"
+             INNER JOIN "VIOLATIONANALYSIS" AS "SOURCE_ANALYSIS"
+                ON "SOURCE_ANALYSIS"."ID" = "VIOLATIONANALYSISCOMMENT"."VIOLATIONANALYSIS_ID"
+             INNER JOIN "POLICYVIOLATION" AS "SOURCE_VIOLATION"
+                ON "SOURCE_VIOLATION"."ID" = "SOURCE_ANALYSIS"."POLICYVIOLATION_ID"
+             INNER JOIN "POLICYVIOLATION" AS "TARGET_VIOLATION"
+                ON "TARGET_VIOLATION"."UUID" = "NAME_BASED_UUID"(:targetProjectUuid, "SOURCE_VIOLATION"."UUID")
+             INNER JOIN "VIOLATIONANALYSIS" AS "TARGET_ANALYSIS"
+                ON "TARGET_ANALYSIS"."POLICYVIOLATION_ID" = "TARGET_VIOLATION"."ID"
+             WHERE "SOURCE_ANALYSIS"."PROJECT_ID" = :sourceProjectId
+               AND "TARGET_VIOLATION"."PROJECT_ID" = :targetProjectId
+             ORDER BY "VIOLATIONANALYSISCOMMENT"."ID"
+            """)
+    void insertViolationAnalysisComments(@Bind long sourceProjectId, @Bind long targetProjectId, @Bind String targetProjectUuid);
+
+}
@@ -28,6 +28,7 @@ import org.jdbi.v3.sqlobject.customizer.DefineNamedBindings;
 import org.jdbi.v3.sqlobject.statement.SqlQuery;
 
 import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -91,9 +92,7 @@ public interface ProjectDao {
                      , "UNASSIGNED_SEVERITY"
                      , "VULNERABILITIES"
                   FROM "PROJECTMETRICS"
-                 WHERE "PROJECTMETRICS"."PROJECT_ID" = "PROJECT"."ID"
-                 ORDER BY "PROJECTMETRICS"."LAST_OCCURRENCE" DESC
-                 LIMIT 1
+                 WHERE "PROJECTMETRICS"."ID" = "PROJECT"."LAST_PROJECTMETRICS_ID"
               ) AS "metrics" ON TRUE
             </#if>
              WHERE ${apiProjectAclCondition!"TRUE"}
@@ -163,6 +162,25 @@ public interface ProjectDao {
             @Define boolean includeMetrics
     );
 
+    /**
+     * Fetch the IDs of the most recent {@code PROJECTMETRICS} rows of the given projects.
+     * <p>
+     * Projects without any metrics are omitted from the result.
+     *
+     * @param projectIds IDs of the projects
+     * @return A {@link List} of {@link LastProjectMetricsRow}s
+     * @since 5.6.0
+     */
+    @SqlQuery("""
+            SELECT "ID" AS "projectId"
+                 , "LAST_PROJECTMETRICS_ID" AS "metricsId"
+              FROM "PROJECT"
+             WHERE "ID" = ANY(:projectIds)
+               AND "LAST_PROJECTMETRICS_ID" IS NOT NULL
+            """)
+    @RegisterConstructorMapper(LastProjectMetricsRow.class)
+    List<LastProjectMetricsRow> getLastProjectMetricsIds(@Bind Collection<Long> projectIds);
+
     record ConciseProjectListRow(
             UUID uuid,
             String group,
@@ -198,4 +216,7 @@ public interface ProjectDao {
     ) {
     }
 
+    record LastProjectMetricsRow(long projectId, long metricsId) {
+    }
+
 }
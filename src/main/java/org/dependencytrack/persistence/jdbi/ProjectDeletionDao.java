@@ -0,0 +1,493 @@
+/*
+ * This file is part of Dependency-Track.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.dependencytrack.persistence.jdbi;
+
+import org.jdbi.v3.sqlobject.config.RegisterConstructorMapper;
+import org.jdbi.v3.sqlobject.customizer.Bind;
+import org.jdbi.v3.sqlobject.statement.SqlQuery;
+import org.jdbi.v3.sqlobject.statement.SqlUpdate;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Access to the projects pending asynchronous deletion, and the statements to delete them.
+ * <p>
+ * Rows depending on a project are deleted in bounded batches, such that no single transaction
+ * has to hold locks on the entire project. Batches are ordered such that foreign key constraints
+ * are never violated at commit time. Tables referencing {@code PROJECT} or {@code COMPONENT}
+ * with {@code ON DELETE CASCADE} are not cleaned up explicitly.
+ *
+ * @since 5.6.0
+ */
+public interface ProjectDeletionDao {
+
+    /**
+     * Enqueue projects, and all of their descendants, for deletion.
+     * <p>
+     * Projects that are already pending deletion are not enqueued again.
+     * The returned number is to be recorded as {@code TOTAL_ITEMS} of the token's
+     * {@code PROJECT_DELETION} workflow step.
+     *
+     * @param projectIds IDs of the projects to delete
+     * @param token      Token to associate the deletion with
+     * @return Number of enqueued projects
+     */
+    @SqlUpdate("""
+            WITH RECURSIVE "CTE_PROJECT" ("ID") AS (
+              SELECT "ID"
+                FROM "PROJECT"
+               WHERE "ID" = ANY(:projectIds)
+               UNION
+              SELECT "CHILD"."ID"
+                FROM "PROJECT" AS "CHILD"
+               INNER JOIN "CTE_PROJECT" AS "PARENT"
+                  ON "PARENT"."ID" = "CHILD"."PARENT_PROJECT_ID"
+            )
+            INSERT INTO "PROJECT_DELETION_WORK" ("PROJECT_ID", "TOKEN", "ENQUEUED_AT")
+            SELECT "ID", :token, NOW()
+              FROM "CTE_PROJECT"
+            ON CONFLICT ("PROJECT_ID") DO NOTHING
+            """)
+    int enqueue(@Bind Collection<Long> projectIds, @Bind String token);
+
+    /**
+     * Claim up to {@code limit} pending projects that are not leased by another instance,
+     * and that do not have any child projects (anymore).
+     * <p>
+     * Deleting children before their parents ensures that {@code PARENT_PROJECT_ID}
+     * references never have to be updated. Children that were created after their parent
+     * has been enqueued are enqueued as well, such that the parent does not wait for them indefinitely.
+     *
+     * @param limit               Maximum number of projects to claim
+     * @param leaseDurationMillis Duration in milliseconds to lease claimed projects for
+     * @return The claimed {@link PendingProject}s
+     * @see #enqueueNewChildren()
+     */
+    default List<PendingProject> claim(final int limit, final long leaseDurationMillis) {
+        enqueueNewChildren();
+        return claimLeaves(limit, leaseDurationMillis);
+    }
+
+    /**
+     * Enqueue all descendants of pending projects that are not pending deletion themselves,
+     * using the token of their pending ancestor.
+     * <p>
+     * Enqueued projects are added to the {@code TOTAL_ITEMS} of their token's {@code PROJECT_DELETION} workflow step.
+     *
+     * @return Number of workflow steps that projects were enqueued for
+     */
+    @SqlUpdate("""
+            WITH RECURSIVE "CTE_PROJECT" ("ID", "TOKEN") AS (
+              SELECT "CHILD"."ID", "WORK"."TOKEN"
+                FROM "PROJECT_DELETION_WORK" AS "WORK"
+               INNER JOIN "PROJECT" AS "CHILD"
+                  ON "CHILD"."PARENT_PROJECT_ID" = "WORK"."PROJECT_ID"
+               UNION
+              SELECT "CHILD"."ID", "PARENT"."TOKEN"
+                FROM "PROJECT" AS "CHILD"
+               INNER JOIN "CTE_PROJECT" AS "PARENT"
+                  ON "PARENT"."ID" = "CHILD"."PARENT_PROJECT_ID"
+            )
+            , "CTE_ENQUEUED" AS (
+              INSERT INTO "PROJECT_DELETION_WORK" ("PROJECT_ID", "TOKEN", "ENQUEUED_AT")
+              SELECT "ID", "TOKEN", NOW()
+                FROM "CTE_PROJECT"
+              ON CONFLICT ("PROJECT_ID") DO NOTHING
+              RETURNING "TOKEN"
+            )
+            UPDATE "WORKFLOW_STATE"
+               SET "TOTAL_ITEMS" = COALESCE("TOTAL_ITEMS", 0) + "ENQUEUED"."COUNT"
+                 , "UPDATED_AT" = NOW()
+              FROM (SELECT "TOKEN", COUNT(*) AS "COUNT"
+                      FROM "CTE_ENQUEUED"
+                     GROUP BY "TOKEN") AS "ENQUEUED"
+             WHERE "WORKFLOW_STATE"."STEP" = 'PROJECT_DELETION'
+               AND "WORKFLOW_STATE"."TOKEN" = "ENQUEUED"."TOKEN"
+            """)
+    int enqueueNewChildren();
+
+    @SqlQuery("""
+            UPDATE "PROJECT_DELETION_WORK"
+               SET "LEASED_UNTIL" = NOW() + :leaseDurationMillis * INTERVAL '1 millisecond'
+              FROM "PROJECT"
+             WHERE "PROJECT"."ID" = "PROJECT_DELETION_WORK"."PROJECT_ID"
+               AND "PROJECT_DELETION_WORK"."PROJECT_ID" IN (
+                 SELECT "PROJECT_ID"
+                   FROM "PROJECT_DELETION_WORK" AS "WORK"
+                  WHERE ("LEASED_UNTIL" IS NULL OR "LEASED_UNTIL" < NOW())
+                    AND NOT EXISTS(SELECT 1
+                                     FROM "PROJECT" AS "CHILD"
+                                    WHERE "CHILD"."PARENT_PROJECT_ID" = "WORK"."PROJECT_ID")
+                  ORDER BY "PROJECT_ID"
+                  LIMIT :limit
+                    FOR UPDATE SKIP LOCKED)
+            RETURNING "PROJECT"."ID" AS "projectId"
+                    , "PROJECT"."UUID" AS "projectUuid"
+                    , "PROJECT_DELETION_WORK"."TOKEN" AS "token"
+            """)
+    @RegisterConstructorMapper(PendingProject.class)
+    List<PendingProject> claimLeaves(@Bind int limit, @Bind long leaseDurationMillis);
+
+    @SqlUpdate("""
+            UPDATE "PROJECT_DELETION_WORK"
+               SET "LEASED_UNTIL" = NOW() + :leaseDurationMillis * INTERVAL '1 millisecond'
+             WHERE "PROJECT_ID" = :projectId
+            """)
+    void extendLease(@Bind long projectId, @Bind long leaseDurationMillis);
+
+    @SqlQuery("""
+            SELECT COUNT(*)
+              FROM "PROJECT_DELETION_WORK"
+             WHERE "TOKEN" = :token
+            """)
+    long getRemaining(@Bind String token);
+
+    /**
+     * Transition the {@code PROJECT_DELETION} workflow steps of all tokens without
+     * pending projects to {@code COMPLETED}.
+     *
+     * @return Number of completed workflow steps
+     */
+    @SqlUpdate("""
+            UPDATE "WORKFLOW_STATE"
+               SET "STATUS" = 'COMPLETED'
+                 , "UPDATED_AT" = NOW()
+             WHERE "STEP" = 'PROJECT_DELETION'
+               AND "STATUS" IN ('PENDING', 'TIMED_OUT')
+               AND NOT EXISTS(SELECT 1
+                                FROM "PROJECT_DELETION_WORK"
+                               WHERE "PROJECT_DELETION_WORK"."TOKEN" = "WORKFLOW_STATE"."TOKEN")
+            """)
+    int completeWorkflowSteps();
+
+    /**
+     * Record progress on the {@code PROJECT_DELETION} workflow step of a token,
+     * such that it is not considered to be timed out.
+     */
+    @SqlUpdate("""
+            UPDATE "WORKFLOW_STATE"
+               SET "STATUS" = 'PENDING'
+                 , "STARTED_AT" = COALESCE("STARTED_AT", NOW())
+                 , "UPDATED_AT" = NOW()
+             WHERE "STEP" = 'PROJECT_DELETION'
+               AND "TOKEN" = :token
+               AND "STATUS" IN ('PENDING', 'TIMED_OUT')
+            """)
+    void updateWorkflowStepProgress(@Bind String token);
+
+    /**
+     * Count a deleted project towards the {@code COMPLETED_ITEMS} of its token's {@code PROJECT_DELETION} workflow step.
+     * <p>
+     * Must be invoked in the same transaction that deletes the project, such that it is counted exactly once.
+     */
+    @SqlUpdate("""
+            UPDATE "WORKFLOW_STATE"
+               SET "COMPLETED_ITEMS" = COALESCE("COMPLETED_ITEMS", 0) + 1
+                 , "UPDATED_AT" = NOW()
+             WHERE "STEP" = 'PROJECT_DELETION'
+               AND "TOKEN" = :token
+            """)
+    void recordProjectDeleted(@Bind String token);
+
+    @SqlUpdate("""
+            UPDATE "PROJECT"
+               SET "LAST_PROJECTMETRICS_ID" = NULL
+             WHERE "ID" = :projectId
+            """)
+    void clearLastProjectMetrics(@Bind long projectId);
+
+    @SqlQuery("""
+            SELECT "ID"
+              FROM "COMPONENT"
+             WHERE "PROJECT_ID" = :projectId
+             ORDER BY "ID"
+             LIMIT :limit
+            """)
+    List<Long> getComponentIds(@Bind long projectId, @Bind int limit);
+
+    /**
+     * Delete components, and all rows depending on them.
+     * <p>
+     * Must be invoked within a transaction.
+     *
+     * @param componentIds IDs of the components to delete
+     * @return Number of deleted components
+     */
+    default int deleteComponents(final Collection<Long> componentIds) {
+        deleteComponentAnalysisComments(componentIds);
+        deleteComponentAnalyses(componentIds);
+        deleteComponentViolationAnalysisComments(componentIds);
+        deleteComponentViolationAnalyses(componentIds);
+        deleteComponentPolicyViolations(componentIds);
+        deleteComponentFindingAttributions(componentIds);
+        deleteComponentDependencyMetrics(componentIds);
+        deleteComponentIntegrityAnalyses(componentIds);
+        deleteComponentVulnerabilities(componentIds);
+        unlinkChildComponents(componentIds);
+        return deleteComponentsById(componentIds);
+    }
+
+    @SqlUpdate("""
+            DELETE
+              FROM "ANALYSISCOMMENT"
+             WHERE "ANALYSIS_ID" IN (SELECT "ID"
+                                       FROM "ANALYSIS"
+                                      WHERE "COMPONENT_ID" = ANY(:componentIds))
+            """)
+    void deleteComponentAnalysisComments(@Bind Collection<Long> componentIds);
+
+    @SqlUpdate("""
+            DELETE
+              FROM "ANALYSIS"
+             WHERE "COMPONENT_ID" = ANY(:componentIds)
+            """)
+    void deleteComponentAnalyses(@Bind Collection<Long> componentIds);
+
+    @SqlUpdate("""
+            DELETE
+              FROM "VIOLATIONANALYSISCOMMENT"
+             WHERE "VIOLATIONANALYSIS_ID" IN (SELECT "ID"
+                                                FROM "VIOLATIONANALYSIS"
+                                               WHERE "COMPONENT_ID" = ANY(:componentIds))
+            """)
+    void deleteComponentViolationAnalysisComments(@Bind Collection<Long> componentIds);
+
+    @SqlUpdate("""
+            DELETE
+              FROM "VIOLATIONANALYSIS"
+             WHERE "COMPONENT_ID" = ANY(:componentIds)
+            """)
+    void deleteComponentViolationAnalyses(@Bind Collection<Long> componentIds);
+
+    @SqlUpdate("""
+            DELETE
+              FROM "POLICYVIOLATION"
+             WHERE "COMPONENT_ID" = ANY(:componentIds)
+            """)
+    void deleteComponentPolicyViolations(@Bind Collection<Long> componentIds);
+
+    @SqlUpdate("""
+            DELETE
+              FROM "FINDINGATTRIBUTION"
+             WHERE "COMPONENT_ID" = ANY(:componentIds)
+            """)
+    void deleteComponentFindingAttributions(@Bind Collection<Long> componentIds);
+
+    @SqlUpdate("""
+            DELETE
+              FROM "DEPENDENCYMETRICS"
+             WHERE "COMPONENT_ID" = ANY(:componentIds)
+            """)
+    void deleteComponentDependencyMetrics(@Bind Collection<Long> componentIds);
+
+    @SqlUpdate("""
+            DELETE
+              FROM "INTEGRITY_ANALYSIS"
+             WHERE "COMPONENT_ID" = ANY(:componentIds)
+            """)
+    void deleteComponentIntegrityAnalyses(@Bind Collection<Long> componentIds);
+
+    @SqlUpdate("""
+            DELETE
+              FROM "COMPONENTS_VULNERABILITIES"
+             WHERE "COMPONENT_ID" = ANY(:componentIds)
+            """)
+    void deleteComponentVulnerabilities(@Bind Collection<Long> componentIds);
+
+    /**
+     * Children of a component may be part of a later batch.
+     */
+    @SqlUpdate("""
+            UPDATE "COMPONENT"
+               SET "PARENT_COMPONENT_ID" = NULL
+             WHERE "PARENT_COMPONENT_ID" = ANY(:componentIds)
+               AND NOT ("ID" = ANY(:componentIds))
+            """)
+    void unlinkChildComponents(@Bind Collection<Long> componentIds);
+
+    @SqlUpdate("""
+            DELETE
+              FROM "COMPONENT"
+             WHERE "ID" = ANY(:componentIds)
+            """)
+    int deleteComponentsById(@Bind Collection<Long> componentIds);
+
+    @SqlQuery("""
+            SELECT "ID"
+              FROM "SERVICECOMPONENT"
+             WHERE "PROJECT_ID" = :projectId
+             ORDER BY "ID"
+             LIMIT :limit
+            """)
+    List<Long> getServiceComponentIds(@Bind long projectId, @Bind int limit);
+
+    /**
+     * Delete services, and all rows depending on them.
+     * <p>
+     * Must be invoked within a transaction.
+     *
+     * @param serviceIds IDs of the services to delete
+     * @return Number of deleted services
+     */
+    default int deleteServiceComponents(final Collection<Long> serviceIds) {
+        deleteServiceComponentVulnerabilities(serviceIds);
+        unlinkChildServiceComponents(serviceIds);
+        return deleteServiceComponentsById(serviceIds);
+    }
+
+    @SqlUpdate("""
+            DELETE
+              FROM "SERVICECOMPONENTS_VULNERABILITIES"
+             WHERE "SERVICECOMPONENT_ID" = ANY(:serviceIds)
+            """)
+    void deleteServiceComponentVulnerabilities(@Bind Collection<Long> serviceIds);
+
+    @SqlUpdate("""
+            UPDATE "SERVICECOMPONENT"
+               SET "PARENT_SERVICECOMPONENT_ID" = NULL
+             WHERE "PARENT_SERVICECOMPONENT_ID" = ANY(:serviceIds)
+               AND NOT ("ID" = ANY(:serviceIds))
+            """)
+    void unlinkChildServiceComponents(@Bind Collection<Long> serviceIds);
+
+    @SqlUpdate("""
+            DELETE
+              FROM "SERVICECOMPONENT"
+             WHERE "ID" = ANY(:serviceIds)
+            """)
+    int deleteServiceComponentsById(@Bind Collection<Long> serviceIds);
+
+    @SqlUpdate("""
+            DELETE
+              FROM "PROJECTMETRICS"
+             WHERE "ID" IN (SELECT "ID"
+                              FROM "PROJECTMETRICS"
+                             WHERE "PROJECT_ID" = :projectId
+                             LIMIT :limit)
+            """)
+    int deleteProjectMetricsBatch(@Bind long projectId, @Bind int limit);
+
+    @SqlUpdate("""
+            DELETE
+              FROM "BOM"
+             WHERE "ID" IN (SELECT "ID"
+                              FROM "BOM"
+                             WHERE "PROJECT_ID" = :projectId
+                             LIMIT :limit)
+            """)
+    int deleteBomsBatch(@Bind long projectId, @Bind int limit);
+
+    @SqlUpdate("""
+            DELETE
+              FROM "VEX"
+             WHERE "ID" IN (SELECT "ID"
+                              FROM "VEX"
+                             WHERE "PROJECT_ID" = :projectId
+                             LIMIT :limit)
+            """)
+    int deleteVexsBatch(@Bind long projectId, @Bind int limit);
+
+    /**
+     * Delete the project itself, along with the remaining rows depending on it.
+     * <p>
+     * Rows that may have been created concurrently while the project was being deleted
+     * in batches, e.g. metrics, are deleted again. Components or services created concurrently
+     * cause the deletion to fail, and the project to be retried once its lease expired.
+     * <p>
+     * Must be invoked within a transaction.
+     *
+     * @param projectId ID of the project to delete
+     * @return {@code true} when the project was deleted, otherwise {@code false}
+     */
+    default boolean deleteProject(final long projectId) {
+        deleteProjectDependencyMetrics(projectId);
+        deleteProjectMetricsBatch(projectId, Integer.MAX_VALUE);
+        deleteBomsBatch(projectId, Integer.MAX_VALUE);
+        deleteVexsBatch(projectId, Integer.MAX_VALUE);
+        deleteProjectMetadata(projectId);
+        deleteProjectProperties(projectId);
+        deleteProjectTags(projectId);
+        deleteProjectAccessTeams(projectId);
+        deleteProjectFromNotificationRules(projectId);
+        deleteProjectFromPolicies(projectId);
+        return deleteProjectById(projectId) > 0;
+    }
+
+    @SqlUpdate("""
+            DELETE
+              FROM "DEPENDENCYMETRICS"
+             WHERE "PROJECT_ID" = :projectId
+            """)
+    void deleteProjectDependencyMetrics(@Bind long projectId);
+
+    @SqlUpdate("""
+            DELETE
+              FROM "PROJECT_METADATA"
+             WHERE "PROJECT_ID" = :projectId
+            """)
+    void deleteProjectMetadata(@Bind long projectId);
+
+    @SqlUpdate("""
+            DELETE
+              FROM "PROJECT_PROPERTY"
+             WHERE "PROJECT_ID" = :projectId
+            """)
+    void deleteProjectProperties(@Bind long projectId);
+
+    @SqlUpdate("""
+            DELETE
+              FROM "PROJECTS_TAGS"
+             WHERE "PROJECT_ID" = :projectId
+            """)
+    void deleteProjectTags(@Bind long projectId);
+
+    @SqlUpdate("""
+            DELETE
+              FROM "PROJECT_ACCESS_TEAMS"
+             WHERE "PROJECT_ID" = :projectId
+            """)
+    void deleteProjectAccessTeams(@Bind long projectId);
+
+    @SqlUpdate("""
+            DELETE
+              FROM "NOTIFICATIONRULE_PROJECTS"
+             WHERE "PROJECT_ID" = :projectId
+            """)
+    void deleteProjectFromNotificationRules(@Bind long projectId);
+
+    @SqlUpdate("""
+            DELETE
+              FROM "POLICY_PROJECTS"
+             WHERE "PROJECT_ID" = :projectId
+            """)
+    void deleteProjectFromPolicies(@Bind long projectId);
+
+    @SqlUpdate("""
+            DELETE
+              FROM "PROJECT"
+             WHERE "ID" = :projectId
+            """)
+    int deleteProjectById(@Bind long projectId);
+
+    record PendingProject(long projectId, UUID projectUuid, String token) {
+    }
+
+}
@@ -0,0 +1,88 @@
+/*
+ * This file is part of Dependency-Track.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.dependencytrack.persistence.jdbi;
+
+import jakarta.annotation.Nullable;
+import org.dependencytrack.model.RepositoryMetaComponent;
+import org.jdbi.v3.sqlobject.config.RegisterConstructorMapper;
+import org.jdbi.v3.sqlobject.customizer.Bind;
+import org.jdbi.v3.sqlobject.statement.SqlQuery;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * @since 5.6.0
+ */
+public interface RepositoryMetaComponentDao {
+
+    /**
+     * Determine which of the given packages have been checked for repository metadata since a given point in time.
+     *
+     * @param packageKeys {@link PackageKey}s of the packages
+     * @param checkedSince The point in time since which packages must have been checked
+     * @return A {@link Set} of the {@link PackageKey}s that have been checked
+     */
+    default Set<PackageKey> getCheckedSince(final Collection<PackageKey> packageKeys, final Instant checkedSince) {
+        if (packageKeys.isEmpty()) {
+            return Set.of();
+        }
+
+        final var repositoryTypes = new ArrayList<String>(packageKeys.size());
+        final var namespaces = new ArrayList<String>(packageKeys.size());
+        final var names = new ArrayList<String>(packageKeys.size());
+        for (final PackageKey packageKey : packageKeys) {
+            repositoryTypes.add(packageKey.repositoryType());
+            namespaces.add(packageKey.namespace());
+            names.add(packageKey.name());
+        }
+
+        return getCheckedSince(repositoryTypes, namespaces, names, checkedSince);
+    }
+
+    @SqlQuery("""
+            SELECT "RMC"."REPOSITORY_TYPE" AS "repositoryType"
+                 , "RMC"."NAMESPACE" AS "namespace"
+                 , "RMC"."NAME" AS "name"
+              FROM UNNEST((:repositoryTypes)::TEXT[], (:namespaces)::TEXT[], (:names)::TEXT[])
+                     AS "PACKAGE"("REPOSITORY_TYPE", "NAMESPACE", "NAME")
+             INNER JOIN "REPOSITORY_META_COMPONENT" AS "RMC"
+                ON "RMC"."REPOSITORY_TYPE" = "PACKAGE"."REPOSITORY_TYPE"
+               AND "RMC"."NAMESPACE" IS NOT DISTINCT FROM "PACKAGE"."NAMESPACE"
+               AND "RMC"."NAME" = "PACKAGE"."NAME"
+             WHERE "RMC"."LAST_CHECK" >= :checkedSince
+            """)
+    @RegisterConstructorMapper(PackageKey.class)
+    Set<PackageKey> getCheckedSince(@Bind List<String> repositoryTypes, @Bind List<String> namespaces,
+                                    @Bind List<String> names, @Bind Instant checkedSince);
+
+    /**
+     * Key of a package as tracked by {@link RepositoryMetaComponent}.
+     *
+     * @param repositoryType Name of the {@link org.dependencytrack.model.RepositoryType}
+     * @param namespace      Namespace of the package
+     * @param name           Name of the package
+     */
+    record PackageKey(String repositoryType, @Nullable String namespace, String name) {
+    }
+
+}
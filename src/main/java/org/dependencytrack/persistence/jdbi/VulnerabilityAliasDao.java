@@ -0,0 +1,132 @@
+/*
+ * This file is part of Dependency-Track.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.dependencytrack.persistence.jdbi;
+
+import org.dependencytrack.model.VulnerabilityAlias;
+import org.jdbi.v3.json.Json;
+import org.jdbi.v3.sqlobject.config.RegisterConstructorMapper;
+import org.jdbi.v3.sqlobject.customizer.Bind;
+import org.jdbi.v3.sqlobject.statement.SqlQuery;
+import org.jdbi.v3.sqlobject.statement.SqlUpdate;
+
+import java.util.List;
+
+/**
+ * Access to alias groups of vulnerabilities.
+ * <p>
+ * All identifiers of a group, i.e. pairs of source and vulnerability ID, are aliases of each other.
+ * A group holds at most one identifier per source. Aliasing is not transitive: an identifier may be
+ * a member of multiple groups, without the members of those groups being aliases of each other.
+ *
+ * @since 5.6.0
+ */
+public interface VulnerabilityAliasDao {
+
+    /**
+     * Lock alias groups for modification until the end of the current transaction.
+     * <p>
+     * Serializes concurrent modifications across all instances, such that no two transactions
+     * add an identifier of the same source to the same group. Readers are not blocked.
+     */
+    @SqlUpdate("""
+            LOCK TABLE "VULNERABILITY_ALIAS_GROUP_MEMBER" IN SHARE ROW EXCLUSIVE MODE
+            """)
+    void lockGroups();
+
+    /**
+     * Fetch all members of all groups that any of the given identifiers is a member of.
+     *
+     * @param sources Sources of the identifiers
+     * @param vulnIds Vulnerability IDs of the identifiers, in the same order as {@code sources}
+     * @return A {@link List} of {@link GroupMember}s, ordered by group ID
+     */
+    @SqlQuery("""
+            SELECT "MEMBER"."GROUP_ID" AS "groupId"
+                 , "MEMBER"."SOURCE" AS "source"
+                 , "MEMBER"."VULN_ID" AS "vulnId"
+              FROM "VULNERABILITY_ALIAS_GROUP_MEMBER" AS "MEMBER"
+             WHERE "MEMBER"."GROUP_ID" IN (
+                     SELECT "SELF"."GROUP_ID"
+                       FROM UNNEST((:sources)::TEXT[], (:vulnIds)::TEXT[]) AS "IDENTIFIER"("SOURCE", "VULN_ID")
+                      INNER JOIN "VULNERABILITY_ALIAS_GROUP_MEMBER" AS "SELF"
+                         ON "SELF"."SOURCE" = "IDENTIFIER"."SOURCE"
+                        AND "SELF"."VULN_ID" = "IDENTIFIER"."VULN_ID")
+             ORDER BY "MEMBER"."GROUP_ID"
+            """)
+    @RegisterConstructorMapper(GroupMember.class)
+    List<GroupMember> getGroupMembers(@Bind List<String> sources, @Bind List<String> vulnIds);
+
+    /**
+     * @param count Number of group IDs to allocate
+     * @return {@code count} new group IDs, in ascending order
+     */
+    @SqlQuery("""
+            SELECT NEXTVAL('"VULNERABILITY_ALIAS_GROUP_ID_SEQ"') AS "GROUP_ID"
+              FROM GENERATE_SERIES(1, :count)
+             ORDER BY "GROUP_ID"
+            """)
+    List<Long> createGroupIds(@Bind int count);
+
+    /**
+     * Add identifiers to groups.
+     * <p>
+     * Identifiers are not added to groups that already hold an identifier of the same source.
+     *
+     * @param groupIds IDs of the groups to add the identifiers to
+     * @param sources  Sources of the identifiers, in the same order as {@code groupIds}
+     * @param vulnIds  Vulnerability IDs of the identifiers, in the same order as {@code groupIds}
+     * @return Number of added identifiers
+     */
+    @SqlUpdate("""
+            INSERT INTO "VULNERABILITY_ALIAS_GROUP_MEMBER" ("GROUP_ID", "SOURCE", "VULN_ID")
+            SELECT *
+              FROM UNNEST((:groupIds)::BIGINT[], (:sources)::TEXT[], (:vulnIds)::TEXT[])
+            ON CONFLICT ("GROUP_ID", "SOURCE") DO NOTHING
+            """)
+    int addGroupMembers(@Bind List<Long> groupIds, @Bind List<String> sources, @Bind List<String> vulnIds);
+
+    /**
+     * Fetch the aliases of the given vulnerabilities.
+     * <p>
+     * Vulnerabilities without any aliases are omitted from the result.
+     *
+     * @param sources Sources of the vulnerabilities
+     * @param vulnIds IDs of the vulnerabilities, in the same order as {@code sources}
+     * @return A {@link List} of {@link VulnerabilityAliasesRow}s
+     */
+    @SqlQuery("""
+            SELECT "ALIASES"."SOURCE" AS "source"
+                 , "ALIASES"."VULN_ID" AS "vulnId"
+                 , "ALIASES"."ALIASES" AS "aliases"
+              FROM (SELECT "VULN"."SOURCE"
+                         , "VULN"."VULN_ID"
+                         , "VULNERABILITY_ALIASES"("VULN"."SOURCE", "VULN"."VULN_ID") AS "ALIASES"
+                      FROM UNNEST((:sources)::TEXT[], (:vulnIds)::TEXT[]) AS "VULN"("SOURCE", "VULN_ID")) AS "ALIASES"
+             WHERE "ALIASES"."ALIASES" IS NOT NULL
+            """)
+    @RegisterConstructorMapper(VulnerabilityAliasesRow.class)
+    List<VulnerabilityAliasesRow> getAliases(@Bind List<String> sources, @Bind List<String> vulnIds);
+
+    record GroupMember(long groupId, String source, String vulnId) {
+    }
+
+    record VulnerabilityAliasesRow(String source, String vulnId, @Json List<VulnerabilityAlias> aliases) {
+    }
+
+}
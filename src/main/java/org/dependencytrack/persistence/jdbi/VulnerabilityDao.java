@@ -0,0 +1,193 @@
+/*
+ * This file is part of Dependency-Track.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.dependencytrack.persistence.jdbi;
+
+import org.dependencytrack.model.Vulnerability;
+import org.dependencytrack.persistence.CollectionIntegerConverter;
+import org.jdbi.v3.sqlobject.customizer.Bind;
+import org.jdbi.v3.sqlobject.customizer.BindBean;
+import org.jdbi.v3.sqlobject.statement.GetGeneratedKeys;
+import org.jdbi.v3.sqlobject.statement.SqlBatch;
+import org.jdbi.v3.sqlobject.statement.SqlQuery;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Set-based synchronization of {@link Vulnerability}s.
+ *
+ * @since 5.6.0
+ */
+public interface VulnerabilityDao {
+
+    /**
+     * Create {@link Vulnerability}s, or update them if a {@link Vulnerability} with the same
+     * ID and source exists already.
+     * <p>
+     * Updates modify the same fields as {@link org.dependencytrack.persistence.QueryManager#updateVulnerability(Vulnerability, boolean)}.
+     * When a {@link Vulnerability} occurs multiple times, the last occurrence wins.
+     *
+     * @param vulns The {@link Vulnerability}s to synchronize, with their UUID assigned
+     * @return IDs of the synchronized {@link Vulnerability}s, in the same order as {@code vulns}
+     */
+    default List<Long> upsert(final List<Vulnerability> vulns) {
+        final var cweConverter = new CollectionIntegerConverter();
+        return upsert(vulns, vulns.stream().map(vuln -> cweConverter.convertToDatastore(vuln.getCwes())).toList());
+    }
+
+    /**
+     * Determine which of the given {@link Vulnerability}s exist already, but with a different
+     * severity or CVSS base score than the one given.
+     * <p>
+     * Metrics are based on these fields, such that changing them makes metrics of affected projects stale.
+     *
+     * @param vulns The {@link Vulnerability}s to check
+     * @return IDs of the existing {@link Vulnerability}s whose severity or CVSS base scores differ
+     */
+    default List<Long> getIdsWithChangedSeverity(final Collection<Vulnerability> vulns) {
+        final var vulnIds = new ArrayList<String>(vulns.size());
+        final var sources = new ArrayList<String>(vulns.size());
+        final var severities = new ArrayList<String>(vulns.size());
+        final var cvssV2Scores = new ArrayList<Double>(vulns.size());
+        final var cvssV3Scores = new ArrayList<Double>(vulns.size());
+        for (final Vulnerability vuln : vulns) {
+            vulnIds.add(vuln.getVulnId());
+            sources.add(vuln.getSource());
+            severities.add(vuln.getSeverity() != null ? vuln.getSeverity().name() : null);
+            cvssV2Scores.add(vuln.getCvssV2BaseScore() != null ? vuln.getCvssV2BaseScore().doubleValue() : null);
+            cvssV3Scores.add(vuln.getCvssV3BaseScore() != null ? vuln.getCvssV3BaseScore().doubleValue() : null);
+        }
+
+        return getIdsWithChangedSeverity(vulnIds, sources, severities, cvssV2Scores, cvssV3Scores);
+    }
+
+    @SqlQuery("""
+            SELECT DISTINCT "V"."ID"
+              FROM UNNEST((:vulnIds)::TEXT[], (:sources)::TEXT[], (:severities)::TEXT[],
+                          (:cvssV2Scores)::NUMERIC[], (:cvssV3Scores)::NUMERIC[])
+                AS "NEW"("VULNID", "SOURCE", "SEVERITY", "CVSSV2BASESCORE", "CVSSV3BASESCORE")
+             INNER JOIN "VULNERABILITY" AS "V"
+                ON "V"."VULNID" = "NEW"."VULNID"
+               AND "V"."SOURCE" = "NEW"."SOURCE"
+             WHERE "V"."SEVERITY" IS DISTINCT FROM "NEW"."SEVERITY"
+                OR "V"."CVSSV2BASESCORE" IS DISTINCT FROM "NEW"."CVSSV2BASESCORE"
+                OR "V"."CVSSV3BASESCORE" IS DISTINCT FROM "NEW"."CVSSV3BASESCORE"
+            """)
+    List<Long> getIdsWithChangedSeverity(@Bind List<String> vulnIds, @Bind List<String> sources,
+                                         @Bind List<String> severities, @Bind List<Double> cvssV2Scores,
+                                         @Bind List<Double> cvssV3Scores);
+
+    @SqlBatch("""
+            INSERT INTO "VULNERABILITY" (
+              "UUID"
+            , "VULNID"
+            , "SOURCE"
+            , "FRIENDLYVULNID"
+            , "CREATED"
+            , "PUBLISHED"
+            , "UPDATED"
+            , "CREDITS"
+            , "VULNERABLEVERSIONS"
+            , "PATCHEDVERSIONS"
+            , "DESCRIPTION"
+            , "DETAIL"
+            , "TITLE"
+            , "SUBTITLE"
+            , "REFERENCES"
+            , "RECOMMENDATION"
+            , "SEVERITY"
+            , "CVSSV2VECTOR"
+            , "CVSSV2BASESCORE"
+            , "CVSSV2IMPACTSCORE"
+            , "CVSSV2EXPLOITSCORE"
+            , "CVSSV3VECTOR"
+            , "CVSSV3BASESCORE"
+            , "CVSSV3IMPACTSCORE"
+            , "CVSSV3EXPLOITSCORE"
+            , "OWASPRRLIKELIHOODSCORE"
+            , "OWASPRRBUSINESSIMPACTSCORE"
+            , "OWASPRRTECHNICALIMPACTSCORE"
+            , "OWASPRRVECTOR"
+            , "CWES"
+            ) VALUES (
+              (:uuid)::TEXT
+            , :vulnId
+            , :source
+            , :friendlyVulnId
+            , :created
+            , :published
+            , :updated
+            , :credits
+            , :vulnerableVersions
+            , :patchedVersions
+            , :description
+            , :detail
+            , :title
+            , :subTitle
+            , :references
+            , :recommendation
+            , :severity
+            , :cvssV2Vector
+            , :cvssV2BaseScore
+            , :cvssV2ImpactSubScore
+            , :cvssV2ExploitabilitySubScore
+            , :cvssV3Vector
+            , :cvssV3BaseScore
+            , :cvssV3ImpactSubScore
+            , :cvssV3ExploitabilitySubScore
+            , :owaspRRLikelihoodScore
+            , :owaspRRBusinessImpactScore
+            , :owaspRRTechnicalImpactScore
+            , :owaspRRVector
+            , :serializedCwes
+            )
+            ON CONFLICT ("VULNID", "SOURCE") DO UPDATE
+            SET "CREATED" = EXCLUDED."CREATED"
+              , "PUBLISHED" = EXCLUDED."PUBLISHED"
+              , "UPDATED" = EXCLUDED."UPDATED"
+              , "CREDITS" = EXCLUDED."CREDITS"
+              , "VULNERABLEVERSIONS" = EXCLUDED."VULNERABLEVERSIONS"
+              , "PATCHEDVERSIONS" = EXCLUDED."PATCHEDVERSIONS"
+              , "DESCRIPTION" = EXCLUDED."DESCRIPTION"
+              , "DETAIL" = EXCLUDED."DETAIL"
+              , "TITLE" = EXCLUDED."TITLE"
+              , "SUBTITLE" = EXCLUDED."SUBTITLE"
+              , "REFERENCES" = EXCLUDED."REFERENCES"
+              , "RECOMMENDATION" = EXCLUDED."RECOMMENDATION"
+              , "SEVERITY" = EXCLUDED."SEVERITY"
+              , "CVSSV2VECTOR" = EXCLUDED."CVSSV2VECTOR"
+              , "CVSSV2BASESCORE" = EXCLUDED."CVSSV2BASESCORE"
+              , "CVSSV2IMPACTSCORE" = EXCLUDED."CVSSV2IMPACTSCORE"
+              , "CVSSV2EXPLOITSCORE" = EXCLUDED."CVSSV2EXPLOITSCORE"
+              , "CVSSV3VECTOR" = EXCLUDED."CVSSV3VECTOR"
+              , "CVSSV3BASESCORE" = EXCLUDED."CVSSV3BASESCORE"
+              , "CVSSV3IMPACTSCORE" = EXCLUDED."CVSSV3IMPACTSCORE"
+              , "CVSSV3EXPLOITSCORE" = EXCLUDED."CVSSV3EXPLOITSCORE"
+              , "OWASPRRLIKELIHOODSCORE" = EXCLUDED."OWASPRRLIKELIHOODSCORE"
+              , "OWASPRRBUSINESSIMPACTSCORE" = EXCLUDED."OWASPRRBUSINESSIMPACTSCORE"
+              , "OWASPRRTECHNICALIMPACTSCORE" = EXCLUDED."OWASPRRTECHNICALIMPACTSCORE"
+              , "OWASPRRVECTOR" = EXCLUDED."OWASPRRVECTOR"
+              , "CWES" = EXCLUDED."CWES"
+            RETURNING "ID"
+            """)
+    @GetGeneratedKeys("ID")
+    List<Long> upsert(@BindBean Iterable<Vulnerability> vulns, @Bind("serializedCwes") Iterable<String> serializedCwes);
+
+}
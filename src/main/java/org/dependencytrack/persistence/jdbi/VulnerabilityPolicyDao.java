@@ -20,6 +20,7 @@ package org.dependencytrack.persistence.jdbi;
 
 import alpine.persistence.PaginatedResult;
 import org.dependencytrack.model.Analysis;
+import org.dependencytrack.persistence.FindingsReadModel;
 import org.dependencytrack.persistence.jdbi.mapping.AnalysisRowMapper;
 import org.dependencytrack.persistence.jdbi.mapping.PaginatedVulnerabilityPolicyRowReducer;
 import org.dependencytrack.policy.vulnerability.VulnerabilityPolicy;
@@ -34,6 +35,7 @@ import org.jdbi.v3.sqlobject.statement.SqlUpdate;
 import org.jdbi.v3.sqlobject.statement.UseRowReducer;
 
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
 
@@ -59,6 +61,27 @@ public interface VulnerabilityPolicyDao extends SqlObject {
             """)
     List<VulnerabilityPolicy> getAllEnabledAndValid();
 
+    /**
+     * Get a token that changes whenever the result of {@link #getAllEnabledAndValid()} may change,
+     * i.e. when policies are created, updated, or deleted, or when the validity period of a policy
+     * begins or ends.
+     *
+     * @return The version token
+     * @since 5.6.0
+     */
+    @SqlQuery("""
+            SELECT
+              COUNT(*)
+                || '|' || COALESCE(MAX(COALESCE("UPDATED", "CREATED"))::TEXT, '')
+                || '|' || COALESCE(LEAST(
+                            MIN("VALID_FROM") FILTER (WHERE "VALID_FROM" > NOW()),
+                            MIN("VALID_UNTIL") FILTER (WHERE "VALID_UNTIL" >= NOW())
+                          )::TEXT, '')
+            FROM
+              "VULNERABILITY_POLICY"
+            """)
+    String getVersion();
+
     @SqlQuery(/* language=InjectedFreeMarker */ """
             <#-- @ftlvariable name="apiFilterParameter" type="String" -->
             <#-- @ftlvariable name="apiOrderByClause" type="String" -->
@@ -183,6 +206,7 @@ public interface VulnerabilityPolicyDao extends SqlObject {
                           AND "NEW"."VULNERABILITY_POLICY_ID" = (SELECT "ID" FROM "CTE_VULN_POLICY")
                         RETURNING
                           "OLD"."ID",
+                          "OLD"."COMPONENT_ID",
                           "OLD"."STATE",
                           "OLD"."JUSTIFICATION",
                           "OLD"."RESPONSE",
@@ -205,6 +229,8 @@ public interface VulnerabilityPolicyDao extends SqlObject {
     /**
      * Un-assign a given {@link VulnerabilityPolicy} from any associated {@link Analysis}
      * records, reset the analyses' states, and populate the audit trail accordingly.
+     * <p>
+     * The findings read model of affected components is refreshed in the same transaction.
      *
      * @param name Name of the {@link VulnerabilityPolicy} to un-assign
      */
@@ -214,7 +240,9 @@ public interface VulnerabilityPolicyDao extends SqlObject {
 
         final var analysisIds = new ArrayList<Long>();
         final var comments = new ArrayList<String>();
+        final var componentIds = new HashSet<Long>();
         for (final Analysis analysis : unassignedAnalyses) {
+            componentIds.add(analysis.getComponent().getId());
             analysisIds.add(analysis.getId());
             comments.add("Policy removed");
 
@@ -272,6 +300,8 @@ public interface VulnerabilityPolicyDao extends SqlObject {
         final var commenter = "[Policy{Name=%s}]".formatted(name);
         final var analysisDao = getHandle().attach(AnalysisDao.class);
         analysisDao.createComments(analysisIds, commenter, comments);
+
+        FindingsReadModel.refreshComponents(getHandle(), componentIds);
     }
 
 }
@@ -0,0 +1,313 @@
+/*
+ * This file is part of Dependency-Track.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.dependencytrack.persistence.jdbi;
+
+import org.dependencytrack.model.VulnerableSoftware;
+import org.jdbi.v3.sqlobject.config.RegisterConstructorMapper;
+import org.jdbi.v3.sqlobject.customizer.Bind;
+import org.jdbi.v3.sqlobject.customizer.BindBean;
+import org.jdbi.v3.sqlobject.statement.GetGeneratedKeys;
+import org.jdbi.v3.sqlobject.statement.SqlBatch;
+import org.jdbi.v3.sqlobject.statement.SqlQuery;
+import org.jdbi.v3.sqlobject.statement.SqlUpdate;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Set-based synchronization of {@link VulnerableSoftware}s, and their attribution to vulnerabilities.
+ *
+ * @since 5.6.0
+ */
+public interface VulnerableSoftwareDao {
+
+    /**
+     * Lock {@link VulnerableSoftware}s for creation until the end of the current transaction.
+     * <p>
+     * Serializes concurrent creations across all instances, such that the same {@link VulnerableSoftware}
+     * is not created more than once. Readers are not blocked.
+     */
+    @SqlUpdate("""
+            LOCK TABLE "VULNERABLESOFTWARE" IN SHARE ROW EXCLUSIVE MODE
+            """)
+    void lock();
+
+    /**
+     * Fetch the IDs of existing {@link VulnerableSoftware}s.
+     * <p>
+     * {@link VulnerableSoftware}s with a CPE are matched by their CPE, those without a CPE by the
+     * type, namespace, and name of their PURL. Both must additionally match in their version and version range.
+     * If multiple {@link VulnerableSoftware}s match, the oldest one is returned.
+     *
+     * @param vsList The {@link VulnerableSoftware}s to look up
+     * @return A {@link List} of {@link VulnerableSoftwareId}s, for those {@link VulnerableSoftware}s that exist
+     */
+    default List<VulnerableSoftwareId> getIds(final List<VulnerableSoftware> vsList) {
+        return getIds(
+                vsList.stream().map(VulnerableSoftware::getCpe23).toList(),
+                vsList.stream().map(VulnerableSoftware::getPurlType).toList(),
+                vsList.stream().map(VulnerableSoftware::getPurlNamespace).toList(),
+                vsList.stream().map(VulnerableSoftware::getPurlName).toList(),
+                vsList.stream().map(VulnerableSoftware::getVersion).toList(),
+                vsList.stream().map(VulnerableSoftware::getVersionEndExcluding).toList(),
+                vsList.stream().map(VulnerableSoftware::getVersionEndIncluding).toList(),
+                vsList.stream().map(VulnerableSoftware::getVersionStartExcluding).toList(),
+                vsList.stream().map(VulnerableSoftware::getVersionStartIncluding).toList());
+    }
+
+    @SqlQuery("""
+            WITH "CTE_KEY" AS (
+              SELECT *
+                FROM UNNEST(
+                       (:cpe23s)::TEXT[]
+                     , (:purlTypes)::TEXT[]
+                     , (:purlNamespaces)::TEXT[]
+                     , (:purlNames)::TEXT[]
+                     , (:versions)::TEXT[]
+                     , (:versionEndExcludings)::TEXT[]
+                     , (:versionEndIncludings)::TEXT[]
+                     , (:versionStartExcludings)::TEXT[]
+                     , (:versionStartIncludings)::TEXT[]
+                     ) WITH ORDINALITY AS "KEY"(
+                       "CPE23"
+                     , "PURL_TYPE"
+                     , "PURL_NAMESPACE"
+                     , "PURL_NAME"
+                     , "VERSION"
+                     , "VERSIONENDEXCLUDING"
+                     , "VERSIONENDINCLUDING"
+                     , "VERSIONSTARTEXCLUDING"
+                     , "VERSIONSTARTINCLUDING"
+                     , "ORDINAL"
+                     )
+            )
+            SELECT CAST("KEY"."ORDINAL" - 1 AS INT) AS "index"
+                 , MIN("VS"."ID") AS "id"
+              FROM "CTE_KEY" AS "KEY"
+             INNER JOIN "VULNERABLESOFTWARE" AS "VS"
+                ON "VS"."CPE23" = "KEY"."CPE23"
+               AND "VS"."VERSION" IS NOT DISTINCT FROM "KEY"."VERSION"
+               AND "VS"."VERSIONENDEXCLUDING" IS NOT DISTINCT FROM "KEY"."VERSIONENDEXCLUDING"
+               AND "VS"."VERSIONENDINCLUDING" IS NOT DISTINCT FROM "KEY"."VERSIONENDINCLUDING"
+               AND "VS"."VERSIONSTARTEXCLUDING" IS NOT DISTINCT FROM "KEY"."VERSIONSTARTEXCLUDING"
+               AND "VS"."VERSIONSTARTINCLUDING" IS NOT DISTINCT FROM "KEY"."VERSIONSTARTINCLUDING"
+             GROUP BY "KEY"."ORDINAL"
+             UNION ALL
+            SELECT CAST("KEY"."ORDINAL" - 1 AS INT) AS "index"
+                 , MIN("VS"."ID") AS "id"
+              FROM "CTE_KEY" AS "KEY"
+             INNER JOIN "VULNERABLESOFTWARE" AS "VS"
+                ON "VS"."PURL_TYPE" = "KEY"."PURL_TYPE"
+               AND "VS"."PURL_NAMESPACE" IS NOT DISTINCT FROM "KEY"."PURL_NAMESPACE"
+               AND "VS"."PURL_NAME" = "KEY"."PURL_NAME"
+               AND "VS"."VERSION" IS NOT DISTINCT FROM "KEY"."VERSION"
+               AND "VS"."VERSIONENDEXCLUDING" IS NOT DISTINCT FROM "KEY"."VERSIONENDEXCLUDING"
+               AND "VS"."VERSIONENDINCLUDING" IS NOT DISTINCT FROM "KEY"."VERSIONENDINCLUDING"
+               AND "VS"."VERSIONSTARTEXCLUDING" IS NOT DISTINCT FROM "KEY"."VERSIONSTARTEXCLUDING"
+               AND "VS"."VERSIONSTARTINCLUDING" IS NOT DISTINCT FROM "KEY"."VERSIONSTARTINCLUDING"
+             WHERE "KEY"."CPE23" IS NULL
+             GROUP BY "KEY"."ORDINAL"
+            """)
+    @RegisterConstructorMapper(VulnerableSoftwareId.class)
+    List<VulnerableSoftwareId> getIds(
+            @Bind List<String> cpe23s,
+            @Bind List<String> purlTypes,
+            @Bind List<String> purlNamespaces,
+            @Bind List<String> purlNames,
+            @Bind List<String> versions,
+            @Bind List<String> versionEndExcludings,
+            @Bind List<String> versionEndIncludings,
+            @Bind List<String> versionStartExcludings,
+            @Bind List<String> versionStartIncludings);
+
+    /**
+     * Create {@link VulnerableSoftware}s.
+     *
+     * @param vsList The {@link VulnerableSoftware}s to create
+     * @return IDs of the created {@link VulnerableSoftware}s, in the same order as {@code vsList}
+     */
+    @SqlBatch("""
+            INSERT INTO "VULNERABLESOFTWARE" (
+              "UUID"
+            , "CPE22"
+            , "CPE23"
+            , "PART"
+            , "VENDOR"
+            , "PRODUCT"
+            , "VERSION"
+            , "UPDATE"
+            , "EDITION"
+            , "LANGUAGE"
+            , "SWEDITION"
+            , "TARGETSW"
+            , "TARGETHW"
+            , "OTHER"
+            , "PURL"
+            , "PURL_TYPE"
+            , "PURL_NAMESPACE"
+            , "PURL_NAME"
+            , "PURL_VERSION"
+            , "PURL_QUALIFIERS"
+            , "PURL_SUBPATH"
+            , "VERSIONENDEXCLUDING"
+            , "VERSIONENDINCLUDING"
+            , "VERSIONSTARTEXCLUDING"
+            , "VERSIONSTARTINCLUDING"
+            , "VULNERABLE"
+            ) VALUES (
+              (:uuid)::TEXT
+            , :cpe22
+            , :cpe23
+            , :part
+            , :vendor
+            , :product
+            , :version
+            , :update
+            , :edition
+            , :language
+            , :swEdition
+            , :targetSw
+            , :targetHw
+            , :other
+            , :purl
+            , :purlType
+            , :purlNamespace
+            , :purlName
+            , :purlVersion
+            , :purlQualifiers
+            , :purlSubpath
+            , :versionEndExcluding
+            , :versionEndIncluding
+            , :versionStartExcluding
+            , :versionStartIncluding
+            , :vulnerable
+            )
+            RETURNING "ID"
+            """)
+    @GetGeneratedKeys("ID")
+    List<Long> create(@BindBean Iterable<VulnerableSoftware> vsList);
+
+    /**
+     * Attribute {@link VulnerableSoftware}s to vulnerabilities, as reported by a given source.
+     * <p>
+     * Attributions that exist already have their {@code LAST_SEEN} timestamp updated.
+     *
+     * @param vulnIds IDs of the vulnerabilities
+     * @param vsIds   IDs of the {@link VulnerableSoftware}s, in the same order as {@code vulnIds}
+     * @param sources Sources of the attributions, in the same order as {@code vulnIds}
+     * @param uuids   UUIDs to assign to new attributions, in the same order as {@code vulnIds}
+     * @return Number of created attributions
+     */
+    @SqlUpdate("""
+            WITH "CTE_REPORTED" AS (
+              SELECT *
+                FROM UNNEST((:vulnIds)::BIGINT[], (:vsIds)::BIGINT[], (:sources)::TEXT[], (:uuids)::TEXT[])
+                  AS "REPORTED"("VULNERABILITY", "VULNERABLE_SOFTWARE", "SOURCE", "UUID")
+            ),
+            "CTE_UPDATED" AS (
+              UPDATE "AFFECTEDVERSIONATTRIBUTION" AS "AVA"
+                 SET "LAST_SEEN" = NOW()
+                FROM "CTE_REPORTED" AS "REPORTED"
+               WHERE "AVA"."VULNERABILITY" = "REPORTED"."VULNERABILITY"
+                 AND "AVA"."VULNERABLE_SOFTWARE" = "REPORTED"."VULNERABLE_SOFTWARE"
+                 AND "AVA"."SOURCE" = "REPORTED"."SOURCE"
+              RETURNING "AVA"."VULNERABILITY", "AVA"."VULNERABLE_SOFTWARE", "AVA"."SOURCE"
+            )
+            INSERT INTO "AFFECTEDVERSIONATTRIBUTION" ("FIRST_SEEN", "LAST_SEEN", "SOURCE", "UUID", "VULNERABILITY", "VULNERABLE_SOFTWARE")
+            SELECT NOW(), NOW(), "REPORTED"."SOURCE", "REPORTED"."UUID", "REPORTED"."VULNERABILITY", "REPORTED"."VULNERABLE_SOFTWARE"
+              FROM "CTE_REPORTED" AS "REPORTED"
+             WHERE NOT EXISTS (
+                     SELECT 1
+                       FROM "CTE_UPDATED" AS "UPDATED"
+                      WHERE "UPDATED"."VULNERABILITY" = "REPORTED"."VULNERABILITY"
+                        AND "UPDATED"."VULNERABLE_SOFTWARE" = "REPORTED"."VULNERABLE_SOFTWARE"
+                        AND "UPDATED"."SOURCE" = "REPORTED"."SOURCE")
+            """)
+    int attribute(@Bind List<Long> vulnIds, @Bind List<Long> vsIds, @Bind List<String> sources, @Bind List<String> uuids);
+
+    /**
+     * Delete attributions of a given source, for {@link VulnerableSoftware}s the source no longer reports.
+     *
+     * @param vulnIds         IDs of the vulnerabilities to delete attributions for
+     * @param sources         Sources to delete attributions for, in the same order as {@code vulnIds}
+     * @param reportedVulnIds IDs of the vulnerabilities of currently reported attributions
+     * @param reportedVsIds   IDs of the {@link VulnerableSoftware}s of currently reported attributions,
+     *                        in the same order as {@code reportedVulnIds}
+     * @param reportedSources Sources of currently reported attributions, in the same order as {@code reportedVulnIds}
+     * @return Number of deleted attributions
+     */
+    @SqlUpdate("""
+            DELETE
+              FROM "AFFECTEDVERSIONATTRIBUTION" AS "AVA"
+             USING UNNEST((:vulnIds)::BIGINT[], (:sources)::TEXT[]) AS "SYNCED"("VULNERABILITY", "SOURCE")
+             WHERE "AVA"."VULNERABILITY" = "SYNCED"."VULNERABILITY"
+               AND "AVA"."SOURCE" = "SYNCED"."SOURCE"
+               AND NOT EXISTS (
+                     SELECT 1
+                       FROM UNNEST((:reportedVulnIds)::BIGINT[], (:reportedVsIds)::BIGINT[], (:reportedSources)::TEXT[])
+                         AS "REPORTED"("VULNERABILITY", "VULNERABLE_SOFTWARE", "SOURCE")
+                      WHERE "REPORTED"."VULNERABILITY" = "AVA"."VULNERABILITY"
+                        AND "REPORTED"."VULNERABLE_SOFTWARE" = "AVA"."VULNERABLE_SOFTWARE"
+                        AND "REPORTED"."SOURCE" = "AVA"."SOURCE")
+            """)
+    int deleteStaleAttributions(@Bind List<Long> vulnIds, @Bind List<String> sources,
+                                @Bind List<Long> reportedVulnIds, @Bind List<Long> reportedVsIds,
+                                @Bind List<String> reportedSources);
+
+    /**
+     * Unlink {@link VulnerableSoftware}s from vulnerabilities, if they are no longer attributed by any source.
+     *
+     * @param vulnIds IDs of the vulnerabilities to unlink {@link VulnerableSoftware}s from
+     * @return Number of unlinked {@link VulnerableSoftware}s
+     */
+    @SqlUpdate("""
+            DELETE
+              FROM "VULNERABLESOFTWARE_VULNERABILITIES" AS "VSV"
+             WHERE "VSV"."VULNERABILITY_ID" = ANY((:vulnIds)::BIGINT[])
+               AND NOT EXISTS (
+                     SELECT 1
+                       FROM "AFFECTEDVERSIONATTRIBUTION" AS "AVA"
+                      WHERE "AVA"."VULNERABILITY" = "VSV"."VULNERABILITY_ID"
+                        AND "AVA"."VULNERABLE_SOFTWARE" = "VSV"."VULNERABLESOFTWARE_ID")
+            """)
+    int unlinkUnattributed(@Bind Collection<Long> vulnIds);
+
+    /**
+     * Link {@link VulnerableSoftware}s to vulnerabilities, unless they are linked already.
+     *
+     * @param vulnIds IDs of the vulnerabilities
+     * @param vsIds   IDs of the {@link VulnerableSoftware}s, in the same order as {@code vulnIds}
+     * @return Number of created links
+     */
+    @SqlUpdate("""
+            INSERT INTO "VULNERABLESOFTWARE_VULNERABILITIES" ("VULNERABILITY_ID", "VULNERABLESOFTWARE_ID")
+            SELECT DISTINCT "REPORTED"."VULNERABILITY_ID", "REPORTED"."VULNERABLESOFTWARE_ID"
+              FROM UNNEST((:vulnIds)::BIGINT[], (:vsIds)::BIGINT[]) AS "REPORTED"("VULNERABILITY_ID", "VULNERABLESOFTWARE_ID")
+             WHERE NOT EXISTS (
+                     SELECT 1
+                       FROM "VULNERABLESOFTWARE_VULNERABILITIES" AS "VSV"
+                      WHERE "VSV"."VULNERABILITY_ID" = "REPORTED"."VULNERABILITY_ID"
+                        AND "VSV"."VULNERABLESOFTWARE_ID" = "REPORTED"."VULNERABLESOFTWARE_ID")
+            """)
+    int link(@Bind List<Long> vulnIds, @Bind List<Long> vsIds);
+
+    record VulnerableSoftwareId(int index, long id) {
+    }
+
+}
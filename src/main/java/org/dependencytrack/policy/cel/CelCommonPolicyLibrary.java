@@ -397,7 +397,10 @@ public class CelCommonPolicyLibrary implements Library {
             return false;
         }
 
-        // TODO: Result can / should likely be cached based on filter and params.
+        final CelPolicyDependencyGraph dependencyGraph = CelPolicyDependencyGraph.current();
+        if (dependencyGraph != null && dependencyGraph.projectUuid().equals(project.getUuid())) {
+            return dependencyGraph.hasMatch(component, compositeNodeFilter::loadMatchingComponentIds);
+        }
 
         try (final Handle jdbiHandle = openJdbiHandle()) {
             if (!compositeNodeFilter.hasInMemoryFilters()) {
@@ -468,7 +471,11 @@ public class CelCommonPolicyLibrary implements Library {
             return false;
         }
 
-        // TODO: Result can / should likely be cached based on filter and params.
+        final CelPolicyDependencyGraph dependencyGraph = CelPolicyDependencyGraph.current();
+        if (dependencyGraph != null && dependencyGraph.contains(leafComponent.getUuid())) {
+            return dependencyGraph.isDependencyOf(leafComponent.getUuid(), rootComponent,
+                    compositeNodeFilter::loadMatchingComponentIds);
+        }
 
         try (final Handle jdbiHandle = openJdbiHandle()) {
             if (!compositeNodeFilter.hasInMemoryFilters()) {
@@ -643,7 +650,11 @@ public class CelCommonPolicyLibrary implements Library {
             return false;
         }
 
-        // TODO: Result can / should likely be cached based on filter and params.
+        final CelPolicyDependencyGraph dependencyGraph = CelPolicyDependencyGraph.current();
+        if (dependencyGraph != null && dependencyGraph.contains(leafComponent.getUuid())) {
+            return dependencyGraph.isExclusiveDependencyOf(leafComponent.getUuid(), rootComponent,
+                    compositeNodeFilter::loadMatchingComponentIds);
+        }
 
         try (final Handle jdbiHandle = openJdbiHandle()) {
             // If the component is a direct dependency of the project,
@@ -918,6 +929,30 @@ public class CelCommonPolicyLibrary implements Library {
             return inMemoryFilters.stream().reduce(Predicate::and).orElse(node -> true);
         }
 
+        private List<Long> loadMatchingComponentIds(final long projectId) {
+            try (final Handle jdbiHandle = openJdbiHandle()) {
+                final Query query = jdbiHandle.createQuery("""
+                        SELECT
+                          "ID"<#list selectColumnNames as columnName>, ${columnName}</#list>
+                        FROM
+                          "COMPONENT"
+                        WHERE
+                          "PROJECT_ID" = :projectId
+                          AND ${filters}
+                        """);
+                return query
+                        .define("filters", sqlFiltersConjunctive())
+                        .define("selectColumnNames", sqlSelectColumns)
+                        .bind("projectId", projectId)
+                        .bindMap(sqlFilterParams)
+                        .map(ConstructorMapper.of(DependencyNode.class))
+                        .stream()
+                        .filter(inMemoryFiltersConjunctive())
+                        .map(DependencyNode::id)
+                        .toList();
+            }
+        }
+
     }
 
     /**
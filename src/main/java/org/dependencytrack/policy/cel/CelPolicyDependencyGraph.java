@@ -0,0 +1,411 @@
+/*
+ * This file is part of Dependency-Track.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.dependencytrack.policy.cel;
+
+import alpine.common.logging.Logger;
+import org.dependencytrack.persistence.jdbi.DependencyGraphDao;
+import org.dependencytrack.persistence.jdbi.DependencyGraphDao.DependencyGraphEdge;
+import org.dependencytrack.proto.policy.v1.Component;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongFunction;
+
+import static org.dependencytrack.persistence.jdbi.JdbiFactory.withJdbiHandle;
+
+/**
+ * An in-memory representation of the dependency graph of a single project.
+ * <p>
+ * The graph is used to answer the {@code depends_on}, {@code is_dependency_of}, and
+ * {@code is_exclusive_dependency_of} CEL functions for all components of a project,
+ * without issuing recursive SQL queries for every component and condition.
+ * <p>
+ * Components are addressed by their position in the graph, and edges are stored as
+ * adjacency lists of primitive {@code int}s. The graph is loaded lazily, on first use,
+ * so that evaluations not using any of the functions above don't pay for it.
+ * Components matching a given filter, and reachability information derived from them,
+ * are cached for the lifetime of the graph, and thus shared across all conditions and
+ * components using the same filter.
+ *
+ * @since 5.6.0
+ */
+final class CelPolicyDependencyGraph {
+
+    /**
+     * A scope during which a {@link CelPolicyDependencyGraph} is visible
+     * via {@link #current()} on the current thread.
+     */
+    interface Scope extends AutoCloseable {
+
+        @Override
+        void close();
+
+    }
+
+    private static final Logger LOGGER = Logger.getLogger(CelPolicyDependencyGraph.class);
+    private static final ThreadLocal<CelPolicyDependencyGraph> CURRENT = new ThreadLocal<>();
+    private static final int[] NO_EDGES = new int[0];
+
+    private final long projectId;
+    private final String projectUuid;
+    private final Map<Component, BitSet> matchesByFilter = new ConcurrentHashMap<>();
+    private final Map<Component, BitSet> dependentsByFilter = new ConcurrentHashMap<>();
+    private final Map<Component, Map<Integer, Boolean>> escapableByFilter = new ConcurrentHashMap<>();
+    private volatile boolean loaded;
+    private Map<String, Integer> nodeByUuid;
+    private Map<Long, Integer> nodeById;
+    private int[][] parents;
+    private int[][] children;
+    private BitSet directDependenciesOfProject;
+    private boolean acyclic;
+
+    CelPolicyDependencyGraph(final long projectId, final String projectUuid) {
+        this.projectId = projectId;
+        this.projectUuid = projectUuid;
+    }
+
+    /**
+     * @return The {@link CelPolicyDependencyGraph} bound to the current thread, or {@code null} if none is bound
+     */
+    static CelPolicyDependencyGraph current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Bind this graph to the current thread, until the returned {@link Scope} is closed.
+     *
+     * @return The {@link Scope} of the binding
+     */
+    Scope bind() {
+        final CelPolicyDependencyGraph previous = CURRENT.get();
+        CURRENT.set(this);
+        return () -> {
+            if (previous != null) {
+                CURRENT.set(previous);
+            } else {
+                CURRENT.remove();
+            }
+        };
+    }
+
+    String projectUuid() {
+        return projectUuid;
+    }
+
+    boolean contains(final String componentUuid) {
+        ensureLoaded();
+        return nodeByUuid.containsKey(componentUuid);
+    }
+
+    /**
+     * @param filter           The {@link Component} describing the filter criteria
+     * @param matchingIdLoader Function to load the IDs of all components of a project that match {@code filter}
+     * @return {@code true} when at least one component of the project matches {@code filter}
+     */
+    boolean hasMatch(final Component filter, final LongFunction<Collection<Long>> matchingIdLoader) {
+        return !getMatches(filter, matchingIdLoader).isEmpty();
+    }
+
+    /**
+     * @param componentUuid    UUID of the component to check
+     * @param filter           The {@link Component} describing the filter criteria
+     * @param matchingIdLoader Function to load the IDs of all components of a project that match {@code filter}
+     * @return {@code true} when the component is a direct or transitive dependency of any component matching {@code filter}
+     */
+    boolean isDependencyOf(final String componentUuid, final Component filter, final LongFunction<Collection<Long>> matchingIdLoader) {
+        ensureLoaded();
+        final Integer node = nodeByUuid.get(componentUuid);
+        if (node == null) {
+            return false;
+        }
+
+        final BitSet dependents = dependentsByFilter.computeIfAbsent(filter,
+                ignored -> collectDependents(getMatches(filter, matchingIdLoader)));
+        return dependents.get(node);
+    }
+
+    /**
+     * @param componentUuid    UUID of the component to check
+     * @param filter           The {@link Component} describing the filter criteria
+     * @param matchingIdLoader Function to load the IDs of all components of a project that match {@code filter}
+     * @return {@code true} when every path from the component to the root of the graph
+     * goes through at least one component matching {@code filter}
+     */
+    boolean isExclusiveDependencyOf(final String componentUuid, final Component filter, final LongFunction<Collection<Long>> matchingIdLoader) {
+        ensureLoaded();
+        final Integer node = nodeByUuid.get(componentUuid);
+        if (node == null) {
+            return false;
+        }
+
+        // If the component is a direct dependency of the project,
+        // it can no longer be a dependency exclusively introduced
+        // through another component.
+        if (directDependenciesOfProject.get(node) || parents[node].length == 0) {
+            return false;
+        }
+
+        final BitSet matches = getMatches(filter, matchingIdLoader);
+        if (matches.isEmpty()) {
+            return false;
+        }
+
+        // Whether a node can "escape" to the root of the graph without passing a match only
+        // depends on the node itself if the graph has no cycles. Otherwise, it depends on the
+        // path taken to reach it, and results can't be re-used across paths.
+        final Map<Integer, Boolean> escapable = acyclic
+                ? escapableByFilter.computeIfAbsent(filter, ignored -> new ConcurrentHashMap<>())
+                : null;
+        final var path = new BitSet(parents.length);
+        for (final int parent : parents[node]) {
+            if (!matches.get(parent) && canEscape(parent, matches, path, escapable)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private BitSet getMatches(final Component filter, final LongFunction<Collection<Long>> matchingIdLoader) {
+        ensureLoaded();
+        return matchesByFilter.computeIfAbsent(filter, ignored -> {
+            final var matches = new BitSet(parents.length);
+            for (final Long componentId : matchingIdLoader.apply(projectId)) {
+                final Integer node = nodeById.get(componentId);
+                if (node != null) {
+                    matches.set(node);
+                }
+            }
+
+            return matches;
+        });
+    }
+
+    /**
+     * Collect all nodes that are reachable from any of the given nodes via at least one edge.
+     */
+    private BitSet collectDependents(final BitSet nodes) {
+        final var dependents = new BitSet(children.length);
+        final var queue = new ArrayDeque<Integer>();
+        nodes.stream().forEach(queue::add);
+
+        while (!queue.isEmpty()) {
+            for (final int child : children[queue.poll()]) {
+                if (!dependents.get(child)) {
+                    dependents.set(child);
+                    queue.add(child);
+                }
+            }
+        }
+
+        return dependents;
+    }
+
+    /**
+     * Determine whether there is a path from {@code node} to the root of the graph that does not
+     * contain any of the given {@code matches}. Mirrors the semantics of the previously used recursive
+     * SQL query, where a path ends when all parents of its last node are either absent, or already
+     * part of the path.
+     * <p>
+     * The graph is traversed depth-first using an explicit stack, such that long dependency
+     * chains can not exhaust the call stack.
+     */
+    private boolean canEscape(final int node, final BitSet matches, final BitSet path, final Map<Integer, Boolean> escapable) {
+        final Boolean cached = escapable != null ? escapable.get(node) : null;
+        if (cached != null) {
+            return cached;
+        }
+
+        final var stack = new ArrayDeque<EscapeFrame>();
+        stack.push(new EscapeFrame(node));
+        path.set(node);
+
+        while (true) {
+            final EscapeFrame frame = stack.peek();
+
+            EscapeFrame next = null;
+            while (next == null && !frame.escapes && frame.nextParentIndex < parents[frame.node].length) {
+                final int parent = parents[frame.node][frame.nextParentIndex++];
+                if (path.get(parent)) {
+                    continue;
+                }
+
+                frame.hasUnvisitedParent = true;
+                if (matches.get(parent)) {
+                    continue;
+                }
+
+                final Boolean cachedParent = escapable != null ? escapable.get(parent) : null;
+                if (cachedParent != null) {
+                    frame.escapes = cachedParent;
+                } else {
+                    next = new EscapeFrame(parent);
+                }
+            }
+
+            if (next != null) {
+                path.set(next.node);
+                stack.push(next);
+                continue;
+            }
+
+            // All parents of the node have been visited, or one of them escapes.
+            path.clear(frame.node);
+            final boolean escapes = frame.escapes || !frame.hasUnvisitedParent;
+            if (escapable != null) {
+                escapable.put(frame.node, escapes);
+            }
+
+            stack.pop();
+            if (stack.isEmpty()) {
+                return escapes;
+            }
+
+            stack.peek().escapes = escapes;
+        }
+    }
+
+    private void ensureLoaded() {
+        if (loaded) {
+            return;
+        }
+
+        synchronized (this) {
+            if (!loaded) {
+                load();
+                loaded = true;
+            }
+        }
+    }
+
+    private void load() {
+        final long startTimeNs = System.nanoTime();
+
+        final List<Node> nodes = withJdbiHandle(handle -> handle.createQuery("""
+                        SELECT "ID", "UUID"
+                          FROM "COMPONENT"
+                         WHERE "PROJECT_ID" = :projectId
+                        """)
+                .bind("projectId", projectId)
+                .map((rs, ctx) -> new Node(rs.getLong("ID"), rs.getString("UUID")))
+                .list());
+        final List<DependencyGraphEdge> edges = withJdbiHandle(handle ->
+                handle.attach(DependencyGraphDao.class).getEdges(projectId));
+
+        nodeByUuid = new HashMap<>(nodes.size());
+        nodeById = new HashMap<>(nodes.size());
+        for (int i = 0; i < nodes.size(); i++) {
+            nodeByUuid.put(nodes.get(i).uuid(), i);
+            nodeById.put(nodes.get(i).id(), i);
+        }
+
+        final var parentLists = new ArrayList<List<Integer>>(nodes.size());
+        final var childLists = new ArrayList<List<Integer>>(nodes.size());
+        for (int i = 0; i < nodes.size(); i++) {
+            parentLists.add(new ArrayList<>());
+            childLists.add(new ArrayList<>());
+        }
+        directDependenciesOfProject = new BitSet(nodes.size());
+        final var seenEdges = new HashSet<Long>(edges.size());
+        for (final DependencyGraphEdge edge : edges) {
+            final Integer child = nodeById.get(edge.childComponentId());
+            if (child == null) {
+                continue;
+            }
+
+            if (edge.parentComponentId() == null) {
+                directDependenciesOfProject.set(child);
+                continue;
+            }
+
+            final Integer parent = nodeById.get(edge.parentComponentId());
+            if (parent != null && seenEdges.add(((long) parent << 32) | child)) {
+                childLists.get(parent).add(child);
+                parentLists.get(child).add(parent);
+            }
+        }
+
+        parents = toAdjacencyArray(parentLists);
+        children = toAdjacencyArray(childLists);
+        acyclic = isAcyclic();
+
+        LOGGER.debug("Loaded dependency graph with %d components and %d edges in %dms"
+                .formatted(nodes.size(), seenEdges.size(), (System.nanoTime() - startTimeNs) / 1_000_000));
+    }
+
+    /**
+     * Check whether the graph contains cycles, using Kahn's algorithm.
+     */
+    private boolean isAcyclic() {
+        final var remainingParents = new int[parents.length];
+        final var queue = new ArrayDeque<Integer>();
+        for (int i = 0; i < parents.length; i++) {
+            remainingParents[i] = parents[i].length;
+            if (remainingParents[i] == 0) {
+                queue.add(i);
+            }
+        }
+
+        int visited = 0;
+        while (!queue.isEmpty()) {
+            visited++;
+            for (final int child : children[queue.poll()]) {
+                if (--remainingParents[child] == 0) {
+                    queue.add(child);
+                }
+            }
+        }
+
+        return visited == parents.length;
+    }
+
+    private static int[][] toAdjacencyArray(final List<List<Integer>> lists) {
+        final var array = new int[lists.size()][];
+        for (int i = 0; i < lists.size(); i++) {
+            final List<Integer> list = lists.get(i);
+            array[i] = list.isEmpty() ? NO_EDGES : list.stream().mapToInt(Integer::intValue).toArray();
+        }
+
+        return array;
+    }
+
+    private record Node(long id, String uuid) {
+    }
+
+    private static final class EscapeFrame {
+
+        private final int node;
+        private int nextParentIndex;
+        private boolean hasUnvisitedParent;
+        private boolean escapes;
+
+        private EscapeFrame(final int node) {
+            this.node = node;
+        }
+
+    }
+
+}
@@ -18,6 +18,7 @@
  */
 package org.dependencytrack.policy.cel;
 
+import alpine.Config;
 import alpine.common.logging.Logger;
 import com.fasterxml.jackson.core.JacksonException;
 import com.fasterxml.jackson.core.type.TypeReference;
@@ -32,6 +33,8 @@ import org.apache.commons.collections4.multimap.ArrayListValuedHashMap;
 import org.apache.commons.collections4.multimap.HashSetValuedHashMap;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.tuple.Pair;
+import org.dependencytrack.common.ConfigKey;
+import org.dependencytrack.metrics.Metrics;
 import org.dependencytrack.model.Policy;
 import org.dependencytrack.model.PolicyCondition;
 import org.dependencytrack.model.PolicyCondition.Subject;
@@ -79,6 +82,11 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -123,13 +131,19 @@ public class CelPolicyEngine {
     }
 
     private final CelPolicyScriptHost scriptHost;
+    private final int parallelism;
 
     public CelPolicyEngine() {
         this(CelPolicyScriptHost.getInstance(CelPolicyType.COMPONENT));
     }
 
     CelPolicyEngine(final CelPolicyScriptHost scriptHost) {
+        this(scriptHost, Config.getInstance().getPropertyAsInt(ConfigKey.POLICY_EVALUATION_PARALLELISM));
+    }
+
+    CelPolicyEngine(final CelPolicyScriptHost scriptHost, final int parallelism) {
         this.scriptHost = scriptHost;
+        this.parallelism = Math.max(1, parallelism);
     }
 
     /**
@@ -158,6 +172,7 @@ public class CelPolicyEngine {
             if (conditionScriptPairs.isEmpty()) {
                 LOGGER.info("No applicable policies found");
                 celQm.reconcileViolations(project.getId(), emptyMultiValuedMap());
+                Metrics.markProjectDirty(project.getId());
                 return;
             }
 
@@ -207,21 +222,33 @@ public class CelPolicyEngine {
             }
 
             // Evaluate all policy conditions against all components.
-            final var conditionsViolated = new HashSetValuedHashMap<Long, PolicyCondition>();
             final Timestamp protoNow = Timestamps.now(); // Use consistent now timestamp for all evaluations.
-            for (final ComponentProjection component : components) {
+            final Function<ComponentProjection, List<PolicyCondition>> componentEvaluator = component -> {
                 final org.dependencytrack.proto.policy.v1.Component protoComponent = mapToProto(component, licenseById);
                 final List<org.dependencytrack.proto.policy.v1.Vulnerability> protoVulns =
                         vulnIdsByComponentId.getOrDefault(component.id, emptyList()).stream()
                                 .map(protoVulnById::get)
                                 .toList();
 
-                conditionsViolated.putAll(component.id, evaluateConditions(conditionScriptPairs, Map.of(
+                return evaluateConditions(conditionScriptPairs, Map.of(
                         CelPolicyVariable.COMPONENT.variableName(), protoComponent,
                         CelPolicyVariable.PROJECT.variableName(), protoProject,
                         CelPolicyVariable.VULNS.variableName(), protoVulns,
                         CelPolicyVariable.NOW.variableName(), protoNow
-                )));
+                ));
+            };
+
+            // Graph functions like is_dependency_of are answered from an in-memory graph of the project,
+            // which is loaded on first use and shared by all components and conditions.
+            final var dependencyGraph = new CelPolicyDependencyGraph(project.getId(), project.getUuid().toString());
+            final List<List<PolicyCondition>> conditionsViolatedByComponent = parallelism > 1 && components.size() > 1
+                    ? evaluateComponentsConcurrently(components, componentEvaluator, dependencyGraph)
+                    : evaluateComponents(components, componentEvaluator, dependencyGraph);
+
+            // Results are in the same order as components, independent of how they were evaluated.
+            final var conditionsViolated = new HashSetValuedHashMap<Long, PolicyCondition>();
+            for (int i = 0; i < components.size(); i++) {
+                conditionsViolated.putAll(components.get(i).id, conditionsViolatedByComponent.get(i));
             }
 
             final var violationsByComponentId = new ArrayListValuedHashMap<Long, PolicyViolation>();
@@ -231,6 +258,7 @@ public class CelPolicyEngine {
 
             final List<Long> newViolationIds = celQm.reconcileViolations(project.getId(), violationsByComponentId);
             LOGGER.info("Identified %d new violations".formatted(newViolationIds.size()));
+            Metrics.markProjectDirty(project.getId());
 
             for (final Long newViolationId : newViolationIds) {
                 NotificationUtil.analyzeNotificationCriteria(qm, newViolationId);
@@ -342,6 +370,59 @@ public class CelPolicyEngine {
         return Pair.of(conditionScriptSrcPair.getLeft(), script);
     }
 
+    private static List<List<PolicyCondition>> evaluateComponents(final List<ComponentProjection> components,
+                                                                  final Function<ComponentProjection, List<PolicyCondition>> componentEvaluator,
+                                                                  final CelPolicyDependencyGraph dependencyGraph) {
+        try (var ignoredDependencyGraphScope = dependencyGraph.bind()) {
+            return components.stream().map(componentEvaluator).toList();
+        }
+    }
+
+    /**
+     * Evaluate components in {@link #parallelism} contiguous chunks, each on its own virtual thread.
+     * <p>
+     * Compiled {@link CelPolicyScript}s are immutable, and the {@link CelPolicyDependencyGraph}
+     * is safe for concurrent use, so chunks don't need to coordinate with each other.
+     * Results of all chunks are concatenated in chunk order, such that the returned
+     * {@link List} is ordered exactly like {@code components}.
+     */
+    private List<List<PolicyCondition>> evaluateComponentsConcurrently(final List<ComponentProjection> components,
+                                                                       final Function<ComponentProjection, List<PolicyCondition>> componentEvaluator,
+                                                                       final CelPolicyDependencyGraph dependencyGraph) {
+        final int chunkSize = (components.size() + parallelism - 1) / parallelism;
+        final Map<String, String> mdcContext = MDC.getCopyOfContextMap();
+
+        try (final ExecutorService executorService = Executors.newVirtualThreadPerTaskExecutor()) {
+            final var futures = new ArrayList<Future<List<List<PolicyCondition>>>>();
+            for (int fromIndex = 0; fromIndex < components.size(); fromIndex += chunkSize) {
+                final List<ComponentProjection> chunk = components.subList(fromIndex, Math.min(fromIndex + chunkSize, components.size()));
+                futures.add(executorService.submit(() -> {
+                    if (mdcContext != null) {
+                        MDC.setContextMap(mdcContext);
+                    }
+
+                    try {
+                        return evaluateComponents(chunk, componentEvaluator, dependencyGraph);
+                    } finally {
+                        MDC.clear();
+                    }
+                }));
+            }
+
+            final var conditionsViolatedByComponent = new ArrayList<List<PolicyCondition>>(components.size());
+            for (final Future<List<List<PolicyCondition>>> future : futures) {
+                conditionsViolatedByComponent.addAll(future.get());
+            }
+
+            return conditionsViolatedByComponent;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for policy evaluation to complete", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Failed to evaluate policies", e.getCause());
+        }
+    }
+
     private static List<PolicyCondition> evaluateConditions(final Collection<Pair<PolicyCondition, CelPolicyScript>> conditionScriptPairs,
                                                             final Map<String, Object> scriptArguments) {
         final var conditionsViolated = new ArrayList<PolicyCondition>();
@@ -336,28 +336,7 @@ class CelPolicyQueryManager implements AutoCloseable {
                 INNER JOIN
                   "COMPONENT" AS "C" ON "C"."ID" = "CV"."COMPONENT_ID"
                 LEFT JOIN LATERAL (
-                  SELECT
-                    CAST(JSONB_AGG(DISTINCT JSONB_STRIP_NULLS(JSONB_BUILD_OBJECT(
-                      'cveId',      "VA"."CVE_ID",
-                      'ghsaId',     "VA"."GHSA_ID",
-                      'gsdId',      "VA"."GSD_ID",
-                      'internalId', "VA"."INTERNAL_ID",
-                      'osvId',      "VA"."OSV_ID",
-                      'sonatypeId', "VA"."SONATYPE_ID",
-                      'snykId',     "VA"."SNYK_ID",
-                      'vulnDbId',   "VA"."VULNDB_ID"
-                    ))) AS TEXT) AS "aliasesJson"
-                  FROM
-                    "VULNERABILITYALIAS" AS "VA"
-                  WHERE
-                    ("V"."SOURCE" = 'NVD' AND "VA"."CVE_ID" = "V"."VULNID")
-                      OR ("V"."SOURCE" = 'GITHUB' AND "VA"."GHSA_ID" = "V"."VULNID")
-                      OR ("V"."SOURCE" = 'GSD' AND "VA"."GSD_ID" = "V"."VULNID")
-                      OR ("V"."SOURCE" = 'INTERNAL' AND "VA"."INTERNAL_ID" = "V"."VULNID")
-                      OR ("V"."SOURCE" = 'OSV' AND "VA"."OSV_ID" = "V"."VULNID")
-                      OR ("V"."SOURCE" = 'SONATYPE' AND "VA"."SONATYPE_ID" = "V"."VULNID")
-                      OR ("V"."SOURCE" = 'SNYK' AND "VA"."SNYK_ID" = "V"."VULNID")
-                      OR ("V"."SOURCE" = 'VULNDB' AND "VA"."VULNDB_ID" = "V"."VULNID")
+                  SELECT CAST("VULNERABILITY_ALIASES"("V"."SOURCE", "V"."VULNID") AS TEXT) AS "aliasesJson"
                 ) AS "aliases" ON :shouldFetchAliases
                 LEFT JOIN "EPSS" AS "EP" ON "V"."VULNID" = "EP"."CVE" AND :shouldFetchEpss
                 WHERE
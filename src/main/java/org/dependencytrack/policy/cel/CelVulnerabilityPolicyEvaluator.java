@@ -18,6 +18,7 @@
  */
 package org.dependencytrack.policy.cel;
 
+import alpine.Config;
 import alpine.common.logging.Logger;
 import alpine.common.metrics.Metrics;
 import alpine.server.cache.AbstractCacheManager;
@@ -25,10 +26,12 @@ import alpine.server.cache.CacheManager;
 import com.google.api.expr.v1alpha1.Type;
 import com.google.protobuf.Timestamp;
 import com.google.protobuf.util.Timestamps;
+import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.Timer;
 import org.apache.commons.codec.digest.DigestUtils;
 import org.apache.commons.collections4.MultiValuedMap;
 import org.apache.commons.collections4.multimap.HashSetValuedHashMap;
+import org.dependencytrack.common.ConfigKey;
 import org.dependencytrack.policy.cel.persistence.CelPolicyDao;
 import org.dependencytrack.policy.vulnerability.VulnerabilityPolicy;
 import org.dependencytrack.policy.vulnerability.VulnerabilityPolicyEvaluator;
@@ -39,6 +42,7 @@ import org.dependencytrack.proto.policy.v1.Vulnerability;
 import org.projectnessie.cel.tools.ScriptCreateException;
 import org.projectnessie.cel.tools.ScriptExecutionException;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
@@ -49,6 +53,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.ServiceLoader;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -68,10 +74,15 @@ import static org.dependencytrack.policy.cel.definition.CelPolicyTypes.TYPE_VULN
 public class CelVulnerabilityPolicyEvaluator implements VulnerabilityPolicyEvaluator {
 
     private static final Logger LOGGER = Logger.getLogger(CelVulnerabilityPolicyEvaluator.class);
+    private static final AtomicLong CACHE_GENERATION = new AtomicLong();
 
     private final VulnerabilityPolicyProvider policyProvider;
     private final CelPolicyScriptHost scriptHost;
     private final AbstractCacheManager cacheManager;
+    private final Duration revalidationInterval;
+    private final AtomicReference<CachedPolicies> cachedPolicies = new AtomicReference<>();
+    private final Counter cacheHitCounter;
+    private final Counter cacheMissCounter;
 
     @SuppressWarnings("unused") // Called by ServiceLoader
     public CelVulnerabilityPolicyEvaluator() {
@@ -81,9 +92,24 @@ public class CelVulnerabilityPolicyEvaluator implements VulnerabilityPolicyEvalu
 
     public CelVulnerabilityPolicyEvaluator(final VulnerabilityPolicyProvider policyProvider,
                                            final CelPolicyScriptHost scriptHost, final AbstractCacheManager cacheManager) {
+        this(policyProvider, scriptHost, cacheManager, Duration.parse(
+                Config.getInstance().getProperty(ConfigKey.VULNERABILITY_POLICY_CACHE_REVALIDATION_INTERVAL)));
+    }
+
+    CelVulnerabilityPolicyEvaluator(final VulnerabilityPolicyProvider policyProvider, final CelPolicyScriptHost scriptHost,
+                                    final AbstractCacheManager cacheManager, final Duration revalidationInterval) {
         this.policyProvider = policyProvider;
         this.scriptHost = scriptHost;
         this.cacheManager = cacheManager;
+        this.revalidationInterval = revalidationInterval;
+        this.cacheHitCounter = Counter.builder("vuln_policy_cache_requests")
+                .description("Lookups of applicable vulnerability policies")
+                .tag("result", "hit")
+                .register(Metrics.getRegistry());
+        this.cacheMissCounter = Counter.builder("vuln_policy_cache_requests")
+                .description("Lookups of applicable vulnerability policies")
+                .tag("result", "miss")
+                .register(Metrics.getRegistry());
 
         // FIXME: Caches are not initialized until the first entry is added...
         cacheManager.put("%s-init".formatted(getClass().getSimpleName()), Project.getDefaultInstance());
@@ -125,44 +151,14 @@ public class CelVulnerabilityPolicyEvaluator implements VulnerabilityPolicyEvalu
             return Collections.emptyMap();
         }
 
-        // TODO: Can this be cached? Would be good to avoid having to do a DB query for each component.
-        //   Alternatively, we can consider caching an implementation detail of the respective provider.
-        final List<VulnerabilityPolicy> applicablePolicies = policyProvider.getApplicablePolicies(project);
-        if (applicablePolicies == null || applicablePolicies.isEmpty()) {
+        final ApplicablePolicies applicablePolicies = getApplicablePolicies(project);
+        if (applicablePolicies.compiledScriptsByPolicyName().isEmpty()) {
             LOGGER.debug("No applicable policies found");
             return Collections.emptyMap();
         }
 
-        // Compile condition scripts and group them by policy name.
-        // Using LinkedHashMap to preserve the order of the policies.
-        final var compiledScriptsByPolicyName = new LinkedHashMap<String, List<CelPolicyScript>>();
-        for (final VulnerabilityPolicy policy : applicablePolicies) {
-            for (final String condition : policy.getConditions()) {
-                compiledScriptsByPolicyName.compute(policy.getName(), (policyName, compiledScripts) -> {
-                    final CelPolicyScript compiledScript = compileConditionScript(condition);
-                    if (compiledScript == null) {
-                        return compiledScripts;
-                    }
-                    if (compiledScripts == null) {
-                        final var scripts = new ArrayList<CelPolicyScript>();
-                        scripts.add(compiledScript);
-                        return scripts;
-                    } else {
-                        compiledScripts.add(compiledScript);
-                        return compiledScripts;
-                    }
-                });
-            }
-        }
-
-        // Determine requirements across all condition scripts.
-        final MultiValuedMap<Type, String> scriptRequirements = compiledScriptsByPolicyName.values().stream()
-                .flatMap(Collection::stream)
-                .map(CelPolicyScript::getRequirements)
-                .reduce(new HashSetValuedHashMap<>(), (lhs, rhs) -> {
-                    lhs.putAll(rhs);
-                    return lhs;
-                });
+        final Map<String, List<CelPolicyScript>> compiledScriptsByPolicyName = applicablePolicies.compiledScriptsByPolicyName();
+        final MultiValuedMap<Type, String> scriptRequirements = applicablePolicies.scriptRequirements();
 
         final Project scriptArgProject;
         if (scriptRequirements.containsKey(TYPE_PROJECT)) {
@@ -187,9 +183,7 @@ public class CelVulnerabilityPolicyEvaluator implements VulnerabilityPolicyEvalu
                     .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
         }
 
-        // Index policies by their (unique) name to make lookups easier.
-        final Map<String, VulnerabilityPolicy> policiesByName = applicablePolicies.stream()
-                .collect(Collectors.toMap(VulnerabilityPolicy::getName, Function.identity()));
+        final Map<String, VulnerabilityPolicy> policiesByName = applicablePolicies.policiesByName();
 
         // Iterate over all policies IN THE ORDER THEY WERE GIVEN TO US, evaluating their conditions
         // IN THE ORDER THEY WERE GIVEN TO US.
@@ -248,6 +242,91 @@ public class CelVulnerabilityPolicyEvaluator implements VulnerabilityPolicyEvalu
         return matchedPolicies;
     }
 
+    /**
+     * Invalidate applicable policies cached by all {@link CelVulnerabilityPolicyEvaluator}s
+     * of the current instance, e.g. because a new policy bundle has been synchronized.
+     *
+     * @since 5.6.0
+     */
+    public static void invalidatePolicyCache() {
+        CACHE_GENERATION.incrementAndGet();
+    }
+
+    private ApplicablePolicies getApplicablePolicies(final Project project) {
+        final long generation = CACHE_GENERATION.get();
+        final long nowMillis = System.currentTimeMillis();
+
+        final CachedPolicies cached = cachedPolicies.get();
+        String version = null;
+        if (cached != null && cached.generation() == generation) {
+            if (nowMillis < cached.revalidateAfterMillis()) {
+                cacheHitCounter.increment();
+                return cached.policies();
+            }
+
+            version = policyProvider.getPoliciesVersion();
+            if (version != null && version.equals(cached.version())) {
+                cachedPolicies.compareAndSet(cached, new CachedPolicies(generation, version,
+                        cached.policies(), nowMillis + revalidationInterval.toMillis()));
+                cacheHitCounter.increment();
+                return cached.policies();
+            }
+        } else {
+            version = policyProvider.getPoliciesVersion();
+        }
+
+        cacheMissCounter.increment();
+        final ApplicablePolicies policies = compilePolicies(policyProvider.getApplicablePolicies(project));
+        if (version != null) {
+            cachedPolicies.set(new CachedPolicies(generation, version, policies, nowMillis + revalidationInterval.toMillis()));
+        }
+
+        return policies;
+    }
+
+    private ApplicablePolicies compilePolicies(final List<VulnerabilityPolicy> policies) {
+        if (policies == null || policies.isEmpty()) {
+            return new ApplicablePolicies(Collections.emptyMap(), Collections.emptyMap(), new HashSetValuedHashMap<>());
+        }
+
+        // Compile condition scripts and group them by policy name.
+        // Using LinkedHashMap to preserve the order of the policies.
+        final var compiledScriptsByPolicyName = new LinkedHashMap<String, List<CelPolicyScript>>();
+        for (final VulnerabilityPolicy policy : policies) {
+            for (final String condition : policy.getConditions()) {
+                compiledScriptsByPolicyName.compute(policy.getName(), (policyName, compiledScripts) -> {
+                    final CelPolicyScript compiledScript = compileConditionScript(condition);
+                    if (compiledScript == null) {
+                        return compiledScripts;
+                    }
+                    if (compiledScripts == null) {
+                        final var scripts = new ArrayList<CelPolicyScript>();
+                        scripts.add(compiledScript);
+                        return scripts;
+                    } else {
+                        compiledScripts.add(compiledScript);
+                        return compiledScripts;
+                    }
+                });
+            }
+        }
+
+        // Determine requirements across all condition scripts.
+        final MultiValuedMap<Type, String> scriptRequirements = compiledScriptsByPolicyName.values().stream()
+                .flatMap(Collection::stream)
+                .map(CelPolicyScript::getRequirements)
+                .reduce(new HashSetValuedHashMap<>(), (lhs, rhs) -> {
+                    lhs.putAll(rhs);
+                    return lhs;
+                });
+
+        // Index policies by their (unique) name to make lookups easier.
+        final Map<String, VulnerabilityPolicy> policiesByName = policies.stream()
+                .collect(Collectors.toMap(VulnerabilityPolicy::getName, Function.identity()));
+
+        return new ApplicablePolicies(compiledScriptsByPolicyName, policiesByName, scriptRequirements);
+    }
+
     private Project ensureRequirementsLoaded(final Project project, final MultiValuedMap<Type, String> requirements) {
         return cacheManager.get(Project.class, buildCacheKey(project, requirements), cacheKey ->
                 withJdbiHandle(handle -> handle.attach(CelPolicyDao.class).loadRequiredFields(project, requirements))
@@ -324,4 +403,15 @@ public class CelVulnerabilityPolicyEvaluator implements VulnerabilityPolicyEvalu
         return DigestUtils.sha256Hex(rawCacheKey);
     }
 
+    /**
+     * Applicable policies, with their condition scripts compiled and grouped by policy name.
+     */
+    private record ApplicablePolicies(Map<String, List<CelPolicyScript>> compiledScriptsByPolicyName,
+                                      Map<String, VulnerabilityPolicy> policiesByName,
+                                      MultiValuedMap<Type, String> scriptRequirements) {
+    }
+
+    private record CachedPolicies(long generation, String version, ApplicablePolicies policies, long revalidateAfterMillis) {
+    }
+
 }
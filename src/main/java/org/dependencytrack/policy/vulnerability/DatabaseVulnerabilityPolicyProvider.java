@@ -34,6 +34,11 @@ public class DatabaseVulnerabilityPolicyProvider implements VulnerabilityPolicyP
         return withJdbiHandle(handle -> handle.attach(VulnerabilityPolicyDao.class).getAllEnabledAndValid());
     }
 
+    @Override
+    public String getPoliciesVersion() {
+        return withJdbiHandle(handle -> handle.attach(VulnerabilityPolicyDao.class).getVersion());
+    }
+
     @Override
     public PaginatedResult getAllVulnerabilityPolicies(final AlpineRequest request) {
         return withJdbiHandle(request, handle -> handle.attach(VulnerabilityPolicyDao.class).getPage());
@@ -37,6 +37,20 @@ public interface VulnerabilityPolicyProvider {
      */
     List<VulnerabilityPolicy> getApplicablePolicies(final Project project);
 
+    /**
+     * Provide a token identifying the current state of all {@link VulnerabilityPolicy}s.
+     * <p>
+     * Two invocations returning the same token guarantee that {@link #getApplicablePolicies(Project)}
+     * yields the same {@link VulnerabilityPolicy}s, for any {@link Project}, in between them.
+     * Callers may thus cache applicable policies for as long as the token does not change.
+     *
+     * @return The version token, or {@code null} when applicable policies must not be cached
+     * @since 5.6.0
+     */
+    default String getPoliciesVersion() {
+        return null;
+    }
+
     PaginatedResult getAllVulnerabilityPolicies(AlpineRequest request);
 
 }
@@ -46,6 +46,7 @@ import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
 import org.apache.commons.lang3.StringUtils;
 import org.dependencytrack.auth.Permissions;
+import org.dependencytrack.metrics.Metrics;
 import org.dependencytrack.model.Analysis;
 import org.dependencytrack.model.AnalysisState;
 import org.dependencytrack.model.Component;
@@ -186,6 +187,7 @@ public class AnalysisResource extends AlpineResource {
             qm.makeAnalysisComment(analysis, comment, commenter);
             analysis = qm.getAnalysis(component, vulnerability);
             NotificationUtil.analyzeNotificationCriteria(qm, analysis, analysisStateChange, suppressionChange);
+            Metrics.markProjectDirty(project.getId());
             return Response.ok(analysis).build();
         }
     }
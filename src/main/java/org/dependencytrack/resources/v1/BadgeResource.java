@@ -18,8 +18,6 @@
  */
 package org.dependencytrack.resources.v1;
 
-import alpine.common.util.BooleanUtil;
-import alpine.model.ConfigProperty;
 import alpine.server.auth.AuthenticationNotRequired;
 import alpine.server.resources.AlpineResource;
 import io.swagger.v3.oas.annotations.Operation;
@@ -55,9 +53,7 @@ public class BadgeResource extends AlpineResource {
     private static final String SVG_MEDIA_TYPE = "image/svg+xml";
 
     private boolean isBadgeSupportEnabled(final QueryManager qm) {
-        ConfigProperty property = qm.getConfigProperty(
-                GENERAL_BADGE_ENABLED.getGroupName(), GENERAL_BADGE_ENABLED.getPropertyName());
-        return BooleanUtil.valueOf(property.getPropertyValue());
+        return qm.isEnabled(GENERAL_BADGE_ENABLED);
     }
 
     @GET
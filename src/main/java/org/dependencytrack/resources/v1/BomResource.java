@@ -35,6 +35,7 @@ import jakarta.validation.Validator;
 import jakarta.ws.rs.Consumes;
 import jakarta.ws.rs.DefaultValue;
 import jakarta.ws.rs.GET;
+import jakarta.ws.rs.InternalServerErrorException;
 import jakarta.ws.rs.POST;
 import jakarta.ws.rs.PUT;
 import jakarta.ws.rs.Path;
@@ -44,6 +45,7 @@ import jakarta.ws.rs.QueryParam;
 import jakarta.ws.rs.WebApplicationException;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.StreamingOutput;
 import org.apache.commons.io.IOUtils;
 import org.apache.commons.io.input.BOMInputStream;
 import org.apache.commons.lang3.StringUtils;
@@ -133,40 +135,46 @@ public class BomResource extends AlpineResource {
                 return Response.status(Response.Status.FORBIDDEN).entity("Access to the specified project is forbidden").build();
             }
 
-            final CycloneDXExporter exporter;
+            final CycloneDXExporter.Variant cdxVariant;
             if (StringUtils.trimToNull(variant) == null || variant.equalsIgnoreCase("inventory")) {
-                exporter = new CycloneDXExporter(CycloneDXExporter.Variant.INVENTORY, qm);
+                cdxVariant = CycloneDXExporter.Variant.INVENTORY;
             } else if (variant.equalsIgnoreCase("withVulnerabilities")) {
-                exporter = new CycloneDXExporter(CycloneDXExporter.Variant.INVENTORY_WITH_VULNERABILITIES, qm);
+                cdxVariant = CycloneDXExporter.Variant.INVENTORY_WITH_VULNERABILITIES;
             } else if (variant.equalsIgnoreCase("vdr")) {
-                exporter = new CycloneDXExporter(CycloneDXExporter.Variant.VDR, qm);
+                cdxVariant = CycloneDXExporter.Variant.VDR;
             } else {
                 return Response.status(Response.Status.BAD_REQUEST).entity("Invalid BOM variant specified.").build();
             }
 
-            try {
-                if (StringUtils.trimToNull(format) == null || format.equalsIgnoreCase("JSON")) {
-                    if (download) {
-                        return Response.ok(exporter.export(exporter.create(project), CycloneDXExporter.Format.JSON), MediaType.APPLICATION_OCTET_STREAM)
-                                .header("content-disposition", "attachment; filename=\"" + project.getUuid() + "-" + variant + ".cdx.json\"").build();
-                    } else {
-                        return Response.ok(exporter.export(exporter.create(project), CycloneDXExporter.Format.JSON),
-                                CycloneDxMediaType.APPLICATION_CYCLONEDX_JSON).build();
-                    }
-                } else if (format.equalsIgnoreCase("XML")) {
-                    if (download) {
-                        return Response.ok(exporter.export(exporter.create(project), CycloneDXExporter.Format.XML), MediaType.APPLICATION_OCTET_STREAM)
-                                .header("content-disposition", "attachment; filename=\"" + project.getUuid() + "-" + variant + ".cdx.xml\"").build();
-                    } else {
-                        return Response.ok(exporter.export(exporter.create(project), CycloneDXExporter.Format.XML),
-                                CycloneDxMediaType.APPLICATION_CYCLONEDX_XML).build();
-                    }
-                } else {
-                    return Response.status(Response.Status.BAD_REQUEST).entity("Invalid BOM format specified.").build();
+            final CycloneDXExporter.Format cdxFormat;
+            if (StringUtils.trimToNull(format) == null || format.equalsIgnoreCase("JSON")) {
+                cdxFormat = CycloneDXExporter.Format.JSON;
+            } else if (format.equalsIgnoreCase("XML")) {
+                cdxFormat = CycloneDXExporter.Format.XML;
+            } else {
+                return Response.status(Response.Status.BAD_REQUEST).entity("Invalid BOM format specified.").build();
+            }
+
+            // The BOM is written after this method returned, so the export needs its own QueryManager.
+            final long projectId = project.getId();
+            final StreamingOutput streamingOutput = outputStream -> {
+                try (final var exportQm = new QueryManager()) {
+                    final Project exportProject = exportQm.getObjectById(Project.class, projectId);
+                    new CycloneDXExporter(cdxVariant, exportQm).export(exportProject, cdxFormat, outputStream);
+                } catch (GeneratorException e) {
+                    LOGGER.error("An error occurred while building a CycloneDX document for export", e);
+                    throw new InternalServerErrorException(e);
                 }
-            } catch (GeneratorException e) {
-                LOGGER.error("An error occurred while building a CycloneDX document for export", e);
-                return Response.status(Response.Status.INTERNAL_SERVER_ERROR).build();
+            };
+
+            if (download) {
+                final String fileExtension = cdxFormat == CycloneDXExporter.Format.JSON ? "json" : "xml";
+                return Response.ok(streamingOutput, MediaType.APPLICATION_OCTET_STREAM)
+                        .header("content-disposition", "attachment; filename=\"" + project.getUuid() + "-" + variant + ".cdx." + fileExtension + "\"").build();
+            } else {
+                return Response.ok(streamingOutput, cdxFormat == CycloneDXExporter.Format.JSON
+                        ? CycloneDxMediaType.APPLICATION_CYCLONEDX_JSON
+                        : CycloneDxMediaType.APPLICATION_CYCLONEDX_XML).build();
             }
         }
     }
@@ -37,6 +37,7 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.security.SecurityRequirements;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.ws.rs.DefaultValue;
 import jakarta.ws.rs.GET;
 import jakarta.ws.rs.HeaderParam;
 import jakarta.ws.rs.POST;
@@ -48,6 +49,7 @@ import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
 import org.apache.commons.text.WordUtils;
 import org.dependencytrack.auth.Permissions;
+import org.dependencytrack.event.FindingsReadModelRebuildEvent;
 import org.dependencytrack.event.PortfolioRepositoryMetaAnalysisEvent;
 import org.dependencytrack.event.PortfolioVulnerabilityAnalysisEvent;
 import org.dependencytrack.event.ProjectRepositoryMetaAnalysisEvent;
@@ -57,6 +59,9 @@ import org.dependencytrack.model.Finding;
 import org.dependencytrack.model.Project;
 import org.dependencytrack.model.Vulnerability;
 import org.dependencytrack.model.validation.ValidUuid;
+import org.dependencytrack.persistence.FindingsReadModel;
+import org.dependencytrack.persistence.FindingsSearchQueryManager.FindingsCursor;
+import org.dependencytrack.persistence.FindingsSearchQueryManager.FindingsPage;
 import org.dependencytrack.persistence.QueryManager;
 import org.dependencytrack.resources.v1.vo.BomUploadResponse;
 
@@ -86,6 +91,7 @@ public class FindingResource extends AlpineResource {
 
     private static final Logger LOGGER = Logger.getLogger(FindingResource.class);
     public static final String MEDIA_TYPE_SARIF_JSON = "application/sarif+json";
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
 
     @GET
     @Path("/project/{uuid}")
@@ -198,6 +204,32 @@ public class FindingResource extends AlpineResource {
         return Response.ok().build();
     }
 
+    @POST
+    @Path("/readModel/rebuild")
+    @Operation(
+            summary = "Triggers a rebuild of the findings read model",
+            description = """
+                    <p>Only has an effect when the findings read model is enabled.</p>
+                    <p>Requires permission <strong>SYSTEM_CONFIGURATION</strong> or <strong>SYSTEM_CONFIGURATION_UPDATE</strong></p>"""
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "202", description = "The rebuild has been scheduled"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized"),
+            @ApiResponse(responseCode = "409", description = "The findings read model is disabled")
+    })
+    @PermissionRequired({Permissions.Constants.SYSTEM_CONFIGURATION, Permissions.Constants.SYSTEM_CONFIGURATION_UPDATE}) // Require admin privileges due to system impact
+    public Response rebuildReadModel() {
+        if (!FindingsReadModel.isEnabled()) {
+            return Response.status(Response.Status.CONFLICT)
+                    .entity("The findings read model is disabled")
+                    .build();
+        }
+
+        LOGGER.info("Findings read model rebuild requested by %s".formatted(super.getPrincipal().getName()));
+        Event.dispatch(new FindingsReadModelRebuildEvent());
+        return Response.accepted().build();
+    }
+
     @POST
     @Path("/project/{uuid}/analyze")
     @Produces(MediaType.APPLICATION_JSON)
@@ -246,9 +278,13 @@ public class FindingResource extends AlpineResource {
     @ApiResponses(value = {
             @ApiResponse(
                     responseCode = "200",
-                    headers = @Header(name = TOTAL_COUNT_HEADER, description = "The total number of findings", schema = @Schema(format = "integer")),
+                    headers = {
+                            @Header(name = TOTAL_COUNT_HEADER, description = "The total number of findings. Omitted when includeTotal is false", schema = @Schema(format = "integer")),
+                            @Header(name = NEXT_CURSOR_HEADER, description = "The cursor to retrieve the next page with. Omitted on the last page, and when sorting", schema = @Schema(type = "string"))
+                    },
                     content = @Content(array = @ArraySchema(schema = @Schema(implementation = Finding.class)))
             ),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor, or cursor combined with sorting"),
             @ApiResponse(responseCode = "401", description = "Unauthorized"),
     })
     @PermissionRequired(Permissions.Constants.VIEW_VULNERABILITY)
@@ -256,6 +292,10 @@ public class FindingResource extends AlpineResource {
                                    @QueryParam("showInactive") boolean showInactive,
                                    @Parameter(description = "Show suppressed findings")
                                    @QueryParam("showSuppressed") boolean showSuppressed,
+                                   @Parameter(description = "Continue after the page this cursor was returned with, instead of at the requested page number. Can not be combined with sorting")
+                                   @QueryParam("cursor") String cursor,
+                                   @Parameter(description = "Count the total number of findings")
+                                   @DefaultValue("true") @QueryParam("includeTotal") boolean includeTotal,
                                    @Parameter(description = "Filter by severity")
                                    @QueryParam("severity") String severity,
                                    @Parameter(description = "Filter by analysis status")
@@ -297,8 +337,29 @@ public class FindingResource extends AlpineResource {
             filters.put("cvssv2To", cvssv2To);
             filters.put("cvssv3From", cvssv3From);
             filters.put("cvssv3To", cvssv3To);
-            final PaginatedResult result = qm.getAllFindings(filters, showSuppressed, showInactive);
-            return Response.ok(result.getObjects()).header(TOTAL_COUNT_HEADER, result.getTotal()).build();
+
+            FindingsCursor decodedCursor = null;
+            if (cursor != null) {
+                if (getAlpineRequest().getOrderBy() != null) {
+                    return Response.status(Response.Status.BAD_REQUEST).entity("Cursors can not be combined with sorting").build();
+                }
+                try {
+                    decodedCursor = FindingsCursor.decode(cursor);
+                } catch (IllegalArgumentException e) {
+                    return Response.status(Response.Status.BAD_REQUEST).entity(e.getMessage()).build();
+                }
+            }
+
+            final FindingsPage page = qm.getAllFindings(filters, showSuppressed, showInactive, decodedCursor, includeTotal);
+
+            final Response.ResponseBuilder responseBuilder = Response.ok(page.findings());
+            if (page.total() != null) {
+                responseBuilder.header(TOTAL_COUNT_HEADER, page.total());
+            }
+            if (page.nextCursor() != null) {
+                responseBuilder.header(NEXT_CURSOR_HEADER, page.nextCursor().encode());
+            }
+            return responseBuilder.build();
         }
     }
 
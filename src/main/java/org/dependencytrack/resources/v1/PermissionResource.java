@@ -43,6 +43,7 @@ import jakarta.ws.rs.Produces;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
 import org.dependencytrack.auth.Permissions;
+import org.dependencytrack.auth.PrincipalAccessCache;
 import org.dependencytrack.model.validation.ValidUuid;
 import org.dependencytrack.persistence.QueryManager;
 import org.owasp.security.logging.SecurityMarkers;
@@ -117,6 +118,7 @@ public class PermissionResource extends AlpineResource {
                 permissions.add(permission);
                 principal.setPermissions(permissions);
                 principal = qm.persist(principal);
+                PrincipalAccessCache.getInstance().invalidate(principal);
                 super.logSecurityEvent(LOGGER, SecurityMarkers.SECURITY_AUDIT, "Added permission for user: " + principal.getName() + " / permission: " + permission.getName());
                 return Response.ok(principal).build();
             }
@@ -158,6 +160,7 @@ public class PermissionResource extends AlpineResource {
                 permissions.remove(permission);
                 principal.setPermissions(permissions);
                 principal = qm.persist(principal);
+                PrincipalAccessCache.getInstance().invalidate(principal);
                 super.logSecurityEvent(LOGGER, SecurityMarkers.SECURITY_AUDIT, "Removed permission for user: " + principal.getName() + " / permission: " + permission.getName());
                 return Response.ok(principal).build();
             }
@@ -198,6 +201,7 @@ public class PermissionResource extends AlpineResource {
                 permissions.add(permission);
                 team.setPermissions(permissions);
                 team = qm.persist(team);
+                PrincipalAccessCache.getInstance().invalidateAll();
                 super.logSecurityEvent(LOGGER, SecurityMarkers.SECURITY_AUDIT, "Added permission for team: " + team.getName() + " / permission: " + permission.getName());
                 return Response.ok(team).build();
             }
@@ -238,6 +242,7 @@ public class PermissionResource extends AlpineResource {
                 permissions.remove(permission);
                 team.setPermissions(permissions);
                 team = qm.persist(team);
+                PrincipalAccessCache.getInstance().invalidateAll();
                 super.logSecurityEvent(LOGGER, SecurityMarkers.SECURITY_AUDIT, "Removed permission for team: " + team.getName() + " / permission: " + permission.getName());
                 return Response.ok(team).build();
             }
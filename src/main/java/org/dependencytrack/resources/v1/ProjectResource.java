@@ -51,6 +51,7 @@ import jakarta.ws.rs.core.Response;
 import org.apache.commons.lang3.StringUtils;
 import org.dependencytrack.auth.Permissions;
 import org.dependencytrack.event.CloneProjectEvent;
+import org.dependencytrack.event.ProjectDeletionEvent;
 import org.dependencytrack.model.Classifier;
 import org.dependencytrack.model.Project;
 import org.dependencytrack.model.Tag;
@@ -61,6 +62,7 @@ import org.dependencytrack.model.validation.ValidUuid;
 import org.dependencytrack.persistence.QueryManager;
 import org.dependencytrack.persistence.jdbi.ProjectDao;
 import org.dependencytrack.persistence.jdbi.ProjectDao.ConciseProjectListRow;
+import org.dependencytrack.persistence.jdbi.ProjectDeletionDao;
 import org.dependencytrack.resources.v1.openapi.PaginatedApi;
 import org.dependencytrack.resources.v1.vo.CloneProjectRequest;
 import org.dependencytrack.resources.v1.vo.ConciseProject;
@@ -72,6 +74,7 @@ import java.util.Date;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.UUID;
 import java.util.function.BiConsumer;
 import java.util.function.Function;
 
@@ -641,6 +644,68 @@ public class ProjectResource extends AlpineResource {
         }
     }
 
+    @POST
+    @Path("/batchDelete")
+    @Consumes(MediaType.APPLICATION_JSON)
+    @Produces(MediaType.APPLICATION_JSON)
+    @Operation(
+            summary = "Deletes multiple projects, including their children, asynchronously",
+            description = """
+                    <p>
+                      Projects are deleted in the background, in batches, and in parallel if possible.
+                      The returned token can be used to query the status of the deletion via the
+                      <code>/v1/workflow/token/{uuid}/status</code> endpoint. The <code>PROJECT_DELETION</code>
+                      step reports the number of projects to delete, including their children, as
+                      <code>totalItems</code>, and the number of projects deleted so far as <code>completedItems</code>.
+                    </p>
+                    <p>Requires permission <strong>PORTFOLIO_MANAGEMENT</strong> or <strong>PORTFOLIO_MANAGEMENT_DELETE</strong></p>"""
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "202", description = "Token to track the deletion with"),
+            @ApiResponse(responseCode = "400", description = "No project UUIDs were provided"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized"),
+            @ApiResponse(responseCode = "403", description = "Access to one or more of the specified projects is forbidden"),
+            @ApiResponse(responseCode = "404", description = "One or more of the specified projects could not be found")
+    })
+    @PermissionRequired({Permissions.Constants.PORTFOLIO_MANAGEMENT, Permissions.Constants.PORTFOLIO_MANAGEMENT_DELETE})
+    public Response deleteProjects(
+            @Parameter(description = "The UUIDs of the projects to delete", required = true)
+            final List<UUID> uuids) {
+        if (uuids == null || uuids.isEmpty()) {
+            return Response.status(Response.Status.BAD_REQUEST).entity("No project UUIDs were provided").build();
+        }
+
+        try (QueryManager qm = new QueryManager()) {
+            final List<Project> projects = qm.getObjectsByUuids(Project.class, uuids);
+            if (projects.size() != Set.copyOf(uuids).size()) {
+                return Response.status(Response.Status.NOT_FOUND).entity("One or more of the specified projects could not be found.").build();
+            }
+            for (final Project project : projects) {
+                if (!qm.hasAccess(super.getPrincipal(), project)) {
+                    return Response.status(Response.Status.FORBIDDEN).entity("Access to the specified project is forbidden").build();
+                }
+            }
+
+            LOGGER.info("Deletion of %d projects requested by %s".formatted(projects.size(), super.getPrincipal().getName()));
+            final var event = new ProjectDeletionEvent(false);
+            qm.runInTransaction(() -> {
+                final int numEnqueued = withJdbiHandle(qm, handle -> handle.attach(ProjectDeletionDao.class).enqueue(
+                        projects.stream().map(Project::getId).toList(), event.getChainIdentifier().toString()));
+
+                final var workflowState = new WorkflowState();
+                workflowState.setStep(WorkflowStep.PROJECT_DELETION);
+                workflowState.setStatus(WorkflowStatus.PENDING);
+                workflowState.setToken(event.getChainIdentifier());
+                workflowState.setTotalItems(numEnqueued);
+                workflowState.setCompletedItems(0);
+                workflowState.setUpdatedAt(new Date());
+                qm.getPersistenceManager().makePersistent(workflowState);
+            });
+            Event.dispatch(event);
+            return Response.accepted(Map.of("token", event.getChainIdentifier())).build();
+        }
+    }
+
     @PUT
     @Path("/clone")
     @Consumes(MediaType.APPLICATION_JSON)
@@ -45,6 +45,7 @@ import jakarta.ws.rs.Produces;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
 import org.dependencytrack.auth.Permissions;
+import org.dependencytrack.auth.PrincipalAccessCache;
 import org.dependencytrack.model.validation.ValidUuid;
 import org.dependencytrack.persistence.QueryManager;
 import org.dependencytrack.resources.v1.vo.TeamSelfResponse;
@@ -192,6 +193,7 @@ public class TeamResource extends AlpineResource {
             if (team != null) {
                 String teamName = team.getName();
                 qm.recursivelyDeleteTeam(team);
+                PrincipalAccessCache.getInstance().invalidateAll();
                 super.logSecurityEvent(LOGGER, SecurityMarkers.SECURITY_AUDIT, "Team deleted: " + teamName);
                 return Response.status(Response.Status.NO_CONTENT).build();
             } else {
@@ -306,6 +308,7 @@ public class TeamResource extends AlpineResource {
             final ApiKey apiKey = qm.getApiKey(apikey);
             if (apiKey != null) {
                 qm.delete(apiKey);
+                PrincipalAccessCache.getInstance().invalidate(apiKey);
                 return Response.status(Response.Status.NO_CONTENT).build();
             } else {
                 return Response.status(Response.Status.NOT_FOUND).entity("The API key could not be found.").build();
@@ -61,6 +61,7 @@ import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
 import org.apache.commons.lang3.StringUtils;
 import org.dependencytrack.auth.Permissions;
+import org.dependencytrack.auth.PrincipalAccessCache;
 import org.dependencytrack.event.kafka.KafkaEventDispatcher;
 import org.dependencytrack.model.IdentifiableObject;
 import org.dependencytrack.notification.NotificationConstants;
@@ -656,6 +657,7 @@ public class UserResource extends AlpineResource {
             final boolean modified = qm.addUserToTeam(principal, team);
             principal = qm.getObjectById(principal.getClass(), principal.getId());
             if (modified) {
+                PrincipalAccessCache.getInstance().invalidate(principal);
                 super.logSecurityEvent(LOGGER, SecurityMarkers.SECURITY_AUDIT, "Added team membership for: " + principal.getName() + " / team: " + team.getName());
                 return Response.ok(principal).build();
             } else {
@@ -696,6 +698,7 @@ public class UserResource extends AlpineResource {
             final boolean modified = qm.removeUserFromTeam(principal, team);
             principal = qm.getObjectById(principal.getClass(), principal.getId());
             if (modified) {
+                PrincipalAccessCache.getInstance().invalidate(principal);
                 super.logSecurityEvent(LOGGER, SecurityMarkers.SECURITY_AUDIT, "Removed team membership for: " + principal.getName() + " / team: " + team.getName());
                 return Response.ok(principal).build();
             } else {
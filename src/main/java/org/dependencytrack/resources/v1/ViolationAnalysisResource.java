@@ -46,6 +46,7 @@ import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
 import org.apache.commons.lang3.StringUtils;
 import org.dependencytrack.auth.Permissions;
+import org.dependencytrack.metrics.Metrics;
 import org.dependencytrack.model.Analysis;
 import org.dependencytrack.model.Component;
 import org.dependencytrack.model.PolicyViolation;
@@ -166,6 +167,7 @@ public class ViolationAnalysisResource extends AlpineResource {
             qm.makeViolationAnalysisComment(analysis, comment, commenter);
             analysis = qm.getObjectById(ViolationAnalysis.class, analysis.getId());
             NotificationUtil.analyzeNotificationCriteria(qm, analysis, analysisStateChange, suppressionChange);
+            Metrics.markProjectDirty(component.getProject().getId());
             return Response.ok(analysis).build();
         }
     }
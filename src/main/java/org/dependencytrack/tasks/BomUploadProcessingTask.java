@@ -27,21 +27,22 @@ import alpine.event.framework.Subscriber;
 import alpine.notification.Notification;
 import alpine.notification.NotificationLevel;
 import org.apache.commons.collections4.MultiValuedMap;
+import org.apache.commons.collections4.multimap.ArrayListValuedHashMap;
 import org.apache.commons.collections4.multimap.HashSetValuedHashMap;
-import org.apache.commons.lang3.exception.ExceptionUtils;
 import org.cyclonedx.exception.ParseException;
 import org.cyclonedx.parsers.BomParserFactory;
 import org.cyclonedx.parsers.Parser;
 import org.datanucleus.flush.FlushMode;
-import org.datanucleus.store.query.QueryNotUniqueException;
 import org.dependencytrack.common.ConfigKey;
 import org.dependencytrack.event.BomUploadEvent;
 import org.dependencytrack.event.ComponentRepositoryMetaAnalysisEvent;
 import org.dependencytrack.event.ComponentVulnerabilityAnalysisEvent;
 import org.dependencytrack.event.IntegrityAnalysisEvent;
 import org.dependencytrack.event.ProjectMetricsUpdateEvent;
+import org.dependencytrack.event.ProjectPolicyEvaluationEvent;
 import org.dependencytrack.event.kafka.KafkaEventDispatcher;
 import org.dependencytrack.event.kafka.componentmeta.AbstractMetaHandler;
+import org.dependencytrack.metrics.Metrics;
 import org.dependencytrack.model.Bom;
 import org.dependencytrack.model.Component;
 import org.dependencytrack.model.ComponentIdentity;
@@ -61,17 +62,22 @@ import org.dependencytrack.notification.NotificationGroup;
 import org.dependencytrack.notification.NotificationScope;
 import org.dependencytrack.notification.vo.BomConsumedOrProcessed;
 import org.dependencytrack.notification.vo.BomProcessingFailed;
+import org.dependencytrack.parser.cyclonedx.CycloneDxBomStreamReader;
+import org.dependencytrack.parser.cyclonedx.CycloneDxBomStreamReader.Section;
 import org.dependencytrack.persistence.QueryManager;
+import org.dependencytrack.persistence.jdbi.ComponentDao;
+import org.dependencytrack.persistence.jdbi.ComponentDao.ComponentIdentityRow;
 import org.dependencytrack.util.InternalComponentIdentifier;
 import org.dependencytrack.util.WaitingLockConfiguration;
 import org.json.JSONArray;
 import org.slf4j.MDC;
 
-import javax.jdo.JDOUserException;
 import javax.jdo.PersistenceManager;
 import javax.jdo.Query;
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
 import java.time.Duration;
 import java.time.Instant;
@@ -79,8 +85,11 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Date;
+import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -88,6 +97,7 @@ import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Predicate;
 
 import static org.apache.commons.lang3.StringUtils.isNotBlank;
@@ -107,14 +117,18 @@ import static org.dependencytrack.common.MdcKeys.MDC_PROJECT_UUID;
 import static org.dependencytrack.common.MdcKeys.MDC_PROJECT_VERSION;
 import static org.dependencytrack.event.kafka.componentmeta.RepoMetaConstants.SUPPORTED_PACKAGE_URLS_FOR_INTEGRITY_CHECK;
 import static org.dependencytrack.event.kafka.componentmeta.RepoMetaConstants.TIME_SPAN;
+import static org.dependencytrack.parser.cyclonedx.util.ModelConverter.convertComponent;
 import static org.dependencytrack.parser.cyclonedx.util.ModelConverter.convertComponents;
 import static org.dependencytrack.parser.cyclonedx.util.ModelConverter.convertDependencyGraph;
+import static org.dependencytrack.parser.cyclonedx.util.ModelConverter.convertService;
 import static org.dependencytrack.parser.cyclonedx.util.ModelConverter.convertServices;
 import static org.dependencytrack.parser.cyclonedx.util.ModelConverter.convertToProject;
 import static org.dependencytrack.parser.cyclonedx.util.ModelConverter.convertToProjectMetadata;
 import static org.dependencytrack.parser.cyclonedx.util.ModelConverter.flatten;
+import static org.dependencytrack.persistence.jdbi.JdbiFactory.withJdbiHandle;
 import static org.dependencytrack.proto.repometaanalysis.v1.FetchMeta.FETCH_META_INTEGRITY_DATA_AND_LATEST_VERSION;
 import static org.dependencytrack.proto.repometaanalysis.v1.FetchMeta.FETCH_META_LATEST_VERSION;
+import static org.dependencytrack.util.ComponentFingerprintUtil.computeFingerprint;
 import static org.dependencytrack.util.LockProvider.executeWithLockWaiting;
 import static org.dependencytrack.util.PersistenceUtil.applyIfChanged;
 import static org.dependencytrack.util.PersistenceUtil.assertPersistent;
@@ -152,14 +166,35 @@ public class BomUploadProcessingTask implements Subscriber {
 
     private final KafkaEventDispatcher kafkaEventDispatcher;
     private final boolean delayBomProcessedNotification;
+    private final boolean streamingEnabled;
+    private final int streamingChunkSize;
+    private final boolean deltaEnabled;
 
     public BomUploadProcessingTask() {
-        this(new KafkaEventDispatcher(), Config.getInstance().getPropertyAsBoolean(ConfigKey.TMP_DELAY_BOM_PROCESSED_NOTIFICATION));
+        this(new KafkaEventDispatcher(),
+                Config.getInstance().getPropertyAsBoolean(ConfigKey.TMP_DELAY_BOM_PROCESSED_NOTIFICATION),
+                Config.getInstance().getPropertyAsBoolean(ConfigKey.BOM_UPLOAD_PROCESSING_STREAMING_ENABLED),
+                Config.getInstance().getPropertyAsInt(ConfigKey.BOM_UPLOAD_PROCESSING_STREAMING_CHUNK_SIZE),
+                Config.getInstance().getPropertyAsBoolean(ConfigKey.BOM_UPLOAD_PROCESSING_DELTA_ENABLED));
     }
 
     BomUploadProcessingTask(final KafkaEventDispatcher kafkaEventDispatcher, final boolean delayBomProcessedNotification) {
+        this(kafkaEventDispatcher, delayBomProcessedNotification,
+                /* streamingEnabled */ false, /* streamingChunkSize */ 0, /* deltaEnabled */ false);
+    }
+
+    BomUploadProcessingTask(
+            final KafkaEventDispatcher kafkaEventDispatcher,
+            final boolean delayBomProcessedNotification,
+            final boolean streamingEnabled,
+            final int streamingChunkSize,
+            final boolean deltaEnabled
+    ) {
         this.kafkaEventDispatcher = kafkaEventDispatcher;
         this.delayBomProcessedNotification = delayBomProcessedNotification;
+        this.streamingEnabled = streamingEnabled;
+        this.streamingChunkSize = streamingChunkSize;
+        this.deltaEnabled = deltaEnabled;
     }
 
     /**
@@ -175,7 +210,11 @@ public class BomUploadProcessingTask implements Subscriber {
              var ignoredMdcProjectName = MDC.putCloseable(MDC_PROJECT_NAME, ctx.project.getName());
              var ignoredMdcProjectVersion = MDC.putCloseable(MDC_PROJECT_VERSION, ctx.project.getVersion());
              var ignoredMdcBomUploadToken = MDC.putCloseable(MDC_BOM_UPLOAD_TOKEN, ctx.token.toString())) {
-            processEvent(ctx, event);
+            if (streamingEnabled) {
+                processEventStreaming(ctx, event);
+            } else {
+                processEvent(ctx, event);
+            }
         }
     }
 
@@ -223,21 +262,407 @@ public class BomUploadProcessingTask implements Subscriber {
         }
 
         completeBomProcessingWorkflowStep(ctx);
+        Metrics.markProjectDirty(ctx.project.getId());
         final var processingDurationMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - ctx.startTimeNs);
         LOGGER.info("BOM processed successfully in %s".formatted(formatDurationHMS(processingDurationMs)));
         if (!delayBomProcessedNotification) {
             dispatchBomProcessedNotification(ctx);
         }
 
-        final List<ComponentVulnerabilityAnalysisEvent> vulnAnalysisEvents = createVulnAnalysisEvents(ctx, processedBom.components());
-        final List<ComponentRepositoryMetaAnalysisEvent> repoMetaAnalysisEvents = createRepoMetaAnalysisEvents(processedBom.components());
+        final Collection<Component> componentsToAnalyze = selectComponentsToAnalyze(processedBom.components());
+        final List<ComponentVulnerabilityAnalysisEvent> vulnAnalysisEvents = createVulnAnalysisEvents(ctx, componentsToAnalyze);
+        final List<ComponentRepositoryMetaAnalysisEvent> repoMetaAnalysisEvents = createRepoMetaAnalysisEvents(componentsToAnalyze);
+        dispatchAnalysisEvents(ctx, vulnAnalysisEvents, repoMetaAnalysisEvents);
+    }
 
+    /**
+     * When operating in delta mode, exclude components that did not change since the last BOM upload
+     * from analysis. Their analysis results from the previous upload still apply.
+     */
+    private Collection<Component> selectComponentsToAnalyze(final Collection<Component> components) {
+        if (!deltaEnabled) {
+            return components;
+        }
+
+        final List<Component> changedComponents = components.stream()
+                .filter(component -> !component.isUnchanged())
+                .toList();
+        LOGGER.info("Skipping analysis of %d unchanged components".formatted(components.size() - changedComponents.size()));
+        return changedComponents;
+    }
+
+    private void dispatchAnalysisEvents(
+            final Context ctx,
+            final List<ComponentVulnerabilityAnalysisEvent> vulnAnalysisEvents,
+            final List<ComponentRepositoryMetaAnalysisEvent> repoMetaAnalysisEvents
+    ) {
         final var dispatchedEvents = new ArrayList<CompletableFuture<?>>(vulnAnalysisEvents.size() + repoMetaAnalysisEvents.size());
         dispatchedEvents.addAll(initiateVulnerabilityAnalysis(ctx, vulnAnalysisEvents));
         dispatchedEvents.addAll(initiateRepoMetaAnalysis(repoMetaAnalysisEvents));
         CompletableFuture.allOf(dispatchedEvents.toArray(new CompletableFuture[0])).join();
     }
 
+    /**
+     * Process a {@link BomUploadEvent} without loading the entire BOM into memory.
+     * <p>
+     * The BOM file is read twice: The first pass only collects the BOM's metadata and dependency graph,
+     * and skips over components and services. The second pass streams components and services,
+     * and processes them in chunks of {@link #streamingChunkSize}. Each chunk is committed in its own
+     * transaction, such that neither the CycloneDX object model, nor the persistent {@link Component}s,
+     * of the entire BOM have to be held in memory at once.
+     * <p>
+     * Only lightweight bookkeeping (BOM refs, {@link ComponentIdentity}s, component IDs, and analysis events)
+     * is retained for the entire BOM, as it is required to resolve the dependency graph and to trigger analyses.
+     * <p>
+     * Because chunks are committed separately, a failure mid-way through processing may leave the project
+     * with a partially applied BOM. Components that are no longer part of the BOM are only removed once
+     * all chunks have been processed successfully. Uploading the BOM again will reconcile the project.
+     */
+    private void processEventStreaming(final Context ctx, final BomUploadEvent event) {
+        startBomConsumptionWorkflowStep(ctx);
+
+        final Path bomFilePath = event.getFile().toPath();
+        final StreamedBomHeader bomHeader;
+        try (final InputStream bomFileInputStream = Files.newInputStream(bomFilePath)) {
+            bomHeader = consumeBomHeader(ctx, bomFileInputStream);
+        } catch (IOException | RuntimeException e) {
+            deleteBomFile(bomFilePath);
+            failWorkflowStepAndCancelDescendants(ctx, WorkflowStep.BOM_CONSUMPTION, e);
+            dispatchBomProcessingFailedNotification(ctx, e);
+            return;
+        }
+
+        startBomProcessingWorkflowStep(ctx);
+        dispatchBomConsumedNotification(ctx);
+
+        final StreamingBomProcessor bomProcessor;
+        try (var ignoredMdcBomFormat = MDC.putCloseable(MDC_BOM_FORMAT, ctx.bomFormat.getFormatShortName());
+             var ignoredMdcBomSpecVersion = MDC.putCloseable(MDC_BOM_SPEC_VERSION, ctx.bomSpecVersion);
+             var ignoredMdcBomSerialNumber = MDC.putCloseable(MDC_BOM_SERIAL_NUMBER, ctx.bomSerialNumber);
+             var ignoredMdcBomVersion = MDC.putCloseable(MDC_BOM_VERSION, String.valueOf(ctx.bomVersion))) {
+            // Prevent BOMs for the same project to be processed concurrently.
+            // Note that this is an edge case, we're not expecting any lock waits under normal circumstances.
+            final WaitingLockConfiguration lockConfiguration = createLockConfiguration(ctx);
+            bomProcessor = executeWithLockWaiting(lockConfiguration, () -> processBomStreaming(ctx, bomFilePath, bomHeader));
+        } catch (Throwable e) {
+            failWorkflowStepAndCancelDescendants(ctx, WorkflowStep.BOM_PROCESSING, e);
+            dispatchBomProcessingFailedNotification(ctx, e);
+            return;
+        } finally {
+            deleteBomFile(bomFilePath);
+        }
+
+        completeBomProcessingWorkflowStep(ctx);
+        Metrics.markProjectDirty(ctx.project.getId());
+        final var processingDurationMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - ctx.startTimeNs);
+        LOGGER.info("BOM processed successfully in %s".formatted(formatDurationHMS(processingDurationMs)));
+        if (!delayBomProcessedNotification) {
+            dispatchBomProcessedNotification(ctx);
+        }
+
+        dispatchAnalysisEvents(ctx, toVulnAnalysisEvents(bomProcessor.vulnAnalysisGroupsByIdentity),
+                bomProcessor.repoMetaAnalysisEvents);
+    }
+
+    private record StreamedBomHeader(
+            Project project,
+            ProjectMetadata projectMetadata,
+            List<Component> metadataComponents,
+            MultiValuedMap<String, String> dependencyGraph
+    ) {
+    }
+
+    private static StreamedBomHeader consumeBomHeader(final Context ctx, final InputStream bomInputStream) throws IOException {
+        final var dependencyGraph = new HashSetValuedHashMap<String, String>();
+        final var metadataHolder = new AtomicReference<org.cyclonedx.model.Metadata>();
+
+        final var bomReader = new CycloneDxBomStreamReader(EnumSet.of(Section.METADATA, Section.DEPENDENCIES));
+        bomReader.read(bomInputStream, new CycloneDxBomStreamReader.Visitor() {
+
+            @Override
+            public void visitSpecVersion(final String specVersion) {
+                ctx.bomSpecVersion = specVersion;
+            }
+
+            @Override
+            public void visitSerialNumber(final String serialNumber) {
+                ctx.bomSerialNumber = serialNumber.replaceFirst("urn:uuid:", "");
+            }
+
+            @Override
+            public void visitVersion(final int version) {
+                ctx.bomVersion = version;
+            }
+
+            @Override
+            public void visitMetadata(final org.cyclonedx.model.Metadata metadata) {
+                metadataHolder.set(metadata);
+            }
+
+            @Override
+            public void visitDependency(final org.cyclonedx.model.Dependency dependency) {
+                dependencyGraph.putAll(convertDependencyGraph(List.of(dependency)));
+            }
+
+        });
+
+        final org.cyclonedx.model.Metadata cdxMetadata = metadataHolder.get();
+        if (cdxMetadata != null && cdxMetadata.getTimestamp() != null) {
+            ctx.bomTimestamp = cdxMetadata.getTimestamp();
+        }
+
+        final List<Component> metadataComponents = new ArrayList<>();
+        if (cdxMetadata != null && cdxMetadata.getComponent() != null) {
+            metadataComponents.addAll(convertComponents(cdxMetadata.getComponent().getComponents()));
+        }
+
+        LOGGER.info("Consumed BOM metadata and %d dependency graph entries".formatted(dependencyGraph.asMap().size()));
+        return new StreamedBomHeader(
+                convertToProject(cdxMetadata),
+                convertToProjectMetadata(cdxMetadata),
+                metadataComponents,
+                dependencyGraph
+        );
+    }
+
+    private StreamingBomProcessor processBomStreaming(
+            final Context ctx,
+            final Path bomFilePath,
+            final StreamedBomHeader bomHeader
+    ) throws IOException {
+        try (final var qm = new QueryManager()) {
+            configurePersistenceManager(qm);
+
+            final Project persistentProject = qm.callInTransaction(
+                    () -> processProject(ctx, qm, bomHeader.project(), bomHeader.projectMetadata()));
+
+            final var bomProcessor = new StreamingBomProcessor(ctx, qm, persistentProject);
+            bomProcessor.visitComponents(bomHeader.metadataComponents());
+            try (final InputStream bomFileInputStream = Files.newInputStream(bomFilePath)) {
+                new CycloneDxBomStreamReader(EnumSet.of(Section.COMPONENTS, Section.SERVICES))
+                        .read(bomFileInputStream, bomProcessor);
+            }
+            bomProcessor.complete(bomHeader.dependencyGraph());
+
+            return bomProcessor;
+        }
+    }
+
+    /**
+     * Processes components and services of a BOM in chunks, as they are read by a {@link CycloneDxBomStreamReader}.
+     */
+    private final class StreamingBomProcessor implements CycloneDxBomStreamReader.Visitor {
+
+        private final Context ctx;
+        private final QueryManager qm;
+        private final Project project;
+        private final MultiValuedMap<ExactComponentIdentity, Long> existingComponentIdsByIdentity;
+        private final Set<Long> idsOfComponentsToDelete;
+        private final Set<Long> idsOfServicesToDelete;
+        private final Map<String, ComponentIdentity> identitiesByBomRef = new HashMap<>();
+        private final MultiValuedMap<ComponentIdentity, String> bomRefsByIdentity = new HashSetValuedHashMap<>();
+        private final Predicate<Component> distinctComponentsFilter;
+        private final Predicate<ServiceComponent> distinctServicesFilter;
+        private final Map<ComponentIdentity, ComponentIdentity> persistentIdentitiesByIdentity = new HashMap<>();
+        private final Map<ComponentIdentity, Long> componentIdsByIdentity = new HashMap<>();
+        private final Map<String, License> licenseCache = new HashMap<>();
+        private final Map<String, License> customLicenseCache = new HashMap<>();
+        private final List<Component> componentChunk;
+        private final List<ServiceComponent> serviceChunk;
+        private final Map<Object, VulnAnalysisGroup> vulnAnalysisGroupsByIdentity = new LinkedHashMap<>();
+        private final List<ComponentRepositoryMetaAnalysisEvent> repoMetaAnalysisEvents = new ArrayList<>();
+        private int numComponentsTotal;
+        private int numServicesTotal;
+        private int numServicesProcessed;
+
+        private StreamingBomProcessor(final Context ctx, final QueryManager qm, final Project project) {
+            this.ctx = ctx;
+            this.qm = qm;
+            this.project = project;
+            this.existingComponentIdsByIdentity = qm.callInTransaction(() -> getExistingComponentIdsByIdentity(qm, project));
+            this.idsOfComponentsToDelete = new HashSet<>(existingComponentIdsByIdentity.values());
+            this.idsOfServicesToDelete = getAllComponentIds(qm, project, ServiceComponent.class);
+            this.distinctComponentsFilter = distinctComponentsByIdentity(identitiesByBomRef, bomRefsByIdentity);
+            this.distinctServicesFilter = distinctServicesByIdentity(identitiesByBomRef, bomRefsByIdentity);
+            this.componentChunk = new ArrayList<>(streamingChunkSize);
+            this.serviceChunk = new ArrayList<>(streamingChunkSize);
+        }
+
+        @Override
+        public void visitComponent(final org.cyclonedx.model.Component cdxComponent) {
+            visitComponents(List.of(convertComponent(cdxComponent)));
+        }
+
+        @Override
+        public void visitService(final org.cyclonedx.model.Service cdxService) {
+            final List<ServiceComponent> services = flatten(List.of(convertService(cdxService)),
+                    ServiceComponent::getChildren, ServiceComponent::setChildren);
+            for (final ServiceComponent service : services) {
+                numServicesTotal++;
+                if (distinctServicesFilter.test(service)) {
+                    serviceChunk.add(service);
+                }
+            }
+
+            if (serviceChunk.size() >= streamingChunkSize) {
+                processServiceChunk();
+            }
+        }
+
+        private void visitComponents(final List<Component> components) {
+            for (final Component component : flatten(components, Component::getChildren, Component::setChildren)) {
+                numComponentsTotal++;
+                if (distinctComponentsFilter.test(component)) {
+                    componentChunk.add(component);
+                }
+            }
+
+            if (componentChunk.size() >= streamingChunkSize) {
+                processComponentChunk();
+            }
+        }
+
+        private void processComponentChunk() {
+            if (componentChunk.isEmpty()) {
+                return;
+            }
+
+            // Identities of the components as they appear in the BOM. Persisting the components
+            // will assign UUIDs to them, which in turn changes their identity.
+            final var identitiesByChunkBomRef = new HashMap<String, ComponentIdentity>(componentChunk.size());
+            for (final Component component : componentChunk) {
+                identitiesByChunkBomRef.putIfAbsent(component.getBomRef(), new ComponentIdentity(component));
+            }
+
+            LOGGER.debug("Processing chunk of %d components".formatted(componentChunk.size()));
+            final Map<ComponentIdentity, Component> persistentComponentsByIdentity = qm.callInTransaction(
+                    () -> upsertComponents(qm, project, componentChunk, identitiesByBomRef, bomRefsByIdentity,
+                            existingComponentIdsByIdentity, idsOfComponentsToDelete, licenseCache, customLicenseCache));
+
+            for (final Map.Entry<String, ComponentIdentity> entry : identitiesByChunkBomRef.entrySet()) {
+                persistentIdentitiesByIdentity.put(entry.getValue(), identitiesByBomRef.get(entry.getKey()));
+            }
+            for (final Map.Entry<ComponentIdentity, Component> entry : persistentComponentsByIdentity.entrySet()) {
+                componentIdsByIdentity.put(entry.getKey(), entry.getValue().getId());
+            }
+
+            final Collection<Component> componentsToAnalyze = selectComponentsToAnalyze(persistentComponentsByIdentity.values());
+            addVulnAnalysisGroups(ctx, componentsToAnalyze, vulnAnalysisGroupsByIdentity);
+            repoMetaAnalysisEvents.addAll(createRepoMetaAnalysisEvents(componentsToAnalyze));
+
+            componentChunk.clear();
+            qm.getPersistenceManager().evictAll(false, Component.class);
+        }
+
+        private void processServiceChunk() {
+            if (serviceChunk.isEmpty()) {
+                return;
+            }
+
+            final var identitiesByChunkBomRef = new HashMap<String, ComponentIdentity>(serviceChunk.size());
+            for (final ServiceComponent service : serviceChunk) {
+                identitiesByChunkBomRef.putIfAbsent(service.getBomRef(), new ComponentIdentity(service));
+            }
+
+            LOGGER.debug("Processing chunk of %d services".formatted(serviceChunk.size()));
+            qm.runInTransaction(() -> {
+                upsertServices(qm, project, serviceChunk, identitiesByBomRef, bomRefsByIdentity, idsOfServicesToDelete);
+            });
+            numServicesProcessed += serviceChunk.size();
+
+            for (final Map.Entry<String, ComponentIdentity> entry : identitiesByChunkBomRef.entrySet()) {
+                persistentIdentitiesByIdentity.put(entry.getValue(), identitiesByBomRef.get(entry.getKey()));
+            }
+
+            serviceChunk.clear();
+            qm.getPersistenceManager().evictAll(false, ServiceComponent.class);
+        }
+
+        private void complete(final MultiValuedMap<String, String> dependencyGraph) {
+            processComponentChunk();
+            processServiceChunk();
+            LOGGER.info("""
+                    Processed %d components (%d before de-duplication), and %d services \
+                    (%d before de-duplication)""".formatted(componentIdsByIdentity.size(), numComponentsTotal,
+                    numServicesProcessed, numServicesTotal));
+
+            // Components and services may have been de-duplicated against an element of a previous chunk.
+            // Their BOM refs still point to the identity the element had *before* it was persisted.
+            for (final Map.Entry<ComponentIdentity, ComponentIdentity> entry : persistentIdentitiesByIdentity.entrySet()) {
+                for (final String bomRef : bomRefsByIdentity.get(entry.getKey())) {
+                    identitiesByBomRef.put(bomRef, entry.getValue());
+                }
+            }
+
+            LOGGER.info("Processing %d dependency graph entries".formatted(dependencyGraph.asMap().size()));
+            qm.runInTransaction(() -> processProjectDirectDependencies(qm, project, dependencyGraph, identitiesByBomRef));
+
+            final var directDependenciesByComponentId = new HashMap<Long, String>(streamingChunkSize);
+            for (final Map.Entry<String, ComponentIdentity> entry : identitiesByBomRef.entrySet()) {
+                final String componentBomRef = entry.getKey();
+                final Long componentId = componentIdsByIdentity.get(entry.getValue());
+                if (componentId == null) {
+                    LOGGER.warn("""
+                            Unable to resolve component identity %s to a persistent component; \
+                            As a result, the dependency graph will likely be incomplete\
+                            """.formatted(entry.getValue().toJSON()));
+                    continue;
+                }
+
+                final Collection<String> directDependencyBomRefs = dependencyGraph.get(componentBomRef);
+                directDependenciesByComponentId.put(componentId,
+                        resolveDirectDependenciesJson(componentBomRef, directDependencyBomRefs, identitiesByBomRef));
+                if (directDependenciesByComponentId.size() >= streamingChunkSize) {
+                    qm.runInTransaction(() -> applyDirectDependencies(qm, directDependenciesByComponentId));
+                    qm.getPersistenceManager().evictAll(false, Component.class);
+                    directDependenciesByComponentId.clear();
+                }
+            }
+            if (!directDependenciesByComponentId.isEmpty()) {
+                qm.runInTransaction(() -> applyDirectDependencies(qm, directDependenciesByComponentId));
+                qm.getPersistenceManager().evictAll(false, Component.class);
+            }
+
+            qm.runInTransaction(() -> {
+                final long componentsDeleted = deleteComponentsById(qm, idsOfComponentsToDelete);
+                final long servicesDeleted = deleteServicesById(qm, idsOfServicesToDelete);
+                if (componentsDeleted > 0 || servicesDeleted > 0) {
+                    qm.getPersistenceManager().flush();
+                }
+
+                recordBomImport(ctx, qm, project);
+            });
+        }
+
+    }
+
+    private static void applyDirectDependencies(final QueryManager qm, final Map<Long, String> directDependenciesByComponentId) {
+        final Query<Component> query = qm.getPersistenceManager().newQuery(Component.class);
+        query.setFilter(":ids.contains(id)");
+        query.setParameters(directDependenciesByComponentId.keySet());
+
+        try {
+            for (final Component component : query.executeList()) {
+                final String directDependenciesJson = directDependenciesByComponentId.get(component.getId());
+                if (!Objects.equals(directDependenciesJson, component.getDirectDependencies())) {
+                    component.setDirectDependencies(directDependenciesJson);
+                }
+            }
+        } finally {
+            query.closeAll();
+        }
+
+        qm.getPersistenceManager().flush();
+    }
+
+    private static void deleteBomFile(final Path bomFilePath) {
+        try {
+            Files.deleteIfExists(bomFilePath);
+        } catch (IOException e) {
+            LOGGER.warn("Failed to delete BOM file %s".formatted(bomFilePath), e);
+        }
+    }
+
     private record ConsumedBom(
             Project project,
             ProjectMetadata projectMetadata,
@@ -308,43 +733,7 @@ public class BomUploadProcessingTask implements Subscriber {
 
     private ProcessedBom processBom(final Context ctx, final ConsumedBom bom) {
         try (final var qm = new QueryManager()) {
-            // Disable reachability checks on commit.
-            // See https://www.datanucleus.org/products/accessplatform_4_1/jdo/performance_tuning.html
-            //
-            // Persistence-by-reachability is an expensive operation that involves traversing the entire
-            // object graph, and potentially issuing multiple database operations in doing so.
-            //
-            // It also enables cascading operations (both for persisting and deleting), but we don't need them here.
-            // If this circumstance ever changes, this property may be flicked to "true" again, at the cost of
-            // a noticeable performance hit.
-            // See:
-            //   https://www.datanucleus.org/products/accessplatform_6_0/jdo/persistence.html#cascading
-            //   https://www.datanucleus.org/products/accessplatform_6_0/jdo/persistence.html#_managing_relationships
-            qm.getPersistenceManager().setProperty(PROPERTY_PERSISTENCE_BY_REACHABILITY_AT_COMMIT, "false");
-
-            // Save some database round-trips by only flushing changes every FLUSH_THRESHOLD write operations.
-            // See https://www.datanucleus.org/products/accessplatform_4_1/jdo/performance_tuning.html
-            //
-            // Note: Queries (SELECT) will always directly hit the database. Using manual flushing means
-            // changes made before flush are not visible to queries. If "read-your-writes" is critical,
-            // either flush immediately after making changes, or change the FlushMode back to AUTO (the default).
-            // AUTO will flush all changes to the database immediately, on every single setter invocation.
-            //
-            // Another option would be to set FlushMode to QUERY, where flushes will be performed before *any*
-            // query. Hibernate has a smart(er) behavior, where it checks if the query "touches" non-flushed
-            // data, and only flushes if that's the case. DataNucleus is not as smart, and will always flush.
-            // Still, QUERY may be a nice middle-ground between AUTO and MANUAL.
-            //
-            // BomUploadProcessingTaskTest#informWithBloatedBomTest can be used to profile the impact on large BOMs.
-            qm.getPersistenceManager().setProperty(PROPERTY_FLUSH_MODE, FlushMode.MANUAL.name());
-
-            // Prevent object fields from being unloaded upon commit.
-            //
-            // DataNucleus transitions objects into the "hollow" state after the transaction is committed.
-            // In hollow state, all fields except the ID are unloaded. Accessing fields afterward triggers
-            // one or more database queries to load them again.
-            // See https://www.datanucleus.org/products/accessplatform_6_0/jdo/persistence.html#lifecycle
-            qm.getPersistenceManager().setProperty(PROPERTY_RETAIN_VALUES, "true");
+            configurePersistenceManager(qm);
 
             return qm.callInTransaction(() -> {
                 final Project persistentProject = processProject(ctx, qm, bom.project(), bom.projectMetadata());
@@ -371,6 +760,46 @@ public class BomUploadProcessingTask implements Subscriber {
         }
     }
 
+    private static void configurePersistenceManager(final QueryManager qm) {
+        // Disable reachability checks on commit.
+        // See https://www.datanucleus.org/products/accessplatform_4_1/jdo/performance_tuning.html
+        //
+        // Persistence-by-reachability is an expensive operation that involves traversing the entire
+        // object graph, and potentially issuing multiple database operations in doing so.
+        //
+        // It also enables cascading operations (both for persisting and deleting), but we don't need them here.
+        // If this circumstance ever changes, this property may be flicked to "true" again, at the cost of
+        // a noticeable performance hit.
+        // See:
+        //   https://www.datanucleus.org/products/accessplatform_6_0/jdo/persistence.html#cascading
+        //   https://www.datanucleus.org/products/accessplatform_6_0/jdo/persistence.html#_managing_relationships
+        qm.getPersistenceManager().setProperty(PROPERTY_PERSISTENCE_BY_REACHABILITY_AT_COMMIT, "false");
+
+        // Save some database round-trips by only flushing changes every FLUSH_THRESHOLD write operations.
+        // See https://www.datanucleus.org/products/accessplatform_4_1/jdo/performance_tuning.html
+        //
+        // Note: Queries (SELECT) will always directly hit the database. Using manual flushing means
+        // changes made before flush are not visible to queries. If "read-your-writes" is critical,
+        // either flush immediately after making changes, or change the FlushMode back to AUTO (the default).
+        // AUTO will flush all changes to the database immediately, on every single setter invocation.
+        //
+        // Another option would be to set FlushMode to QUERY, where flushes will be performed before *any*
+        // query. Hibernate has a smart(er) behavior, where it checks if the query "touches" non-flushed
+        // data, and only flushes if that's the case. DataNucleus is not as smart, and will always flush.
+        // Still, QUERY may be a nice middle-ground between AUTO and MANUAL.
+        //
+        // BomUploadProcessingTaskTest#informWithBloatedBomTest can be used to profile the impact on large BOMs.
+        qm.getPersistenceManager().setProperty(PROPERTY_FLUSH_MODE, FlushMode.MANUAL.name());
+
+        // Prevent object fields from being unloaded upon commit.
+        //
+        // DataNucleus transitions objects into the "hollow" state after the transaction is committed.
+        // In hollow state, all fields except the ID are unloaded. Accessing fields afterward triggers
+        // one or more database queries to load them again.
+        // See https://www.datanucleus.org/products/accessplatform_6_0/jdo/persistence.html#lifecycle
+        qm.getPersistenceManager().setProperty(PROPERTY_RETAIN_VALUES, "true");
+    }
+
     private static Project processProject(
             final Context ctx,
             final QueryManager qm,
@@ -439,9 +868,12 @@ public class BomUploadProcessingTask implements Subscriber {
     ) {
         assertPersistent(project, "Project must be persistent");
 
-        // Fetch IDs of all components that exist in the project already.
-        // We'll need them later to determine which components to delete.
-        final Set<Long> idsOfComponentsToDelete = getAllComponentIds(qm, project, Component.class);
+        // Fetch identities of all components that exist in the project already.
+        // We'll need them to match components in the BOM against existing ones,
+        // and to later determine which components to delete.
+        final MultiValuedMap<ExactComponentIdentity, Long> existingComponentIdsByIdentity =
+                getExistingComponentIdsByIdentity(qm, project);
+        final Set<Long> idsOfComponentsToDelete = new HashSet<>(existingComponentIdsByIdentity.values());
 
         // Avoid redundant queries by caching resolved licenses.
         // It is likely that if license IDs were present in a BOM,
@@ -452,33 +884,77 @@ public class BomUploadProcessingTask implements Subscriber {
         // To avoid any conflicts with license IDs, cache those separately.
         final var customLicenseCache = new HashMap<String, License>();
 
+        final Map<ComponentIdentity, Component> persistentComponents = upsertComponents(qm, project, components,
+                identitiesByBomRef, bomRefsByIdentity, existingComponentIdsByIdentity, idsOfComponentsToDelete,
+                licenseCache, customLicenseCache);
+
+        final long componentsDeleted = deleteComponentsById(qm, idsOfComponentsToDelete);
+        if (componentsDeleted > 0) {
+            qm.getPersistenceManager().flush();
+        }
+
+        return persistentComponents;
+    }
+
+    private static Map<ComponentIdentity, Component> upsertComponents(
+            final QueryManager qm,
+            final Project project,
+            final List<Component> components,
+            final Map<String, ComponentIdentity> identitiesByBomRef,
+            final MultiValuedMap<ComponentIdentity, String> bomRefsByIdentity,
+            final MultiValuedMap<ExactComponentIdentity, Long> existingComponentIdsByIdentity,
+            final Set<Long> idsOfComponentsToDelete,
+            final Map<String, License> licenseCache,
+            final Map<String, License> customLicenseCache
+    ) {
         final var internalComponentIdentifier = new InternalComponentIdentifier();
-        final var persistentComponents = new HashMap<ComponentIdentity, Component>();
+
+        // Match components against the identities of existing components in memory,
+        // such that all matched components can be fetched with a single query,
+        // instead of issuing one query per component.
+        final var matchedComponentIds = new IdentityHashMap<Component, Long>(components.size());
         for (final Component component : components) {
             component.setInternal(internalComponentIdentifier.isInternal(component));
             resolveAndApplyLicense(qm, component, licenseCache, customLicenseCache);
 
             final var componentIdentity = new ComponentIdentity(component);
-            Component persistentComponent;
-            try {
-                persistentComponent = qm.matchSingleIdentityExact(project, componentIdentity);
-            } catch (JDOUserException e) {
-                if (!(ExceptionUtils.getRootCause(e) instanceof QueryNotUniqueException)) {
-                    throw e;
-                }
-
+            final Collection<Long> matchingIds = existingComponentIdsByIdentity.get(new ExactComponentIdentity(componentIdentity));
+            if (matchingIds.isEmpty()) {
+                continue;
+            }
+            if (matchingIds.size() > 1) {
                 LOGGER.warn("""
                         More than one existing component match the identity %s; \
                         Proceeding with first match, others will be deleted\
                         """.formatted(componentIdentity.toJSON()));
-                persistentComponent = qm.matchFirstIdentityExact(project, componentIdentity);
             }
+
+            matchedComponentIds.put(component, matchingIds.iterator().next());
+        }
+
+        final Map<Long, Component> matchedComponentsById = getComponentsById(qm, matchedComponentIds.values());
+
+        final var persistentComponents = new HashMap<ComponentIdentity, Component>();
+        for (final Component component : components) {
+            final Long matchedComponentId = matchedComponentIds.get(component);
+            Component persistentComponent = matchedComponentId != null
+                    ? matchedComponentsById.get(matchedComponentId)
+                    : null;
+            final String bomFingerprint = computeFingerprint(component);
             if (persistentComponent == null) {
                 component.setProject(project);
+                component.setBomFingerprint(bomFingerprint);
                 persistentComponent = qm.getPersistenceManager().makePersistent(component);
                 persistentComponent.setNew(true); // Transient
+            } else if (bomFingerprint.equals(persistentComponent.getBomFingerprint())) {
+                // None of the BOM-supplied data changed since the last upload,
+                // so there's no need to compare individual fields.
+                persistentComponent.setBomRef(component.getBomRef()); // Transient
+                persistentComponent.setUnchanged(true); // Transient
+                idsOfComponentsToDelete.remove(persistentComponent.getId());
             } else {
                 persistentComponent.setBomRef(component.getBomRef()); // Transient
+                persistentComponent.setBomFingerprint(bomFingerprint);
                 applyIfChanged(persistentComponent, component, Component::getAuthor, persistentComponent::setAuthor);
                 applyIfChanged(persistentComponent, component, Component::getPublisher, persistentComponent::setPublisher);
                 applyIfChanged(persistentComponent, component, Component::getSupplier, persistentComponent::setSupplier);
@@ -526,12 +1002,6 @@ public class BomUploadProcessingTask implements Subscriber {
         }
 
         qm.getPersistenceManager().flush();
-
-        final long componentsDeleted = deleteComponentsById(qm, idsOfComponentsToDelete);
-        if (componentsDeleted > 0) {
-            qm.getPersistenceManager().flush();
-        }
-
         return persistentComponents;
     }
 
@@ -548,6 +1018,25 @@ public class BomUploadProcessingTask implements Subscriber {
         // We'll need them later to determine which services to delete.
         final Set<Long> idsOfServicesToDelete = getAllComponentIds(qm, project, ServiceComponent.class);
 
+        final Map<ComponentIdentity, ServiceComponent> persistentServices =
+                upsertServices(qm, project, services, identitiesByBomRef, bomRefsByIdentity, idsOfServicesToDelete);
+
+        final long servicesDeleted = deleteServicesById(qm, idsOfServicesToDelete);
+        if (servicesDeleted > 0) {
+            qm.getPersistenceManager().flush();
+        }
+
+        return persistentServices;
+    }
+
+    private static Map<ComponentIdentity, ServiceComponent> upsertServices(
+            final QueryManager qm,
+            final Project project,
+            final List<ServiceComponent> services,
+            final Map<String, ComponentIdentity> identitiesByBomRef,
+            final MultiValuedMap<ComponentIdentity, String> bomRefsByIdentity,
+            final Set<Long> idsOfServicesToDelete
+    ) {
         final var persistentServices = new HashMap<ComponentIdentity, ServiceComponent>();
 
         for (final ServiceComponent service : services) {
@@ -583,12 +1072,6 @@ public class BomUploadProcessingTask implements Subscriber {
         }
 
         qm.getPersistenceManager().flush();
-
-        final long servicesDeleted = deleteServicesById(qm, idsOfServicesToDelete);
-        if (servicesDeleted > 0) {
-            qm.getPersistenceManager().flush();
-        }
-
         return persistentServices;
     }
 
@@ -599,28 +1082,9 @@ public class BomUploadProcessingTask implements Subscriber {
             final Map<ComponentIdentity, Component> componentsByIdentity,
             final Map<String, ComponentIdentity> identitiesByBomRef
     ) {
-        assertPersistent(project, "Project must be persistent");
-
-        if (project.getBomRef() != null) {
-            final Collection<String> directDependencyBomRefs = dependencyGraph.get(project.getBomRef());
-            if (directDependencyBomRefs == null || directDependencyBomRefs.isEmpty()) {
-                LOGGER.warn("""
-                        The dependency graph has %d entries, but the project (metadata.component node of the BOM) \
-                        is not one of them; Graph will be incomplete because it is not possible to determine its root\
-                        """.formatted(dependencyGraph.size()));
-            }
-            final String directDependenciesJson = resolveDirectDependenciesJson(project.getBomRef(), directDependencyBomRefs, identitiesByBomRef);
-            if (!Objects.equals(directDependenciesJson, project.getDirectDependencies())) {
-                project.setDirectDependencies(directDependenciesJson);
-                qm.getPersistenceManager().flush();
-            }
-        } else {
-            // Make sure we don't retain stale data from previous BOM uploads.
-            if (project.getDirectDependencies() != null) {
-                project.setDirectDependencies(null);
-                qm.getPersistenceManager().flush();
-            }
-        }
+        // NB: The DEPENDENCY_GRAPH_EDGE table, which backs dependency graph queries,
+        // is kept in sync with the DIRECT_DEPENDENCIES columns by database triggers.
+        processProjectDirectDependencies(qm, project, dependencyGraph, identitiesByBomRef);
 
         for (final Map.Entry<String, ComponentIdentity> entry : identitiesByBomRef.entrySet()) {
             final String componentBomRef = entry.getKey();
@@ -647,6 +1111,36 @@ public class BomUploadProcessingTask implements Subscriber {
         qm.getPersistenceManager().flush();
     }
 
+    private void processProjectDirectDependencies(
+            final QueryManager qm,
+            final Project project,
+            final MultiValuedMap<String, String> dependencyGraph,
+            final Map<String, ComponentIdentity> identitiesByBomRef
+    ) {
+        assertPersistent(project, "Project must be persistent");
+
+        if (project.getBomRef() != null) {
+            final Collection<String> directDependencyBomRefs = dependencyGraph.get(project.getBomRef());
+            if (directDependencyBomRefs == null || directDependencyBomRefs.isEmpty()) {
+                LOGGER.warn("""
+                        The dependency graph has %d entries, but the project (metadata.component node of the BOM) \
+                        is not one of them; Graph will be incomplete because it is not possible to determine its root\
+                        """.formatted(dependencyGraph.size()));
+            }
+            final String directDependenciesJson = resolveDirectDependenciesJson(project.getBomRef(), directDependencyBomRefs, identitiesByBomRef);
+            if (!Objects.equals(directDependenciesJson, project.getDirectDependencies())) {
+                project.setDirectDependencies(directDependenciesJson);
+                qm.getPersistenceManager().flush();
+            }
+        } else {
+            // Make sure we don't retain stale data from previous BOM uploads.
+            if (project.getDirectDependencies() != null) {
+                project.setDirectDependencies(null);
+                qm.getPersistenceManager().flush();
+            }
+        }
+    }
+
     private static void recordBomImport(final Context ctx, final QueryManager qm, final Project project) {
         assertPersistent(project, "Project must be persistent");
 
@@ -782,6 +1276,109 @@ public class BomUploadProcessingTask implements Subscriber {
         }
     }
 
+    /**
+     * Identity of a component as relevant for vulnerability analysis.
+     * <p>
+     * Must be kept consistent with the identity used by
+     * {@link org.dependencytrack.persistence.jdbi.ComponentDao#getVulnAnalysisRepresentativesPage}.
+     */
+    private record VulnAnalysisIdentity(String purlCoordinates, String cpe, boolean internal) {
+
+        /**
+         * @return The {@link VulnAnalysisIdentity} of the {@link Component}, or {@code null} when it
+         * has neither purl coordinates nor CPE, or its purl coordinates are unknown
+         */
+        private static VulnAnalysisIdentity of(final Component component) {
+            if (component.getPurlCoordinates() != null) {
+                return new VulnAnalysisIdentity(component.getPurlCoordinates().canonicalize(),
+                        component.getCpe(), component.isInternal());
+            } else if (component.getPurl() == null && component.getCpe() != null) {
+                return new VulnAnalysisIdentity(null, component.getCpe(), component.isInternal());
+            }
+
+            return null;
+        }
+
+    }
+
+    /**
+     * A {@link ComponentVulnerabilityAnalysisEvent} in the making, for all components sharing a {@link VulnAnalysisIdentity}.
+     *
+     * @param event           The event for the first component of the group, without any new siblings
+     * @param newSiblingUuids {@link UUID}s of new {@link Component}s of the group, other than the first one
+     */
+    private record VulnAnalysisGroup(ComponentVulnerabilityAnalysisEvent event, Set<UUID> newSiblingUuids) {
+
+        private ComponentVulnerabilityAnalysisEvent toEvent() {
+            return newSiblingUuids.isEmpty() ? event : event.withNewSiblings(newSiblingUuids);
+        }
+
+    }
+
+    /**
+     * Identity of a component as matched by {@link QueryManager#matchSingleIdentityExact(Project, ComponentIdentity)}.
+     * <p>
+     * Unlike {@link ComponentIdentity}, this does not consider the component's UUID or object type,
+     * and compares PURLs in their canonical string representation, like the database query would.
+     */
+    private record ExactComponentIdentity(
+            String group,
+            String name,
+            String version,
+            String purl,
+            String cpe,
+            String swidTagId
+    ) {
+
+        private ExactComponentIdentity(final ComponentIdentity identity) {
+            this(identity.getGroup(), identity.getName(), identity.getVersion(),
+                    identity.getPurl() != null ? identity.getPurl().canonicalize() : null,
+                    identity.getCpe(), identity.getSwidTagId());
+        }
+
+        private ExactComponentIdentity(final ComponentIdentityRow row) {
+            this(row.group(), row.name(), row.version(), row.purl(), row.cpe(), row.swidTagId());
+        }
+
+    }
+
+    private static MultiValuedMap<ExactComponentIdentity, Long> getExistingComponentIdsByIdentity(
+            final QueryManager qm,
+            final Project project
+    ) {
+        final List<ComponentIdentityRow> identityRows = withJdbiHandle(qm,
+                handle -> handle.attach(ComponentDao.class).getIdentitiesByProject(project.getId()));
+
+        // Rows are ordered by ID, so the first ID per identity is the one of the oldest component.
+        final var componentIdsByIdentity = new ArrayListValuedHashMap<ExactComponentIdentity, Long>();
+        for (final ComponentIdentityRow identityRow : identityRows) {
+            componentIdsByIdentity.put(new ExactComponentIdentity(identityRow), identityRow.id());
+        }
+
+        return componentIdsByIdentity;
+    }
+
+    private static Map<Long, Component> getComponentsById(final QueryManager qm, final Collection<Long> componentIds) {
+        if (componentIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        final Query<Component> query = qm.getPersistenceManager().newQuery(Component.class);
+        query.setFilter(":ids.contains(id)");
+        query.setParameters(Set.copyOf(componentIds));
+
+        try {
+            final var componentsById = new HashMap<Long, Component>(componentIds.size());
+            for (final Component component : query.executeList()) {
+                componentsById.put(component.getId(), component);
+            }
+
+            return componentsById;
+        } finally {
+            query.closeAll();
+        }
+    }
+
     private static Predicate<Component> distinctComponentsByIdentity(
             final Map<String, ComponentIdentity> identitiesByBomRef,
             final MultiValuedMap<ComponentIdentity, String> bomRefsByIdentity
@@ -903,17 +1500,30 @@ public class BomUploadProcessingTask implements Subscriber {
                     vulnAnalysisWorkflowState.setStatus(WorkflowStatus.NOT_APPLICABLE);
                     vulnAnalysisWorkflowState.setUpdatedAt(new Date());
 
-                    final WorkflowState policyEvalWorkflowState =
-                            qm.getWorkflowStateByTokenAndStep(ctx.token, WorkflowStep.POLICY_EVALUATION);
-                    policyEvalWorkflowState.setStatus(WorkflowStatus.NOT_APPLICABLE);
-                    policyEvalWorkflowState.setUpdatedAt(new Date());
+                    if (!deltaEnabled) {
+                        final WorkflowState policyEvalWorkflowState =
+                                qm.getWorkflowStateByTokenAndStep(ctx.token, WorkflowStep.POLICY_EVALUATION);
+                        policyEvalWorkflowState.setStatus(WorkflowStatus.NOT_APPLICABLE);
+                        policyEvalWorkflowState.setUpdatedAt(new Date());
+                    }
                 });
             }
 
             // Trigger project metrics update no matter if vuln analysis is applicable or not.
             final ChainableEvent metricsUpdateEvent = new ProjectMetricsUpdateEvent(ctx.project.getUuid());
             metricsUpdateEvent.setChainIdentifier(ctx.token);
-            Event.dispatch(metricsUpdateEvent);
+
+            if (deltaEnabled) {
+                // In delta mode, no events being dispatched does not imply that the project has
+                // no components. Unchanged components must still be evaluated against policies.
+                final ChainableEvent policyEvalEvent = new ProjectPolicyEvaluationEvent(ctx.project.getUuid());
+                policyEvalEvent.setChainIdentifier(ctx.token);
+                policyEvalEvent.onSuccess(metricsUpdateEvent);
+                policyEvalEvent.onFailure(metricsUpdateEvent);
+                Event.dispatch(policyEvalEvent);
+            } else {
+                Event.dispatch(metricsUpdateEvent);
+            }
 
             return Collections.emptyList();
         }
@@ -998,16 +1608,54 @@ public class BomUploadProcessingTask implements Subscriber {
             final Context ctx,
             final Collection<Component> components
     ) {
-        return components.stream()
-                .map(component -> new ComponentVulnerabilityAnalysisEvent(
-                        ctx.token,
-                        component,
-                        VulnerabilityAnalysisLevel.BOM_UPLOAD_ANALYSIS,
-                        component.isNew()
-                ))
+        final var groupsByIdentity = new LinkedHashMap<Object, VulnAnalysisGroup>();
+        addVulnAnalysisGroups(ctx, components, groupsByIdentity);
+        return toVulnAnalysisEvents(groupsByIdentity);
+    }
+
+    private static List<ComponentVulnerabilityAnalysisEvent> toVulnAnalysisEvents(final Map<Object, VulnAnalysisGroup> groupsByIdentity) {
+        return groupsByIdentity.values().stream()
+                .map(VulnAnalysisGroup::toEvent)
                 .toList();
     }
 
+    /**
+     * Group the given {@link Component}s for the creation of {@link ComponentVulnerabilityAnalysisEvent}s,
+     * such that only one event is created per {@link VulnAnalysisIdentity}.
+     * <p>
+     * The results reported for a component are fanned out to all components of the project sharing
+     * its {@link VulnAnalysisIdentity} by {@link org.dependencytrack.event.kafka.processor.VulnerabilityScanResultProcessor}.
+     * Whether a component is new is tracked per component, such that only results fanned out to new components
+     * are reported as {@link NotificationGroup#NEW_VULNERABLE_DEPENDENCY}.
+     *
+     * @param ctx              The {@link Context} of the BOM upload
+     * @param components       The {@link Component}s to group
+     * @param groupsByIdentity {@link Map} of groups created so far, indexed by {@link VulnAnalysisIdentity},
+     *                         or by {@link Component} {@link UUID} for components without such identity
+     */
+    private static void addVulnAnalysisGroups(
+            final Context ctx,
+            final Collection<Component> components,
+            final Map<Object, VulnAnalysisGroup> groupsByIdentity
+    ) {
+        for (final Component component : components) {
+            final Object identity = Objects.requireNonNullElse(VulnAnalysisIdentity.of(component), component.getUuid());
+            final VulnAnalysisGroup existingGroup = groupsByIdentity.get(identity);
+            if (existingGroup == null) {
+                groupsByIdentity.put(identity, new VulnAnalysisGroup(
+                        new ComponentVulnerabilityAnalysisEvent(
+                                ctx.token,
+                                component,
+                                VulnerabilityAnalysisLevel.BOM_UPLOAD_ANALYSIS,
+                                component.isNew()
+                        ),
+                        new HashSet<>()));
+            } else if (component.isNew()) {
+                existingGroup.newSiblingUuids().add(component.getUuid());
+            }
+        }
+    }
+
     private static List<ComponentRepositoryMetaAnalysisEvent> createRepoMetaAnalysisEvents(final Collection<Component> components) {
         final var events = new ArrayList<ComponentRepositoryMetaAnalysisEvent>(components.size());
         // TODO: This should be more efficient (https://github.com/DependencyTrack/hyades/issues/1306)
@@ -27,6 +27,7 @@ import org.dependencytrack.model.WorkflowState;
 import org.dependencytrack.persistence.QueryManager;
 import org.dependencytrack.resources.v1.vo.CloneProjectRequest;
 
+import java.time.Duration;
 import java.util.Date;
 import java.util.UUID;
 
@@ -59,11 +60,13 @@ public class CloneProjectTask implements Subscriber {
                 }
                 try {
                     LOGGER.info("Cloning project: " + request.getProject());
+                    final long startTimeNs = System.nanoTime();
                     final Project project = qm.clone(UUID.fromString(request.getProject()),
                             request.getVersion(), request.includeTags(), request.includeProperties(),
                             request.includeComponents(), request.includeServices(), request.includeAuditHistory(), request.includeACL(), request.includePolicyViolations());
                     qm.updateWorkflowStateToComplete(workflowState);
-                    LOGGER.info("Cloned project: " + request.getProject() + " to " + project.getUuid());
+                    LOGGER.info("Cloned project: " + request.getProject() + " to " + project.getUuid()
+                            + " in " + Duration.ofNanos(System.nanoTime() - startTimeNs));
                 } catch (Exception ex) {
                     LOGGER.error("An error occurred while cloning project %s".formatted(request.getProject()), ex);
                     qm.updateWorkflowStateToFailed(workflowState, ex.getMessage());
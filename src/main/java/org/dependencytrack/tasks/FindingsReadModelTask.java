@@ -0,0 +1,138 @@
+/*
+ * This file is part of Dependency-Track.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.dependencytrack.tasks;
+
+import alpine.Config;
+import alpine.common.logging.Logger;
+import alpine.event.framework.Event;
+import alpine.event.framework.Subscriber;
+import org.dependencytrack.common.ConfigKey;
+import org.dependencytrack.event.FindingsReadModelCheckEvent;
+import org.dependencytrack.event.FindingsReadModelRebuildEvent;
+import org.dependencytrack.persistence.jdbi.ComponentDao;
+import org.dependencytrack.persistence.jdbi.FindingsReadModelDao;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.dependencytrack.persistence.jdbi.JdbiFactory.inJdbiTransaction;
+import static org.dependencytrack.persistence.jdbi.JdbiFactory.withJdbiHandle;
+import static org.dependencytrack.tasks.LockName.FINDINGS_READ_MODEL_TASK_LOCK;
+import static org.dependencytrack.util.LockProvider.executeWithLock;
+
+/**
+ * A {@link Subscriber} task that rebuilds the findings read model, or checks it for
+ * findings that are missing, outdated, or no longer existing, and repairs them.
+ *
+ * @see FindingsReadModelDao
+ * @see org.dependencytrack.persistence.FindingsReadModel
+ * @since 5.6.0
+ */
+public class FindingsReadModelTask implements Subscriber {
+
+    private static final Logger LOGGER = Logger.getLogger(FindingsReadModelTask.class);
+
+    private final int checkBatchSize;
+
+    @SuppressWarnings("unused") // Called by Alpine's event system
+    public FindingsReadModelTask() {
+        this(Config.getInstance().getPropertyAsInt(ConfigKey.TASK_FINDINGS_READ_MODEL_CHECK_BATCH_SIZE));
+    }
+
+    FindingsReadModelTask(final int checkBatchSize) {
+        this.checkBatchSize = checkBatchSize;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void inform(final Event e) {
+        if (e instanceof FindingsReadModelRebuildEvent) {
+            try {
+                executeWithLock(FINDINGS_READ_MODEL_TASK_LOCK, (Runnable) FindingsReadModelTask::rebuild);
+            } catch (RuntimeException ex) {
+                LOGGER.error("Rebuilding the findings read model failed", ex);
+            }
+        } else if (e instanceof FindingsReadModelCheckEvent) {
+            try {
+                executeWithLock(FINDINGS_READ_MODEL_TASK_LOCK, (Runnable) this::checkAndRepair);
+            } catch (RuntimeException ex) {
+                LOGGER.error("Checking the findings read model failed", ex);
+            }
+        }
+    }
+
+    private static void rebuild() {
+        LOGGER.info("Rebuilding findings read model");
+        final long startTimeNs = System.nanoTime();
+
+        final int numFindings = inJdbiTransaction(handle -> handle.attach(FindingsReadModelDao.class).rebuild());
+
+        LOGGER.info("Rebuilt findings read model with %d findings in %s"
+                .formatted(numFindings, Duration.ofNanos(System.nanoTime() - startTimeNs)));
+    }
+
+    private void checkAndRepair() {
+        if (withJdbiHandle(handle -> handle.attach(FindingsReadModelDao.class).isEmpty())) {
+            // Most likely the read model has just been enabled. Populating it in one go
+            // is a lot cheaper than repairing it in batches of components.
+            rebuild();
+            return;
+        }
+
+        LOGGER.info("Checking consistency of findings read model");
+        final long startTimeNs = System.nanoTime();
+
+        // Read model rows reference their component via foreign key, so ranges
+        // of component IDs cover both the source data and the read model.
+        int numRepaired = 0;
+        int numBatches = 0;
+        Long componentIdFrom = 0L;
+        while (componentIdFrom != null) {
+            final long batchComponentIdFrom = componentIdFrom;
+            final Long nextComponentIdFrom = withJdbiHandle(handle -> handle.attach(ComponentDao.class)
+                    .getNextComponentIdRangeStart(batchComponentIdFrom, checkBatchSize));
+            final long batchComponentIdTo = nextComponentIdFrom != null ? nextComponentIdFrom - 1 : Long.MAX_VALUE;
+
+            numRepaired += inJdbiTransaction(handle -> {
+                final var dao = handle.attach(FindingsReadModelDao.class);
+                final List<Long> componentIds = dao.getInconsistentComponentIds(batchComponentIdFrom, batchComponentIdTo);
+                if (!componentIds.isEmpty()) {
+                    dao.refreshComponents(componentIds);
+                }
+
+                return componentIds.size();
+            });
+            numBatches++;
+
+            componentIdFrom = nextComponentIdFrom;
+        }
+
+        if (numRepaired == 0) {
+            LOGGER.info("Findings read model is consistent (checked in %d batches, took %s)"
+                    .formatted(numBatches, Duration.ofNanos(System.nanoTime() - startTimeNs)));
+            return;
+        }
+
+        LOGGER.warn("Repaired inconsistent findings of %d components in the findings read model (checked in %d batches, took %s)"
+                .formatted(numRepaired, numBatches, Duration.ofNanos(System.nanoTime() - startTimeNs)));
+    }
+
+}
@@ -28,5 +28,7 @@ public enum LockName {
     PORTFOLIO_REPO_META_ANALYSIS_TASK_LOCK,
     PORTFOLIO_VULN_ANALYSIS_TASK_LOCK,
     INTEGRITY_META_INITIALIZER_LOCK,
-    VULNERABILITY_POLICY_BUNDLE_FETCH_TASK_LOCK
+    VULNERABILITY_POLICY_BUNDLE_FETCH_TASK_LOCK,
+    METRICS_COMPACTION_TASK_LOCK,
+    FINDINGS_READ_MODEL_TASK_LOCK
 }
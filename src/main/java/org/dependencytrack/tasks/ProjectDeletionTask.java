@@ -0,0 +1,163 @@
+/*
+ * This file is part of Dependency-Track.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.dependencytrack.tasks;
+
+import alpine.Config;
+import alpine.common.logging.Logger;
+import alpine.event.framework.Event;
+import alpine.event.framework.Subscriber;
+import org.dependencytrack.event.ProjectDeletionEvent;
+import org.dependencytrack.persistence.jdbi.ProjectDeletionDao;
+import org.dependencytrack.persistence.jdbi.ProjectDeletionDao.PendingProject;
+import org.slf4j.MDC;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.function.ToIntFunction;
+
+import static org.dependencytrack.common.ConfigKey.TASK_PROJECT_DELETION_BATCH_SIZE;
+import static org.dependencytrack.common.ConfigKey.TASK_PROJECT_DELETION_LEASE_DURATION;
+import static org.dependencytrack.common.MdcKeys.MDC_PROJECT_UUID;
+import static org.dependencytrack.persistence.jdbi.JdbiFactory.inJdbiTransaction;
+import static org.dependencytrack.persistence.jdbi.JdbiFactory.useJdbiHandle;
+import static org.dependencytrack.persistence.jdbi.JdbiFactory.useJdbiTransaction;
+import static org.dependencytrack.persistence.jdbi.JdbiFactory.withJdbiHandle;
+
+/**
+ * A {@link Subscriber} task that deletes projects pending asynchronous deletion.
+ * <p>
+ * Projects are claimed using {@code SELECT ... FOR UPDATE SKIP LOCKED}, such that multiple tasks, across
+ * all instances, can delete projects in parallel. Child projects are always deleted before their parents.
+ * <p>
+ * Components, services, and other potentially large sets of rows are deleted in batches, each in its own
+ * transaction. The lease on a project is renewed with every batch. Deletions interrupted by a restart are
+ * resumed by any instance once the lease expired, continuing with the rows that are still left.
+ *
+ * @see ProjectDeletionDao
+ * @since 5.6.0
+ */
+public class ProjectDeletionTask implements Subscriber {
+
+    private static final Logger LOGGER = Logger.getLogger(ProjectDeletionTask.class);
+
+    private final int batchSize;
+    private final long leaseDurationMillis;
+
+    @SuppressWarnings("unused") // Called by Alpine's event system
+    public ProjectDeletionTask() {
+        this(Config.getInstance().getPropertyAsInt(TASK_PROJECT_DELETION_BATCH_SIZE),
+                Config.getInstance().getPropertyAsInt(TASK_PROJECT_DELETION_LEASE_DURATION));
+    }
+
+    ProjectDeletionTask(final int batchSize, final long leaseDurationMillis) {
+        this.batchSize = batchSize;
+        this.leaseDurationMillis = leaseDurationMillis;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void inform(final Event e) {
+        if (e instanceof ProjectDeletionEvent) {
+            try {
+                processPendingProjects();
+            } catch (RuntimeException ex) {
+                LOGGER.error("An unexpected error occurred while deleting pending projects", ex);
+            }
+        }
+    }
+
+    private void processPendingProjects() {
+        List<PendingProject> pendingProjects = claimNext();
+        while (!pendingProjects.isEmpty()) {
+            for (final PendingProject pendingProject : pendingProjects) {
+                try (var ignoredMdcProjectUuid = MDC.putCloseable(MDC_PROJECT_UUID, pendingProject.projectUuid().toString())) {
+                    deleteProject(pendingProject);
+                } catch (RuntimeException ex) {
+                    // The project remains leased, and will be retried once the lease expired.
+                    LOGGER.error("Failed to delete project; Deletion will be retried in %s"
+                            .formatted(Duration.ofMillis(leaseDurationMillis)), ex);
+                }
+            }
+
+            pendingProjects = claimNext();
+        }
+
+        final int numCompleted = withJdbiHandle(handle -> handle.attach(ProjectDeletionDao.class).completeWorkflowSteps());
+        if (numCompleted > 0) {
+            LOGGER.info("Completed %d project deletion requests".formatted(numCompleted));
+        }
+    }
+
+    private void deleteProject(final PendingProject project) {
+        LOGGER.info("Deleting project");
+        final long startTimeNs = System.nanoTime();
+
+        // Prevent every deleted metrics row from causing the pointer to be moved to the next one.
+        useJdbiHandle(handle -> handle.attach(ProjectDeletionDao.class).clearLastProjectMetrics(project.projectId()));
+
+        final int numComponents = deleteInBatches(project, dao -> {
+            final List<Long> componentIds = dao.getComponentIds(project.projectId(), batchSize);
+            return componentIds.isEmpty() ? 0 : dao.deleteComponents(componentIds);
+        });
+        final int numServices = deleteInBatches(project, dao -> {
+            final List<Long> serviceIds = dao.getServiceComponentIds(project.projectId(), batchSize);
+            return serviceIds.isEmpty() ? 0 : dao.deleteServiceComponents(serviceIds);
+        });
+        deleteInBatches(project, dao -> dao.deleteProjectMetricsBatch(project.projectId(), batchSize));
+        deleteInBatches(project, dao -> dao.deleteBomsBatch(project.projectId(), batchSize));
+        deleteInBatches(project, dao -> dao.deleteVexsBatch(project.projectId(), batchSize));
+
+        useJdbiTransaction(handle -> {
+            final var dao = handle.attach(ProjectDeletionDao.class);
+            dao.deleteProject(project.projectId());
+            dao.recordProjectDeleted(project.token());
+        });
+
+        final long numRemaining = withJdbiHandle(handle -> handle.attach(ProjectDeletionDao.class).getRemaining(project.token()));
+        LOGGER.info("Deleted project with %d components and %d services in %s; %d projects remaining for token %s"
+                .formatted(numComponents, numServices, Duration.ofNanos(System.nanoTime() - startTimeNs), numRemaining, project.token()));
+    }
+
+    private int deleteInBatches(final PendingProject project, final ToIntFunction<ProjectDeletionDao> batchFunction) {
+        int numDeletedTotal = 0;
+        int numDeleted;
+        do {
+            numDeleted = inJdbiTransaction(handle -> {
+                final var dao = handle.attach(ProjectDeletionDao.class);
+                final int numDeletedInBatch = batchFunction.applyAsInt(dao);
+                if (numDeletedInBatch > 0) {
+                    dao.extendLease(project.projectId(), leaseDurationMillis);
+                    dao.updateWorkflowStepProgress(project.token());
+                }
+                return numDeletedInBatch;
+            });
+            numDeletedTotal += numDeleted;
+        } while (numDeleted > 0);
+
+        return numDeletedTotal;
+    }
+
+    private List<PendingProject> claimNext() {
+        // Claim one project at a time, such that idle instances can pick up the remaining ones.
+        return withJdbiHandle(handle -> handle.attach(ProjectDeletionDao.class).claim(1, leaseDurationMillis));
+    }
+
+}
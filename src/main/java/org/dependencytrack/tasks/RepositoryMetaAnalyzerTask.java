@@ -18,31 +18,47 @@
  */
 package org.dependencytrack.tasks;
 
+import alpine.Config;
 import alpine.common.logging.Logger;
 import alpine.event.framework.Event;
 import alpine.event.framework.Subscriber;
+import com.github.packageurl.PackageURL;
 import net.javacrumbs.shedlock.core.LockConfiguration;
 import net.javacrumbs.shedlock.core.LockExtender;
 import net.javacrumbs.shedlock.core.LockingTaskExecutor;
+import org.dependencytrack.common.ConfigKey;
 import org.dependencytrack.event.ComponentRepositoryMetaAnalysisEvent;
 import org.dependencytrack.event.PortfolioRepositoryMetaAnalysisEvent;
 import org.dependencytrack.event.ProjectRepositoryMetaAnalysisEvent;
+import org.dependencytrack.event.kafka.KafkaEvent;
+import org.dependencytrack.event.kafka.KafkaEventConverter;
 import org.dependencytrack.event.kafka.KafkaEventDispatcher;
 import org.dependencytrack.model.Component;
 import org.dependencytrack.model.Project;
+import org.dependencytrack.model.RepositoryType;
 import org.dependencytrack.persistence.QueryManager;
+import org.dependencytrack.persistence.jdbi.ComponentDao;
+import org.dependencytrack.persistence.jdbi.ComponentDao.PurlCoordinatesRow;
+import org.dependencytrack.persistence.jdbi.RepositoryMetaComponentDao;
+import org.dependencytrack.persistence.jdbi.RepositoryMetaComponentDao.PackageKey;
 import org.dependencytrack.proto.repometaanalysis.v1.FetchMeta;
 import org.dependencytrack.util.LockProvider;
 
 import javax.jdo.PersistenceManager;
 import javax.jdo.Query;
 import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
+import static org.dependencytrack.persistence.jdbi.JdbiFactory.withJdbiHandle;
 import static org.dependencytrack.tasks.LockName.PORTFOLIO_REPO_META_ANALYSIS_TASK_LOCK;
 import static org.dependencytrack.util.LockProvider.isLockToBeExtended;
+import static org.dependencytrack.util.PurlUtil.silentPurl;
 
 /**
  * A {@link Subscriber} to {@link ProjectRepositoryMetaAnalysisEvent} and {@link PortfolioRepositoryMetaAnalysisEvent}
@@ -52,12 +68,31 @@ import static org.dependencytrack.util.LockProvider.isLockToBeExtended;
  * As repository metadata analysis is purely based on PURLs, and does not (currently) consider PURL qualifiers,
  * components are submitted by distinct PURL coordinates. As such, there is no 1:1 correlation between total number
  * of components in the portfolio or project, and records submitted for analysis.
+ * <p>
+ * When {@link ConfigKey#REPO_META_ANALYSIS_PORTFOLIO_INCREMENTAL_ENABLED} is enabled, portfolio analyses
+ * additionally skip packages whose repository metadata has been checked within
+ * {@link ConfigKey#REPO_META_ANALYSIS_PORTFOLIO_FRESHNESS_DURATION}, e.g. due to a recent BOM upload.
  */
 public class RepositoryMetaAnalyzerTask implements Subscriber {
 
     private static final Logger LOGGER = Logger.getLogger(RepositoryMetaAnalyzerTask.class);
 
     private final KafkaEventDispatcher kafkaEventDispatcher = new KafkaEventDispatcher();
+    private final boolean incrementalPortfolioAnalysisEnabled;
+    private final Duration freshnessDuration;
+
+    @SuppressWarnings("unused") // Called by Alpine's event system
+    public RepositoryMetaAnalyzerTask() {
+        this(
+                Config.getInstance().getPropertyAsBoolean(ConfigKey.REPO_META_ANALYSIS_PORTFOLIO_INCREMENTAL_ENABLED),
+                Duration.parse(Config.getInstance().getProperty(ConfigKey.REPO_META_ANALYSIS_PORTFOLIO_FRESHNESS_DURATION))
+        );
+    }
+
+    RepositoryMetaAnalyzerTask(final boolean incrementalPortfolioAnalysisEnabled, final Duration freshnessDuration) {
+        this.incrementalPortfolioAnalysisEnabled = incrementalPortfolioAnalysisEnabled;
+        this.freshnessDuration = freshnessDuration;
+    }
 
     /**
      * {@inheritDoc}
@@ -74,7 +109,11 @@ public class RepositoryMetaAnalyzerTask implements Subscriber {
             }
         } else if (e instanceof PortfolioRepositoryMetaAnalysisEvent) {
             try {
-                LockProvider.executeWithLock(PORTFOLIO_REPO_META_ANALYSIS_TASK_LOCK, (LockingTaskExecutor.Task) () -> processPortfolio());
+                if (incrementalPortfolioAnalysisEnabled) {
+                    LockProvider.executeWithLock(PORTFOLIO_REPO_META_ANALYSIS_TASK_LOCK, (LockingTaskExecutor.Task) this::processPortfolioIncrementally);
+                } else {
+                    LockProvider.executeWithLock(PORTFOLIO_REPO_META_ANALYSIS_TASK_LOCK, (LockingTaskExecutor.Task) () -> processPortfolio());
+                }
             } catch (Throwable ex) {
                 LOGGER.error("An unexpected error occurred while submitting components for repository meta analysis", ex);
             }
@@ -134,6 +173,68 @@ public class RepositoryMetaAnalyzerTask implements Subscriber {
         LOGGER.info("All components in portfolio submitted for repository meta analysis");
     }
 
+    /**
+     * Submit all distinct PURL coordinates in the portfolio for repository meta analysis,
+     * unless their package has been checked within {@link #freshnessDuration}.
+     * <p>
+     * Unlike {@link #processPortfolio()}, PURL coordinates are paged through using keyset pagination,
+     * and the events of each page are dispatched in a single batch.
+     */
+    private void processPortfolioIncrementally() {
+        LOGGER.info("Submitting all components in portfolio that were not checked within the last %s for repository meta analysis"
+                .formatted(freshnessDuration));
+
+        final LockConfiguration lockConfiguration = LockProvider.getLockConfigurationByLockName(PORTFOLIO_REPO_META_ANALYSIS_TASK_LOCK);
+        final Instant checkedSince = Instant.now().minus(freshnessDuration);
+        long dispatched = 0;
+        long skipped = 0;
+
+        final long startTime = System.currentTimeMillis();
+        List<PurlCoordinatesRow> purlCoordinatesPage = fetchNextPurlCoordinatesPage(null, false);
+        while (!purlCoordinatesPage.isEmpty()) {
+            final long cumulativeProcessingTime = System.currentTimeMillis() - startTime;
+            if (isLockToBeExtended(cumulativeProcessingTime, PORTFOLIO_REPO_META_ANALYSIS_TASK_LOCK)) {
+                LockExtender.extendActiveLock(Duration.ofMinutes(5).plus(lockConfiguration.getLockAtLeastFor()), lockConfiguration.getLockAtLeastFor());
+            }
+
+            final var packageKeyByPurlCoordinates = new HashMap<String, PackageKey>(purlCoordinatesPage.size());
+            for (final PurlCoordinatesRow row : purlCoordinatesPage) {
+                final PackageURL purl = silentPurl(row.purlCoordinates());
+                if (purl != null) {
+                    packageKeyByPurlCoordinates.put(row.purlCoordinates(), new PackageKey(
+                            RepositoryType.resolve(purl).name(), purl.getNamespace(), purl.getName()));
+                }
+            }
+            final Set<PackageKey> checkedPackageKeys = withJdbiHandle(handle -> handle.attach(RepositoryMetaComponentDao.class)
+                    .getCheckedSince(Set.copyOf(packageKeyByPurlCoordinates.values()), checkedSince));
+
+            final var events = new ArrayList<KafkaEvent<?, ?>>(purlCoordinatesPage.size());
+            for (final PurlCoordinatesRow row : purlCoordinatesPage) {
+                final PackageKey packageKey = packageKeyByPurlCoordinates.get(row.purlCoordinates());
+                if (packageKey != null && checkedPackageKeys.contains(packageKey)) {
+                    skipped++;
+                    continue;
+                }
+
+                events.add(KafkaEventConverter.convert(new ComponentRepositoryMetaAnalysisEvent(
+                        null, row.purlCoordinates(), row.internal(), FetchMeta.FETCH_META_LATEST_VERSION)));
+            }
+            CompletableFuture.allOf(kafkaEventDispatcher.dispatchAll(events).toArray(new CompletableFuture[0])).join();
+            dispatched += events.size();
+
+            final PurlCoordinatesRow lastRow = purlCoordinatesPage.getLast();
+            purlCoordinatesPage = fetchNextPurlCoordinatesPage(lastRow.purlCoordinates(), lastRow.internal());
+        }
+
+        LOGGER.info("Submitted %d distinct PURL coordinates in portfolio for repository meta analysis; Skipped %d that were checked within the last %s"
+                .formatted(dispatched, skipped, freshnessDuration));
+    }
+
+    private static List<PurlCoordinatesRow> fetchNextPurlCoordinatesPage(final String afterPurlCoordinates, final boolean afterInternal) {
+        return withJdbiHandle(handle -> handle.attach(ComponentDao.class)
+                .getDistinctPurlCoordinatesPage(afterPurlCoordinates, afterInternal, 5000));
+    }
+
     private void dispatchComponents(final List<ComponentProjection> components) {
         for (final var component : components) {
             kafkaEventDispatcher.dispatchEvent(new ComponentRepositoryMetaAnalysisEvent(null, component.purlCoordinates(), component.internal(), FetchMeta.FETCH_META_LATEST_VERSION));
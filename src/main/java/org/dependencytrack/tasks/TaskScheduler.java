@@ -27,21 +27,27 @@ import com.asahaf.javacron.InvalidExpressionException;
 import com.asahaf.javacron.Schedule;
 import org.dependencytrack.common.ConfigKey;
 import org.dependencytrack.event.DefectDojoUploadEventAbstract;
+import org.dependencytrack.event.DirtyProjectMetricsUpdateEvent;
 import org.dependencytrack.event.EpssMirrorEvent;
+import org.dependencytrack.event.FindingsReadModelCheckEvent;
 import org.dependencytrack.event.FortifySscUploadEventAbstract;
 import org.dependencytrack.event.GitHubAdvisoryMirrorEvent;
 import org.dependencytrack.event.IntegrityMetaInitializerEvent;
 import org.dependencytrack.event.InternalComponentIdentificationEvent;
 import org.dependencytrack.event.KennaSecurityUploadEventAbstract;
+import org.dependencytrack.event.MetricsCompactionEvent;
 import org.dependencytrack.event.NistMirrorEvent;
 import org.dependencytrack.event.OsvMirrorEvent;
 import org.dependencytrack.event.PortfolioMetricsUpdateEvent;
+import org.dependencytrack.event.PortfolioMetricsWorkEvent;
 import org.dependencytrack.event.PortfolioRepositoryMetaAnalysisEvent;
 import org.dependencytrack.event.PortfolioVulnerabilityAnalysisEvent;
+import org.dependencytrack.event.ProjectDeletionEvent;
 import org.dependencytrack.event.VulnerabilityMetricsUpdateEvent;
 import org.dependencytrack.event.VulnerabilityPolicyFetchEvent;
 import org.dependencytrack.event.VulnerabilityScanCleanupEvent;
 import org.dependencytrack.event.WorkflowStateCleanupEvent;
+import org.dependencytrack.metrics.Metrics;
 import org.dependencytrack.model.ConfigPropertyConstants;
 import org.dependencytrack.persistence.QueryManager;
 
@@ -51,19 +57,28 @@ import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import static org.dependencytrack.common.ConfigKey.CRON_EXPRESSION_FOR_COMPONENT_IDENTIFICATION_TASK;
+import static org.dependencytrack.common.ConfigKey.CRON_EXPRESSION_FOR_DIRTY_PROJECT_METRICS_TASK;
 import static org.dependencytrack.common.ConfigKey.CRON_EXPRESSION_FOR_EPSS_MIRRORING_TASK;
+import static org.dependencytrack.common.ConfigKey.CRON_EXPRESSION_FOR_FINDINGS_READ_MODEL_CHECK_TASK;
+import static org.dependencytrack.common.ConfigKey.CRON_EXPRESSION_FOR_FULL_PROJECT_METRICS_TASK;
 import static org.dependencytrack.common.ConfigKey.CRON_EXPRESSION_FOR_GITHUB_MIRRORING_TASK;
 import static org.dependencytrack.common.ConfigKey.CRON_EXPRESSION_FOR_INTEGRITY_META_INITIALIZER_TASK;
 import static org.dependencytrack.common.ConfigKey.CRON_EXPRESSION_FOR_LDAP_SYNC_TASK;
+import static org.dependencytrack.common.ConfigKey.CRON_EXPRESSION_FOR_METRICS_COMPACTION_TASK;
 import static org.dependencytrack.common.ConfigKey.CRON_EXPRESSION_FOR_NIST_MIRRORING_TASK;
 import static org.dependencytrack.common.ConfigKey.CRON_EXPRESSION_FOR_OSV_MIRRORING_TASK;
 import static org.dependencytrack.common.ConfigKey.CRON_EXPRESSION_FOR_PORTFOLIO_METRICS_TASK;
+import static org.dependencytrack.common.ConfigKey.CRON_EXPRESSION_FOR_PORTFOLIO_METRICS_WORK_TASK;
+import static org.dependencytrack.common.ConfigKey.CRON_EXPRESSION_FOR_PROJECT_DELETION_TASK;
 import static org.dependencytrack.common.ConfigKey.CRON_EXPRESSION_FOR_REPO_META_ANALYSIS_TASK;
 import static org.dependencytrack.common.ConfigKey.CRON_EXPRESSION_FOR_VULNERABILITY_METRICS_TASK;
 import static org.dependencytrack.common.ConfigKey.CRON_EXPRESSION_FOR_VULNERABILITY_POLICY_BUNDLE_FETCH_TASK;
 import static org.dependencytrack.common.ConfigKey.CRON_EXPRESSION_FOR_VULN_ANALYSIS_TASK;
 import static org.dependencytrack.common.ConfigKey.CRON_EXPRESSION_FOR_VULN_SCAN_CLEANUP_TASK;
 import static org.dependencytrack.common.ConfigKey.CRON_EXPRESSION_FOR_WORKFLOW_STATE_CLEANUP_TASK;
+import static org.dependencytrack.common.ConfigKey.FINDINGS_READ_MODEL_ENABLED;
+import static org.dependencytrack.common.ConfigKey.METRICS_COMPACTION_ENABLED;
+import static org.dependencytrack.common.ConfigKey.METRICS_PORTFOLIO_DISTRIBUTED_ENABLED;
 import static org.dependencytrack.model.ConfigPropertyConstants.DEFECTDOJO_ENABLED;
 import static org.dependencytrack.model.ConfigPropertyConstants.FORTIFY_SSC_ENABLED;
 import static org.dependencytrack.model.ConfigPropertyConstants.KENNA_ENABLED;
@@ -83,6 +98,10 @@ public final class TaskScheduler extends BaseTaskScheduler {
     private TaskScheduler() {
         final Config configInstance = Config.getInstance();
         try {
+            // When metrics are maintained incrementally, project metrics are kept up-to-date
+            // by DirtyProjectMetricsUpdateEvent, and portfolio metrics merely need to be aggregated.
+            final boolean isIncrementalMetricsEnabled = Metrics.isIncrementalUpdateEnabled();
+
             Map<Event, Schedule> configurableTasksMap = new HashMap<>();
             Map<Event, Schedule> eventScheduleMap = Map.ofEntries(
                     Map.entry(new VulnerabilityPolicyFetchEvent(), Schedule.create(configInstance.getProperty(CRON_EXPRESSION_FOR_VULNERABILITY_POLICY_BUNDLE_FETCH_TASK))),
@@ -91,16 +110,31 @@ public final class TaskScheduler extends BaseTaskScheduler {
                     Map.entry(new OsvMirrorEvent(null), Schedule.create(configInstance.getProperty(CRON_EXPRESSION_FOR_OSV_MIRRORING_TASK))),
                     Map.entry(new GitHubAdvisoryMirrorEvent(), Schedule.create(configInstance.getProperty(CRON_EXPRESSION_FOR_GITHUB_MIRRORING_TASK))),
                     Map.entry(new EpssMirrorEvent(), Schedule.create(configInstance.getProperty(CRON_EXPRESSION_FOR_EPSS_MIRRORING_TASK))),
-                    Map.entry(new PortfolioMetricsUpdateEvent(), Schedule.create(configInstance.getProperty(CRON_EXPRESSION_FOR_PORTFOLIO_METRICS_TASK))),
+                    Map.entry(new PortfolioMetricsUpdateEvent(!isIncrementalMetricsEnabled), Schedule.create(configInstance.getProperty(CRON_EXPRESSION_FOR_PORTFOLIO_METRICS_TASK))),
                     Map.entry(new VulnerabilityMetricsUpdateEvent(), Schedule.create(configInstance.getProperty(CRON_EXPRESSION_FOR_VULNERABILITY_METRICS_TASK))),
                     Map.entry(new InternalComponentIdentificationEvent(), Schedule.create(configInstance.getProperty(CRON_EXPRESSION_FOR_COMPONENT_IDENTIFICATION_TASK))),
                     Map.entry(new PortfolioVulnerabilityAnalysisEvent(), Schedule.create(configInstance.getProperty(CRON_EXPRESSION_FOR_VULN_ANALYSIS_TASK))),
                     Map.entry(new VulnerabilityScanCleanupEvent(), Schedule.create(configInstance.getProperty(CRON_EXPRESSION_FOR_VULN_SCAN_CLEANUP_TASK))),
                     Map.entry(new PortfolioRepositoryMetaAnalysisEvent(), Schedule.create(configInstance.getProperty(CRON_EXPRESSION_FOR_REPO_META_ANALYSIS_TASK))),
                     Map.entry(new WorkflowStateCleanupEvent(), Schedule.create(configInstance.getProperty(CRON_EXPRESSION_FOR_WORKFLOW_STATE_CLEANUP_TASK))),
+                    Map.entry(new ProjectDeletionEvent(), Schedule.create(configInstance.getProperty(CRON_EXPRESSION_FOR_PROJECT_DELETION_TASK))),
                     Map.entry(new IntegrityMetaInitializerEvent(), Schedule.create(configInstance.getProperty(CRON_EXPRESSION_FOR_INTEGRITY_META_INITIALIZER_TASK)))
             );
 
+            if (isIncrementalMetricsEnabled) {
+                configurableTasksMap.put(new DirtyProjectMetricsUpdateEvent(), Schedule.create(configInstance.getProperty(CRON_EXPRESSION_FOR_DIRTY_PROJECT_METRICS_TASK)));
+                // Safety net for changes that affect metrics without marking projects as dirty.
+                configurableTasksMap.put(new PortfolioMetricsUpdateEvent(true), Schedule.create(configInstance.getProperty(CRON_EXPRESSION_FOR_FULL_PROJECT_METRICS_TASK)));
+            }
+            if (configInstance.getPropertyAsBoolean(METRICS_PORTFOLIO_DISTRIBUTED_ENABLED)) {
+                configurableTasksMap.put(new PortfolioMetricsWorkEvent(), Schedule.create(configInstance.getProperty(CRON_EXPRESSION_FOR_PORTFOLIO_METRICS_WORK_TASK)));
+            }
+            if (configInstance.getPropertyAsBoolean(METRICS_COMPACTION_ENABLED)) {
+                configurableTasksMap.put(new MetricsCompactionEvent(), Schedule.create(configInstance.getProperty(CRON_EXPRESSION_FOR_METRICS_COMPACTION_TASK)));
+            }
+            if (configInstance.getPropertyAsBoolean(FINDINGS_READ_MODEL_ENABLED)) {
+                configurableTasksMap.put(new FindingsReadModelCheckEvent(), Schedule.create(configInstance.getProperty(CRON_EXPRESSION_FOR_FINDINGS_READ_MODEL_CHECK_TASK)));
+            }
             if (isTaskEnabled(FORTIFY_SSC_ENABLED)) {
                 configurableTasksMap.put(new FortifySscUploadEventAbstract(), Schedule.create(configInstance.getProperty(ConfigKey.CRON_EXPRESSION_FOR_FORTIFY_SSC_SYNC)));
             }
@@ -27,6 +27,7 @@ import org.cyclonedx.parsers.BomParserFactory;
 import org.cyclonedx.parsers.Parser;
 import org.dependencytrack.event.VexUploadEvent;
 import org.dependencytrack.event.kafka.KafkaEventDispatcher;
+import org.dependencytrack.metrics.Metrics;
 import org.dependencytrack.model.ConfigPropertyConstants;
 import org.dependencytrack.model.Project;
 import org.dependencytrack.model.Vex;
@@ -84,6 +85,7 @@ public class VexUploadProcessingTask implements Subscriber {
                         serialNumnber = cycloneDxBom.getSerialNumber();
                         final CycloneDXVexImporter vexImporter = new CycloneDXVexImporter();
                         vexImporter.applyVex(qm, cycloneDxBom, project);
+                        Metrics.markProjectDirty(project.getId());
                         LOGGER.info("Completed processing of CycloneDX VEX for project: " + event.getProjectUuid());
                     } else {
                         LOGGER.warn("A CycloneDX VEX was uploaded but accepting CycloneDX format is disabled. Aborting");
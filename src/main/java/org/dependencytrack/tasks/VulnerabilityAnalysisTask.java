@@ -28,21 +28,20 @@ import org.dependencytrack.event.ComponentVulnerabilityAnalysisEvent;
 import org.dependencytrack.event.PortfolioVulnerabilityAnalysisEvent;
 import org.dependencytrack.event.ProjectVulnerabilityAnalysisEvent;
 import org.dependencytrack.event.kafka.KafkaEventDispatcher;
-import org.dependencytrack.model.Component;
 import org.dependencytrack.model.Project;
 import org.dependencytrack.model.VulnerabilityAnalysisLevel;
 import org.dependencytrack.model.VulnerabilityScan;
 import org.dependencytrack.persistence.QueryManager;
+import org.dependencytrack.persistence.jdbi.ComponentDao;
+import org.dependencytrack.persistence.jdbi.ComponentDao.VulnAnalysisRepresentativeRow;
 import org.dependencytrack.util.LockProvider;
 
-import javax.jdo.PersistenceManager;
-import javax.jdo.Query;
 import java.time.Duration;
-import java.util.HashMap;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 
-import static java.lang.Math.toIntExact;
+import static org.dependencytrack.persistence.jdbi.JdbiFactory.withJdbiHandle;
 import static org.dependencytrack.tasks.LockName.PORTFOLIO_VULN_ANALYSIS_TASK_LOCK;
 import static org.dependencytrack.util.LockProvider.isLockToBeExtended;
 
@@ -84,8 +83,8 @@ public class VulnerabilityAnalysisTask implements Subscriber {
 
     private void processProject(final UUID projectUuid, final UUID scanToken) throws Exception {
         LOGGER.info("Submitting components of project %s for vulnerability analysis".formatted(projectUuid));
-        long submittedComponents = 0;
 
+        final long projectId;
         try (final var qm = new QueryManager()) {
             final Project project = qm.getObjectByUuid(Project.class, projectUuid);
             if (project == null) {
@@ -93,25 +92,30 @@ public class VulnerabilityAnalysisTask implements Subscriber {
                 return;
             }
 
-            final PersistenceManager pm = qm.getPersistenceManager();
-            final long componentCount = getComponentCount(pm, project);
-            if (componentCount == 0) {
-                LOGGER.info("Project %s does not have any components; Skipping".formatted(projectUuid));
-                return;
-            }
+            projectId = project.getId();
+        }
 
-            qm.createVulnerabilityScan(VulnerabilityScan.TargetType.PROJECT, projectUuid, scanToken.toString(), toIntExact(componentCount));
-            List<ComponentProjection> components = fetchNextComponentsPage(pm, project, null);
-            while (!components.isEmpty()) {
-                dispatchComponents(scanToken, components);
-                submittedComponents += components.size();
+        // Collect all components upfront, as the number of scans to expect
+        // must be known before the first scan command is dispatched.
+        final var components = new ArrayList<VulnAnalysisRepresentativeRow>();
+        List<VulnAnalysisRepresentativeRow> componentsPage = fetchNextComponentsPage(projectId, null);
+        while (!componentsPage.isEmpty()) {
+            components.addAll(componentsPage);
 
-                final long lastId = components.get(components.size() - 1).id();
-                components = fetchNextComponentsPage(qm.getPersistenceManager(), project, lastId);
-            }
+            final long lastId = componentsPage.get(componentsPage.size() - 1).id();
+            componentsPage = fetchNextComponentsPage(projectId, lastId);
+        }
+        if (components.isEmpty()) {
+            LOGGER.info("Project %s does not have any components to analyze; Skipping".formatted(projectUuid));
+            return;
         }
 
-        LOGGER.info("All components (%d) of project %s submitted for vulnerability analysis".formatted(submittedComponents, projectUuid));
+        try (final var qm = new QueryManager()) {
+            qm.createVulnerabilityScan(VulnerabilityScan.TargetType.PROJECT, projectUuid, scanToken.toString(), components.size());
+        }
+        dispatchComponents(scanToken, components);
+
+        LOGGER.info("All distinct components (%d) of project %s submitted for vulnerability analysis".formatted(components.size(), projectUuid));
     }
 
     private void processPortfolio(final UUID scanToken) throws Exception {
@@ -120,27 +124,24 @@ public class VulnerabilityAnalysisTask implements Subscriber {
         LockConfiguration lockConfiguration = LockProvider.getLockConfigurationByLockName(PORTFOLIO_VULN_ANALYSIS_TASK_LOCK);
         long submittedComponents = 0;
 
-        try (final QueryManager qm = new QueryManager()) {
-            final PersistenceManager pm = qm.getPersistenceManager();
-            long startTime = System.currentTimeMillis();
-            List<ComponentProjection> components = fetchNextComponentsPage(pm, null, null);
-            while (!components.isEmpty()) {
-                long cumulativeProcessingTime = System.currentTimeMillis() - startTime;
-                if (isLockToBeExtended(cumulativeProcessingTime, PORTFOLIO_VULN_ANALYSIS_TASK_LOCK)) {
-                    LockExtender.extendActiveLock(Duration.ofMinutes(5).plus(lockConfiguration.getLockAtLeastFor()), lockConfiguration.getLockAtLeastFor());
-                }
-                dispatchComponents(scanToken, components);
-                submittedComponents += components.size();
-
-                final long lastId = components.get(components.size() - 1).id();
-                components = fetchNextComponentsPage(qm.getPersistenceManager(), null, lastId);
+        long startTime = System.currentTimeMillis();
+        List<VulnAnalysisRepresentativeRow> components = fetchNextComponentsPage(null, null);
+        while (!components.isEmpty()) {
+            long cumulativeProcessingTime = System.currentTimeMillis() - startTime;
+            if (isLockToBeExtended(cumulativeProcessingTime, PORTFOLIO_VULN_ANALYSIS_TASK_LOCK)) {
+                LockExtender.extendActiveLock(Duration.ofMinutes(5).plus(lockConfiguration.getLockAtLeastFor()), lockConfiguration.getLockAtLeastFor());
             }
+            dispatchComponents(scanToken, components);
+            submittedComponents += components.size();
+
+            final long lastId = components.get(components.size() - 1).id();
+            components = fetchNextComponentsPage(null, lastId);
         }
 
-        LOGGER.info("All components (%d) in portfolio submitted for vulnerability analysis".formatted(submittedComponents));
+        LOGGER.info("All distinct components (%d) in portfolio submitted for vulnerability analysis".formatted(submittedComponents));
     }
 
-    private void dispatchComponents(final UUID scanToken, final List<ComponentProjection> components) {
+    private void dispatchComponents(final UUID scanToken, final List<VulnAnalysisRepresentativeRow> components) {
         for (final var component : components) {
             eventDispatcher.dispatchEvent(new ComponentVulnerabilityAnalysisEvent(scanToken,
                     component.uuid(), component.purl(), component.cpe(), component.swidTagId(),
@@ -148,38 +149,16 @@ public class VulnerabilityAnalysisTask implements Subscriber {
         }
     }
 
-    private List<ComponentProjection> fetchNextComponentsPage(final PersistenceManager pm, final Project project, final Long lastId) throws Exception {
-        try (final Query<Component> query = pm.newQuery(Component.class)) {
-            var filter = "project.active == :projectActive";
-            var params = new HashMap<String, Object>();
-            params.put("projectActive", true);
-            if (project != null) {
-                filter += " && project == :project";
-                params.put("project", project);
-            }
-            if (lastId != null) {
-                filter += " && id < :lastId";
-                params.put("lastId", lastId);
-            }
-            query.setFilter(filter);
-            query.setNamedParameters(params);
-            query.setOrdering("id DESC");
-            query.setRange(0, 5000);
-            query.setResult("id, uuid, purl, cpe, swidTagId, internal");
-            return List.copyOf(query.executeResultList(ComponentProjection.class));
-        }
-    }
-
-    private long getComponentCount(final PersistenceManager pm, final Project project) throws Exception {
-        try (final Query<Component> query = pm.newQuery(Component.class)) {
-            query.setFilter("project == :project");
-            query.setParameters(project);
-            query.setResult("count(this)");
-            return query.executeResultUnique(Long.class);
-        }
-    }
-
-    public record ComponentProjection(long id, UUID uuid, String purl, String cpe, String swidTagId, Boolean internal) {
+    /**
+     * Fetch the next page of components to submit for vulnerability analysis.
+     * <p>
+     * Of all components sharing the same analysis identity, only one representative is fetched.
+     * The results reported for it are fanned out to the remaining components by
+     * {@link org.dependencytrack.event.kafka.processor.VulnerabilityScanResultProcessor}.
+     */
+    private List<VulnAnalysisRepresentativeRow> fetchNextComponentsPage(final Long projectId, final Long lastId) {
+        return withJdbiHandle(handle -> handle.attach(ComponentDao.class)
+                .getVulnAnalysisRepresentativesPage(projectId, lastId, 5000));
     }
 
 }
@@ -0,0 +1,141 @@
+/*
+ * This file is part of Dependency-Track.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.dependencytrack.tasks.metrics;
+
+import alpine.Config;
+import alpine.common.logging.Logger;
+import alpine.common.metrics.Metrics;
+import alpine.event.framework.Event;
+import alpine.event.framework.Subscriber;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.BaseUnits;
+import org.dependencytrack.event.DirtyProjectMetricsUpdateEvent;
+import org.dependencytrack.persistence.jdbi.DirtyProjectMetricsDao;
+import org.dependencytrack.persistence.jdbi.DirtyProjectMetricsDao.DirtyProject;
+import org.slf4j.MDC;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.dependencytrack.common.ConfigKey.TASK_METRICS_DIRTY_BATCH_SIZE;
+import static org.dependencytrack.common.ConfigKey.TASK_METRICS_DIRTY_LEASE_DURATION;
+import static org.dependencytrack.common.MdcKeys.MDC_PROJECT_UUID;
+import static org.dependencytrack.persistence.jdbi.JdbiFactory.useJdbiHandle;
+import static org.dependencytrack.persistence.jdbi.JdbiFactory.withJdbiHandle;
+
+/**
+ * A {@link Subscriber} task that updates metrics of all projects that have been marked as dirty.
+ * <p>
+ * Dirty projects are leased in batches using {@code SELECT ... FOR UPDATE SKIP LOCKED},
+ * so multiple instances can drain the queue concurrently without coordinating via locks.
+ * Projects are only removed from the queue once their metrics have been updated.
+ * Projects whose update failed remain leased, and are retried once the lease expired.
+ *
+ * @see org.dependencytrack.metrics.Metrics#markProjectsDirty(org.jdbi.v3.core.Handle, java.util.Collection)
+ * @since 5.6.0
+ */
+public class DirtyProjectMetricsUpdateTask implements Subscriber {
+
+    private static final Logger LOGGER = Logger.getLogger(DirtyProjectMetricsUpdateTask.class);
+    private static final AtomicLong QUEUE_DEPTH = new AtomicLong();
+    private static final AtomicLong DRAIN_LATENCY_MILLIS = new AtomicLong();
+
+    static {
+        Gauge.builder("metrics_dirty_projects", QUEUE_DEPTH, AtomicLong::get)
+                .description("Number of projects whose metrics are out of date")
+                .register(Metrics.getRegistry());
+        Gauge.builder("metrics_dirty_projects_drain_latency", DRAIN_LATENCY_MILLIS, AtomicLong::get)
+                .description("Longest time between a project being marked as dirty and its metrics being updated, during the most recent drain")
+                .baseUnit(BaseUnits.MILLISECONDS)
+                .register(Metrics.getRegistry());
+    }
+
+    private final int batchSize;
+    private final long leaseDurationMillis;
+
+    public DirtyProjectMetricsUpdateTask() {
+        this(Config.getInstance().getPropertyAsInt(TASK_METRICS_DIRTY_BATCH_SIZE),
+                Config.getInstance().getPropertyAsInt(TASK_METRICS_DIRTY_LEASE_DURATION));
+    }
+
+    DirtyProjectMetricsUpdateTask(final int batchSize, final long leaseDurationMillis) {
+        this.batchSize = batchSize;
+        this.leaseDurationMillis = leaseDurationMillis;
+    }
+
+    @Override
+    public void inform(final Event e) {
+        if (e instanceof DirtyProjectMetricsUpdateEvent) {
+            try {
+                drain();
+            } catch (RuntimeException ex) {
+                LOGGER.error("An unexpected error occurred while updating metrics of dirty projects", ex);
+            } finally {
+                QUEUE_DEPTH.set(withJdbiHandle(handle -> handle.attach(DirtyProjectMetricsDao.class).getDepth()));
+            }
+        }
+    }
+
+    private void drain() {
+        final long startTimeNs = System.nanoTime();
+        long maxLatencyMillis = -1;
+        int numUpdated = 0;
+        int numFailed = 0;
+
+        try {
+            List<DirtyProject> dirtyProjects = claimNextBatch();
+            while (!dirtyProjects.isEmpty()) {
+                for (final DirtyProject dirtyProject : dirtyProjects) {
+                    try (var ignoredMdcProjectUuid = MDC.putCloseable(MDC_PROJECT_UUID, dirtyProject.projectUuid().toString())) {
+                        org.dependencytrack.metrics.Metrics.updateProjectMetrics(dirtyProject.projectUuid());
+                        useJdbiHandle(handle -> handle.attach(DirtyProjectMetricsDao.class)
+                                .complete(dirtyProject.projectId(), dirtyProject.markVersion()));
+                        numUpdated++;
+
+                        final long latencyMillis = Duration.between(dirtyProject.markedAt(), Instant.now()).toMillis();
+                        maxLatencyMillis = Math.max(maxLatencyMillis, latencyMillis);
+                    } catch (RuntimeException ex) {
+                        // The project remains leased, and will be retried once the lease expired.
+                        LOGGER.error("Failed to update metrics; Will retry in %s"
+                                .formatted(Duration.ofMillis(leaseDurationMillis)), ex);
+                        numFailed++;
+                    }
+                }
+
+                dirtyProjects = claimNextBatch();
+            }
+        } finally {
+            if (maxLatencyMillis >= 0) {
+                DRAIN_LATENCY_MILLIS.set(maxLatencyMillis);
+            }
+        }
+
+        if (numUpdated > 0 || numFailed > 0) {
+            LOGGER.info("Updated metrics of %d dirty projects (%d failed) in %s".formatted(
+                    numUpdated, numFailed, Duration.ofNanos(System.nanoTime() - startTimeNs)));
+        }
+    }
+
+    private List<DirtyProject> claimNextBatch() {
+        return withJdbiHandle(handle -> handle.attach(DirtyProjectMetricsDao.class).claim(batchSize, leaseDurationMillis));
+    }
+
+}
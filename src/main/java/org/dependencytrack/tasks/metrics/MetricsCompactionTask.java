@@ -0,0 +1,127 @@
+/*
+ * This file is part of Dependency-Track.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.dependencytrack.tasks.metrics;
+
+import alpine.Config;
+import alpine.common.logging.Logger;
+import alpine.event.framework.Event;
+import alpine.event.framework.Subscriber;
+import org.dependencytrack.common.ConfigKey;
+import org.dependencytrack.event.MetricsCompactionEvent;
+import org.dependencytrack.persistence.jdbi.ComponentDao;
+import org.dependencytrack.persistence.jdbi.MetricsCompactionDao;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.dependencytrack.persistence.jdbi.JdbiFactory.inJdbiTransaction;
+import static org.dependencytrack.persistence.jdbi.JdbiFactory.useJdbiTransaction;
+import static org.dependencytrack.persistence.jdbi.JdbiFactory.withJdbiHandle;
+import static org.dependencytrack.tasks.LockName.METRICS_COMPACTION_TASK_LOCK;
+import static org.dependencytrack.util.LockProvider.executeWithLock;
+
+/**
+ * A {@link Subscriber} task that downsamples historical portfolio, project, and component metrics.
+ *
+ * @see MetricsCompactionDao
+ * @since 5.6.0
+ */
+public class MetricsCompactionTask implements Subscriber {
+
+    private static final Logger LOGGER = Logger.getLogger(MetricsCompactionTask.class);
+
+    private final Duration rawRetentionDuration;
+    private final Duration dailyRetentionDuration;
+    private final int componentBatchSize;
+
+    @SuppressWarnings("unused") // Called by Alpine's event system
+    public MetricsCompactionTask() {
+        this(
+                Duration.parse(Config.getInstance().getProperty(ConfigKey.METRICS_COMPACTION_RAW_RETENTION_DURATION)),
+                Duration.parse(Config.getInstance().getProperty(ConfigKey.METRICS_COMPACTION_DAILY_RETENTION_DURATION)),
+                Config.getInstance().getPropertyAsInt(ConfigKey.TASK_METRICS_COMPACTION_BATCH_SIZE)
+        );
+    }
+
+    MetricsCompactionTask(final Duration rawRetentionDuration, final Duration dailyRetentionDuration, final int componentBatchSize) {
+        this.rawRetentionDuration = rawRetentionDuration;
+        this.dailyRetentionDuration = dailyRetentionDuration;
+        this.componentBatchSize = componentBatchSize;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void inform(final Event e) {
+        if (e instanceof MetricsCompactionEvent) {
+            final Instant now = Instant.now();
+            final Instant rawCutoff = now.minus(rawRetentionDuration);
+            final Instant weeklyCutoff = now.minus(dailyRetentionDuration);
+
+            try {
+                executeWithLock(METRICS_COMPACTION_TASK_LOCK, (Runnable) () -> compactMetrics(rawCutoff, weeklyCutoff));
+            } catch (RuntimeException ex) {
+                LOGGER.error("Compacting metrics failed", ex);
+            }
+        }
+    }
+
+    private void compactMetrics(final Instant rawCutoff, final Instant weeklyCutoff) {
+        LOGGER.info("Compacting metrics older than %s to days, and older than %s to weeks".formatted(rawCutoff, weeklyCutoff));
+        final long startTimeNs = System.nanoTime();
+
+        // Each table is compacted in its own transaction, to keep transactions
+        // short and to retain progress in case a later table fails.
+        useJdbiTransaction(handle -> {
+            final long numDeleted = handle.attach(MetricsCompactionDao.class).compactPortfolioMetrics(rawCutoff, weeklyCutoff);
+            LOGGER.info("Deleted %d portfolio metrics records".formatted(numDeleted));
+        });
+        useJdbiTransaction(handle -> {
+            final long numDeleted = handle.attach(MetricsCompactionDao.class).compactProjectMetrics(rawCutoff, weeklyCutoff);
+            LOGGER.info("Deleted %d project metrics records".formatted(numDeleted));
+        });
+        compactDependencyMetrics(rawCutoff, weeklyCutoff);
+
+        LOGGER.info("Completed metrics compaction in %s".formatted(Duration.ofNanos(System.nanoTime() - startTimeNs)));
+    }
+
+    private void compactDependencyMetrics(final Instant rawCutoff, final Instant weeklyCutoff) {
+        // Compacting component metrics for the first time can affect millions of records.
+        // Compact them in batches of components instead, each in its own transaction.
+        long numDeleted = 0;
+        int numBatches = 0;
+        Long componentIdFrom = 0L;
+        while (componentIdFrom != null) {
+            final long batchComponentIdFrom = componentIdFrom;
+            final Long nextComponentIdFrom = withJdbiHandle(handle -> handle.attach(ComponentDao.class)
+                    .getNextComponentIdRangeStart(batchComponentIdFrom, componentBatchSize));
+            final long batchComponentIdTo = nextComponentIdFrom != null ? nextComponentIdFrom - 1 : Long.MAX_VALUE;
+
+            numDeleted += inJdbiTransaction(handle -> handle.attach(MetricsCompactionDao.class)
+                    .compactDependencyMetrics(rawCutoff, weeklyCutoff, batchComponentIdFrom, batchComponentIdTo));
+            numBatches++;
+
+            componentIdFrom = nextComponentIdFrom;
+        }
+
+        LOGGER.info("Deleted %d component metrics records in %d batches".formatted(numDeleted, numBatches));
+    }
+
+}
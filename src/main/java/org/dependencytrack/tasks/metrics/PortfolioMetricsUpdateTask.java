@@ -18,6 +18,7 @@
  */
 package org.dependencytrack.tasks.metrics;
 
+import alpine.Config;
 import alpine.common.logging.Logger;
 import alpine.common.util.SystemUtil;
 import alpine.event.framework.Event;
@@ -28,10 +29,12 @@ import net.javacrumbs.shedlock.core.LockingTaskExecutor;
 import org.apache.commons.collections4.ListUtils;
 import org.dependencytrack.event.CallbackEvent;
 import org.dependencytrack.event.PortfolioMetricsUpdateEvent;
+import org.dependencytrack.event.PortfolioMetricsWorkEvent;
 import org.dependencytrack.event.ProjectMetricsUpdateEvent;
 import org.dependencytrack.metrics.Metrics;
 import org.dependencytrack.model.Project;
 import org.dependencytrack.persistence.QueryManager;
+import org.dependencytrack.persistence.jdbi.PortfolioMetricsWorkDao;
 import org.dependencytrack.util.LockProvider;
 
 import javax.jdo.PersistenceManager;
@@ -42,6 +45,8 @@ import java.util.UUID;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 
+import static org.dependencytrack.common.ConfigKey.METRICS_PORTFOLIO_DISTRIBUTED_ENABLED;
+import static org.dependencytrack.persistence.jdbi.JdbiFactory.withJdbiHandle;
 import static org.dependencytrack.tasks.LockName.PORTFOLIO_METRICS_TASK_LOCK;
 import static org.dependencytrack.util.LockProvider.isLockToBeExtended;
 
@@ -73,7 +78,13 @@ public class PortfolioMetricsUpdateTask implements Subscriber {
         final long startTimeNs = System.nanoTime();
 
         try {
-            if (forceRefresh) {
+            if (forceRefresh && Config.getInstance().getPropertyAsBoolean(METRICS_PORTFOLIO_DISTRIBUTED_ENABLED)) {
+                LOGGER.info("Enqueueing distributed refresh of project metrics");
+                if (enqueueProjectMetricsRefresh() > 0) {
+                    // Portfolio metrics will be updated by whichever instance completes the last project.
+                    return;
+                }
+            } else if (forceRefresh) {
                 LOGGER.info("Refreshing project metrics");
                 refreshProjectMetrics();
             }
@@ -84,6 +95,31 @@ public class PortfolioMetricsUpdateTask implements Subscriber {
         }
     }
 
+    /**
+     * Enqueue all active projects for a distributed metrics refresh, and start processing them.
+     *
+     * @return Number of projects pending in the refresh
+     * @see PortfolioMetricsWorkTask
+     */
+    private static long enqueueProjectMetricsRefresh() {
+        final long numPending = withJdbiHandle(handle -> {
+            final var dao = handle.attach(PortfolioMetricsWorkDao.class);
+            final int numEnqueued = dao.enqueueActiveProjects();
+            LOGGER.debug("Enqueued %d projects".formatted(numEnqueued));
+            return dao.getRemaining();
+        });
+
+        if (numPending > 0) {
+            // Start processing on this instance right away, instead of waiting for the next
+            // scheduled PortfolioMetricsWorkEvent. Other instances will join on their next schedule.
+            for (int i = 0; i < MAX_CONCURRENCY; i++) {
+                Event.dispatch(new PortfolioMetricsWorkEvent(false));
+            }
+        }
+
+        return numPending;
+    }
+
     private static void refreshProjectMetrics() throws Exception {
         try (final var qm = new QueryManager().withL2CacheDisabled()) {
             final PersistenceManager pm = qm.getPersistenceManager();
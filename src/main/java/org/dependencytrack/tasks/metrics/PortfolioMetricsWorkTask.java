@@ -0,0 +1,136 @@
+/*
+ * This file is part of Dependency-Track.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.dependencytrack.tasks.metrics;
+
+import alpine.Config;
+import alpine.common.logging.Logger;
+import alpine.event.framework.Event;
+import alpine.event.framework.Subscriber;
+import org.dependencytrack.event.PortfolioMetricsWorkEvent;
+import org.dependencytrack.metrics.Metrics;
+import org.dependencytrack.persistence.jdbi.PortfolioMetricsWorkDao;
+import org.dependencytrack.persistence.jdbi.PortfolioMetricsWorkDao.PendingProject;
+import org.slf4j.MDC;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.dependencytrack.common.ConfigKey.TASK_METRICS_PORTFOLIO_WORK_CHUNK_SIZE;
+import static org.dependencytrack.common.ConfigKey.TASK_METRICS_PORTFOLIO_WORK_LEASE_DURATION;
+import static org.dependencytrack.common.MdcKeys.MDC_PROJECT_UUID;
+import static org.dependencytrack.persistence.jdbi.JdbiFactory.inJdbiTransaction;
+import static org.dependencytrack.persistence.jdbi.JdbiFactory.withJdbiHandle;
+
+/**
+ * A {@link Subscriber} task that updates metrics of projects pending in a distributed portfolio metrics refresh.
+ * <p>
+ * Projects are claimed in chunks using {@code SELECT ... FOR UPDATE SKIP LOCKED}, such that all instances
+ * can participate in the refresh. Claimed projects are leased rather than removed, so projects claimed by
+ * an instance that is restarted before completing them are picked up by other instances once the lease expires.
+ * <p>
+ * Projects whose metrics update failed remain queued as failed, and are not claimed again.
+ * The task completing or failing the last pending project updates portfolio metrics.
+ *
+ * @see PortfolioMetricsUpdateTask
+ * @since 5.6.0
+ */
+public class PortfolioMetricsWorkTask implements Subscriber {
+
+    private static final Logger LOGGER = Logger.getLogger(PortfolioMetricsWorkTask.class);
+
+    private final int chunkSize;
+    private final long leaseDurationMillis;
+
+    public PortfolioMetricsWorkTask() {
+        this(Config.getInstance().getPropertyAsInt(TASK_METRICS_PORTFOLIO_WORK_CHUNK_SIZE),
+                Config.getInstance().getPropertyAsInt(TASK_METRICS_PORTFOLIO_WORK_LEASE_DURATION));
+    }
+
+    PortfolioMetricsWorkTask(final int chunkSize, final long leaseDurationMillis) {
+        this.chunkSize = chunkSize;
+        this.leaseDurationMillis = leaseDurationMillis;
+    }
+
+    @Override
+    public void inform(final Event e) {
+        if (e instanceof PortfolioMetricsWorkEvent) {
+            try {
+                processPendingProjects();
+            } catch (RuntimeException ex) {
+                LOGGER.error("An unexpected error occurred while processing pending project metrics updates", ex);
+            }
+        }
+    }
+
+    private void processPendingProjects() {
+        final long startTimeNs = System.nanoTime();
+        int numCompleted = 0;
+        int numFailed = 0;
+        boolean isPortfolioUpdateClaimed = false;
+
+        List<PendingProject> pendingProjects = claimNextChunk();
+        while (!pendingProjects.isEmpty()) {
+            for (final PendingProject pendingProject : pendingProjects) {
+                boolean isSuccessful = false;
+                try (var ignoredMdcProjectUuid = MDC.putCloseable(MDC_PROJECT_UUID, pendingProject.projectUuid().toString())) {
+                    Metrics.updateProjectMetrics(pendingProject.projectUuid());
+                    isSuccessful = true;
+                } catch (RuntimeException ex) {
+                    // Consistent with the non-distributed refresh, failures are not retried
+                    // within the same refresh. The project remains queued as failed instead.
+                    LOGGER.error("Failed to update metrics", ex);
+                }
+
+                final boolean isUpdated = isSuccessful;
+                isPortfolioUpdateClaimed |= inJdbiTransaction(handle -> {
+                    final var dao = handle.attach(PortfolioMetricsWorkDao.class);
+                    return isUpdated
+                            ? dao.complete(pendingProject.projectId())
+                            : dao.fail(pendingProject.projectId());
+                });
+                if (isUpdated) {
+                    numCompleted++;
+                } else {
+                    numFailed++;
+                }
+            }
+
+            pendingProjects = claimNextChunk();
+        }
+
+        if (numCompleted == 0 && numFailed == 0) {
+            return;
+        }
+
+        LOGGER.info("Updated metrics of %d projects (%d failed) in %s".formatted(
+                numCompleted, numFailed, Duration.ofNanos(System.nanoTime() - startTimeNs)));
+
+        // Projects may still be leased by other instances, in which case
+        // the last of them to complete or fail will update portfolio metrics.
+        if (isPortfolioUpdateClaimed) {
+            LOGGER.info("No more projects pending; Updating portfolio metrics");
+            Metrics.updatePortfolioMetrics();
+        }
+    }
+
+    private List<PendingProject> claimNextChunk() {
+        return withJdbiHandle(handle -> handle.attach(PortfolioMetricsWorkDao.class).claim(chunkSize, leaseDurationMillis));
+    }
+
+}
@@ -28,6 +28,7 @@ import org.dependencytrack.event.VulnerabilityPolicyFetchEvent;
 import org.dependencytrack.model.VulnerabilityPolicyBundle;
 import org.dependencytrack.model.WorkflowState;
 import org.dependencytrack.persistence.QueryManager;
+import org.dependencytrack.policy.cel.CelVulnerabilityPolicyEvaluator;
 import org.dependencytrack.tasks.vulnerabilitypolicy.blobstorage.BlobStorageAccessFactory;
 import org.dependencytrack.tasks.vulnerabilitypolicy.blobstorage.BlobStorageAccessHandler;
 import org.dependencytrack.tasks.vulnerabilitypolicy.blobstorage.VulnerabilityPolicyBundleFile;
@@ -102,6 +103,8 @@ public class VulnerabilityPolicyFetchTask implements Subscriber {
             try {
                 VulnerabilityPolicyUtil.parseAndSavePolicies(bundleFile);
             } finally {
+                // Policies may have been modified even if saving failed half-way.
+                CelVulnerabilityPolicyEvaluator.invalidatePolicyCache();
                 final Path bundleFilePath = bundleFile.filePath();
                 final boolean bundleFileDeleted = bundleFilePath.toFile().delete();
                 LOGGER.debug("Bundle file %s %s".formatted(bundleFilePath, bundleFileDeleted ? "deleted" : "not deleted"));
@@ -0,0 +1,146 @@
+/*
+ * This file is part of Dependency-Track.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.dependencytrack.util;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.commons.codec.binary.Hex;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.dependencytrack.model.Component;
+import org.dependencytrack.model.ComponentProperty;
+import org.dependencytrack.model.License;
+
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.Comparator;
+import java.util.List;
+
+import static java.util.Comparator.naturalOrder;
+import static java.util.Comparator.nullsFirst;
+
+/**
+ * @since 5.6.0
+ */
+public final class ComponentFingerprintUtil {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private static final Comparator<ComponentProperty> PROPERTY_COMPARATOR = Comparator
+            .comparing(ComponentProperty::getGroupName, nullsFirst(naturalOrder()))
+            .thenComparing(ComponentProperty::getPropertyName, nullsFirst(naturalOrder()))
+            .thenComparing(ComponentProperty::getPropertyValue, nullsFirst(naturalOrder()))
+            .thenComparing(ComponentProperty::getPropertyType, nullsFirst(naturalOrder()));
+
+    private ComponentFingerprintUtil() {
+    }
+
+    /**
+     * Compute a fingerprint over all data of a {@link Component} that is sourced from a BOM.
+     * <p>
+     * This covers identity, hashes, licenses, metadata, external references, and properties,
+     * i.e. everything that BOM processing would otherwise compare field by field.
+     * Data not sourced from BOMs (e.g. ID, UUID, notes, or direct dependencies) is not considered.
+     * <p>
+     * Licenses must have been resolved before computing the fingerprint.
+     *
+     * @param component The {@link Component} to compute the fingerprint for
+     * @return The hex-encoded SHA-256 fingerprint
+     */
+    public static String computeFingerprint(final Component component) {
+        final MessageDigest digest = DigestUtils.getSha256Digest();
+
+        update(digest, component.getGroup());
+        update(digest, component.getName());
+        update(digest, component.getVersion());
+        update(digest, component.getClassifier());
+        update(digest, component.getPurl() != null ? component.getPurl().canonicalize() : null);
+        update(digest, component.getCpe());
+        update(digest, component.getSwidTagId());
+        update(digest, component.isInternal());
+
+        update(digest, component.getMd5());
+        update(digest, component.getSha1());
+        update(digest, component.getSha256());
+        update(digest, component.getSha384());
+        update(digest, component.getSha512());
+        update(digest, component.getSha3_256());
+        update(digest, component.getSha3_384());
+        update(digest, component.getSha3_512());
+        update(digest, component.getBlake2b_256());
+        update(digest, component.getBlake2b_384());
+        update(digest, component.getBlake2b_512());
+        update(digest, component.getBlake3());
+
+        final License resolvedLicense = component.getResolvedLicense();
+        update(digest, resolvedLicense != null ? resolvedLicense.getUuid() : null);
+        update(digest, component.getLicense());
+        update(digest, component.getLicenseUrl());
+        update(digest, component.getLicenseExpression());
+
+        update(digest, component.getAuthor());
+        update(digest, component.getPublisher());
+        update(digest, component.getDescription());
+        update(digest, component.getCopyright());
+        update(digest, toJson(component.getSupplier()));
+        update(digest, toJson(component.getExternalReferences()));
+
+        final List<ComponentProperty> properties = component.getProperties();
+        if (properties == null) {
+            update(digest, null);
+        } else {
+            update(digest, properties.size());
+            for (final ComponentProperty property : properties.stream().sorted(PROPERTY_COMPARATOR).toList()) {
+                update(digest, property.getGroupName());
+                update(digest, property.getPropertyName());
+                update(digest, property.getPropertyValue());
+                update(digest, property.getPropertyType());
+            }
+        }
+
+        return Hex.encodeHexString(digest.digest());
+    }
+
+    private static void update(final MessageDigest digest, final Object value) {
+        // Prefix each value with its length, such that null values,
+        // and values of adjacent fields, can not be confused.
+        if (value == null) {
+            digest.update(ByteBuffer.allocate(Integer.BYTES).putInt(-1).array());
+            return;
+        }
+
+        final byte[] valueBytes = String.valueOf(value).getBytes(StandardCharsets.UTF_8);
+        digest.update(ByteBuffer.allocate(Integer.BYTES).putInt(valueBytes.length).array());
+        digest.update(valueBytes);
+    }
+
+    private static String toJson(final Object value) {
+        if (value == null) {
+            return null;
+        }
+
+        try {
+            return OBJECT_MAPPER.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+}
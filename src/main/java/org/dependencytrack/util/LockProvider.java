@@ -40,8 +40,12 @@ import static org.dependencytrack.common.ConfigKey.INTEGRITY_META_INITIALIZER_LO
 import static org.dependencytrack.common.ConfigKey.INTEGRITY_META_INITIALIZER_LOCK_AT_MOST_FOR;
 import static org.dependencytrack.common.ConfigKey.TASK_COMPONENT_IDENTIFICATION_LOCK_AT_LEAST_FOR;
 import static org.dependencytrack.common.ConfigKey.TASK_COMPONENT_IDENTIFICATION_LOCK_AT_MOST_FOR;
+import static org.dependencytrack.common.ConfigKey.TASK_FINDINGS_READ_MODEL_LOCK_AT_LEAST_FOR;
+import static org.dependencytrack.common.ConfigKey.TASK_FINDINGS_READ_MODEL_LOCK_AT_MOST_FOR;
 import static org.dependencytrack.common.ConfigKey.TASK_LDAP_SYNC_LOCK_AT_LEAST_FOR;
 import static org.dependencytrack.common.ConfigKey.TASK_LDAP_SYNC_LOCK_AT_MOST_FOR;
+import static org.dependencytrack.common.ConfigKey.TASK_METRICS_COMPACTION_LOCK_AT_LEAST_FOR;
+import static org.dependencytrack.common.ConfigKey.TASK_METRICS_COMPACTION_LOCK_AT_MOST_FOR;
 import static org.dependencytrack.common.ConfigKey.TASK_METRICS_VULNERABILITY_LOCK_AT_LEAST_FOR;
 import static org.dependencytrack.common.ConfigKey.TASK_METRICS_VULNERABILITY_LOCK_AT_MOST_FOR;
 import static org.dependencytrack.common.ConfigKey.TASK_MIRROR_EPSS_LOCK_AT_LEAST_FOR;
@@ -57,9 +61,11 @@ import static org.dependencytrack.common.ConfigKey.TASK_VULNERABILITY_POLICY_BUN
 import static org.dependencytrack.common.ConfigKey.TASK_WORKFLOW_STEP_CLEANUP_LOCK_AT_LEAST_FOR;
 import static org.dependencytrack.common.ConfigKey.TASK_WORKFLOW_STEP_CLEANUP_LOCK_AT_MOST_FOR;
 import static org.dependencytrack.tasks.LockName.EPSS_MIRROR_TASK_LOCK;
+import static org.dependencytrack.tasks.LockName.FINDINGS_READ_MODEL_TASK_LOCK;
 import static org.dependencytrack.tasks.LockName.INTEGRITY_META_INITIALIZER_LOCK;
 import static org.dependencytrack.tasks.LockName.INTERNAL_COMPONENT_IDENTIFICATION_TASK_LOCK;
 import static org.dependencytrack.tasks.LockName.LDAP_SYNC_TASK_LOCK;
+import static org.dependencytrack.tasks.LockName.METRICS_COMPACTION_TASK_LOCK;
 import static org.dependencytrack.tasks.LockName.PORTFOLIO_METRICS_TASK_LOCK;
 import static org.dependencytrack.tasks.LockName.PORTFOLIO_REPO_META_ANALYSIS_TASK_LOCK;
 import static org.dependencytrack.tasks.LockName.PORTFOLIO_VULN_ANALYSIS_TASK_LOCK;
@@ -178,6 +184,14 @@ public class LockProvider {
                     VULNERABILITY_POLICY_BUNDLE_FETCH_TASK_LOCK.name(),
                     Duration.ofMillis(Config.getInstance().getPropertyAsInt(TASK_VULNERABILITY_POLICY_BUNDLE_FETCH_LOCK_AT_MOST_FOR)),
                     Duration.ofMillis(Config.getInstance().getPropertyAsInt(TASK_VULNERABILITY_POLICY_BUNDLE_FETCH_LOCK_AT_LEAST_FOR)));
+            case METRICS_COMPACTION_TASK_LOCK -> new LockConfiguration(Instant.now(),
+                    METRICS_COMPACTION_TASK_LOCK.name(),
+                    Duration.ofMillis(Config.getInstance().getPropertyAsInt(TASK_METRICS_COMPACTION_LOCK_AT_MOST_FOR)),
+                    Duration.ofMillis(Config.getInstance().getPropertyAsInt(TASK_METRICS_COMPACTION_LOCK_AT_LEAST_FOR)));
+            case FINDINGS_READ_MODEL_TASK_LOCK -> new LockConfiguration(Instant.now(),
+                    FINDINGS_READ_MODEL_TASK_LOCK.name(),
+                    Duration.ofMillis(Config.getInstance().getPropertyAsInt(TASK_FINDINGS_READ_MODEL_LOCK_AT_MOST_FOR)),
+                    Duration.ofMillis(Config.getInstance().getPropertyAsInt(TASK_FINDINGS_READ_MODEL_LOCK_AT_LEAST_FOR)));
         };
 
     }
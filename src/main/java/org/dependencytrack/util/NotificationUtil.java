@@ -85,7 +85,7 @@ public final class NotificationUtil {
             analysis.getComponent().setProject(project); // Project of component is lost after the detach above
 
             // Aliases are lost during the detach above
-            analysis.getVulnerability().setAliases(qm.detach(qm.getVulnerabilityAliases(analysis.getVulnerability())));
+            analysis.getVulnerability().setAliases(qm.getVulnerabilityAliases(analysis.getVulnerability()));
 
             new KafkaEventDispatcher().dispatchNotification(new Notification()
                     .scope(NotificationScope.PORTFOLIO)
@@ -18,14 +18,14 @@
  */
 package org.dependencytrack.util;
 
-import alpine.model.ConfigProperty;
 import org.apache.commons.lang3.StringUtils;
 import org.dependencytrack.model.AnalyzerIdentity;
 import org.dependencytrack.model.ConfigPropertyConstants;
 import org.dependencytrack.model.Severity;
 import org.dependencytrack.model.Vulnerability;
 import org.dependencytrack.model.VulnerabilityAlias;
-import org.dependencytrack.persistence.QueryManager;
+import org.dependencytrack.persistence.ConfigPropertyCache;
+import org.dependencytrack.persistence.jdbi.ConfigPropertyDao.ConfigPropertyValue;
 
 import java.math.BigDecimal;
 import java.security.SecureRandom;
@@ -287,26 +287,18 @@ public final class VulnerabilityUtil {
             return false;
         }
 
-        final String configPropertyValue;
-        try (final QueryManager qm = new QueryManager()) {
-            final ConfigProperty configProperty = qm.getConfigProperty(
-                    toggleConfigPropertyConstant.getGroupName(),
-                    toggleConfigPropertyConstant.getPropertyName()
-            );
-
-            if (configProperty == null) {
-                return false;
-            }
-
-            configPropertyValue = configProperty.getPropertyValue();
+        final ConfigPropertyValue configPropertyValue =
+                ConfigPropertyCache.getInstance().getValue(toggleConfigPropertyConstant);
+        if (configPropertyValue == null) {
+            return false;
         }
 
         if (source == Vulnerability.Source.OSV) {
             // For OSV the value is the list of enabled ecosystems, not a boolean.
-            return StringUtils.isNotBlank(configPropertyValue);
+            return StringUtils.isNotBlank(configPropertyValue.value());
         }
 
-        return "true".equals(configPropertyValue);
+        return "true".equals(configPropertyValue.value());
     }
 
 }
@@ -0,0 +1,24 @@
+-- Derive a name-based (version 3) UUID from a namespace UUID and a name,
+-- as specified in RFC 4122, section 4.3.
+-- The result is identical to that of UUID#nameUUIDFromBytes in Java, when
+-- invoked with the 16 bytes of the namespace, followed by the UTF-8 bytes of the name.
+--
+-- Used to assign new UUIDs to rows copied in bulk, e.g. when cloning projects:
+-- Because the same inputs always yield the same UUID, copies can be correlated
+-- with their originals without having to keep track of the UUIDs that were generated.
+
+CREATE OR REPLACE FUNCTION "NAME_BASED_UUID"(
+  "namespace" TEXT,
+  "name" TEXT
+) RETURNS TEXT
+  LANGUAGE "sql"
+  PARALLEL SAFE
+  IMMUTABLE
+AS
+$$
+SELECT OVERLAY(
+         OVERLAY("DIGEST"."HASH" PLACING '3' FROM 13)
+         PLACING TO_HEX((('x' || SUBSTR("DIGEST"."HASH", 17, 1))::BIT(4)::INT & 3) | 8) FROM 17
+       )::UUID::TEXT
+  FROM (SELECT MD5(DECODE(REPLACE("namespace", '-', ''), 'hex') || CONVERT_TO("name", 'UTF8')) AS "HASH") AS "DIGEST"
+$$;
@@ -0,0 +1,37 @@
+-- Notify listeners on the "dtrack_config_property_changed" channel about modifications
+-- of CONFIGPROPERTY rows. Intended to be invoked by row-level triggers on CONFIGPROPERTY.
+--
+-- API server instances cache config properties in memory, and listen on the channel
+-- to invalidate cached values that were modified by other instances.
+-- Notifications are only delivered once the modifying transaction commits.
+
+CREATE OR REPLACE FUNCTION "NOTIFY_CONFIG_PROPERTY_CHANGE"() RETURNS TRIGGER
+  LANGUAGE "plpgsql"
+AS
+$$
+DECLARE
+  "v_row" RECORD;
+BEGIN
+  IF TG_OP = 'DELETE' THEN
+    "v_row" := OLD;
+  ELSE
+    "v_row" := NEW;
+  END IF;
+
+  PERFORM PG_NOTIFY('dtrack_config_property_changed', JSON_BUILD_OBJECT(
+    'groupName', "v_row"."GROUPNAME",
+    'propertyName', "v_row"."PROPERTYNAME"
+  )::TEXT);
+
+  IF TG_OP = 'UPDATE'
+    AND (OLD."GROUPNAME" IS DISTINCT FROM NEW."GROUPNAME"
+      OR OLD."PROPERTYNAME" IS DISTINCT FROM NEW."PROPERTYNAME") THEN
+    PERFORM PG_NOTIFY('dtrack_config_property_changed', JSON_BUILD_OBJECT(
+      'groupName', OLD."GROUPNAME",
+      'propertyName', OLD."PROPERTYNAME"
+    )::TEXT);
+  END IF;
+
+  RETURN NULL;
+END;
+$$;
@@ -0,0 +1,47 @@
+-- Rewrite the "uuid" fields of a DIRECT_DEPENDENCIES JSON array, such that
+-- they refer to copies of the original components, which were assigned UUIDs
+-- using NAME_BASED_UUID with the given namespace.
+--
+-- Values that are empty, or not a JSON array, are returned as NULL,
+-- consistent with how the dependency graph edges are synchronized.
+-- Values that are not valid JSON are returned as-is, such that they are copied verbatim.
+
+CREATE OR REPLACE FUNCTION "REMAP_DIRECT_DEPENDENCIES"(
+  "direct_dependencies" TEXT,
+  "namespace" TEXT
+) RETURNS TEXT
+  LANGUAGE "plpgsql"
+  PARALLEL SAFE
+  IMMUTABLE
+AS
+$$
+DECLARE
+  "v_direct_dependencies" JSONB; -- Parsed direct dependencies
+BEGIN
+  IF "direct_dependencies" IS NULL OR TRIM("direct_dependencies") = '' THEN
+    RETURN NULL;
+  END IF;
+
+  BEGIN
+    "v_direct_dependencies" := "direct_dependencies"::JSONB;
+  EXCEPTION
+    WHEN invalid_text_representation THEN
+      RETURN "direct_dependencies";
+  END;
+  IF JSONB_TYPEOF("v_direct_dependencies") != 'array' THEN
+    RETURN NULL;
+  END IF;
+
+  RETURN (
+    SELECT JSONB_AGG(
+             CASE
+               WHEN "DEPENDENCY" ? 'uuid'
+                 THEN JSONB_SET("DEPENDENCY", '{uuid}', TO_JSONB("NAME_BASED_UUID"("namespace", "DEPENDENCY" ->> 'uuid')))
+               ELSE "DEPENDENCY"
+             END
+             ORDER BY "INDEX"
+           )::TEXT
+      FROM JSONB_ARRAY_ELEMENTS("v_direct_dependencies") WITH ORDINALITY AS "DEPENDENCIES"("DEPENDENCY", "INDEX")
+  );
+END;
+$$;
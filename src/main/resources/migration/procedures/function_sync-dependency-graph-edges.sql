@@ -0,0 +1,63 @@
+-- Synchronize the rows of the DEPENDENCY_GRAPH_EDGE table with the DIRECT_DEPENDENCIES
+-- column of a COMPONENT or PROJECT row. Intended to be invoked by row-level triggers.
+--
+-- DIRECT_DEPENDENCIES holds a JSON array of objects with a "uuid" field each,
+-- referring to components of the same project. References to components that do
+-- not exist, or belong to another project, are ignored. So are references to services,
+-- which are not part of the edge table. DIRECT_DEPENDENCIES that are not valid JSON
+-- yield no edges, rather than failing the write of the row.
+
+CREATE OR REPLACE FUNCTION "SYNC_DEPENDENCY_GRAPH_EDGES"() RETURNS TRIGGER
+  LANGUAGE "plpgsql"
+AS
+$$
+DECLARE
+  "v_project_id"          BIGINT; -- ID of the project the edges belong to
+  "v_parent_component_id" BIGINT; -- ID of the parent component, or NULL if the parent is the project
+  "v_direct_dependencies" JSONB;  -- Parsed DIRECT_DEPENDENCIES of the row
+BEGIN
+  IF TG_TABLE_NAME = 'PROJECT' THEN
+    "v_project_id" := NEW."ID";
+    "v_parent_component_id" := NULL;
+
+    DELETE
+      FROM "DEPENDENCY_GRAPH_EDGE"
+     WHERE "PROJECT_ID" = "v_project_id"
+       AND "PARENT_COMPONENT_ID" IS NULL;
+  ELSE
+    "v_project_id" := NEW."PROJECT_ID";
+    "v_parent_component_id" := NEW."ID";
+
+    DELETE
+      FROM "DEPENDENCY_GRAPH_EDGE"
+     WHERE "PARENT_COMPONENT_ID" = "v_parent_component_id";
+  END IF;
+
+  IF NEW."DIRECT_DEPENDENCIES" IS NULL OR TRIM(NEW."DIRECT_DEPENDENCIES") = '' THEN
+    RETURN NULL;
+  END IF;
+
+  BEGIN
+    "v_direct_dependencies" := NEW."DIRECT_DEPENDENCIES"::JSONB;
+  EXCEPTION
+    WHEN invalid_text_representation THEN
+      RAISE WARNING 'Ignoring invalid DIRECT_DEPENDENCIES of % with ID %', TG_TABLE_NAME, NEW."ID";
+      RETURN NULL;
+  END;
+
+  IF JSONB_TYPEOF("v_direct_dependencies") != 'array' THEN
+    RETURN NULL;
+  END IF;
+
+  INSERT INTO "DEPENDENCY_GRAPH_EDGE" ("PROJECT_ID", "PARENT_COMPONENT_ID", "CHILD_COMPONENT_ID")
+  SELECT DISTINCT "v_project_id"
+       , "v_parent_component_id"
+       , "CHILD"."ID"
+    FROM JSONB_ARRAY_ELEMENTS("v_direct_dependencies") AS "DEPENDENCY"
+   INNER JOIN "COMPONENT" AS "CHILD"
+      ON "CHILD"."UUID" = "DEPENDENCY" ->> 'uuid'
+   WHERE "CHILD"."PROJECT_ID" = "v_project_id";
+
+  RETURN NULL;
+END;
+$$;
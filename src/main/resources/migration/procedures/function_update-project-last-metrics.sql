@@ -0,0 +1,38 @@
+-- Maintain the LAST_PROJECTMETRICS_ID column of PROJECT, such that it always points
+-- to the PROJECTMETRICS row with the most recent LAST_OCCURRENCE of the project.
+-- Intended to be invoked by row-level triggers on PROJECTMETRICS.
+--
+-- Having the pointer available allows for the latest metrics of many projects
+-- to be looked up at once, without sorting through their metrics history.
+
+CREATE OR REPLACE FUNCTION "UPDATE_PROJECT_LAST_METRICS"() RETURNS TRIGGER
+  LANGUAGE "plpgsql"
+AS
+$$
+BEGIN
+  IF TG_OP = 'DELETE' THEN
+    -- Only relevant when the row being pointed to is deleted.
+    UPDATE "PROJECT"
+       SET "LAST_PROJECTMETRICS_ID" = (SELECT "ID"
+                                         FROM "PROJECTMETRICS"
+                                        WHERE "PROJECT_ID" = OLD."PROJECT_ID"
+                                        ORDER BY "LAST_OCCURRENCE" DESC, "ID" DESC
+                                        LIMIT 1)
+     WHERE "ID" = OLD."PROJECT_ID"
+       AND "LAST_PROJECTMETRICS_ID" = OLD."ID";
+
+    RETURN NULL;
+  END IF;
+
+  UPDATE "PROJECT"
+     SET "LAST_PROJECTMETRICS_ID" = NEW."ID"
+   WHERE "ID" = NEW."PROJECT_ID"
+     AND "LAST_PROJECTMETRICS_ID" IS DISTINCT FROM NEW."ID"
+     AND NOT EXISTS(SELECT 1
+                      FROM "PROJECTMETRICS"
+                     WHERE "PROJECTMETRICS"."ID" = "PROJECT"."LAST_PROJECTMETRICS_ID"
+                       AND "PROJECTMETRICS"."LAST_OCCURRENCE" > NEW."LAST_OCCURRENCE");
+
+  RETURN NULL;
+END;
+$$;
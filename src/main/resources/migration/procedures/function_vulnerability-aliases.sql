@@ -0,0 +1,37 @@
+-- Build the aliases of a vulnerability from the alias groups it is a member of.
+--
+-- Returns a JSON array with one object per group, in the format of VulnerabilityAlias, e.g.:
+--   [{"cveId": "CVE-123", "ghsaId": "GHSA-123"}]
+-- Groups hold at most one identifier per source, so no identifier is lost when
+-- mapping a group to a single object.
+--
+-- Returns NULL when the vulnerability is not a member of any alias group.
+
+CREATE OR REPLACE FUNCTION "VULNERABILITY_ALIASES"(
+  "source" TEXT,
+  "vuln_id" TEXT
+) RETURNS JSONB
+  LANGUAGE "sql"
+  PARALLEL SAFE
+  STABLE
+AS
+$$
+SELECT JSONB_AGG("ALIAS"."OBJECT" ORDER BY "ALIAS"."GROUP_ID")
+  FROM (SELECT "MEMBER"."GROUP_ID"
+             , JSONB_OBJECT_AGG(CASE "MEMBER"."SOURCE"
+                                  WHEN 'GITHUB' THEN 'ghsaId'
+                                  WHEN 'GSD' THEN 'gsdId'
+                                  WHEN 'INTERNAL' THEN 'internalId'
+                                  WHEN 'NVD' THEN 'cveId'
+                                  WHEN 'OSSINDEX' THEN 'sonatypeId'
+                                  WHEN 'OSV' THEN 'osvId'
+                                  WHEN 'SNYK' THEN 'snykId'
+                                  WHEN 'VULNDB' THEN 'vulnDbId'
+                                END, "MEMBER"."VULN_ID") AS "OBJECT"
+          FROM "VULNERABILITY_ALIAS_GROUP_MEMBER" AS "SELF"
+         INNER JOIN "VULNERABILITY_ALIAS_GROUP_MEMBER" AS "MEMBER"
+            ON "MEMBER"."GROUP_ID" = "SELF"."GROUP_ID"
+         WHERE "SELF"."SOURCE" = "source"
+           AND "SELF"."VULN_ID" = "vuln_id"
+         GROUP BY "MEMBER"."GROUP_ID") AS "ALIAS"
+$$;
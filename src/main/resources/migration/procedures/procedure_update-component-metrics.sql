@@ -53,47 +53,20 @@ BEGIN
                                             AND "A"."COMPONENT_ID" = "CV"."COMPONENT_ID"
                                             AND "A"."VULNERABILITY_ID" = "V"."ID"
                                         WHERE "A"."SUPPRESSED" != TRUE OR "A"."SUPPRESSED" IS NULL
+                           -- Visit vulnerabilities in a stable order, such that it is deterministic which
+                           -- of multiple aliases is counted. UPDATE_PROJECT_METRICS relies on this order.
+                           ORDER BY "V"."ID"
     LOOP
       CONTINUE WHEN ("v_vulnerability"."SOURCE" || '|' || "v_vulnerability"."VULNID") = ANY ("v_aliases_seen");
 
-      FOR "v_alias" IN SELECT *
-                       FROM "VULNERABILITYALIAS" AS "VA"
-                       WHERE ("v_vulnerability"."SOURCE" = 'GITHUB' AND
-                              "VA"."GHSA_ID" = "v_vulnerability"."VULNID")
-                         OR ("v_vulnerability"."SOURCE" = 'INTERNAL' AND
-                             "VA"."INTERNAL_ID" = "v_vulnerability"."VULNID")
-                         OR ("v_vulnerability"."SOURCE" = 'NVD' AND
-                             "VA"."CVE_ID" = "v_vulnerability"."VULNID")
-                         OR ("v_vulnerability"."SOURCE" = 'OSSINDEX' AND
-                             "VA"."SONATYPE_ID" = "v_vulnerability"."VULNID")
-                         OR ("v_vulnerability"."SOURCE" = 'OSV' AND
-                             "VA"."OSV_ID" = "v_vulnerability"."VULNID")
-                         OR ("v_vulnerability"."SOURCE" = 'SNYK' AND
-                             "VA"."SNYK_ID" = "v_vulnerability"."VULNID")
-                         OR ("v_vulnerability"."SOURCE" = 'VULNDB' AND
-                             "VA"."VULNDB_ID" = "v_vulnerability"."VULNID")
+      FOR "v_alias" IN SELECT "MEMBER"."SOURCE", "MEMBER"."VULN_ID"
+                       FROM "VULNERABILITY_ALIAS_GROUP_MEMBER" AS "SELF"
+                              INNER JOIN "VULNERABILITY_ALIAS_GROUP_MEMBER" AS "MEMBER"
+                                         ON "MEMBER"."GROUP_ID" = "SELF"."GROUP_ID"
+                       WHERE "SELF"."SOURCE" = "v_vulnerability"."SOURCE"
+                         AND "SELF"."VULN_ID" = "v_vulnerability"."VULNID"
         LOOP
-          IF "v_alias"."GHSA_ID" IS NOT NULL THEN
-            "v_aliases_seen" = array_append("v_aliases_seen", 'GITHUB|' || "v_alias"."GHSA_ID");
-          END IF;
-          IF "v_alias"."INTERNAL_ID" IS NOT NULL THEN
-            "v_aliases_seen" = array_append("v_aliases_seen", 'INTERNAL|' || "v_alias"."INTERNAL_ID");
-          END IF;
-          IF "v_alias"."CVE_ID" IS NOT NULL THEN
-            "v_aliases_seen" = array_append("v_aliases_seen", 'NVD|' || "v_alias"."CVE_ID");
-          END IF;
-          IF "v_alias"."SONATYPE_ID" IS NOT NULL THEN
-            "v_aliases_seen" = array_append("v_aliases_seen", 'OSSINDEX|' || "v_alias"."SONATYPE_ID");
-          END IF;
-          IF "v_alias"."OSV_ID" IS NOT NULL THEN
-            "v_aliases_seen" = array_append("v_aliases_seen", 'OSV|' || "v_alias"."OSV_ID");
-          END IF;
-          IF "v_alias"."SNYK_ID" IS NOT NULL THEN
-            "v_aliases_seen" = array_append("v_aliases_seen", 'SNYK|' || "v_alias"."SNYK_ID");
-          END IF;
-          IF "v_alias"."VULNDB_ID" IS NOT NULL THEN
-            "v_aliases_seen" = array_append("v_aliases_seen", 'VULNDB|' || "v_alias"."VULNDB_ID");
-          END IF;
+          "v_aliases_seen" = array_append("v_aliases_seen", "v_alias"."SOURCE" || '|' || "v_alias"."VULN_ID");
         END LOOP;
 
       "v_vulnerabilities" := "v_vulnerabilities" + 1;
@@ -6,7 +6,6 @@ AS
 $$
 DECLARE
   "v_project_id"                              BIGINT;
-  "v_component_uuid"                          TEXT;
   "v_components"                              INT; -- Total number of components in the project
   "v_vulnerable_components"                   INT; -- Number of vulnerable components in the project
   "v_vulnerabilities"                         INT; -- Total number of vulnerabilities
@@ -42,12 +41,318 @@ BEGIN
     RAISE EXCEPTION 'Project with UUID % does not exist', "project_uuid";
   END IF;
 
-  FOR "v_component_uuid" IN SELECT "UUID" FROM "COMPONENT" WHERE "PROJECT_ID" = "v_project_id"
-  LOOP
-    CALL "UPDATE_COMPONENT_METRICS"("v_component_uuid");
-  END LOOP;
-
-  -- Aggregate over all most recent DEPENDENCYMETRICS.
+  -- Calculate metrics of all components in the project in a single, set-based pass,
+  -- rather than invoking UPDATE_COMPONENT_METRICS for every component individually.
+  -- The calculation is equivalent to that of UPDATE_COMPONENT_METRICS, including how
+  -- vulnerabilities that are aliases of each other are counted.
+  --
+  -- NOTE: Data-modifying statements in WITH are always executed to completion,
+  -- regardless of whether their output is consumed by the primary query.
+  WITH RECURSIVE "COMPONENT_VULNERABILITIES" AS (
+    SELECT "CV"."COMPONENT_ID",
+           "V"."ID" AS "VULNERABILITY_ID",
+           "V"."SOURCE",
+           "V"."VULNID",
+           COALESCE("A"."SEVERITY", "V"."SEVERITY") AS "SEVERITY"
+      FROM "COMPONENT" AS "C"
+     INNER JOIN "COMPONENTS_VULNERABILITIES" AS "CV"
+        ON "CV"."COMPONENT_ID" = "C"."ID"
+     INNER JOIN "VULNERABILITY" AS "V"
+        ON "V"."ID" = "CV"."VULNERABILITY_ID"
+      LEFT JOIN "ANALYSIS" AS "A"
+        ON "A"."COMPONENT_ID" = "CV"."COMPONENT_ID"
+       AND "A"."VULNERABILITY_ID" = "V"."ID"
+     WHERE "C"."PROJECT_ID" = "v_project_id"
+       AND ("A"."SUPPRESSED" != TRUE OR "A"."SUPPRESSED" IS NULL)
+  ),
+  -- Two vulnerabilities of the same component are aliases of each other
+  -- when they are both members of the same alias group. Groups are not
+  -- transitive, so vulnerabilities that only share an alias are counted separately.
+  "ALIASED_COMPONENT_VULNERABILITIES" AS (
+    SELECT "CV"."COMPONENT_ID",
+           "CV"."VULNERABILITY_ID",
+           ARRAY_AGG("VAGM"."GROUP_ID") AS "GROUP_IDS",
+           ROW_NUMBER() OVER (PARTITION BY "CV"."COMPONENT_ID" ORDER BY "CV"."VULNERABILITY_ID") AS "POSITION"
+      FROM "COMPONENT_VULNERABILITIES" AS "CV"
+     INNER JOIN "VULNERABILITY_ALIAS_GROUP_MEMBER" AS "VAGM"
+        ON "VAGM"."SOURCE" = "CV"."SOURCE"
+       AND "VAGM"."VULN_ID" = "CV"."VULNID"
+     GROUP BY "CV"."COMPONENT_ID", "CV"."VULNERABILITY_ID"
+  ),
+  -- Like UPDATE_COMPONENT_METRICS, visit aliased vulnerabilities of each component in order
+  -- of their ID, and do not count those sharing a group with a vulnerability counted before.
+  "DEDUPLICATED_COMPONENT_VULNERABILITIES" ("COMPONENT_ID", "VULNERABILITY_ID", "POSITION", "IS_COUNTED", "SEEN_GROUP_IDS") AS (
+    SELECT "ACV"."COMPONENT_ID",
+           "ACV"."VULNERABILITY_ID",
+           "ACV"."POSITION",
+           TRUE,
+           "ACV"."GROUP_IDS"
+      FROM "ALIASED_COMPONENT_VULNERABILITIES" AS "ACV"
+     WHERE "ACV"."POSITION" = 1
+     UNION ALL
+    SELECT "ACV"."COMPONENT_ID",
+           "ACV"."VULNERABILITY_ID",
+           "ACV"."POSITION",
+           NOT ("ACV"."GROUP_IDS" && "PREVIOUS"."SEEN_GROUP_IDS"),
+           CASE
+             WHEN "ACV"."GROUP_IDS" && "PREVIOUS"."SEEN_GROUP_IDS" THEN "PREVIOUS"."SEEN_GROUP_IDS"
+             ELSE "PREVIOUS"."SEEN_GROUP_IDS" || "ACV"."GROUP_IDS"
+           END
+      FROM "DEDUPLICATED_COMPONENT_VULNERABILITIES" AS "PREVIOUS"
+     INNER JOIN "ALIASED_COMPONENT_VULNERABILITIES" AS "ACV"
+        ON "ACV"."COMPONENT_ID" = "PREVIOUS"."COMPONENT_ID"
+       AND "ACV"."POSITION" = "PREVIOUS"."POSITION" + 1
+  ),
+  "VULNERABILITY_COUNTS" AS (
+    SELECT "CV"."COMPONENT_ID",
+           COUNT(*)::INT AS "VULNERABILITIES",
+           (COUNT(*) FILTER (WHERE "CV"."SEVERITY" = 'CRITICAL'))::INT AS "CRITICAL",
+           (COUNT(*) FILTER (WHERE "CV"."SEVERITY" = 'HIGH'))::INT AS "HIGH",
+           (COUNT(*) FILTER (WHERE "CV"."SEVERITY" = 'MEDIUM'))::INT AS "MEDIUM",
+           (COUNT(*) FILTER (WHERE "CV"."SEVERITY" = 'LOW'))::INT AS "LOW",
+           (COUNT(*) FILTER (WHERE "CV"."SEVERITY" IS NULL
+             OR "CV"."SEVERITY" NOT IN ('CRITICAL', 'HIGH', 'MEDIUM', 'LOW')))::INT AS "UNASSIGNED_SEVERITY"
+      FROM "COMPONENT_VULNERABILITIES" AS "CV"
+     WHERE NOT EXISTS(SELECT 1
+                        FROM "DEDUPLICATED_COMPONENT_VULNERABILITIES" AS "DCV"
+                       WHERE "DCV"."COMPONENT_ID" = "CV"."COMPONENT_ID"
+                         AND "DCV"."VULNERABILITY_ID" = "CV"."VULNERABILITY_ID"
+                         AND NOT "DCV"."IS_COUNTED")
+     GROUP BY "CV"."COMPONENT_ID"
+  ),
+  "ANALYSIS_COUNTS" AS (
+    SELECT "A"."COMPONENT_ID",
+           (COUNT(*) FILTER (WHERE "A"."SUPPRESSED" = FALSE
+             AND "A"."STATE" != 'NOT_SET'
+             AND "A"."STATE" != 'IN_TRIAGE'))::INT AS "FINDINGS_AUDITED",
+           (COUNT(*) FILTER (WHERE "A"."SUPPRESSED" = TRUE))::INT AS "SUPPRESSED"
+      FROM "ANALYSIS" AS "A"
+     INNER JOIN "COMPONENT" AS "C"
+        ON "C"."ID" = "A"."COMPONENT_ID"
+     WHERE "C"."PROJECT_ID" = "v_project_id"
+     GROUP BY "A"."COMPONENT_ID"
+  ),
+  "POLICY_VIOLATION_COUNTS" AS (
+    SELECT "PV"."COMPONENT_ID",
+           COUNT(*)::INT AS "TOTAL",
+           (COUNT(*) FILTER (WHERE "P"."VIOLATIONSTATE" = 'FAIL'))::INT AS "FAIL",
+           (COUNT(*) FILTER (WHERE "P"."VIOLATIONSTATE" = 'WARN'))::INT AS "WARN",
+           (COUNT(*) FILTER (WHERE "P"."VIOLATIONSTATE" = 'INFO'))::INT AS "INFO",
+           (COUNT(*) FILTER (WHERE "PV"."TYPE" = 'LICENSE'))::INT AS "LICENSE_TOTAL",
+           (COUNT(*) FILTER (WHERE "PV"."TYPE" = 'OPERATIONAL'))::INT AS "OPERATIONAL_TOTAL",
+           (COUNT(*) FILTER (WHERE "PV"."TYPE" = 'SECURITY'))::INT AS "SECURITY_TOTAL"
+      FROM "POLICYVIOLATION" AS "PV"
+     INNER JOIN "COMPONENT" AS "C"
+        ON "C"."ID" = "PV"."COMPONENT_ID"
+     INNER JOIN "POLICYCONDITION" AS "PC"
+        ON "PC"."ID" = "PV"."POLICYCONDITION_ID"
+     INNER JOIN "POLICY" AS "P"
+        ON "P"."ID" = "PC"."POLICY_ID"
+      LEFT JOIN "VIOLATIONANALYSIS" AS "VA"
+        ON "VA"."COMPONENT_ID" = "PV"."COMPONENT_ID"
+       AND "VA"."POLICYVIOLATION_ID" = "PV"."ID"
+     WHERE "C"."PROJECT_ID" = "v_project_id"
+       AND ("VA"."ID" IS NULL OR "VA"."SUPPRESSED" = FALSE)
+     GROUP BY "PV"."COMPONENT_ID"
+  ),
+  "VIOLATION_ANALYSIS_COUNTS" AS (
+    SELECT "VA"."COMPONENT_ID",
+           (COUNT(*) FILTER (WHERE "PV"."TYPE" = 'LICENSE'))::INT AS "LICENSE_AUDITED",
+           (COUNT(*) FILTER (WHERE "PV"."TYPE" = 'OPERATIONAL'))::INT AS "OPERATIONAL_AUDITED",
+           (COUNT(*) FILTER (WHERE "PV"."TYPE" = 'SECURITY'))::INT AS "SECURITY_AUDITED"
+      FROM "VIOLATIONANALYSIS" AS "VA"
+     INNER JOIN "COMPONENT" AS "C"
+        ON "C"."ID" = "VA"."COMPONENT_ID"
+     INNER JOIN "POLICYVIOLATION" AS "PV"
+        ON "PV"."ID" = "VA"."POLICYVIOLATION_ID"
+     WHERE "C"."PROJECT_ID" = "v_project_id"
+       AND "VA"."SUPPRESSED" = FALSE
+       AND "VA"."STATE" != 'NOT_SET'
+     GROUP BY "VA"."COMPONENT_ID"
+  ),
+  "COMPONENT_COUNTS" AS (
+    SELECT "C"."ID" AS "COMPONENT_ID",
+           COALESCE("VC"."VULNERABILITIES", 0) AS "VULNERABILITIES",
+           COALESCE("VC"."CRITICAL", 0) AS "CRITICAL",
+           COALESCE("VC"."HIGH", 0) AS "HIGH",
+           COALESCE("VC"."MEDIUM", 0) AS "MEDIUM",
+           COALESCE("VC"."LOW", 0) AS "LOW",
+           COALESCE("VC"."UNASSIGNED_SEVERITY", 0) AS "UNASSIGNED_SEVERITY",
+           COALESCE("AC"."FINDINGS_AUDITED", 0) AS "FINDINGS_AUDITED",
+           COALESCE("AC"."SUPPRESSED", 0) AS "SUPPRESSED",
+           COALESCE("PVC"."TOTAL", 0) AS "POLICYVIOLATIONS_TOTAL",
+           COALESCE("PVC"."FAIL", 0) AS "POLICYVIOLATIONS_FAIL",
+           COALESCE("PVC"."WARN", 0) AS "POLICYVIOLATIONS_WARN",
+           COALESCE("PVC"."INFO", 0) AS "POLICYVIOLATIONS_INFO",
+           COALESCE("PVC"."LICENSE_TOTAL", 0) AS "POLICYVIOLATIONS_LICENSE_TOTAL",
+           COALESCE("VAC"."LICENSE_AUDITED", 0) AS "POLICYVIOLATIONS_LICENSE_AUDITED",
+           COALESCE("PVC"."OPERATIONAL_TOTAL", 0) AS "POLICYVIOLATIONS_OPERATIONAL_TOTAL",
+           COALESCE("VAC"."OPERATIONAL_AUDITED", 0) AS "POLICYVIOLATIONS_OPERATIONAL_AUDITED",
+           COALESCE("PVC"."SECURITY_TOTAL", 0) AS "POLICYVIOLATIONS_SECURITY_TOTAL",
+           COALESCE("VAC"."SECURITY_AUDITED", 0) AS "POLICYVIOLATIONS_SECURITY_AUDITED"
+      FROM "COMPONENT" AS "C"
+      LEFT JOIN "VULNERABILITY_COUNTS" AS "VC"
+        ON "VC"."COMPONENT_ID" = "C"."ID"
+      LEFT JOIN "ANALYSIS_COUNTS" AS "AC"
+        ON "AC"."COMPONENT_ID" = "C"."ID"
+      LEFT JOIN "POLICY_VIOLATION_COUNTS" AS "PVC"
+        ON "PVC"."COMPONENT_ID" = "C"."ID"
+      LEFT JOIN "VIOLATION_ANALYSIS_COUNTS" AS "VAC"
+        ON "VAC"."COMPONENT_ID" = "C"."ID"
+     WHERE "C"."PROJECT_ID" = "v_project_id"
+  ),
+  "COMPONENT_METRICS" AS (
+    SELECT "CC"."COMPONENT_ID",
+           "CC"."VULNERABILITIES",
+           "CC"."CRITICAL",
+           "CC"."HIGH",
+           "CC"."MEDIUM",
+           "CC"."LOW",
+           "CC"."UNASSIGNED_SEVERITY",
+           "CALC_RISK_SCORE"("CC"."CRITICAL", "CC"."HIGH", "CC"."MEDIUM", "CC"."LOW", "CC"."UNASSIGNED_SEVERITY") AS "RISKSCORE",
+           "CC"."VULNERABILITIES" AS "FINDINGS_TOTAL",
+           "CC"."FINDINGS_AUDITED",
+           "CC"."VULNERABILITIES" - "CC"."FINDINGS_AUDITED" AS "FINDINGS_UNAUDITED",
+           "CC"."SUPPRESSED",
+           "CC"."POLICYVIOLATIONS_TOTAL",
+           "CC"."POLICYVIOLATIONS_FAIL",
+           "CC"."POLICYVIOLATIONS_WARN",
+           "CC"."POLICYVIOLATIONS_INFO",
+           "CC"."POLICYVIOLATIONS_LICENSE_AUDITED"
+             + "CC"."POLICYVIOLATIONS_OPERATIONAL_AUDITED"
+             + "CC"."POLICYVIOLATIONS_SECURITY_AUDITED" AS "POLICYVIOLATIONS_AUDITED",
+           "CC"."POLICYVIOLATIONS_TOTAL"
+             - "CC"."POLICYVIOLATIONS_LICENSE_AUDITED"
+             - "CC"."POLICYVIOLATIONS_OPERATIONAL_AUDITED"
+             - "CC"."POLICYVIOLATIONS_SECURITY_AUDITED" AS "POLICYVIOLATIONS_UNAUDITED",
+           "CC"."POLICYVIOLATIONS_LICENSE_TOTAL",
+           "CC"."POLICYVIOLATIONS_LICENSE_AUDITED",
+           "CC"."POLICYVIOLATIONS_LICENSE_TOTAL" - "CC"."POLICYVIOLATIONS_LICENSE_AUDITED" AS "POLICYVIOLATIONS_LICENSE_UNAUDITED",
+           "CC"."POLICYVIOLATIONS_OPERATIONAL_TOTAL",
+           "CC"."POLICYVIOLATIONS_OPERATIONAL_AUDITED",
+           "CC"."POLICYVIOLATIONS_OPERATIONAL_TOTAL" - "CC"."POLICYVIOLATIONS_OPERATIONAL_AUDITED" AS "POLICYVIOLATIONS_OPERATIONAL_UNAUDITED",
+           "CC"."POLICYVIOLATIONS_SECURITY_TOTAL",
+           "CC"."POLICYVIOLATIONS_SECURITY_AUDITED",
+           "CC"."POLICYVIOLATIONS_SECURITY_TOTAL" - "CC"."POLICYVIOLATIONS_SECURITY_AUDITED" AS "POLICYVIOLATIONS_SECURITY_UNAUDITED"
+      FROM "COMPONENT_COUNTS" AS "CC"
+  ),
+  -- For every component, the most recent existing data point that is identical
+  -- to the one calculated above, if any.
+  "EXISTING_COMPONENT_METRICS" AS (
+    SELECT DISTINCT ON ("DM"."COMPONENT_ID")
+           "DM"."COMPONENT_ID",
+           "DM"."ID"
+      FROM "COMPONENT_METRICS" AS "CM"
+     INNER JOIN "DEPENDENCYMETRICS" AS "DM"
+        ON "DM"."COMPONENT_ID" = "CM"."COMPONENT_ID"
+         AND "DM"."VULNERABILITIES" = "CM"."VULNERABILITIES"
+         AND "DM"."CRITICAL" = "CM"."CRITICAL"
+         AND "DM"."HIGH" = "CM"."HIGH"
+         AND "DM"."MEDIUM" = "CM"."MEDIUM"
+         AND "DM"."LOW" = "CM"."LOW"
+         AND "DM"."UNASSIGNED_SEVERITY" = "CM"."UNASSIGNED_SEVERITY"
+         AND "DM"."RISKSCORE" = "CM"."RISKSCORE"
+         AND "DM"."FINDINGS_TOTAL" = "CM"."FINDINGS_TOTAL"
+         AND "DM"."FINDINGS_AUDITED" = "CM"."FINDINGS_AUDITED"
+         AND "DM"."FINDINGS_UNAUDITED" = "CM"."FINDINGS_UNAUDITED"
+         AND "DM"."SUPPRESSED" = "CM"."SUPPRESSED"
+         AND "DM"."POLICYVIOLATIONS_TOTAL" = "CM"."POLICYVIOLATIONS_TOTAL"
+         AND "DM"."POLICYVIOLATIONS_FAIL" = "CM"."POLICYVIOLATIONS_FAIL"
+         AND "DM"."POLICYVIOLATIONS_WARN" = "CM"."POLICYVIOLATIONS_WARN"
+         AND "DM"."POLICYVIOLATIONS_INFO" = "CM"."POLICYVIOLATIONS_INFO"
+         AND "DM"."POLICYVIOLATIONS_AUDITED" = "CM"."POLICYVIOLATIONS_AUDITED"
+         AND "DM"."POLICYVIOLATIONS_UNAUDITED" = "CM"."POLICYVIOLATIONS_UNAUDITED"
+         AND "DM"."POLICYVIOLATIONS_LICENSE_TOTAL" = "CM"."POLICYVIOLATIONS_LICENSE_TOTAL"
+         AND "DM"."POLICYVIOLATIONS_LICENSE_AUDITED" = "CM"."POLICYVIOLATIONS_LICENSE_AUDITED"
+         AND "DM"."POLICYVIOLATIONS_LICENSE_UNAUDITED" = "CM"."POLICYVIOLATIONS_LICENSE_UNAUDITED"
+         AND "DM"."POLICYVIOLATIONS_OPERATIONAL_TOTAL" = "CM"."POLICYVIOLATIONS_OPERATIONAL_TOTAL"
+         AND "DM"."POLICYVIOLATIONS_OPERATIONAL_AUDITED" = "CM"."POLICYVIOLATIONS_OPERATIONAL_AUDITED"
+         AND "DM"."POLICYVIOLATIONS_OPERATIONAL_UNAUDITED" = "CM"."POLICYVIOLATIONS_OPERATIONAL_UNAUDITED"
+         AND "DM"."POLICYVIOLATIONS_SECURITY_TOTAL" = "CM"."POLICYVIOLATIONS_SECURITY_TOTAL"
+         AND "DM"."POLICYVIOLATIONS_SECURITY_AUDITED" = "CM"."POLICYVIOLATIONS_SECURITY_AUDITED"
+         AND "DM"."POLICYVIOLATIONS_SECURITY_UNAUDITED" = "CM"."POLICYVIOLATIONS_SECURITY_UNAUDITED"
+     ORDER BY "DM"."COMPONENT_ID", "DM"."LAST_OCCURRENCE" DESC
+  ),
+  "UPDATED_COMPONENT_METRICS" AS (
+    UPDATE "DEPENDENCYMETRICS"
+       SET "LAST_OCCURRENCE" = NOW()
+      FROM "EXISTING_COMPONENT_METRICS" AS "ECM"
+     WHERE "DEPENDENCYMETRICS"."ID" = "ECM"."ID"
+  ),
+  "INSERTED_COMPONENT_METRICS" AS (
+    INSERT INTO "DEPENDENCYMETRICS" ("COMPONENT_ID",
+                                     "PROJECT_ID",
+                                     "VULNERABILITIES",
+                                     "CRITICAL",
+                                     "HIGH",
+                                     "MEDIUM",
+                                     "LOW",
+                                     "UNASSIGNED_SEVERITY",
+                                     "RISKSCORE",
+                                     "FINDINGS_TOTAL",
+                                     "FINDINGS_AUDITED",
+                                     "FINDINGS_UNAUDITED",
+                                     "SUPPRESSED",
+                                     "POLICYVIOLATIONS_TOTAL",
+                                     "POLICYVIOLATIONS_FAIL",
+                                     "POLICYVIOLATIONS_WARN",
+                                     "POLICYVIOLATIONS_INFO",
+                                     "POLICYVIOLATIONS_AUDITED",
+                                     "POLICYVIOLATIONS_UNAUDITED",
+                                     "POLICYVIOLATIONS_LICENSE_TOTAL",
+                                     "POLICYVIOLATIONS_LICENSE_AUDITED",
+                                     "POLICYVIOLATIONS_LICENSE_UNAUDITED",
+                                     "POLICYVIOLATIONS_OPERATIONAL_TOTAL",
+                                     "POLICYVIOLATIONS_OPERATIONAL_AUDITED",
+                                     "POLICYVIOLATIONS_OPERATIONAL_UNAUDITED",
+                                     "POLICYVIOLATIONS_SECURITY_TOTAL",
+                                     "POLICYVIOLATIONS_SECURITY_AUDITED",
+                                     "POLICYVIOLATIONS_SECURITY_UNAUDITED",
+                                     "FIRST_OCCURRENCE",
+                                     "LAST_OCCURRENCE")
+    SELECT "CM"."COMPONENT_ID",
+           "v_project_id",
+           "CM"."VULNERABILITIES",
+           "CM"."CRITICAL",
+           "CM"."HIGH",
+           "CM"."MEDIUM",
+           "CM"."LOW",
+           "CM"."UNASSIGNED_SEVERITY",
+           "CM"."RISKSCORE",
+           "CM"."FINDINGS_TOTAL",
+           "CM"."FINDINGS_AUDITED",
+           "CM"."FINDINGS_UNAUDITED",
+           "CM"."SUPPRESSED",
+           "CM"."POLICYVIOLATIONS_TOTAL",
+           "CM"."POLICYVIOLATIONS_FAIL",
+           "CM"."POLICYVIOLATIONS_WARN",
+           "CM"."POLICYVIOLATIONS_INFO",
+           "CM"."POLICYVIOLATIONS_AUDITED",
+           "CM"."POLICYVIOLATIONS_UNAUDITED",
+           "CM"."POLICYVIOLATIONS_LICENSE_TOTAL",
+           "CM"."POLICYVIOLATIONS_LICENSE_AUDITED",
+           "CM"."POLICYVIOLATIONS_LICENSE_UNAUDITED",
+           "CM"."POLICYVIOLATIONS_OPERATIONAL_TOTAL",
+           "CM"."POLICYVIOLATIONS_OPERATIONAL_AUDITED",
+           "CM"."POLICYVIOLATIONS_OPERATIONAL_UNAUDITED",
+           "CM"."POLICYVIOLATIONS_SECURITY_TOTAL",
+           "CM"."POLICYVIOLATIONS_SECURITY_AUDITED",
+           "CM"."POLICYVIOLATIONS_SECURITY_UNAUDITED",
+           NOW(),
+           NOW()
+      FROM "COMPONENT_METRICS" AS "CM"
+     WHERE NOT EXISTS(SELECT 1
+                        FROM "EXISTING_COMPONENT_METRICS" AS "ECM"
+                       WHERE "ECM"."COMPONENT_ID" = "CM"."COMPONENT_ID")
+    RETURNING "COMPONENT_ID", "RISKSCORE"
+  ),
+  "UPDATED_COMPONENT_RISK_SCORES" AS (
+    UPDATE "COMPONENT"
+       SET "LAST_RISKSCORE" = "ICM"."RISKSCORE"
+      FROM "INSERTED_COMPONENT_METRICS" AS "ICM"
+     WHERE "COMPONENT"."ID" = "ICM"."COMPONENT_ID"
+  )
+  -- Aggregate over the component metrics calculated above.
   -- NOTE: SUM returns NULL when no rows match the query, but COUNT returns 0.
   -- For nullable result columns, use COALESCE(..., 0) to have a default value.
   SELECT COUNT(*)::INT,
@@ -77,10 +382,7 @@ BEGIN
     COALESCE(SUM("POLICYVIOLATIONS_SECURITY_TOTAL")::INT, 0),
     COALESCE(SUM("POLICYVIOLATIONS_SECURITY_AUDITED")::INT, 0),
     COALESCE(SUM("POLICYVIOLATIONS_SECURITY_UNAUDITED")::INT, 0)
-  FROM (SELECT DISTINCT ON ("DM"."COMPONENT_ID") *
-        FROM "DEPENDENCYMETRICS" AS "DM"
-        WHERE "PROJECT_ID" = "v_project_id"
-        ORDER BY "DM"."COMPONENT_ID", "DM"."LAST_OCCURRENCE" DESC) AS "LATEST_COMPONENT_METRICS"
+  FROM "COMPONENT_METRICS"
   INTO
     "v_components",
     "v_vulnerable_components",
@@ -23,7 +23,9 @@ import alpine.server.persistence.PersistenceManagerFactory;
 import org.apache.kafka.clients.producer.MockProducer;
 import org.datanucleus.PropertyNames;
 import org.datanucleus.api.jdo.JDOPersistenceManagerFactory;
+import org.dependencytrack.auth.PrincipalAccessCache;
 import org.dependencytrack.event.kafka.KafkaProducerInitializer;
+import org.dependencytrack.persistence.ConfigPropertyCache;
 import org.dependencytrack.persistence.QueryManager;
 import org.junit.After;
 import org.junit.AfterClass;
@@ -59,6 +61,8 @@ public abstract class PersistenceCapableTest {
     public void before() throws Exception {
         truncateTables(postgresContainer);
         configurePmf(postgresContainer);
+        PrincipalAccessCache.getInstance().invalidateAll();
+        ConfigPropertyCache.getInstance().invalidateAll();
 
         qm = new QueryManager();
 
@@ -25,7 +25,9 @@ import alpine.server.auth.PasswordService;
 import alpine.server.persistence.PersistenceManagerFactory;
 import org.apache.kafka.clients.producer.MockProducer;
 import org.dependencytrack.auth.Permissions;
+import org.dependencytrack.auth.PrincipalAccessCache;
 import org.dependencytrack.event.kafka.KafkaProducerInitializer;
+import org.dependencytrack.persistence.ConfigPropertyCache;
 import org.dependencytrack.persistence.QueryManager;
 import org.junit.After;
 import org.junit.AfterClass;
@@ -111,6 +113,8 @@ public abstract class ResourceTest {
     public void before() throws Exception {
         truncateTables(postgresContainer);
         configurePmf(postgresContainer);
+        PrincipalAccessCache.getInstance().invalidateAll();
+        ConfigPropertyCache.getInstance().invalidateAll();
 
         // Add a test user and team with API key. Optional if this is used, but its available to all tests.
         this.qm = new QueryManager();
@@ -0,0 +1,122 @@
+/*
+ * This file is part of Dependency-Track.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.dependencytrack.auth;
+
+import alpine.model.ApiKey;
+import alpine.model.ManagedUser;
+import alpine.model.Permission;
+import alpine.model.Team;
+import org.dependencytrack.PersistenceCapableTest;
+import org.dependencytrack.auth.PrincipalAccessCache.PrincipalAccess;
+import org.junit.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class PrincipalAccessCacheTest extends PersistenceCapableTest {
+
+    @Test
+    public void testGetAccessForManagedUser() {
+        final Permission accessManagementPermission = qm.createPermission(
+                Permissions.ACCESS_MANAGEMENT.name(), Permissions.ACCESS_MANAGEMENT.getDescription());
+        final Permission viewPortfolioPermission = qm.createPermission(
+                Permissions.VIEW_PORTFOLIO.name(), Permissions.VIEW_PORTFOLIO.getDescription());
+
+        final Team team = qm.createTeam("team", false);
+        team.setPermissions(List.of(viewPortfolioPermission));
+        qm.persist(team);
+
+        ManagedUser managedUser = qm.createManagedUser("username", "passwordHash");
+        managedUser.setPermissions(List.of(accessManagementPermission));
+        qm.persist(managedUser);
+        qm.addUserToTeam(managedUser, team);
+        managedUser = qm.getManagedUser("username");
+
+        final var cache = new PrincipalAccessCache(Duration.ofMinutes(5));
+        PrincipalAccess access = cache.getAccess(managedUser);
+        assertThat(access).isNotNull();
+        assertThat(access.permissions()).containsExactlyInAnyOrder(
+                Permissions.ACCESS_MANAGEMENT.name(), Permissions.VIEW_PORTFOLIO.name());
+        assertThat(access.teamIds()).containsOnly(team.getId());
+
+        managedUser.setPermissions(List.of());
+        qm.persist(managedUser);
+
+        // Cached value must be used until invalidated.
+        access = cache.getAccess(managedUser);
+        assertThat(access.hasPermission(Permissions.ACCESS_MANAGEMENT.name())).isTrue();
+
+        cache.invalidate(managedUser);
+        access = cache.getAccess(managedUser);
+        assertThat(access.permissions()).containsOnly(Permissions.VIEW_PORTFOLIO.name());
+    }
+
+    @Test
+    public void testGetAccessForApiKey() {
+        final Permission accessManagementPermission = qm.createPermission(
+                Permissions.ACCESS_MANAGEMENT.name(), Permissions.ACCESS_MANAGEMENT.getDescription());
+
+        final Team team = qm.createTeam("team", true);
+        team.setPermissions(List.of(accessManagementPermission));
+        qm.persist(team);
+
+        final ApiKey apiKey = team.getApiKeys().getFirst();
+
+        final var cache = new PrincipalAccessCache(Duration.ofMinutes(5));
+        PrincipalAccess access = cache.getAccess(apiKey);
+        assertThat(access).isNotNull();
+        assertThat(access.permissions()).containsOnly(Permissions.ACCESS_MANAGEMENT.name());
+        assertThat(access.teamIds()).containsOnly(team.getId());
+
+        team.setPermissions(List.of());
+        qm.persist(team);
+
+        // Changes to team permissions require all cached values to be invalidated.
+        cache.invalidateAll();
+        access = cache.getAccess(apiKey);
+        assertThat(access.permissions()).isEmpty();
+    }
+
+    @Test
+    public void testGetAccessWithCachingDisabled() {
+        final Permission accessManagementPermission = qm.createPermission(
+                Permissions.ACCESS_MANAGEMENT.name(), Permissions.ACCESS_MANAGEMENT.getDescription());
+
+        final ManagedUser managedUser = qm.createManagedUser("username", "passwordHash");
+        managedUser.setPermissions(List.of(accessManagementPermission));
+        qm.persist(managedUser);
+
+        final var cache = new PrincipalAccessCache(Duration.ZERO);
+        assertThat(cache.getAccess(managedUser).permissions()).containsOnly(Permissions.ACCESS_MANAGEMENT.name());
+
+        managedUser.setPermissions(List.of());
+        qm.persist(managedUser);
+
+        assertThat(cache.getAccess(managedUser).permissions()).isEmpty();
+    }
+
+    @Test
+    public void testGetAccessWithoutPrincipal() {
+        final var cache = new PrincipalAccessCache(Duration.ofMinutes(5));
+        assertThat(cache.getAccess(null)).isNull();
+    }
+
+}
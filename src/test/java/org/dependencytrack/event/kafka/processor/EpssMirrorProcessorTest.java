@@ -18,10 +18,14 @@
  */
 package org.dependencytrack.event.kafka.processor;
 
+import alpine.common.metrics.Metrics;
+import io.micrometer.core.instrument.Counter;
 import org.dependencytrack.event.kafka.processor.exception.ProcessingException;
+import org.dependencytrack.model.Epss;
 import org.dependencytrack.proto.mirror.v1.EpssItem;
 import org.junit.Test;
 
+import java.math.BigDecimal;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -47,4 +51,60 @@ public class EpssMirrorProcessorTest extends AbstractProcessorTest {
         final var epss = qm.getEpssByCveId("CVE-333");
         assertThat(epss).isNull();
     }
+
+    @Test
+    public void testProcessBatchWithExistingEpssRecords() throws ProcessingException {
+        final var existingUnchanged = new Epss();
+        existingUnchanged.setCve("CVE-111");
+        existingUnchanged.setScore(new BigDecimal("1.1"));
+        existingUnchanged.setPercentile(new BigDecimal("2.2"));
+        qm.synchronizeEpss(existingUnchanged);
+
+        final var existingChanged = new Epss();
+        existingChanged.setCve("CVE-222");
+        existingChanged.setScore(new BigDecimal("3.3"));
+        existingChanged.setPercentile(new BigDecimal("4.4"));
+        qm.synchronizeEpss(existingChanged);
+
+        final double insertedBefore = getRecordCount("inserted");
+        final double updatedBefore = getRecordCount("updated");
+        final double skippedBefore = getRecordCount("skipped");
+
+        final var processor = new EpssMirrorProcessor();
+        processor.process(List.of(
+                aConsumerRecord("CVE-111", EpssItem.newBuilder()
+                        .setCve("CVE-111").setEpss(1.1).setPercentile(2.2).build()).build(),
+                aConsumerRecord("CVE-222", EpssItem.newBuilder()
+                        .setCve("CVE-222").setEpss(5.5).setPercentile(6.6).build()).build(),
+                aConsumerRecord("CVE-333", EpssItem.newBuilder()
+                        .setCve("CVE-333").setEpss(7.7).setPercentile(8.8).build()).build(),
+                aConsumerRecord("CVE-333", EpssItem.newBuilder()
+                        .setCve("CVE-333").setEpss(9.9).setPercentile(1.0).build()).build()
+        ));
+
+        qm.getPersistenceManager().evictAll();
+
+        assertThat(qm.getEpssByCveId("CVE-111")).satisfies(epss -> {
+            assertThat(epss.getScore()).isEqualByComparingTo("1.1");
+            assertThat(epss.getPercentile()).isEqualByComparingTo("2.2");
+        });
+        assertThat(qm.getEpssByCveId("CVE-222")).satisfies(epss -> {
+            assertThat(epss.getScore()).isEqualByComparingTo("5.5");
+            assertThat(epss.getPercentile()).isEqualByComparingTo("6.6");
+        });
+        assertThat(qm.getEpssByCveId("CVE-333")).satisfies(epss -> {
+            assertThat(epss.getScore()).isEqualByComparingTo("9.9");
+            assertThat(epss.getPercentile()).isEqualByComparingTo("1.0");
+        });
+
+        // Only the last of both records for CVE-333 is synchronized.
+        assertThat(getRecordCount("inserted") - insertedBefore).isEqualTo(1);
+        assertThat(getRecordCount("updated") - updatedBefore).isEqualTo(1);
+        assertThat(getRecordCount("skipped") - skippedBefore).isEqualTo(1);
+    }
+
+    private static double getRecordCount(final String result) {
+        final Counter counter = Metrics.getRegistry().find("epss_mirror_records").tag("result", result).counter();
+        return counter != null ? counter.count() : 0;
+    }
 }
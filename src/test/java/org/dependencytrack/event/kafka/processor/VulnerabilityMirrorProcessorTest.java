@@ -19,13 +19,19 @@
 package org.dependencytrack.event.kafka.processor;
 
 import io.github.nscuro.versatile.Vers;
+import org.dependencytrack.model.AnalyzerIdentity;
+import org.dependencytrack.model.Component;
+import org.dependencytrack.model.Project;
 import org.dependencytrack.model.Severity;
 import org.dependencytrack.model.Vulnerability;
+import org.dependencytrack.model.VulnerableSoftware;
 import org.junit.Test;
 
 import java.util.List;
+import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.dependencytrack.persistence.jdbi.JdbiFactory.withJdbiHandle;
 import static org.dependencytrack.util.KafkaTestUtil.generateBomFromJson;
 
 public class VulnerabilityMirrorProcessorTest extends AbstractProcessorTest {
@@ -77,7 +83,7 @@ public class VulnerabilityMirrorProcessorTest extends AbstractProcessorTest {
                 """;
 
         final var processor = new VulnerabilityMirrorProcessor();
-        processor.process(aConsumerRecord("NVD/CVE-2022-40489", generateBomFromJson(bovJson)).build());
+        processor.process(List.of(aConsumerRecord("NVD/CVE-2022-40489", generateBomFromJson(bovJson)).build()));
 
         final Vulnerability vuln = qm.getVulnerabilityByVulnId("NVD", "CVE-2022-40489");
         assertThat(vuln).isNotNull();
@@ -210,7 +216,7 @@ public class VulnerabilityMirrorProcessorTest extends AbstractProcessorTest {
                 """;
 
         final var processor = new VulnerabilityMirrorProcessor();
-        processor.process(aConsumerRecord("GITHUB/GHSA-fxwm-579q-49qq", generateBomFromJson(bovJson)).build());
+        processor.process(List.of(aConsumerRecord("GITHUB/GHSA-fxwm-579q-49qq", generateBomFromJson(bovJson)).build()));
 
         final Vulnerability vuln = qm.getVulnerabilityByVulnId("GITHUB", "GHSA-fxwm-579q-49qq");
         assertThat(vuln).isNotNull();
@@ -415,7 +421,7 @@ public class VulnerabilityMirrorProcessorTest extends AbstractProcessorTest {
                 """;
 
         final var processor = new VulnerabilityMirrorProcessor();
-        processor.process(aConsumerRecord("OSV/GHSA-2cc5-23r7-vc4v", generateBomFromJson(bovJson)).build());
+        processor.process(List.of(aConsumerRecord("OSV/GHSA-2cc5-23r7-vc4v", generateBomFromJson(bovJson)).build()));
 
         final Vulnerability vuln = qm.getVulnerabilityByVulnId("GITHUB", "GHSA-2cc5-23r7-vc4v");
         assertThat(vuln).isNotNull();
@@ -562,7 +568,7 @@ public class VulnerabilityMirrorProcessorTest extends AbstractProcessorTest {
                 """;
 
         final var processor = new VulnerabilityMirrorProcessor();
-        processor.process(aConsumerRecord("NVD/CVE-2022-40489", generateBomFromJson(bovJson)).build());
+        processor.process(List.of(aConsumerRecord("NVD/CVE-2022-40489", generateBomFromJson(bovJson)).build()));
 
         final Vulnerability vuln = qm.getVulnerabilityByVulnId("NVD", "CVE-2022-40489");
         assertThat(vuln).isNotNull();
@@ -629,7 +635,7 @@ public class VulnerabilityMirrorProcessorTest extends AbstractProcessorTest {
                 """;
 
         final var processor = new VulnerabilityMirrorProcessor();
-        processor.process(aConsumerRecord("NVD/CVE-2022-40489", generateBomFromJson(bovJson)).build());
+        processor.process(List.of(aConsumerRecord("NVD/CVE-2022-40489", generateBomFromJson(bovJson)).build()));
 
         final Vulnerability vuln = qm.getVulnerabilityByVulnId("NVD", "CVE-2022-40489");
         assertThat(vuln).isNotNull();
@@ -722,7 +728,7 @@ public class VulnerabilityMirrorProcessorTest extends AbstractProcessorTest {
                 """;
 
         final var processor = new VulnerabilityMirrorProcessor();
-        processor.process(aConsumerRecord("NVD/CVE-2022-40489", generateBomFromJson(bovJson)).build());
+        processor.process(List.of(aConsumerRecord("NVD/CVE-2022-40489", generateBomFromJson(bovJson)).build()));
 
         final Vulnerability vuln = qm.getVulnerabilityByVulnId("NVD", "CVE-2022-40489");
         assertThat(vuln).isNotNull();
@@ -1016,7 +1022,7 @@ public class VulnerabilityMirrorProcessorTest extends AbstractProcessorTest {
                 """;
 
         final var processor = new VulnerabilityMirrorProcessor();
-        processor.process(aConsumerRecord("NVD/CVE-2022-40489", generateBomFromJson(bovJson)).build());
+        processor.process(List.of(aConsumerRecord("NVD/CVE-2022-40489", generateBomFromJson(bovJson)).build()));
 
         final Vulnerability vuln = qm.getVulnerabilityByVulnId("NVD", "CVE-2022-40489");
         assertThat(vuln).isNotNull();
@@ -1052,6 +1058,157 @@ public class VulnerabilityMirrorProcessorTest extends AbstractProcessorTest {
         assertThat(vuln.getVulnerableSoftware()).isEmpty();
     }
 
+    @Test
+    public void testProcessBatchWithSharedVulnerableSoftware() throws Exception {
+        final var processor = new VulnerabilityMirrorProcessor();
+        processor.process(List.of(
+                aConsumerRecord("NVD/CVE-2022-0001", generateBomFromJson(createBovJson("CVE-2022-0001", "NVD",
+                        "cpe:2.3:a:thinkcmf:thinkcmf:*:*:*:*:*:*:*:*", "vers:generic/<6.0.8"))).build(),
+                aConsumerRecord("NVD/CVE-2022-0002", generateBomFromJson(createBovJson("CVE-2022-0002", "NVD",
+                        "cpe:2.3:a:thinkcmf:thinkcmf:*:*:*:*:*:*:*:*", "vers:generic/<6.0.8"))).build()));
+
+        final Vulnerability vulnA = qm.getVulnerabilityByVulnId("NVD", "CVE-2022-0001");
+        final Vulnerability vulnB = qm.getVulnerabilityByVulnId("NVD", "CVE-2022-0002");
+        assertThat(vulnA.getVulnerableSoftware()).hasSize(1);
+        assertThat(vulnB.getVulnerableSoftware()).hasSize(1);
+
+        final VulnerableSoftware vs = vulnA.getVulnerableSoftware().get(0);
+        assertThat(vs.getId()).isEqualTo(vulnB.getVulnerableSoftware().get(0).getId());
+        assertThat(vs.getCpe23()).isEqualTo("cpe:2.3:a:thinkcmf:thinkcmf:*:*:*:*:*:*:*:*");
+        assertThat(vs.getVersionEndExcluding()).isEqualTo("6.0.8");
+        assertThat(vs.getUuid()).isNotNull();
+        assertThat(qm.getAffectedVersionAttributions(vulnA, vs)).satisfiesExactly(
+                attribution -> assertThat(attribution.getSource()).isEqualTo(Vulnerability.Source.NVD));
+        assertThat(qm.getAffectedVersionAttributions(vulnB, vs)).satisfiesExactly(
+                attribution -> assertThat(attribution.getSource()).isEqualTo(Vulnerability.Source.NVD));
+    }
+
+    @Test
+    public void testProcessVulnRetainsVulnerableSoftwareReportedByOtherSource() throws Exception {
+        final var processor = new VulnerabilityMirrorProcessor();
+        processor.process(List.of(
+                aConsumerRecord("GITHUB/GHSA-2cc5-23r7-vc4v", generateBomFromJson(createBovJson("GHSA-2cc5-23r7-vc4v", "GITHUB",
+                        "pkg:maven/io.ratpack/ratpack-session", "vers:maven/<1.9.0"))).build(),
+                aConsumerRecord("OSV/GHSA-2cc5-23r7-vc4v", generateBomFromJson(createBovJson("GHSA-2cc5-23r7-vc4v", "GITHUB",
+                        "pkg:maven/io.ratpack/ratpack-session", "vers:maven/<1.8.0"))).build()));
+
+        // GitHub no longer reports <1.9.0, but <1.9.1.
+        processor.process(List.of(
+                aConsumerRecord("GITHUB/GHSA-2cc5-23r7-vc4v", generateBomFromJson(createBovJson("GHSA-2cc5-23r7-vc4v", "GITHUB",
+                        "pkg:maven/io.ratpack/ratpack-session", "vers:maven/<1.9.1"))).build()));
+
+        final Vulnerability vuln = qm.getVulnerabilityByVulnId("GITHUB", "GHSA-2cc5-23r7-vc4v");
+        assertThat(vuln.getVulnerableSoftware()).satisfiesExactly(
+                vs -> {
+                    assertThat(vs.getVersionEndExcluding()).isEqualTo("1.8.0");
+                    assertThat(qm.getAffectedVersionAttributions(vuln, vs)).satisfiesExactly(
+                            attribution -> assertThat(attribution.getSource()).isEqualTo(Vulnerability.Source.OSV));
+                },
+                vs -> {
+                    assertThat(vs.getVersionEndExcluding()).isEqualTo("1.9.1");
+                    assertThat(qm.getAffectedVersionAttributions(vuln, vs)).satisfiesExactly(
+                            attribution -> assertThat(attribution.getSource()).isEqualTo(Vulnerability.Source.GITHUB));
+                });
+    }
+
+    @Test
+    public void testProcessUpdatesExistingVuln() throws Exception {
+        final var existingVuln = new Vulnerability();
+        existingVuln.setVulnId("CVE-2022-0001");
+        existingVuln.setSource(Vulnerability.Source.NVD);
+        existingVuln.setDescription("outdated");
+        final long existingVulnId = qm.createVulnerability(existingVuln, false).getId();
+        final UUID existingVulnUuid = existingVuln.getUuid();
+
+        final var processor = new VulnerabilityMirrorProcessor();
+        processor.process(List.of(
+                aConsumerRecord("NVD/CVE-2022-0001", generateBomFromJson(createBovJson("CVE-2022-0001", "NVD",
+                        "cpe:2.3:a:thinkcmf:thinkcmf:*:*:*:*:*:*:*:*", "vers:generic/<6.0.8"))).build(),
+                aConsumerRecord("NVD/CVE-2022-0002", generateBomFromJson(createBovJson("CVE-2022-0002", "NVD",
+                        "cpe:2.3:a:thinkcmf:thinkcmf:*:*:*:*:*:*:*:*", "vers:generic/<6.0.8"))).build()));
+
+        qm.getPersistenceManager().evictAll();
+        final Vulnerability vulnA = qm.getVulnerabilityByVulnId("NVD", "CVE-2022-0001");
+        assertThat(vulnA.getId()).isEqualTo(existingVulnId);
+        assertThat(vulnA.getUuid()).isEqualTo(existingVulnUuid);
+        assertThat(vulnA.getDescription()).isNull();
+        assertThat(vulnA.getVulnerableSoftware()).hasSize(1);
+
+        final Vulnerability vulnB = qm.getVulnerabilityByVulnId("NVD", "CVE-2022-0002");
+        assertThat(vulnB.getUuid()).isNotNull();
+        assertThat(vulnB.getVulnerableSoftware()).hasSize(1);
+    }
+
+    @Test
+    public void testProcessMarksProjectsDirtyWhenSeverityChanged() throws Exception {
+        environmentVariables.set("METRICS_INCREMENTAL_ENABLED", "true");
+
+        final var changedVuln = new Vulnerability();
+        changedVuln.setVulnId("CVE-2022-0001");
+        changedVuln.setSource(Vulnerability.Source.NVD);
+        changedVuln.setSeverity(Severity.LOW);
+        qm.createVulnerability(changedVuln, false);
+
+        final var otherVuln = new Vulnerability();
+        otherVuln.setVulnId("CVE-2022-0002");
+        otherVuln.setSource(Vulnerability.Source.NVD);
+        otherVuln.setSeverity(Severity.LOW);
+        qm.createVulnerability(otherVuln, false);
+
+        final Project projectA = qm.createProject("acme-app-a", null, "1.0", null, null, null, true, false);
+        final var componentA = new Component();
+        componentA.setProject(projectA);
+        componentA.setName("acme-lib");
+        qm.persist(componentA);
+        qm.addVulnerability(changedVuln, componentA, AnalyzerIdentity.INTERNAL_ANALYZER);
+
+        final Project projectB = qm.createProject("acme-app-b", null, "1.0", null, null, null, true, false);
+        final var componentB = new Component();
+        componentB.setProject(projectB);
+        componentB.setName("acme-lib");
+        qm.persist(componentB);
+        qm.addVulnerability(otherVuln, componentB, AnalyzerIdentity.INTERNAL_ANALYZER);
+
+        final var processor = new VulnerabilityMirrorProcessor();
+        processor.process(List.of(
+                aConsumerRecord("NVD/CVE-2022-0001", generateBomFromJson(createBovJson("CVE-2022-0001", "NVD",
+                        "cpe:2.3:a:thinkcmf:thinkcmf:*:*:*:*:*:*:*:*", "vers:generic/<6.0.8"))).build()));
+
+        final List<Long> dirtyProjectIds = withJdbiHandle(handle -> handle.createQuery("""
+                        SELECT "PROJECT_ID" FROM "DIRTY_PROJECT_METRICS"
+                        """)
+                .mapTo(Long.class)
+                .list());
+        assertThat(dirtyProjectIds).containsOnly(projectA.getId());
+    }
+
+    private static String createBovJson(final String vulnId, final String source, final String identifier, final String range) {
+        return """
+                {
+                  "components": [
+                    {
+                      "bomRef": "component",
+                      "%s": "%s"
+                    }
+                  ],
+                  "vulnerabilities": [
+                    {
+                      "id": "%s",
+                      "source": { "name": "%s" },
+                      "affects": [
+                        {
+                          "ref": "component",
+                          "versions": [
+                            { "range": "%s" }
+                          ]
+                        }
+                      ]
+                    }
+                  ]
+                }
+                """.formatted(identifier.startsWith("cpe:") ? "cpe" : "purl", identifier, vulnId, source, range);
+    }
+
     @Test
     public void testConvertRangeToVersList() {
         var range = "vers:earth/<=6.0.7";
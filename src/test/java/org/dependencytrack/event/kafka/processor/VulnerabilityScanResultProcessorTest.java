@@ -47,6 +47,7 @@ import org.dependencytrack.model.Severity;
 import org.dependencytrack.model.Vulnerability;
 import org.dependencytrack.model.VulnerabilityAlias;
 import org.dependencytrack.model.VulnerabilityAnalysisLevel;
+import org.dependencytrack.model.VulnerabilityScan;
 import org.dependencytrack.notification.NotificationConstants;
 import org.dependencytrack.persistence.jdbi.VulnerabilityPolicyDao;
 import org.dependencytrack.policy.cel.CelPolicyScriptHost;
@@ -142,7 +143,7 @@ public class VulnerabilityScanResultProcessorTest extends AbstractProcessorTest
                         .setFailureReason("just because"))
                 .build();
 
-        processor.process(aConsumerRecord(scanKey, scanResult).build());
+        processor.process(List.of(aConsumerRecord(scanKey, scanResult).build()));
 
         assertThat(kafkaMockProducer.history()).satisfiesExactly(
                 record -> {
@@ -188,7 +189,7 @@ public class VulnerabilityScanResultProcessorTest extends AbstractProcessorTest
                         .setStatus(SCAN_STATUS_PENDING))
                 .build();
 
-        processor.process(aConsumerRecord(scanKey, scanResult).build());
+        processor.process(List.of(aConsumerRecord(scanKey, scanResult).build()));
 
         assertThat(kafkaMockProducer.history()).satisfiesExactly(record -> {
             assertThat(record.topic()).isEqualTo(KafkaTopics.VULN_ANALYSIS_RESULT_PROCESSED.name());
@@ -215,7 +216,7 @@ public class VulnerabilityScanResultProcessorTest extends AbstractProcessorTest
                         .setBom(Bom.newBuilder().addVulnerabilities(createVuln("INT-001", "INTERNAL"))))
                 .build();
 
-        processor.process(aConsumerRecord(scanKey, scanResult).build());
+        processor.process(List.of(aConsumerRecord(scanKey, scanResult).build()));
 
         assertThat(kafkaMockProducer.history()).satisfiesExactly(record -> {
             assertThat(record.topic()).isEqualTo(KafkaTopics.VULN_ANALYSIS_RESULT_PROCESSED.name());
@@ -270,7 +271,7 @@ public class VulnerabilityScanResultProcessorTest extends AbstractProcessorTest
         headers.add(KafkaEventHeaders.VULN_ANALYSIS_LEVEL, VulnerabilityAnalysisLevel.BOM_UPLOAD_ANALYSIS.name().getBytes());
         headers.add(KafkaEventHeaders.IS_NEW_COMPONENT, "true".getBytes());
 
-        processor.process(aConsumerRecord(scanKey, scanResult).withHeaders(headers).build());;
+        processor.process(List.of(aConsumerRecord(scanKey, scanResult).withHeaders(headers).build()));
 
         qm.getPersistenceManager().refresh(component);
         assertThat(component.getVulnerabilities()).satisfiesExactlyInAnyOrder(
@@ -383,7 +384,7 @@ public class VulnerabilityScanResultProcessorTest extends AbstractProcessorTest
                         .setBom(Bom.newBuilder().addVulnerabilities(createVuln("CVE-001", "NVD"))))
                 .build();
 
-        processor.process(aConsumerRecord(scanKey, scanResult).build());
+        processor.process(List.of(aConsumerRecord(scanKey, scanResult).build()));
 
         qm.getPersistenceManager().refreshAll(component, vulnerability);
         assertThat(component.getVulnerabilities()).satisfiesExactly(
@@ -489,7 +490,7 @@ public class VulnerabilityScanResultProcessorTest extends AbstractProcessorTest
                                         .build())))
                 .build();
 
-        processor.process(aConsumerRecord(scanKey, scanResult).build());
+        processor.process(List.of(aConsumerRecord(scanKey, scanResult).build()));
 
         qm.getPersistenceManager().refreshAll(component, vulnerability);
         assertThat(component.getVulnerabilities()).satisfiesExactly(
@@ -589,7 +590,7 @@ public class VulnerabilityScanResultProcessorTest extends AbstractProcessorTest
                                         .build())))
                 .build();
 
-        processor.process(aConsumerRecord(scanKey, scanResult).build());
+        processor.process(List.of(aConsumerRecord(scanKey, scanResult).build()));
 
         qm.getPersistenceManager().refreshAll(component, vulnerability);
         assertThat(component.getVulnerabilities()).hasSize(1);
@@ -675,7 +676,7 @@ public class VulnerabilityScanResultProcessorTest extends AbstractProcessorTest
                                 createVuln(newVuln.getVulnId(), newVuln.getSource())
                         ))))
                 .build();
-        processor.process(aConsumerRecord(scanKey, scanResult).build());
+        processor.process(List.of(aConsumerRecord(scanKey, scanResult).build()));
 
         qm.getPersistenceManager().evictAll();
         assertThat(component.getVulnerabilities()).satisfiesExactly(
@@ -778,7 +779,7 @@ public class VulnerabilityScanResultProcessorTest extends AbstractProcessorTest
                                 createVuln(newVuln.getVulnId(), newVuln.getSource())
                         ))))
                 .build();
-        processor.process(aConsumerRecord(scanKey, scanResult).build());
+        processor.process(List.of(aConsumerRecord(scanKey, scanResult).build()));
 
         qm.getPersistenceManager().evictAll();
         assertThat(component.getVulnerabilities()).satisfiesExactly(
@@ -882,7 +883,7 @@ public class VulnerabilityScanResultProcessorTest extends AbstractProcessorTest
                                 createVuln(vuln.getVulnId(), vuln.getSource())
                         ))))
                 .build();
-        processor.process(aConsumerRecord(scanKey, scanResult).build());
+        processor.process(List.of(aConsumerRecord(scanKey, scanResult).build()));
 
         qm.getPersistenceManager().evictAll();
         assertThat(component.getVulnerabilities()).satisfiesExactly(
@@ -1003,7 +1004,7 @@ public class VulnerabilityScanResultProcessorTest extends AbstractProcessorTest
                                 createVuln(vuln.getVulnId(), vuln.getSource())
                         ))))
                 .build();
-        processor.process(aConsumerRecord(scanKey, scanResult).build());
+        processor.process(List.of(aConsumerRecord(scanKey, scanResult).build()));
 
         qm.getPersistenceManager().evictAll();
         assertThat(component.getVulnerabilities()).satisfiesExactly(
@@ -1113,7 +1114,7 @@ public class VulnerabilityScanResultProcessorTest extends AbstractProcessorTest
                                         .build()
                         ))))
                 .build();
-        processor.process(aConsumerRecord(scanKey, scanResult).build());
+        processor.process(List.of(aConsumerRecord(scanKey, scanResult).build()));
 
         qm.getPersistenceManager().evictAll();
         assertThat(component.getVulnerabilities()).satisfiesExactlyInAnyOrder(
@@ -1226,7 +1227,7 @@ public class VulnerabilityScanResultProcessorTest extends AbstractProcessorTest
                                 createVuln(vulnB.getVulnId(), vulnB.getSource())
                         ))))
                 .build();
-        processor.process(aConsumerRecord(scanKey, scanResult).build());
+        processor.process(List.of(aConsumerRecord(scanKey, scanResult).build()));
 
         qm.getPersistenceManager().evictAll();
         assertThat(component.getVulnerabilities()).satisfiesExactly(
@@ -1325,7 +1326,7 @@ public class VulnerabilityScanResultProcessorTest extends AbstractProcessorTest
                                 createVuln(vuln.getVulnId(), vuln.getSource())
                         ))))
                 .build();
-        processor.process(aConsumerRecord(scanKey, scanResult).build());
+        processor.process(List.of(aConsumerRecord(scanKey, scanResult).build()));
 
         qm.getPersistenceManager().evictAll();
         assertThat(qm.getAnalysis(component, vuln)).isNull();
@@ -1382,7 +1383,7 @@ public class VulnerabilityScanResultProcessorTest extends AbstractProcessorTest
                                 createVuln(vuln.getVulnId(), vuln.getSource())
                         ))))
                 .build();
-        processor.process(aConsumerRecord(scanKey, scanResult).build());
+        processor.process(List.of(aConsumerRecord(scanKey, scanResult).build()));
 
         qm.getPersistenceManager().refresh(analysis);
         assertThat(analysis.getAnalysisDetails()).isEqualTo("newDetails");
@@ -1434,12 +1435,246 @@ public class VulnerabilityScanResultProcessorTest extends AbstractProcessorTest
                                 createVuln(vuln.getVulnId(), vuln.getSource())
                         ))))
                 .build();
-        processor.process(aConsumerRecord(scanKey, scanResult).build());
+        processor.process(List.of(aConsumerRecord(scanKey, scanResult).build()));
 
         qm.getPersistenceManager().evictAll();
         assertThat(qm.getAnalysis(component, vuln)).isNull();
     }
 
+    @Test
+    public void processBatchWithVulnerabilityReportedForMultipleComponentsTest() {
+        final var project = new Project();
+        project.setName("acme-app");
+        project.setVersion("1.0.0");
+        qm.persist(project);
+
+        final var componentA = new Component();
+        componentA.setName("acme-lib-a");
+        componentA.setVersion("1.1.0");
+        componentA.setProject(project);
+        qm.persist(componentA);
+
+        final var componentB = new Component();
+        componentB.setName("acme-lib-b");
+        componentB.setVersion("2.2.0");
+        componentB.setProject(project);
+        qm.persist(componentB);
+
+        final var scanToken = UUID.randomUUID().toString();
+        final var scanKeyA = ScanKey.newBuilder().setScanToken(scanToken).setComponentUuid(componentA.getUuid().toString()).build();
+        final var scanResultA = ScanResult.newBuilder()
+                .setKey(scanKeyA)
+                .addScannerResults(ScannerResult.newBuilder()
+                        .setScanner(SCANNER_OSSINDEX)
+                        .setStatus(SCAN_STATUS_SUCCESSFUL)
+                        .setBom(Bom.newBuilder().addVulnerabilities(createVuln("sonatype-001", "OSSINDEX"))))
+                .build();
+        final var scanKeyB = ScanKey.newBuilder().setScanToken(scanToken).setComponentUuid(componentB.getUuid().toString()).build();
+        final var scanResultB = ScanResult.newBuilder()
+                .setKey(scanKeyB)
+                .addScannerResults(ScannerResult.newBuilder()
+                        .setScanner(SCANNER_OSSINDEX)
+                        .setStatus(SCAN_STATUS_SUCCESSFUL)
+                        .setBom(Bom.newBuilder().addVulnerabilities(createVuln("sonatype-001", "OSSINDEX"))))
+                .build();
+
+        processor.process(List.of(
+                aConsumerRecord(scanKeyA, scanResultA).build(),
+                aConsumerRecord(scanKeyB, scanResultB).build()
+        ));
+
+        final Vulnerability vuln = qm.getVulnerabilityByVulnId(Vulnerability.Source.OSSINDEX, "sonatype-001");
+        assertThat(vuln).isNotNull();
+
+        qm.getPersistenceManager().refreshAll(componentA, componentB);
+        assertThat(componentA.getVulnerabilities()).extracting(Vulnerability::getVulnId).containsOnly("sonatype-001");
+        assertThat(componentB.getVulnerabilities()).extracting(Vulnerability::getVulnId).containsOnly("sonatype-001");
+        assertThat(qm.getFindingAttribution(vuln, componentA).getAnalyzerIdentity()).isEqualTo(AnalyzerIdentity.OSSINDEX_ANALYZER);
+        assertThat(qm.getFindingAttribution(vuln, componentB).getAnalyzerIdentity()).isEqualTo(AnalyzerIdentity.OSSINDEX_ANALYZER);
+
+        assertThat(kafkaMockProducer.history())
+                .filteredOn(record -> record.topic().equals(KafkaTopics.VULN_ANALYSIS_RESULT_PROCESSED.name()))
+                .hasSize(2);
+        assertThat(kafkaMockProducer.history())
+                .filteredOn(record -> record.topic().equals(KafkaTopics.NOTIFICATION_NEW_VULNERABILITY.name()))
+                .satisfiesExactlyInAnyOrder(
+                        record -> {
+                            final Notification notification = deserializeValue(KafkaTopics.NOTIFICATION_NEW_VULNERABILITY, record);
+                            final var subject = notification.getSubject().unpack(NewVulnerabilitySubject.class);
+                            assertThat(subject.getComponent().getName()).isEqualTo("acme-lib-a");
+                        },
+                        record -> {
+                            final Notification notification = deserializeValue(KafkaTopics.NOTIFICATION_NEW_VULNERABILITY, record);
+                            final var subject = notification.getSubject().unpack(NewVulnerabilitySubject.class);
+                            assertThat(subject.getComponent().getName()).isEqualTo("acme-lib-b");
+                        }
+                );
+    }
+
+    @Test
+    public void processResultOfProjectScanWithComponentsSharingIdentityTest() {
+        final var project = new Project();
+        project.setName("acme-app");
+        project.setVersion("1.0.0");
+        qm.persist(project);
+
+        final var componentA = new Component();
+        componentA.setName("acme-lib");
+        componentA.setVersion("1.1.0");
+        componentA.setPurl("pkg:maven/com.acme/acme-lib@1.1.0?type=jar");
+        componentA.setPurlCoordinates("pkg:maven/com.acme/acme-lib@1.1.0");
+        componentA.setProject(project);
+        qm.persist(componentA);
+
+        final var componentB = new Component();
+        componentB.setName("acme-lib");
+        componentB.setVersion("1.1.0");
+        componentB.setPurl("pkg:maven/com.acme/acme-lib@1.1.0?type=pom");
+        componentB.setPurlCoordinates("pkg:maven/com.acme/acme-lib@1.1.0");
+        componentB.setProject(project);
+        qm.persist(componentB);
+
+        // Same purl coordinates, but of another project.
+        final var otherProject = new Project();
+        otherProject.setName("acme-app-other");
+        otherProject.setVersion("1.0.0");
+        qm.persist(otherProject);
+
+        final var componentOtherProject = new Component();
+        componentOtherProject.setName("acme-lib");
+        componentOtherProject.setVersion("1.1.0");
+        componentOtherProject.setPurl("pkg:maven/com.acme/acme-lib@1.1.0");
+        componentOtherProject.setPurlCoordinates("pkg:maven/com.acme/acme-lib@1.1.0");
+        componentOtherProject.setProject(otherProject);
+        qm.persist(componentOtherProject);
+
+        final var scanToken = UUID.randomUUID().toString();
+        qm.createVulnerabilityScan(VulnerabilityScan.TargetType.PROJECT, project.getUuid(), scanToken, 1);
+
+        final var scanKey = ScanKey.newBuilder().setScanToken(scanToken).setComponentUuid(componentA.getUuid().toString()).build();
+        final var scanResult = ScanResult.newBuilder()
+                .setKey(scanKey)
+                .addScannerResults(ScannerResult.newBuilder()
+                        .setScanner(SCANNER_OSSINDEX)
+                        .setStatus(SCAN_STATUS_SUCCESSFUL)
+                        .setBom(Bom.newBuilder().addVulnerabilities(createVuln("sonatype-001", "OSSINDEX"))))
+                .build();
+
+        processor.process(List.of(aConsumerRecord(scanKey, scanResult).build()));
+
+        qm.getPersistenceManager().refreshAll(componentA, componentB, componentOtherProject);
+        assertThat(componentA.getVulnerabilities()).extracting(Vulnerability::getVulnId).containsOnly("sonatype-001");
+        assertThat(componentB.getVulnerabilities()).extracting(Vulnerability::getVulnId).containsOnly("sonatype-001");
+        assertThat(componentOtherProject.getVulnerabilities()).isEmpty();
+
+        // Bookkeeping of the scan must still count a single result.
+        assertThat(kafkaMockProducer.history())
+                .filteredOn(record -> record.topic().equals(KafkaTopics.VULN_ANALYSIS_RESULT_PROCESSED.name()))
+                .hasSize(1);
+        assertThat(kafkaMockProducer.history())
+                .filteredOn(record -> record.topic().equals(KafkaTopics.NOTIFICATION_NEW_VULNERABILITY.name()))
+                .hasSize(2);
+    }
+
+    @Test
+    public void processResultOfComponentScanWithComponentsSharingIdentityTest() {
+        final var project = new Project();
+        project.setName("acme-app");
+        project.setVersion("1.0.0");
+        qm.persist(project);
+
+        final var componentA = new Component();
+        componentA.setName("acme-lib");
+        componentA.setVersion("1.1.0");
+        componentA.setPurl("pkg:maven/com.acme/acme-lib@1.1.0?type=jar");
+        componentA.setPurlCoordinates("pkg:maven/com.acme/acme-lib@1.1.0");
+        componentA.setProject(project);
+        qm.persist(componentA);
+
+        final var componentB = new Component();
+        componentB.setName("acme-lib");
+        componentB.setVersion("1.1.0");
+        componentB.setPurl("pkg:maven/com.acme/acme-lib@1.1.0?type=pom");
+        componentB.setPurlCoordinates("pkg:maven/com.acme/acme-lib@1.1.0");
+        componentB.setProject(project);
+        qm.persist(componentB);
+
+        final var scanToken = UUID.randomUUID().toString();
+        qm.createVulnerabilityScan(VulnerabilityScan.TargetType.COMPONENT, componentA.getUuid(), scanToken, 1);
+
+        final var scanKey = ScanKey.newBuilder().setScanToken(scanToken).setComponentUuid(componentA.getUuid().toString()).build();
+        final var scanResult = ScanResult.newBuilder()
+                .setKey(scanKey)
+                .addScannerResults(ScannerResult.newBuilder()
+                        .setScanner(SCANNER_OSSINDEX)
+                        .setStatus(SCAN_STATUS_SUCCESSFUL)
+                        .setBom(Bom.newBuilder().addVulnerabilities(createVuln("sonatype-001", "OSSINDEX"))))
+                .build();
+
+        processor.process(List.of(aConsumerRecord(scanKey, scanResult).build()));
+
+        // Results of scans targeting individual components must not be fanned out.
+        qm.getPersistenceManager().refreshAll(componentA, componentB);
+        assertThat(componentA.getVulnerabilities()).extracting(Vulnerability::getVulnId).containsOnly("sonatype-001");
+        assertThat(componentB.getVulnerabilities()).isEmpty();
+    }
+
+    @Test
+    public void processBomUploadResultWithNewAndExistingComponentsSharingIdentityTest() {
+        final var project = new Project();
+        project.setName("acme-app");
+        project.setVersion("1.0.0");
+        qm.persist(project);
+
+        final var existingComponent = new Component();
+        existingComponent.setName("acme-lib");
+        existingComponent.setVersion("1.1.0");
+        existingComponent.setPurl("pkg:maven/com.acme/acme-lib@1.1.0?type=jar");
+        existingComponent.setPurlCoordinates("pkg:maven/com.acme/acme-lib@1.1.0");
+        existingComponent.setProject(project);
+        qm.persist(existingComponent);
+
+        final var newComponent = new Component();
+        newComponent.setName("acme-lib-sources");
+        newComponent.setVersion("1.1.0");
+        newComponent.setPurl("pkg:maven/com.acme/acme-lib@1.1.0?classifier=sources");
+        newComponent.setPurlCoordinates("pkg:maven/com.acme/acme-lib@1.1.0");
+        newComponent.setProject(project);
+        qm.persist(newComponent);
+
+        final var scanToken = UUID.randomUUID().toString();
+        qm.createVulnerabilityScan(VulnerabilityScan.TargetType.PROJECT, project.getUuid(), scanToken, 1);
+
+        // The existing component was chosen as representative, and the new component is listed as new sibling.
+        final var scanKey = ScanKey.newBuilder().setScanToken(scanToken).setComponentUuid(existingComponent.getUuid().toString()).build();
+        final var scanResult = ScanResult.newBuilder()
+                .setKey(scanKey)
+                .addScannerResults(ScannerResult.newBuilder()
+                        .setScanner(SCANNER_OSSINDEX)
+                        .setStatus(SCAN_STATUS_SUCCESSFUL)
+                        .setBom(Bom.newBuilder().addVulnerabilities(createVuln("sonatype-001", "OSSINDEX"))))
+                .build();
+        final Headers headers = new RecordHeaders();
+        headers.add(KafkaEventHeaders.VULN_ANALYSIS_LEVEL, VulnerabilityAnalysisLevel.BOM_UPLOAD_ANALYSIS.name().getBytes());
+        headers.add(KafkaEventHeaders.IS_NEW_COMPONENT, "false".getBytes());
+        headers.add(KafkaEventHeaders.NEW_SIBLING_COMPONENT_UUIDS, newComponent.getUuid().toString().getBytes());
+
+        processor.process(List.of(aConsumerRecord(scanKey, scanResult).withHeaders(headers).build()));
+
+        qm.getPersistenceManager().refreshAll(existingComponent, newComponent);
+        assertThat(existingComponent.getVulnerabilities()).extracting(Vulnerability::getVulnId).containsOnly("sonatype-001");
+        assertThat(newComponent.getVulnerabilities()).extracting(Vulnerability::getVulnId).containsOnly("sonatype-001");
+
+        // Only the new component must be reported as new vulnerable dependency.
+        assertThat(kafkaMockProducer.history())
+                .filteredOn(record -> record.topic().equals(KafkaTopics.NOTIFICATION_NEW_VULNERABLE_DEPENDENCY.name()))
+                .satisfiesExactly(record -> {
+                    final Notification notification = deserializeValue(KafkaTopics.NOTIFICATION_NEW_VULNERABLE_DEPENDENCY, record);
+                    final var subject = notification.getSubject().unpack(NewVulnerableDependencySubject.class);
+                    assertThat(subject.getComponent().getUuid()).isEqualTo(newComponent.getUuid().toString());
+                });
+    }
+
     private org.cyclonedx.proto.v1_6.Vulnerability createVuln(final String id, final String source) {
         return org.cyclonedx.proto.v1_6.Vulnerability.newBuilder()
                 .setId(id)
@@ -0,0 +1,141 @@
+/*
+ * This file is part of Dependency-Track.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.dependencytrack.parser.cyclonedx;
+
+import net.javacrumbs.jsonunit.core.Option;
+import org.cyclonedx.model.Dependency;
+import org.dependencytrack.PersistenceCapableTest;
+import org.dependencytrack.model.AnalysisResponse;
+import org.dependencytrack.model.AnalysisState;
+import org.dependencytrack.model.AnalyzerIdentity;
+import org.dependencytrack.model.Component;
+import org.dependencytrack.model.Project;
+import org.dependencytrack.model.Severity;
+import org.dependencytrack.model.Vulnerability;
+import org.dependencytrack.parser.cyclonedx.CycloneDXExporter.Format;
+import org.dependencytrack.parser.cyclonedx.CycloneDXExporter.Variant;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+
+import static net.javacrumbs.jsonunit.assertj.JsonAssertions.assertThatJson;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatNoException;
+
+public class CycloneDXExporterTest extends PersistenceCapableTest {
+
+    @Test
+    public void testStreamingExportMatchesExport() throws Exception {
+        final Project project = createProjectWithComponents();
+
+        for (final Variant variant : List.of(Variant.INVENTORY, Variant.INVENTORY_WITH_VULNERABILITIES, Variant.VDR)) {
+            final var exporter = new CycloneDXExporter(variant, qm, 2);
+            final String expectedJson = exporter.export(exporter.create(project), Format.JSON);
+
+            final var outputStream = new ByteArrayOutputStream();
+            exporter.export(project, Format.JSON, outputStream);
+            final byte[] streamedJson = outputStream.toByteArray();
+
+            assertThatNoException().isThrownBy(() -> CycloneDxValidator.getInstance().validate(streamedJson));
+            assertThatJson(new String(streamedJson))
+                    .whenIgnoringPaths("serialNumber", "metadata.timestamp")
+                    .withOptions(Option.IGNORING_ARRAY_ORDER)
+                    .isEqualTo(expectedJson);
+        }
+    }
+
+    @Test
+    public void testStreamingExportXml() throws Exception {
+        final Project project = createProjectWithComponents();
+
+        final var outputStream = new ByteArrayOutputStream();
+        new CycloneDXExporter(Variant.INVENTORY_WITH_VULNERABILITIES, qm, 2).export(project, Format.XML, outputStream);
+        final byte[] streamedXml = outputStream.toByteArray();
+
+        assertThatNoException().isThrownBy(() -> CycloneDxValidator.getInstance().validate(streamedXml));
+
+        final var componentRefs = new ArrayList<String>();
+        final var dependencies = new ArrayList<Dependency>();
+        new CycloneDxBomStreamReader(EnumSet.allOf(CycloneDxBomStreamReader.Section.class)).read(
+                new ByteArrayInputStream(streamedXml), new CycloneDxBomStreamReader.Visitor() {
+
+                    @Override
+                    public void visitComponent(final org.cyclonedx.model.Component component) {
+                        componentRefs.add(component.getBomRef());
+                    }
+
+                    @Override
+                    public void visitDependency(final Dependency dependency) {
+                        dependencies.add(dependency);
+                    }
+
+                });
+
+        assertThat(componentRefs).hasSize(5);
+        assertThat(dependencies).hasSize(6);
+        assertThat(dependencies).first().satisfies(rootDependency -> {
+            assertThat(rootDependency.getRef()).isEqualTo(project.getUuid().toString());
+            assertThat(rootDependency.getDependencies()).hasSize(2);
+        });
+    }
+
+    private Project createProjectWithComponents() {
+        final Project project = qm.createProject("acme-app", null, "1.0", null, null, null, true, false);
+
+        var vulnerability = new Vulnerability();
+        vulnerability.setVulnId("INT-001");
+        vulnerability.setSource(Vulnerability.Source.INTERNAL);
+        vulnerability.setSeverity(Severity.HIGH);
+        vulnerability = qm.createVulnerability(vulnerability, false);
+
+        final var components = new ArrayList<Component>();
+        for (int i = 0; i < 5; i++) {
+            final var component = new Component();
+            component.setProject(project);
+            component.setName("acme-lib-" + i);
+            component.setVersion("1.0.0");
+            components.add(qm.createComponent(component, false));
+        }
+
+        qm.addVulnerability(vulnerability, components.get(1), AnalyzerIdentity.INTERNAL_ANALYZER);
+        qm.addVulnerability(vulnerability, components.get(3), AnalyzerIdentity.INTERNAL_ANALYZER);
+        qm.makeAnalysis(components.get(3), vulnerability, AnalysisState.RESOLVED, null, AnalysisResponse.UPDATE, null, true);
+
+        qm.runInTransaction(() -> {
+            project.setDirectDependencies(directDependencies(components.get(0), components.get(3)));
+            components.get(0).setDirectDependencies(directDependencies(components.get(1), components.get(2)));
+            components.get(2).setDirectDependencies(directDependencies(components.get(3), components.get(4)));
+        });
+
+        return project;
+    }
+
+    private static String directDependencies(final Component... components) {
+        final var jsonObjects = new ArrayList<String>();
+        for (final Component component : components) {
+            jsonObjects.add("{\"uuid\":\"%s\"}".formatted(component.getUuid()));
+        }
+        return "[" + String.join(",", jsonObjects) + "]";
+    }
+
+}
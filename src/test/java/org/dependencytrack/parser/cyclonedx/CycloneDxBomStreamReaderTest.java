@@ -0,0 +1,152 @@
+/*
+ * This file is part of Dependency-Track.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.dependencytrack.parser.cyclonedx;
+
+import org.cyclonedx.model.Component;
+import org.cyclonedx.model.Dependency;
+import org.cyclonedx.model.Metadata;
+import org.cyclonedx.model.Service;
+import org.dependencytrack.parser.cyclonedx.CycloneDxBomStreamReader.Section;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+public class CycloneDxBomStreamReaderTest {
+
+    private static final class CollectingVisitor implements CycloneDxBomStreamReader.Visitor {
+
+        private String specVersion;
+        private String serialNumber;
+        private Integer version;
+        private Metadata metadata;
+        private final List<Component> components = new ArrayList<>();
+        private final List<Service> services = new ArrayList<>();
+        private final List<Dependency> dependencies = new ArrayList<>();
+
+        @Override
+        public void visitSpecVersion(final String specVersion) {
+            this.specVersion = specVersion;
+        }
+
+        @Override
+        public void visitSerialNumber(final String serialNumber) {
+            this.serialNumber = serialNumber;
+        }
+
+        @Override
+        public void visitVersion(final int version) {
+            this.version = version;
+        }
+
+        @Override
+        public void visitMetadata(final Metadata metadata) {
+            this.metadata = metadata;
+        }
+
+        @Override
+        public void visitComponent(final Component component) {
+            components.add(component);
+        }
+
+        @Override
+        public void visitService(final Service service) {
+            services.add(service);
+        }
+
+        @Override
+        public void visitDependency(final Dependency dependency) {
+            dependencies.add(dependency);
+        }
+
+    }
+
+    @Test
+    public void testReadJson() throws Exception {
+        final var visitor = new CollectingVisitor();
+        try (final InputStream inputStream = getClass().getResourceAsStream("/unit/bom-metadata-components.json")) {
+            new CycloneDxBomStreamReader(EnumSet.allOf(Section.class)).read(inputStream, visitor);
+        }
+
+        assertThat(visitor.specVersion).isEqualTo("1.4");
+        assertThat(visitor.serialNumber).isEqualTo("urn:uuid:d7cf8503-6d80-4219-ab4c-3bab8f250ee7");
+        assertThat(visitor.version).isEqualTo(1);
+        assertThat(visitor.metadata).isNotNull();
+        assertThat(visitor.metadata.getComponent()).isNotNull();
+        assertThat(visitor.components).isNotEmpty();
+        assertThat(visitor.dependencies).isNotEmpty();
+    }
+
+    @Test
+    public void testReadXml() throws Exception {
+        final var visitor = new CollectingVisitor();
+        try (final InputStream inputStream = getClass().getResourceAsStream("/unit/bom-1.xml")) {
+            new CycloneDxBomStreamReader(EnumSet.allOf(Section.class)).read(inputStream, visitor);
+        }
+
+        assertThat(visitor.specVersion).isEqualTo("1.5");
+        assertThat(visitor.version).isEqualTo(1);
+        assertThat(visitor.metadata).isNotNull();
+        assertThat(visitor.metadata.getComponent()).isNotNull();
+        assertThat(visitor.metadata.getComponent().getBomRef()).isEqualTo("acme");
+        assertThat(visitor.components).satisfiesExactly(component -> {
+            assertThat(component.getGroup()).isEqualTo("com.example");
+            assertThat(component.getName()).isEqualTo("xmlutil");
+            assertThat(component.getVersion()).isEqualTo("1.0.0");
+        });
+    }
+
+    @Test
+    public void testReadWithSkippedSections() throws Exception {
+        final var visitor = new CollectingVisitor();
+        try (final InputStream inputStream = getClass().getResourceAsStream("/unit/bom-metadata-components.json")) {
+            new CycloneDxBomStreamReader(EnumSet.of(Section.DEPENDENCIES)).read(inputStream, visitor);
+        }
+
+        assertThat(visitor.specVersion).isEqualTo("1.4");
+        assertThat(visitor.metadata).isNull();
+        assertThat(visitor.components).isEmpty();
+        assertThat(visitor.services).isEmpty();
+        assertThat(visitor.dependencies).isNotEmpty();
+    }
+
+    @Test
+    public void testReadWithTruncatedJson() {
+        final var inputStream = new ByteArrayInputStream("""
+                {
+                  "bomFormat": "CycloneDX",
+                  "specVersion": "1.5",
+                  "components": [
+                    {
+                      "name": "foo"
+                """.getBytes(StandardCharsets.UTF_8));
+
+        assertThatExceptionOfType(IOException.class).isThrownBy(() ->
+                new CycloneDxBomStreamReader(EnumSet.allOf(Section.class)).read(inputStream, new CollectingVisitor()));
+    }
+
+}
@@ -0,0 +1,138 @@
+/*
+ * This file is part of Dependency-Track.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.dependencytrack.persistence;
+
+import alpine.model.ConfigProperty;
+import alpine.model.IConfigProperty.PropertyType;
+import org.dependencytrack.PersistenceCapableTest;
+import org.dependencytrack.persistence.jdbi.ConfigPropertyDao.ConfigPropertyValue;
+import org.junit.Test;
+import org.postgresql.ds.PGSimpleDataSource;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.dependencytrack.model.ConfigPropertyConstants.ACCESS_MANAGEMENT_ACL_ENABLED;
+import static org.dependencytrack.persistence.jdbi.JdbiFactory.useJdbiHandle;
+
+public class ConfigPropertyCacheTest extends PersistenceCapableTest {
+
+    @Test
+    public void testGetValue() {
+        qm.createConfigProperty("foo", "bar", "baz", PropertyType.STRING, null);
+
+        final var cache = new ConfigPropertyCache(Duration.ofMinutes(5));
+        assertThat(cache.getValue("foo", "bar")).isEqualTo(new ConfigPropertyValue("baz", PropertyType.STRING));
+        assertThat(cache.getValue("foo", "doesNotExist")).isNull();
+
+        updatePropertyValue("foo", "bar", "qux");
+
+        // Cached value must be used until invalidated.
+        assertThat(cache.getValue("foo", "bar").value()).isEqualTo("baz");
+
+        cache.invalidate("foo", "bar");
+        assertThat(cache.getValue("foo", "bar").value()).isEqualTo("qux");
+    }
+
+    @Test
+    public void testGetValueWithCachingDisabled() {
+        qm.createConfigProperty("foo", "bar", "baz", PropertyType.STRING, null);
+
+        final var cache = new ConfigPropertyCache(Duration.ZERO);
+        assertThat(cache.getValue("foo", "bar").value()).isEqualTo("baz");
+
+        updatePropertyValue("foo", "bar", "qux");
+
+        assertThat(cache.getValue("foo", "bar").value()).isEqualTo("qux");
+    }
+
+    @Test
+    public void testIsEnabled() {
+        final ConfigProperty property = qm.createConfigProperty(
+                ACCESS_MANAGEMENT_ACL_ENABLED.getGroupName(),
+                ACCESS_MANAGEMENT_ACL_ENABLED.getPropertyName(),
+                "true",
+                ACCESS_MANAGEMENT_ACL_ENABLED.getPropertyType(),
+                null);
+
+        final ConfigPropertyCache cache = ConfigPropertyCache.getInstance();
+        assertThat(cache.isEnabled(ACCESS_MANAGEMENT_ACL_ENABLED)).isTrue();
+
+        // Modifications made via JDO must invalidate the cache immediately.
+        property.setPropertyValue("false");
+        qm.persist(property);
+        assertThat(cache.isEnabled(ACCESS_MANAGEMENT_ACL_ENABLED)).isFalse();
+
+        qm.delete(property);
+        assertThat(cache.isEnabled(ACCESS_MANAGEMENT_ACL_ENABLED)).isFalse();
+    }
+
+    @Test
+    public void testInvalidationAcrossInstances() {
+        qm.createConfigProperty("foo", "bar", "baz", PropertyType.STRING, null);
+
+        final var cacheA = new ConfigPropertyCache(Duration.ofHours(1));
+        final var cacheB = new ConfigPropertyCache(Duration.ofHours(1));
+
+        try (final var listenerA = new ConfigPropertyChangeListener(createDataSource(), cacheA);
+             final var listenerB = new ConfigPropertyChangeListener(createDataSource(), cacheB)) {
+            listenerA.start();
+            listenerB.start();
+            await("Listening")
+                    .atMost(Duration.ofSeconds(15))
+                    .until(() -> listenerA.isListening() && listenerB.isListening());
+
+            assertThat(cacheA.getValue("foo", "bar").value()).isEqualTo("baz");
+            assertThat(cacheB.getValue("foo", "bar").value()).isEqualTo("baz");
+
+            // Modify the property outside of JDO, as if another instance did it.
+            updatePropertyValue("foo", "bar", "qux");
+
+            await("Invalidation")
+                    .atMost(Duration.ofSeconds(15))
+                    .untilAsserted(() -> {
+                        assertThat(cacheA.getValue("foo", "bar").value()).isEqualTo("qux");
+                        assertThat(cacheB.getValue("foo", "bar").value()).isEqualTo("qux");
+                    });
+        }
+    }
+
+    private static void updatePropertyValue(final String groupName, final String propertyName, final String value) {
+        useJdbiHandle(handle -> handle.createUpdate("""
+                        UPDATE "CONFIGPROPERTY"
+                           SET "PROPERTYVALUE" = :value
+                         WHERE "GROUPNAME" = :groupName
+                           AND "PROPERTYNAME" = :propertyName
+                        """)
+                .bind("groupName", groupName)
+                .bind("propertyName", propertyName)
+                .bind("value", value)
+                .execute());
+    }
+
+    private static PGSimpleDataSource createDataSource() {
+        final var dataSource = new PGSimpleDataSource();
+        dataSource.setUrl(postgresContainer.getJdbcUrl());
+        dataSource.setUser(postgresContainer.getUsername());
+        dataSource.setPassword(postgresContainer.getPassword());
+        return dataSource;
+    }
+
+}
@@ -40,15 +40,20 @@ import org.dependencytrack.model.PolicyViolation;
 import org.dependencytrack.model.Project;
 import org.dependencytrack.model.ProjectMetadata;
 import org.dependencytrack.model.ProjectMetrics;
+import org.dependencytrack.model.ServiceComponent;
 import org.dependencytrack.model.Severity;
 import org.dependencytrack.model.Vex;
 import org.dependencytrack.model.ViolationAnalysis;
 import org.dependencytrack.model.ViolationAnalysisState;
 import org.dependencytrack.model.Vulnerability;
 import org.dependencytrack.notification.NotificationScope;
+import org.dependencytrack.persistence.jdbi.DependencyGraphDao;
+import org.dependencytrack.persistence.jdbi.DependencyGraphDao.DependencyGraphEdge;
 import org.junit.Test;
 
 import javax.jdo.JDOObjectNotFoundException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.Date;
 import java.util.List;
 import java.util.UUID;
@@ -56,6 +61,7 @@ import java.util.UUID;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.assertj.core.api.Assertions.assertThatNoException;
+import static org.dependencytrack.persistence.jdbi.JdbiFactory.withJdbiHandle;
 
 public class ProjectQueryManagerTest extends PersistenceCapableTest {
 
@@ -226,4 +232,187 @@ public class ProjectQueryManagerTest extends PersistenceCapableTest {
         assertThat(finding).isNotNull();
         assertThat(finding.getAttribution().isEmpty()).isFalse();
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testCloneProjectRemapsComponentReferences() {
+        final Project project = qm.createProject("acme-app", null, "1.0.0", null, null, null, true, false);
+        final var componentA = new Component();
+        componentA.setProject(project);
+        componentA.setName("acme-lib-a");
+        componentA.setVersion("1.0.0");
+        qm.createComponent(componentA, false);
+        final var componentB = new Component();
+        componentB.setProject(project);
+        componentB.setParent(componentA);
+        componentB.setName("acme-lib-b");
+        componentB.setVersion("2.0.0");
+        qm.createComponent(componentB, false);
+        final var service = new ServiceComponent();
+        service.setProject(project);
+        service.setName("acme-service");
+        qm.createServiceComponent(service, false);
+
+        qm.runInTransaction(() -> {
+            project.setDirectDependencies("[{\"uuid\":\"%s\"}]".formatted(componentA.getUuid()));
+            componentA.setDirectDependencies("[{\"uuid\":\"%s\"},{\"uuid\":\"%s\"}]".formatted(componentB.getUuid(), service.getUuid()));
+        });
+
+        final var vuln = new Vulnerability();
+        vuln.setVulnId("INT-123");
+        vuln.setSource(Vulnerability.Source.INTERNAL);
+        qm.persist(vuln);
+        qm.addVulnerability(vuln, componentB, AnalyzerIdentity.INTERNAL_ANALYZER);
+        final Analysis analysis = qm.makeAnalysis(componentB, vuln, AnalysisState.NOT_AFFECTED,
+                AnalysisJustification.CODE_NOT_REACHABLE, AnalysisResponse.WORKAROUND_AVAILABLE, "analysisDetails", true);
+        qm.makeAnalysisComment(analysis, "someComment", "someCommenter");
+
+        final var policy = new Policy();
+        policy.setName("Test Policy");
+        policy.setViolationState(Policy.ViolationState.WARN);
+        policy.setOperator(Policy.Operator.ALL);
+        qm.persist(policy);
+        final var policyCondition = new PolicyCondition();
+        policyCondition.setPolicy(policy);
+        policyCondition.setSubject(PolicyCondition.Subject.COORDINATES);
+        policyCondition.setOperator(PolicyCondition.Operator.MATCHES);
+        policyCondition.setValue("someValue");
+        qm.persist(policyCondition);
+        final var policyViolation = new PolicyViolation();
+        policyViolation.setPolicyCondition(policyCondition);
+        policyViolation.setComponent(componentB);
+        policyViolation.setType(PolicyViolation.Type.OPERATIONAL);
+        policyViolation.setTimestamp(new Date());
+        qm.persist(policyViolation);
+        final ViolationAnalysis violationAnalysis = qm.makeViolationAnalysis(componentB, policyViolation,
+                ViolationAnalysisState.REJECTED, false);
+        qm.makeViolationAnalysisComment(violationAnalysis, "someComment", "someCommenter");
+
+        final Project clonedProject = qm.clone(project.getUuid(), "1.1.0", false, false, true, true, true, false, true);
+
+        final List<Component> clonedComponents = qm.getAllComponents(clonedProject);
+        assertThat(clonedComponents).hasSize(2);
+        final Component clonedComponentA = clonedComponents.stream()
+                .filter(component -> "acme-lib-a".equals(component.getName())).findAny().orElseThrow();
+        final Component clonedComponentB = clonedComponents.stream()
+                .filter(component -> "acme-lib-b".equals(component.getName())).findAny().orElseThrow();
+        assertThat(clonedComponentA.getUuid()).isEqualTo(nameBasedUuid(clonedProject.getUuid(), componentA.getUuid()));
+        assertThat(clonedComponentB.getUuid()).isEqualTo(nameBasedUuid(clonedProject.getUuid(), componentB.getUuid()));
+        assertThat(clonedComponentB.getVersion()).isEqualTo("2.0.0");
+        assertThat(clonedComponentB.getParent()).isEqualTo(clonedComponentA);
+
+        final List<ServiceComponent> clonedServices = qm.getAllServiceComponents(clonedProject);
+        assertThat(clonedServices).hasSize(1);
+        final ServiceComponent clonedService = clonedServices.get(0);
+        assertThat(clonedService.getUuid()).isEqualTo(nameBasedUuid(clonedProject.getUuid(), service.getUuid()));
+
+        assertThat(clonedProject.getDirectDependencies()).contains(clonedComponentA.getUuid().toString());
+        assertThat(clonedComponentA.getDirectDependencies())
+                .contains(clonedComponentB.getUuid().toString(), clonedService.getUuid().toString())
+                .doesNotContain(componentB.getUuid().toString(), service.getUuid().toString());
+        assertThat(withJdbiHandle(handle -> handle.attach(DependencyGraphDao.class).getEdges(clonedProject.getId())))
+                .containsExactlyInAnyOrder(
+                        new DependencyGraphEdge(null, clonedComponentA.getId()),
+                        new DependencyGraphEdge(clonedComponentA.getId(), clonedComponentB.getId()));
+
+        assertThat(qm.getAllVulnerabilities(clonedComponentB)).containsOnly(vuln);
+        assertThat(qm.getFindingAttribution(vuln, clonedComponentB)).isNotNull();
+        assertThat(qm.getAnalysis(clonedComponentB, vuln)).satisfies(clonedAnalysis -> {
+            assertThat(clonedAnalysis.getId()).isNotEqualTo(analysis.getId());
+            assertThat(clonedAnalysis.getAnalysisState()).isEqualTo(AnalysisState.NOT_AFFECTED);
+            assertThat(clonedAnalysis.isSuppressed()).isTrue();
+            assertThat(clonedAnalysis.getAnalysisComments()).satisfiesExactly(comment ->
+                    assertThat(comment.getComment()).isEqualTo("someComment"));
+        });
+
+        assertThat(qm.getAllPolicyViolations(clonedProject)).satisfiesExactly(clonedViolation -> {
+            assertThat(clonedViolation.getUuid()).isNotEqualTo(policyViolation.getUuid());
+            assertThat(clonedViolation.getComponent()).isEqualTo(clonedComponentB);
+            assertThat(clonedViolation.getPolicyCondition()).isEqualTo(policyCondition);
+            assertThat(qm.getViolationAnalysis(clonedComponentB, clonedViolation)).satisfies(clonedViolationAnalysis -> {
+                assertThat(clonedViolationAnalysis.getAnalysisState()).isEqualTo(ViolationAnalysisState.REJECTED);
+                assertThat(clonedViolationAnalysis.getAnalysisComments()).satisfiesExactly(comment ->
+                        assertThat(comment.getComment()).isEqualTo("someComment"));
+            });
+        });
+    }
+
+    @Test
+    public void testCloneProjectWithInvalidDirectDependencies() {
+        final Project project = qm.createProject("acme-app", null, "1.0.0", null, null, null, true, false);
+        final var componentA = new Component();
+        componentA.setProject(project);
+        componentA.setName("acme-lib-a");
+        componentA.setVersion("1.0.0");
+        qm.createComponent(componentA, false);
+        final var componentB = new Component();
+        componentB.setProject(project);
+        componentB.setName("acme-lib-b");
+        componentB.setVersion("2.0.0");
+        qm.createComponent(componentB, false);
+
+        qm.runInTransaction(() -> {
+            project.setDirectDependencies("[{\"uuid\":\"%s\"}]".formatted(componentA.getUuid()));
+            componentA.setDirectDependencies("[{\"uuid\":\"%s\"".formatted(componentB.getUuid()));
+        });
+
+        final Project clonedProject = qm.clone(project.getUuid(), "1.1.0", false, false, true, false, false, false, false);
+
+        final List<Component> clonedComponents = qm.getAllComponents(clonedProject);
+        assertThat(clonedComponents).hasSize(2);
+        final Component clonedComponentA = clonedComponents.stream()
+                .filter(component -> "acme-lib-a".equals(component.getName())).findAny().orElseThrow();
+
+        // Invalid values are copied verbatim, and do not prevent the remaining graph from being cloned.
+        assertThat(clonedComponentA.getDirectDependencies()).isEqualTo("[{\"uuid\":\"%s\"".formatted(componentB.getUuid()));
+        assertThat(clonedProject.getDirectDependencies()).contains(clonedComponentA.getUuid().toString());
+        assertThat(withJdbiHandle(handle -> handle.attach(DependencyGraphDao.class).getEdges(clonedProject.getId())))
+                .containsExactly(new DependencyGraphEdge(null, clonedComponentA.getId()));
+    }
+
+    @Test
+    public void testGetMostRecentProjectMetrics() {
+        final Project projectA = qm.createProject("acme-app-a", null, "1.0", null, null, null, true, false);
+        final Project projectB = qm.createProject("acme-app-b", null, "1.0", null, null, null, true, false);
+        final Project projectC = qm.createProject("acme-app-c", null, "1.0", null, null, null, true, false);
+
+        final ProjectMetrics latestMetricsA = createProjectMetrics(projectA, new Date(1000), 3);
+        // Metrics persisted later, but with an older occurrence, must not be considered most recent.
+        createProjectMetrics(projectA, new Date(500), 2);
+        final ProjectMetrics previousMetricsB = createProjectMetrics(projectB, new Date(500), 1);
+        final ProjectMetrics latestMetricsB = createProjectMetrics(projectB, new Date(1000), 5);
+
+        assertThat(qm.getMostRecentProjectMetrics(List.of(projectA, projectB, projectC)))
+                .containsOnlyKeys(projectA.getId(), projectB.getId())
+                .hasEntrySatisfying(projectA.getId(), metrics -> assertThat(metrics.getId()).isEqualTo(latestMetricsA.getId()))
+                .hasEntrySatisfying(projectB.getId(), metrics -> assertThat(metrics.getId()).isEqualTo(latestMetricsB.getId()));
+
+        qm.delete(latestMetricsB);
+        assertThat(qm.getMostRecentProjectMetrics(projectB).getId()).isEqualTo(previousMetricsB.getId());
+        assertThat(qm.getMostRecentProjectMetrics(projectC)).isNull();
+
+        final List<Project> projects = qm.getProjects(true).getList(Project.class);
+        assertThat(projects).satisfiesExactlyInAnyOrder(
+                project -> assertThat(project.getMetrics().getComponents()).isEqualTo(3),
+                project -> assertThat(project.getMetrics().getComponents()).isEqualTo(1),
+                project -> assertThat(project.getMetrics()).isNull());
+    }
+
+    private ProjectMetrics createProjectMetrics(final Project project, final Date lastOccurrence, final int components) {
+        final var metrics = new ProjectMetrics();
+        metrics.setProject(project);
+        metrics.setComponents(components);
+        metrics.setFirstOccurrence(lastOccurrence);
+        metrics.setLastOccurrence(lastOccurrence);
+        return qm.persist(metrics);
+    }
+
+    private static UUID nameBasedUuid(final UUID namespace, final UUID name) {
+        final byte[] nameBytes = name.toString().getBytes(StandardCharsets.UTF_8);
+        final ByteBuffer buffer = ByteBuffer.allocate(16 + nameBytes.length);
+        buffer.putLong(namespace.getMostSignificantBits());
+        buffer.putLong(namespace.getLeastSignificantBits());
+        buffer.put(nameBytes);
+        return UUID.nameUUIDFromBytes(buffer.array());
+    }
+
+}
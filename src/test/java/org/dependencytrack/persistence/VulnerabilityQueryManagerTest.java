@@ -25,6 +25,7 @@ import org.dependencytrack.model.Component;
 import org.dependencytrack.model.Epss;
 import org.dependencytrack.model.Project;
 import org.dependencytrack.model.Severity;
+import org.dependencytrack.model.VulnIdAndSource;
 import org.dependencytrack.model.Vulnerability;
 import org.dependencytrack.model.VulnerabilityAlias;
 import org.junit.Before;
@@ -33,16 +34,18 @@ import org.junit.runner.RunWith;
 import org.junit.runners.Suite;
 import org.junit.runners.Suite.SuiteClasses;
 
-import javax.jdo.Query;
 import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.function.Consumer;
 
 import static java.util.Collections.singletonList;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.dependencytrack.persistence.VulnerabilityQueryManagerTest.SynchronizeVulnerabilityAliasTest.VulnerabilityAliasBuilder.anAlias;
+import static org.dependencytrack.persistence.jdbi.JdbiFactory.withJdbiHandle;
 
 @RunWith(Suite.class)
 @SuiteClasses(VulnerabilityQueryManagerTest.SynchronizeVulnerabilityAliasTest.class)
@@ -52,7 +55,7 @@ public class VulnerabilityQueryManagerTest {
     public static class SynchronizeVulnerabilityAliasTest extends PersistenceCapableTest {
 
         @Test
-        @SuppressWarnings({"unchecked", "resource", "JUnitMalformedDeclaration"})
+        @SuppressWarnings("JUnitMalformedDeclaration")
         @Parameters(method = "synchronizeVulnerabilityAliasTestParams")
         public void synchronizeVulnerabilityAliasTest(final String description,
                                                       final List<VulnerabilityAlias> reportedAliases,
@@ -61,6 +64,51 @@ public class VulnerabilityQueryManagerTest {
                 qm.synchronizeVulnerabilityAlias(reportedAlias);
             }
 
+            assertAliases(description, expectedAliases);
+        }
+
+        @Test
+        @SuppressWarnings("JUnitMalformedDeclaration")
+        @Parameters(method = "synchronizeVulnerabilityAliasTestParams")
+        public void synchronizeVulnerabilityAliasesTest(final String description,
+                                                        final List<VulnerabilityAlias> reportedAliases,
+                                                        final List<VulnerabilityAlias> expectedAliases) {
+            qm.synchronizeVulnerabilityAliases(reportedAliases);
+
+            assertAliases(description, expectedAliases);
+        }
+
+        @Test
+        public void getVulnerabilityAliasesTest() {
+            qm.synchronizeVulnerabilityAliases(List.of(
+                    anAlias().withCveId("CVE-1000").withGhsaId("GHSA-1000").build(),
+                    anAlias().withCveId("CVE-1000").withOsvId("GO-1000").build(),
+                    anAlias().withCveId("CVE-1000").withOsvId("GO-2000").build()));
+
+            final var vuln = new Vulnerability();
+            vuln.setVulnId("CVE-1000");
+            vuln.setSource(Vulnerability.Source.NVD);
+            assertThat(qm.getVulnerabilityAliases(vuln)).satisfiesExactly(
+                    alias -> {
+                        assertThat(alias.getCveId()).isEqualTo("CVE-1000");
+                        assertThat(alias.getGhsaId()).isEqualTo("GHSA-1000");
+                        assertThat(alias.getOsvId()).isEqualTo("GO-1000");
+                    },
+                    alias -> {
+                        assertThat(alias.getCveId()).isEqualTo("CVE-1000");
+                        assertThat(alias.getGhsaId()).isNull();
+                        assertThat(alias.getOsvId()).isEqualTo("GO-2000");
+                    });
+
+            final Map<VulnIdAndSource, List<VulnerabilityAlias>> aliasesByVulnIdAndSource = qm.getVulnerabilityAliases(List.of(
+                    new VulnIdAndSource("GO-2000", Vulnerability.Source.OSV),
+                    new VulnIdAndSource("CVE-2000", Vulnerability.Source.NVD)));
+            assertThat(aliasesByVulnIdAndSource).containsOnlyKeys(new VulnIdAndSource("GO-2000", Vulnerability.Source.OSV));
+            assertThat(aliasesByVulnIdAndSource.get(new VulnIdAndSource("GO-2000", Vulnerability.Source.OSV))).hasSize(1);
+        }
+
+        @SuppressWarnings("unchecked")
+        private void assertAliases(final String description, final List<VulnerabilityAlias> expectedAliases) {
             final var aliasAsserts = new ArrayList<Consumer<VulnerabilityAlias>>();
             for (final VulnerabilityAlias expectedAlias : expectedAliases) {
                 aliasAsserts.add(alias -> {
@@ -75,10 +123,33 @@ public class VulnerabilityQueryManagerTest {
                 });
             }
 
-            final Query<VulnerabilityAlias> query = qm.getPersistenceManager().newQuery(VulnerabilityAlias.class);
-            final List<VulnerabilityAlias> aliases = query.executeList();
+            assertThat(getAliases()).as(description).satisfiesExactlyInAnyOrder(aliasAsserts.toArray(new Consumer[0]));
+        }
 
-            assertThat(aliases).as(description).satisfiesExactlyInAnyOrder(aliasAsserts.toArray(new Consumer[0]));
+        private List<VulnerabilityAlias> getAliases() {
+            final Map<Long, VulnerabilityAlias> aliasByGroupId = withJdbiHandle(handle -> handle.createQuery("""
+                            SELECT "GROUP_ID", "SOURCE", "VULN_ID"
+                              FROM "VULNERABILITY_ALIAS_GROUP_MEMBER"
+                            """)
+                    .reduceRows(new LinkedHashMap<Long, VulnerabilityAlias>(), (aliases, row) -> {
+                        final VulnerabilityAlias alias = aliases.computeIfAbsent(
+                                row.getColumn("GROUP_ID", Long.class), ignored -> new VulnerabilityAlias());
+                        final String source = row.getColumn("SOURCE", String.class);
+                        final String vulnId = row.getColumn("VULN_ID", String.class);
+                        switch (source) {
+                            case "GITHUB" -> alias.setGhsaId(vulnId);
+                            case "GSD" -> alias.setGsdId(vulnId);
+                            case "INTERNAL" -> alias.setInternalId(vulnId);
+                            case "NVD" -> alias.setCveId(vulnId);
+                            case "OSSINDEX" -> alias.setSonatypeId(vulnId);
+                            case "OSV" -> alias.setOsvId(vulnId);
+                            case "SNYK" -> alias.setSnykId(vulnId);
+                            case "VULNDB" -> alias.setVulnDbId(vulnId);
+                            default -> throw new IllegalStateException("Unexpected source: " + source);
+                        }
+                        return aliases;
+                    }));
+            return new ArrayList<>(aliasByGroupId.values());
         }
 
         @SuppressWarnings("unused")
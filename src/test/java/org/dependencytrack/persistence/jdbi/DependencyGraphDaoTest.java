@@ -0,0 +1,132 @@
+/*
+ * This file is part of Dependency-Track.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.dependencytrack.persistence.jdbi;
+
+import org.dependencytrack.PersistenceCapableTest;
+import org.dependencytrack.model.Component;
+import org.dependencytrack.model.Project;
+import org.dependencytrack.persistence.jdbi.DependencyGraphDao.DependencyGraphEdge;
+import org.dependencytrack.persistence.jdbi.DependencyGraphDao.DependencyGraphNode;
+import org.junit.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.dependencytrack.persistence.jdbi.JdbiFactory.withJdbiHandle;
+
+public class DependencyGraphDaoTest extends PersistenceCapableTest {
+
+    @Test
+    public void testEdgesAreSynchronizedWithDirectDependencies() {
+        final Project project = qm.createProject("acme-app", null, "1.0", null, null, null, true, false);
+        final Component componentA = createComponent(project, "acme-lib-a");
+        final Component componentB = createComponent(project, "acme-lib-b");
+        final Component componentC = createComponent(project, "acme-lib-c");
+
+        final Project otherProject = qm.createProject("acme-app", null, "2.0", null, null, null, true, false);
+        final Component otherComponent = createComponent(otherProject, "acme-lib-a");
+
+        qm.runInTransaction(() -> {
+            project.setDirectDependencies(directDependencies(componentA, componentB));
+            componentA.setDirectDependencies(directDependencies(componentC, componentC));
+            // Components of other projects must not become part of the graph.
+            componentB.setDirectDependencies(directDependencies(componentC, otherComponent));
+        });
+
+        assertThat(getEdges(project)).containsExactlyInAnyOrder(
+                new DependencyGraphEdge(null, componentA.getId()),
+                new DependencyGraphEdge(null, componentB.getId()),
+                new DependencyGraphEdge(componentA.getId(), componentC.getId()),
+                new DependencyGraphEdge(componentB.getId(), componentC.getId()));
+        assertThat(getEdges(otherProject)).isEmpty();
+
+        qm.runInTransaction(() -> {
+            project.setDirectDependencies(directDependencies(componentA));
+            componentB.setDirectDependencies(null);
+        });
+
+        assertThat(getEdges(project)).containsExactlyInAnyOrder(
+                new DependencyGraphEdge(null, componentA.getId()),
+                new DependencyGraphEdge(componentA.getId(), componentC.getId()));
+
+        qm.recursivelyDelete(componentC, false);
+
+        assertThat(getEdges(project)).containsExactly(new DependencyGraphEdge(null, componentA.getId()));
+    }
+
+    @Test
+    public void testEdgesAreNotSynchronizedWithInvalidDirectDependencies() {
+        final Project project = qm.createProject("acme-app", null, "1.0", null, null, null, true, false);
+        final Component componentA = createComponent(project, "acme-lib-a");
+        final Component componentB = createComponent(project, "acme-lib-b");
+
+        qm.runInTransaction(() -> {
+            project.setDirectDependencies(directDependencies(componentA));
+            componentA.setDirectDependencies(directDependencies(componentB));
+        });
+
+        assertThat(getEdges(project)).containsExactlyInAnyOrder(
+                new DependencyGraphEdge(null, componentA.getId()),
+                new DependencyGraphEdge(componentA.getId(), componentB.getId()));
+
+        // Invalid JSON must not fail the update, but remove the edges of the updated row.
+        qm.runInTransaction(() -> componentA.setDirectDependencies("[{\"uuid\":"));
+
+        assertThat(getEdges(project)).containsExactly(new DependencyGraphEdge(null, componentA.getId()));
+    }
+
+    @Test
+    public void testGetNodes() {
+        final Project project = qm.createProject("acme-app", null, "1.0", null, null, null, true, false);
+        final var component = new Component();
+        component.setProject(project);
+        component.setName("acme-lib");
+        component.setVersion("1.2.3");
+        component.setPurl("pkg:maven/com.acme/acme-lib@1.2.3?type=jar");
+        component.setPurlCoordinates("pkg:maven/com.acme/acme-lib@1.2.3");
+        qm.createComponent(component, false);
+
+        assertThat(withJdbiHandle(handle -> handle.attach(DependencyGraphDao.class).getNodes(List.of(component.getId()))))
+                .containsOnly(new DependencyGraphNode(component.getId(), component.getUuid().toString(), "acme-lib", "1.2.3",
+                        "pkg:maven/com.acme/acme-lib@1.2.3?type=jar", "pkg:maven/com.acme/acme-lib@1.2.3"));
+    }
+
+    private Component createComponent(final Project project, final String name) {
+        final var component = new Component();
+        component.setProject(project);
+        component.setName(name);
+        return qm.createComponent(component, false);
+    }
+
+    private static String directDependencies(final Component... components) {
+        final var jsonObjects = new StringBuilder();
+        for (final Component component : components) {
+            if (!jsonObjects.isEmpty()) {
+                jsonObjects.append(",");
+            }
+            jsonObjects.append("{\"uuid\":\"").append(component.getUuid()).append("\"}");
+        }
+        return "[" + jsonObjects + "]";
+    }
+
+    private static List<DependencyGraphEdge> getEdges(final Project project) {
+        return withJdbiHandle(handle -> handle.attach(DependencyGraphDao.class).getEdges(project.getId()));
+    }
+
+}
@@ -26,6 +26,7 @@ import org.dependencytrack.model.AnalysisComment;
 import org.dependencytrack.model.AnalysisJustification;
 import org.dependencytrack.model.AnalysisResponse;
 import org.dependencytrack.model.AnalysisState;
+import org.dependencytrack.model.AnalyzerIdentity;
 import org.dependencytrack.model.Component;
 import org.dependencytrack.model.Project;
 import org.dependencytrack.model.Vulnerability;
@@ -45,6 +46,7 @@ import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
 import java.util.Date;
 import java.util.List;
+import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.dependencytrack.persistence.jdbi.JdbiFactory.openJdbiHandle;
@@ -381,6 +383,58 @@ public class VulnerabilityPolicyDaoTest extends PersistenceCapableTest {
         );
     }
 
+    @Test
+    public void testVulnerabilityPolicyIsUnassignedAndDeletedWithFindingsReadModel() throws Exception {
+        environmentVariables.set("FINDINGS_READ_MODEL_ENABLED", "true");
+
+        final var project = new Project();
+        project.setName("acme-app");
+        project.setVersion("1.0.0");
+        qm.persist(project);
+
+        final var component = new Component();
+        component.setProject(project);
+        component.setName("acme-lib");
+        component.setVersion("2.0.0");
+        qm.persist(component);
+
+        final var vuln = new Vulnerability();
+        vuln.setVulnId("CVE-100");
+        vuln.setSource(Vulnerability.Source.NVD);
+        qm.persist(vuln);
+
+        qm.addVulnerability(vuln, component, AnalyzerIdentity.INTERNAL_ANALYZER);
+        final Analysis analysis = qm.makeAnalysis(component, vuln, AnalysisState.NOT_AFFECTED, null, null, null, true);
+
+        final VulnerabilityPolicy vulnPolicy = vulnPolicyDao.create(getVulnerabilityPolicyInstance());
+        assertThat(vulnPolicy).isNotNull();
+
+        jdbiHandle.createUpdate("""
+                        UPDATE
+                          "ANALYSIS"
+                        SET
+                          "VULNERABILITY_POLICY_ID" = (SELECT "ID" FROM "VULNERABILITY_POLICY" WHERE "NAME" = :vulnPolicyName)
+                        WHERE
+                          "ID" = :analysisId
+                        """)
+                .bind("vulnPolicyName", vulnPolicy.getName())
+                .bind("analysisId", analysis.getId())
+                .execute();
+
+        vulnPolicyDao.unassignAndDeleteByName(vulnPolicy.getName());
+
+        final Map<String, Object> readModelRow = jdbiHandle.createQuery("""
+                        SELECT "ANALYSIS_STATE", "ANALYSIS_SUPPRESSED"
+                          FROM "FINDING_READ_MODEL"
+                         WHERE "COMPONENT_ID" = :componentId
+                        """)
+                .bind("componentId", component.getId())
+                .mapToMap()
+                .one();
+        assertThat(readModelRow).containsEntry("analysis_state", "NOT_SET");
+        assertThat(readModelRow).containsEntry("analysis_suppressed", false);
+    }
+
     private VulnerabilityPolicy createPolicy(String name, ZonedDateTime validFrom, ZonedDateTime validUntil, VulnerabilityPolicyOperation operationMode) {
         final var analysis = new VulnerabilityPolicyAnalysis();
         analysis.setState(VulnerabilityPolicyAnalysis.State.FALSE_POSITIVE);
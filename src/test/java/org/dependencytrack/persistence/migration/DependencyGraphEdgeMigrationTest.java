@@ -0,0 +1,129 @@
+/*
+ * This file is part of Dependency-Track.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.dependencytrack.persistence.migration;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.postgresql.ds.PGSimpleDataSource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.utility.DockerImageName;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.dependencytrack.persistence.migration.MigrationInitializer.runMigration;
+
+public class DependencyGraphEdgeMigrationTest {
+
+    private PostgreSQLContainer<?> postgresContainer;
+
+    @Before
+    public void setUp() {
+        postgresContainer = new PostgreSQLContainer<>(DockerImageName.parse("postgres:11-alpine"));
+        postgresContainer.start();
+    }
+
+    @After
+    public void tearDown() {
+        if (postgresContainer != null) {
+            postgresContainer.stop();
+        }
+    }
+
+    @Test
+    public void testMigrationSkipsInvalidDirectDependencies() throws Exception {
+        final var dataSource = new PGSimpleDataSource();
+        dataSource.setUrl(postgresContainer.getJdbcUrl());
+        dataSource.setUser(postgresContainer.getUsername());
+        dataSource.setPassword(postgresContainer.getPassword());
+
+        runMigration(dataSource, "migration/custom/DependencyGraphEdgeMigrationTest-changelog.xml");
+
+        final String childUuid = UUID.randomUUID().toString();
+        final String validDirectDependencies = "[{\"uuid\": \"%s\"}]".formatted(childUuid);
+        final String invalidDirectDependencies = "[{\"uuid\": \"%s\"".formatted(childUuid);
+
+        final long projectId;
+        final long validParentId;
+        try (final Connection connection = dataSource.getConnection()) {
+            projectId = insertProject(connection, validDirectDependencies);
+            insertComponent(connection, projectId, childUuid, null);
+            validParentId = insertComponent(connection, projectId, UUID.randomUUID().toString(), validDirectDependencies);
+            insertComponent(connection, projectId, UUID.randomUUID().toString(), invalidDirectDependencies);
+        }
+
+        runMigration(dataSource);
+
+        final var parentComponentIds = new ArrayList<Long>();
+        try (final Connection connection = dataSource.getConnection();
+             final PreparedStatement ps = connection.prepareStatement("""
+                     SELECT "PARENT_COMPONENT_ID"
+                       FROM "DEPENDENCY_GRAPH_EDGE"
+                      WHERE "PROJECT_ID" = ?
+                     """)) {
+            ps.setLong(1, projectId);
+            try (final ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    parentComponentIds.add(rs.getObject(1, Long.class));
+                }
+            }
+        }
+
+        // Edges of the project and the component with valid DIRECT_DEPENDENCIES must be populated.
+        assertThat(parentComponentIds).containsExactlyInAnyOrder(null, validParentId);
+    }
+
+    private static long insertProject(final Connection connection, final String directDependencies) throws Exception {
+        try (final PreparedStatement ps = connection.prepareStatement("""
+                INSERT INTO "PROJECT" ("NAME", "UUID", "DIRECT_DEPENDENCIES")
+                VALUES ('acme-app', ?, ?)
+                RETURNING "ID"
+                """)) {
+            ps.setString(1, UUID.randomUUID().toString());
+            ps.setString(2, directDependencies);
+            try (final ResultSet rs = ps.executeQuery()) {
+                rs.next();
+                return rs.getLong(1);
+            }
+        }
+    }
+
+    private static long insertComponent(final Connection connection, final long projectId,
+                                        final String uuid, final String directDependencies) throws Exception {
+        try (final PreparedStatement ps = connection.prepareStatement("""
+                INSERT INTO "COMPONENT" ("PROJECT_ID", "NAME", "UUID", "DIRECT_DEPENDENCIES")
+                VALUES (?, 'acme-lib', ?, ?)
+                RETURNING "ID"
+                """)) {
+            ps.setLong(1, projectId);
+            ps.setString(2, uuid);
+            ps.setString(3, directDependencies);
+            try (final ResultSet rs = ps.executeQuery()) {
+                rs.next();
+                return rs.getLong(1);
+            }
+        }
+    }
+
+}
@@ -66,6 +66,7 @@ import java.util.Collections;
 import java.util.Date;
 import java.util.List;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 import static org.apache.commons.io.IOUtils.resourceToURL;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -736,6 +737,46 @@ public class CelPolicyEngineTest extends PersistenceCapableTest {
         assertThat(qm.getAllPolicyViolations(component)).isEmpty();
     }
 
+    @Test
+    public void testEvaluateProjectWithParallelism() {
+        final var policy = qm.createPolicy("policy", Policy.Operator.ANY, Policy.ViolationState.FAIL);
+        qm.createPolicyCondition(policy, PolicyCondition.Subject.EXPRESSION, PolicyCondition.Operator.MATCHES, """
+                component.is_dependency_of(v1.Component{name: "acme-lib-0"})
+                """, PolicyViolation.Type.OPERATIONAL);
+        qm.createPolicyCondition(policy, PolicyCondition.Subject.EXPRESSION, PolicyCondition.Operator.MATCHES, """
+                component.name == "acme-lib-9"
+                """, PolicyViolation.Type.OPERATIONAL);
+
+        final var project = new Project();
+        project.setName("acme-app");
+        qm.persist(project);
+
+        final var components = new ArrayList<Component>();
+        for (int i = 0; i < 10; i++) {
+            final var component = new Component();
+            component.setProject(project);
+            component.setName("acme-lib-" + i);
+            qm.persist(component);
+            components.add(component);
+        }
+
+        // acme-lib-0 -> acme-lib-[1-4]
+        components.get(0).setDirectDependencies(components.subList(1, 5).stream()
+                .map(component -> new ComponentIdentity(component).toJSON().toString())
+                .collect(Collectors.joining(", ", "[", "]")));
+        qm.persist(components.get(0));
+
+        new CelPolicyEngine(CelPolicyScriptHost.getInstance(CelPolicyType.COMPONENT), 4).evaluateProject(project.getUuid());
+        assertThat(qm.getAllPolicyViolations(components.get(0))).isEmpty();
+        for (int i = 1; i < 5; i++) {
+            assertThat(qm.getAllPolicyViolations(components.get(i))).hasSize(1);
+        }
+        for (int i = 5; i < 9; i++) {
+            assertThat(qm.getAllPolicyViolations(components.get(i))).isEmpty();
+        }
+        assertThat(qm.getAllPolicyViolations(components.get(9))).hasSize(1);
+    }
+
     @Test
     public void testEvaluateProjectWithPolicyAssignedToProject() {
         final var policyA = qm.createPolicy("policy", Policy.Operator.ANY, Policy.ViolationState.FAIL);
@@ -1246,6 +1287,52 @@ public class CelPolicyEngineTest extends PersistenceCapableTest {
         assertThat(qm.getAllPolicyViolations(componentD)).isEmpty();
     }
 
+    @Test
+    public void testEvaluateProjectWithFuncComponentIsDependencyOfExclusiveComponentWithCycle() {
+        final var project = new Project();
+        project.setName("acme-app");
+        qm.persist(project);
+
+        final var componentA = new Component();
+        componentA.setProject(project);
+        componentA.setName("acme-lib-a");
+        qm.persist(componentA);
+
+        final var componentB = new Component();
+        componentB.setProject(project);
+        componentB.setName("acme-lib-b");
+        qm.persist(componentB);
+
+        final var componentC = new Component();
+        componentC.setProject(project);
+        componentC.setName("acme-lib-c");
+        qm.persist(componentC);
+
+        // * -> A -> B <-> C
+        project.setDirectDependencies("[%s]".formatted(new ComponentIdentity(componentA).toJSON()));
+        componentA.setDirectDependencies("[%s]".formatted(new ComponentIdentity(componentB).toJSON()));
+        componentB.setDirectDependencies("[%s]".formatted(new ComponentIdentity(componentC).toJSON()));
+        componentC.setDirectDependencies("[%s]".formatted(new ComponentIdentity(componentB).toJSON()));
+        qm.persist(project);
+        qm.persist(componentA);
+        qm.persist(componentB);
+        qm.persist(componentC);
+
+        final var policyEngine = new CelPolicyEngine();
+        final var policy = qm.createPolicy("policy", Policy.Operator.ANY, Policy.ViolationState.FAIL);
+
+        // Is component introduced exclusively through A?
+        // Walking up from C via B can end back at C without passing A, so C is not exclusive to A.
+        qm.createPolicyCondition(policy,
+                PolicyCondition.Subject.EXPRESSION, PolicyCondition.Operator.MATCHES, """
+                        component.is_exclusive_dependency_of(v1.Component{name: "acme-lib-a"})
+                        """, PolicyViolation.Type.OPERATIONAL);
+        policyEngine.evaluateProject(project.getUuid());
+        assertThat(qm.getAllPolicyViolations(componentA)).isEmpty();
+        assertThat(qm.getAllPolicyViolations(componentB)).hasSize(1);
+        assertThat(qm.getAllPolicyViolations(componentC)).isEmpty();
+    }
+
     @Test
     public void testEvaluateProjectWithFuncComponentIsDependencyOfExclusiveComponentWithMultiplePaths2() {
         final var project = new Project();
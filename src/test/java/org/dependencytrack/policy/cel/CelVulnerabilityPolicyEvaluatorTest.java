@@ -30,6 +30,7 @@ import org.dependencytrack.proto.policy.v1.Vulnerability;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.time.Duration;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -44,6 +45,8 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 public class CelVulnerabilityPolicyEvaluatorTest extends PersistenceCapableTest {
 
@@ -239,4 +242,49 @@ public class CelVulnerabilityPolicyEvaluatorTest extends PersistenceCapableTest
         assertThat(exceptionsThrown).isEmpty();
     }
 
-}
\ No newline at end of file
+    @Test
+    public void testEvaluateWithCachedPolicies() {
+        final var project = Project.newBuilder()
+                .setUuid(UUID.randomUUID().toString())
+                .setName("acme-app")
+                .build();
+        final var component = Component.newBuilder()
+                .setUuid(UUID.randomUUID().toString())
+                .setName("acme-lib")
+                .build();
+        final var vuln = Vulnerability.newBuilder()
+                .setUuid(UUID.randomUUID().toString())
+                .setId("CVE-123")
+                .build();
+
+        final var policy = new VulnerabilityPolicy();
+        policy.setName("policy");
+        policy.setConditions(List.of("vuln.id == 'CVE-123'"));
+
+        doReturn(List.of(policy))
+                .when(policyProviderMock).getApplicablePolicies(any(Project.class));
+        doReturn("v1")
+                .when(policyProviderMock).getPoliciesVersion();
+
+        final var cachingPolicyEvaluator = new CelVulnerabilityPolicyEvaluator(policyProviderMock,
+                CelPolicyScriptHost.getInstance(CelPolicyType.VULNERABILITY),
+                new TestCacheManager(30, TimeUnit.SECONDS, 5), Duration.ZERO);
+
+        // Policies are loaded once, and re-used as long as their version doesn't change.
+        assertThat(cachingPolicyEvaluator.evaluate(List.of(vuln), component, project)).hasSize(1);
+        assertThat(cachingPolicyEvaluator.evaluate(List.of(vuln), component, project)).hasSize(1);
+        verify(policyProviderMock, times(1)).getApplicablePolicies(any(Project.class));
+
+        // A new version causes policies to be re-loaded.
+        doReturn("v2")
+                .when(policyProviderMock).getPoliciesVersion();
+        assertThat(cachingPolicyEvaluator.evaluate(List.of(vuln), component, project)).hasSize(1);
+        verify(policyProviderMock, times(2)).getApplicablePolicies(any(Project.class));
+
+        // Invalidation causes policies to be re-loaded, even if the version didn't change.
+        CelVulnerabilityPolicyEvaluator.invalidatePolicyCache();
+        assertThat(cachingPolicyEvaluator.evaluate(List.of(vuln), component, project)).hasSize(1);
+        verify(policyProviderMock, times(3)).getApplicablePolicies(any(Project.class));
+    }
+
+}
@@ -35,6 +35,7 @@ import org.dependencytrack.model.RepositoryType;
 import org.dependencytrack.model.Severity;
 import org.dependencytrack.model.Vulnerability;
 import org.dependencytrack.model.WorkflowStep;
+import org.dependencytrack.persistence.FindingsSearchQueryManager.FindingsCursor;
 import org.glassfish.jersey.server.ResourceConfig;
 import org.json.JSONArray;
 import org.json.JSONObject;
@@ -47,6 +48,7 @@ import jakarta.json.JsonObject;
 import jakarta.ws.rs.client.Entity;
 import jakarta.ws.rs.core.HttpHeaders;
 import jakarta.ws.rs.core.Response;
+import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
 import java.util.Map;
@@ -478,6 +480,102 @@ public class FindingResourceTest extends ResourceTest {
         Assert.assertEquals(p2.getUuid().toString(), json.getJsonObject(4).getJsonObject("component").getString("project"));
     }
 
+    @Test
+    public void getAllFindingsPaginated() {
+        final Project project = qm.createProject("Acme Example", null, "1.0", null, null, null, true, false);
+        final Component componentA = createComponent(project, "Component A", "1.0");
+        final Component componentB = createComponent(project, "Component B", "1.0");
+        final Date published = new Date();
+        for (int i = 0; i < 5; i++) {
+            final Vulnerability vuln = createVulnerability("Vuln-" + i, Severity.HIGH);
+            vuln.setPublished(published);
+            qm.addVulnerability(vuln, i % 2 == 0 ? componentA : componentB, AnalyzerIdentity.NONE);
+        }
+
+        final var seenVulnIds = new ArrayList<String>();
+        for (int pageNumber = 1; pageNumber <= 3; pageNumber++) {
+            // All findings share the same publish date, so only the tiebreaker
+            // ordering guarantees that pages neither overlap nor skip findings.
+            final Response response = jersey.target(V1_FINDING)
+                    .queryParam("sortName", "vulnerability.published")
+                    .queryParam("sortOrder", "asc")
+                    .queryParam("pageSize", "2")
+                    .queryParam("pageNumber", String.valueOf(pageNumber))
+                    .request()
+                    .header(X_API_KEY, apiKey)
+                    .get(Response.class);
+            assertThat(response.getStatus()).isEqualTo(200);
+            assertThat(response.getHeaderString(TOTAL_COUNT_HEADER)).isEqualTo("5");
+            final JsonArray json = parseJsonArray(response);
+            assertThat(json).hasSize(pageNumber < 3 ? 2 : 1);
+            for (int i = 0; i < json.size(); i++) {
+                seenVulnIds.add(json.getJsonObject(i).getJsonObject("vulnerability").getString("vulnId"));
+            }
+        }
+
+        assertThat(seenVulnIds).containsExactlyInAnyOrder("Vuln-0", "Vuln-1", "Vuln-2", "Vuln-3", "Vuln-4");
+    }
+
+    @Test
+    public void getAllFindingsWithCursor() {
+        final Project project = qm.createProject("Acme Example", null, "1.0", null, null, null, true, false);
+        final Component componentA = createComponent(project, "Component A", "1.0");
+        final Component componentB = createComponent(project, "Component B", "1.0");
+        for (int i = 0; i < 5; i++) {
+            final Vulnerability vuln = createVulnerability("Vuln-" + i, Severity.HIGH);
+            qm.addVulnerability(vuln, i % 2 == 0 ? componentA : componentB, AnalyzerIdentity.NONE);
+        }
+
+        final var seenVulnIds = new ArrayList<String>();
+        String cursor = null;
+        int numPages = 0;
+        do {
+            var target = jersey.target(V1_FINDING)
+                    .queryParam("pageSize", "2")
+                    .queryParam("includeTotal", "false");
+            if (cursor != null) {
+                target = target.queryParam("cursor", cursor);
+            }
+
+            final Response response = target.request()
+                    .header(X_API_KEY, apiKey)
+                    .get(Response.class);
+            assertThat(response.getStatus()).isEqualTo(200);
+            assertThat(response.getHeaderString(TOTAL_COUNT_HEADER)).isNull();
+            final JsonArray json = parseJsonArray(response);
+            for (int i = 0; i < json.size(); i++) {
+                seenVulnIds.add(json.getJsonObject(i).getJsonObject("vulnerability").getString("vulnId"));
+            }
+
+            cursor = response.getHeaderString(FindingResource.NEXT_CURSOR_HEADER);
+            numPages++;
+        } while (cursor != null);
+
+        assertThat(numPages).isEqualTo(3);
+        assertThat(seenVulnIds).containsExactlyInAnyOrder("Vuln-0", "Vuln-1", "Vuln-2", "Vuln-3", "Vuln-4");
+    }
+
+    @Test
+    public void getAllFindingsWithCursorAndSorting() {
+        final Response response = jersey.target(V1_FINDING)
+                .queryParam("cursor", new FindingsCursor(1, 1).encode())
+                .queryParam("sortName", "vulnerability.published")
+                .request()
+                .header(X_API_KEY, apiKey)
+                .get(Response.class);
+        assertThat(response.getStatus()).isEqualTo(400);
+    }
+
+    @Test
+    public void getAllFindingsWithInvalidCursor() {
+        final Response response = jersey.target(V1_FINDING)
+                .queryParam("cursor", "foo")
+                .request()
+                .header(X_API_KEY, apiKey)
+                .get(Response.class);
+        assertThat(response.getStatus()).isEqualTo(400);
+    }
+
     @Test
     public void getAllFindingsWithAclEnabled() {
         Project p1 = qm.createProject("Acme Example", null, "1.0", null, null, null, true, false);
@@ -685,6 +783,41 @@ public class FindingResourceTest extends ResourceTest {
         Assert.assertEquals(1, json.getJsonObject(2).getJsonObject("vulnerability").getInt("affectedProjectCount"));
     }
 
+    @Test
+    public void getAllFindingsGroupedByVulnerabilityPaginated() {
+        final Project project = qm.createProject("Acme Example", null, "1.0", null, null, null, true, false);
+        final Component componentA = createComponent(project, "Component A", "1.0");
+        final Component componentB = createComponent(project, "Component B", "1.0");
+        final Date published = new Date();
+        for (int i = 0; i < 5; i++) {
+            final Vulnerability vuln = createVulnerability("Vuln-" + i, Severity.HIGH);
+            vuln.setPublished(published);
+            qm.addVulnerability(vuln, componentA, AnalyzerIdentity.NONE);
+            qm.addVulnerability(vuln, componentB, AnalyzerIdentity.NONE);
+        }
+
+        final var seenVulnIds = new ArrayList<String>();
+        for (int pageNumber = 1; pageNumber <= 3; pageNumber++) {
+            final Response response = jersey.target(V1_FINDING + "/grouped")
+                    .queryParam("sortName", "vulnerability.published")
+                    .queryParam("sortOrder", "asc")
+                    .queryParam("pageSize", "2")
+                    .queryParam("pageNumber", String.valueOf(pageNumber))
+                    .request()
+                    .header(X_API_KEY, apiKey)
+                    .get(Response.class);
+            assertThat(response.getStatus()).isEqualTo(200);
+            assertThat(response.getHeaderString(TOTAL_COUNT_HEADER)).isEqualTo("5");
+            final JsonArray json = parseJsonArray(response);
+            assertThat(json).hasSize(pageNumber < 3 ? 2 : 1);
+            for (int i = 0; i < json.size(); i++) {
+                seenVulnIds.add(json.getJsonObject(i).getJsonObject("vulnerability").getString("vulnId"));
+            }
+        }
+
+        assertThat(seenVulnIds).containsExactlyInAnyOrder("Vuln-0", "Vuln-1", "Vuln-2", "Vuln-3", "Vuln-4");
+    }
+
     @Test
     public void getSARIFFindingsByProjectTest() {
         Project project = qm.createProject("Acme Example", null, "1.0", null, null, null, true, false);
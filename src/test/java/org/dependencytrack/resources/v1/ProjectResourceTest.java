@@ -27,6 +27,7 @@ import org.datanucleus.store.types.wrappers.Date;
 import org.dependencytrack.JerseyTestRule;
 import org.dependencytrack.ResourceTest;
 import org.dependencytrack.event.CloneProjectEvent;
+import org.dependencytrack.event.ProjectDeletionEvent;
 import org.dependencytrack.event.kafka.KafkaTopics;
 import org.dependencytrack.model.Analysis;
 import org.dependencytrack.model.AnalysisJustification;
@@ -45,6 +46,7 @@ import org.dependencytrack.model.ProjectProperty;
 import org.dependencytrack.model.ServiceComponent;
 import org.dependencytrack.model.Tag;
 import org.dependencytrack.model.Vulnerability;
+import org.dependencytrack.model.WorkflowState;
 import org.dependencytrack.model.WorkflowStatus;
 import org.dependencytrack.model.WorkflowStep;
 import org.dependencytrack.notification.NotificationConstants;
@@ -52,6 +54,7 @@ import org.dependencytrack.persistence.jdbi.VulnerabilityPolicyDao;
 import org.dependencytrack.policy.vulnerability.VulnerabilityPolicy;
 import org.dependencytrack.policy.vulnerability.VulnerabilityPolicyAnalysis;
 import org.dependencytrack.tasks.CloneProjectTask;
+import org.dependencytrack.tasks.ProjectDeletionTask;
 import org.glassfish.jersey.client.HttpUrlConnectorProvider;
 import org.glassfish.jersey.server.ResourceConfig;
 import org.hamcrest.CoreMatchers;
@@ -106,6 +109,7 @@ public class ProjectResourceTest extends ResourceTest {
     @Override
     public void after() {
         EventService.getInstance().unsubscribe(CloneProjectTask.class);
+        EventService.getInstance().unsubscribe(ProjectDeletionTask.class);
         super.after();
     }
 
@@ -1441,6 +1445,50 @@ public class ProjectResourceTest extends ResourceTest {
         Assert.assertEquals(404, response.getStatus(), 0);
     }
 
+    @Test
+    public void deleteProjectsTest() {
+        EventService.getInstance().subscribe(ProjectDeletionEvent.class, ProjectDeletionTask.class);
+
+        final Project parentProject = qm.createProject("acme-app", null, "1.0", null, null, null, true, false);
+        final Project childProject = qm.createProject("acme-app-child", null, "1.0", null, parentProject, null, true, false);
+        final Project otherProject = qm.createProject("acme-app-other", null, "1.0", null, null, null, true, false);
+
+        final Response response = jersey.target(V1_PROJECT + "/batchDelete")
+                .request()
+                .header(X_API_KEY, apiKey)
+                .post(Entity.json(List.of(parentProject.getUuid())));
+        assertThat(response.getStatus()).isEqualTo(202);
+        final UUID token = UUID.fromString(parseJsonObject(response).getString("token"));
+
+        await("Deletion completion")
+                .atMost(Duration.ofSeconds(15))
+                .pollInterval(Duration.ofMillis(50))
+                .untilAsserted(() -> {
+                    final WorkflowState workflowState = qm.getWorkflowStateByTokenAndStep(token, WorkflowStep.PROJECT_DELETION);
+                    qm.getPersistenceManager().refresh(workflowState);
+                    assertThat(workflowState.getStatus()).isEqualTo(WorkflowStatus.COMPLETED);
+                    assertThat(workflowState.getTotalItems()).isEqualTo(2);
+                    assertThat(workflowState.getCompletedItems()).isEqualTo(2);
+                });
+
+        qm.getPersistenceManager().evictAll();
+        assertThat(qm.getObjectByUuid(Project.class, parentProject.getUuid())).isNull();
+        assertThat(qm.getObjectByUuid(Project.class, childProject.getUuid())).isNull();
+        assertThat(qm.getObjectByUuid(Project.class, otherProject.getUuid())).isNotNull();
+    }
+
+    @Test
+    public void deleteProjectsNotFoundTest() {
+        final Project project = qm.createProject("acme-app", null, "1.0", null, null, null, true, false);
+
+        final Response response = jersey.target(V1_PROJECT + "/batchDelete")
+                .request()
+                .header(X_API_KEY, apiKey)
+                .post(Entity.json(List.of(project.getUuid(), UUID.randomUUID())));
+        assertThat(response.getStatus()).isEqualTo(404);
+        assertThat(qm.getObjectByUuid(Project.class, project.getUuid())).isNotNull();
+    }
+
     @Test
     public void patchProjectNotModifiedTest() {
         final var tags = Stream.of("tag1", "tag2").map(qm::createTag).collect(Collectors.toUnmodifiableList());
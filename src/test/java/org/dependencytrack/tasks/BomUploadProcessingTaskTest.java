@@ -18,12 +18,17 @@
  */
 package org.dependencytrack.tasks;
 
+import alpine.event.framework.Event;
+import alpine.event.framework.EventService;
+import alpine.event.framework.Subscriber;
 import alpine.model.IConfigProperty.PropertyType;
 import com.github.packageurl.PackageURL;
 import org.apache.kafka.clients.producer.ProducerRecord;
 import org.dependencytrack.PersistenceCapableTest;
 import org.dependencytrack.event.BomUploadEvent;
+import org.dependencytrack.event.ProjectPolicyEvaluationEvent;
 import org.dependencytrack.event.kafka.KafkaEventDispatcher;
+import org.dependencytrack.event.kafka.KafkaEventHeaders;
 import org.dependencytrack.event.kafka.KafkaTopics;
 import org.dependencytrack.model.Bom;
 import org.dependencytrack.model.Classifier;
@@ -49,6 +54,7 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardCopyOption;
+import java.time.Duration;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
@@ -56,8 +62,10 @@ import java.util.Date;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Queue;
 import java.util.UUID;
 import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -67,6 +75,7 @@ import static org.apache.commons.io.IOUtils.resourceToURL;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatNoException;
 import static org.assertj.core.api.Assertions.fail;
+import static org.awaitility.Awaitility.await;
 import static org.dependencytrack.model.WorkflowStatus.CANCELLED;
 import static org.dependencytrack.model.WorkflowStatus.COMPLETED;
 import static org.dependencytrack.model.WorkflowStatus.FAILED;
@@ -597,7 +606,10 @@ public class BomUploadProcessingTaskTest extends PersistenceCapableTest {
         assertThat(vulnerabilityScan).isNotNull();
         assertThat(vulnerabilityScan.getTargetType()).isEqualTo(VulnerabilityScan.TargetType.PROJECT);
         assertThat(vulnerabilityScan.getTargetIdentifier()).isEqualTo(project.getUuid());
-        assertThat(vulnerabilityScan.getExpectedResults()).isEqualTo(9056);
+        // Components sharing the same analysis identity are only submitted once.
+        final long distinctVulnAnalysisIdentities = countDistinctVulnAnalysisIdentities(components);
+        assertThat(distinctVulnAnalysisIdentities).isLessThanOrEqualTo(9056);
+        assertThat(vulnerabilityScan.getExpectedResults()).isEqualTo(distinctVulnAnalysisIdentities);
         assertThat(vulnerabilityScan.getReceivedResults()).isZero();
 
         // Verify that all vulnerability analysis commands have been sent.
@@ -605,7 +617,7 @@ public class BomUploadProcessingTaskTest extends PersistenceCapableTest {
                 .map(ProducerRecord::topic)
                 .filter(KafkaTopics.VULN_ANALYSIS_COMMAND.name()::equals)
                 .count();
-        assertThat(vulnAnalysisCommandsSent).isEqualTo(9056);
+        assertThat(vulnAnalysisCommandsSent).isEqualTo(distinctVulnAnalysisIdentities);
 
         // Verify that all repository meta analysis commands have been sent.
         final long repoMetaAnalysisCommandsSent = kafkaMockProducer.history().stream()
@@ -756,6 +768,346 @@ public class BomUploadProcessingTaskTest extends PersistenceCapableTest {
         assertThat(components).hasSize(185);
     }
 
+    @Test
+    public void informWithStreamingTest() throws Exception {
+        final var project = qm.createProject("Acme Example", null, "1.0", null, null, null, true, false);
+
+        final var bomUploadEvent = new BomUploadEvent(qm.detach(Project.class, project.getId()), createTempBomFile("bom-metadata-components.json"));
+        qm.createWorkflowSteps(bomUploadEvent.getChainIdentifier());
+        new BomUploadProcessingTask(new KafkaEventDispatcher(), /* delayBomProcessedNotification */ false,
+                /* streamingEnabled */ true, /* streamingChunkSize */ 10, /* deltaEnabled */ false).inform(bomUploadEvent);
+        assertBomProcessedNotification();
+
+        final List<Bom> boms = qm.getAllBoms(project);
+        assertThat(boms).hasSize(1);
+        final Bom bom = boms.get(0);
+        assertThat(bom.getBomFormat()).isEqualTo("CycloneDX");
+        assertThat(bom.getSpecVersion()).isEqualTo("1.4");
+        assertThat(bom.getBomVersion()).isEqualTo(1);
+        assertThat(bom.getSerialNumber()).isEqualTo("d7cf8503-6d80-4219-ab4c-3bab8f250ee7");
+
+        qm.getPersistenceManager().refresh(project);
+        assertThat(project.getPurl()).isNotNull();
+        assertThat(project.getPurl().canonicalize()).isEqualTo("pkg:maven/test/Test@latest?type=jar");
+        assertThat(project.getDirectDependencies()).isNotNull();
+
+        // Results must be identical to those of non-streaming processing (see informWithComponentsUnderMetadataBomTest).
+        final List<Component> components = qm.getAllComponents(project);
+        assertThat(components).hasSize(185);
+
+        final VulnerabilityScan vulnerabilityScan = qm.getVulnerabilityScan(bomUploadEvent.getChainIdentifier().toString());
+        assertThat(vulnerabilityScan).isNotNull();
+        assertThat(vulnerabilityScan.getExpectedResults()).isEqualTo(countDistinctVulnAnalysisIdentities(components));
+        assertThat(kafkaMockProducer.history().stream()
+                .map(ProducerRecord::topic)
+                .filter(KafkaTopics.VULN_ANALYSIS_COMMAND.name()::equals)
+                .count()).isEqualTo(countDistinctVulnAnalysisIdentities(components));
+    }
+
+    @Test
+    public void informWithStreamingAndXmlBomTest() throws Exception {
+        DefaultObjectGenerator.loadDefaultLicenses();
+
+        final var project = qm.createProject("Acme Example", null, "1.0", null, null, null, true, false);
+
+        final var bomUploadEvent = new BomUploadEvent(qm.detach(Project.class, project.getId()), createTempBomFile("bom-1.xml"));
+        qm.createWorkflowSteps(bomUploadEvent.getChainIdentifier());
+        new BomUploadProcessingTask(new KafkaEventDispatcher(), /* delayBomProcessedNotification */ false,
+                /* streamingEnabled */ true, /* streamingChunkSize */ 1, /* deltaEnabled */ false).inform(bomUploadEvent);
+        assertBomProcessedNotification();
+
+        qm.getPersistenceManager().refresh(project);
+        assertThat(project.getClassifier()).isEqualTo(Classifier.APPLICATION);
+        assertThat(project.getLastBomImportFormat()).isEqualTo("CycloneDX 1.5");
+        assertThat(project.getMetadata()).isNotNull();
+
+        assertThat(qm.getAllComponents(project)).satisfiesExactly(component -> {
+            assertThat(component.getGroup()).isEqualTo("com.example");
+            assertThat(component.getName()).isEqualTo("xmlutil");
+            assertThat(component.getVersion()).isEqualTo("1.0.0");
+            assertThat(component.getResolvedLicense()).isNotNull();
+            assertThat(component.getResolvedLicense().getLicenseId()).isEqualTo("Apache-2.0");
+            assertThat(component.getProperties()).hasSize(4);
+        });
+    }
+
+    @Test
+    public void informWithStreamingAndInvalidBomTest() throws Exception {
+        final var project = qm.createProject("Acme Example", null, "1.0", null, null, null, true, false);
+
+        final var bomUploadEvent = new BomUploadEvent(qm.detach(Project.class, project.getId()), createTempBomFile("bom-invalid.json"));
+        qm.createWorkflowSteps(bomUploadEvent.getChainIdentifier());
+        new BomUploadProcessingTask(new KafkaEventDispatcher(), /* delayBomProcessedNotification */ false,
+                /* streamingEnabled */ true, /* streamingChunkSize */ 10, /* deltaEnabled */ false).inform(bomUploadEvent);
+
+        assertThat(bomUploadEvent.getFile()).doesNotExist();
+        qm.getPersistenceManager().refreshAll(qm.getAllWorkflowStatesForAToken(bomUploadEvent.getChainIdentifier()));
+        assertThat(qm.getWorkflowStateByTokenAndStep(bomUploadEvent.getChainIdentifier(), BOM_CONSUMPTION))
+                .satisfies(state -> assertThat(state.getStatus()).isEqualTo(FAILED));
+        assertThat(qm.getAllComponents(project)).isEmpty();
+    }
+
+    @Test
+    public void informWithDeltaProcessingTest() throws Exception {
+        final var project = qm.createProject("Acme Example", null, "1.0", null, null, null, true, false);
+
+        final var bomTemplate = """
+                {
+                  "bomFormat": "CycloneDX",
+                  "specVersion": "1.4",
+                  "version": 1,
+                  "components": [
+                    {
+                      "type": "library",
+                      "name": "acme-lib-a",
+                      "version": "1.0.0",
+                      "purl": "pkg:maven/com.acme/acme-lib-a@1.0.0"
+                    },
+                    {
+                      "type": "library",
+                      "name": "acme-lib-b",
+                      "version": "1.0.0",
+                      "purl": "pkg:maven/com.acme/acme-lib-b@1.0.0",
+                      "description": "%s"
+                    }
+                  ]
+                }
+                """;
+
+        var bomUploadEvent = new BomUploadEvent(qm.detach(Project.class, project.getId()),
+                createTempBomFile(bomTemplate.formatted("foo").getBytes()));
+        qm.createWorkflowSteps(bomUploadEvent.getChainIdentifier());
+        new BomUploadProcessingTask(new KafkaEventDispatcher(), /* delayBomProcessedNotification */ false,
+                /* streamingEnabled */ false, /* streamingChunkSize */ 0, /* deltaEnabled */ true).inform(bomUploadEvent);
+        assertBomProcessedNotification();
+        assertThat(qm.getVulnerabilityScan(bomUploadEvent.getChainIdentifier().toString()))
+                .satisfies(scan -> assertThat(scan.getExpectedResults()).isEqualTo(2));
+
+        kafkaMockProducer.clear();
+
+        // Upload a BOM where only one of the components changed.
+        bomUploadEvent = new BomUploadEvent(qm.detach(Project.class, project.getId()),
+                createTempBomFile(bomTemplate.formatted("bar").getBytes()));
+        qm.createWorkflowSteps(bomUploadEvent.getChainIdentifier());
+        new BomUploadProcessingTask(new KafkaEventDispatcher(), /* delayBomProcessedNotification */ false,
+                /* streamingEnabled */ false, /* streamingChunkSize */ 0, /* deltaEnabled */ true).inform(bomUploadEvent);
+        assertBomProcessedNotification();
+
+        assertThat(qm.getVulnerabilityScan(bomUploadEvent.getChainIdentifier().toString()))
+                .satisfies(scan -> assertThat(scan.getExpectedResults()).isEqualTo(1));
+        assertThat(kafkaMockProducer.history().stream()
+                .map(ProducerRecord::topic)
+                .filter(KafkaTopics.VULN_ANALYSIS_COMMAND.name()::equals)
+                .count()).isEqualTo(1);
+        assertThat(kafkaMockProducer.history().stream()
+                .map(ProducerRecord::topic)
+                .filter(KafkaTopics.REPO_META_ANALYSIS_COMMAND.name()::equals)
+                .count()).isEqualTo(1);
+
+        qm.getPersistenceManager().evictAll();
+        assertThat(qm.getAllComponents(project)).satisfiesExactlyInAnyOrder(
+                component -> {
+                    assertThat(component.getName()).isEqualTo("acme-lib-a");
+                    assertThat(component.getBomFingerprint()).isNotNull();
+                },
+                component -> {
+                    assertThat(component.getName()).isEqualTo("acme-lib-b");
+                    assertThat(component.getDescription()).isEqualTo("bar");
+                    assertThat(component.getBomFingerprint()).isNotNull();
+                }
+        );
+    }
+
+    @Test
+    public void informWithDeltaProcessingAndUnchangedBomTest() throws Exception {
+        final var project = qm.createProject("Acme Example", null, "1.0", null, null, null, true, false);
+
+        final byte[] bomBytes = """
+                {
+                  "bomFormat": "CycloneDX",
+                  "specVersion": "1.4",
+                  "version": 1,
+                  "components": [
+                    {
+                      "type": "library",
+                      "name": "acme-lib-a",
+                      "version": "1.0.0",
+                      "purl": "pkg:maven/com.acme/acme-lib-a@1.0.0"
+                    }
+                  ]
+                }
+                """.getBytes();
+
+        var bomUploadEvent = new BomUploadEvent(qm.detach(Project.class, project.getId()), createTempBomFile(bomBytes));
+        qm.createWorkflowSteps(bomUploadEvent.getChainIdentifier());
+        new BomUploadProcessingTask(new KafkaEventDispatcher(), /* delayBomProcessedNotification */ false,
+                /* streamingEnabled */ false, /* streamingChunkSize */ 0, /* deltaEnabled */ true).inform(bomUploadEvent);
+        assertBomProcessedNotification();
+
+        kafkaMockProducer.clear();
+
+        final var policyEvalEvents = new ConcurrentLinkedQueue<Event>();
+        PolicyEvaluationEventSubscriber.events = policyEvalEvents;
+        EventService.getInstance().subscribe(ProjectPolicyEvaluationEvent.class, PolicyEvaluationEventSubscriber.class);
+
+        try {
+            // Upload the exact same BOM again. None of the components changed.
+            bomUploadEvent = new BomUploadEvent(qm.detach(Project.class, project.getId()), createTempBomFile(bomBytes));
+            qm.createWorkflowSteps(bomUploadEvent.getChainIdentifier());
+            new BomUploadProcessingTask(new KafkaEventDispatcher(), /* delayBomProcessedNotification */ false,
+                    /* streamingEnabled */ false, /* streamingChunkSize */ 0, /* deltaEnabled */ true).inform(bomUploadEvent);
+            assertBomProcessedNotification();
+
+            assertThat(qm.getVulnerabilityScan(bomUploadEvent.getChainIdentifier().toString())).isNull();
+            assertThat(kafkaMockProducer.history().stream()
+                    .map(ProducerRecord::topic)
+                    .filter(KafkaTopics.VULN_ANALYSIS_COMMAND.name()::equals)
+                    .count()).isZero();
+
+            // Policies must still be evaluated for the project.
+            final UUID workflowToken = bomUploadEvent.getChainIdentifier();
+            await("Policy evaluation")
+                    .atMost(Duration.ofSeconds(5))
+                    .untilAsserted(() -> assertThat(policyEvalEvents).satisfiesExactly(event -> {
+                        final var policyEvalEvent = (ProjectPolicyEvaluationEvent) event;
+                        assertThat(policyEvalEvent.getUuid()).isEqualTo(project.getUuid());
+                        assertThat(policyEvalEvent.getChainIdentifier()).isEqualTo(workflowToken);
+                    }));
+
+            qm.getPersistenceManager().refreshAll(qm.getAllWorkflowStatesForAToken(workflowToken));
+            assertThat(qm.getWorkflowStateByTokenAndStep(workflowToken, VULN_ANALYSIS).getStatus()).isEqualTo(NOT_APPLICABLE);
+            assertThat(qm.getWorkflowStateByTokenAndStep(workflowToken, POLICY_EVALUATION).getStatus()).isEqualTo(PENDING);
+        } finally {
+            EventService.getInstance().unsubscribe(PolicyEvaluationEventSubscriber.class);
+            PolicyEvaluationEventSubscriber.events = null;
+        }
+    }
+
+    public static class PolicyEvaluationEventSubscriber implements Subscriber {
+
+        private static volatile Queue<Event> events;
+
+        @Override
+        public void inform(final Event event) {
+            events.add(event);
+        }
+
+    }
+
+    @Test
+    public void informWithComponentsSharingVulnAnalysisIdentityTest() throws Exception {
+        final var project = qm.createProject("Acme Example", null, "1.0", null, null, null, true, false);
+
+        final var bomUploadEvent = new BomUploadEvent(qm.detach(Project.class, project.getId()), createTempBomFile("""
+                {
+                  "bomFormat": "CycloneDX",
+                  "specVersion": "1.4",
+                  "version": 1,
+                  "components": [
+                    {
+                      "type": "library",
+                      "name": "acme-lib-a",
+                      "version": "1.0.0",
+                      "purl": "pkg:maven/com.acme/acme-lib-a@1.0.0?type=jar"
+                    },
+                    {
+                      "type": "library",
+                      "name": "acme-lib-a",
+                      "version": "1.0.0",
+                      "purl": "pkg:maven/com.acme/acme-lib-a@1.0.0?classifier=sources"
+                    },
+                    {
+                      "type": "library",
+                      "name": "acme-lib-b",
+                      "version": "1.0.0",
+                      "purl": "pkg:maven/com.acme/acme-lib-b@1.0.0"
+                    }
+                  ]
+                }
+                """.getBytes()));
+        qm.createWorkflowSteps(bomUploadEvent.getChainIdentifier());
+        new BomUploadProcessingTask().inform(bomUploadEvent);
+        assertBomProcessedNotification();
+
+        assertThat(qm.getAllComponents(project)).hasSize(3);
+
+        // Both acme-lib-a components share the same purl coordinates, and must be analyzed only once.
+        assertThat(qm.getVulnerabilityScan(bomUploadEvent.getChainIdentifier().toString()))
+                .satisfies(scan -> assertThat(scan.getExpectedResults()).isEqualTo(2));
+        assertThat(kafkaMockProducer.history().stream()
+                .filter(record -> KafkaTopics.VULN_ANALYSIS_COMMAND.name().equals(record.topic()))
+                .map(record -> deserializeValue(KafkaTopics.VULN_ANALYSIS_COMMAND, record))
+                .map(command -> command.getComponent().getPurl()))
+                .satisfiesExactlyInAnyOrder(
+                        purl -> assertThat(purl).startsWith("pkg:maven/com.acme/acme-lib-a@1.0.0?"),
+                        purl -> assertThat(purl).isEqualTo("pkg:maven/com.acme/acme-lib-b@1.0.0")
+                );
+    }
+
+    @Test
+    public void informWithNewAndExistingComponentsSharingVulnAnalysisIdentityTest() throws Exception {
+        final var project = qm.createProject("Acme Example", null, "1.0", null, null, null, true, false);
+
+        final String componentJarJson = """
+                {
+                  "type": "library",
+                  "name": "acme-lib-a",
+                  "version": "1.0.0",
+                  "purl": "pkg:maven/com.acme/acme-lib-a@1.0.0?type=jar"
+                }
+                """;
+        final String componentSourcesJson = """
+                {
+                  "type": "library",
+                  "name": "acme-lib-a",
+                  "version": "1.0.0",
+                  "purl": "pkg:maven/com.acme/acme-lib-a@1.0.0?classifier=sources"
+                }
+                """;
+        final String bomTemplate = """
+                {
+                  "bomFormat": "CycloneDX",
+                  "specVersion": "1.4",
+                  "version": 1,
+                  "components": [%s]
+                }
+                """;
+
+        var bomUploadEvent = new BomUploadEvent(qm.detach(Project.class, project.getId()),
+                createTempBomFile(bomTemplate.formatted(componentJarJson).getBytes()));
+        qm.createWorkflowSteps(bomUploadEvent.getChainIdentifier());
+        new BomUploadProcessingTask().inform(bomUploadEvent);
+        assertBomProcessedNotification();
+
+        kafkaMockProducer.clear();
+
+        // Upload a BOM where a new component shares the analysis identity of the existing one.
+        bomUploadEvent = new BomUploadEvent(qm.detach(Project.class, project.getId()),
+                createTempBomFile(bomTemplate.formatted(componentJarJson + "," + componentSourcesJson).getBytes()));
+        qm.createWorkflowSteps(bomUploadEvent.getChainIdentifier());
+        new BomUploadProcessingTask().inform(bomUploadEvent);
+        assertBomProcessedNotification();
+
+        final Component existingComponent = qm.getAllComponents(project).stream()
+                .filter(component -> component.getPurl().toString().endsWith("?type=jar"))
+                .findAny().orElseThrow();
+        final Component newComponent = qm.getAllComponents(project).stream()
+                .filter(component -> component.getPurl().toString().endsWith("?classifier=sources"))
+                .findAny().orElseThrow();
+
+        // The existing component is analyzed on behalf of both, but only the other one must be reported as new.
+        assertThat(kafkaMockProducer.history().stream()
+                .filter(record -> KafkaTopics.VULN_ANALYSIS_COMMAND.name().equals(record.topic())))
+                .satisfiesExactly(record -> {
+                    assertThat(deserializeKey(KafkaTopics.VULN_ANALYSIS_COMMAND, record).getComponentUuid())
+                            .isEqualTo(existingComponent.getUuid().toString());
+                    assertThat(record.headers().lastHeader(KafkaEventHeaders.IS_NEW_COMPONENT).value())
+                            .asString().isEqualTo("false");
+                    assertThat(record.headers().lastHeader(KafkaEventHeaders.NEW_SIBLING_COMPONENT_UUIDS).value())
+                            .asString().isEqualTo(newComponent.getUuid().toString());
+                });
+    }
+
     @Test
     public void informWithDelayedBomProcessedNotification() throws Exception {
         Project project = qm.createProject("Acme Example", null, "1.0", null, null, null, true, false);
@@ -1358,6 +1710,50 @@ public class BomUploadProcessingTaskTest extends PersistenceCapableTest {
         });
     }
 
+    @Test
+    public void informWithMultipleExistingComponentsMatchingIdentityTest() throws Exception {
+        final var project = new Project();
+        project.setName("acme-app");
+        qm.persist(project);
+
+        final var componentA = new Component();
+        componentA.setProject(project);
+        componentA.setName("acme-lib");
+        componentA.setVersion("1.0.0");
+        qm.persist(componentA);
+
+        final var componentB = new Component();
+        componentB.setProject(project);
+        componentB.setName("acme-lib");
+        componentB.setVersion("1.0.0");
+        qm.persist(componentB);
+
+        final var bomUploadEvent = new BomUploadEvent(qm.detach(Project.class, project.getId()), createTempBomFile("""
+                {
+                  "bomFormat": "CycloneDX",
+                  "specVersion": "1.4",
+                  "version": 1,
+                  "components": [
+                    {
+                      "type": "library",
+                      "name": "acme-lib",
+                      "version": "1.0.0",
+                      "description": "updated"
+                    }
+                  ]
+                }
+                """.getBytes()));
+        qm.createWorkflowSteps(bomUploadEvent.getChainIdentifier());
+        new BomUploadProcessingTask().inform(bomUploadEvent);
+        assertBomProcessedNotification();
+
+        qm.getPersistenceManager().evictAll();
+        assertThat(qm.getAllComponents(project)).satisfiesExactly(component -> {
+            assertThat(component.getId()).isEqualTo(componentA.getId());
+            assertThat(component.getDescription()).isEqualTo("updated");
+        });
+    }
+
     @Test // https://github.com/DependencyTrack/dependency-track/issues/3957
     public void informIssue3957Test() throws Exception {
         final var licenseA = new License();
@@ -1430,6 +1826,22 @@ public class BomUploadProcessingTaskTest extends PersistenceCapableTest {
         }
     }
 
+    private static long countDistinctVulnAnalysisIdentities(final List<Component> components) {
+        return components.stream()
+                .map(component -> {
+                    if (component.getPurlCoordinates() != null) {
+                        return List.of(component.getPurlCoordinates().canonicalize(),
+                                Objects.toString(component.getCpe()), component.isInternal());
+                    } else if (component.getPurl() == null && component.getCpe() != null) {
+                        return List.of(component.getCpe(), component.isInternal());
+                    }
+
+                    return component.getUuid();
+                })
+                .distinct()
+                .count();
+    }
+
     private static File createTempBomFile(final String testFileName) throws Exception {
         // The task will delete the input file after processing it,
         // so create a temporary copy to not impact other tests.
@@ -0,0 +1,205 @@
+/*
+ * This file is part of Dependency-Track.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.dependencytrack.tasks;
+
+import alpine.persistence.PaginatedResult;
+import org.dependencytrack.PersistenceCapableTest;
+import org.dependencytrack.event.FindingsReadModelCheckEvent;
+import org.dependencytrack.event.FindingsReadModelRebuildEvent;
+import org.dependencytrack.model.AnalysisState;
+import org.dependencytrack.model.AnalyzerIdentity;
+import org.dependencytrack.model.Component;
+import org.dependencytrack.model.Finding;
+import org.dependencytrack.model.Project;
+import org.dependencytrack.model.Severity;
+import org.dependencytrack.model.Vulnerability;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.dependencytrack.persistence.jdbi.JdbiFactory.useJdbiHandle;
+import static org.dependencytrack.persistence.jdbi.JdbiFactory.withJdbiHandle;
+
+public class FindingsReadModelTaskTest extends PersistenceCapableTest {
+
+    private record ReadModelRow(long componentId, long vulnId, String severity, String analysisState) {
+    }
+
+    @Test
+    public void testRebuild() {
+        final Component component = createComponent(createProject("acme-app", true), "acme-lib");
+        final Vulnerability vulnA = createVulnerability("INT-001", Severity.HIGH);
+        final Vulnerability vulnB = createVulnerability("INT-002", Severity.LOW);
+        qm.addVulnerability(vulnA, component, AnalyzerIdentity.INTERNAL_ANALYZER);
+        qm.addVulnerability(vulnB, component, AnalyzerIdentity.INTERNAL_ANALYZER);
+        qm.makeAnalysis(component, vulnB, AnalysisState.FALSE_POSITIVE, null, null, null, true);
+
+        // The read model is disabled, so it must not have been maintained.
+        assertThat(getReadModelRows()).isEmpty();
+
+        new FindingsReadModelTask(100).inform(new FindingsReadModelRebuildEvent());
+
+        assertThat(getReadModelRows()).containsExactlyInAnyOrder(
+                new ReadModelRow(component.getId(), vulnA.getId(), "HIGH", null),
+                new ReadModelRow(component.getId(), vulnB.getId(), "LOW", "FALSE_POSITIVE"));
+    }
+
+    @Test
+    public void testIncrementalMaintenance() {
+        environmentVariables.set("FINDINGS_READ_MODEL_ENABLED", "true");
+
+        final Component component = createComponent(createProject("acme-app", true), "acme-lib");
+        final Vulnerability vuln = createVulnerability("INT-001", Severity.HIGH);
+        qm.addVulnerability(vuln, component, AnalyzerIdentity.INTERNAL_ANALYZER);
+        assertThat(getReadModelRows()).containsOnly(new ReadModelRow(component.getId(), vuln.getId(), "HIGH", null));
+
+        qm.makeAnalysis(component, vuln, AnalysisState.EXPLOITABLE, null, null, null, false);
+        assertThat(getReadModelRows()).containsOnly(new ReadModelRow(component.getId(), vuln.getId(), "HIGH", "EXPLOITABLE"));
+
+        qm.removeVulnerability(vuln, component);
+        assertThat(getReadModelRows()).isEmpty();
+    }
+
+    @Test
+    public void testIncrementalMaintenanceWithinTransaction() {
+        environmentVariables.set("FINDINGS_READ_MODEL_ENABLED", "true");
+
+        final Component component = createComponent(createProject("acme-app", true), "acme-lib");
+        final Vulnerability vuln = createVulnerability("INT-001", Severity.HIGH);
+
+        // Changes of the outer transaction are not committed yet when the read model is refreshed.
+        qm.runInTransaction(() -> {
+            qm.addVulnerability(vuln, component, AnalyzerIdentity.INTERNAL_ANALYZER);
+            qm.makeAnalysis(component, vuln, AnalysisState.EXPLOITABLE, null, null, null, false);
+        });
+        assertThat(getReadModelRows()).containsOnly(new ReadModelRow(component.getId(), vuln.getId(), "HIGH", "EXPLOITABLE"));
+    }
+
+    @Test
+    public void testCheckRebuildsWhenEmpty() {
+        final Component component = createComponent(createProject("acme-app", true), "acme-lib");
+        final Vulnerability vuln = createVulnerability("INT-001", Severity.HIGH);
+        qm.addVulnerability(vuln, component, AnalyzerIdentity.INTERNAL_ANALYZER);
+
+        environmentVariables.set("FINDINGS_READ_MODEL_ENABLED", "true");
+        new FindingsReadModelTask(100).inform(new FindingsReadModelCheckEvent());
+
+        assertThat(getReadModelRows()).containsOnly(new ReadModelRow(component.getId(), vuln.getId(), "HIGH", null));
+    }
+
+    @Test
+    public void testCheckRepairsInconsistencies() {
+        environmentVariables.set("FINDINGS_READ_MODEL_ENABLED", "true");
+
+        final Project project = createProject("acme-app", true);
+        final Component componentA = createComponent(project, "acme-lib-a");
+        final Component componentB = createComponent(project, "acme-lib-b");
+        final Component componentC = createComponent(project, "acme-lib-c");
+        final Vulnerability vuln = createVulnerability("INT-001", Severity.HIGH);
+        qm.addVulnerability(vuln, componentA, AnalyzerIdentity.INTERNAL_ANALYZER);
+        qm.addVulnerability(vuln, componentB, AnalyzerIdentity.INTERNAL_ANALYZER);
+        qm.addVulnerability(vuln, componentC, AnalyzerIdentity.INTERNAL_ANALYZER);
+
+        // Simulate changes that were not propagated to the read model.
+        useJdbiHandle(handle -> {
+            handle.execute("""
+                    DELETE FROM "FINDING_READ_MODEL" WHERE "COMPONENT_ID" = ?
+                    """, componentA.getId());
+            handle.execute("""
+                    UPDATE "FINDING_READ_MODEL" SET "VULNERABILITY_SEVERITY" = 'LOW' WHERE "COMPONENT_ID" = ?
+                    """, componentB.getId());
+        });
+
+        // Check one component per batch to cover walking multiple ranges.
+        new FindingsReadModelTask(1).inform(new FindingsReadModelCheckEvent());
+
+        assertThat(getReadModelRows()).containsExactlyInAnyOrder(
+                new ReadModelRow(componentA.getId(), vuln.getId(), "HIGH", null),
+                new ReadModelRow(componentB.getId(), vuln.getId(), "HIGH", null),
+                new ReadModelRow(componentC.getId(), vuln.getId(), "HIGH", null));
+    }
+
+    @Test
+    public void testGetAllFindingsFromReadModel() {
+        final Component componentA = createComponent(createProject("acme-app", true), "acme-lib");
+        final Component componentB = createComponent(createProject("acme-app-legacy", false), "acme-lib");
+        final Vulnerability vulnA = createVulnerability("INT-001", Severity.HIGH);
+        final Vulnerability vulnB = createVulnerability("INT-002", Severity.LOW);
+        qm.addVulnerability(vulnA, componentA, AnalyzerIdentity.INTERNAL_ANALYZER);
+        qm.addVulnerability(vulnB, componentA, AnalyzerIdentity.INTERNAL_ANALYZER);
+        qm.addVulnerability(vulnA, componentB, AnalyzerIdentity.INTERNAL_ANALYZER);
+        qm.makeAnalysis(componentA, vulnB, AnalysisState.FALSE_POSITIVE, null, null, null, true);
+
+        final List<String> vulnIdsWithoutReadModel = getAllFindingVulnIds();
+
+        environmentVariables.set("FINDINGS_READ_MODEL_ENABLED", "true");
+        new FindingsReadModelTask(100).inform(new FindingsReadModelRebuildEvent());
+
+        final List<String> vulnIdsWithReadModel = getAllFindingVulnIds();
+        assertThat(vulnIdsWithReadModel).containsExactly("INT-001");
+        assertThat(vulnIdsWithReadModel).isEqualTo(vulnIdsWithoutReadModel);
+
+        final PaginatedResult grouped = qm.getAllFindingsGroupedByVulnerability(Map.of(), true);
+        assertThat(grouped.getTotal()).isEqualTo(2);
+    }
+
+    private List<String> getAllFindingVulnIds() {
+        final PaginatedResult result = qm.getAllFindings(Map.of(), false, false);
+        assertThat(result.getTotal()).isEqualTo(result.getObjects().size());
+        return result.getList(Finding.class).stream()
+                .map(finding -> (String) finding.getVulnerability().get("vulnId"))
+                .toList();
+    }
+
+    private List<ReadModelRow> getReadModelRows() {
+        return withJdbiHandle(handle -> handle.createQuery("""
+                        SELECT "COMPONENT_ID", "VULNERABILITY_ID", "VULNERABILITY_SEVERITY", "ANALYSIS_STATE"
+                          FROM "FINDING_READ_MODEL"
+                        """)
+                .map((rs, ctx) -> new ReadModelRow(
+                        rs.getLong("COMPONENT_ID"),
+                        rs.getLong("VULNERABILITY_ID"),
+                        rs.getString("VULNERABILITY_SEVERITY"),
+                        rs.getString("ANALYSIS_STATE")))
+                .list());
+    }
+
+    private Project createProject(final String name, final boolean active) {
+        return qm.createProject(name, null, "1.0", null, null, null, active, false);
+    }
+
+    private Component createComponent(final Project project, final String name) {
+        final var component = new Component();
+        component.setProject(project);
+        component.setName(name);
+        component.setVersion("1.0");
+        return qm.createComponent(component, false);
+    }
+
+    private Vulnerability createVulnerability(final String vulnId, final Severity severity) {
+        final var vuln = new Vulnerability();
+        vuln.setVulnId(vulnId);
+        vuln.setSource(Vulnerability.Source.INTERNAL);
+        vuln.setSeverity(severity);
+        return qm.createVulnerability(vuln, false);
+    }
+
+}
@@ -0,0 +1,264 @@
+/*
+ * This file is part of Dependency-Track.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.dependencytrack.tasks;
+
+import org.dependencytrack.PersistenceCapableTest;
+import org.dependencytrack.event.ProjectDeletionEvent;
+import org.dependencytrack.model.Analysis;
+import org.dependencytrack.model.AnalysisJustification;
+import org.dependencytrack.model.AnalysisResponse;
+import org.dependencytrack.model.AnalysisState;
+import org.dependencytrack.model.AnalyzerIdentity;
+import org.dependencytrack.model.Bom;
+import org.dependencytrack.model.Component;
+import org.dependencytrack.model.DependencyMetrics;
+import org.dependencytrack.model.Policy;
+import org.dependencytrack.model.PolicyCondition;
+import org.dependencytrack.model.PolicyViolation;
+import org.dependencytrack.model.Project;
+import org.dependencytrack.model.ProjectMetrics;
+import org.dependencytrack.model.ProjectProperty;
+import org.dependencytrack.model.ServiceComponent;
+import org.dependencytrack.model.ViolationAnalysis;
+import org.dependencytrack.model.ViolationAnalysisState;
+import org.dependencytrack.model.Vulnerability;
+import org.dependencytrack.model.WorkflowState;
+import org.dependencytrack.model.WorkflowStatus;
+import org.dependencytrack.model.WorkflowStep;
+import org.dependencytrack.persistence.jdbi.ProjectDeletionDao;
+import org.junit.Test;
+
+import javax.jdo.JDOObjectNotFoundException;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatNoException;
+import static org.dependencytrack.persistence.jdbi.JdbiFactory.useJdbiHandle;
+import static org.dependencytrack.persistence.jdbi.JdbiFactory.withJdbiHandle;
+
+public class ProjectDeletionTaskTest extends PersistenceCapableTest {
+
+    @Test
+    public void testDeleteInBatches() {
+        final var project = new Project();
+        project.setName("acme-app");
+        project.setVersion("1.0.0");
+        qm.persist(project);
+        qm.createProjectProperty(project, "foo", "bar", "baz", ProjectProperty.PropertyType.STRING, null);
+
+        final Component component = createComponent(project, null, "acme-lib");
+        final Component componentChild = createComponent(project, component, "acme-sub-lib");
+        createComponent(project, null, "acme-other-lib");
+
+        final var vuln = new Vulnerability();
+        vuln.setVulnId("INT-123");
+        vuln.setSource(Vulnerability.Source.INTERNAL);
+        qm.persist(vuln);
+        qm.addVulnerability(vuln, component, AnalyzerIdentity.INTERNAL_ANALYZER);
+        final Analysis analysis = qm.makeAnalysis(component, vuln,
+                AnalysisState.NOT_AFFECTED,
+                AnalysisJustification.CODE_NOT_REACHABLE,
+                AnalysisResponse.WORKAROUND_AVAILABLE,
+                "analysisDetails", false);
+        qm.makeAnalysisComment(analysis, "someComment", "someCommenter");
+
+        final var policy = new Policy();
+        policy.setName("Test Policy");
+        policy.setViolationState(Policy.ViolationState.WARN);
+        policy.setOperator(Policy.Operator.ALL);
+        policy.setProjects(List.of(project));
+        qm.persist(policy);
+        final var policyCondition = new PolicyCondition();
+        policyCondition.setPolicy(policy);
+        policyCondition.setSubject(PolicyCondition.Subject.COORDINATES);
+        policyCondition.setOperator(PolicyCondition.Operator.MATCHES);
+        policyCondition.setValue("someValue");
+        qm.persist(policyCondition);
+        final var policyViolation = new PolicyViolation();
+        policyViolation.setPolicyCondition(policyCondition);
+        policyViolation.setComponent(componentChild);
+        policyViolation.setType(PolicyViolation.Type.OPERATIONAL);
+        policyViolation.setTimestamp(new Date());
+        qm.persist(policyViolation);
+        final ViolationAnalysis violationAnalysis = qm.makeViolationAnalysis(componentChild, policyViolation,
+                ViolationAnalysisState.REJECTED, false);
+        qm.makeViolationAnalysisComment(violationAnalysis, "someComment", "someCommenter");
+
+        final var componentMetrics = new DependencyMetrics();
+        componentMetrics.setProject(project);
+        componentMetrics.setComponent(component);
+        componentMetrics.setFirstOccurrence(new Date());
+        componentMetrics.setLastOccurrence(new Date());
+        qm.persist(componentMetrics);
+
+        for (int i = 0; i < 3; i++) {
+            final var projectMetrics = new ProjectMetrics();
+            projectMetrics.setProject(project);
+            projectMetrics.setFirstOccurrence(new Date(i * 1000L));
+            projectMetrics.setLastOccurrence(new Date(i * 1000L));
+            qm.persist(projectMetrics);
+        }
+
+        final Bom bom = qm.createBom(project, new Date(), Bom.Format.CYCLONEDX, "1.4", 1, "serialNumber", UUID.randomUUID(), null);
+
+        final var service = new ServiceComponent();
+        service.setProject(project);
+        service.setName("acme-service");
+        qm.createServiceComponent(service, false);
+        final var serviceChild = new ServiceComponent();
+        serviceChild.setProject(project);
+        serviceChild.setParent(service);
+        serviceChild.setName("acme-sub-service");
+        qm.createServiceComponent(serviceChild, false);
+
+        final var projectChild = new Project();
+        projectChild.setParent(project);
+        projectChild.setName("acme-sub-app");
+        projectChild.setVersion("1.1.0");
+        qm.persist(projectChild);
+        final Component projectChildComponent = createComponent(projectChild, null, "acme-lib-x");
+
+        final Project otherProject = qm.createProject("acme-other-app", null, "1.0.0", null, null, null, true, false);
+        final Component otherComponent = createComponent(otherProject, null, "acme-lib");
+
+        final UUID token = enqueue(project);
+
+        new ProjectDeletionTask(1, 60_000).inform(new ProjectDeletionEvent());
+
+        qm.getPersistenceManager().evictAll();
+        assertThatExceptionOfType(JDOObjectNotFoundException.class).isThrownBy(() -> qm.getObjectById(Project.class, project.getId()));
+        assertThatExceptionOfType(JDOObjectNotFoundException.class).isThrownBy(() -> qm.getObjectById(Project.class, projectChild.getId()));
+        assertThatExceptionOfType(JDOObjectNotFoundException.class).isThrownBy(() -> qm.getObjectById(Component.class, component.getId()));
+        assertThatExceptionOfType(JDOObjectNotFoundException.class).isThrownBy(() -> qm.getObjectById(Component.class, componentChild.getId()));
+        assertThatExceptionOfType(JDOObjectNotFoundException.class).isThrownBy(() -> qm.getObjectById(Component.class, projectChildComponent.getId()));
+        assertThatExceptionOfType(JDOObjectNotFoundException.class).isThrownBy(() -> qm.getObjectById(ServiceComponent.class, serviceChild.getId()));
+        assertThatExceptionOfType(JDOObjectNotFoundException.class).isThrownBy(() -> qm.getObjectById(Bom.class, bom.getId()));
+
+        // Ensure associated objects, and unrelated projects, were NOT deleted.
+        assertThatNoException().isThrownBy(() -> qm.getObjectById(Vulnerability.class, vuln.getId()));
+        assertThatNoException().isThrownBy(() -> qm.getObjectById(Policy.class, policy.getId()));
+        assertThatNoException().isThrownBy(() -> qm.getObjectById(Project.class, otherProject.getId()));
+        assertThatNoException().isThrownBy(() -> qm.getObjectById(Component.class, otherComponent.getId()));
+        assertThat(qm.getObjectById(Policy.class, policy.getId()).getProjects()).isEmpty();
+
+        final WorkflowState workflowState = qm.getWorkflowStateByTokenAndStep(token, WorkflowStep.PROJECT_DELETION);
+        assertThat(workflowState.getStatus()).isEqualTo(WorkflowStatus.COMPLETED);
+        assertThat(workflowState.getStartedAt()).isNotNull();
+    }
+
+    @Test
+    public void testResumeAfterLeaseExpiry() {
+        final Project project = qm.createProject("acme-app", null, "1.0.0", null, null, null, true, false);
+        createComponent(project, null, "acme-lib");
+
+        final UUID token = enqueue(project);
+
+        // Simulate another instance having claimed the project before it was restarted.
+        assertThat(withJdbiHandle(handle -> handle.attach(ProjectDeletionDao.class).claim(1, 60_000))).hasSize(1);
+
+        new ProjectDeletionTask(100, 60_000).inform(new ProjectDeletionEvent());
+        assertThatNoException().isThrownBy(() -> qm.getObjectById(Project.class, project.getId()));
+        assertThat(qm.getWorkflowStateByTokenAndStep(token, WorkflowStep.PROJECT_DELETION).getStatus()).isEqualTo(WorkflowStatus.PENDING);
+
+        useJdbiHandle(handle -> handle.execute("""
+                UPDATE "PROJECT_DELETION_WORK" SET "LEASED_UNTIL" = NOW() - INTERVAL '1 second'
+                """));
+
+        new ProjectDeletionTask(100, 60_000).inform(new ProjectDeletionEvent());
+
+        qm.getPersistenceManager().evictAll();
+        assertThatExceptionOfType(JDOObjectNotFoundException.class).isThrownBy(() -> qm.getObjectById(Project.class, project.getId()));
+        assertThat(qm.getWorkflowStateByTokenAndStep(token, WorkflowStep.PROJECT_DELETION).getStatus()).isEqualTo(WorkflowStatus.COMPLETED);
+    }
+
+    @Test
+    public void testReportProgress() {
+        final Project projectA = qm.createProject("acme-app-a", null, "1.0.0", null, null, null, true, false);
+        final Project projectB = qm.createProject("acme-app-b", null, "1.0.0", null, null, null, true, false);
+        createComponent(projectB, null, "acme-lib");
+
+        final UUID token = enqueue(projectA, projectB);
+
+        WorkflowState workflowState = qm.getWorkflowStateByTokenAndStep(token, WorkflowStep.PROJECT_DELETION);
+        assertThat(workflowState.getTotalItems()).isEqualTo(2);
+        assertThat(workflowState.getCompletedItems()).isZero();
+
+        // Simulate another instance working on project A, such that only project B is deleted.
+        assertThat(withJdbiHandle(handle -> handle.attach(ProjectDeletionDao.class).claim(1, 60_000)))
+                .satisfiesExactly(pendingProject -> assertThat(pendingProject.projectId()).isEqualTo(projectA.getId()));
+
+        new ProjectDeletionTask(100, 60_000).inform(new ProjectDeletionEvent());
+
+        qm.getPersistenceManager().refresh(workflowState);
+        assertThat(workflowState.getStatus()).isEqualTo(WorkflowStatus.PENDING);
+        assertThat(workflowState.getTotalItems()).isEqualTo(2);
+        assertThat(workflowState.getCompletedItems()).isEqualTo(1);
+    }
+
+    @Test
+    public void testDeleteChildCreatedAfterEnqueue() {
+        final Project project = qm.createProject("acme-app", null, "1.0.0", null, null, null, true, false);
+
+        final UUID token = enqueue(project);
+
+        final Project projectChild = qm.createProject("acme-sub-app", null, "1.0.0", null, project, null, true, false);
+        createComponent(projectChild, null, "acme-lib");
+
+        new ProjectDeletionTask(100, 60_000).inform(new ProjectDeletionEvent());
+
+        qm.getPersistenceManager().evictAll();
+        assertThatExceptionOfType(JDOObjectNotFoundException.class).isThrownBy(() -> qm.getObjectById(Project.class, project.getId()));
+        assertThatExceptionOfType(JDOObjectNotFoundException.class).isThrownBy(() -> qm.getObjectById(Project.class, projectChild.getId()));
+        assertThat(qm.getWorkflowStateByTokenAndStep(token, WorkflowStep.PROJECT_DELETION)).satisfies(workflowState -> {
+            assertThat(workflowState.getStatus()).isEqualTo(WorkflowStatus.COMPLETED);
+            assertThat(workflowState.getTotalItems()).isEqualTo(2);
+            assertThat(workflowState.getCompletedItems()).isEqualTo(2);
+        });
+    }
+
+    private UUID enqueue(final Project... projects) {
+        final UUID token = UUID.randomUUID();
+        final int numEnqueued = withJdbiHandle(handle -> handle.attach(ProjectDeletionDao.class)
+                .enqueue(Arrays.stream(projects).map(Project::getId).toList(), token.toString()));
+
+        final var workflowState = new WorkflowState();
+        workflowState.setStep(WorkflowStep.PROJECT_DELETION);
+        workflowState.setStatus(WorkflowStatus.PENDING);
+        workflowState.setToken(token);
+        workflowState.setTotalItems(numEnqueued);
+        workflowState.setCompletedItems(0);
+        workflowState.setUpdatedAt(new Date());
+        qm.persist(workflowState);
+        return token;
+    }
+
+    private Component createComponent(final Project project, final Component parent, final String name) {
+        final var component = new Component();
+        component.setProject(project);
+        component.setParent(parent);
+        component.setName(name);
+        component.setVersion("1.0.0");
+        return qm.createComponent(component, false);
+    }
+
+}
@@ -23,8 +23,14 @@ import org.dependencytrack.event.PortfolioRepositoryMetaAnalysisEvent;
 import org.dependencytrack.event.ProjectRepositoryMetaAnalysisEvent;
 import org.dependencytrack.event.kafka.KafkaTopics;
 import org.dependencytrack.model.Component;
+import org.dependencytrack.model.RepositoryMetaComponent;
+import org.dependencytrack.model.RepositoryType;
 import org.junit.Test;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Date;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -111,6 +117,70 @@ public class RepositoryMetaAnalyzerTaskTest extends PersistenceCapableTest {
         );
     }
 
+    @Test
+    public void testPortfolioRepositoryMetaAnalysisIncrementally() {
+        final var project = qm.createProject("acme-app-a", null, "1.0.0", null, null, null, true, false);
+        final var componentA = new Component();
+        componentA.setProject(project);
+        componentA.setName("acme-lib-a");
+        componentA.setVersion("1.0.1");
+        componentA.setPurl("pkg:maven/acme/acme-lib-a@1.0.1?foo=bar");
+        componentA.setPurlCoordinates("pkg:maven/acme/acme-lib-a@1.0.1");
+        qm.persist(componentA);
+        final var componentB = new Component();
+        componentB.setProject(project);
+        componentB.setName("acme-lib-b");
+        componentB.setVersion("2.0.1");
+        componentB.setPurl("pkg:maven/acme/acme-lib-b@2.0.1");
+        componentB.setPurlCoordinates("pkg:maven/acme/acme-lib-b@2.0.1");
+        qm.persist(componentB);
+        final var componentC = new Component();
+        componentC.setProject(project);
+        componentC.setName("acme-lib-c");
+        componentC.setVersion("3.0.1");
+        componentC.setPurl("pkg:maven/acme/acme-lib-c@3.0.1");
+        componentC.setPurlCoordinates("pkg:maven/acme/acme-lib-c@3.0.1");
+        qm.persist(componentC);
+
+        // acme-lib-a was checked recently and must be skipped.
+        final var metaComponentA = new RepositoryMetaComponent();
+        metaComponentA.setRepositoryType(RepositoryType.MAVEN);
+        metaComponentA.setNamespace("acme");
+        metaComponentA.setName("acme-lib-a");
+        metaComponentA.setLatestVersion("1.0.2");
+        metaComponentA.setLastCheck(Date.from(Instant.now().minus(1, ChronoUnit.HOURS)));
+        qm.persist(metaComponentA);
+
+        // acme-lib-b was checked a long time ago and must be submitted again.
+        final var metaComponentB = new RepositoryMetaComponent();
+        metaComponentB.setRepositoryType(RepositoryType.MAVEN);
+        metaComponentB.setNamespace("acme");
+        metaComponentB.setName("acme-lib-b");
+        metaComponentB.setLatestVersion("2.0.2");
+        metaComponentB.setLastCheck(Date.from(Instant.now().minus(2, ChronoUnit.DAYS)));
+        qm.persist(metaComponentB);
+
+        new RepositoryMetaAnalyzerTask(/* incrementalPortfolioAnalysisEnabled */ true, Duration.ofHours(12))
+                .inform(new PortfolioRepositoryMetaAnalysisEvent());
+
+        assertThat(kafkaMockProducer.history()).satisfiesExactlyInAnyOrder(
+                record -> assertThat(record.topic()).isEqualTo(KafkaTopics.NOTIFICATION_PROJECT_CREATED.name()),
+                record -> {
+                    assertThat(record.topic()).isEqualTo(KafkaTopics.REPO_META_ANALYSIS_COMMAND.name());
+                    final var command = deserializeValue(KafkaTopics.REPO_META_ANALYSIS_COMMAND, record);
+                    assertThat(command.getComponent().getPurl()).isEqualTo("pkg:maven/acme/acme-lib-b@2.0.1");
+                    assertThat(command.getComponent().getInternal()).isFalse();
+                },
+                // acme-lib-c was never checked before.
+                record -> {
+                    assertThat(record.topic()).isEqualTo(KafkaTopics.REPO_META_ANALYSIS_COMMAND.name());
+                    final var command = deserializeValue(KafkaTopics.REPO_META_ANALYSIS_COMMAND, record);
+                    assertThat(command.getComponent().getPurl()).isEqualTo("pkg:maven/acme/acme-lib-c@3.0.1");
+                    assertThat(command.getComponent().getInternal()).isFalse();
+                }
+        );
+    }
+
     @Test
     public void testProjectRepositoryMetaAnalysis() {
         final var project = qm.createProject("acme-app-a", null, "1.0.0", null, null, null, true, false);
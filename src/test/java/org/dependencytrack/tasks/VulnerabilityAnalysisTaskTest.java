@@ -94,6 +94,55 @@ public class VulnerabilityAnalysisTaskTest extends PersistenceCapableTest {
         );
     }
 
+    @Test
+    public void testPortfolioVulnerabilityAnalysisWithComponentsSharingIdentity() {
+        final var projectA = qm.createProject("acme-app-a", null, "1.0.0", null, null, null, true, false);
+        final var componentProjectA = new Component();
+        componentProjectA.setProject(projectA);
+        componentProjectA.setName("acme-lib-a");
+        componentProjectA.setVersion("1.0.1");
+        componentProjectA.setPurl("pkg:maven/acme/acme-lib-a@1.0.1?type=jar");
+        componentProjectA.setPurlCoordinates("pkg:maven/acme/acme-lib-a@1.0.1");
+        qm.persist(componentProjectA);
+
+        // Same purl coordinates as the component of project A, but different qualifiers.
+        final var projectB = qm.createProject("acme-app-b", null, "2.0.0", null, null, null, true, false);
+        final var componentProjectB = new Component();
+        componentProjectB.setProject(projectB);
+        componentProjectB.setName("acme-lib-a");
+        componentProjectB.setVersion("1.0.1");
+        componentProjectB.setPurl("pkg:maven/acme/acme-lib-a@1.0.1?type=pom");
+        componentProjectB.setPurlCoordinates("pkg:maven/acme/acme-lib-a@1.0.1");
+        qm.persist(componentProjectB);
+
+        // Same purl coordinates as the component of project A, but internal(!).
+        final var componentProjectBInternal = new Component();
+        componentProjectBInternal.setProject(projectB);
+        componentProjectBInternal.setName("acme-lib-a");
+        componentProjectBInternal.setVersion("1.0.1");
+        componentProjectBInternal.setPurl("pkg:maven/acme/acme-lib-a@1.0.1");
+        componentProjectBInternal.setPurlCoordinates("pkg:maven/acme/acme-lib-a@1.0.1");
+        componentProjectBInternal.setInternal(true);
+        qm.persist(componentProjectBInternal);
+
+        new VulnerabilityAnalysisTask().inform(new PortfolioVulnerabilityAnalysisEvent());
+
+        // Only the oldest component of each identity must have been submitted for analysis.
+        assertThat(kafkaMockProducer.history())
+                .filteredOn(record -> KafkaTopics.VULN_ANALYSIS_COMMAND.name().equals(record.topic()))
+                .satisfiesExactlyInAnyOrder(
+                        record -> {
+                            final var command = deserializeValue(KafkaTopics.VULN_ANALYSIS_COMMAND, record);
+                            assertThat(command.getComponent().getUuid()).isEqualTo(componentProjectA.getUuid().toString());
+                        },
+                        record -> {
+                            final var command = deserializeValue(KafkaTopics.VULN_ANALYSIS_COMMAND, record);
+                            assertThat(command.getComponent().getUuid()).isEqualTo(componentProjectBInternal.getUuid().toString());
+                            assertThat(command.getComponent().getInternal()).isTrue();
+                        }
+                );
+    }
+
     @Test
     public void testProjectVulnerabilityAnalysis() {
         final var project = qm.createProject("acme-app-a", null, "1.0.0", null, null, null, true, false);
@@ -420,13 +420,13 @@ public class ComponentMetricsUpdateTaskTest extends AbstractMetricsUpdateTaskTes
         final var aliasAtoC = new VulnerabilityAlias();
         aliasAtoC.setInternalId(vulnA.getVulnId());
         aliasAtoC.setSonatypeId(vulnC.getVulnId());
-        qm.persist(aliasAtoC);
+        qm.synchronizeVulnerabilityAlias(aliasAtoC);
 
         // Make A also an alias of D
         final var aliasAtoD = new VulnerabilityAlias();
         aliasAtoD.setInternalId(vulnA.getVulnId());
         aliasAtoD.setVulnDbId(vulnD.getVulnId());
-        qm.persist(aliasAtoD);
+        qm.synchronizeVulnerabilityAlias(aliasAtoD);
 
         // Kick off metrics calculation.
         // Expectation is that both C and D will not be considered because they alias A.
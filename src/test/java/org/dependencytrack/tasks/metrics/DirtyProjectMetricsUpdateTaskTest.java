@@ -0,0 +1,155 @@
+/*
+ * This file is part of Dependency-Track.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.dependencytrack.tasks.metrics;
+
+import org.dependencytrack.event.DirtyProjectMetricsUpdateEvent;
+import org.dependencytrack.metrics.Metrics;
+import org.dependencytrack.model.Project;
+import org.dependencytrack.persistence.jdbi.DirtyProjectMetricsDao;
+import org.jdbi.v3.core.Handle;
+import org.junit.Test;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.dependencytrack.persistence.jdbi.JdbiFactory.openJdbiHandle;
+import static org.dependencytrack.persistence.jdbi.JdbiFactory.useJdbiHandle;
+import static org.dependencytrack.persistence.jdbi.JdbiFactory.withJdbiHandle;
+
+public class DirtyProjectMetricsUpdateTaskTest extends AbstractMetricsUpdateTaskTest {
+
+    @Test
+    public void testUpdateMetricsOfDirtyProjects() {
+        environmentVariables.set("METRICS_INCREMENTAL_ENABLED", "true");
+        createTestConfigProperties();
+
+        final Project projectA = qm.createProject("acme-app-a", null, "1.0", null, null, null, true, false);
+        final Project projectB = qm.createProject("acme-app-b", null, "1.0", null, null, null, true, false);
+        final Project projectC = qm.createProject("acme-app-c", null, "1.0", null, null, null, true, false);
+
+        Metrics.markProjectDirty(projectA.getId());
+        Metrics.markProjectDirty(projectB.getId());
+        Metrics.markProjectDirty(projectB.getId());
+        assertThat(getQueueDepth()).isEqualTo(2);
+
+        // Use a batch size of 1 to ensure that the queue is drained across multiple batches.
+        new DirtyProjectMetricsUpdateTask(1, 60_000).inform(new DirtyProjectMetricsUpdateEvent());
+
+        assertThat(qm.getMostRecentProjectMetrics(projectA)).isNotNull();
+        assertThat(qm.getMostRecentProjectMetrics(projectB)).isNotNull();
+        assertThat(qm.getMostRecentProjectMetrics(projectC)).isNull();
+        assertThat(getQueueDepth()).isZero();
+    }
+
+    @Test
+    public void testMarkProjectDirtyWithIncrementalMetricsDisabled() {
+        final Project project = qm.createProject("acme-app", null, "1.0", null, null, null, true, false);
+
+        Metrics.markProjectDirty(project.getId());
+        assertThat(getQueueDepth()).isZero();
+    }
+
+    @Test
+    public void testClaimSkipsDeletedProjects() {
+        environmentVariables.set("METRICS_INCREMENTAL_ENABLED", "true");
+
+        final Project project = qm.createProject("acme-app", null, "1.0", null, null, null, true, false);
+        Metrics.markProjectDirty(project.getId());
+
+        qm.recursivelyDelete(project, false);
+        assertThat(getQueueDepth()).isZero();
+
+        final List<DirtyProjectMetricsDao.DirtyProject> claimed = withJdbiHandle(handle ->
+                handle.attach(DirtyProjectMetricsDao.class).claim(10, 60_000));
+        assertThat(claimed).isEmpty();
+    }
+
+    @Test
+    public void testClaimSkipsLeasedProjects() {
+        environmentVariables.set("METRICS_INCREMENTAL_ENABLED", "true");
+
+        final Project project = qm.createProject("acme-app", null, "1.0", null, null, null, true, false);
+        Metrics.markProjectDirty(project.getId());
+
+        assertThat(claim()).hasSize(1);
+        assertThat(claim()).isEmpty();
+
+        // Leased projects remain in the queue until their update completed.
+        assertThat(getQueueDepth()).isEqualTo(1);
+    }
+
+    @Test
+    public void testProjectMarkedDirtyWhileBeingUpdated() {
+        environmentVariables.set("METRICS_INCREMENTAL_ENABLED", "true");
+
+        final Project project = qm.createProject("acme-app", null, "1.0", null, null, null, true, false);
+        Metrics.markProjectDirty(project.getId());
+
+        final List<DirtyProjectMetricsDao.DirtyProject> claimed = claim();
+        assertThat(claimed).hasSize(1);
+
+        // Mark the project again, as if it was modified while its metrics were being updated.
+        Metrics.markProjectDirty(project.getId());
+
+        useJdbiHandle(handle -> handle.attach(DirtyProjectMetricsDao.class)
+                .complete(claimed.get(0).projectId(), claimed.get(0).markVersion()));
+
+        // The project must still be dirty, and must be claimable again immediately.
+        assertThat(getQueueDepth()).isEqualTo(1);
+        assertThat(claim()).hasSize(1);
+    }
+
+    @Test
+    public void testProjectMarkedDirtyWhileBeingUpdatedByEarlierTransaction() {
+        environmentVariables.set("METRICS_INCREMENTAL_ENABLED", "true");
+
+        final Project project = qm.createProject("acme-app", null, "1.0", null, null, null, true, false);
+
+        try (final Handle handle = openJdbiHandle()) {
+            // Start a transaction before the project is first marked, such that its NOW() predates that mark.
+            handle.begin();
+            handle.createQuery("SELECT NOW()").mapTo(Instant.class).one();
+
+            Metrics.markProjectDirty(project.getId());
+
+            final List<DirtyProjectMetricsDao.DirtyProject> claimed = claim();
+            assertThat(claimed).hasSize(1);
+
+            Metrics.markProjectsDirty(handle, List.of(project.getId()));
+            handle.commit();
+
+            useJdbiHandle(completeHandle -> completeHandle.attach(DirtyProjectMetricsDao.class)
+                    .complete(claimed.get(0).projectId(), claimed.get(0).markVersion()));
+        }
+
+        // The project must still be dirty, despite being marked again with an earlier timestamp.
+        assertThat(getQueueDepth()).isEqualTo(1);
+        assertThat(claim()).hasSize(1);
+    }
+
+    private List<DirtyProjectMetricsDao.DirtyProject> claim() {
+        return withJdbiHandle(handle -> handle.attach(DirtyProjectMetricsDao.class).claim(10, 60_000));
+    }
+
+    private long getQueueDepth() {
+        return withJdbiHandle(handle -> handle.attach(DirtyProjectMetricsDao.class).getDepth());
+    }
+
+}
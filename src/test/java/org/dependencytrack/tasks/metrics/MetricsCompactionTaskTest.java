@@ -0,0 +1,176 @@
+/*
+ * This file is part of Dependency-Track.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.dependencytrack.tasks.metrics;
+
+import org.dependencytrack.PersistenceCapableTest;
+import org.dependencytrack.event.MetricsCompactionEvent;
+import org.dependencytrack.model.Component;
+import org.dependencytrack.model.DependencyMetrics;
+import org.dependencytrack.model.PortfolioMetrics;
+import org.dependencytrack.model.Project;
+import org.dependencytrack.model.ProjectMetrics;
+import org.junit.Test;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.Date;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class MetricsCompactionTaskTest extends PersistenceCapableTest {
+
+    private record DataPoint(int critical, Instant firstOccurrence, Instant lastOccurrence) {
+    }
+
+    private final Instant now = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+
+    // Noon of a day that is older than the raw retention duration, but younger than the daily retention duration.
+    private final Instant dailyNoon = now.minus(100, ChronoUnit.DAYS).truncatedTo(ChronoUnit.DAYS).plus(12, ChronoUnit.HOURS);
+
+    // Noon of a Wednesday that is older than the daily retention duration.
+    private final Instant weeklyNoon = now.minus(400, ChronoUnit.DAYS).atZone(ZoneOffset.UTC)
+            .with(TemporalAdjusters.previousOrSame(DayOfWeek.WEDNESDAY))
+            .truncatedTo(ChronoUnit.DAYS).plusHours(12).toInstant();
+
+    @Test
+    public void testCompactProjectMetrics() {
+        final var project = qm.createProject("acme-app", null, "1.0", null, null, null, true, false);
+        createProjectMetrics(project, 1, weeklyNoon.minus(1, ChronoUnit.DAYS));
+        createProjectMetrics(project, 2, weeklyNoon);
+        createProjectMetrics(project, 3, weeklyNoon.plus(1, ChronoUnit.DAYS));
+        createProjectMetrics(project, 4, dailyNoon.minus(1, ChronoUnit.DAYS));
+        createProjectMetrics(project, 5, dailyNoon.minus(1, ChronoUnit.HOURS));
+        createProjectMetrics(project, 6, dailyNoon);
+        createProjectMetrics(project, 7, dailyNoon.plus(1, ChronoUnit.HOURS));
+        createProjectMetrics(project, 8, now.minus(2, ChronoUnit.HOURS));
+        createProjectMetrics(project, 9, now.minus(1, ChronoUnit.HOURS));
+
+        final Instant rawWindowSince = now.minus(29, ChronoUnit.DAYS);
+        final List<DataPoint> rawWindowBefore = getProjectMetricsSince(project, rawWindowSince);
+
+        compactMetrics();
+
+        // Every day or week is represented by its last data point, spanning the entire day or week.
+        assertThat(getProjectMetricsSince(project, now.minus(500, ChronoUnit.DAYS))).containsExactly(
+                new DataPoint(3, weeklyNoon.minus(1, ChronoUnit.DAYS).minus(30, ChronoUnit.MINUTES), weeklyNoon.plus(1, ChronoUnit.DAYS)),
+                new DataPoint(4, dailyNoon.minus(1, ChronoUnit.DAYS).minus(30, ChronoUnit.MINUTES), dailyNoon.minus(1, ChronoUnit.DAYS)),
+                new DataPoint(7, dailyNoon.minus(90, ChronoUnit.MINUTES), dailyNoon.plus(1, ChronoUnit.HOURS)),
+                new DataPoint(8, now.minus(150, ChronoUnit.MINUTES), now.minus(2, ChronoUnit.HOURS)),
+                new DataPoint(9, now.minus(90, ChronoUnit.MINUTES), now.minus(1, ChronoUnit.HOURS)));
+
+        // Querying from within a compacted day yields the last data point of that day.
+        assertThat(getProjectMetricsSince(project, dailyNoon)).extracting(DataPoint::critical).containsExactly(7, 8, 9);
+
+        // Data points within the raw retention duration are not affected.
+        assertThat(getProjectMetricsSince(project, rawWindowSince)).isEqualTo(rawWindowBefore);
+
+        // Compaction is idempotent.
+        compactMetrics();
+        assertThat(getProjectMetricsSince(project, now.minus(500, ChronoUnit.DAYS))).extracting(DataPoint::critical).containsExactly(3, 4, 7, 8, 9);
+    }
+
+    @Test
+    public void testCompactDependencyMetrics() {
+        final var project = qm.createProject("acme-app", null, "1.0", null, null, null, true, false);
+
+        var componentA = new Component();
+        componentA.setProject(project);
+        componentA.setName("acme-lib-a");
+        componentA = qm.createComponent(componentA, false);
+
+        var componentB = new Component();
+        componentB.setProject(project);
+        componentB.setName("acme-lib-b");
+        componentB = qm.createComponent(componentB, false);
+
+        createDependencyMetrics(componentA, 1, dailyNoon.minus(1, ChronoUnit.HOURS));
+        createDependencyMetrics(componentA, 2, dailyNoon);
+        createDependencyMetrics(componentB, 3, dailyNoon.minus(1, ChronoUnit.HOURS));
+        createDependencyMetrics(componentB, 4, dailyNoon);
+
+        compactMetrics();
+
+        final Date since = Date.from(now.minus(500, ChronoUnit.DAYS));
+        assertThat(qm.getDependencyMetricsSince(componentA, since)).extracting(DependencyMetrics::getCritical).containsExactly(2);
+        assertThat(qm.getDependencyMetricsSince(componentB, since)).extracting(DependencyMetrics::getCritical).containsExactly(4);
+    }
+
+    @Test
+    public void testCompactPortfolioMetrics() {
+        createPortfolioMetrics(1, dailyNoon.minus(1, ChronoUnit.HOURS));
+        createPortfolioMetrics(2, dailyNoon);
+        createPortfolioMetrics(3, dailyNoon.plus(1, ChronoUnit.HOURS));
+        createPortfolioMetrics(4, now.minus(1, ChronoUnit.HOURS));
+
+        compactMetrics();
+
+        final Date since = Date.from(now.minus(500, ChronoUnit.DAYS));
+        assertThat(qm.getPortfolioMetricsSince(since)).extracting(PortfolioMetrics::getCritical).containsExactly(3, 4);
+    }
+
+    private void compactMetrics() {
+        // Use a batch size of 1 to ensure that component metrics are compacted across multiple batches.
+        new MetricsCompactionTask(Duration.ofDays(30), Duration.ofDays(365), 1).inform(new MetricsCompactionEvent());
+
+        // Compaction happens outside of JDO, ensure that no stale objects are served from cache.
+        qm.getPersistenceManager().evictAll();
+    }
+
+    private List<DataPoint> getProjectMetricsSince(final Project project, final Instant since) {
+        return qm.getProjectMetricsSince(project, Date.from(since)).stream()
+                .map(metrics -> new DataPoint(
+                        metrics.getCritical(),
+                        metrics.getFirstOccurrence().toInstant(),
+                        metrics.getLastOccurrence().toInstant()))
+                .toList();
+    }
+
+    private void createProjectMetrics(final Project project, final int critical, final Instant lastOccurrence) {
+        final var metrics = new ProjectMetrics();
+        metrics.setProject(project);
+        metrics.setCritical(critical);
+        metrics.setFirstOccurrence(Date.from(lastOccurrence.minus(30, ChronoUnit.MINUTES)));
+        metrics.setLastOccurrence(Date.from(lastOccurrence));
+        qm.persist(metrics);
+    }
+
+    private void createDependencyMetrics(final Component component, final int critical, final Instant lastOccurrence) {
+        final var metrics = new DependencyMetrics();
+        metrics.setProject(component.getProject());
+        metrics.setComponent(component);
+        metrics.setCritical(critical);
+        metrics.setFirstOccurrence(Date.from(lastOccurrence.minus(30, ChronoUnit.MINUTES)));
+        metrics.setLastOccurrence(Date.from(lastOccurrence));
+        qm.persist(metrics);
+    }
+
+    private void createPortfolioMetrics(final int critical, final Instant lastOccurrence) {
+        final var metrics = new PortfolioMetrics();
+        metrics.setCritical(critical);
+        metrics.setFirstOccurrence(Date.from(lastOccurrence.minus(30, ChronoUnit.MINUTES)));
+        metrics.setLastOccurrence(Date.from(lastOccurrence));
+        qm.persist(metrics);
+    }
+
+}
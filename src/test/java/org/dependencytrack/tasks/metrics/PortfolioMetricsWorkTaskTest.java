@@ -0,0 +1,137 @@
+/*
+ * This file is part of Dependency-Track.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.dependencytrack.tasks.metrics;
+
+import org.dependencytrack.event.PortfolioMetricsUpdateEvent;
+import org.dependencytrack.event.PortfolioMetricsWorkEvent;
+import org.dependencytrack.model.PortfolioMetrics;
+import org.dependencytrack.model.Project;
+import org.dependencytrack.persistence.jdbi.PortfolioMetricsWorkDao;
+import org.dependencytrack.persistence.jdbi.PortfolioMetricsWorkDao.PendingProject;
+import org.junit.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.dependencytrack.persistence.jdbi.JdbiFactory.inJdbiTransaction;
+import static org.dependencytrack.persistence.jdbi.JdbiFactory.useJdbiHandle;
+import static org.dependencytrack.persistence.jdbi.JdbiFactory.withJdbiHandle;
+
+public class PortfolioMetricsWorkTaskTest extends AbstractMetricsUpdateTaskTest {
+
+    @Test
+    public void testDistributedRefresh() {
+        environmentVariables.set("METRICS_PORTFOLIO_DISTRIBUTED_ENABLED", "true");
+        createTestConfigProperties();
+
+        final Project projectA = qm.createProject("acme-app-a", null, "1.0", null, null, null, true, false);
+        final Project projectB = qm.createProject("acme-app-b", null, "1.0", null, null, null, true, false);
+        final Project inactiveProject = qm.createProject("acme-app-c", null, "1.0", null, null, null, false, false);
+
+        // Only enqueues active projects; Portfolio metrics are not updated yet.
+        new PortfolioMetricsUpdateTask().inform(new PortfolioMetricsUpdateEvent());
+        assertThat(getRemaining()).isEqualTo(2);
+        assertThat(qm.getMostRecentPortfolioMetrics()).isNull();
+
+        // Use a chunk size of 1 to ensure that projects are claimed across multiple chunks.
+        new PortfolioMetricsWorkTask(1, 60_000).inform(new PortfolioMetricsWorkEvent());
+        assertThat(getRemaining()).isZero();
+
+        assertThat(qm.getMostRecentProjectMetrics(projectA)).isNotNull();
+        assertThat(qm.getMostRecentProjectMetrics(projectB)).isNotNull();
+        assertThat(qm.getMostRecentProjectMetrics(inactiveProject)).isNull();
+
+        final PortfolioMetrics portfolioMetrics = qm.getMostRecentPortfolioMetrics();
+        assertThat(portfolioMetrics).isNotNull();
+        assertThat(portfolioMetrics.getProjects()).isEqualTo(2);
+    }
+
+    @Test
+    public void testLeasedProjectsAreSkippedUntilLeaseExpires() {
+        createTestConfigProperties();
+
+        final Project projectA = qm.createProject("acme-app-a", null, "1.0", null, null, null, true, false);
+        final Project projectB = qm.createProject("acme-app-b", null, "1.0", null, null, null, true, false);
+
+        // Simulate another instance claiming project A.
+        final List<PendingProject> claimedByOtherInstance = withJdbiHandle(handle -> {
+            final var dao = handle.attach(PortfolioMetricsWorkDao.class);
+            dao.enqueueActiveProjects();
+            return dao.claim(1, 60_000);
+        });
+        assertThat(claimedByOtherInstance).extracting(PendingProject::projectUuid).containsOnly(projectA.getUuid());
+
+        new PortfolioMetricsWorkTask(10, 60_000).inform(new PortfolioMetricsWorkEvent());
+        assertThat(getRemaining()).isEqualTo(1);
+        assertThat(qm.getMostRecentProjectMetrics(projectA)).isNull();
+        assertThat(qm.getMostRecentProjectMetrics(projectB)).isNotNull();
+        assertThat(qm.getMostRecentPortfolioMetrics()).isNull();
+
+        // Simulate the other instance having been restarted before completing project A.
+        useJdbiHandle(handle -> handle.createUpdate("""
+                UPDATE "PORTFOLIO_METRICS_WORK"
+                   SET "LEASED_UNTIL" = NOW() - INTERVAL '1 second'
+                """).execute());
+
+        new PortfolioMetricsWorkTask(10, 60_000).inform(new PortfolioMetricsWorkEvent());
+        assertThat(getRemaining()).isZero();
+        assertThat(qm.getMostRecentProjectMetrics(projectA)).isNotNull();
+        assertThat(qm.getMostRecentPortfolioMetrics()).isNotNull();
+    }
+
+    @Test
+    public void testFailedProjectsAreNotCompleted() {
+        final Project projectA = qm.createProject("acme-app-a", null, "1.0", null, null, null, true, false);
+        final Project projectB = qm.createProject("acme-app-b", null, "1.0", null, null, null, true, false);
+
+        final List<PendingProject> claimed = withJdbiHandle(handle -> {
+            final var dao = handle.attach(PortfolioMetricsWorkDao.class);
+            dao.enqueueActiveProjects();
+            return dao.claim(10, 60_000);
+        });
+        assertThat(claimed).extracting(PendingProject::projectId).containsExactly(projectA.getId(), projectB.getId());
+
+        // A failed project is no longer pending, but remains queued and is not claimed again.
+        assertThat(inJdbiTransaction(handle -> handle.attach(PortfolioMetricsWorkDao.class).fail(projectA.getId()))).isFalse();
+        assertThat(getRemaining()).isEqualTo(1);
+        assertThat(getQueued()).isEqualTo(2);
+        useJdbiHandle(handle -> handle.createUpdate("""
+                UPDATE "PORTFOLIO_METRICS_WORK"
+                   SET "LEASED_UNTIL" = NOW() - INTERVAL '1 second'
+                """).execute());
+        assertThat(withJdbiHandle(handle -> handle.attach(PortfolioMetricsWorkDao.class).claim(10, 60_000)))
+                .extracting(PendingProject::projectId).containsOnly(projectB.getId());
+
+        // Completing the last pending project claims the portfolio metrics update exactly once.
+        assertThat(inJdbiTransaction(handle -> handle.attach(PortfolioMetricsWorkDao.class).complete(projectB.getId()))).isTrue();
+        assertThat(inJdbiTransaction(handle -> handle.attach(PortfolioMetricsWorkDao.class).complete(projectB.getId()))).isFalse();
+        assertThat(getQueued()).isZero();
+    }
+
+    private long getQueued() {
+        return withJdbiHandle(handle -> handle.createQuery("""
+                SELECT COUNT(*) FROM "PORTFOLIO_METRICS_WORK"
+                """).mapTo(Long.class).one());
+    }
+
+    private long getRemaining() {
+        return withJdbiHandle(handle -> handle.attach(PortfolioMetricsWorkDao.class).getRemaining());
+    }
+
+}
@@ -18,6 +18,7 @@
  */
 package org.dependencytrack.tasks.metrics;
 
+import org.dependencytrack.event.ComponentMetricsUpdateEvent;
 import org.dependencytrack.event.ProjectMetricsUpdateEvent;
 import org.dependencytrack.model.AnalysisState;
 import org.dependencytrack.model.AnalyzerIdentity;
@@ -30,13 +31,16 @@ import org.dependencytrack.model.ProjectMetrics;
 import org.dependencytrack.model.Severity;
 import org.dependencytrack.model.ViolationAnalysisState;
 import org.dependencytrack.model.Vulnerability;
+import org.dependencytrack.model.VulnerabilityAlias;
 import org.junit.Test;
 
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.dependencytrack.persistence.jdbi.JdbiFactory.withJdbiHandle;
 import static org.dependencytrack.model.WorkflowStatus.COMPLETED;
 import static org.dependencytrack.model.WorkflowStep.METRICS_UPDATE;
 
@@ -321,4 +325,133 @@ public class ProjectMetricsUpdateTaskTest extends AbstractMetricsUpdateTaskTest
         assertThat(componentSuppressed.getLastInheritedRiskScore()).isZero();
     }
 
-}
\ No newline at end of file
+    @Test
+    public void testUpdateMetricsEquivalentToComponentMetricsUpdate() {
+        var project = new Project();
+        project.setName("acme-app");
+        project = qm.createProject(project, List.of(), false);
+
+        // Create risk score configproperties
+        createTestConfigProperties();
+
+        // Create a synthetic project with a mix of vulnerabilities, aliases,
+        // analyses, and policy violations across its components.
+        final Severity[] severities = {Severity.CRITICAL, Severity.HIGH, Severity.MEDIUM, Severity.LOW, Severity.UNASSIGNED};
+        final List<Component> components = new ArrayList<>();
+        Vulnerability previousVuln = null;
+        for (int i = 0; i < 50; i++) {
+            var component = new Component();
+            component.setProject(project);
+            component.setName("acme-lib-" + i);
+            component = qm.createComponent(component, false);
+            components.add(component);
+
+            var vuln = new Vulnerability();
+            vuln.setVulnId("INTERNAL-%03d".formatted(i));
+            vuln.setSource(Vulnerability.Source.INTERNAL);
+            vuln.setSeverity(severities[i % severities.length]);
+            vuln = qm.createVulnerability(vuln, false);
+            qm.addVulnerability(vuln, component, AnalyzerIdentity.NONE);
+
+            if (previousVuln != null) {
+                // Every component is also affected by the vulnerability of its predecessor.
+                qm.addVulnerability(previousVuln, component, AnalyzerIdentity.NONE);
+            }
+
+            if (i % 3 == 0) {
+                // Report the same vulnerability from another source, and make both aliases of each other.
+                var aliasVuln = new Vulnerability();
+                aliasVuln.setVulnId("GHSA-%03d".formatted(i));
+                aliasVuln.setSource(Vulnerability.Source.GITHUB);
+                aliasVuln.setSeverity(Severity.LOW);
+                aliasVuln = qm.createVulnerability(aliasVuln, false);
+                qm.addVulnerability(aliasVuln, component, AnalyzerIdentity.NONE);
+
+                final var alias = new VulnerabilityAlias();
+                alias.setInternalId(vuln.getVulnId());
+                alias.setGhsaId(aliasVuln.getVulnId());
+                qm.synchronizeVulnerabilityAlias(alias);
+            }
+
+            if (i % 10 == 5) {
+                // Chain aliases, such that the first and last vulnerability are not aliases of each other:
+                // INTERNAL-xxx-A and GHSA-xxx share one group, GHSA-xxx and INTERNAL-xxx-B share another.
+                final var chainedVulns = new ArrayList<Vulnerability>();
+                for (final String vulnId : List.of("INTERNAL-%03d-A", "GHSA-CHAIN-%03d", "INTERNAL-%03d-B")) {
+                    var chainedVuln = new Vulnerability();
+                    chainedVuln.setVulnId(vulnId.formatted(i));
+                    chainedVuln.setSource(vulnId.startsWith("GHSA")
+                            ? Vulnerability.Source.GITHUB
+                            : Vulnerability.Source.INTERNAL);
+                    chainedVuln.setSeverity(Severity.MEDIUM);
+                    chainedVuln = qm.createVulnerability(chainedVuln, false);
+                    qm.addVulnerability(chainedVuln, component, AnalyzerIdentity.NONE);
+                    chainedVulns.add(chainedVuln);
+                }
+
+                for (final Vulnerability internalVuln : List.of(chainedVulns.get(0), chainedVulns.get(2))) {
+                    final var alias = new VulnerabilityAlias();
+                    alias.setInternalId(internalVuln.getVulnId());
+                    alias.setGhsaId(chainedVulns.get(1).getVulnId());
+                    qm.synchronizeVulnerabilityAlias(alias);
+                }
+            }
+
+            if (i % 4 == 1) {
+                qm.makeAnalysis(component, vuln, AnalysisState.NOT_AFFECTED, null, null, null, false);
+            } else if (i % 4 == 2) {
+                qm.makeAnalysis(component, vuln, AnalysisState.FALSE_POSITIVE, null, null, null, true);
+            } else if (i % 4 == 3) {
+                qm.makeAnalysis(component, vuln, AnalysisState.IN_TRIAGE, null, null, null, false);
+            }
+
+            final PolicyViolation.Type violationType = PolicyViolation.Type.values()[i % PolicyViolation.Type.values().length];
+            final Policy.ViolationState violationState = Policy.ViolationState.values()[i % Policy.ViolationState.values().length];
+            final PolicyViolation violation = createPolicyViolation(component, violationState, violationType);
+            if (i % 5 == 1) {
+                qm.makeViolationAnalysis(component, violation, ViolationAnalysisState.APPROVED, false);
+            } else if (i % 5 == 2) {
+                qm.makeViolationAnalysis(component, violation, ViolationAnalysisState.REJECTED, true);
+            }
+
+            previousVuln = vuln;
+        }
+
+        // Calculate metrics for each component individually first.
+        for (final Component component : components) {
+            new ComponentMetricsUpdateTask().inform(new ComponentMetricsUpdateEvent(component.getUuid()));
+        }
+        assertThat(getDependencyMetricsCount(project)).isEqualTo(components.size());
+
+        // Calculating metrics for the entire project must yield identical data points,
+        // which would cause the existing ones to be updated, rather than new ones being created.
+        new ProjectMetricsUpdateTask().inform(new ProjectMetricsUpdateEvent(project.getUuid()));
+        assertThat(getDependencyMetricsCount(project)).isEqualTo(components.size());
+
+        int expectedVulnerabilities = 0;
+        int expectedPolicyViolations = 0;
+        for (final Component component : components) {
+            final DependencyMetrics componentMetrics = qm.getMostRecentDependencyMetrics(component);
+            expectedVulnerabilities += componentMetrics.getVulnerabilities();
+            expectedPolicyViolations += componentMetrics.getPolicyViolationsTotal();
+        }
+
+        // Of the chained aliases, INTERNAL-005-A and INTERNAL-005-B are counted, but GHSA-CHAIN-005 is not.
+        // Together with the vulnerabilities of the component and its predecessor, this makes 4.
+        assertThat(qm.getMostRecentDependencyMetrics(components.get(5)).getVulnerabilities()).isEqualTo(4);
+
+        final ProjectMetrics metrics = qm.getMostRecentProjectMetrics(project);
+        assertThat(metrics.getComponents()).isEqualTo(components.size());
+        assertThat(metrics.getVulnerabilities()).isEqualTo(expectedVulnerabilities);
+        assertThat(metrics.getPolicyViolationsTotal()).isEqualTo(expectedPolicyViolations);
+    }
+
+    private long getDependencyMetricsCount(final Project project) {
+        return withJdbiHandle(handle -> handle
+                .createQuery("SELECT COUNT(*) FROM \"DEPENDENCYMETRICS\" WHERE \"PROJECT_ID\" = :projectId")
+                .bind("projectId", project.getId())
+                .mapTo(Long.class)
+                .one());
+    }
+
+}
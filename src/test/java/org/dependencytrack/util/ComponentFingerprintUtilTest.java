@@ -0,0 +1,101 @@
+/*
+ * This file is part of Dependency-Track.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.dependencytrack.util;
+
+import alpine.model.IConfigProperty.PropertyType;
+import org.dependencytrack.model.Component;
+import org.dependencytrack.model.ComponentProperty;
+import org.junit.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.dependencytrack.util.ComponentFingerprintUtil.computeFingerprint;
+
+public class ComponentFingerprintUtilTest {
+
+    @Test
+    public void testComputeFingerprintIsStable() {
+        assertThat(computeFingerprint(createComponent()))
+                .isEqualTo(computeFingerprint(createComponent()))
+                .hasSize(64);
+    }
+
+    @Test
+    public void testComputeFingerprintWithChangedField() {
+        final Component component = createComponent();
+        component.setSha256("c0ffee");
+
+        assertThat(computeFingerprint(component)).isNotEqualTo(computeFingerprint(createComponent()));
+    }
+
+    @Test
+    public void testComputeFingerprintWithValueMovedToAdjacentField() {
+        final Component componentA = new Component();
+        componentA.setGroup("foo");
+        componentA.setName("bar");
+
+        final Component componentB = new Component();
+        componentB.setGroup(null);
+        componentB.setName("foobar");
+
+        assertThat(computeFingerprint(componentA)).isNotEqualTo(computeFingerprint(componentB));
+    }
+
+    @Test
+    public void testComputeFingerprintIgnoresPropertyOrder() {
+        final Component componentA = createComponent();
+        final Component componentB = createComponent();
+        componentB.setProperties(componentB.getProperties().reversed());
+
+        assertThat(computeFingerprint(componentA)).isEqualTo(computeFingerprint(componentB));
+    }
+
+    @Test
+    public void testComputeFingerprintWithChangedProperty() {
+        final Component component = createComponent();
+        component.getProperties().getFirst().setPropertyValue("qux");
+
+        assertThat(computeFingerprint(component)).isNotEqualTo(computeFingerprint(createComponent()));
+    }
+
+    private static Component createComponent() {
+        final var propertyA = new ComponentProperty();
+        propertyA.setPropertyName("foo");
+        propertyA.setPropertyValue("bar");
+        propertyA.setPropertyType(PropertyType.STRING);
+
+        final var propertyB = new ComponentProperty();
+        propertyB.setGroupName("acme");
+        propertyB.setPropertyName("baz");
+        propertyB.setPropertyValue("qux");
+        propertyB.setPropertyType(PropertyType.STRING);
+
+        final var component = new Component();
+        component.setGroup("com.acme");
+        component.setName("acme-lib");
+        component.setVersion("1.0.0");
+        component.setPurl("pkg:maven/com.acme/acme-lib@1.0.0");
+        component.setSha1("da39a3ee5e6b4b0d3255bfef95601890afd80709");
+        component.setLicense("Apache-2.0");
+        component.setProperties(List.of(propertyA, propertyB));
+        return component;
+    }
+
+}